@@ -120,7 +120,8 @@ public class DefaultSyncServiceFactory implements SyncServiceFactory {
 
     final ForwardSyncService forwardSyncService = createForwardSyncService();
 
-    final FetchTaskFactory fetchTaskFactory = new DefaultFetchTaskFactory(p2pNetwork);
+    final FetchTaskFactory fetchTaskFactory =
+        new DefaultFetchTaskFactory(p2pNetwork, asyncRunner, timeProvider, metrics);
 
     final RecentBlocksFetchService recentBlocksFetchService =
         RecentBlocksFetchService.create(
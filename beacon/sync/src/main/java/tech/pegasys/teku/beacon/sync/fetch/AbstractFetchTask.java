@@ -41,11 +41,20 @@ public abstract class AbstractFetchTask<K, T> {
 
   private final P2PNetwork<Eth2Peer> eth2Network;
   private final Optional<Eth2Peer> preferredPeer;
+  private final Optional<FetchScheduler<K, T>> fetchScheduler;
 
   protected AbstractFetchTask(
       final P2PNetwork<Eth2Peer> eth2Network, final Optional<Eth2Peer> preferredPeer) {
+    this(eth2Network, preferredPeer, Optional.empty());
+  }
+
+  protected AbstractFetchTask(
+      final P2PNetwork<Eth2Peer> eth2Network,
+      final Optional<Eth2Peer> preferredPeer,
+      final Optional<FetchScheduler<K, T>> fetchScheduler) {
     this.eth2Network = eth2Network;
     this.preferredPeer = preferredPeer;
+    this.fetchScheduler = fetchScheduler;
   }
 
   public int getNumberOfRetries() {
@@ -68,6 +77,9 @@ public abstract class AbstractFetchTask<K, T> {
    * Uses a preferred {@link Eth2Peer} or selects a random one from the network and gets a result
    * using the {@link #fetch(Eth2Peer)} implementation. It also tracks the number of runs and the
    * already queried peers.
+   *
+   * <p>If a {@link FetchScheduler} is configured, the fetch is handed to it instead so that it can
+   * be batched with other outstanding fetches and hedged across peers.
    */
   public SafeFuture<FetchResult<T>> run() {
     if (isCancelled()) {
@@ -79,9 +91,17 @@ public abstract class AbstractFetchTask<K, T> {
     if (maybePeer.isEmpty()) {
       return SafeFuture.completedFuture(FetchResult.createFailed(Status.NO_AVAILABLE_PEERS));
     }
-    final Eth2Peer peer = maybePeer.get();
 
     numberOfRuns.incrementAndGet();
+
+    if (fetchScheduler.isPresent()) {
+      return fetchScheduler
+          .get()
+          .fetch(getKey(), preferredPeer.filter(this::peerIsNotQueried), this::peerIsNotQueried)
+          .thenPeek(result -> result.getPeer().ifPresent(this::trackQueriedPeer));
+    }
+
+    final Eth2Peer peer = maybePeer.get();
     trackQueriedPeer(peer);
 
     return fetch(peer);
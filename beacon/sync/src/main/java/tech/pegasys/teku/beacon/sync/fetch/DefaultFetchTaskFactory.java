@@ -15,27 +15,60 @@ package tech.pegasys.teku.beacon.sync.fetch;
 
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.BlobIdentifier;
 
 public class DefaultFetchTaskFactory implements FetchTaskFactory {
 
   private final P2PNetwork<Eth2Peer> eth2Network;
+  private final Optional<FetchScheduler<Bytes32, SignedBeaconBlock>> blockFetchScheduler;
+  private final Optional<FetchScheduler<BlobIdentifier, BlobSidecar>> blobSidecarFetchScheduler;
 
   public DefaultFetchTaskFactory(final P2PNetwork<Eth2Peer> eth2Network) {
     this.eth2Network = eth2Network;
+    this.blockFetchScheduler = Optional.empty();
+    this.blobSidecarFetchScheduler = Optional.empty();
+  }
+
+  public DefaultFetchTaskFactory(
+      final P2PNetwork<Eth2Peer> eth2Network,
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem) {
+    this.eth2Network = eth2Network;
+    // Blocks and blob sidecars are served by the same peers so share their latency history
+    final PeerLatencyTracker latencyTracker = new PeerLatencyTracker();
+    this.blockFetchScheduler =
+        Optional.of(
+            FetchScheduler.createForBlocks(
+                eth2Network, asyncRunner, timeProvider, metricsSystem, latencyTracker));
+    this.blobSidecarFetchScheduler =
+        Optional.of(
+            FetchScheduler.createForBlobSidecars(
+                eth2Network, asyncRunner, timeProvider, metricsSystem, latencyTracker));
   }
 
   @Override
   public FetchBlockTask createFetchBlockTask(
       final Bytes32 blockRoot, final Optional<Eth2Peer> preferredPeer) {
-    return new FetchBlockTask(eth2Network, preferredPeer, blockRoot);
+    return blockFetchScheduler
+        .map(scheduler -> new FetchBlockTask(eth2Network, preferredPeer, blockRoot, scheduler))
+        .orElseGet(() -> new FetchBlockTask(eth2Network, preferredPeer, blockRoot));
   }
 
   @Override
   public FetchBlobSidecarTask createFetchBlobSidecarTask(
       final BlobIdentifier blobIdentifier, final Optional<Eth2Peer> preferredPeer) {
-    return new FetchBlobSidecarTask(eth2Network, preferredPeer, blobIdentifier);
+    return blobSidecarFetchScheduler
+        .map(
+            scheduler ->
+                new FetchBlobSidecarTask(eth2Network, preferredPeer, blobIdentifier, scheduler))
+        .orElseGet(() -> new FetchBlobSidecarTask(eth2Network, preferredPeer, blobIdentifier));
   }
 }
@@ -43,6 +43,15 @@ public class FetchBlobSidecarTask extends AbstractFetchTask<BlobIdentifier, Blob
     this.blobIdentifier = blobIdentifier;
   }
 
+  public FetchBlobSidecarTask(
+      final P2PNetwork<Eth2Peer> eth2Network,
+      final Optional<Eth2Peer> preferredPeer,
+      final BlobIdentifier blobIdentifier,
+      final FetchScheduler<BlobIdentifier, BlobSidecar> fetchScheduler) {
+    super(eth2Network, preferredPeer, Optional.of(fetchScheduler));
+    this.blobIdentifier = blobIdentifier;
+  }
+
   @Override
   public BlobIdentifier getKey() {
     return blobIdentifier;
@@ -42,6 +42,15 @@ public class FetchBlockTask extends AbstractFetchTask<Bytes32, SignedBeaconBlock
     this.blockRoot = blockRoot;
   }
 
+  public FetchBlockTask(
+      final P2PNetwork<Eth2Peer> eth2Network,
+      final Optional<Eth2Peer> preferredPeer,
+      final Bytes32 blockRoot,
+      final FetchScheduler<Bytes32, SignedBeaconBlock> fetchScheduler) {
+    super(eth2Network, preferredPeer, Optional.of(fetchScheduler));
+    this.blockRoot = blockRoot;
+  }
+
   @Override
   public Bytes32 getKey() {
     return blockRoot;
@@ -0,0 +1,311 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.fetch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.beacon.sync.fetch.FetchResult.Status;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
+import tech.pegasys.teku.networking.p2p.rpc.RpcResponseListener;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.BlobIdentifier;
+
+/**
+ * Schedules by-root fetches across the connected peers.
+ *
+ * <p>Keys requested in the same tick are batched into a single multi-root request per peer instead
+ * of one request each. If a request hasn't completed after the hedge delay, the keys still
+ * outstanding are also requested from a second peer and whichever response arrives first is used.
+ * Request latency is tracked per peer and used to prefer fast peers when choosing where to send a
+ * batch.
+ *
+ * @param <K> the key a result is requested by
+ * @param <R> the type of result
+ */
+public class FetchScheduler<K, R> {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final int MAX_BATCH_SIZE = 16;
+
+  private final String type;
+  private final P2PNetwork<Eth2Peer> eth2Network;
+  private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
+  private final BatchRequester<K, R> batchRequester;
+  private final Function<R, K> keyExtractor;
+  private final PeerLatencyTracker latencyTracker;
+  private final LabelledMetric<Counter> requestsCounter;
+
+  private final List<PendingFetch<K, R>> pendingFetches = new ArrayList<>();
+  private boolean flushScheduled = false;
+
+  FetchScheduler(
+      final String type,
+      final P2PNetwork<Eth2Peer> eth2Network,
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
+      final BatchRequester<K, R> batchRequester,
+      final Function<R, K> keyExtractor,
+      final PeerLatencyTracker latencyTracker) {
+    this.type = type;
+    this.eth2Network = eth2Network;
+    this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
+    this.batchRequester = batchRequester;
+    this.keyExtractor = keyExtractor;
+    this.latencyTracker = latencyTracker;
+    this.requestsCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "fetch_by_root_requests_total",
+            "Number of by-root requests sent to fetch missing blocks and blob sidecars",
+            "type",
+            "request");
+  }
+
+  public static FetchScheduler<Bytes32, SignedBeaconBlock> createForBlocks(
+      final P2PNetwork<Eth2Peer> eth2Network,
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
+      final PeerLatencyTracker latencyTracker) {
+    return new FetchScheduler<>(
+        "block",
+        eth2Network,
+        asyncRunner,
+        timeProvider,
+        metricsSystem,
+        (peer, blockRoots, listener) ->
+            SafeFuture.of(() -> peer.requestBlocksByRoot(blockRoots, listener)),
+        SignedBeaconBlock::getRoot,
+        latencyTracker);
+  }
+
+  public static FetchScheduler<BlobIdentifier, BlobSidecar> createForBlobSidecars(
+      final P2PNetwork<Eth2Peer> eth2Network,
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
+      final PeerLatencyTracker latencyTracker) {
+    return new FetchScheduler<>(
+        "blob_sidecar",
+        eth2Network,
+        asyncRunner,
+        timeProvider,
+        metricsSystem,
+        Eth2Peer::requestBlobSidecarsByRoot,
+        blobSidecar -> new BlobIdentifier(blobSidecar.getBlockRoot(), blobSidecar.getIndex()),
+        latencyTracker);
+  }
+
+  /**
+   * Schedules a fetch of the given key, which will be sent with any other keys requested before the
+   * next flush.
+   *
+   * @param key the key to fetch
+   * @param preferredPeer a peer to send the request to in preference to any other
+   * @param peerFilter only peers matching this filter are requested
+   * @return a future completed with the first successful result or a failure once no request is
+   *     left in flight for the key
+   */
+  public SafeFuture<FetchResult<R>> fetch(
+      final K key, final Optional<Eth2Peer> preferredPeer, final Predicate<Eth2Peer> peerFilter) {
+    final PendingFetch<K, R> pendingFetch = new PendingFetch<>(key, preferredPeer, peerFilter);
+    final boolean flushNow;
+    final boolean scheduleFlush;
+    synchronized (this) {
+      pendingFetches.add(pendingFetch);
+      flushNow = pendingFetches.size() >= MAX_BATCH_SIZE;
+      scheduleFlush = !flushNow && !flushScheduled;
+      if (scheduleFlush) {
+        flushScheduled = true;
+      }
+    }
+    if (flushNow) {
+      flush();
+    } else if (scheduleFlush) {
+      asyncRunner.runAsync(this::flush).ifExceptionGetsHereRaiseABug();
+    }
+    return pendingFetch.result;
+  }
+
+  void flush() {
+    final List<PendingFetch<K, R>> fetches;
+    synchronized (this) {
+      flushScheduled = false;
+      if (pendingFetches.isEmpty()) {
+        return;
+      }
+      fetches = new ArrayList<>(pendingFetches);
+      pendingFetches.clear();
+    }
+
+    final List<Eth2Peer> rankedPeers = rankPeers();
+    final Map<Eth2Peer, List<PendingFetch<K, R>>> fetchesByPeer = new IdentityHashMap<>();
+    for (PendingFetch<K, R> fetch : fetches) {
+      final Optional<Eth2Peer> maybePeer =
+          fetch.preferredPeer.or(() -> rankedPeers.stream().filter(fetch.peerFilter).findFirst());
+      if (maybePeer.isEmpty()) {
+        fetch.result.complete(FetchResult.createFailed(Status.NO_AVAILABLE_PEERS));
+        continue;
+      }
+      fetchesByPeer.computeIfAbsent(maybePeer.get(), __ -> new ArrayList<>()).add(fetch);
+    }
+
+    fetchesByPeer.forEach(
+        (peer, peerFetches) -> {
+          for (int i = 0; i < peerFetches.size(); i += MAX_BATCH_SIZE) {
+            final List<PendingFetch<K, R>> batch =
+                peerFetches.subList(i, Math.min(i + MAX_BATCH_SIZE, peerFetches.size()));
+            sendBatch(peer, batch, false);
+            scheduleHedge(peer, batch);
+          }
+        });
+  }
+
+  private List<Eth2Peer> rankPeers() {
+    final List<Eth2Peer> peers = new ArrayList<>(eth2Network.streamPeers().toList());
+    // Shuffle first so peers we know nothing about are picked at random
+    Collections.shuffle(peers);
+    peers.sort(
+        Comparator.comparing(Eth2Peer::getOutstandingRequests)
+            .thenComparingLong(peer -> latencyTracker.getExpectedLatencyMillis(peer.getId())));
+    return peers;
+  }
+
+  private void sendBatch(
+      final Eth2Peer peer, final List<PendingFetch<K, R>> batch, final boolean isHedge) {
+    final Map<K, List<PendingFetch<K, R>>> fetchesByKey = new LinkedHashMap<>();
+    batch.forEach(
+        fetch -> {
+          fetch.onRequestSent();
+          fetchesByKey.computeIfAbsent(fetch.key, __ -> new ArrayList<>()).add(fetch);
+        });
+    requestsCounter.labels(type, isHedge ? "hedge" : "primary").inc();
+    LOG.trace(
+        "Requesting {} {}(s) by root from peer {}{}",
+        fetchesByKey.size(),
+        type,
+        peer.getId(),
+        isHedge ? " (hedged)" : "");
+
+    final long startTime = timeProvider.getTimeInMillis().longValue();
+    final AtomicInteger received = new AtomicInteger();
+    final RpcResponseListener<R> listener =
+        response -> {
+          final List<PendingFetch<K, R>> matchingFetches =
+              fetchesByKey.get(keyExtractor.apply(response));
+          if (matchingFetches != null) {
+            received.incrementAndGet();
+            matchingFetches.forEach(
+                fetch -> fetch.result.complete(FetchResult.createSuccessful(peer, response)));
+          }
+          return SafeFuture.COMPLETE;
+        };
+
+    batchRequester
+        .request(peer, new ArrayList<>(fetchesByKey.keySet()), listener)
+        .handle(
+            (__, error) -> {
+              if (error != null) {
+                LOG.debug(
+                    String.format(
+                        "Failed to fetch %s %s(s) by root from peer %s",
+                        fetchesByKey.size(), type, peer.getId()),
+                    error);
+                latencyTracker.recordFailure(peer.getId());
+              } else if (received.get() > 0) {
+                latencyTracker.recordSuccess(
+                    peer.getId(), timeProvider.getTimeInMillis().longValue() - startTime);
+              }
+              batch.forEach(fetch -> fetch.onRequestFinished(peer));
+              return null;
+            })
+        .ifExceptionGetsHereRaiseABug();
+  }
+
+  private void scheduleHedge(final Eth2Peer primaryPeer, final List<PendingFetch<K, R>> batch) {
+    asyncRunner
+        .getDelayedFuture(latencyTracker.getHedgeDelay())
+        .finish(
+            () -> hedge(primaryPeer, batch),
+            error -> LOG.debug("Failed to hedge by-root request", error));
+  }
+
+  private void hedge(final Eth2Peer primaryPeer, final List<PendingFetch<K, R>> batch) {
+    final List<PendingFetch<K, R>> outstanding =
+        batch.stream().filter(fetch -> !fetch.result.isDone()).toList();
+    if (outstanding.isEmpty()) {
+      return;
+    }
+    rankPeers().stream()
+        .filter(peer -> !peer.getId().equals(primaryPeer.getId()))
+        .filter(peer -> outstanding.stream().allMatch(fetch -> fetch.peerFilter.test(peer)))
+        .findFirst()
+        .ifPresent(hedgePeer -> sendBatch(hedgePeer, outstanding, true));
+  }
+
+  @FunctionalInterface
+  interface BatchRequester<K, R> {
+    SafeFuture<Void> request(Eth2Peer peer, List<K> keys, RpcResponseListener<R> listener);
+  }
+
+  private static class PendingFetch<K, R> {
+    private final K key;
+    private final Optional<Eth2Peer> preferredPeer;
+    private final Predicate<Eth2Peer> peerFilter;
+    private final SafeFuture<FetchResult<R>> result = new SafeFuture<>();
+    private final AtomicInteger requestsInFlight = new AtomicInteger();
+
+    private PendingFetch(
+        final K key, final Optional<Eth2Peer> preferredPeer, final Predicate<Eth2Peer> peerFilter) {
+      this.key = key;
+      this.preferredPeer = preferredPeer;
+      this.peerFilter = peerFilter;
+    }
+
+    private void onRequestSent() {
+      requestsInFlight.incrementAndGet();
+    }
+
+    private void onRequestFinished(final Eth2Peer peer) {
+      if (requestsInFlight.decrementAndGet() == 0) {
+        // No-op if a result has already been received
+        result.complete(FetchResult.createFailed(peer, Status.FETCH_FAILED));
+      }
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.fetch;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
+import tech.pegasys.teku.networking.p2p.peer.NodeId;
+
+/**
+ * Tracks by-root request latencies, both as a moving average per peer and as a window of recent
+ * samples across all peers used to derive the delay after which a request is hedged.
+ */
+class PeerLatencyTracker {
+  static final Duration DEFAULT_HEDGE_DELAY = Duration.ofSeconds(1);
+  static final Duration MIN_HEDGE_DELAY = Duration.ofMillis(200);
+  static final Duration MAX_HEDGE_DELAY = Duration.ofSeconds(5);
+  static final int MIN_SAMPLES_FOR_HEDGE_DELAY = 10;
+
+  private static final int MAX_TRACKED_PEERS = 500;
+  private static final int LATENCY_WINDOW_SIZE = 128;
+  private static final double HEDGE_PERCENTILE = 0.9;
+  private static final double AVERAGE_WEIGHT = 0.25;
+  // A failed request counts as a slow response so that failing peers are tried last
+  private static final long FAILURE_LATENCY_MILLIS = MAX_HEDGE_DELAY.toMillis();
+
+  private final Map<NodeId, Long> averageLatencyByPeer =
+      LimitedMap.createSynchronizedLRU(MAX_TRACKED_PEERS);
+  private final long[] recentLatencies = new long[LATENCY_WINDOW_SIZE];
+  private int recentLatenciesCount = 0;
+  private int nextLatencyIndex = 0;
+
+  void recordSuccess(final NodeId peer, final long latencyMillis) {
+    updateAverage(peer, latencyMillis);
+    synchronized (this) {
+      recentLatencies[nextLatencyIndex] = latencyMillis;
+      nextLatencyIndex = (nextLatencyIndex + 1) % LATENCY_WINDOW_SIZE;
+      recentLatenciesCount = Math.min(recentLatenciesCount + 1, LATENCY_WINDOW_SIZE);
+    }
+  }
+
+  void recordFailure(final NodeId peer) {
+    updateAverage(peer, FAILURE_LATENCY_MILLIS);
+  }
+
+  /** Returns the expected latency for the peer, or the default hedge delay if it is unknown. */
+  long getExpectedLatencyMillis(final NodeId peer) {
+    return averageLatencyByPeer.getOrDefault(peer, DEFAULT_HEDGE_DELAY.toMillis());
+  }
+
+  synchronized Duration getHedgeDelay() {
+    if (recentLatenciesCount < MIN_SAMPLES_FOR_HEDGE_DELAY) {
+      return DEFAULT_HEDGE_DELAY;
+    }
+    final long[] sorted = Arrays.copyOf(recentLatencies, recentLatenciesCount);
+    Arrays.sort(sorted);
+    final int index = (int) Math.ceil(HEDGE_PERCENTILE * sorted.length) - 1;
+    final long delayMillis =
+        Math.max(
+            MIN_HEDGE_DELAY.toMillis(), Math.min(MAX_HEDGE_DELAY.toMillis(), sorted[index]));
+    return Duration.ofMillis(delayMillis);
+  }
+
+  private void updateAverage(final NodeId peer, final long latencyMillis) {
+    averageLatencyByPeer.merge(
+        peer,
+        latencyMillis,
+        (average, latest) ->
+            Math.round(average * (1 - AVERAGE_WEIGHT) + latest * AVERAGE_WEIGHT));
+  }
+}
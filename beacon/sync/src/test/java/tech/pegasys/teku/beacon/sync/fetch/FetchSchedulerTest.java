@@ -0,0 +1,201 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.fetch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.beacon.sync.fetch.FetchResult.Status;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.p2p.rpc.RpcResponseListener;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+
+public class FetchSchedulerTest extends AbstractFetchTaskTest {
+
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(0);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner(timeProvider);
+  private final PeerLatencyTracker latencyTracker = new PeerLatencyTracker();
+  private final Map<Eth2Peer, RpcResponseListener<SignedBeaconBlock>> listeners = new HashMap<>();
+  private final Map<Eth2Peer, SafeFuture<Void>> requests = new HashMap<>();
+
+  private final FetchScheduler<Bytes32, SignedBeaconBlock> scheduler =
+      FetchScheduler.createForBlocks(
+          eth2P2PNetwork, asyncRunner, timeProvider, new StubMetricsSystem(), latencyTracker);
+
+  private final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+  private final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+
+  private Eth2Peer peer1;
+  private Eth2Peer peer2;
+
+  @BeforeEach
+  void setUpPeers() throws Exception {
+    peer1 = registerPeer(1);
+    peer2 = registerPeer(2);
+    // Make peer1 the fastest so it is always picked first
+    latencyTracker.recordSuccess(peer1.getId(), 10);
+    latencyTracker.recordSuccess(peer2.getId(), 100);
+  }
+
+  @Test
+  void fetch_shouldBatchKeysIntoSingleRequest() throws Exception {
+    final SafeFuture<FetchResult<SignedBeaconBlock>> result1 = fetch(block1);
+    final SafeFuture<FetchResult<SignedBeaconBlock>> result2 = fetch(block2);
+    asyncRunner.executeDueActions();
+
+    verify(peer1).requestBlocksByRoot(eq(List.of(block1.getRoot(), block2.getRoot())), any());
+    verify(peer2, never()).requestBlocksByRoot(anyList(), any());
+
+    respond(peer1, block2);
+    respond(peer1, block1);
+    requests.get(peer1).complete(null);
+
+    assertSuccessful(result1, peer1, block1);
+    assertSuccessful(result2, peer1, block2);
+  }
+
+  @Test
+  void fetch_shouldFailKeysNotReturnedByPeer() {
+    final SafeFuture<FetchResult<SignedBeaconBlock>> result1 = fetch(block1);
+    final SafeFuture<FetchResult<SignedBeaconBlock>> result2 = fetch(block2);
+    asyncRunner.executeDueActions();
+
+    respond(peer1, block1);
+    assertThat(result2).isNotDone();
+    requests.get(peer1).complete(null);
+
+    assertSuccessful(result1, peer1, block1);
+    assertThat(result2).isCompleted();
+    assertThat(result2.getNow(null).getStatus()).isEqualTo(Status.FETCH_FAILED);
+    assertThat(result2.getNow(null).getPeer()).contains(peer1);
+  }
+
+  @Test
+  void fetch_shouldUsePreferredPeer() throws Exception {
+    final SafeFuture<FetchResult<SignedBeaconBlock>> result =
+        scheduler.fetch(block1.getRoot(), Optional.of(peer2), __ -> true);
+    asyncRunner.executeDueActions();
+
+    verify(peer2).requestBlocksByRoot(eq(List.of(block1.getRoot())), any());
+    verify(peer1, never()).requestBlocksByRoot(anyList(), any());
+
+    respond(peer2, block1);
+    assertSuccessful(result, peer2, block1);
+  }
+
+  @Test
+  void fetch_shouldReportNoAvailablePeersWhenAllFiltered() {
+    final SafeFuture<FetchResult<SignedBeaconBlock>> result =
+        scheduler.fetch(block1.getRoot(), Optional.empty(), __ -> false);
+    asyncRunner.executeDueActions();
+
+    assertThat(result).isCompleted();
+    assertThat(result.getNow(null).getStatus()).isEqualTo(Status.NO_AVAILABLE_PEERS);
+  }
+
+  @Test
+  void fetch_shouldHedgeOutstandingKeysToSecondPeer() throws Exception {
+    final SafeFuture<FetchResult<SignedBeaconBlock>> result1 = fetch(block1);
+    final SafeFuture<FetchResult<SignedBeaconBlock>> result2 = fetch(block2);
+    asyncRunner.executeDueActions();
+    respond(peer1, block1);
+
+    timeProvider.advanceTimeBy(latencyTracker.getHedgeDelay());
+    asyncRunner.executeDueActions();
+
+    verify(peer2).requestBlocksByRoot(eq(List.of(block2.getRoot())), any());
+    respond(peer2, block2);
+    requests.get(peer2).complete(null);
+
+    assertSuccessful(result1, peer1, block1);
+    assertSuccessful(result2, peer2, block2);
+  }
+
+  @Test
+  void fetch_shouldNotHedgeWhenAllKeysReceived() throws Exception {
+    final SafeFuture<FetchResult<SignedBeaconBlock>> result = fetch(block1);
+    asyncRunner.executeDueActions();
+    respond(peer1, block1);
+    requests.get(peer1).complete(null);
+
+    timeProvider.advanceTimeBy(latencyTracker.getHedgeDelay());
+    asyncRunner.executeDueActions();
+
+    verify(peer2, never()).requestBlocksByRoot(anyList(), any());
+    assertSuccessful(result, peer1, block1);
+  }
+
+  @Test
+  void getHedgeDelay_shouldUseLatencyPercentileWithinBounds() {
+    assertThat(latencyTracker.getHedgeDelay()).isEqualTo(PeerLatencyTracker.DEFAULT_HEDGE_DELAY);
+
+    for (int i = 1; i <= PeerLatencyTracker.MIN_SAMPLES_FOR_HEDGE_DELAY; i++) {
+      latencyTracker.recordSuccess(peer1.getId(), i * 100L);
+    }
+    assertThat(latencyTracker.getHedgeDelay().toMillis()).isEqualTo(900);
+
+    for (int i = 0; i < 200; i++) {
+      latencyTracker.recordSuccess(peer1.getId(), 1);
+    }
+    assertThat(latencyTracker.getHedgeDelay()).isEqualTo(PeerLatencyTracker.MIN_HEDGE_DELAY);
+  }
+
+  private SafeFuture<FetchResult<SignedBeaconBlock>> fetch(final SignedBeaconBlock block) {
+    return scheduler.fetch(block.getRoot(), Optional.empty(), __ -> true);
+  }
+
+  private void respond(final Eth2Peer peer, final SignedBeaconBlock block) {
+    assertThat(listeners.get(peer).onResponse(block)).isCompleted();
+  }
+
+  private void assertSuccessful(
+      final SafeFuture<FetchResult<SignedBeaconBlock>> result,
+      final Eth2Peer peer,
+      final SignedBeaconBlock block) {
+    assertThat(result).isCompleted();
+    final FetchResult<SignedBeaconBlock> fetchResult = result.getNow(null);
+    assertThat(fetchResult.isSuccessful()).isTrue();
+    assertThat(fetchResult.getPeer()).contains(peer);
+    assertThat(fetchResult.getResult()).contains(block);
+  }
+
+  private Eth2Peer registerPeer(final int id) throws Exception {
+    final Eth2Peer peer = registerNewPeer(id);
+    when(peer.requestBlocksByRoot(anyList(), any()))
+        .thenAnswer(
+            invocation -> {
+              final SafeFuture<Void> request = new SafeFuture<>();
+              listeners.put(peer, invocation.getArgument(1));
+              requests.put(peer, request);
+              return request;
+            });
+    return peer;
+  }
+}
@@ -44,6 +44,7 @@ import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.NetworkDataProvider;
 import tech.pegasys.teku.api.NodeDataProvider;
 import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
+import tech.pegasys.teku.api.migrated.ValidatorLivenessBitfield;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.beacon.sync.events.SyncStateProvider;
 import tech.pegasys.teku.bls.BLSPublicKey;
@@ -164,7 +165,8 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
       final SyncCommitteeSubscriptionManager syncCommitteeSubscriptionManager,
       final BlockProductionAndPublishingPerformanceFactory
           blockProductionAndPublishingPerformanceFactory,
-      final BlockPublisher blockPublisher) {
+      final BlockPublisher blockPublisher,
+      final AttesterDutiesGenerator attesterDutiesGenerator) {
     this.blockProductionAndPublishingPerformanceFactory =
         blockProductionAndPublishingPerformanceFactory;
     this.chainDataProvider = chainDataProvider;
@@ -186,7 +188,7 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
     this.syncCommitteeSubscriptionManager = syncCommitteeSubscriptionManager;
     this.proposersDataManager = proposersDataManager;
     this.blockPublisher = blockPublisher;
-    this.attesterDutiesGenerator = new AttesterDutiesGenerator(spec);
+    this.attesterDutiesGenerator = attesterDutiesGenerator;
   }
 
   @Override
@@ -747,6 +749,13 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
         validatorIndices, epoch, chainDataProvider.getCurrentEpoch());
   }
 
+  @Override
+  public SafeFuture<Optional<ValidatorLivenessBitfield>> getValidatorsLivenessBitfield(
+      final UInt64 epoch) {
+    return nodeDataProvider.getValidatorLivenessBitfield(
+        epoch, chainDataProvider.getCurrentEpoch());
+  }
+
   private Optional<SubmitDataError> fromInternalValidationResult(
       final InternalValidationResult internalValidationResult, final int resultIndex) {
     if (!internalValidationResult.isReject()) {
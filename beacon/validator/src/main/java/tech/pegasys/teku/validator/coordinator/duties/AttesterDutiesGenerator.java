@@ -13,25 +13,27 @@
 
 package tech.pegasys.teku.validator.coordinator.duties;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.IntCollection;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuties;
 import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuty;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
-import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
-import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 
 public class AttesterDutiesGenerator {
   private final Spec spec;
+  private final AttesterDutyTableCache dutyTableCache;
 
   public AttesterDutiesGenerator(final Spec spec) {
+    this(spec, new AttesterDutyTableCache(spec));
+  }
+
+  public AttesterDutiesGenerator(final Spec spec, final AttesterDutyTableCache dutyTableCache) {
     this.spec = spec;
+    this.dutyTableCache = dutyTableCache;
   }
 
   public AttesterDuties getAttesterDutiesFromIndicesAndState(
@@ -43,45 +45,26 @@ public class AttesterDutiesGenerator {
         epoch.isGreaterThan(spec.getCurrentEpoch(state))
             ? spec.atEpoch(epoch).getBeaconStateUtil().getCurrentDutyDependentRoot(state)
             : spec.atEpoch(epoch).getBeaconStateUtil().getPreviousDutyDependentRoot(state);
-    final List<AttesterDuty> duties = createAttesterDuties(state, epoch, validatorIndices);
+    final AttesterDutyTable dutyTable =
+        dutyTableCache.get(
+            epoch, dependentRoot, () -> AttesterDutyTable.create(spec, state, epoch));
+    final List<AttesterDuty> duties = createAttesterDuties(state, dutyTable, validatorIndices);
     return new AttesterDuties(isChainHeadOptimistic, dependentRoot, duties);
   }
 
   private List<AttesterDuty> createAttesterDuties(
-      final BeaconState state, final UInt64 epoch, final IntCollection validatorIndices) {
+      final BeaconState state,
+      final AttesterDutyTable dutyTable,
+      final IntCollection validatorIndices) {
     final List<AttesterDuty> attesterDutyList = new ArrayList<>();
-    final BeaconStateAccessors beaconStateAccessors = spec.atEpoch(epoch).beaconStateAccessors();
-    final UInt64 committeeCountPerSlot =
-        beaconStateAccessors.getCommitteeCountPerSlot(state, epoch);
-    final Int2ObjectMap<CommitteeAssignment> validatorIndexToCommitteeAssignmentMap =
-        spec.getValidatorIndexToCommitteeAssignmentMap(state, epoch);
     for (final int validatorIndex : validatorIndices) {
-      final CommitteeAssignment committeeAssignment =
-          validatorIndexToCommitteeAssignmentMap.get(validatorIndex);
-      if (committeeAssignment != null) {
-        attesterDutyFromCommitteeAssignment(
-                committeeAssignment, validatorIndex, committeeCountPerSlot, state)
-            .ifPresent(attesterDutyList::add);
+      if (!dutyTable.hasAssignment(validatorIndex)) {
+        continue;
       }
+      spec.getValidatorPubKey(state, UInt64.valueOf(validatorIndex))
+          .flatMap(publicKey -> dutyTable.getAttesterDuty(validatorIndex, publicKey))
+          .ifPresent(attesterDutyList::add);
     }
     return attesterDutyList;
   }
-
-  private Optional<AttesterDuty> attesterDutyFromCommitteeAssignment(
-      final CommitteeAssignment committeeAssignment,
-      final int validatorIndex,
-      final UInt64 committeeCountPerSlot,
-      final BeaconState state) {
-    return spec.getValidatorPubKey(state, UInt64.valueOf(validatorIndex))
-        .map(
-            publicKey ->
-                new AttesterDuty(
-                    publicKey,
-                    validatorIndex,
-                    committeeAssignment.committee().size(),
-                    committeeAssignment.committeeIndex().intValue(),
-                    committeeCountPerSlot.intValue(),
-                    committeeAssignment.committee().indexOf(validatorIndex),
-                    committeeAssignment.slot()));
-  }
 }
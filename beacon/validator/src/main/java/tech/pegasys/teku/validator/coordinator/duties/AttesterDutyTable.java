@@ -0,0 +1,118 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator.duties;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Optional;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuty;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
+
+/**
+ * Attester duty assignments for every validator in an epoch.
+ *
+ * <p>Each validator index maps to a single packed {@code long} holding the slot offset within the
+ * epoch, the committee index, the validator's position in the committee and the committee length
+ * (16 bits each). A value of zero means the validator has no assignment, which is unambiguous
+ * because an assigned validator always has a non-zero committee length.
+ */
+public class AttesterDutyTable {
+  private static final int FIELD_BITS = 16;
+  private static final long FIELD_MASK = (1L << FIELD_BITS) - 1;
+  private static final int COMMITTEE_INDEX_SHIFT = FIELD_BITS;
+  private static final int POSITION_SHIFT = FIELD_BITS * 2;
+  private static final int SLOT_OFFSET_SHIFT = FIELD_BITS * 3;
+
+  private final UInt64 epochStartSlot;
+  private final int committeesAtSlot;
+  private final long[] assignments;
+
+  private AttesterDutyTable(
+      final UInt64 epochStartSlot, final int committeesAtSlot, final long[] assignments) {
+    this.epochStartSlot = epochStartSlot;
+    this.committeesAtSlot = committeesAtSlot;
+    this.assignments = assignments;
+  }
+
+  public static AttesterDutyTable create(
+      final Spec spec, final BeaconState state, final UInt64 epoch) {
+    final BeaconStateAccessors beaconStateAccessors = spec.atEpoch(epoch).beaconStateAccessors();
+    final int slotsPerEpoch = spec.slotsPerEpoch(epoch);
+    final int committeesAtSlot =
+        beaconStateAccessors.getCommitteeCountPerSlot(state, epoch).intValue();
+    final UInt64 epochStartSlot = spec.computeStartSlotAtEpoch(epoch);
+    final long[] assignments = new long[state.getValidators().size()];
+
+    for (int slotOffset = 0; slotOffset < slotsPerEpoch; slotOffset++) {
+      final UInt64 slot = epochStartSlot.plus(slotOffset);
+      for (int committeeIndex = 0; committeeIndex < committeesAtSlot; committeeIndex++) {
+        final IntList committee =
+            beaconStateAccessors.getBeaconCommittee(state, slot, UInt64.valueOf(committeeIndex));
+        final int committeeLength = committee.size();
+        checkArgument(committeeLength <= FIELD_MASK, "Committee too large: %s", committeeLength);
+        for (int position = 0; position < committeeLength; position++) {
+          assignments[committee.getInt(position)] =
+              pack(slotOffset, committeeIndex, position, committeeLength);
+        }
+      }
+    }
+    return new AttesterDutyTable(epochStartSlot, committeesAtSlot, assignments);
+  }
+
+  public Optional<AttesterDuty> getAttesterDuty(
+      final int validatorIndex, final BLSPublicKey publicKey) {
+    if (validatorIndex < 0 || validatorIndex >= assignments.length) {
+      return Optional.empty();
+    }
+    final long assignment = assignments[validatorIndex];
+    if (assignment == 0) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new AttesterDuty(
+            publicKey,
+            validatorIndex,
+            (int) (assignment & FIELD_MASK),
+            (int) ((assignment >>> COMMITTEE_INDEX_SHIFT) & FIELD_MASK),
+            committeesAtSlot,
+            (int) ((assignment >>> POSITION_SHIFT) & FIELD_MASK),
+            epochStartSlot.plus((assignment >>> SLOT_OFFSET_SHIFT) & FIELD_MASK)));
+  }
+
+  public boolean hasAssignment(final int validatorIndex) {
+    return validatorIndex >= 0
+        && validatorIndex < assignments.length
+        && assignments[validatorIndex] != 0;
+  }
+
+  public int getValidatorCount() {
+    return assignments.length;
+  }
+
+  private static long pack(
+      final int slotOffset,
+      final int committeeIndex,
+      final int position,
+      final int committeeLength) {
+    return ((long) slotOffset << SLOT_OFFSET_SHIFT)
+        | ((long) position << POSITION_SHIFT)
+        | ((long) committeeIndex << COMMITTEE_INDEX_SHIFT)
+        | committeeLength;
+  }
+}
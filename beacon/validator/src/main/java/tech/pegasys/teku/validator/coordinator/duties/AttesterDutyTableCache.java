@@ -0,0 +1,103 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator.duties;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.ReorgContext;
+
+/**
+ * Caches {@link AttesterDutyTable}s by epoch and duty dependent root so that repeated duty requests
+ * for the same epoch don't recompute committee assignments.
+ *
+ * <p>The dependent root uniquely identifies the shuffling, so an entry can never be stale while it
+ * is reachable by key. Entries are still dropped on re-orgs if their dependent root is no longer
+ * canonical, and once their epoch is older than the previous epoch, to bound memory usage.
+ */
+public class AttesterDutyTableCache implements ChainHeadChannel {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Spec spec;
+  private final Map<DutyTableKey, AttesterDutyTable> tables = new HashMap<>();
+
+  public AttesterDutyTableCache(final Spec spec) {
+    this.spec = spec;
+  }
+
+  public AttesterDutyTable get(
+      final UInt64 epoch,
+      final Bytes32 dependentRoot,
+      final Supplier<AttesterDutyTable> tableSupplier) {
+    final DutyTableKey key = new DutyTableKey(epoch, dependentRoot);
+    synchronized (this) {
+      final AttesterDutyTable cached = tables.get(key);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    // Build outside the lock, concurrent misses for the same key produce identical tables
+    final AttesterDutyTable table = tableSupplier.get();
+    synchronized (this) {
+      return tables.computeIfAbsent(key, __ -> table);
+    }
+  }
+
+  public synchronized Optional<AttesterDutyTable> getCached(
+      final UInt64 epoch, final Bytes32 dependentRoot) {
+    return Optional.ofNullable(tables.get(new DutyTableKey(epoch, dependentRoot)));
+  }
+
+  public synchronized int size() {
+    return tables.size();
+  }
+
+  @Override
+  public synchronized void chainHeadUpdated(
+      final UInt64 slot,
+      final Bytes32 stateRoot,
+      final Bytes32 bestBlockRoot,
+      final boolean epochTransition,
+      final boolean executionOptimistic,
+      final Bytes32 previousDutyDependentRoot,
+      final Bytes32 currentDutyDependentRoot,
+      final Optional<ReorgContext> optionalReorgContext) {
+    if (optionalReorgContext.isPresent()) {
+      final int sizeBefore = tables.size();
+      tables
+          .keySet()
+          .removeIf(
+              key ->
+                  !key.dependentRoot().equals(previousDutyDependentRoot)
+                      && !key.dependentRoot().equals(currentDutyDependentRoot));
+      LOG.trace(
+          "Removed {} attester duty tables after re-org at slot {}",
+          sizeBefore - tables.size(),
+          slot);
+    }
+    if (epochTransition) {
+      final UInt64 previousEpoch = spec.computeEpochAtSlot(slot).minusMinZero(1);
+      tables.keySet().removeIf(key -> key.epoch().isLessThan(previousEpoch));
+    }
+  }
+
+  private record DutyTableKey(UInt64 epoch, Bytes32 dependentRoot) {}
+}
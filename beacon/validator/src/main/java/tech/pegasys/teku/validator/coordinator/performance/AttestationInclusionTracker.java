@@ -0,0 +1,180 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator.performance;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+
+/**
+ * Tracks inclusion of produced attestations incrementally as blocks are imported.
+ *
+ * <p>Produced attestations are grouped by {@link AttestationData} root and their aggregation bits
+ * are kept as {@link BitSet}s. Each imported block's attestations are matched against those groups
+ * as they arrive, recording every block in which each produced attestation was fully covered.
+ * Reporting on an epoch then only walks the produced attestations and never has to load historic
+ * blocks or states.
+ *
+ * <p>Blocks are recorded as they are imported, regardless of whether they are on the canonical
+ * chain. Inclusions are resolved against the canonical chain at reporting time, so blocks that are
+ * later orphaned are ignored and fork blocks that later become canonical are counted.
+ */
+class AttestationInclusionTracker {
+
+  private final Spec spec;
+
+  final NavigableMap<UInt64, Map<Bytes32, ProducedAttestations>> producedAttestationsByEpoch =
+      new ConcurrentSkipListMap<>();
+
+  AttestationInclusionTracker(final Spec spec) {
+    this.spec = spec;
+  }
+
+  void onAttestationProduced(final Attestation attestation) {
+    final AttestationData data = attestation.getData();
+    final UInt64 epoch = spec.computeEpochAtSlot(data.getSlot());
+    producedAttestationsByEpoch
+        .computeIfAbsent(epoch, __ -> new ConcurrentHashMap<>())
+        .computeIfAbsent(data.hashTreeRoot(), __ -> new ProducedAttestations(data))
+        .addProduced(toBitSet(attestation.getAggregationBits()));
+  }
+
+  void onAttestationsIncluded(
+      final Bytes32 blockRoot,
+      final UInt64 inclusionSlot,
+      final SszList<Attestation> attestations) {
+    if (producedAttestationsByEpoch.isEmpty()) {
+      return;
+    }
+    // Combine bits from all attestations in the block with the same data before matching
+    final Map<ProducedAttestations, BitSet> includedBitsByProducedAttestations = new HashMap<>();
+    for (Attestation attestation : attestations) {
+      final AttestationData data = attestation.getData();
+      final Map<Bytes32, ProducedAttestations> producedInEpoch =
+          producedAttestationsByEpoch.get(spec.computeEpochAtSlot(data.getSlot()));
+      if (producedInEpoch == null) {
+        continue;
+      }
+      final ProducedAttestations producedAttestations = producedInEpoch.get(data.hashTreeRoot());
+      if (producedAttestations == null) {
+        continue;
+      }
+      includedBitsByProducedAttestations
+          .computeIfAbsent(producedAttestations, __ -> new BitSet())
+          .or(toBitSet(attestation.getAggregationBits()));
+    }
+    includedBitsByProducedAttestations.forEach(
+        (producedAttestations, includedBits) ->
+            producedAttestations.onIncluded(
+                new SlotAndBlockRoot(inclusionSlot, blockRoot), includedBits));
+  }
+
+  Collection<ProducedAttestations> getProducedAttestations(final UInt64 epoch) {
+    final Map<Bytes32, ProducedAttestations> producedInEpoch =
+        producedAttestationsByEpoch.get(epoch);
+    return producedInEpoch == null ? Collections.emptyList() : producedInEpoch.values();
+  }
+
+  void pruneUpToEpoch(final UInt64 epochInclusive) {
+    producedAttestationsByEpoch.headMap(epochInclusive, true).clear();
+  }
+
+  private static BitSet toBitSet(final SszBitlist bitlist) {
+    final BitSet bits = new BitSet(bitlist.size());
+    bitlist.streamAllSetBits().forEach(bits::set);
+    return bits;
+  }
+
+  /** Produced attestations sharing the same {@link AttestationData}. */
+  static class ProducedAttestations {
+    private final AttestationData data;
+    private final List<BitSet> producedBits = new ArrayList<>();
+    private final Set<BitSet> uniqueProducedBits = new HashSet<>();
+    private final List<List<SlotAndBlockRoot>> inclusions = new ArrayList<>();
+
+    private ProducedAttestations(final AttestationData data) {
+      this.data = data;
+    }
+
+    AttestationData getData() {
+      return data;
+    }
+
+    synchronized int getProducedCount() {
+      return producedBits.size();
+    }
+
+    /**
+     * Returns the distance to the earliest inclusion of the produced attestation at the given index
+     * in a block accepted by {@code isCanonicalBlock}, or -1 if it hasn't been included in any such
+     * block.
+     */
+    synchronized int getInclusionDistance(
+        final int producedIndex, final Predicate<SlotAndBlockRoot> isCanonicalBlock) {
+      UInt64 earliestInclusionSlot = null;
+      for (SlotAndBlockRoot inclusion : inclusions.get(producedIndex)) {
+        if ((earliestInclusionSlot == null || inclusion.getSlot().isLessThan(earliestInclusionSlot))
+            && isCanonicalBlock.test(inclusion)) {
+          earliestInclusionSlot = inclusion.getSlot();
+        }
+      }
+      return earliestInclusionSlot == null
+          ? -1
+          : earliestInclusionSlot.minusMinZero(data.getSlot()).intValue();
+    }
+
+    private synchronized void addProduced(final BitSet bits) {
+      if (uniqueProducedBits.add(bits)) {
+        producedBits.add(bits);
+        inclusions.add(new ArrayList<>());
+      }
+    }
+
+    private synchronized void onIncluded(
+        final SlotAndBlockRoot inclusion, final BitSet includedBits) {
+      for (int i = 0; i < producedBits.size(); i++) {
+        if (isSuperSet(includedBits, producedBits.get(i))) {
+          inclusions.get(i).add(inclusion);
+        }
+      }
+    }
+
+    private static boolean isSuperSet(final BitSet superSet, final BitSet subSet) {
+      for (int i = subSet.nextSetBit(0); i >= 0; i = subSet.nextSetBit(i + 1)) {
+        if (!superSet.get(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
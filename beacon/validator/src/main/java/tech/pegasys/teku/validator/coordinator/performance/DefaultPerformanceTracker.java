@@ -22,49 +22,51 @@ import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.IntSummaryStatistics;
 import java.util.List;
-import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.logging.StatusLogger;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
-import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
-import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessage;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.statetransition.block.ReceivedBlockEventsChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.validator.api.ValidatorPerformanceTrackingMode;
 import tech.pegasys.teku.validator.coordinator.ActiveValidatorTracker;
+import tech.pegasys.teku.validator.coordinator.performance.AttestationInclusionTracker.ProducedAttestations;
 
-public class DefaultPerformanceTracker implements PerformanceTracker {
+/**
+ * Tracks block, attestation and sync committee performance of validators attached to this node.
+ *
+ * <p>Attestation inclusion is recorded incrementally as blocks are imported (see {@link
+ * ReceivedBlockEventsChannel}) so epoch reports don't need to load historic blocks. Inclusions are
+ * only counted if the including block is on the canonical chain when the epoch is reported.
+ */
+public class DefaultPerformanceTracker implements PerformanceTracker, ReceivedBlockEventsChannel {
   private static final Logger LOG = LogManager.getLogger();
 
   @VisibleForTesting
   final NavigableMap<UInt64, Set<SlotAndBlockRoot>> producedBlocksByEpoch =
       new ConcurrentSkipListMap<>();
 
-  final NavigableMap<UInt64, Set<Attestation>> producedAttestationsByEpoch =
-      new ConcurrentSkipListMap<>();
-
   final NavigableMap<UInt64, AtomicInteger> blockProductionAttemptsByEpoch =
       new ConcurrentSkipListMap<>();
 
@@ -79,6 +81,8 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
   private final Spec spec;
   private final SettableGauge timingsSettableGauge;
 
+  @VisibleForTesting final AttestationInclusionTracker attestationInclusionTracker;
+
   private volatile Optional<UInt64> nodeStartEpoch = Optional.empty();
   private final AtomicReference<UInt64> latestAnalyzedEpoch = new AtomicReference<>(UInt64.ZERO);
 
@@ -99,6 +103,7 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
     this.syncCommitteePerformanceTracker = syncCommitteePerformanceTracker;
     this.spec = spec;
     this.timingsSettableGauge = timingsSettableGauge;
+    this.attestationInclusionTracker = new AttestationInclusionTracker(spec);
   }
 
   @Override
@@ -208,7 +213,7 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
                 validatorPerformanceMetrics.updateAttestationPerformanceMetrics(
                     attestationPerformance);
               }
-              producedAttestationsByEpoch.headMap(analyzedEpoch, true).clear();
+              attestationInclusionTracker.pruneUpToEpoch(analyzedEpoch);
             });
   }
 
@@ -268,86 +273,64 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
 
     // Attestations can be included in either the epoch they were produced in or in
     // the following epoch. Thus, the most recent epoch for which we can evaluate attestation
-    // performance is current epoch - 2.
-    final UInt64 analysisRangeEndEpoch = analyzedEpoch.plus(ATTESTATION_INCLUSION_RANGE);
-
-    // Get included attestations for the given epochs in a map from slot to attestations
-    // included in block.
-    final SafeFuture<Map<UInt64, List<Attestation>>> attestationsIncludedOnChainFuture =
-        getAttestationsIncludedInEpochs(analyzedEpoch, analysisRangeEndEpoch);
-
-    // Get sent attestations in range
-    final Set<Attestation> producedAttestations =
-        producedAttestationsByEpoch.getOrDefault(analyzedEpoch, Collections.emptySet());
-    return combinedChainDataClient
-        .getBestState()
-        .orElseThrow()
-        .thenCombine(
-            attestationsIncludedOnChainFuture,
-            (state, attestationsIncludedOnChain) ->
-                calculateAttestationPerformance(
-                    analyzedEpoch, state, producedAttestations, attestationsIncludedOnChain));
+    // performance is current epoch - 2. Inclusion has already been recorded as blocks were
+    // imported so only the canonical target and head roots need to be looked up.
+    return SafeFuture.of(() -> calculateAttestationPerformance(analyzedEpoch));
   }
 
-  private AttestationPerformance calculateAttestationPerformance(
-      final UInt64 analyzedEpoch,
-      final BeaconState state,
-      final Set<Attestation> producedAttestations,
-      final Map<UInt64, List<Attestation>> attestationsIncludedOnChain) {
+  private AttestationPerformance calculateAttestationPerformance(final UInt64 analyzedEpoch) {
+    final RecentChainData recentChainData = combinedChainDataClient.getRecentChainData();
+    final Optional<Bytes32> canonicalTargetRoot =
+        recentChainData.getBlockRootInEffectBySlot(spec.computeStartSlotAtEpoch(analyzedEpoch));
     final IntList inclusionDistances = new IntArrayList();
+    int numberOfProducedAttestations = 0;
     int correctTargetCount = 0;
     int correctHeadBlockCount = 0;
-
-    // Pre-process attestations included on chain to group them by
-    // data hash to inclusion slot to aggregation bitlist
-    final Map<Bytes32, NavigableMap<UInt64, SszBitlist>> slotAndBitlistsByAttestationDataHash =
-        new HashMap<>();
-    for (Map.Entry<UInt64, List<Attestation>> entry : attestationsIncludedOnChain.entrySet()) {
-      for (Attestation attestation : entry.getValue()) {
-        final Bytes32 attestationDataHash = attestation.getData().hashTreeRoot();
-        final NavigableMap<UInt64, SszBitlist> slotToBitlists =
-            slotAndBitlistsByAttestationDataHash.computeIfAbsent(
-                attestationDataHash, __ -> new TreeMap<>());
-        slotToBitlists.merge(
-            entry.getKey(), attestation.getAggregationBits(), SszBitlist::nullableOr);
-      }
-    }
-
-    for (Attestation sentAttestation : producedAttestations) {
-      final Bytes32 sentAttestationDataHash = sentAttestation.getData().hashTreeRoot();
-      final UInt64 sentAttestationSlot = sentAttestation.getData().getSlot();
-      if (!slotAndBitlistsByAttestationDataHash.containsKey(sentAttestationDataHash)) {
-        continue;
-      }
-      final NavigableMap<UInt64, SszBitlist> slotAndBitlists =
-          slotAndBitlistsByAttestationDataHash.get(sentAttestationDataHash);
-      for (UInt64 slot : slotAndBitlists.keySet()) {
-        if (slotAndBitlists.get(slot).isSuperSetOf(sentAttestation.getAggregationBits())) {
-          inclusionDistances.add(slot.minus(sentAttestationSlot).intValue());
-          break;
+    final Predicate<SlotAndBlockRoot> isCanonicalBlock =
+        inclusion ->
+            recentChainData
+                .getBlockRootInEffectBySlot(inclusion.getSlot())
+                .map(inclusion.getBlockRoot()::equals)
+                .orElse(false);
+
+    for (ProducedAttestations producedAttestations :
+        attestationInclusionTracker.getProducedAttestations(analyzedEpoch)) {
+      final AttestationData data = producedAttestations.getData();
+      final int producedCount = producedAttestations.getProducedCount();
+      numberOfProducedAttestations += producedCount;
+      for (int i = 0; i < producedCount; i++) {
+        final int inclusionDistance =
+            producedAttestations.getInclusionDistance(i, isCanonicalBlock);
+        if (inclusionDistance >= 0) {
+          inclusionDistances.add(inclusionDistance);
         }
       }
 
-      // Check if the attestation had correct target
-      final Bytes32 attestationTargetRoot = sentAttestation.getData().getTarget().getRoot();
-      if (attestationTargetRoot.equals(spec.getBlockRoot(state, analyzedEpoch))) {
-        correctTargetCount++;
-
-        // Check if the attestation had correct head block root
-        final Bytes32 attestationHeadBlockRoot = sentAttestation.getData().getBeaconBlockRoot();
-        if (attestationHeadBlockRoot.equals(spec.getBlockRootAtSlot(state, sentAttestationSlot))) {
-          correctHeadBlockCount++;
+      // Check if the attestations had correct target
+      if (canonicalTargetRoot.isPresent()
+          && data.getTarget().getRoot().equals(canonicalTargetRoot.get())) {
+        correctTargetCount += producedCount;
+
+        // Check if the attestations had correct head block root
+        if (recentChainData
+            .getBlockRootInEffectBySlot(data.getSlot())
+            .map(data.getBeaconBlockRoot()::equals)
+            .orElse(false)) {
+          correctHeadBlockCount += producedCount;
         }
       }
     }
 
+    if (mode.isMetricsEnabled()) {
+      validatorPerformanceMetrics.recordAttestationInclusionDistances(inclusionDistances);
+    }
+
     final IntSummaryStatistics inclusionDistanceStatistics =
         inclusionDistances.intStream().summaryStatistics();
 
     // IntSummaryStatistics returns Integer.MIN and MAX when the summarized integer list
     // is empty.
-    final int numberOfProducedAttestations = producedAttestations.size();
-    return producedAttestations.size() > 0
+    return numberOfProducedAttestations > 0
         ? new AttestationPerformance(
             analyzedEpoch,
             validatorTracker.getNumberOfValidatorsForEpoch(analyzedEpoch),
@@ -362,61 +345,18 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
             analyzedEpoch, validatorTracker.getNumberOfValidatorsForEpoch(analyzedEpoch));
   }
 
-  private SafeFuture<Set<BeaconBlock>> getBlocksInEpochs(
-      final UInt64 startEpochInclusive, final UInt64 endEpochExclusive) {
-    final UInt64 epochStartSlot = spec.computeStartSlotAtEpoch(startEpochInclusive);
-    final UInt64 inclusiveEndEpochEndSlot =
-        spec.computeStartSlotAtEpoch(endEpochExclusive).decrement();
-
-    final Set<BeaconBlock> blocksInEpoch = new HashSet<>();
-    final AtomicReference<UInt64> currSlot = new AtomicReference<>(inclusiveEndEpochEndSlot);
-    return SafeFuture.asyncDoWhile(
-            () -> fillBlockInEffectAtSlot(blocksInEpoch, epochStartSlot, currSlot))
-        .thenApply(__ -> blocksInEpoch);
-  }
-
-  private SafeFuture<Boolean> fillBlockInEffectAtSlot(
-      final Set<BeaconBlock> blocksInEpoch,
-      final UInt64 epochStartSlot,
-      final AtomicReference<UInt64> currSlot) {
-    if (currSlot.get().isGreaterThanOrEqualTo(epochStartSlot)) {
-      return combinedChainDataClient
-          .getBlockInEffectAtSlot(currSlot.get())
-          .thenApply(maybeSignedBlock -> maybeSignedBlock.map(SignedBeaconBlock::getMessage))
-          .thenPeek(
-              maybeBlock ->
-                  maybeBlock.ifPresent(
-                      block -> {
-                        blocksInEpoch.add(block);
-                        currSlot.set(currSlot.get().minusMinZero(1));
-                      }))
-          .thenApply(
-              maybeBlock ->
-                  maybeBlock.map(block -> !block.getSlot().equals(UInt64.ZERO)).orElse(false));
-
-    } else {
-      return SafeFuture.completedFuture(false);
-    }
-  }
+  @Override
+  public void onBlockValidated(final SignedBeaconBlock block) {}
 
-  private SafeFuture<Map<UInt64, List<Attestation>>> getAttestationsIncludedInEpochs(
-      final UInt64 startEpochInclusive, final UInt64 endEpochExclusive) {
-    return getBlocksInEpochs(startEpochInclusive, endEpochExclusive)
-        .thenApply(
-            beaconBlocks ->
-                beaconBlocks.stream()
-                    .collect(
-                        Collectors.toMap(
-                            BeaconBlock::getSlot,
-                            block -> block.getBody().getAttestations().asList())));
+  @Override
+  public void onBlockImported(final SignedBeaconBlock block, final boolean executionOptimistic) {
+    attestationInclusionTracker.onAttestationsIncluded(
+        block.getRoot(), block.getSlot(), block.getMessage().getBody().getAttestations());
   }
 
   @Override
   public void saveProducedAttestation(final Attestation attestation) {
-    final UInt64 epoch = spec.computeEpochAtSlot(attestation.getData().getSlot());
-    final Set<Attestation> attestationsInEpoch =
-        producedAttestationsByEpoch.computeIfAbsent(epoch, __ -> concurrentSet());
-    attestationsInEpoch.add(attestation);
+    attestationInclusionTracker.onAttestationProduced(attestation);
   }
 
   @Override
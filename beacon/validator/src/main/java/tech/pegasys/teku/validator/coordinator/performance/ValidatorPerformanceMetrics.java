@@ -13,7 +13,10 @@
 
 package tech.pegasys.teku.validator.coordinator.performance;
 
+import it.unimi.dsi.fastutil.ints.IntList;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 
@@ -28,6 +31,7 @@ public class ValidatorPerformanceMetrics {
   private final SettableGauge inclusionDistanceAverage;
   private final SettableGauge correctTargetCount;
   private final SettableGauge correctHeadBlockCount;
+  private final LabelledMetric<Counter> inclusionDistanceCounter;
 
   // Block Performance Metrics
   private final SettableGauge numberOfExpectedBlocks;
@@ -91,6 +95,12 @@ public class ValidatorPerformanceMetrics {
             TekuMetricCategory.VALIDATOR_PERFORMANCE,
             "correct_head_block_count",
             "Correct head block count");
+    inclusionDistanceCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.VALIDATOR_PERFORMANCE,
+            "attestation_inclusion_distance_total",
+            "Number of included attestations by inclusion distance",
+            "distance");
 
     // Block Performance Metrics
     numberOfExpectedBlocks =
@@ -151,6 +161,11 @@ public class ValidatorPerformanceMetrics {
     correctHeadBlockCount.set(attestationPerformance.correctHeadBlockCount);
   }
 
+  public void recordAttestationInclusionDistances(final IntList inclusionDistances) {
+    inclusionDistances.forEach(
+        distance -> inclusionDistanceCounter.labels(Integer.toString(distance)).inc());
+  }
+
   public void updateBlockPerformanceMetrics(final BlockPerformance blockPerformance) {
     numberOfExpectedBlocks.set(blockPerformance.numberOfExpectedBlocks);
     numberOfProducedBlocks.set(blockPerformance.numberOfProducedBlocks);
@@ -0,0 +1,198 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator.duties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuty;
+import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfig;
+import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.ReorgContext;
+
+class AttesterDutyTableCacheTest {
+  private static final UInt64 EPOCH = UInt64.valueOf(2);
+
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final AttesterDutyTableCache cache = new AttesterDutyTableCache(spec);
+  private final BeaconState state = createStateWithActiveValidators();
+
+  @Test
+  void table_shouldMatchCommitteeAssignments() {
+    final AttesterDutyTable table = AttesterDutyTable.create(spec, state, EPOCH);
+    final Int2ObjectMap<CommitteeAssignment> assignments =
+        spec.getValidatorIndexToCommitteeAssignmentMap(state, EPOCH);
+    final int committeesAtSlot = spec.getCommitteeCountPerSlot(state, EPOCH).intValue();
+    final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+
+    assertThat(table.getValidatorCount()).isEqualTo(state.getValidators().size());
+    for (int i = 0; i < state.getValidators().size(); i++) {
+      final CommitteeAssignment assignment = assignments.get(i);
+      assertThat(table.getAttesterDuty(i, publicKey))
+          .contains(
+              new AttesterDuty(
+                  publicKey,
+                  i,
+                  assignment.committee().size(),
+                  assignment.committeeIndex().intValue(),
+                  committeesAtSlot,
+                  assignment.committee().indexOf(i),
+                  assignment.slot()));
+    }
+  }
+
+  @Test
+  void table_shouldReturnEmptyForUnknownValidator() {
+    final AttesterDutyTable table = AttesterDutyTable.create(spec, state, EPOCH);
+    final int unknownIndex = state.getValidators().size();
+
+    assertThat(table.hasAssignment(unknownIndex)).isFalse();
+    assertThat(table.getAttesterDuty(unknownIndex, dataStructureUtil.randomPublicKey())).isEmpty();
+  }
+
+  @Test
+  void get_shouldOnlyCreateTableOncePerKey() {
+    final Bytes32 dependentRoot = dataStructureUtil.randomBytes32();
+    final AtomicInteger created = new AtomicInteger();
+
+    final AttesterDutyTable first = cache.get(EPOCH, dependentRoot, () -> createTable(created));
+    final AttesterDutyTable second = cache.get(EPOCH, dependentRoot, () -> createTable(created));
+
+    assertThat(second).isSameAs(first);
+    assertThat(created).hasValue(1);
+
+    cache.get(EPOCH, dataStructureUtil.randomBytes32(), () -> createTable(created));
+    assertThat(created).hasValue(2);
+  }
+
+  @Test
+  void chainHeadUpdated_shouldRemoveNonCanonicalTablesOnReorg() {
+    final Bytes32 previousDependentRoot = dataStructureUtil.randomBytes32();
+    final Bytes32 currentDependentRoot = dataStructureUtil.randomBytes32();
+    final Bytes32 orphanedDependentRoot = dataStructureUtil.randomBytes32();
+    cache.get(EPOCH, previousDependentRoot, this::createTable);
+    cache.get(EPOCH.plus(1), currentDependentRoot, this::createTable);
+    cache.get(EPOCH.plus(1), orphanedDependentRoot, this::createTable);
+
+    headUpdated(
+        spec.computeStartSlotAtEpoch(EPOCH).plus(1),
+        false,
+        previousDependentRoot,
+        currentDependentRoot,
+        Optional.of(
+            new ReorgContext(
+                dataStructureUtil.randomBytes32(),
+                ZERO,
+                dataStructureUtil.randomBytes32(),
+                ZERO,
+                dataStructureUtil.randomBytes32())));
+
+    assertThat(cache.getCached(EPOCH, previousDependentRoot)).isPresent();
+    assertThat(cache.getCached(EPOCH.plus(1), currentDependentRoot)).isPresent();
+    assertThat(cache.getCached(EPOCH.plus(1), orphanedDependentRoot)).isEmpty();
+  }
+
+  @Test
+  void chainHeadUpdated_shouldKeepTablesWhenNoReorg() {
+    final Bytes32 dependentRoot = dataStructureUtil.randomBytes32();
+    cache.get(EPOCH, dependentRoot, this::createTable);
+
+    headUpdated(
+        spec.computeStartSlotAtEpoch(EPOCH).plus(1),
+        false,
+        dataStructureUtil.randomBytes32(),
+        dataStructureUtil.randomBytes32(),
+        Optional.empty());
+
+    assertThat(cache.getCached(EPOCH, dependentRoot)).isPresent();
+  }
+
+  @Test
+  void chainHeadUpdated_shouldPruneTablesOlderThanPreviousEpoch() {
+    final Bytes32 dependentRoot = dataStructureUtil.randomBytes32();
+    cache.get(EPOCH, dependentRoot, this::createTable);
+    cache.get(EPOCH.plus(1), dependentRoot, this::createTable);
+
+    headUpdated(
+        spec.computeStartSlotAtEpoch(EPOCH.plus(2)),
+        true,
+        dependentRoot,
+        dependentRoot,
+        Optional.empty());
+
+    assertThat(cache.getCached(EPOCH, dependentRoot)).isEmpty();
+    assertThat(cache.getCached(EPOCH.plus(1), dependentRoot)).isPresent();
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  private void headUpdated(
+      final UInt64 slot,
+      final boolean epochTransition,
+      final Bytes32 previousDependentRoot,
+      final Bytes32 currentDependentRoot,
+      final Optional<ReorgContext> reorgContext) {
+    cache.chainHeadUpdated(
+        slot,
+        dataStructureUtil.randomBytes32(),
+        dataStructureUtil.randomBytes32(),
+        epochTransition,
+        false,
+        previousDependentRoot,
+        currentDependentRoot,
+        reorgContext);
+  }
+
+  private AttesterDutyTable createTable() {
+    return AttesterDutyTable.create(spec, state, EPOCH);
+  }
+
+  private AttesterDutyTable createTable(final AtomicInteger created) {
+    created.incrementAndGet();
+    return createTable();
+  }
+
+  private BeaconState createStateWithActiveValidators() {
+    return dataStructureUtil
+        .randomBeaconState(32)
+        .updated(
+            state -> {
+              state.setSlot(spec.computeStartSlotAtEpoch(EPOCH.minus(1)));
+              final SszMutableList<Validator> validators = state.getValidators();
+              for (int i = 0; i < validators.size(); i++) {
+                validators.update(
+                    i,
+                    validator ->
+                        validator
+                            .withActivationEligibilityEpoch(ZERO)
+                            .withActivationEpoch(ZERO)
+                            .withExitEpoch(SpecConfig.FAR_FUTURE_EPOCH)
+                            .withWithdrawableEpoch(SpecConfig.FAR_FUTURE_EPOCH));
+              }
+            });
+  }
+}
@@ -129,12 +129,12 @@ public class DefaultPerformanceTrackerTest {
 
     ChainBuilder.BlockOptions block1Options = ChainBuilder.BlockOptions.create();
     Attestation attestation1 = createAttestation(2, 1);
+    performanceTracker.saveProducedAttestation(attestation1);
     block1Options.addAttestation(attestation1);
     SignedBlockAndState latestBlockAndState = chainBuilder.generateBlockAtSlot(2, block1Options);
-    chainUpdater.saveBlock(latestBlockAndState);
+    importBlock(latestBlockAndState);
     chainUpdater.updateBestBlock(latestBlockAndState);
 
-    performanceTracker.saveProducedAttestation(attestation1);
     when(validatorTracker.getNumberOfValidatorsForEpoch(any())).thenReturn(1);
 
     UInt64 slot = spec.computeStartSlotAtEpoch(ATTESTATION_INCLUSION_RANGE);
@@ -152,20 +152,20 @@ public class DefaultPerformanceTrackerTest {
 
     ChainBuilder.BlockOptions block1Options = ChainBuilder.BlockOptions.create();
     Attestation attestation1 = createAttestation(2, 1);
+    performanceTracker.saveProducedAttestation(attestation1);
     block1Options.addAttestation(attestation1);
     SignedBlockAndState blockAndState1 = chainBuilder.generateBlockAtSlot(2, block1Options);
-    chainUpdater.saveBlock(blockAndState1);
+    importBlock(blockAndState1);
     chainUpdater.updateBestBlock(blockAndState1);
 
     ChainBuilder.BlockOptions block2Options = ChainBuilder.BlockOptions.create();
     Attestation attestation2 = createAttestation(4, 2);
+    performanceTracker.saveProducedAttestation(attestation2);
     block2Options.addAttestation(attestation2);
     SignedBlockAndState blockAndState2 = chainBuilder.generateBlockAtSlot(4, block2Options);
-    chainUpdater.saveBlock(blockAndState2);
+    importBlock(blockAndState2);
     chainUpdater.updateBestBlock(blockAndState2);
 
-    performanceTracker.saveProducedAttestation(attestation1);
-    performanceTracker.saveProducedAttestation(attestation2);
     when(validatorTracker.getNumberOfValidatorsForEpoch(any())).thenReturn(2);
     UInt64 slot = spec.computeStartSlotAtEpoch(ATTESTATION_INCLUSION_RANGE);
     performanceTracker.onSlot(slot);
@@ -186,23 +186,22 @@ public class DefaultPerformanceTrackerTest {
     chainUpdater.updateBestBlock(chainUpdater.advanceChainUntil(8));
     ChainBuilder.BlockOptions block1Options = ChainBuilder.BlockOptions.create();
     Attestation attestation1 = createAttestation(9, 8);
+    performanceTracker.saveProducedAttestation(attestation1);
     block1Options.addAttestation(attestation1);
     SignedBlockAndState blockAndState1 = chainBuilder.generateBlockAtSlot(9, block1Options);
-    chainUpdater.saveBlock(blockAndState1);
+    importBlock(blockAndState1);
     chainUpdater.updateBestBlock(blockAndState1);
 
     chainUpdaterFork.advanceChain(6);
     chainUpdaterFork.advanceChainUntil(9);
     ChainBuilder.BlockOptions block2Options = ChainBuilder.BlockOptions.create();
     Attestation attestation2 = createAttestation(chainBuilderFork, 10, 9);
+    performanceTracker.saveProducedAttestation(attestation2);
     block2Options.addAttestation(attestation2);
     SignedBlockAndState blockAndState2 = chainBuilder.generateBlockAtSlot(10, block2Options);
-    chainUpdater.saveBlock(blockAndState2);
+    importBlock(blockAndState2);
     chainUpdater.updateBestBlock(blockAndState2);
 
-    performanceTracker.saveProducedAttestation(attestation1);
-    performanceTracker.saveProducedAttestation(attestation2);
-
     when(validatorTracker.getNumberOfValidatorsForEpoch(any())).thenReturn(2);
 
     UInt64 slot = spec.computeStartSlotAtEpoch(ATTESTATION_INCLUSION_RANGE.plus(1));
@@ -225,9 +224,10 @@ public class DefaultPerformanceTrackerTest {
     chainUpdater.updateBestBlock(chainUpdater.advanceChainUntil(9));
     ChainBuilder.BlockOptions block1Options = ChainBuilder.BlockOptions.create();
     Attestation attestation1 = createAttestation(10, 9);
+    performanceTracker.saveProducedAttestation(attestation1);
     block1Options.addAttestation(attestation1);
     SignedBlockAndState blockAndState1 = chainBuilder.generateBlockAtSlot(10, block1Options);
-    chainUpdater.saveBlock(blockAndState1);
+    importBlock(blockAndState1);
     chainUpdater.updateBestBlock(blockAndState1);
 
     SignedBlockAndState blockAndState = chainUpdaterFork.advanceChainUntil(8);
@@ -236,13 +236,12 @@ public class DefaultPerformanceTrackerTest {
         new AttestationGenerator(spec, chainBuilder.getValidatorKeys());
     Attestation attestation2 =
         attestationGenerator.validAttestation(blockAndState.toUnsigned(), UInt64.valueOf(9));
+    performanceTracker.saveProducedAttestation(attestation2);
     block2Options.addAttestation(attestation2);
     SignedBlockAndState blockAndState2 = chainBuilder.generateBlockAtSlot(11, block2Options);
-    chainUpdater.saveBlock(blockAndState2);
+    importBlock(blockAndState2);
     chainUpdater.updateBestBlock(blockAndState2);
 
-    performanceTracker.saveProducedAttestation(attestation1);
-    performanceTracker.saveProducedAttestation(attestation2);
     when(validatorTracker.getNumberOfValidatorsForEpoch(any())).thenReturn(2);
 
     UInt64 slot = spec.computeStartSlotAtEpoch(ATTESTATION_INCLUSION_RANGE.plus(1));
@@ -268,7 +267,8 @@ public class DefaultPerformanceTrackerTest {
                 dataStructureUtil.randomAttestationData(UInt64.ONE),
                 BLSTestUtil.randomSignature(0)));
     performanceTracker.onSlot(spec.computeStartSlotAtEpoch(UInt64.valueOf(2)));
-    assertThat(performanceTracker.producedAttestationsByEpoch).isEmpty();
+    assertThat(performanceTracker.attestationInclusionTracker.producedAttestationsByEpoch)
+        .isEmpty();
     assertThat(performanceTracker.producedBlocksByEpoch).isEmpty();
     assertThat(performanceTracker.blockProductionAttemptsByEpoch).isEmpty();
   }
@@ -279,18 +279,18 @@ public class DefaultPerformanceTrackerTest {
 
     ChainBuilder.BlockOptions block1Options = ChainBuilder.BlockOptions.create();
     Attestation attestation1 = createAttestation(2, 1);
+    performanceTracker.saveProducedAttestation(attestation1);
     block1Options.addAttestation(attestation1);
     SignedBlockAndState blockAndState1 = chainBuilder.generateBlockAtSlot(2, block1Options);
-    chainUpdater.saveBlock(blockAndState1);
+    importBlock(blockAndState1);
     chainUpdater.updateBestBlock(blockAndState1);
 
     ChainBuilder.BlockOptions block2Options = ChainBuilder.BlockOptions.create();
     block2Options.addAttestation(attestation1);
     SignedBlockAndState blockAndState2 = chainBuilder.generateBlockAtSlot(4, block2Options);
-    chainUpdater.saveBlock(blockAndState2);
+    importBlock(blockAndState2);
     chainUpdater.updateBestBlock(blockAndState2);
 
-    performanceTracker.saveProducedAttestation(attestation1);
     when(validatorTracker.getNumberOfValidatorsForEpoch(any())).thenReturn(1);
 
     UInt64 slot = spec.computeStartSlotAtEpoch(ATTESTATION_INCLUSION_RANGE);
@@ -317,14 +317,14 @@ public class DefaultPerformanceTrackerTest {
             .findFirst()
             .orElseThrow();
 
+    performanceTracker.saveProducedAttestation(attestation1);
+    performanceTracker.saveProducedAttestation(attestation2);
     block1Options.addAttestation(attestation1);
     block1Options.addAttestation(attestation2);
     SignedBlockAndState blockAndState1 = chainBuilder.generateBlockAtSlot(2, block1Options);
-    chainUpdater.saveBlock(blockAndState1);
+    importBlock(blockAndState1);
     chainUpdater.updateBestBlock(blockAndState1);
 
-    performanceTracker.saveProducedAttestation(attestation1);
-    performanceTracker.saveProducedAttestation(attestation2);
     when(validatorTracker.getNumberOfValidatorsForEpoch(any())).thenReturn(2);
 
     UInt64 slot = spec.computeStartSlotAtEpoch(ATTESTATION_INCLUSION_RANGE);
@@ -384,6 +384,144 @@ public class DefaultPerformanceTrackerTest {
     }
   }
 
+  @Test
+  void shouldUseEarliestInclusionWhenBlocksImportedOutOfOrder() {
+    chainUpdater.updateBestBlock(chainUpdater.advanceChainUntil(1));
+
+    Attestation attestation1 = createAttestation(2, 1);
+    performanceTracker.saveProducedAttestation(attestation1);
+
+    ChainBuilder.BlockOptions block1Options = ChainBuilder.BlockOptions.create();
+    block1Options.addAttestation(attestation1);
+    SignedBlockAndState blockAndState1 = chainBuilder.generateBlockAtSlot(2, block1Options);
+    ChainBuilder.BlockOptions block2Options = ChainBuilder.BlockOptions.create();
+    block2Options.addAttestation(attestation1);
+    SignedBlockAndState blockAndState2 = chainBuilder.generateBlockAtSlot(4, block2Options);
+
+    importBlock(blockAndState2);
+    importBlock(blockAndState1);
+    chainUpdater.updateBestBlock(blockAndState2);
+    when(validatorTracker.getNumberOfValidatorsForEpoch(any())).thenReturn(1);
+
+    UInt64 slot = spec.computeStartSlotAtEpoch(ATTESTATION_INCLUSION_RANGE);
+    performanceTracker.onSlot(slot);
+    UInt64 attestationEpoch = spec.computeEpochAtSlot(slot).minus(ATTESTATION_INCLUSION_RANGE);
+    AttestationPerformance expectedAttestationPerformance =
+        new AttestationPerformance(attestationEpoch, 1, 1, 1, 1, 1, 1, 1, 1);
+    verify(log).performance(expectedAttestationPerformance.toString());
+  }
+
+  @Test
+  void shouldNotCountAttestationAsIncludedWhenBlockOnlyHasPartOfItsBits() {
+    chainUpdater.updateBestBlock(chainUpdater.advanceChainUntil(1));
+
+    Attestation attestation1 = createAttestation(2, 1);
+    Attestation attestation2 =
+        chainBuilder
+            .streamValidAttestationsForBlockAtSlot(2)
+            .filter(
+                a ->
+                    a.getData().equals(attestation1.getData())
+                        && !a.getAggregationBits().equals(attestation1.getAggregationBits()))
+            .findFirst()
+            .orElseThrow();
+    final Attestation aggregate =
+        spec.getGenesisSchemaDefinitions()
+            .getAttestationSchema()
+            .create(
+                attestation1.getAggregationBits().or(attestation2.getAggregationBits()),
+                attestation1.getData(),
+                attestation1.getAggregateSignature());
+    performanceTracker.saveProducedAttestation(aggregate);
+
+    ChainBuilder.BlockOptions block1Options = ChainBuilder.BlockOptions.create();
+    block1Options.addAttestation(attestation1);
+    SignedBlockAndState blockAndState1 = chainBuilder.generateBlockAtSlot(2, block1Options);
+    importBlock(blockAndState1);
+    chainUpdater.updateBestBlock(blockAndState1);
+    when(validatorTracker.getNumberOfValidatorsForEpoch(any())).thenReturn(2);
+
+    UInt64 slot = spec.computeStartSlotAtEpoch(ATTESTATION_INCLUSION_RANGE);
+    performanceTracker.onSlot(slot);
+    UInt64 attestationEpoch = spec.computeEpochAtSlot(slot).minus(ATTESTATION_INCLUSION_RANGE);
+    AttestationPerformance expectedAttestationPerformance =
+        new AttestationPerformance(
+            attestationEpoch, 2, 1, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, 0, 1, 1);
+    verify(log).performance(expectedAttestationPerformance.toString());
+  }
+
+  @Test
+  void shouldIgnoreInclusionsInOrphanedBlocks() {
+    chainUpdater.updateBestBlock(chainUpdater.advanceChainUntil(1));
+
+    ChainBuilder chainBuilderFork = chainBuilder.fork();
+    ChainUpdater chainUpdaterFork =
+        new ChainUpdater(storageSystem.recentChainData(), chainBuilderFork);
+
+    Attestation attestation1 = createAttestation(2, 1);
+    performanceTracker.saveProducedAttestation(attestation1);
+
+    ChainBuilder.BlockOptions forkBlockOptions = ChainBuilder.BlockOptions.create();
+    forkBlockOptions.addAttestation(attestation1);
+    SignedBlockAndState forkBlockAndState =
+        chainBuilderFork.generateBlockAtSlot(2, forkBlockOptions);
+    importBlock(chainUpdaterFork, forkBlockAndState);
+    chainUpdaterFork.updateBestBlock(forkBlockAndState);
+
+    ChainBuilder.BlockOptions block1Options = ChainBuilder.BlockOptions.create();
+    block1Options.addAttestation(attestation1);
+    SignedBlockAndState blockAndState1 = chainBuilder.generateBlockAtSlot(4, block1Options);
+    importBlock(blockAndState1);
+    chainUpdater.updateBestBlock(blockAndState1);
+    when(validatorTracker.getNumberOfValidatorsForEpoch(any())).thenReturn(1);
+
+    UInt64 slot = spec.computeStartSlotAtEpoch(ATTESTATION_INCLUSION_RANGE);
+    performanceTracker.onSlot(slot);
+    UInt64 attestationEpoch = spec.computeEpochAtSlot(slot).minus(ATTESTATION_INCLUSION_RANGE);
+    AttestationPerformance expectedAttestationPerformance =
+        new AttestationPerformance(attestationEpoch, 1, 1, 1, 3, 3, 3, 1, 1);
+    verify(log).performance(expectedAttestationPerformance.toString());
+  }
+
+  @Test
+  void shouldNotCountAttestationAsIncludedWhenOnlyIncludedInOrphanedBlock() {
+    chainUpdater.updateBestBlock(chainUpdater.advanceChainUntil(1));
+
+    ChainBuilder chainBuilderFork = chainBuilder.fork();
+    ChainUpdater chainUpdaterFork =
+        new ChainUpdater(storageSystem.recentChainData(), chainBuilderFork);
+
+    Attestation attestation1 = createAttestation(2, 1);
+    performanceTracker.saveProducedAttestation(attestation1);
+
+    ChainBuilder.BlockOptions forkBlockOptions = ChainBuilder.BlockOptions.create();
+    forkBlockOptions.addAttestation(attestation1);
+    SignedBlockAndState forkBlockAndState =
+        chainBuilderFork.generateBlockAtSlot(2, forkBlockOptions);
+    importBlock(chainUpdaterFork, forkBlockAndState);
+    chainUpdaterFork.updateBestBlock(forkBlockAndState);
+
+    chainUpdater.updateBestBlock(chainUpdater.advanceChainUntil(4));
+    when(validatorTracker.getNumberOfValidatorsForEpoch(any())).thenReturn(1);
+
+    UInt64 slot = spec.computeStartSlotAtEpoch(ATTESTATION_INCLUSION_RANGE);
+    performanceTracker.onSlot(slot);
+    UInt64 attestationEpoch = spec.computeEpochAtSlot(slot).minus(ATTESTATION_INCLUSION_RANGE);
+    AttestationPerformance expectedAttestationPerformance =
+        new AttestationPerformance(
+            attestationEpoch, 1, 1, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, 0, 1, 1);
+    verify(log).performance(expectedAttestationPerformance.toString());
+  }
+
+  private void importBlock(final SignedBlockAndState blockAndState) {
+    importBlock(chainUpdater, blockAndState);
+  }
+
+  private void importBlock(final ChainUpdater updater, final SignedBlockAndState blockAndState) {
+    updater.saveBlock(blockAndState);
+    performanceTracker.onBlockImported(blockAndState.getBlock(), false);
+  }
+
   /**
    * Creates an attestation voting for block on the slot provided. The attestation will be included
    * in block slot + 1.
@@ -396,7 +534,7 @@ public class DefaultPerformanceTrackerTest {
     ChainBuilder.BlockOptions block2Options = ChainBuilder.BlockOptions.create();
     block2Options.addAttestation(attestationForBlock1);
     SignedBlockAndState latestBlockAndState = chainBuilder.generateBlockAtSlot(2, block2Options);
-    chainUpdater.saveBlock(latestBlockAndState);
+    importBlock(latestBlockAndState);
     chainUpdater.updateBestBlock(latestBlockAndState);
     return attestationForBlock1;
   }
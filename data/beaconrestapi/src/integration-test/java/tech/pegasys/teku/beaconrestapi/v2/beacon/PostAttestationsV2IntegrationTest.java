@@ -38,6 +38,7 @@ import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.TestSpecContext;
 import tech.pegasys.teku.spec.TestSpecInvocationContextProvider;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.schemas.ApiSchemas;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.validator.api.SubmitDataError;
 
@@ -81,6 +82,30 @@ public class PostAttestationsV2IntegrationTest extends AbstractDataBackedRestAPI
     assertThat(response.body().string()).isEmpty();
   }
 
+  @TestTemplate
+  void shouldPostAttestationsAsSsz() throws Exception {
+    final List<Attestation> attestations =
+        List.of(dataStructureUtil.randomAttestation(), dataStructureUtil.randomAttestation());
+
+    when(validatorApiChannel.sendSignedAttestations(attestations))
+        .thenReturn(SafeFuture.completedFuture(Collections.emptyList()));
+
+    final byte[] sszAttestations =
+        ApiSchemas.createPoolSubmissionsSchema(
+                spec.getGenesisSchemaDefinitions().getAttestationSchema())
+            .createFromElements(attestations)
+            .sszSerialize()
+            .toArrayUnsafe();
+    final Response response =
+        postSsz(
+            PostAttestationsV2.ROUTE,
+            sszAttestations,
+            Optional.of(specMilestone.name().toLowerCase(Locale.ROOT)));
+
+    assertThat(response.code()).isEqualTo(SC_OK);
+    assertThat(response.body().string()).isEmpty();
+  }
+
   @TestTemplate
   void shouldPartiallyPostAttestations_ReturnsErrors() throws Exception {
     final SubmitDataError firstSubmitDataError =
@@ -36,6 +36,9 @@ public class BeaconRestApiConfig {
   public static final List<String> DEFAULT_REST_API_CORS_ALLOWED_ORIGINS = new ArrayList<>();
   public static final boolean DEFAULT_BEACON_LIVENESS_TRACKING_ENABLED = false;
   public static final int DEFAULT_TARGET_VALIDATORS_API_THREADS = 10;
+  public static final int DEFAULT_STORED_REWARD_EPOCHS = 0;
+  public static final int DEFAULT_RESPONSE_CACHE_MAX_MB = 64;
+  public static final int DEFAULT_STATE_SERIALIZATION_CACHE_MAX_MB = 0;
 
   // Beacon REST API
   private final int restApiPort;
@@ -50,6 +53,9 @@ public class BeaconRestApiConfig {
   private final int maxUrlLength;
   private final int maxPendingEvents;
   private final Optional<Integer> validatorThreads;
+  private final int storedRewardEpochs;
+  private final int responseCacheMaxMb;
+  private final int stateSerializationCacheMaxMb;
 
   private BeaconRestApiConfig(
       final int restApiPort,
@@ -63,7 +69,10 @@ public class BeaconRestApiConfig {
       final int maxUrlLength,
       final int maxPendingEvents,
       final Optional<Integer> validatorThreads,
-      final boolean beaconLivenessTrackingEnabled) {
+      final boolean beaconLivenessTrackingEnabled,
+      final int storedRewardEpochs,
+      final int responseCacheMaxMb,
+      final int stateSerializationCacheMaxMb) {
     this.restApiPort = restApiPort;
     this.restApiDocsEnabled = restApiDocsEnabled;
     this.restApiEnabled = restApiEnabled;
@@ -76,6 +85,9 @@ public class BeaconRestApiConfig {
     this.maxPendingEvents = maxPendingEvents;
     this.validatorThreads = validatorThreads;
     this.beaconLivenessTrackingEnabled = beaconLivenessTrackingEnabled;
+    this.storedRewardEpochs = storedRewardEpochs;
+    this.responseCacheMaxMb = responseCacheMaxMb;
+    this.stateSerializationCacheMaxMb = stateSerializationCacheMaxMb;
   }
 
   public int getRestApiPort() {
@@ -98,6 +110,30 @@ public class BeaconRestApiConfig {
     return beaconLivenessTrackingEnabled;
   }
 
+  /**
+   * The number of finalized epochs to keep reward deltas recorded during epoch processing for. When
+   * zero, deltas are not recorded and rewards are calculated from regenerated states.
+   */
+  public int getStoredRewardEpochs() {
+    return storedRewardEpochs;
+  }
+
+  /**
+   * The maximum size in megabytes of the encoded finalized responses kept in the response cache.
+   * When zero, responses are not cached.
+   */
+  public int getResponseCacheMaxMb() {
+    return responseCacheMaxMb;
+  }
+
+  /**
+   * The maximum size in megabytes of the subtree bytes kept to speed up serializing consecutive
+   * states as SSZ. When zero, the cache is disabled.
+   */
+  public int getStateSerializationCacheMaxMb() {
+    return stateSerializationCacheMaxMb;
+  }
+
   public String getRestApiInterface() {
     return restApiInterface;
   }
@@ -153,6 +189,9 @@ public class BeaconRestApiConfig {
     private List<String> restApiCorsAllowedOrigins = DEFAULT_REST_API_CORS_ALLOWED_ORIGINS;
     private int maxPendingEvents = DEFAULT_MAX_EVENT_QUEUE_SIZE;
     private int maxUrlLength = DEFAULT_MAX_URL_LENGTH;
+    private int storedRewardEpochs = DEFAULT_STORED_REWARD_EPOCHS;
+    private int responseCacheMaxMb = DEFAULT_RESPONSE_CACHE_MAX_MB;
+    private int stateSerializationCacheMaxMb = DEFAULT_STATE_SERIALIZATION_CACHE_MAX_MB;
     private Optional<Integer> validatorThreads = Optional.empty();
     private Eth1Address eth1DepositContractAddress;
 
@@ -230,6 +269,38 @@ public class BeaconRestApiConfig {
       return this;
     }
 
+    public BeaconRestApiConfigBuilder storedRewardEpochs(final int storedRewardEpochs) {
+      if (storedRewardEpochs < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid storedRewardEpochs: %d should not be negative", storedRewardEpochs));
+      }
+      this.storedRewardEpochs = storedRewardEpochs;
+      return this;
+    }
+
+    public BeaconRestApiConfigBuilder responseCacheMaxMb(final int responseCacheMaxMb) {
+      if (responseCacheMaxMb < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid responseCacheMaxMb: %d should not be negative", responseCacheMaxMb));
+      }
+      this.responseCacheMaxMb = responseCacheMaxMb;
+      return this;
+    }
+
+    public BeaconRestApiConfigBuilder stateSerializationCacheMaxMb(
+        final int stateSerializationCacheMaxMb) {
+      if (stateSerializationCacheMaxMb < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid stateSerializationCacheMaxMb: %d should not be negative",
+                stateSerializationCacheMaxMb));
+      }
+      this.stateSerializationCacheMaxMb = stateSerializationCacheMaxMb;
+      return this;
+    }
+
     public BeaconRestApiConfigBuilder validatorThreads(final Optional<Integer> validatorThreads) {
       validatorThreads.ifPresent(
           threads -> {
@@ -261,7 +332,10 @@ public class BeaconRestApiConfig {
           maxUrlLength,
           maxPendingEvents,
           validatorThreads,
-          beaconLivenessTrackingEnabled);
+          beaconLivenessTrackingEnabled,
+          storedRewardEpochs,
+          responseCacheMaxMb,
+          stateSerializationCacheMaxMb);
     }
 
     public BeaconRestApiConfigBuilder maxUrlLength(final int maxUrlLength) {
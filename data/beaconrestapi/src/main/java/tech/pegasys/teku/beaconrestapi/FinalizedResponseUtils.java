@@ -0,0 +1,45 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi;
+
+import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.CacheLength;
+import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
+
+public class FinalizedResponseUtils {
+
+  /**
+   * Creates an OK response which may be cached as immutable when the data is finalized and the
+   * request identified it by root or slot. Named identifiers like {@code head} or {@code finalized}
+   * resolve to different data over time so are never cached. Execution optimistic data is never
+   * cached either, as the {@code execution_optimistic} flag in the response will change once the
+   * payload is verified.
+   */
+  public static AsyncApiResponse respondOk(
+      final String blockOrStateId, final ObjectAndMetaData<?> objectAndMetaData) {
+    if (objectAndMetaData.isFinalized()
+        && !objectAndMetaData.isExecutionOptimistic()
+        && isImmutableId(blockOrStateId)) {
+      return AsyncApiResponse.respondOk(objectAndMetaData, CacheLength.FINALIZED);
+    }
+    return AsyncApiResponse.respondOk(objectAndMetaData);
+  }
+
+  static boolean isImmutableId(final String blockOrStateId) {
+    if (blockOrStateId.startsWith("0x")) {
+      return true;
+    }
+    return !blockOrStateId.isEmpty() && blockOrStateId.chars().allMatch(Character::isDigit);
+  }
+}
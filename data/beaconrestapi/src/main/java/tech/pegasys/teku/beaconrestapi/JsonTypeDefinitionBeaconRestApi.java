@@ -18,7 +18,9 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORT
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.List;
+import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
 import tech.pegasys.teku.api.exceptions.ServiceUnavailableException;
@@ -37,6 +39,7 @@ import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.beacon.GetFinalizedStateS
 import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.beacon.GetProposersData;
 import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.beacon.GetStateByBlockRoot;
 import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.node.GetPeersScore;
+import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.validator.GetValidatorLivenessBitfield;
 import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.validatorInclusion.GetGlobalValidatorInclusion;
 import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.validatorInclusion.GetValidatorInclusion;
 import tech.pegasys.teku.beaconrestapi.handlers.v1.beacon.GetAttestations;
@@ -120,6 +123,8 @@ import tech.pegasys.teku.infrastructure.http.ContentTypeNotSupportedException;
 import tech.pegasys.teku.infrastructure.http.HttpErrorResponse;
 import tech.pegasys.teku.infrastructure.restapi.RestApi;
 import tech.pegasys.teku.infrastructure.restapi.RestApiBuilder;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.FinalizedResponseCache;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszSerializationCache;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.version.VersionProvider;
 import tech.pegasys.teku.spec.Spec;
@@ -140,10 +145,18 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     restApi =
         create(
-            config, dataProvider, eth1DataProvider, eventChannels, asyncRunner, timeProvider, spec);
+            config,
+            dataProvider,
+            eth1DataProvider,
+            eventChannels,
+            asyncRunner,
+            timeProvider,
+            metricsSystem,
+            spec);
   }
 
   @Override
@@ -168,8 +181,15 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     final SchemaDefinitionCache schemaCache = new SchemaDefinitionCache(spec);
+    final Optional<SszSerializationCache> stateSerializationCache =
+        config.getStateSerializationCacheMaxMb() > 0
+            ? Optional.of(
+                new SszSerializationCache(
+                    (long) config.getStateSerializationCacheMaxMb() * 1024 * 1024))
+            : Optional.empty();
     RestApiBuilder builder =
         new RestApiBuilder()
             .openApiInfo(
@@ -300,7 +320,7 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
             .endpoint(new GetSpec(dataProvider))
             // Debug Handlers
             .endpoint(new GetChainHeadsV2(dataProvider))
-            .endpoint(new GetState(dataProvider, schemaCache))
+            .endpoint(new GetState(dataProvider, schemaCache, stateSerializationCache))
             .endpoint(new GetForkChoice(dataProvider))
             // Teku Specific Handlers
             .endpoint(new PutLogLevel())
@@ -316,7 +336,15 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
             .endpoint(new GetEth1VotingSummary(dataProvider, eth1DataProvider))
             .endpoint(new GetGlobalValidatorInclusion(dataProvider))
             .endpoint(new GetFinalizedStateSlotBefore(dataProvider))
-            .endpoint(new GetValidatorInclusion(dataProvider));
+            .endpoint(new GetValidatorInclusion(dataProvider))
+            .endpoint(new GetValidatorLivenessBitfield(dataProvider));
+
+    if (config.getResponseCacheMaxMb() > 0) {
+      builder =
+          builder.responseCache(
+              new FinalizedResponseCache(
+                  metricsSystem, (long) config.getResponseCacheMaxMb() * 1024 * 1024));
+    }
 
     builder = applyAddons(builder, config, spec, dataProvider, schemaCache);
     return builder.build();
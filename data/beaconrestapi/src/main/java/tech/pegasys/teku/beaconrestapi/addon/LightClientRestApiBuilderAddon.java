@@ -45,6 +45,6 @@ public class LightClientRestApiBuilderAddon implements RestApiBuilderAddon {
   public RestApiBuilder apply(final RestApiBuilder builder) {
     return builder
         .endpoint(new GetLightClientBootstrap(dataProvider, schemaCache))
-        .endpoint(new GetLightClientUpdatesByRange(schemaCache));
+        .endpoint(new GetLightClientUpdatesByRange(dataProvider, schemaCache));
   }
 }
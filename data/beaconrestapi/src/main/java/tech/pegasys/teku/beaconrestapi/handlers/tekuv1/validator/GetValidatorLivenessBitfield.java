@@ -0,0 +1,100 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package tech.pegasys.teku.beaconrestapi.handlers.tekuv1.validator;
+
+import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.EPOCH_PARAMETER;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NO_CONTENT;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_EXPERIMENTAL;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_TEKU;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.function.Function;
+import tech.pegasys.teku.api.ChainDataProvider;
+import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.api.NodeDataProvider;
+import tech.pegasys.teku.api.SyncDataProvider;
+import tech.pegasys.teku.api.exceptions.ServiceUnavailableException;
+import tech.pegasys.teku.api.migrated.ValidatorLivenessBitfield;
+import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class GetValidatorLivenessBitfield extends RestApiEndpoint {
+  public static final String ROUTE = "/teku/v1/validator/liveness/{epoch}";
+
+  private static final SerializableTypeDefinition<ValidatorLivenessBitfield> RESPONSE_TYPE =
+      SerializableTypeDefinition.<ValidatorLivenessBitfield>object()
+          .name("GetValidatorLivenessBitfieldResponse")
+          .withField(
+              "data", ValidatorLivenessBitfield.getJsonTypeDefinition(), Function.identity())
+          .build();
+
+  private final ChainDataProvider chainDataProvider;
+  private final NodeDataProvider nodeDataProvider;
+  private final SyncDataProvider syncDataProvider;
+
+  public GetValidatorLivenessBitfield(final DataProvider provider) {
+    this(
+        provider.getChainDataProvider(),
+        provider.getNodeDataProvider(),
+        provider.getSyncDataProvider());
+  }
+
+  public GetValidatorLivenessBitfield(
+      final ChainDataProvider chainDataProvider,
+      final NodeDataProvider nodeDataProvider,
+      final SyncDataProvider syncDataProvider) {
+    super(
+        EndpointMetadata.get(ROUTE)
+            .operationId("getValidatorLivenessBitfield")
+            .summary("Get liveness of all validators as a bitfield")
+            .description(
+                "Returns the liveness of every validator at the given epoch as a bitfield indexed by"
+                    + " validator index, from the same source as the standard liveness endpoint."
+                    + " Unlike that endpoint, the size of the request does not grow with the"
+                    + " number of validators being checked.")
+            .tags(TAG_TEKU, TAG_EXPERIMENTAL)
+            .pathParam(EPOCH_PARAMETER)
+            .response(SC_OK, "Request successful", RESPONSE_TYPE)
+            .response(
+                SC_NO_CONTENT, "Data is unavailable because the chain has not yet reached genesis")
+            .withServiceUnavailableResponse()
+            .build());
+    this.chainDataProvider = chainDataProvider;
+    this.nodeDataProvider = nodeDataProvider;
+    this.syncDataProvider = syncDataProvider;
+  }
+
+  @Override
+  public void handleRequest(final RestApiRequest request) throws JsonProcessingException {
+    if (!chainDataProvider.isStoreAvailable() || syncDataProvider.isSyncing()) {
+      throw new ServiceUnavailableException();
+    }
+
+    final UInt64 epoch = request.getPathParameter(EPOCH_PARAMETER);
+    request.respondAsync(
+        nodeDataProvider
+            .getValidatorLivenessBitfield(epoch, chainDataProvider.getCurrentEpoch())
+            .thenApply(
+                maybeBitfield ->
+                    maybeBitfield
+                        .map(AsyncApiResponse::respondOk)
+                        .orElse(AsyncApiResponse.respondServiceUnavailable())));
+  }
+}
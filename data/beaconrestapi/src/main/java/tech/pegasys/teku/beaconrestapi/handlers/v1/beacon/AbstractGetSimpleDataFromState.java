@@ -18,6 +18,7 @@ import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.PARAMETER_STATE
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.Optional;
 import tech.pegasys.teku.api.ChainDataProvider;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseUtils;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
@@ -37,13 +38,16 @@ public abstract class AbstractGetSimpleDataFromState extends RestApiEndpoint {
 
   @Override
   public void handleRequest(final RestApiRequest request) throws JsonProcessingException {
+    final String stateId = request.getPathParameter(PARAMETER_STATE_ID);
     final SafeFuture<Optional<StateAndMetaData>> future =
-        chainDataProvider.getBeaconStateAndMetadata(request.getPathParameter(PARAMETER_STATE_ID));
+        chainDataProvider.getBeaconStateAndMetadata(stateId);
     request.respondAsync(
         future.thenApply(
             maybeStateAndMetadata ->
                 maybeStateAndMetadata
-                    .map(AsyncApiResponse::respondOk)
+                    .map(
+                        stateAndMetaData ->
+                            FinalizedResponseUtils.respondOk(stateId, stateAndMetaData))
                     .orElseGet(AsyncApiResponse::respondNotFound)));
   }
 }
@@ -32,6 +32,7 @@ import java.util.Optional;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.schema.Version;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseUtils;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
@@ -88,8 +89,9 @@ public class GetBlobSidecars extends RestApiEndpoint {
   @Override
   public void handleRequest(final RestApiRequest request) throws JsonProcessingException {
     final List<UInt64> indices = request.getQueryParameterList(BLOB_INDICES_PARAMETER);
+    final String blockId = request.getPathParameter(PARAMETER_BLOCK_ID);
     final SafeFuture<Optional<BlobSidecarsAndMetaData>> future =
-        chainDataProvider.getBlobSidecars(request.getPathParameter(PARAMETER_BLOCK_ID), indices);
+        chainDataProvider.getBlobSidecars(blockId, indices);
     request.respondAsync(
         future.thenApply(
             maybeBlobSidecars ->
@@ -99,7 +101,7 @@ public class GetBlobSidecars extends RestApiEndpoint {
                           request.header(
                               HEADER_CONSENSUS_VERSION,
                               Version.fromMilestone(blobSidecarsAndMetaData.getMilestone()).name());
-                          return AsyncApiResponse.respondOk(blobSidecarsAndMetaData);
+                          return FinalizedResponseUtils.respondOk(blockId, blobSidecarsAndMetaData);
                         })
                     .orElse(AsyncApiResponse.respondNotFound())));
   }
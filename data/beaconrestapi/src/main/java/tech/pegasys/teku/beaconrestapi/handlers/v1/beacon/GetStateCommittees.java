@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.Optional;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseUtils;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
@@ -96,15 +97,17 @@ public class GetStateCommittees extends RestApiEndpoint {
     final Optional<UInt64> slot =
         request.getOptionalQueryParameter(SLOT_PARAMETER.withDescription(SLOT_QUERY_DESCRIPTION));
 
+    final String stateId = request.getPathParameter(PARAMETER_STATE_ID);
     final SafeFuture<Optional<ObjectAndMetaData<List<CommitteeAssignment>>>> future =
-        chainDataProvider.getStateCommittees(
-            request.getPathParameter(PARAMETER_STATE_ID), epoch, committeeIndex, slot);
+        chainDataProvider.getStateCommittees(stateId, epoch, committeeIndex, slot);
 
     request.respondAsync(
         future.thenApply(
             maybeListObjectAndMetaData ->
                 maybeListObjectAndMetaData
-                    .map(AsyncApiResponse::respondOk)
+                    .map(
+                        committeesAndMetaData ->
+                            FinalizedResponseUtils.respondOk(stateId, committeesAndMetaData))
                     .orElse(AsyncApiResponse.respondNotFound())));
   }
 }
@@ -16,11 +16,14 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.beacon;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_CONSENSUS_VERSION;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
 import tech.pegasys.teku.infrastructure.json.types.CoreTypes;
@@ -28,9 +31,12 @@ import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.json.types.SerializableOneOfTypeDefinition;
 import tech.pegasys.teku.infrastructure.json.types.SerializableOneOfTypeDefinitionBuilder;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.schemas.ApiSchemas;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionCache;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
 
@@ -112,6 +118,44 @@ public class MilestoneDependentTypesUtil {
     }
   }
 
+  /**
+   * Creates a parser for SSZ encoded lists of objects submitted to the pools, selecting the schema
+   * based on the consensus version header.
+   */
+  public static <T extends SszData>
+      BiFunction<Bytes, Optional<String>, List<T>> headerBasedSszListParser(
+          final SchemaDefinitionCache schemaDefinitionCache,
+          final Function<SchemaDefinitions, ? extends SszSchema<T>> getSchema) {
+    final Map<SpecMilestone, SszListSchema<T, ? extends SszList<T>>> listSchemas =
+        new EnumMap<>(SpecMilestone.class);
+    for (SpecMilestone milestone : schemaDefinitionCache.getSupportedMilestones()) {
+      listSchemas.put(
+          milestone,
+          ApiSchemas.createPoolSubmissionsSchema(
+              getSchema.apply(schemaDefinitionCache.getSchemaDefinition(milestone))));
+    }
+    return (bytes, consensusVersion) -> {
+      final String version =
+          consensusVersion.orElseThrow(
+              () ->
+                  new BadRequestException(
+                      String.format(
+                          "Missing required header value for (%s)", HEADER_CONSENSUS_VERSION)));
+      final SszListSchema<T, ? extends SszList<T>> listSchema;
+      try {
+        listSchema = listSchemas.get(SpecMilestone.forName(version));
+      } catch (final IllegalArgumentException e) {
+        throw new BadRequestException(
+            String.format("Invalid value for (%s) header: %s", HEADER_CONSENSUS_VERSION, version));
+      }
+      if (listSchema == null) {
+        throw new BadRequestException(
+            String.format("Invalid value for (%s) header: %s", HEADER_CONSENSUS_VERSION, version));
+      }
+      return listSchema.sszDeserialize(bytes).asList();
+    };
+  }
+
   private static <T extends SszData> DeserializableTypeDefinition<? extends T> slotBasedSelector(
       final String json,
       final SchemaDefinitionCache schemaDefinitionCache,
@@ -16,6 +16,7 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.beacon.lightclient;
 import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.COUNT_PARAMETER;
 import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.START_PERIOD_PARAMETER;
 import static tech.pegasys.teku.ethereum.json.types.EthereumTypes.MILESTONE_TYPE;
+import static tech.pegasys.teku.infrastructure.http.ContentTypes.OCTET_STREAM;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_BEACON;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_EXPERIMENTAL;
@@ -23,24 +24,42 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_EXPERIM
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.Collections;
 import java.util.List;
+import tech.pegasys.teku.api.ChainDataProvider;
+import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.JsonResponseContentTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.OctetStreamResponseContentTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.ResponseContentTypeDefinition;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszBytes4;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdateResponse;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdateResponseSchema;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionCache;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionsAltair;
+import tech.pegasys.teku.storage.client.ChainDataUnavailableException;
 
 public class GetLightClientUpdatesByRange extends RestApiEndpoint {
   public static final String ROUTE = "/eth/v1/beacon/light_client/updates";
+  private final ChainDataProvider chainDataProvider;
+  private final SchemaDefinitionCache schemaDefinitionCache;
 
-  public GetLightClientUpdatesByRange(final SchemaDefinitionCache schemaDefinitionCache) {
+  public GetLightClientUpdatesByRange(
+      final DataProvider provider, final SchemaDefinitionCache schemaDefinitionCache) {
+    this(provider.getChainDataProvider(), schemaDefinitionCache);
+  }
+
+  public GetLightClientUpdatesByRange(
+      final ChainDataProvider chainDataProvider,
+      final SchemaDefinitionCache schemaDefinitionCache) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getLightClientUpdatesByRange")
@@ -55,13 +74,48 @@ public class GetLightClientUpdatesByRange extends RestApiEndpoint {
                 "Request successful",
                 List.of(getJsonResponseType(schemaDefinitionCache), getSszResponseType()))
             .withNotAcceptedResponse()
-            .withNotImplementedResponse()
             .build());
+    this.chainDataProvider = chainDataProvider;
+    this.schemaDefinitionCache = schemaDefinitionCache;
   }
 
   @Override
   public void handleRequest(final RestApiRequest request) throws JsonProcessingException {
-    request.respondError(501, "Not implemented");
+    final UInt64 startPeriod = request.getQueryParameter(START_PERIOD_PARAMETER);
+    final UInt64 count = request.getQueryParameter(COUNT_PARAMETER);
+    final boolean ssz = OCTET_STREAM.equals(request.getResponseContentType(SC_OK));
+
+    request.respondAsync(
+        chainDataProvider
+            .getLightClientUpdates(startPeriod, count)
+            .thenApply(
+                updates ->
+                    ssz
+                        ? AsyncApiResponse.respondOk(toSszResponses(updates))
+                        : AsyncApiResponse.respondOk(updates)));
+  }
+
+  private List<LightClientUpdateResponse> toSszResponses(
+      final List<ObjectAndMetaData<LightClientUpdate>> updates) {
+    return updates.stream()
+        .map(
+            update -> {
+              final LightClientUpdateResponseSchema schema =
+                  SchemaDefinitionsAltair.required(
+                          schemaDefinitionCache.getSchemaDefinition(update.getMilestone()))
+                      .getLightClientUpdateResponseSchema();
+              final Bytes4 forkDigest =
+                  chainDataProvider
+                      .getForkDigest(update.getMilestone())
+                      .orElseThrow(ChainDataUnavailableException::new);
+              // The chunk length covers the 4 byte context and the payload
+              final long chunkLength = Bytes4.SIZE + update.getData().getSszSize();
+              return schema.create(
+                  SszUInt64.of(UInt64.valueOf(chunkLength)),
+                  SszBytes4.of(forkDigest),
+                  update.getData());
+            })
+        .toList();
   }
 
   private static ResponseContentTypeDefinition<List<ObjectAndMetaData<LightClientUpdate>>>
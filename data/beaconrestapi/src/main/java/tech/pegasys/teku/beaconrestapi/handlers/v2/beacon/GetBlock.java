@@ -29,6 +29,7 @@ import java.util.Optional;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.schema.Version;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseUtils;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
@@ -72,8 +73,9 @@ public class GetBlock extends RestApiEndpoint {
 
   @Override
   public void handleRequest(final RestApiRequest request) throws JsonProcessingException {
+    final String blockId = request.getPathParameter(PARAMETER_BLOCK_ID);
     final SafeFuture<Optional<ObjectAndMetaData<SignedBeaconBlock>>> future =
-        chainDataProvider.getBlock(request.getPathParameter(PARAMETER_BLOCK_ID));
+        chainDataProvider.getBlock(blockId);
 
     request.respondAsync(
         future.thenApply(
@@ -84,7 +86,7 @@ public class GetBlock extends RestApiEndpoint {
                           request.header(
                               HEADER_CONSENSUS_VERSION,
                               Version.fromMilestone(blockAndMetaData.getMilestone()).name());
-                          return AsyncApiResponse.respondOk(blockAndMetaData);
+                          return FinalizedResponseUtils.respondOk(blockId, blockAndMetaData);
                         })
                     .orElseGet(AsyncApiResponse::respondNotFound)));
   }
@@ -17,6 +17,7 @@ import static tech.pegasys.teku.api.ValidatorDataProvider.PARTIAL_PUBLISH_FAILUR
 import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.ETH_CONSENSUS_VERSION_TYPE;
 import static tech.pegasys.teku.beaconrestapi.handlers.v1.beacon.MilestoneDependentTypesUtil.getSchemaDefinitionForAllSupportedMilestones;
 import static tech.pegasys.teku.beaconrestapi.handlers.v1.beacon.MilestoneDependentTypesUtil.headerBasedSelector;
+import static tech.pegasys.teku.beaconrestapi.handlers.v1.beacon.MilestoneDependentTypesUtil.headerBasedSszListParser;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_BEACON;
@@ -111,7 +112,10 @@ public class PostAttestationsV2 extends RestApiEndpoint {
                 + "If one or more attestations fail validation, the node MUST return a 400 error with details of which attestations have failed, and why.")
         .tags(TAG_BEACON, TAG_VALIDATOR_REQUIRED, TAG_EXPERIMENTAL)
         .requestBodyType(
-            SerializableTypeDefinition.listOf(attestationSchemaDefinition), attestationBodySelector)
+            SerializableTypeDefinition.listOf(attestationSchemaDefinition),
+            attestationBodySelector,
+            headerBasedSszListParser(
+                schemaDefinitionCache, SchemaDefinitions::getAttestationSchema))
         .headerRequired(
             ETH_CONSENSUS_VERSION_TYPE.withDescription(
                 "Version of the attestations being submitted."))
@@ -36,6 +36,7 @@ import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszSerializationCache;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
 import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionCache;
@@ -46,13 +47,22 @@ public class GetState extends RestApiEndpoint {
   private final ChainDataProvider chainDataProvider;
 
   public GetState(
-      final DataProvider dataProvider, final SchemaDefinitionCache schemaDefinitionCache) {
-    this(dataProvider.getChainDataProvider(), schemaDefinitionCache);
+      final DataProvider dataProvider,
+      final SchemaDefinitionCache schemaDefinitionCache,
+      final Optional<SszSerializationCache> serializationCache) {
+    this(dataProvider.getChainDataProvider(), schemaDefinitionCache, serializationCache);
   }
 
   public GetState(
       final ChainDataProvider chainDataProvider,
       final SchemaDefinitionCache schemaDefinitionCache) {
+    this(chainDataProvider, schemaDefinitionCache, Optional.empty());
+  }
+
+  public GetState(
+      final ChainDataProvider chainDataProvider,
+      final SchemaDefinitionCache schemaDefinitionCache,
+      final Optional<SszSerializationCache> serializationCache) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getStateV2")
@@ -66,7 +76,7 @@ public class GetState extends RestApiEndpoint {
                 SC_OK,
                 "Request successful",
                 getResponseType(schemaDefinitionCache),
-                sszResponseType(),
+                sszResponseType(serializationCache),
                 ETH_CONSENSUS_HEADER_TYPE)
             .withNotFoundResponse()
             .withChainDataResponses()
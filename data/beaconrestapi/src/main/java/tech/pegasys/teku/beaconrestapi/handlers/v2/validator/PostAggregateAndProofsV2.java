@@ -17,6 +17,7 @@ import static tech.pegasys.teku.api.ValidatorDataProvider.PARTIAL_PUBLISH_FAILUR
 import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.ETH_CONSENSUS_VERSION_TYPE;
 import static tech.pegasys.teku.beaconrestapi.handlers.v1.beacon.MilestoneDependentTypesUtil.getSchemaDefinitionForAllSupportedMilestones;
 import static tech.pegasys.teku.beaconrestapi.handlers.v1.beacon.MilestoneDependentTypesUtil.headerBasedSelector;
+import static tech.pegasys.teku.beaconrestapi.handlers.v1.beacon.MilestoneDependentTypesUtil.headerBasedSszListParser;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR;
@@ -109,7 +110,9 @@ public class PostAggregateAndProofsV2 extends RestApiEndpoint {
         .tags(TAG_VALIDATOR, TAG_VALIDATOR_REQUIRED)
         .requestBodyType(
             SerializableTypeDefinition.listOf(signedAggregateAndProofSchemaDefinition),
-            aggregateAndProofBodySelector)
+            aggregateAndProofBodySelector,
+            headerBasedSszListParser(
+                schemaDefinitionCache, SchemaDefinitions::getSignedAggregateAndProofSchema))
         .headerRequired(
             ETH_CONSENSUS_VERSION_TYPE.withDescription(
                 "Version of the aggregate and proofs being submitted."))
@@ -0,0 +1,62 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.CacheLength;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
+
+class FinalizedResponseUtilsTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"0", "12345", "0x6fb5a8d5b7a14c3d"})
+  void shouldMarkFinalizedDataRequestedByRootOrSlotAsCacheable(final String id) {
+    final AsyncApiResponse response = FinalizedResponseUtils.respondOk(id, metaData(true));
+    assertThat(response.getCacheLength()).contains(CacheLength.FINALIZED);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"head", "finalized", "justified", "genesis", ""})
+  void shouldNotMarkNamedIdsAsCacheable(final String id) {
+    final AsyncApiResponse response = FinalizedResponseUtils.respondOk(id, metaData(true));
+    assertThat(response.getCacheLength()).isEmpty();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"0", "0x1234"})
+  void shouldNotMarkNonFinalizedDataAsCacheable(final String id) {
+    final AsyncApiResponse response = FinalizedResponseUtils.respondOk(id, metaData(false));
+    assertThat(response.getCacheLength()).isEmpty();
+    assertThat(response.getResponseBody()).isEqualTo(Optional.of(metaData(false)));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"0", "0x1234"})
+  void shouldNotMarkExecutionOptimisticDataAsCacheable(final String id) {
+    final ObjectAndMetaData<String> optimisticMetaData =
+        new ObjectAndMetaData<>("data", SpecMilestone.BELLATRIX, true, true, true);
+    final AsyncApiResponse response = FinalizedResponseUtils.respondOk(id, optimisticMetaData);
+    assertThat(response.getCacheLength()).isEmpty();
+  }
+
+  private ObjectAndMetaData<String> metaData(final boolean finalized) {
+    return new ObjectAndMetaData<>("data", SpecMilestone.PHASE0, false, true, finalized);
+  }
+}
@@ -58,6 +58,8 @@ class GetBlockTest extends AbstractMigratedBeaconHandlerWithChainDataProviderTes
 
     assertThat(request.getResponseCode()).isEqualTo(SC_OK);
     assertThat(request.getResponseBody()).isEqualTo(blockAndMetaData);
+    // head may change so must not be cached as an immutable response
+    assertThat(request.getCacheLength()).isNull();
   }
 
   @Test
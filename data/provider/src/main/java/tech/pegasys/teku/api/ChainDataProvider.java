@@ -33,6 +33,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.bytes.Bytes48;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.blobselector.BlobSidecarSelectorFactory;
 import tech.pegasys.teku.api.blockselector.BlockSelectorFactory;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
@@ -47,11 +48,14 @@ import tech.pegasys.teku.api.migrated.SyncCommitteeRewardData;
 import tech.pegasys.teku.api.response.v1.beacon.GenesisData;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.api.rewards.EpochAttestationRewardsCalculator;
+import tech.pegasys.teku.api.rewards.EpochRewardsStore;
 import tech.pegasys.teku.api.stateselector.StateSelectorFactory;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.ethereum.json.types.beacon.StateValidatorData;
+import tech.pegasys.teku.infrastructure.async.InFlightRequestCoalescer;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.ssz.Merkleizable;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -63,6 +67,7 @@ import tech.pegasys.teku.spec.datastructures.execution.versions.capella.Withdraw
 import tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeData;
 import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyForkChoiceStrategy;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.metadata.BlobSidecarsAndMetaData;
 import tech.pegasys.teku.spec.datastructures.metadata.BlockAndMetaData;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
@@ -71,6 +76,7 @@ import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
 import tech.pegasys.teku.spec.datastructures.state.SyncCommittee;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardDeltas;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.SlotProcessingException;
@@ -80,6 +86,9 @@ import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class ChainDataProvider {
   private static final Logger LOG = LogManager.getLogger();
+  private static final UInt64 MAX_REQUEST_LIGHT_CLIENT_UPDATES = UInt64.valueOf(128);
+  private static final int MAX_CONCURRENT_STATE_LOADS = 4;
+  private static final int MAX_CONCURRENT_STATE_QUERIES = 16;
   private final BlockSelectorFactory blockSelectorFactory;
   private final StateSelectorFactory stateSelectorFactory;
   private final BlobSidecarSelectorFactory blobSidecarSelectorFactory;
@@ -87,12 +96,23 @@ public class ChainDataProvider {
   private final CombinedChainDataClient combinedChainDataClient;
   private final RecentChainData recentChainData;
   private final RewardCalculator rewardCalculator;
+  private final Optional<EpochRewardsStore> epochRewardsStore;
+  private final Optional<InFlightRequestCoalescer<StateQueryKey, Object>> stateQueryCoalescer;
 
   public ChainDataProvider(
       final Spec spec,
       final RecentChainData recentChainData,
       final CombinedChainDataClient combinedChainDataClient,
       final RewardCalculator rewardCalculator) {
+    this(spec, recentChainData, combinedChainDataClient, rewardCalculator, Optional.empty());
+  }
+
+  public ChainDataProvider(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final CombinedChainDataClient combinedChainDataClient,
+      final RewardCalculator rewardCalculator,
+      final Optional<EpochRewardsStore> epochRewardsStore) {
     this(
         spec,
         recentChainData,
@@ -100,7 +120,44 @@ public class ChainDataProvider {
         new BlockSelectorFactory(spec, combinedChainDataClient),
         new StateSelectorFactory(spec, combinedChainDataClient),
         new BlobSidecarSelectorFactory(spec, combinedChainDataClient),
-        rewardCalculator);
+        rewardCalculator,
+        epochRewardsStore);
+  }
+
+  /**
+   * Creates a provider where concurrent REST requests for the same state, or the same data derived
+   * from a state, share a single in-flight load instead of each loading it independently.
+   */
+  public ChainDataProvider(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final CombinedChainDataClient combinedChainDataClient,
+      final RewardCalculator rewardCalculator,
+      final Optional<EpochRewardsStore> epochRewardsStore,
+      final MetricsSystem metricsSystem) {
+    this(
+        spec,
+        recentChainData,
+        combinedChainDataClient,
+        new BlockSelectorFactory(spec, combinedChainDataClient),
+        new StateSelectorFactory(
+            spec,
+            combinedChainDataClient,
+            Optional.of(
+                InFlightRequestCoalescer.create(
+                    MAX_CONCURRENT_STATE_LOADS,
+                    metricsSystem,
+                    TekuMetricCategory.BEACON,
+                    "rest_api_state_loads"))),
+        new BlobSidecarSelectorFactory(spec, combinedChainDataClient),
+        rewardCalculator,
+        epochRewardsStore,
+        Optional.of(
+            InFlightRequestCoalescer.create(
+                MAX_CONCURRENT_STATE_QUERIES,
+                metricsSystem,
+                TekuMetricCategory.BEACON,
+                "rest_api_state_queries")));
   }
 
   @VisibleForTesting
@@ -112,6 +169,50 @@ public class ChainDataProvider {
       final StateSelectorFactory stateSelectorFactory,
       final BlobSidecarSelectorFactory blobSidecarSelectorFactory,
       final RewardCalculator rewardCalculator) {
+    this(
+        spec,
+        recentChainData,
+        combinedChainDataClient,
+        blockSelectorFactory,
+        stateSelectorFactory,
+        blobSidecarSelectorFactory,
+        rewardCalculator,
+        Optional.empty());
+  }
+
+  @VisibleForTesting
+  ChainDataProvider(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final CombinedChainDataClient combinedChainDataClient,
+      final BlockSelectorFactory blockSelectorFactory,
+      final StateSelectorFactory stateSelectorFactory,
+      final BlobSidecarSelectorFactory blobSidecarSelectorFactory,
+      final RewardCalculator rewardCalculator,
+      final Optional<EpochRewardsStore> epochRewardsStore) {
+    this(
+        spec,
+        recentChainData,
+        combinedChainDataClient,
+        blockSelectorFactory,
+        stateSelectorFactory,
+        blobSidecarSelectorFactory,
+        rewardCalculator,
+        epochRewardsStore,
+        Optional.empty());
+  }
+
+  @VisibleForTesting
+  ChainDataProvider(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final CombinedChainDataClient combinedChainDataClient,
+      final BlockSelectorFactory blockSelectorFactory,
+      final StateSelectorFactory stateSelectorFactory,
+      final BlobSidecarSelectorFactory blobSidecarSelectorFactory,
+      final RewardCalculator rewardCalculator,
+      final Optional<EpochRewardsStore> epochRewardsStore,
+      final Optional<InFlightRequestCoalescer<StateQueryKey, Object>> stateQueryCoalescer) {
     this.spec = spec;
     this.combinedChainDataClient = combinedChainDataClient;
     this.recentChainData = recentChainData;
@@ -119,6 +220,8 @@ public class ChainDataProvider {
     this.stateSelectorFactory = stateSelectorFactory;
     this.blobSidecarSelectorFactory = blobSidecarSelectorFactory;
     this.rewardCalculator = rewardCalculator;
+    this.epochRewardsStore = epochRewardsStore;
+    this.stateQueryCoalescer = stateQueryCoalescer;
   }
 
   public UInt64 getCurrentEpoch(final BeaconState state) {
@@ -287,7 +390,11 @@ public class ChainDataProvider {
 
   public SafeFuture<Optional<ObjectAndMetaData<List<StateValidatorBalanceData>>>>
       getStateValidatorBalances(final String stateIdParam, final List<String> validators) {
-    return fromState(stateIdParam, state -> getValidatorBalancesFromState(state, validators));
+    return fromState(
+        stateIdParam,
+        "validator_balances",
+        List.of(validators),
+        state -> getValidatorBalancesFromState(state, validators));
   }
 
   @VisibleForTesting
@@ -335,12 +442,16 @@ public class ChainDataProvider {
       final List<String> validators,
       final Set<ValidatorStatus> statusFilter) {
     return fromState(
-        stateIdParam, state -> getFilteredValidatorList(state, validators, statusFilter));
+        stateIdParam,
+        "validators",
+        List.of(validators, statusFilter),
+        state -> getFilteredValidatorList(state, validators, statusFilter));
   }
 
   public SafeFuture<Optional<ObjectAndMetaData<Optional<Bytes32>>>> getRandaoAtEpoch(
       final String stateIdParam, final Optional<UInt64> epoch) {
-    return fromState(stateIdParam, state -> getRandaoAtEpochFromState(state, epoch));
+    return fromState(
+        stateIdParam, "randao", List.of(epoch), state -> getRandaoAtEpochFromState(state, epoch));
   }
 
   @VisibleForTesting
@@ -395,7 +506,10 @@ public class ChainDataProvider {
       final Optional<UInt64> committeeIndex,
       final Optional<UInt64> slot) {
     return fromState(
-        stateIdParam, state -> getCommitteesFromState(state, epoch, committeeIndex, slot));
+        stateIdParam,
+        "committees",
+        List.of(epoch, committeeIndex, slot),
+        state -> getCommitteesFromState(state, epoch, committeeIndex, slot));
   }
 
   public SafeFuture<Optional<ValidatorStatuses>> getValidatorInclusionAtEpoch(final UInt64 epoch) {
@@ -498,10 +612,33 @@ public class ChainDataProvider {
 
   public SafeFuture<Optional<ObjectAndMetaData<LightClientBootstrap>>> getLightClientBoostrap(
       final Bytes32 blockRootParam) {
-    return stateSelectorFactory
-        .blockRootSelector(blockRootParam)
-        .getState()
-        .thenApply(maybeStateData -> maybeStateData.flatMap(this::getLightClientBootstrap));
+    return combinedChainDataClient
+        .getLightClientBootstrap(blockRootParam)
+        .thenCompose(
+            maybeBootstrap -> {
+              if (maybeBootstrap.isPresent()) {
+                return SafeFuture.completedFuture(
+                    maybeBootstrap.map(
+                        bootstrap -> storedBootstrapWithMetaData(blockRootParam, bootstrap)));
+              }
+              return stateSelectorFactory
+                  .blockRootSelector(blockRootParam)
+                  .getState()
+                  .thenApply(
+                      maybeStateData -> maybeStateData.flatMap(this::getLightClientBootstrap));
+            });
+  }
+
+  private ObjectAndMetaData<LightClientBootstrap> storedBootstrapWithMetaData(
+      final Bytes32 blockRoot, final LightClientBootstrap bootstrap) {
+    final UInt64 slot = bootstrap.getLightClientHeader().getBeacon().getSlot();
+    // Bootstraps are only stored for finalized checkpoints
+    return new ObjectAndMetaData<>(
+        bootstrap,
+        spec.atSlot(slot).getMilestone(),
+        combinedChainDataClient.isOptimisticBlock(blockRoot),
+        true,
+        true);
   }
 
   private Optional<ObjectAndMetaData<LightClientBootstrap>> getLightClientBootstrap(
@@ -510,9 +647,44 @@ public class ChainDataProvider {
         .map(clientUtil -> stateAndMetaData.map(clientUtil::getLightClientBootstrap));
   }
 
+  /**
+   * Returns the best known light client update for each sync committee period in {@code
+   * [startPeriod, startPeriod + count)} from the updates precomputed during block import.
+   */
+  public SafeFuture<List<ObjectAndMetaData<LightClientUpdate>>> getLightClientUpdates(
+      final UInt64 startPeriod, final UInt64 count) {
+    if (count.isZero()) {
+      return SafeFuture.completedFuture(emptyList());
+    }
+    final UInt64 endPeriod =
+        startPeriod.plus(count.min(MAX_REQUEST_LIGHT_CLIENT_UPDATES)).minusMinZero(1);
+    return combinedChainDataClient
+        .getLightClientUpdates(startPeriod, endPeriod)
+        .thenApply(updates -> updates.stream().map(this::lightClientUpdateWithMetaData).toList());
+  }
+
+  public Optional<Bytes4> getForkDigest(final SpecMilestone milestone) {
+    return recentChainData.getForkDigestByMilestone(milestone);
+  }
+
+  private ObjectAndMetaData<LightClientUpdate> lightClientUpdateWithMetaData(
+      final LightClientUpdate update) {
+    final UInt64 slot = update.getAttestedHeader().getBeacon().getSlot();
+    return new ObjectAndMetaData<>(
+        update,
+        spec.atSlot(slot).getMilestone(),
+        combinedChainDataClient.isChainHeadOptimistic(),
+        true,
+        combinedChainDataClient.isFinalized(slot));
+  }
+
   public SafeFuture<Optional<ObjectAndMetaData<StateSyncCommitteesData>>> getStateSyncCommittees(
       final String stateIdParam, final Optional<UInt64> epoch) {
-    return fromState(stateIdParam, state -> getSyncCommitteesFromState(state, epoch));
+    return fromState(
+        stateIdParam,
+        "sync_committees",
+        List.of(epoch),
+        state -> getSyncCommitteesFromState(state, epoch));
   }
 
   private StateSyncCommitteesData getSyncCommitteesFromState(
@@ -605,6 +777,95 @@ public class ChainDataProvider {
           "Can't calculate attestation rewards for for epoch " + epoch + " pre Altair");
     }
 
+    if (epochRewardsStore.isPresent()) {
+      return getRecordedAttestationRewards(epochRewardsStore.get(), epoch, slot, validatorsPubKeys)
+          .thenCompose(
+              maybeRewards ->
+                  maybeRewards.isPresent()
+                      ? SafeFuture.completedFuture(maybeRewards)
+                      : calculateAttestationRewardsFromState(slot, validatorsPubKeys));
+    }
+    return calculateAttestationRewardsFromState(slot, validatorsPubKeys);
+  }
+
+  private SafeFuture<Optional<GetAttestationRewardsResponse>> getRecordedAttestationRewards(
+      final EpochRewardsStore epochRewardsStore,
+      final UInt64 epoch,
+      final UInt64 slot,
+      final List<String> validatorIds) {
+    // Only serve slots that have passed, otherwise later blocks may still change the result
+    final boolean slotHasPassed =
+        recentChainData.getCurrentSlot().map(slot::isLessThan).orElse(false);
+    if (!slotHasPassed) {
+      return SafeFuture.completedFuture(Optional.empty());
+    }
+    return combinedChainDataClient
+        .getBlockInEffectAtSlot(slot)
+        .thenCompose(
+            maybeBlock -> {
+              final Optional<Bytes32> maybeBlockRoot = maybeBlock.map(SignedBeaconBlock::getRoot);
+              final Optional<EpochRewardDeltas> maybeDeltas =
+                  maybeBlockRoot.flatMap(
+                      blockRoot -> epochRewardsStore.getEpochRewardDeltas(epoch, blockRoot));
+              if (maybeDeltas.isEmpty()) {
+                return SafeFuture.completedFuture(Optional.empty());
+              }
+              final EpochRewardDeltas deltas = maybeDeltas.get();
+              return getHeadStateToResolvePublicKeys(validatorIds)
+                  .thenApply(
+                      headState ->
+                          Optional.of(
+                              new GetAttestationRewardsResponse(
+                                  combinedChainDataClient.isOptimisticBlock(
+                                      maybeBlockRoot.get()),
+                                  combinedChainDataClient.isFinalized(slot),
+                                  EpochAttestationRewardsCalculator.calculate(
+                                      deltas,
+                                      getRecordedRewardsValidatorIndexes(
+                                          deltas, headState, validatorIds)))));
+            });
+  }
+
+  private SafeFuture<Optional<BeaconState>> getHeadStateToResolvePublicKeys(
+      final List<String> validatorIds) {
+    // Validator indices never change, so public keys can be resolved against the head state
+    if (validatorIds.stream().noneMatch(id -> id.startsWith("0x"))) {
+      return SafeFuture.completedFuture(Optional.empty());
+    }
+    return combinedChainDataClient
+        .getBestState()
+        .map(future -> future.thenApply(Optional::of))
+        .orElse(SafeFuture.completedFuture(Optional.empty()));
+  }
+
+  private IntStream getRecordedRewardsValidatorIndexes(
+      final EpochRewardDeltas deltas,
+      final Optional<BeaconState> headState,
+      final List<String> validatorIds) {
+    if (validatorIds.isEmpty()) {
+      return IntStream.range(0, deltas.getValidatorCount());
+    }
+    return validatorIds.stream()
+        .flatMap(id -> recordedRewardsValidatorIndex(headState, id).stream())
+        .mapToInt(Integer::intValue);
+  }
+
+  private Optional<Integer> recordedRewardsValidatorIndex(
+      final Optional<BeaconState> headState, final String validatorId) {
+    try {
+      if (validatorId.startsWith("0x")) {
+        final BLSPublicKey publicKey = BLSPublicKey.fromHexString(validatorId);
+        return headState.flatMap(state -> spec.getValidatorIndex(state, publicKey));
+      }
+      final UInt64 index = UInt64.valueOf(validatorId);
+      return index.isLessThan(Integer.MAX_VALUE) ? Optional.of(index.intValue()) : Optional.empty();
+    } catch (final IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  private SafeFuture<Optional<GetAttestationRewardsResponse>> calculateAttestationRewardsFromState(
+      final UInt64 slot, final List<String> validatorsPubKeys) {
     return getBeaconStateAndMetadata(slot.toString())
         .thenApply(
             maybeState -> {
@@ -741,9 +1002,52 @@ public class ChainDataProvider {
         .thenApply(maybeStateData -> maybeStateData.map(blockData -> blockData.map(mapper)));
   }
 
+  /**
+   * Derives data from a state, sharing the result between concurrent requests for the same query
+   * against the same resolved state.
+   *
+   * @param queryType identifies the data being derived
+   * @param queryParams the request parameters which affect the derived data
+   */
+  private <T> SafeFuture<Optional<ObjectAndMetaData<T>>> fromState(
+      final String stateIdParam,
+      final String queryType,
+      final List<?> queryParams,
+      final Function<BeaconState, T> mapper) {
+    if (stateQueryCoalescer.isEmpty()) {
+      return fromState(stateIdParam, mapper);
+    }
+    final InFlightRequestCoalescer<StateQueryKey, Object> coalescer = stateQueryCoalescer.get();
+    return stateSelectorFactory
+        .createSelectorForStateId(stateIdParam)
+        .getState()
+        .thenCompose(
+            maybeStateData -> {
+              if (maybeStateData.isEmpty()) {
+                return SafeFuture.completedFuture(Optional.<ObjectAndMetaData<T>>empty());
+              }
+              final StateAndMetaData stateData = maybeStateData.get();
+              final BeaconState state = stateData.getData();
+              final StateQueryKey key =
+                  new StateQueryKey(state.hashTreeRoot(), queryType, queryParams);
+              return coalescer
+                  .getOrLoad(key, () -> SafeFuture.<Object>completedFuture(mapper.apply(state)))
+                  .thenApply(
+                      result -> {
+                        // The query type and parameters determine the type of the result
+                        @SuppressWarnings("unchecked")
+                        final T data = (T) result;
+                        return Optional.of(stateData.map(__ -> data));
+                      });
+            });
+  }
+
   public SafeFuture<Optional<UInt64>> getFinalizedStateSlot(final UInt64 beforeSlot) {
     return combinedChainDataClient
         .getLatestAvailableFinalizedState(beforeSlot)
         .thenApply(maybeState -> maybeState.map(BeaconState::getSlot));
   }
+
+  @VisibleForTesting
+  record StateQueryKey(Bytes32 stateRoot, String queryType, List<?> queryParams) {}
 }
@@ -15,7 +15,10 @@ package tech.pegasys.teku.api;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.Optional;
 import java.util.function.IntSupplier;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.api.rewards.EpochRewardsStore;
 import tech.pegasys.teku.beacon.sync.SyncService;
 import tech.pegasys.teku.networking.eth2.Eth2P2PNetwork;
 import tech.pegasys.teku.spec.Spec;
@@ -100,6 +103,7 @@ public class DataProvider {
     private RecentChainData recentChainData;
     private CombinedChainDataClient combinedChainDataClient;
     private RewardCalculator rewardCalculator;
+    private Optional<EpochRewardsStore> epochRewardsStore = Optional.empty();
     private Eth2P2PNetwork p2pNetwork;
     private SyncService syncService;
     private ValidatorApiChannel validatorApiChannel;
@@ -116,6 +120,7 @@ public class DataProvider {
     private ForkChoiceNotifier forkChoiceNotifier;
     private boolean isLivenessTrackingEnabled = true;
     private IntSupplier rejectedExecutionSupplier;
+    private Optional<MetricsSystem> metricsSystem = Optional.empty();
 
     public Builder recentChainData(final RecentChainData recentChainData) {
       this.recentChainData = recentChainData;
@@ -132,6 +137,11 @@ public class DataProvider {
       return this;
     }
 
+    public Builder epochRewardsStore(final Optional<EpochRewardsStore> epochRewardsStore) {
+      this.epochRewardsStore = epochRewardsStore;
+      return this;
+    }
+
     public Builder p2pNetwork(final Eth2P2PNetwork p2pNetwork) {
       this.p2pNetwork = p2pNetwork;
       return this;
@@ -212,6 +222,11 @@ public class DataProvider {
       return this;
     }
 
+    public Builder metricsSystem(final MetricsSystem metricsSystem) {
+      this.metricsSystem = Optional.of(metricsSystem);
+      return this;
+    }
+
     public Builder spec(final Spec spec) {
       this.spec = spec;
       return this;
@@ -237,7 +252,24 @@ public class DataProvider {
               recentChainData,
               spec);
       final ChainDataProvider chainDataProvider =
-          new ChainDataProvider(spec, recentChainData, combinedChainDataClient, rewardCalculator);
+          metricsSystem
+              .map(
+                  metrics ->
+                      new ChainDataProvider(
+                          spec,
+                          recentChainData,
+                          combinedChainDataClient,
+                          rewardCalculator,
+                          epochRewardsStore,
+                          metrics))
+              .orElseGet(
+                  () ->
+                      new ChainDataProvider(
+                          spec,
+                          recentChainData,
+                          combinedChainDataClient,
+                          rewardCalculator,
+                          epochRewardsStore));
       final SyncDataProvider syncDataProvider =
           new SyncDataProvider(syncService, rejectedExecutionSupplier);
       final ValidatorDataProvider validatorDataProvider =
@@ -24,6 +24,7 @@ import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
 import tech.pegasys.teku.api.exceptions.ServiceUnavailableException;
 import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
+import tech.pegasys.teku.api.migrated.ValidatorLivenessBitfield;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -261,35 +262,64 @@ public class NodeDataProvider {
       return SafeFuture.failedFuture(
           new BadRequestException("No validator indices posted in validator liveness request"));
     }
+    final Optional<RuntimeException> maybeInvalidEpoch =
+        validateLivenessEpoch(epoch, maybeCurrentEpoch);
+    if (maybeInvalidEpoch.isPresent()) {
+      return SafeFuture.failedFuture(maybeInvalidEpoch.get());
+    }
+
+    return activeValidatorChannel
+        .validatorsLiveAtEpoch(validatorIndices, epoch)
+        .thenApply(
+            validatorLivenessMap -> {
+              final List<ValidatorLivenessAtEpoch> livenessAtEpochs = new ArrayList<>();
+              validatorLivenessMap.forEach(
+                  (validatorIndex, liveness) ->
+                      livenessAtEpochs.add(new ValidatorLivenessAtEpoch(validatorIndex, liveness)));
+              return Optional.of(livenessAtEpochs);
+            });
+  }
+
+  public SafeFuture<Optional<ValidatorLivenessBitfield>> getValidatorLivenessBitfield(
+      final UInt64 epoch, final Optional<UInt64> maybeCurrentEpoch) {
+    if (!isLivenessTrackingEnabled) {
+      return SafeFuture.failedFuture(
+          new BadRequestException(
+              "Validator liveness tracking is not enabled on this beacon node, cannot service request"));
+    }
+    final Optional<RuntimeException> maybeInvalidEpoch =
+        validateLivenessEpoch(epoch, maybeCurrentEpoch);
+    if (maybeInvalidEpoch.isPresent()) {
+      return SafeFuture.failedFuture(maybeInvalidEpoch.get());
+    }
+
+    return activeValidatorChannel
+        .getLiveValidatorsAtEpoch(epoch)
+        .thenApply(
+            liveValidators -> Optional.of(new ValidatorLivenessBitfield(epoch, liveValidators)));
+  }
+
+  private Optional<RuntimeException> validateLivenessEpoch(
+      final UInt64 epoch, final Optional<UInt64> maybeCurrentEpoch) {
     if (maybeCurrentEpoch.isEmpty()) {
-      return SafeFuture.failedFuture(new ServiceUnavailableException());
+      return Optional.of(new ServiceUnavailableException());
     }
 
     final UInt64 currentEpoch = maybeCurrentEpoch.get();
     if (currentEpoch.isLessThan(epoch)) {
-      return SafeFuture.failedFuture(
+      return Optional.of(
           new BadRequestException(
               String.format(
                   "Current node epoch %s, cannot check liveness for a future epoch %s",
                   currentEpoch, epoch)));
     } else if (currentEpoch.minusMinZero(TRACKED_EPOCHS).isGreaterThan(epoch)) {
-      return SafeFuture.failedFuture(
+      return Optional.of(
           new BadRequestException(
               String.format(
                   "Current node epoch %s, cannot check liveness for an epoch (%s) more than %d in the past",
                   currentEpoch, epoch, TRACKED_EPOCHS)));
     }
-
-    return activeValidatorChannel
-        .validatorsLiveAtEpoch(validatorIndices, epoch)
-        .thenApply(
-            validatorLivenessMap -> {
-              final List<ValidatorLivenessAtEpoch> livenessAtEpochs = new ArrayList<>();
-              validatorLivenessMap.forEach(
-                  (validatorIndex, liveness) ->
-                      livenessAtEpochs.add(new ValidatorLivenessAtEpoch(validatorIndex, liveness)));
-              return Optional.of(livenessAtEpochs);
-            });
+    return Optional.empty();
   }
 
   public Map<UInt64, PreparedProposerInfo> getPreparedProposerInfo() {
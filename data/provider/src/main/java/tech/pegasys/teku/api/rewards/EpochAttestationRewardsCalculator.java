@@ -22,6 +22,7 @@ import static tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAl
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.IntStream;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.logging.log4j.LogManager;
@@ -35,6 +36,7 @@ import tech.pegasys.teku.spec.SpecVersion;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochProcessor;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardDeltas;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardsAndPenaltiesCalculator;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
@@ -91,49 +93,101 @@ public class EpochAttestationRewardsCalculator {
     }
   }
 
+  /**
+   * Builds the attestation rewards from deltas recorded during epoch processing, so the state
+   * doesn't need to be regenerated.
+   *
+   * @param validatorIndexes the validators to include; ineligible validators are skipped
+   */
+  public static AttestationRewardsData calculate(
+      final EpochRewardDeltas epochRewardDeltas, final IntStream validatorIndexes) {
+    final List<IdealAttestationReward> idealAttestationRewards =
+        calculateIdealAttestationRewards(
+            epochRewardDeltas.getBaseRewardPerIncrement(),
+            epochRewardDeltas.getEffectiveBalanceIncrement(),
+            epochRewardDeltas.getPreviousEpochSourceAttesters(),
+            epochRewardDeltas.getPreviousEpochTargetAttesters(),
+            epochRewardDeltas.getPreviousEpochHeadAttesters(),
+            epochRewardDeltas.getCurrentEpochActiveValidators(),
+            epochRewardDeltas.isInactivityLeak());
+    final List<TotalAttestationReward> totalAttestationRewards =
+        validatorIndexes
+            .filter(epochRewardDeltas::isEligible)
+            .distinct()
+            .sorted()
+            .mapToObj(
+                i ->
+                    new TotalAttestationReward(
+                        i,
+                        epochRewardDeltas.getHead(i),
+                        epochRewardDeltas.getTarget(i),
+                        epochRewardDeltas.getSource(i),
+                        Optional.empty(),
+                        epochRewardDeltas.getInactivity(i)))
+            .toList();
+    return new AttestationRewardsData(idealAttestationRewards, totalAttestationRewards);
+  }
+
   @VisibleForTesting
   List<IdealAttestationReward> idealAttestationRewards() {
+    final TotalBalances totalBalances = validatorStatuses.getTotalBalances();
+    return calculateIdealAttestationRewards(
+        BeaconStateAccessorsAltair.required(specVersion.beaconStateAccessors())
+            .getBaseRewardPerIncrement(state),
+        specVersion.getConfig().getEffectiveBalanceIncrement(),
+        totalBalances.getPreviousEpochSourceAttesters(),
+        totalBalances.getPreviousEpochTargetAttesters(),
+        totalBalances.getPreviousEpochHeadAttesters(),
+        totalBalances.getCurrentEpochActiveValidators(),
+        specVersion.beaconStateAccessors().isInactivityLeak(state));
+  }
+
+  private static List<IdealAttestationReward> calculateIdealAttestationRewards(
+      final UInt64 baseRewardPerIncrement,
+      final UInt64 effectiveBalanceIncrement,
+      final UInt64 previousEpochSourceAttesters,
+      final UInt64 previousEpochTargetAttesters,
+      final UInt64 previousEpochHeadAttesters,
+      final UInt64 currentEpochActiveValidators,
+      final boolean inactivityLeak) {
     final List<IdealAttestationReward> idealAttestationRewards =
         IntStream.rangeClosed(0, 32)
             .boxed()
             .map(i -> new IdealAttestationReward(ETH_TO_GWEI.times(i)))
             .toList();
+    if (inactivityLeak) {
+      return idealAttestationRewards;
+    }
 
-    final TotalBalances totalBalances = validatorStatuses.getTotalBalances();
-    final UInt64 baseRewardPerIncrement =
-        BeaconStateAccessorsAltair.required(specVersion.beaconStateAccessors())
-            .getBaseRewardPerIncrement(state);
-
+    final UInt64 activeIncrements =
+        currentEpochActiveValidators.dividedBy(effectiveBalanceIncrement);
     for (int flagIndex = 0; flagIndex < PARTICIPATION_FLAG_WEIGHTS.size(); flagIndex++) {
       final UInt64 weight = PARTICIPATION_FLAG_WEIGHTS.get(flagIndex);
-      final UInt64 effectiveBalanceIncrement =
-          specVersion.getConfig().getEffectiveBalanceIncrement();
+      final UInt64 prevEpochTotalParticipatingBalance =
+          switch (flagIndex) {
+            case TIMELY_HEAD_FLAG_INDEX -> previousEpochHeadAttesters;
+            case TIMELY_TARGET_FLAG_INDEX -> previousEpochTargetAttesters;
+            case TIMELY_SOURCE_FLAG_INDEX -> previousEpochSourceAttesters;
+            default -> throw new IllegalArgumentException(
+                "Unable to process unknown flag index:" + flagIndex);
+          };
       final UInt64 unslashedParticipatingIncrements =
-          getPrevEpochTotalParticipatingBalance(flagIndex).dividedBy(effectiveBalanceIncrement);
-      final UInt64 activeIncrements =
-          totalBalances.getCurrentEpochActiveValidators().dividedBy(effectiveBalanceIncrement);
+          prevEpochTotalParticipatingBalance.dividedBy(effectiveBalanceIncrement);
 
       for (int effectiveBalanceEth = 0; effectiveBalanceEth <= 32; effectiveBalanceEth++) {
         final UInt64 baseReward = UInt64.valueOf(effectiveBalanceEth).times(baseRewardPerIncrement);
         final UInt64 rewardNumerator =
             baseReward.times(weight).times(unslashedParticipatingIncrements);
-        final UInt64 idealReward =
-            rewardNumerator.dividedBy(activeIncrements).dividedBy(WEIGHT_DENOMINATOR);
+        final long idealReward =
+            rewardNumerator.dividedBy(activeIncrements).dividedBy(WEIGHT_DENOMINATOR).longValue();
 
         final IdealAttestationReward idealAttestationReward =
             idealAttestationRewards.get(effectiveBalanceEth);
-        if (!isInactivityLeak()) {
-          switch (flagIndex) {
-            case TIMELY_SOURCE_FLAG_INDEX:
-              idealAttestationReward.addSource(idealReward.longValue());
-              break;
-            case TIMELY_TARGET_FLAG_INDEX:
-              idealAttestationReward.addTarget(idealReward.longValue());
-              break;
-            case TIMELY_HEAD_FLAG_INDEX:
-              idealAttestationReward.addHead(idealReward.longValue());
-              break;
-          }
+        switch (flagIndex) {
+          case TIMELY_SOURCE_FLAG_INDEX -> idealAttestationReward.addSource(idealReward);
+          case TIMELY_TARGET_FLAG_INDEX -> idealAttestationReward.addTarget(idealReward);
+          case TIMELY_HEAD_FLAG_INDEX -> idealAttestationReward.addHead(idealReward);
+          default -> {}
         }
       }
     }
@@ -141,24 +195,6 @@ public class EpochAttestationRewardsCalculator {
     return idealAttestationRewards;
   }
 
-  private boolean isInactivityLeak() {
-    return specVersion.beaconStateAccessors().isInactivityLeak(state);
-  }
-
-  private UInt64 getPrevEpochTotalParticipatingBalance(final int flagIndex) {
-    final TotalBalances totalBalances = validatorStatuses.getTotalBalances();
-    switch (flagIndex) {
-      case TIMELY_HEAD_FLAG_INDEX:
-        return totalBalances.getPreviousEpochHeadAttesters();
-      case TIMELY_TARGET_FLAG_INDEX:
-        return totalBalances.getPreviousEpochTargetAttesters();
-      case TIMELY_SOURCE_FLAG_INDEX:
-        return totalBalances.getPreviousEpochSourceAttesters();
-      default:
-        throw new IllegalArgumentException("Unable to process unknown flag index:" + flagIndex);
-    }
-  }
-
   @VisibleForTesting
   List<TotalAttestationReward> totalAttestationRewards() {
     final RewardAndPenaltyDeltas totalRewardAndPenaltyDeltas =
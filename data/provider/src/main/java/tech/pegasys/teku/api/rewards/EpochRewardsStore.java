@@ -0,0 +1,212 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api.rewards;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardDeltas;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardsRecorder;
+import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
+import tech.pegasys.teku.storage.api.ReorgContext;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+import tech.pegasys.teku.storage.store.KeyValueStore;
+
+/**
+ * Keeps the reward and penalty deltas recorded during epoch processing so the attestation rewards
+ * API can serve them without regenerating states.
+ *
+ * <p>Deltas are recorded for every epoch transition, including those on forks and those run while
+ * regenerating states, so only epochs whose rewards are not yet final are kept. They are held in
+ * memory keyed by epoch and block root until the chain head moves past the end of the following
+ * epoch, at which point only the deltas for the canonical block are retained. The number of epochs
+ * held therefore follows the finalization lag, capped at {@link #MAX_UNFINALIZED_EPOCHS} during
+ * long periods of non-finality. Once an epoch's rewards are final the canonical deltas are written
+ * to disk and the last {@code retainedEpochs} finalized epochs are kept there. The oldest epoch that
+ * may still be on disk is tracked so every older entry is removed, even when finalization jumps.
+ *
+ * <p>The store is handed to the spec before storage is available, so its dependencies are
+ * resolved lazily and nothing is recorded until they exist.
+ */
+public class EpochRewardsStore
+    implements EpochRewardsRecorder, ChainHeadChannel, FinalizedCheckpointChannel {
+  private static final Logger LOG = LogManager.getLogger();
+  static final int MAX_UNFINALIZED_EPOCHS = 32;
+  private static final String KEY_PREFIX = "epoch-rewards-";
+  private static final String OLDEST_EPOCH_KEY = KEY_PREFIX + "oldest";
+
+  private final Spec spec;
+  private final Supplier<CombinedChainDataClient> combinedChainDataClient;
+  private final Supplier<KeyValueStore<String, Bytes>> keyValueStore;
+  private final int retainedEpochs;
+
+  private final NavigableMap<UInt64, Map<Bytes32, EpochRewardDeltas>> recentDeltas =
+      new TreeMap<>();
+
+  public EpochRewardsStore(
+      final Spec spec,
+      final Supplier<CombinedChainDataClient> combinedChainDataClient,
+      final Supplier<KeyValueStore<String, Bytes>> keyValueStore,
+      final int retainedEpochs) {
+    this.spec = spec;
+    this.combinedChainDataClient = combinedChainDataClient;
+    this.keyValueStore = keyValueStore;
+    this.retainedEpochs = retainedEpochs;
+  }
+
+  @Override
+  public boolean isRecording(final UInt64 epoch) {
+    // Once final, deltas are either stored or from a state regenerated for an older epoch
+    final CombinedChainDataClient client = combinedChainDataClient.get();
+    return client != null && !client.isFinalizedEpoch(epoch.plus(2));
+  }
+
+  @Override
+  public void onEpochRewards(final EpochRewardDeltas epochRewardDeltas) {
+    final UInt64 epoch = epochRewardDeltas.getEpoch();
+    if (!isRecording(epoch)) {
+      return;
+    }
+    synchronized (this) {
+      recentDeltas
+          .computeIfAbsent(epoch, __ -> new HashMap<>())
+          .put(epochRewardDeltas.getBlockRoot(), epochRewardDeltas);
+      while (recentDeltas.size() > MAX_UNFINALIZED_EPOCHS) {
+        recentDeltas.pollFirstEntry();
+      }
+    }
+  }
+
+  /**
+   * Returns the deltas for the rewards earned in {@code epoch}, as calculated from the chain ending
+   * in {@code blockRoot} at the last slot of the following epoch.
+   */
+  public Optional<EpochRewardDeltas> getEpochRewardDeltas(
+      final UInt64 epoch, final Bytes32 blockRoot) {
+    final Optional<EpochRewardDeltas> recent = getRecentDeltas(epoch, blockRoot);
+    if (recent.isPresent()) {
+      return recent;
+    }
+    return keyValueStore
+        .get()
+        .get(getKey(epoch))
+        .map(EpochRewardDeltas::deserialize)
+        .filter(deltas -> deltas.getBlockRoot().equals(blockRoot));
+  }
+
+  private synchronized Optional<EpochRewardDeltas> getRecentDeltas(
+      final UInt64 epoch, final Bytes32 blockRoot) {
+    return Optional.ofNullable(recentDeltas.get(epoch)).map(deltas -> deltas.get(blockRoot));
+  }
+
+  @Override
+  public synchronized void chainHeadUpdated(
+      final UInt64 slot,
+      final Bytes32 stateRoot,
+      final Bytes32 bestBlockRoot,
+      final boolean epochTransition,
+      final boolean executionOptimistic,
+      final Bytes32 previousDutyDependentRoot,
+      final Bytes32 currentDutyDependentRoot,
+      final Optional<ReorgContext> optionalReorgContext) {
+    final CombinedChainDataClient client = combinedChainDataClient.get();
+    recentDeltas.forEach(
+        (epoch, deltasByBlockRoot) -> {
+          final UInt64 rewardsBlockSlot = getRewardsBlockSlot(epoch);
+          if (slot.isLessThan(rewardsBlockSlot)) {
+            return;
+          }
+          deltasByBlockRoot
+              .keySet()
+              .removeIf(
+                  blockRoot ->
+                      !client.isCanonicalBlock(rewardsBlockSlot, blockRoot, bestBlockRoot));
+        });
+    recentDeltas.values().removeIf(Map::isEmpty);
+  }
+
+  @Override
+  public void onNewFinalizedCheckpoint(
+      final Checkpoint checkpoint, final boolean fromOptimisticBlock) {
+    // Rewards for an epoch are final once the epoch after it is finalized
+    final TreeSet<UInt64> finalizedEpochs = new TreeSet<>();
+    synchronized (this) {
+      recentDeltas.keySet().stream()
+          .filter(epoch -> epoch.plus(2).isLessThanOrEqualTo(checkpoint.getEpoch()))
+          .forEach(finalizedEpochs::add);
+    }
+    SafeFuture.allOf(finalizedEpochs.stream().map(this::persistCanonicalDeltas))
+        .finish(error -> LOG.warn("Failed to store finalized epoch reward deltas", error));
+  }
+
+  private SafeFuture<?> persistCanonicalDeltas(final UInt64 epoch) {
+    return combinedChainDataClient
+        .get()
+        .getBlockInEffectAtSlot(getRewardsBlockSlot(epoch))
+        .thenAccept(
+            maybeBlock -> {
+              final Optional<EpochRewardDeltas> canonical =
+                  maybeBlock
+                      .map(SignedBeaconBlock::getRoot)
+                      .flatMap(blockRoot -> getRecentDeltas(epoch, blockRoot));
+              canonical.ifPresent(this::storeFinalizedDeltas);
+              synchronized (this) {
+                recentDeltas.remove(epoch);
+              }
+            });
+  }
+
+  private synchronized void storeFinalizedDeltas(final EpochRewardDeltas deltas) {
+    final KeyValueStore<String, Bytes> store = keyValueStore.get();
+    final UInt64 epoch = deltas.getEpoch();
+    final UInt64 oldestEpoch =
+        store
+            .get(OLDEST_EPOCH_KEY)
+            .map(bytes -> UInt64.fromLongBits(bytes.toLong()))
+            .orElse(epoch)
+            .min(epoch);
+    store.put(getKey(epoch), deltas.serialize());
+
+    final UInt64 cutoff = epoch.plus(1).minusMinZero(retainedEpochs);
+    for (UInt64 prunedEpoch = oldestEpoch;
+        prunedEpoch.isLessThan(cutoff);
+        prunedEpoch = prunedEpoch.increment()) {
+      store.remove(getKey(prunedEpoch));
+    }
+    store.put(OLDEST_EPOCH_KEY, Bytes.ofUnsignedLong(oldestEpoch.max(cutoff).longValue()));
+  }
+
+  /** Returns the last slot of the epoch following {@code epoch}, where its rewards are applied. */
+  private UInt64 getRewardsBlockSlot(final UInt64 epoch) {
+    return spec.computeStartSlotAtEpoch(epoch.plus(2)).minus(1);
+  }
+
+  private static String getKey(final UInt64 epoch) {
+    return KEY_PREFIX + epoch;
+  }
+}
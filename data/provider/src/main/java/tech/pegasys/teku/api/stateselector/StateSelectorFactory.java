@@ -18,6 +18,8 @@ import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_SLOT;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.api.AbstractSelectorFactory;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
+import tech.pegasys.teku.infrastructure.async.InFlightRequestCoalescer;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -30,20 +32,43 @@ import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 public class StateSelectorFactory extends AbstractSelectorFactory<StateSelector> {
 
   private final Spec spec;
+  private final Optional<InFlightRequestCoalescer<StateLoadKey, Optional<BeaconState>>>
+      stateLoadCoalescer;
 
   public StateSelectorFactory(final Spec spec, final CombinedChainDataClient client) {
+    this(spec, client, Optional.empty());
+  }
+
+  /**
+   * Creates a factory where concurrent requests which resolve to the same state share a single
+   * load, and loads that may require regenerating a state are bounded by the coalescer.
+   */
+  public StateSelectorFactory(
+      final Spec spec,
+      final CombinedChainDataClient client,
+      final Optional<InFlightRequestCoalescer<StateLoadKey, Optional<BeaconState>>>
+          stateLoadCoalescer) {
     super(client);
     this.spec = spec;
+    this.stateLoadCoalescer = stateLoadCoalescer;
   }
 
   @Override
   public StateSelector stateRootSelector(final Bytes32 stateRoot) {
-    return () -> client.getStateByStateRoot(stateRoot).thenApply(this::addMetaData);
+    return () ->
+        loadState(
+                new StateLoadKey(StateLoadType.STATE_ROOT, stateRoot, Optional.empty()),
+                () -> client.getStateByStateRoot(stateRoot))
+            .thenApply(this::addMetaData);
   }
 
   @Override
   public StateSelector blockRootSelector(final Bytes32 blockRoot) {
-    return () -> client.getStateByBlockRoot(blockRoot).thenApply(this::addMetaData);
+    return () ->
+        loadState(
+                new StateLoadKey(StateLoadType.BLOCK_ROOT, blockRoot, Optional.empty()),
+                () -> client.getStateByBlockRoot(blockRoot))
+            .thenApply(this::addMetaData);
   }
 
   @Override
@@ -119,8 +144,9 @@ public class StateSelectorFactory extends AbstractSelectorFactory<StateSelector>
                   if (slot.isGreaterThan(head.getSlot())) {
                     return SafeFuture.completedFuture(Optional.<StateAndMetaData>empty());
                   }
-                  return client
-                      .getStateAtSlotExact(slot, head.getRoot())
+                  return loadState(
+                          new StateLoadKey(StateLoadType.SLOT, head.getRoot(), Optional.of(slot)),
+                          () -> client.getStateAtSlotExact(slot, head.getRoot()))
                       .thenApply(
                           maybeState ->
                               maybeState.map(
@@ -134,6 +160,13 @@ public class StateSelectorFactory extends AbstractSelectorFactory<StateSelector>
             .orElse(SafeFuture.completedFuture(Optional.empty()));
   }
 
+  private SafeFuture<Optional<BeaconState>> loadState(
+      final StateLoadKey key, final ExceptionThrowingFutureSupplier<Optional<BeaconState>> loader) {
+    return stateLoadCoalescer
+        .map(coalescer -> coalescer.getOrLoad(key, loader))
+        .orElseGet(() -> SafeFuture.of(loader));
+  }
+
   private Optional<StateAndMetaData> addMetaData(final Optional<BeaconState> maybeState) {
     final Optional<ChainHead> maybeChainHead = client.getChainHead();
     if (maybeChainHead.isEmpty() || maybeState.isEmpty()) {
@@ -163,4 +196,19 @@ public class StateSelectorFactory extends AbstractSelectorFactory<StateSelector>
         canonical,
         finalized);
   }
+
+  public enum StateLoadType {
+    STATE_ROOT,
+    BLOCK_ROOT,
+    SLOT
+  }
+
+  /**
+   * Identifies a state load once the state ID has been resolved.
+   *
+   * @param type how the state is being looked up
+   * @param root the state root, block root or, for slot lookups, the chain head root
+   * @param slot the requested slot for slot lookups
+   */
+  public record StateLoadKey(StateLoadType type, Bytes32 root, Optional<UInt64> slot) {}
 }
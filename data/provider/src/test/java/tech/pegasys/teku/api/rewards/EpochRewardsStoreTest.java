@@ -0,0 +1,213 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api.rewards;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardDeltas;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardDeltas.ComponentDeltas;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+import tech.pegasys.teku.storage.store.KeyValueStore;
+import tech.pegasys.teku.storage.store.MemKeyValueStore;
+
+class EpochRewardsStoreTest {
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final CombinedChainDataClient combinedChainDataClient =
+      mock(CombinedChainDataClient.class);
+  private final KeyValueStore<String, Bytes> keyValueStore = new MemKeyValueStore<>();
+
+  private final EpochRewardsStore store =
+      new EpochRewardsStore(spec, () -> combinedChainDataClient, () -> keyValueStore, 2);
+
+  @Test
+  void shouldReturnRecentDeltasByEpochAndBlockRoot() {
+    final EpochRewardDeltas deltas = createDeltas(5, dataStructureUtil.randomBytes32());
+    store.onEpochRewards(deltas);
+
+    assertThat(store.getEpochRewardDeltas(UInt64.valueOf(5), deltas.getBlockRoot()))
+        .contains(deltas);
+    assertThat(store.getEpochRewardDeltas(UInt64.valueOf(5), dataStructureUtil.randomBytes32()))
+        .isEmpty();
+    assertThat(store.getEpochRewardDeltas(UInt64.valueOf(6), deltas.getBlockRoot())).isEmpty();
+  }
+
+  @Test
+  void shouldKeepDeltasForAllUnfinalizedEpochs() {
+    final EpochRewardDeltas oldest = createDeltas(1, dataStructureUtil.randomBytes32());
+    store.onEpochRewards(oldest);
+    for (int i = 0; i < 8; i++) {
+      store.onEpochRewards(createDeltas(2 + i, dataStructureUtil.randomBytes32()));
+      store.onEpochRewards(createDeltas(2 + i, dataStructureUtil.randomBytes32()));
+    }
+
+    assertThat(store.getEpochRewardDeltas(UInt64.ONE, oldest.getBlockRoot())).contains(oldest);
+  }
+
+  @Test
+  void shouldLimitNumberOfUnfinalizedEpochs() {
+    final EpochRewardDeltas oldest = createDeltas(1, dataStructureUtil.randomBytes32());
+    store.onEpochRewards(oldest);
+    for (int i = 0; i < EpochRewardsStore.MAX_UNFINALIZED_EPOCHS; i++) {
+      store.onEpochRewards(createDeltas(2 + i, dataStructureUtil.randomBytes32()));
+    }
+
+    assertThat(store.getEpochRewardDeltas(UInt64.ONE, oldest.getBlockRoot())).isEmpty();
+  }
+
+  @Test
+  void shouldNotRecordDeltasForEpochsWithFinalRewards() {
+    when(combinedChainDataClient.isFinalizedEpoch(UInt64.valueOf(3))).thenReturn(true);
+    final EpochRewardDeltas deltas = createDeltas(1, dataStructureUtil.randomBytes32());
+    store.onEpochRewards(deltas);
+
+    assertThat(store.getEpochRewardDeltas(UInt64.ONE, deltas.getBlockRoot())).isEmpty();
+  }
+
+  @Test
+  void shouldNotRecordDeltasBeforeStorageIsAvailable() {
+    final EpochRewardsStore uninitializedStore =
+        new EpochRewardsStore(spec, () -> null, () -> keyValueStore, 2);
+
+    assertThat(uninitializedStore.isRecording(UInt64.ONE)).isFalse();
+  }
+
+  @Test
+  void shouldDropNonCanonicalDeltasWhenHeadMovesPastRewardsBlock() {
+    final Bytes32 headRoot = dataStructureUtil.randomBytes32();
+    final EpochRewardDeltas canonical = createDeltas(1, dataStructureUtil.randomBytes32());
+    final EpochRewardDeltas fork = createDeltas(1, dataStructureUtil.randomBytes32());
+    store.onEpochRewards(canonical);
+    store.onEpochRewards(fork);
+    when(combinedChainDataClient.isCanonicalBlock(
+            UInt64.valueOf(23), canonical.getBlockRoot(), headRoot))
+        .thenReturn(true);
+
+    updateChainHead(UInt64.valueOf(22), headRoot);
+    assertThat(store.getEpochRewardDeltas(UInt64.ONE, fork.getBlockRoot())).contains(fork);
+
+    updateChainHead(UInt64.valueOf(24), headRoot);
+    assertThat(store.getEpochRewardDeltas(UInt64.ONE, canonical.getBlockRoot()))
+        .contains(canonical);
+    assertThat(store.getEpochRewardDeltas(UInt64.ONE, fork.getBlockRoot())).isEmpty();
+  }
+
+  @Test
+  void shouldPersistCanonicalDeltasWhenFinalized() {
+    final SignedBeaconBlock canonicalBlock = dataStructureUtil.randomSignedBeaconBlock(23);
+    final EpochRewardDeltas canonical = createDeltas(1, canonicalBlock.getRoot());
+    final EpochRewardDeltas fork = createDeltas(1, dataStructureUtil.randomBytes32());
+    store.onEpochRewards(canonical);
+    store.onEpochRewards(fork);
+    when(combinedChainDataClient.getBlockInEffectAtSlot(UInt64.valueOf(23)))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(canonicalBlock)));
+
+    store.onNewFinalizedCheckpoint(dataStructureUtil.randomCheckpoint(UInt64.valueOf(3)), false);
+
+    assertThat(keyValueStore.get("epoch-rewards-1")).contains(canonical.serialize());
+    assertThat(store.getEpochRewardDeltas(UInt64.ONE, canonical.getBlockRoot()))
+        .contains(canonical);
+    assertThat(store.getEpochRewardDeltas(UInt64.ONE, fork.getBlockRoot())).isEmpty();
+  }
+
+  @Test
+  void shouldNotPersistDeltasBeforeFollowingEpochIsFinalized() {
+    store.onEpochRewards(createDeltas(1, dataStructureUtil.randomBytes32()));
+
+    store.onNewFinalizedCheckpoint(dataStructureUtil.randomCheckpoint(UInt64.valueOf(2)), false);
+
+    assertThat(keyValueStore.get("epoch-rewards-1")).isEmpty();
+  }
+
+  @Test
+  void shouldRemoveDeltasOlderThanRetainedEpochs() {
+    finalizeDeltas(1, 3);
+    finalizeDeltas(2, 4);
+    assertThat(keyValueStore.get("epoch-rewards-1")).isPresent();
+    assertThat(keyValueStore.get("epoch-rewards-2")).isPresent();
+
+    finalizeDeltas(3, 5);
+
+    assertThat(keyValueStore.get("epoch-rewards-1")).isEmpty();
+    assertThat(keyValueStore.get("epoch-rewards-2")).isPresent();
+    assertThat(keyValueStore.get("epoch-rewards-3")).isPresent();
+  }
+
+  @Test
+  void shouldRemoveAllDeltasBelowCutoffWhenFinalizationJumps() {
+    finalizeDeltas(1, 3);
+    finalizeDeltas(2, 4);
+
+    finalizeDeltas(6, 8);
+
+    assertThat(keyValueStore.get("epoch-rewards-1")).isEmpty();
+    assertThat(keyValueStore.get("epoch-rewards-2")).isEmpty();
+    assertThat(keyValueStore.get("epoch-rewards-6")).isPresent();
+  }
+
+  private void finalizeDeltas(final long epoch, final long finalizedEpoch) {
+    final UInt64 rewardsBlockSlot =
+        spec.computeStartSlotAtEpoch(UInt64.valueOf(epoch + 2)).decrement();
+    final SignedBeaconBlock canonicalBlock =
+        dataStructureUtil.randomSignedBeaconBlock(rewardsBlockSlot);
+    store.onEpochRewards(createDeltas(epoch, canonicalBlock.getRoot()));
+    when(combinedChainDataClient.getBlockInEffectAtSlot(rewardsBlockSlot))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(canonicalBlock)));
+    store.onNewFinalizedCheckpoint(
+        dataStructureUtil.randomCheckpoint(UInt64.valueOf(finalizedEpoch)), false);
+  }
+
+  private void updateChainHead(final UInt64 slot, final Bytes32 headRoot) {
+    store.chainHeadUpdated(
+        slot,
+        dataStructureUtil.randomBytes32(),
+        headRoot,
+        false,
+        false,
+        dataStructureUtil.randomBytes32(),
+        dataStructureUtil.randomBytes32(),
+        Optional.empty());
+  }
+
+  private EpochRewardDeltas createDeltas(final long epoch, final Bytes32 blockRoot) {
+    final TotalBalances totalBalances = mock(TotalBalances.class);
+    when(totalBalances.getPreviousEpochSourceAttesters()).thenReturn(UInt64.ZERO);
+    when(totalBalances.getPreviousEpochTargetAttesters()).thenReturn(UInt64.ZERO);
+    when(totalBalances.getPreviousEpochHeadAttesters()).thenReturn(UInt64.ZERO);
+    when(totalBalances.getCurrentEpochActiveValidators()).thenReturn(UInt64.ZERO);
+    return EpochRewardDeltas.create(
+        UInt64.valueOf(epoch),
+        blockRoot,
+        UInt64.valueOf(64),
+        UInt64.valueOf(1_000_000_000L),
+        false,
+        List.of(),
+        totalBalances,
+        new ComponentDeltas(0));
+  }
+}
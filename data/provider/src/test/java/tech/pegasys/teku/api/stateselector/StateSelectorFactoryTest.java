@@ -18,6 +18,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
@@ -28,7 +29,10 @@ import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
+import tech.pegasys.teku.infrastructure.async.InFlightRequestCoalescer;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -129,6 +133,32 @@ public class StateSelectorFactoryTest {
     verify(client).getStateByStateRoot(state.hashTreeRoot());
   }
 
+  @Test
+  public void stateRootSelector_shouldShareConcurrentLoadsOfSameState() {
+    final StateSelectorFactory coalescingFactory =
+        new StateSelectorFactory(
+            spec,
+            client,
+            Optional.of(
+                InFlightRequestCoalescer.create(
+                    2, new StubMetricsSystem(), TekuMetricCategory.BEACON, "state_loads")));
+    final Bytes32 blockRoot = BeaconBlockHeader.fromState(state).getRoot();
+    final ChainHead chainHead =
+        ChainHead.create(data.randomSignedBlockAndState(state.getSlot().plus(3), blockRoot));
+    when(client.getChainHead()).thenReturn(Optional.of(chainHead));
+    final SafeFuture<Optional<BeaconState>> load = new SafeFuture<>();
+    when(client.getStateByStateRoot(state.hashTreeRoot())).thenReturn(load);
+
+    final SafeFuture<Optional<StateAndMetaData>> result1 =
+        coalescingFactory.stateRootSelector(state.hashTreeRoot()).getState();
+    final SafeFuture<Optional<StateAndMetaData>> result2 =
+        coalescingFactory.stateRootSelector(state.hashTreeRoot()).getState();
+    load.complete(Optional.of(state));
+
+    assertThat(safeJoin(result1)).isEqualTo(safeJoin(result2)).isPresent();
+    verify(client, times(1)).getStateByStateRoot(state.hashTreeRoot());
+  }
+
   @Test
   public void createSelectorForStateId_shouldThrowBadRequestException() {
     assertThrows(BadRequestException.class, () -> factory.createSelectorForStateId("a"));
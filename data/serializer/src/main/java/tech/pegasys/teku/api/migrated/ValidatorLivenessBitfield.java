@@ -0,0 +1,79 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package tech.pegasys.teku.api.migrated;
+
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.UINT64_TYPE;
+
+import java.util.BitSet;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Liveness of every validator known to the beacon node at an epoch, with the bit at each validator
+ * index set if the validator was seen live.
+ */
+public record ValidatorLivenessBitfield(UInt64 epoch, BitSet liveValidators) {
+
+  private static final DeserializableTypeDefinition<BitSet> BITFIELD_TYPE =
+      DeserializableTypeDefinition.string(BitSet.class)
+          .formatter(bitSet -> Bytes.wrap(bitSet.toByteArray()).toHexString())
+          .parser(value -> BitSet.valueOf(Bytes.fromHexString(value).toArrayUnsafe()))
+          .example("0x0a")
+          .description(
+              "Bitfield indexed by validator index, lowest index in the least significant bit"
+                  + " of the first byte")
+          .format("byte")
+          .build();
+
+  public static DeserializableTypeDefinition<ValidatorLivenessBitfield> getJsonTypeDefinition() {
+    return DeserializableTypeDefinition.object(
+            ValidatorLivenessBitfield.class, ValidatorLivenessBitfield.Builder.class)
+        .initializer(Builder::new)
+        .finisher(Builder::build)
+        .withField("epoch", UINT64_TYPE, ValidatorLivenessBitfield::epoch, Builder::epoch)
+        .withField(
+            "live_validators",
+            BITFIELD_TYPE,
+            ValidatorLivenessBitfield::liveValidators,
+            Builder::liveValidators)
+        .build();
+  }
+
+  public boolean isLive(final UInt64 validatorIndex) {
+    return liveValidators.get(validatorIndex.intValue());
+  }
+
+  public static class Builder {
+    private UInt64 epoch;
+    private BitSet liveValidators;
+
+    public Builder() {}
+
+    public Builder epoch(final UInt64 epoch) {
+      this.epoch = epoch;
+      return this;
+    }
+
+    public Builder liveValidators(final BitSet liveValidators) {
+      this.liveValidators = liveValidators;
+      return this;
+    }
+
+    public ValidatorLivenessBitfield build() {
+      return new ValidatorLivenessBitfield(epoch, liveValidators);
+    }
+  }
+}
@@ -31,6 +31,7 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSTestUtil;
 
@@ -38,6 +39,9 @@ import tech.pegasys.teku.bls.BLSTestUtil;
 @State(Scope.Thread)
 public class BLSBenchmark {
 
+  private static final int COMMITTEE_SIZE = 512;
+  private static final int MISSING_ATTESTER_COUNT = COMMITTEE_SIZE / 10;
+
   @Param({"1", "2", "4", "8", "16", "32", "64", "128"})
   int sigCnt = 128;
 
@@ -52,6 +56,16 @@ public class BLSBenchmark {
               (keyPair, msg) -> BLS.sign(keyPair.getSecretKey(), msg))
           .collect(Collectors.toList());
 
+  List<BLSPublicKey> committeePublicKeys =
+      IntStream.range(0, COMMITTEE_SIZE)
+          .mapToObj(BLSTestUtil::randomPublicKey)
+          .collect(Collectors.toList());
+  BLSPublicKey committeeAggregatePublicKey = BLSPublicKey.aggregate(committeePublicKeys);
+  List<BLSPublicKey> attesterPublicKeys =
+      committeePublicKeys.subList(MISSING_ATTESTER_COUNT, COMMITTEE_SIZE);
+  List<BLSPublicKey> missingAttesterPublicKeys =
+      committeePublicKeys.subList(0, MISSING_ATTESTER_COUNT);
+
   @Benchmark
   @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
   @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
@@ -139,4 +153,18 @@ public class BLSBenchmark {
       throw new IllegalStateException();
     }
   }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public BLSPublicKey aggregateNearFullCommitteePublicKeys() {
+    return BLSPublicKey.aggregate(attesterPublicKeys);
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public BLSPublicKey subtractMissingFromCommitteeAggregatePublicKey() {
+    return BLSPublicKey.subtract(committeeAggregatePublicKey, missingAttesterPublicKeys);
+  }
 }
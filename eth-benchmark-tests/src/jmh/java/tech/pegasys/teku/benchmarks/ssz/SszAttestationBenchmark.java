@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.benchmarks.ssz;
 
+import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
@@ -33,6 +34,18 @@ public class SszAttestationBenchmark extends SszAbstractContainerBenchmark<Attes
   private static final AttestationData attestationData = anAttestation.getData();
   private static final BLSSignature signature = anAttestation.getAggregateSignature();
 
+  @Benchmark
+  public void benchCreateDataAndHashTreeRoot(Blackhole bh) {
+    final AttestationData data =
+        new AttestationData(
+            attestationData.getSlot(),
+            attestationData.getIndex(),
+            attestationData.getBeaconBlockRoot(),
+            attestationData.getSource(),
+            attestationData.getTarget());
+    bh.consume(data.hashTreeRoot());
+  }
+
   @Override
   protected Attestation createContainer() {
     return getContainerType().create(aggregation_bits, attestationData, signature);
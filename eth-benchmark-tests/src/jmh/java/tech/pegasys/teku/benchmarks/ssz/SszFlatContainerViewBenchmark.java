@@ -0,0 +1,94 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.ssz;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszFlatContainerLayout;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlockSchema;
+import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof.SignedAggregateAndProofSchema;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Measures how many gossip messages per second can be dropped when the decision only needs the
+ * message slot, as for duplicate aggregates from old slots and blocks from finalized slots or the
+ * wrong milestone. Compares deserializing the message with reading the slot from the flat view.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class SszFlatContainerViewBenchmark {
+
+  private static final Spec SPEC = TestSpecFactory.createMainnetDeneb();
+  private static final DataStructureUtil DATA_STRUCTURE_UTIL = new DataStructureUtil(0, SPEC);
+  private static final SchemaDefinitions SCHEMA_DEFINITIONS = SPEC.getGenesisSchemaDefinitions();
+
+  private static final SignedBeaconBlockSchema BLOCK_SCHEMA =
+      SCHEMA_DEFINITIONS.getSignedBeaconBlockSchema();
+  private static final SszFlatContainerLayout BLOCK_LAYOUT =
+      SszFlatContainerLayout.create(BLOCK_SCHEMA);
+  private static final int[] BLOCK_SLOT_PATH = BLOCK_LAYOUT.getFieldIndices("message", "slot");
+  private static final Bytes INVALID_BLOCK =
+      DATA_STRUCTURE_UTIL.randomSignedBeaconBlock(1).sszSerialize();
+
+  private static final SignedAggregateAndProofSchema AGGREGATE_SCHEMA =
+      SCHEMA_DEFINITIONS.getSignedAggregateAndProofSchema();
+  private static final SszFlatContainerLayout AGGREGATE_LAYOUT =
+      SszFlatContainerLayout.create(AGGREGATE_SCHEMA);
+  private static final int[] AGGREGATE_SLOT_PATH =
+      AGGREGATE_LAYOUT.getFieldIndices("message", "aggregate", "data", "slot");
+  private static final Bytes DUPLICATE_AGGREGATE =
+      DATA_STRUCTURE_UTIL.randomSignedAggregateAndProof(UInt64.ONE).sszSerialize();
+
+  @Benchmark
+  public void invalidBlockDeserialized(final Blackhole bh) {
+    bh.consume(BLOCK_SCHEMA.sszDeserialize(INVALID_BLOCK).getSlot());
+  }
+
+  @Benchmark
+  public void invalidBlockFlat(final Blackhole bh) {
+    bh.consume(BLOCK_LAYOUT.wrap(INVALID_BLOCK).getUInt64(BLOCK_SLOT_PATH));
+  }
+
+  @Benchmark
+  public void duplicateAggregateDeserialized(final Blackhole bh) {
+    bh.consume(
+        AGGREGATE_SCHEMA
+            .sszDeserialize(DUPLICATE_AGGREGATE)
+            .getMessage()
+            .getAggregate()
+            .getData()
+            .getSlot());
+  }
+
+  @Benchmark
+  public void duplicateAggregateFlat(final Blackhole bh) {
+    bh.consume(AGGREGATE_LAYOUT.wrap(DUPLICATE_AGGREGATE).getUInt64(AGGREGATE_SLOT_PATH));
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.ssz;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszByteArrayWriter;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszSerializationCache;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Serializes a sequence of states where each state is the previous one advanced by an epoch with
+ * all balances and a small number of validators changed, with and without reusing the bytes of
+ * unchanged subtrees from the previous serialization.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class StateSerializationCacheBenchmark {
+  private static final int VALIDATOR_COUNT = 100_000;
+  private static final int CHANGED_VALIDATORS_PER_EPOCH = 100;
+
+  private final Spec spec = TestSpecFactory.createMainnetDeneb();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(0, spec);
+  private final SszSerializationCache cache = new SszSerializationCache(512L * 1024 * 1024);
+  private BeaconState state;
+  private int epochCount = 0;
+
+  @Setup(Level.Trial)
+  public void setupTrial() {
+    state = dataStructureUtil.randomBeaconState(VALIDATOR_COUNT);
+    state.hashTreeRoot();
+    serializeState(state, true);
+  }
+
+  @Setup(Level.Invocation)
+  public void advanceEpoch() {
+    epochCount++;
+    state =
+        state.updated(
+            mutableState -> {
+              mutableState.setSlot(
+                  mutableState.getSlot().plus(spec.getGenesisSpecConfig().getSlotsPerEpoch()));
+              final int balanceCount = mutableState.getBalances().size();
+              for (int i = 0; i < balanceCount; i++) {
+                mutableState
+                    .getBalances()
+                    .setElement(i, mutableState.getBalances().getElement(i).plus(epochCount));
+              }
+              for (int i = 0; i < CHANGED_VALIDATORS_PER_EPOCH; i++) {
+                final int index =
+                    (epochCount * CHANGED_VALIDATORS_PER_EPOCH + i * 997) % VALIDATOR_COUNT;
+                mutableState
+                    .getValidators()
+                    .update(
+                        index,
+                        validator -> validator.withEffectiveBalance(UInt64.valueOf(epochCount)));
+              }
+            });
+    state.hashTreeRoot();
+  }
+
+  @Benchmark
+  public void serialize(final Blackhole bh) {
+    bh.consume(serializeState(state, false));
+  }
+
+  @Benchmark
+  public void serializeWithCache(final Blackhole bh) {
+    bh.consume(serializeState(state, true));
+  }
+
+  private byte[] serializeState(final BeaconState beaconState, final boolean useCache) {
+    final SszByteArrayWriter writer =
+        new SszByteArrayWriter(beaconState.getSchema().getSszSize(beaconState.getBackingNode()));
+    beaconState.sszSerialize(useCache ? cache.wrap(writer) : writer);
+    return writer.getBytesArray();
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.ssz;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/** Compares boxed and primitive access to a balances sized uint64 list */
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class UInt64ListBenchmark {
+
+  private static final long MAX_LIST_SIZE = 1L << 40; // Max Validators on Mainnet
+  private static final int LIST_SIZE = 1 << 20; // ~1M validator balances
+  private static final SszUInt64ListSchema<?> LIST_SCHEMA =
+      SszUInt64ListSchema.create(MAX_LIST_SIZE);
+  private static final TreeNode LIST_TREE = createListTree();
+
+  private final long[] balances = new long[LIST_SIZE];
+
+  private static TreeNode createListTree() {
+    final SszMutableUInt64List list = LIST_SCHEMA.getDefault().createWritableCopy();
+    for (int i = 0; i < LIST_SIZE; i++) {
+      list.appendElement(UInt64.valueOf(32_000_000_000L + i));
+    }
+    return list.commitChanges().getBackingNode();
+  }
+
+  @Benchmark
+  public void readBoxed(final Blackhole bh) {
+    final SszUInt64List list = LIST_SCHEMA.createFromBackingNode(LIST_TREE);
+    for (int i = 0; i < LIST_SIZE; i++) {
+      bh.consume(list.getElement(i));
+    }
+  }
+
+  @Benchmark
+  public void readLong(final Blackhole bh) {
+    final SszUInt64List list = LIST_SCHEMA.createFromBackingNode(LIST_TREE);
+    for (int i = 0; i < LIST_SIZE; i++) {
+      bh.consume(list.getLong(i));
+    }
+  }
+
+  @Benchmark
+  public void copyTo(final Blackhole bh) {
+    final SszUInt64List list = LIST_SCHEMA.createFromBackingNode(LIST_TREE);
+    list.copyTo(balances);
+    bh.consume(balances);
+  }
+
+  @Benchmark
+  public void updateAllBoxed(final Blackhole bh) {
+    final SszMutableUInt64List list =
+        LIST_SCHEMA.createFromBackingNode(LIST_TREE).createWritableCopy();
+    for (int i = 0; i < LIST_SIZE; i++) {
+      list.setElement(i, list.getElement(i).plus(1));
+    }
+    bh.consume(list.commitChanges().hashTreeRoot());
+  }
+
+  @Benchmark
+  public void updateAllLong(final Blackhole bh) {
+    final SszMutableUInt64List list =
+        LIST_SCHEMA.createFromBackingNode(LIST_TREE).createWritableCopy();
+    for (int i = 0; i < LIST_SIZE; i++) {
+      list.setLong(i, list.getLong(i) + 1);
+    }
+    bh.consume(list.commitChanges().hashTreeRoot());
+  }
+
+  @Benchmark
+  public void updateAllBatched(final Blackhole bh) {
+    final SszMutableUInt64List list =
+        LIST_SCHEMA.createFromBackingNode(LIST_TREE).createWritableCopy();
+    list.updateLongs(0, LIST_SIZE, (index, balance) -> balance + 1);
+    bh.consume(list.commitChanges().hashTreeRoot());
+  }
+}
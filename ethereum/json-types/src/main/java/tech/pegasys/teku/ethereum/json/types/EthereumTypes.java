@@ -40,6 +40,9 @@ import tech.pegasys.teku.infrastructure.json.types.StringValueTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.OctetStreamResponseContentTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.ResponseContentTypeDefinition;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszOutputStreamWriter;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszSerializationCache;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
 import tech.pegasys.teku.kzg.KZGCommitment;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.metadata.BlockContainerAndMetaData;
@@ -144,6 +147,18 @@ public class EthereumTypes {
         value -> getSszHeaders(__ -> value.getMilestone(), value.getData()));
   }
 
+  public static <X extends SszData, T extends ObjectAndMetaData<X>>
+      ResponseContentTypeDefinition<? extends T> sszResponseType(
+          final Optional<SszSerializationCache> serializationCache) {
+    return new OctetStreamResponseContentTypeDefinition<>(
+        (data, out) -> {
+          final SszWriter writer = new SszOutputStreamWriter(out);
+          data.getData()
+              .sszSerialize(serializationCache.map(cache -> cache.wrap(writer)).orElse(writer));
+        },
+        value -> getSszHeaders(__ -> value.getMilestone(), value.getData()));
+  }
+
   public static ResponseContentTypeDefinition<BlockContainerAndMetaData>
       blockContainerAndMetaDataSszResponseType() {
     return new OctetStreamResponseContentTypeDefinition<>(
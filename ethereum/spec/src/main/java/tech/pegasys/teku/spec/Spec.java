@@ -25,6 +25,7 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.IntList;
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +45,7 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.ssz.Merkleizable;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.cache.IndexedAttestationCache;
 import tech.pegasys.teku.spec.config.NetworkingSpecConfig;
@@ -72,6 +74,8 @@ import tech.pegasys.teku.spec.datastructures.execution.versions.capella.Withdraw
 import tech.pegasys.teku.spec.datastructures.forkchoice.MutableStore;
 import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyForkChoiceStrategy;
 import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyStore;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.operations.AggregateAndProof;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
@@ -93,6 +97,7 @@ import tech.pegasys.teku.spec.logic.StateTransition;
 import tech.pegasys.teku.spec.logic.common.block.BlockProcessor;
 import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
 import tech.pegasys.teku.spec.logic.common.operations.validation.OperationInvalidReason;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardsRecorder;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.BlockProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.SlotProcessingException;
@@ -128,13 +133,23 @@ public class Spec {
   static Spec create(
       final SpecConfigAndParent<? extends SpecConfig> specConfigAndParent,
       final SpecMilestone highestMilestoneSupported) {
+    return create(specConfigAndParent, highestMilestoneSupported, Optional.empty());
+  }
+
+  private static Spec create(
+      final SpecConfigAndParent<? extends SpecConfig> specConfigAndParent,
+      final SpecMilestone highestMilestoneSupported,
+      final Optional<EpochRewardsRecorder> epochRewardsRecorder) {
     final Map<SpecMilestone, SpecVersion> specVersions = new EnumMap<>(SpecMilestone.class);
     final ForkSchedule.Builder forkScheduleBuilder = ForkSchedule.builder();
     final SchemaRegistryBuilder schemaRegistryBuilder = SchemaRegistryBuilder.create();
 
     for (SpecMilestone milestone : SpecMilestone.getMilestonesUpTo(highestMilestoneSupported)) {
       SpecVersion.create(
-              milestone, specConfigAndParent.forMilestone(milestone), schemaRegistryBuilder)
+              milestone,
+              specConfigAndParent.forMilestone(milestone),
+              schemaRegistryBuilder,
+              epochRewardsRecorder)
           .ifPresent(
               milestoneSpec -> {
                 forkScheduleBuilder.addNextMilestone(milestoneSpec);
@@ -167,6 +182,17 @@ public class Spec {
     return atTime(millisToSeconds(genesisTimeMillis), millisToSeconds(currentTimeMillis));
   }
 
+  /**
+   * Creates a copy of this spec whose epoch transitions record the reward and penalty deltas they
+   * calculate. This spec, and any component already using it, is left unchanged.
+   */
+  public Spec withEpochRewardsRecorder(final EpochRewardsRecorder epochRewardsRecorder) {
+    return create(
+        specConfigAndParent,
+        Collections.max(specVersions.keySet()),
+        Optional.of(epochRewardsRecorder));
+  }
+
   public SpecConfigAndParent<? extends SpecConfig> getSpecConfigAndParent() {
     return specConfigAndParent;
   }
@@ -410,6 +436,36 @@ public class Spec {
         .sszDeserialize(serializedBlobSidecar);
   }
 
+  public LightClientUpdate deserializeLightClientUpdate(final Bytes serializedUpdate) {
+    return atSlot(extractLightClientHeaderSlot(serializedUpdate))
+        .getSchemaDefinitions()
+        .toVersionAltair()
+        .orElseThrow(
+            () ->
+                new RuntimeException(
+                    "Altair milestone is required to deserialize light client update"))
+        .getLightClientUpdateSchema()
+        .sszDeserialize(serializedUpdate);
+  }
+
+  public LightClientBootstrap deserializeLightClientBootstrap(final Bytes serializedBootstrap) {
+    return atSlot(extractLightClientHeaderSlot(serializedBootstrap))
+        .getSchemaDefinitions()
+        .toVersionAltair()
+        .orElseThrow(
+            () ->
+                new RuntimeException(
+                    "Altair milestone is required to deserialize light client bootstrap"))
+        .getLightClientBootstrapSchema()
+        .sszDeserialize(serializedBootstrap);
+  }
+
+  private static UInt64 extractLightClientHeaderSlot(final Bytes serialized) {
+    // Light client updates and bootstraps start with a fixed size header, whose first field is the
+    // slot of the header's block
+    return SszPrimitiveSchemas.UINT64_SCHEMA.sszDeserialize(serialized.slice(0, Long.BYTES)).get();
+  }
+
   public ExecutionPayloadHeader deserializeJsonExecutionPayloadHeader(
       final ObjectMapper objectMapper, final File jsonFile, final UInt64 slot) throws IOException {
     return atSlot(slot)
@@ -24,6 +24,7 @@ import tech.pegasys.teku.spec.config.SpecConfigDeneb;
 import tech.pegasys.teku.spec.config.SpecConfigElectra;
 import tech.pegasys.teku.spec.logic.DelegatingSpecLogic;
 import tech.pegasys.teku.spec.logic.SpecLogic;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardsRecorder;
 import tech.pegasys.teku.spec.logic.versions.altair.SpecLogicAltair;
 import tech.pegasys.teku.spec.logic.versions.bellatrix.SpecLogicBellatrix;
 import tech.pegasys.teku.spec.logic.versions.capella.SpecLogicCapella;
@@ -60,31 +61,50 @@ public class SpecVersion extends DelegatingSpecLogic {
       final SpecMilestone milestone,
       final SpecConfig specConfig,
       final SchemaRegistryBuilder schemaRegistryBuilder) {
+    return create(milestone, specConfig, schemaRegistryBuilder, Optional.empty());
+  }
+
+  public static Optional<SpecVersion> create(
+      final SpecMilestone milestone,
+      final SpecConfig specConfig,
+      final SchemaRegistryBuilder schemaRegistryBuilder,
+      final Optional<EpochRewardsRecorder> epochRewardsRecorder) {
 
     return switch (milestone) {
       case PHASE0 -> Optional.of(createPhase0(specConfig, schemaRegistryBuilder));
       case ALTAIR ->
           specConfig
               .toVersionAltair()
-              .map(specConfigAltair -> createAltair(specConfigAltair, schemaRegistryBuilder));
+              .map(
+                  specConfigAltair ->
+                      createAltair(specConfigAltair, schemaRegistryBuilder, epochRewardsRecorder));
       case BELLATRIX ->
           specConfig
               .toVersionBellatrix()
               .map(
                   specConfigBellatrix ->
-                      createBellatrix(specConfigBellatrix, schemaRegistryBuilder));
+                      createBellatrix(
+                          specConfigBellatrix, schemaRegistryBuilder, epochRewardsRecorder));
       case CAPELLA ->
           specConfig
               .toVersionCapella()
-              .map(specConfigCapella -> createCapella(specConfigCapella, schemaRegistryBuilder));
+              .map(
+                  specConfigCapella ->
+                      createCapella(
+                          specConfigCapella, schemaRegistryBuilder, epochRewardsRecorder));
       case DENEB ->
           specConfig
               .toVersionDeneb()
-              .map(specConfigDeneb -> createDeneb(specConfigDeneb, schemaRegistryBuilder));
+              .map(
+                  specConfigDeneb ->
+                      createDeneb(specConfigDeneb, schemaRegistryBuilder, epochRewardsRecorder));
       case ELECTRA ->
           specConfig
               .toVersionElectra()
-              .map(specConfigElectra -> createElectra(specConfigElectra, schemaRegistryBuilder));
+              .map(
+                  specConfigElectra ->
+                      createElectra(
+                          specConfigElectra, schemaRegistryBuilder, epochRewardsRecorder));
     };
   }
 
@@ -99,53 +119,68 @@ public class SpecVersion extends DelegatingSpecLogic {
   }
 
   static SpecVersion createAltair(
-      final SpecConfigAltair specConfig, final SchemaRegistryBuilder schemaRegistryBuilder) {
+      final SpecConfigAltair specConfig,
+      final SchemaRegistryBuilder schemaRegistryBuilder,
+      final Optional<EpochRewardsRecorder> epochRewardsRecorder) {
     final SchemaRegistry schemaRegistry =
         schemaRegistryBuilder.build(SpecMilestone.ALTAIR, specConfig);
     final SchemaDefinitionsAltair schemaDefinitions = new SchemaDefinitionsAltair(schemaRegistry);
     final SpecLogic specLogic =
-        SpecLogicAltair.create(specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER);
+        SpecLogicAltair.create(
+            specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER, epochRewardsRecorder);
     return new SpecVersion(SpecMilestone.ALTAIR, specConfig, schemaDefinitions, specLogic);
   }
 
   static SpecVersion createBellatrix(
-      final SpecConfigBellatrix specConfig, final SchemaRegistryBuilder schemaRegistryBuilder) {
+      final SpecConfigBellatrix specConfig,
+      final SchemaRegistryBuilder schemaRegistryBuilder,
+      final Optional<EpochRewardsRecorder> epochRewardsRecorder) {
     final SchemaRegistry schemaRegistry =
         schemaRegistryBuilder.build(SpecMilestone.BELLATRIX, specConfig);
     final SchemaDefinitionsBellatrix schemaDefinitions =
         new SchemaDefinitionsBellatrix(schemaRegistry);
     final SpecLogic specLogic =
-        SpecLogicBellatrix.create(specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER);
+        SpecLogicBellatrix.create(
+            specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER, epochRewardsRecorder);
     return new SpecVersion(SpecMilestone.BELLATRIX, specConfig, schemaDefinitions, specLogic);
   }
 
   static SpecVersion createCapella(
-      final SpecConfigCapella specConfig, final SchemaRegistryBuilder schemaRegistryBuilder) {
+      final SpecConfigCapella specConfig,
+      final SchemaRegistryBuilder schemaRegistryBuilder,
+      final Optional<EpochRewardsRecorder> epochRewardsRecorder) {
     final SchemaRegistry schemaRegistry =
         schemaRegistryBuilder.build(SpecMilestone.CAPELLA, specConfig);
     final SchemaDefinitionsCapella schemaDefinitions = new SchemaDefinitionsCapella(schemaRegistry);
     final SpecLogicCapella specLogic =
-        SpecLogicCapella.create(specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER);
+        SpecLogicCapella.create(
+            specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER, epochRewardsRecorder);
     return new SpecVersion(SpecMilestone.CAPELLA, specConfig, schemaDefinitions, specLogic);
   }
 
   static SpecVersion createDeneb(
-      final SpecConfigDeneb specConfig, final SchemaRegistryBuilder schemaRegistryBuilder) {
+      final SpecConfigDeneb specConfig,
+      final SchemaRegistryBuilder schemaRegistryBuilder,
+      final Optional<EpochRewardsRecorder> epochRewardsRecorder) {
     final SchemaRegistry schemaRegistry =
         schemaRegistryBuilder.build(SpecMilestone.DENEB, specConfig);
     final SchemaDefinitionsDeneb schemaDefinitions = new SchemaDefinitionsDeneb(schemaRegistry);
     final SpecLogicDeneb specLogic =
-        SpecLogicDeneb.create(specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER);
+        SpecLogicDeneb.create(
+            specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER, epochRewardsRecorder);
     return new SpecVersion(SpecMilestone.DENEB, specConfig, schemaDefinitions, specLogic);
   }
 
   static SpecVersion createElectra(
-      final SpecConfigElectra specConfig, final SchemaRegistryBuilder schemaRegistryBuilder) {
+      final SpecConfigElectra specConfig,
+      final SchemaRegistryBuilder schemaRegistryBuilder,
+      final Optional<EpochRewardsRecorder> epochRewardsRecorder) {
     final SchemaRegistry schemaRegistry =
         schemaRegistryBuilder.build(SpecMilestone.ELECTRA, specConfig);
     final SchemaDefinitionsElectra schemaDefinitions = new SchemaDefinitionsElectra(schemaRegistry);
     final SpecLogicElectra specLogic =
-        SpecLogicElectra.create(specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER);
+        SpecLogicElectra.create(
+            specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER, epochRewardsRecorder);
     return new SpecVersion(SpecMilestone.ELECTRA, specConfig, schemaDefinitions, specLogic);
   }
 
@@ -231,7 +231,7 @@ public class ExpectedWithdrawals {
     for (int i = 0; i < bound; i++) {
       final Validator validator = validators.get(validatorIndex);
       if (predicates.hasExecutionWithdrawalCredential(validator)) {
-        final UInt64 balance = balances.get(validatorIndex).get();
+        final UInt64 balance = UInt64.fromLongBits(balances.getLong(validatorIndex));
 
         if (predicates.isFullyWithdrawableValidatorCredentialsChecked(validator, balance, epoch)) {
           expectedWithdrawals.add(
@@ -15,14 +15,14 @@ package tech.pegasys.teku.spec.datastructures.state;
 
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
-import tech.pegasys.teku.infrastructure.ssz.containers.Container2;
 import tech.pegasys.teku.infrastructure.ssz.containers.ContainerSchema2;
+import tech.pegasys.teku.infrastructure.ssz.containers.FlatContainer2;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszBytes32;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszBytes4;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 
-public class ForkData extends Container2<ForkData, SszBytes4, SszBytes32> {
+public class ForkData extends FlatContainer2<ForkData, SszBytes4, SszBytes32> {
 
   public static class ForkDataSchema extends ContainerSchema2<ForkData, SszBytes4, SszBytes32> {
 
@@ -14,13 +14,13 @@
 package tech.pegasys.teku.spec.datastructures.state;
 
 import org.apache.tuweni.bytes.Bytes32;
-import tech.pegasys.teku.infrastructure.ssz.containers.Container2;
 import tech.pegasys.teku.infrastructure.ssz.containers.ContainerSchema2;
+import tech.pegasys.teku.infrastructure.ssz.containers.FlatContainer2;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszBytes32;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 
-public class SigningData extends Container2<SigningData, SszBytes32, SszBytes32> {
+public class SigningData extends FlatContainer2<SigningData, SszBytes32, SszBytes32> {
 
   public static class SigningDataSchema
       extends ContainerSchema2<SigningData, SszBytes32, SszBytes32> {
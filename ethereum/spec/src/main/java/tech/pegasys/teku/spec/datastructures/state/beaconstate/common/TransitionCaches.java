@@ -51,6 +51,7 @@ public class TransitionCaches {
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
+          NoOpCache.getNoOpCache(),
           ValidatorIndexCache.NO_OP_INSTANCE,
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
@@ -81,6 +82,7 @@ public class TransitionCaches {
   private final Cache<UInt64, UInt64> attestersTotalBalance;
   private final Cache<UInt64, UInt64> totalActiveBalance;
   private final Cache<UInt64, BLSPublicKey> validatorsPubKeys;
+  private final Cache<TekuPair<UInt64, UInt64>, BLSPublicKey> committeeAggregatePubKeys;
   private final ValidatorIndexCache validatorIndexCache;
   private final Cache<Bytes32, IntList> committeeShuffle;
   private final Cache<UInt64, List<UInt64>> effectiveBalances;
@@ -99,6 +101,7 @@ public class TransitionCaches {
     attestersTotalBalance = LRUCache.create(MAX_BEACON_COMMITTEE_CACHE);
     totalActiveBalance = LRUCache.create(MAX_TOTAL_ACTIVE_BALANCE_CACHE);
     validatorsPubKeys = LRUCache.create(Integer.MAX_VALUE - 1);
+    committeeAggregatePubKeys = LRUCache.create(MAX_BEACON_COMMITTEE_CACHE);
     validatorIndexCache = new ValidatorIndexCache();
     committeeShuffle = LRUCache.create(MAX_COMMITTEE_SHUFFLE_CACHE);
     effectiveBalances = LRUCache.create(MAX_EFFECTIVE_BALANCE_CACHE);
@@ -115,6 +118,7 @@ public class TransitionCaches {
       final Cache<UInt64, UInt64> attestersTotalBalance,
       final Cache<UInt64, UInt64> totalActiveBalance,
       final Cache<UInt64, BLSPublicKey> validatorsPubKeys,
+      final Cache<TekuPair<UInt64, UInt64>, BLSPublicKey> committeeAggregatePubKeys,
       final ValidatorIndexCache validatorIndexCache,
       final Cache<Bytes32, IntList> committeeShuffle,
       final Cache<UInt64, List<UInt64>> effectiveBalances,
@@ -128,6 +132,7 @@ public class TransitionCaches {
     this.attestersTotalBalance = attestersTotalBalance;
     this.totalActiveBalance = totalActiveBalance;
     this.validatorsPubKeys = validatorsPubKeys;
+    this.committeeAggregatePubKeys = committeeAggregatePubKeys;
     this.validatorIndexCache = validatorIndexCache;
     this.committeeShuffle = committeeShuffle;
     this.effectiveBalances = effectiveBalances;
@@ -188,6 +193,11 @@ public class TransitionCaches {
     return validatorsPubKeys;
   }
 
+  /** (slot, committeeIndex) -> (aggregate of all committee members' pub keys) cache */
+  public Cache<TekuPair<UInt64, UInt64>, BLSPublicKey> getCommitteeAggregatePubKeys() {
+    return committeeAggregatePubKeys;
+  }
+
   /**
    * (validator pub key) -> (validator index) cache
    *
@@ -237,6 +247,7 @@ public class TransitionCaches {
         attestersTotalBalance.copy(),
         totalActiveBalance.copy(),
         validatorsPubKeys,
+        committeeAggregatePubKeys.copy(),
         validatorIndexCache,
         committeeShuffle.copy(),
         effectiveBalances.copy(),
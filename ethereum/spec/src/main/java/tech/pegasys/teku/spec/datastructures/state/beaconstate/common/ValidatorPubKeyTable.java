@@ -0,0 +1,124 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Node-wide table of validator public keys by validator index, shared by all states.
+ *
+ * <p>{@link TransitionCaches} only live as long as a state's lineage, so states loaded from disk or
+ * regenerated would otherwise decompress every public key they use again. Once a key is in the
+ * table the same {@link BLSPublicKey} instance is returned for every state, so it only has to be
+ * decompressed once.
+ *
+ * <p>Entries are never replaced. Before finalization a validator index may be assigned to different
+ * keys on different forks, so a key is only returned when it matches the key in the requesting
+ * state.
+ */
+public class ValidatorPubKeyTable {
+  private static final int CHUNK_SIZE_BITS = 16;
+  private static final int CHUNK_SIZE = 1 << CHUNK_SIZE_BITS;
+
+  private static final ValidatorPubKeyTable INSTANCE = new ValidatorPubKeyTable();
+
+  private final List<AtomicReferenceArray<BLSPublicKey>> chunks = new CopyOnWriteArrayList<>();
+
+  @VisibleForTesting
+  ValidatorPubKeyTable() {}
+
+  public static ValidatorPubKeyTable getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the table's key for the validator if it matches the key from the state, otherwise
+   * returns the key from the state, adding it to the table if there was no entry for the validator.
+   */
+  public BLSPublicKey getOrAdd(final int validatorIndex, final BLSPublicKey statePubKey) {
+    checkArgument(validatorIndex >= 0, "Invalid validator index %s", validatorIndex);
+    final AtomicReferenceArray<BLSPublicKey> chunk = getOrCreateChunk(validatorIndex);
+    final int chunkIndex = validatorIndex & (CHUNK_SIZE - 1);
+    final BLSPublicKey existing = chunk.compareAndExchange(chunkIndex, null, statePubKey);
+    if (existing == null) {
+      return statePubKey;
+    }
+    return existing.toBytesCompressed().equals(statePubKey.toBytesCompressed())
+        ? existing
+        : statePubKey;
+  }
+
+  /**
+   * Adds the keys of all validators in the state which aren't yet in the table, decompressing them
+   * in parallel. Intended to be used with the finalized state, whose validator keys can't change.
+   */
+  public void addValidators(final BeaconState state) {
+    final SszList<Validator> validators = state.getValidators();
+    final int firstMissingIndex = getFirstMissingIndex(validators.size());
+    // Note: as in AbstractValidatorStatusFactory the list is iterated by a single thread and only
+    // the decompression of each key is done by worker pools.
+    final List<BLSPublicKey> pubKeys =
+        validators.asList().subList(firstMissingIndex, validators.size()).stream()
+            .parallel()
+            .map(
+                validator -> {
+                  final BLSPublicKey pubKey = validator.getPublicKey();
+                  try {
+                    // Decompresses the key, which is then retained by the BLSPublicKey instance
+                    pubKey.isValid();
+                  } catch (final IllegalArgumentException e) {
+                    // Invalid keys fail again when they're used so there's nothing to retain
+                  }
+                  return pubKey;
+                })
+            .toList();
+    for (int i = 0; i < pubKeys.size(); i++) {
+      getOrAdd(firstMissingIndex + i, pubKeys.get(i));
+    }
+  }
+
+  @VisibleForTesting
+  int getFirstMissingIndex(final int limit) {
+    for (int i = 0; i < limit; i++) {
+      final int chunkNumber = i >>> CHUNK_SIZE_BITS;
+      if (chunkNumber >= chunks.size()
+          || chunks.get(chunkNumber).get(i & (CHUNK_SIZE - 1)) == null) {
+        return i;
+      }
+    }
+    return limit;
+  }
+
+  private AtomicReferenceArray<BLSPublicKey> getOrCreateChunk(final int validatorIndex) {
+    final int chunkNumber = validatorIndex >>> CHUNK_SIZE_BITS;
+    if (chunkNumber < chunks.size()) {
+      return chunks.get(chunkNumber);
+    }
+    synchronized (chunks) {
+      while (chunks.size() <= chunkNumber) {
+        chunks.add(new AtomicReferenceArray<>(CHUNK_SIZE));
+      }
+    }
+    return chunks.get(chunkNumber);
+  }
+}
@@ -38,6 +38,7 @@ import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorPubKeyTable;
 
 public abstract class BeaconStateAccessors {
   protected final SpecConfig config;
@@ -87,7 +88,11 @@ public abstract class BeaconStateAccessors {
             .get(
                 validatorIndex,
                 i -> {
-                  BLSPublicKey pubKey = state.getValidators().get(i.intValue()).getPublicKey();
+                  // share the decompressed key with other states which have the same validator
+                  final BLSPublicKey pubKey =
+                      ValidatorPubKeyTable.getInstance()
+                          .getOrAdd(
+                              i.intValue(), state.getValidators().get(i.intValue()).getPublicKey());
 
                   // eagerly pre-cache pubKey => validatorIndex mapping
                   BeaconStateCache.getTransitionCaches(state)
@@ -19,6 +19,7 @@ import com.google.common.base.Suppliers;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
@@ -64,7 +65,8 @@ public class BeaconStateMutators {
    *     <a>https://github.com/ethereum/consensus-specs/blob/v0.8.0/specs/core/0_beacon-chain.md#increase_balance</a>
    */
   public void increaseBalance(final MutableBeaconState state, final int index, final UInt64 delta) {
-    state.getBalances().setElement(index, state.getBalances().getElement(index).plus(delta));
+    final SszMutableUInt64List balances = state.getBalances();
+    balances.setLong(index, UInt64.fromLongBits(balances.getLong(index)).plus(delta).longValue());
   }
 
   /**
@@ -77,9 +79,9 @@ public class BeaconStateMutators {
    *     <a>https://github.com/ethereum/consensus-specs/blob/v0.8.0/specs/core/0_beacon-chain.md#decrease_balance</a>
    */
   public void decreaseBalance(final MutableBeaconState state, final int index, final UInt64 delta) {
-    state
-        .getBalances()
-        .setElement(index, state.getBalances().getElement(index).minusMinZero(delta));
+    final SszMutableUInt64List balances = state.getBalances();
+    balances.setLong(
+        index, UInt64.fromLongBits(balances.getLong(index)).minusMinZero(delta).longValue());
   }
 
   /**
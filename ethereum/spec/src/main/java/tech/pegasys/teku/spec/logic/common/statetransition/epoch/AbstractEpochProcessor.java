@@ -16,6 +16,7 @@ package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
@@ -68,6 +69,7 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
   // Used to log once per minute (throttlingPeriod = 60 seconds)
   private final Throttler<Logger> loggerThrottler = new Throttler<>(LOG, UInt64.valueOf(60));
   private final TimeProvider timeProvider;
+  protected final Optional<EpochRewardsRecorder> epochRewardsRecorder;
 
   protected AbstractEpochProcessor(
       final SpecConfig specConfig,
@@ -78,7 +80,8 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
       final BeaconStateUtil beaconStateUtil,
       final ValidatorStatusFactory validatorStatusFactory,
       final SchemaDefinitions schemaDefinitions,
-      final TimeProvider timeProvider) {
+      final TimeProvider timeProvider,
+      final Optional<EpochRewardsRecorder> epochRewardsRecorder) {
     this.specConfig = specConfig;
     this.miscHelpers = miscHelpers;
     this.beaconStateAccessors = beaconStateAccessors;
@@ -89,6 +92,7 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     this.schemaDefinitions = schemaDefinitions;
     this.maxEffectiveBalance = specConfig.getMaxEffectiveBalance();
     this.timeProvider = timeProvider;
+    this.epochRewardsRecorder = epochRewardsRecorder;
   }
 
   /**
@@ -294,8 +298,8 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
         return;
       }
 
-      RewardAndPenaltyDeltas attestationDeltas =
-          getRewardAndPenaltyDeltas(state, validatorStatuses);
+      final RewardAndPenaltyDeltas attestationDeltas =
+          calculateRewardAndPenaltyDeltas(state, validatorStatuses);
 
       applyDeltas(state, attestationDeltas);
     } catch (IllegalArgumentException e) {
@@ -303,20 +307,40 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     }
   }
 
+  /**
+   * Calculates the deltas applied by {@link #processRewardsAndPenalties(MutableBeaconState,
+   * ValidatorStatuses)}. Milestones that can record detailed deltas override this to pass them to
+   * the {@link EpochRewardsRecorder}.
+   */
+  protected RewardAndPenaltyDeltas calculateRewardAndPenaltyDeltas(
+      final BeaconState state, final ValidatorStatuses validatorStatuses) {
+    return getRewardAndPenaltyDeltas(state, validatorStatuses);
+  }
+
   protected void applyDeltas(
       final MutableBeaconState state, final RewardAndPenaltyDeltas attestationDeltas) {
     final SszMutableUInt64List balances = state.getBalances();
     // To optimize performance, calculate validator size once outside of the loop
     int validatorsCount = state.getValidators().size();
-    for (int i = 0; i < validatorsCount; i++) {
-      final RewardAndPenalty delta = attestationDeltas.getDelta(i);
-      if (delta.isZero()) {
-        continue;
-      }
-      final UInt64 newBalance =
-          balances.getElement(i).plus(delta.getReward()).minusMinZero(delta.getPenalty());
-      balances.setElement(i, newBalance);
+    balances.updateLongs(
+        0,
+        validatorsCount,
+        (i, balance) -> {
+          final RewardAndPenalty delta = attestationDeltas.getDelta(i);
+          if (delta.isZero()) {
+            return balance;
+          }
+          return applyDelta(balance, delta.getReward().longValue(), delta.getPenalty().longValue());
+        });
+  }
+
+  /** Unboxed equivalent of {@code balance.plus(reward).minusMinZero(penalty)} */
+  private static long applyDelta(final long balance, final long reward, final long penalty) {
+    if (balance != 0 && Long.compareUnsigned(reward, UInt64.MAX_VALUE.longValue() - balance) > 0) {
+      throw new ArithmeticException("uint64 overflow");
     }
+    final long increasedBalance = balance + reward;
+    return Long.compareUnsigned(increasedBalance, penalty) > 0 ? increasedBalance - penalty : 0;
   }
 
   /** Processes validator registry updates */
@@ -465,7 +489,7 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     final UInt64 effectiveBalanceIncrement = specConfig.getEffectiveBalanceIncrement();
     for (int index = 0; index < validators.size(); index++) {
       final ValidatorStatus status = statuses.get(index);
-      final UInt64 balance = balances.getElement(index);
+      final UInt64 balance = UInt64.fromLongBits(balances.getLong(index));
 
       final UInt64 hysteresisIncrement = effectiveBalanceIncrement.dividedBy(hysteresisQuotient);
       final UInt64 currentEffectiveBalance = status.getCurrentEpochEffectiveBalance();
@@ -0,0 +1,42 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardDeltas.ComponentDeltas;
+
+/** Aggregates like its parent while also recording each component into primitive columns. */
+class ComponentRecordingRewardAndPenalty extends AggregatedRewardAndPenalty {
+
+  private final int validatorIndex;
+  private final ComponentDeltas componentDeltas;
+
+  ComponentRecordingRewardAndPenalty(
+      final int validatorIndex, final ComponentDeltas componentDeltas) {
+    this.validatorIndex = validatorIndex;
+    this.componentDeltas = componentDeltas;
+  }
+
+  @Override
+  public void reward(final RewardComponent component, final UInt64 amount) {
+    super.reward(component, amount);
+    componentDeltas.add(validatorIndex, component, amount.longValue());
+  }
+
+  @Override
+  public void penalize(final RewardComponent component, final UInt64 amount) {
+    super.penalize(component, amount);
+    componentDeltas.add(validatorIndex, component, -amount.longValue());
+  }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenalty.RewardComponent;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
+
+/**
+ * The attestation reward and penalty deltas applied to every validator by a single epoch
+ * transition, kept as primitive columns so they can be retained for many epochs.
+ *
+ * <p>Net values (reward minus penalty) are stored per component together with the totals needed
+ * to calculate ideal rewards, which is everything the attestation rewards API returns.
+ */
+public class EpochRewardDeltas {
+  private static final int HEADER_SIZE = 8 + Bytes32.SIZE + 8 * 6 + 1 + 4;
+
+  private final UInt64 epoch;
+  private final Bytes32 blockRoot;
+  private final UInt64 baseRewardPerIncrement;
+  private final UInt64 effectiveBalanceIncrement;
+  private final UInt64 previousEpochSourceAttesters;
+  private final UInt64 previousEpochTargetAttesters;
+  private final UInt64 previousEpochHeadAttesters;
+  private final UInt64 currentEpochActiveValidators;
+  private final boolean inactivityLeak;
+  private final BitSet eligible;
+  private final int[] head;
+  private final int[] target;
+  private final int[] source;
+  private final long[] inactivity;
+
+  private EpochRewardDeltas(
+      final UInt64 epoch,
+      final Bytes32 blockRoot,
+      final UInt64 baseRewardPerIncrement,
+      final UInt64 effectiveBalanceIncrement,
+      final UInt64 previousEpochSourceAttesters,
+      final UInt64 previousEpochTargetAttesters,
+      final UInt64 previousEpochHeadAttesters,
+      final UInt64 currentEpochActiveValidators,
+      final boolean inactivityLeak,
+      final BitSet eligible,
+      final int[] head,
+      final int[] target,
+      final int[] source,
+      final long[] inactivity) {
+    this.epoch = epoch;
+    this.blockRoot = blockRoot;
+    this.baseRewardPerIncrement = baseRewardPerIncrement;
+    this.effectiveBalanceIncrement = effectiveBalanceIncrement;
+    this.previousEpochSourceAttesters = previousEpochSourceAttesters;
+    this.previousEpochTargetAttesters = previousEpochTargetAttesters;
+    this.previousEpochHeadAttesters = previousEpochHeadAttesters;
+    this.currentEpochActiveValidators = currentEpochActiveValidators;
+    this.inactivityLeak = inactivityLeak;
+    this.eligible = eligible;
+    this.head = head;
+    this.target = target;
+    this.source = source;
+    this.inactivity = inactivity;
+  }
+
+  /**
+   * Captures the deltas recorded while processing the rewards for {@code epoch}.
+   *
+   * @param epoch the epoch the rewards were earned in (the previous epoch of the processed state)
+   * @param blockRoot the root of the latest block in the processed state
+   * @param componentDeltas per component deltas for every validator in {@code statuses}, which are
+   *     adopted without copying
+   */
+  public static EpochRewardDeltas create(
+      final UInt64 epoch,
+      final Bytes32 blockRoot,
+      final UInt64 baseRewardPerIncrement,
+      final UInt64 effectiveBalanceIncrement,
+      final boolean inactivityLeak,
+      final List<ValidatorStatus> statuses,
+      final TotalBalances totalBalances,
+      final ComponentDeltas componentDeltas) {
+    final int validatorCount = statuses.size();
+    checkArgument(
+        componentDeltas.head.length == validatorCount,
+        "Component deltas do not match validator count");
+    final BitSet eligible = new BitSet(validatorCount);
+    for (int i = 0; i < validatorCount; i++) {
+      if (statuses.get(i).isEligibleValidator()) {
+        eligible.set(i);
+      }
+    }
+    return new EpochRewardDeltas(
+        epoch,
+        blockRoot,
+        baseRewardPerIncrement,
+        effectiveBalanceIncrement,
+        totalBalances.getPreviousEpochSourceAttesters(),
+        totalBalances.getPreviousEpochTargetAttesters(),
+        totalBalances.getPreviousEpochHeadAttesters(),
+        totalBalances.getCurrentEpochActiveValidators(),
+        inactivityLeak,
+        eligible,
+        componentDeltas.head,
+        componentDeltas.target,
+        componentDeltas.source,
+        componentDeltas.inactivity);
+  }
+
+  public UInt64 getEpoch() {
+    return epoch;
+  }
+
+  public Bytes32 getBlockRoot() {
+    return blockRoot;
+  }
+
+  public UInt64 getBaseRewardPerIncrement() {
+    return baseRewardPerIncrement;
+  }
+
+  public UInt64 getEffectiveBalanceIncrement() {
+    return effectiveBalanceIncrement;
+  }
+
+  public UInt64 getPreviousEpochSourceAttesters() {
+    return previousEpochSourceAttesters;
+  }
+
+  public UInt64 getPreviousEpochTargetAttesters() {
+    return previousEpochTargetAttesters;
+  }
+
+  public UInt64 getPreviousEpochHeadAttesters() {
+    return previousEpochHeadAttesters;
+  }
+
+  public UInt64 getCurrentEpochActiveValidators() {
+    return currentEpochActiveValidators;
+  }
+
+  public boolean isInactivityLeak() {
+    return inactivityLeak;
+  }
+
+  public int getValidatorCount() {
+    return head.length;
+  }
+
+  public boolean isEligible(final int validatorIndex) {
+    return validatorIndex < head.length && eligible.get(validatorIndex);
+  }
+
+  public long getHead(final int validatorIndex) {
+    return head[validatorIndex];
+  }
+
+  public long getTarget(final int validatorIndex) {
+    return target[validatorIndex];
+  }
+
+  public long getSource(final int validatorIndex) {
+    return source[validatorIndex];
+  }
+
+  public long getInactivity(final int validatorIndex) {
+    return inactivity[validatorIndex];
+  }
+
+  public Bytes serialize() {
+    final int validatorCount = getValidatorCount();
+    final byte[] eligibleBytes = eligible.toByteArray();
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(HEADER_SIZE + 4 + eligibleBytes.length + validatorCount * 20)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putLong(epoch.longValue());
+    buffer.put(blockRoot.toArrayUnsafe());
+    buffer.putLong(baseRewardPerIncrement.longValue());
+    buffer.putLong(effectiveBalanceIncrement.longValue());
+    buffer.putLong(previousEpochSourceAttesters.longValue());
+    buffer.putLong(previousEpochTargetAttesters.longValue());
+    buffer.putLong(previousEpochHeadAttesters.longValue());
+    buffer.putLong(currentEpochActiveValidators.longValue());
+    buffer.put((byte) (inactivityLeak ? 1 : 0));
+    buffer.putInt(validatorCount);
+    buffer.putInt(eligibleBytes.length);
+    buffer.put(eligibleBytes);
+    for (int i = 0; i < validatorCount; i++) {
+      buffer.putInt(head[i]);
+      buffer.putInt(target[i]);
+      buffer.putInt(source[i]);
+      buffer.putLong(inactivity[i]);
+    }
+    return Bytes.wrap(buffer.array());
+  }
+
+  public static EpochRewardDeltas deserialize(final Bytes data) {
+    checkArgument(data.size() >= HEADER_SIZE + 4, "Epoch reward deltas data is too short");
+    final ByteBuffer buffer =
+        ByteBuffer.wrap(data.toArrayUnsafe()).order(ByteOrder.LITTLE_ENDIAN);
+    final UInt64 epoch = UInt64.fromLongBits(buffer.getLong());
+    final byte[] blockRoot = new byte[Bytes32.SIZE];
+    buffer.get(blockRoot);
+    final UInt64 baseRewardPerIncrement = UInt64.fromLongBits(buffer.getLong());
+    final UInt64 effectiveBalanceIncrement = UInt64.fromLongBits(buffer.getLong());
+    final UInt64 previousEpochSourceAttesters = UInt64.fromLongBits(buffer.getLong());
+    final UInt64 previousEpochTargetAttesters = UInt64.fromLongBits(buffer.getLong());
+    final UInt64 previousEpochHeadAttesters = UInt64.fromLongBits(buffer.getLong());
+    final UInt64 currentEpochActiveValidators = UInt64.fromLongBits(buffer.getLong());
+    final boolean inactivityLeak = buffer.get() != 0;
+    final int validatorCount = buffer.getInt();
+    final byte[] eligibleBytes = new byte[buffer.getInt()];
+    buffer.get(eligibleBytes);
+    checkArgument(
+        buffer.remaining() == validatorCount * 20,
+        "Epoch reward deltas data does not match validator count");
+    final int[] head = new int[validatorCount];
+    final int[] target = new int[validatorCount];
+    final int[] source = new int[validatorCount];
+    final long[] inactivity = new long[validatorCount];
+    for (int i = 0; i < validatorCount; i++) {
+      head[i] = buffer.getInt();
+      target[i] = buffer.getInt();
+      source[i] = buffer.getInt();
+      inactivity[i] = buffer.getLong();
+    }
+    return new EpochRewardDeltas(
+        epoch,
+        Bytes32.wrap(blockRoot),
+        baseRewardPerIncrement,
+        effectiveBalanceIncrement,
+        previousEpochSourceAttesters,
+        previousEpochTargetAttesters,
+        previousEpochHeadAttesters,
+        currentEpochActiveValidators,
+        inactivityLeak,
+        BitSet.valueOf(eligibleBytes),
+        head,
+        target,
+        source,
+        inactivity);
+  }
+
+  /**
+   * Net deltas per reward component, written by {@link RewardAndPenaltyDeltas#recording} while the
+   * epoch transition calculates rewards so no per validator objects are needed.
+   */
+  public static class ComponentDeltas {
+    private final int[] head;
+    private final int[] target;
+    private final int[] source;
+    private final long[] inactivity;
+
+    public ComponentDeltas(final int validatorCount) {
+      this.head = new int[validatorCount];
+      this.target = new int[validatorCount];
+      this.source = new int[validatorCount];
+      this.inactivity = new long[validatorCount];
+    }
+
+    void add(final int validatorIndex, final RewardComponent component, final long amount) {
+      switch (component) {
+        case HEAD -> head[validatorIndex] = saturatedAdd(head[validatorIndex], amount);
+        case TARGET -> target[validatorIndex] = saturatedAdd(target[validatorIndex], amount);
+        case SOURCE -> source[validatorIndex] = saturatedAdd(source[validatorIndex], amount);
+        case INACTIVITY -> inactivity[validatorIndex] += amount;
+        case INCLUSION_DELAY -> {
+          // Not reported by the attestation rewards API
+        }
+      }
+    }
+
+    // Called during the state transition, so clamp rather than fail on an unrealistic overflow
+    private static int saturatedAdd(final int value, final long amount) {
+      return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value + amount));
+    }
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final EpochRewardDeltas that = (EpochRewardDeltas) o;
+    return inactivityLeak == that.inactivityLeak
+        && Objects.equals(epoch, that.epoch)
+        && Objects.equals(blockRoot, that.blockRoot)
+        && Objects.equals(baseRewardPerIncrement, that.baseRewardPerIncrement)
+        && Objects.equals(effectiveBalanceIncrement, that.effectiveBalanceIncrement)
+        && Objects.equals(previousEpochSourceAttesters, that.previousEpochSourceAttesters)
+        && Objects.equals(previousEpochTargetAttesters, that.previousEpochTargetAttesters)
+        && Objects.equals(previousEpochHeadAttesters, that.previousEpochHeadAttesters)
+        && Objects.equals(currentEpochActiveValidators, that.currentEpochActiveValidators)
+        && Objects.equals(eligible, that.eligible)
+        && Arrays.equals(head, that.head)
+        && Arrays.equals(target, that.target)
+        && Arrays.equals(source, that.source)
+        && Arrays.equals(inactivity, that.inactivity);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(epoch, blockRoot);
+  }
+}
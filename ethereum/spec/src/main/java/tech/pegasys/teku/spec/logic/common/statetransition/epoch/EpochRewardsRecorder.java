@@ -0,0 +1,34 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/** Receives the reward and penalty deltas calculated during each epoch transition. */
+public interface EpochRewardsRecorder {
+
+  /**
+   * Whether deltas for {@code epoch} are wanted. Epoch processing skips recording entirely when this
+   * returns false, e.g. when replaying finalized epochs to regenerate states.
+   */
+  default boolean isRecording(final UInt64 epoch) {
+    return true;
+  }
+
+  /**
+   * Called from epoch processing before the deltas are applied, so implementations must be fast
+   * and must not throw.
+   */
+  void onEpochRewards(EpochRewardDeltas epochRewardDeltas);
+}
@@ -16,24 +16,36 @@ package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
 import com.google.common.base.MoreObjects;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Supplier;
+import java.util.function.IntFunction;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardDeltas.ComponentDeltas;
 
 public class RewardAndPenaltyDeltas {
   private final List<RewardAndPenalty> deltas;
 
   public static RewardAndPenaltyDeltas detailed(final int validatorCount) {
-    return new RewardAndPenaltyDeltas(validatorCount, DetailedRewardAndPenalty::new);
+    return new RewardAndPenaltyDeltas(validatorCount, __ -> new DetailedRewardAndPenalty());
   }
 
   public static RewardAndPenaltyDeltas aggregated(final int validatorCount) {
-    return new RewardAndPenaltyDeltas(validatorCount, AggregatedRewardAndPenalty::new);
+    return new RewardAndPenaltyDeltas(validatorCount, __ -> new AggregatedRewardAndPenalty());
+  }
+
+  /**
+   * Aggregated deltas which additionally record the net amount of each component into {@code
+   * componentDeltas}.
+   */
+  public static RewardAndPenaltyDeltas recording(
+      final int validatorCount, final ComponentDeltas componentDeltas) {
+    return new RewardAndPenaltyDeltas(
+        validatorCount,
+        validatorIndex -> new ComponentRecordingRewardAndPenalty(validatorIndex, componentDeltas));
   }
 
   private RewardAndPenaltyDeltas(
-      final int validatorCount, final Supplier<RewardAndPenalty> rewardAndPenaltySupplier) {
+      final int validatorCount, final IntFunction<RewardAndPenalty> rewardAndPenaltyFactory) {
     this.deltas = new ArrayList<>(validatorCount);
     for (int i = 0; i < validatorCount; i++) {
-      deltas.add(rewardAndPenaltySupplier.get());
+      deltas.add(rewardAndPenaltyFactory.apply(i));
     }
   }
 
@@ -17,7 +17,9 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.infrastructure.async.SafeFuture.completedFuture;
 
 import com.google.common.collect.Comparators;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +32,7 @@ import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.collections.TekuPair;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -44,6 +47,7 @@ import tech.pegasys.teku.spec.datastructures.operations.IndexedAttestationSchema
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.Fork;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
@@ -142,6 +146,100 @@ public abstract class AttestationUtil {
         .map(committee::getInt);
   }
 
+  /**
+   * Returns public keys which aggregate to the same key as the public keys of the attestation's
+   * attesters.
+   *
+   * <p>Aggregates usually include nearly all of a committee, so where more than half of a committee
+   * attested, the cached aggregate key of the whole committee is used with the keys of the missing
+   * members subtracted, rather than aggregating each attester's key.
+   *
+   * @throws IllegalArgumentException if the aggregation bits don't match the committee
+   */
+  public List<BLSPublicKey> getAttestingPublicKeys(
+      final BeaconState state, final Attestation attestation) {
+    final AttestationData data = attestation.getData();
+    final IntList committee =
+        beaconStateAccessors.getBeaconCommittee(state, data.getSlot(), data.getIndex());
+    checkArgument(
+        attestation.getAggregationBits().size() == committee.size(),
+        "Aggregation bitlist size (%s) does not match committee size (%s)",
+        attestation.getAggregationBits().size(),
+        committee.size());
+    final List<BLSPublicKey> publicKeys = new ArrayList<>();
+    addCommitteePublicKeys(
+        state,
+        data.getSlot(),
+        data.getIndex(),
+        committee,
+        attestation.getAggregationBits(),
+        0,
+        publicKeys);
+    return publicKeys;
+  }
+
+  protected void addCommitteePublicKeys(
+      final BeaconState state,
+      final UInt64 slot,
+      final UInt64 committeeIndex,
+      final IntList committee,
+      final SszBitlist aggregationBits,
+      final int committeeOffset,
+      final List<BLSPublicKey> publicKeys) {
+    final IntList attesters = new IntArrayList();
+    final IntList nonAttesters = new IntArrayList();
+    for (int i = 0; i < committee.size(); i++) {
+      if (aggregationBits.getBit(committeeOffset + i)) {
+        attesters.add(committee.getInt(i));
+      } else {
+        nonAttesters.add(committee.getInt(i));
+      }
+    }
+
+    if (attesters.size() * 2 > committee.size()) {
+      final BLSPublicKey committeeAggregatePubKey =
+          getCommitteeAggregatePubKey(state, slot, committeeIndex, committee);
+      // If any member's key is invalid the full aggregate is too, so fall back to aggregating only
+      // the attesters' keys which may still be valid
+      if (committeeAggregatePubKey.isValid()) {
+        publicKeys.add(
+            nonAttesters.isEmpty()
+                ? committeeAggregatePubKey
+                : BLSPublicKey.subtract(
+                    committeeAggregatePubKey, getValidatorPubKeys(state, nonAttesters)));
+        return;
+      }
+    }
+    publicKeys.addAll(getValidatorPubKeys(state, attesters));
+  }
+
+  private BLSPublicKey getCommitteeAggregatePubKey(
+      final BeaconState state,
+      final UInt64 slot,
+      final UInt64 committeeIndex,
+      final IntList committee) {
+    return BeaconStateCache.getTransitionCaches(state)
+        .getCommitteeAggregatePubKeys()
+        .get(
+            TekuPair.of(slot, committeeIndex),
+            __ -> BLSPublicKey.aggregate(getValidatorPubKeys(state, committee)));
+  }
+
+  private List<BLSPublicKey> getValidatorPubKeys(
+      final BeaconState state, final IntList validatorIndices) {
+    return validatorIndices
+        .intStream()
+        .mapToObj(
+            index ->
+                beaconStateAccessors
+                    .getValidatorPubKey(state, UInt64.valueOf(index))
+                    .orElseThrow(
+                        () ->
+                            new IllegalArgumentException(
+                                "Committee includes non-existent validator " + index)))
+        .toList();
+  }
+
   public AttestationProcessingResult isValidIndexedAttestation(
       final Fork fork, final BeaconState state, final ValidatableAttestation attestation) {
     return isValidIndexedAttestation(fork, state, attestation, BLSSignatureVerifier.SIMPLE);
@@ -182,7 +280,12 @@ public abstract class AttestationUtil {
               if (attestation.isValidIndexedAttestation()) {
                 return completedFuture(AttestationProcessingResult.SUCCESSFUL);
               }
-              return isValidIndexedAttestationAsync(fork, state, att, blsSignatureVerifier);
+              return isValidIndexedAttestationAsync(
+                  fork,
+                  state,
+                  att,
+                  Optional.of(getAttestingPublicKeys(state, attestation.getAttestation())),
+                  blsSignatureVerifier);
             })
         .thenApply(
             result -> {
@@ -234,6 +337,20 @@ public abstract class AttestationUtil {
       final BeaconState state,
       final IndexedAttestation indexedAttestation,
       final AsyncBLSSignatureVerifier signatureVerifier) {
+    return isValidIndexedAttestationAsync(
+        fork, state, indexedAttestation, Optional.empty(), signatureVerifier);
+  }
+
+  /**
+   * @param attestingPublicKeys public keys which aggregate to the same key as the attesters' public
+   *     keys, or empty to look up the key of each attesting index
+   */
+  private SafeFuture<AttestationProcessingResult> isValidIndexedAttestationAsync(
+      final Fork fork,
+      final BeaconState state,
+      final IndexedAttestation indexedAttestation,
+      final Optional<List<BLSPublicKey>> attestingPublicKeys,
+      final AsyncBLSSignatureVerifier signatureVerifier) {
     final SszUInt64List indices = indexedAttestation.getAttestingIndices();
 
     if (indices.isEmpty()
@@ -242,14 +359,20 @@ public abstract class AttestationUtil {
           AttestationProcessingResult.invalid("Attesting indices are not sorted"));
     }
 
-    final List<BLSPublicKey> pubkeys =
-        indices
-            .streamUnboxed()
-            .flatMap(i -> beaconStateAccessors.getValidatorPubKey(state, i).stream())
-            .toList();
-    if (pubkeys.size() < indices.size()) {
-      return completedFuture(
-          AttestationProcessingResult.invalid("Attesting indices include non-existent validator"));
+    final List<BLSPublicKey> pubkeys;
+    if (attestingPublicKeys.isPresent()) {
+      pubkeys = attestingPublicKeys.get();
+    } else {
+      pubkeys =
+          indices
+              .streamUnboxed()
+              .flatMap(i -> beaconStateAccessors.getValidatorPubKey(state, i).stream())
+              .toList();
+      if (pubkeys.size() < indices.size()) {
+        return completedFuture(
+            AttestationProcessingResult.invalid(
+                "Attesting indices include non-existent validator"));
+      }
     }
 
     final BLSSignature signature = indexedAttestation.getSignature();
@@ -13,14 +13,23 @@
 
 package tech.pegasys.teku.spec.logic.common.util;
 
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBytes32Vector;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.config.SpecConfigAltair;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregate;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientHeader;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientHeaderSchema;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdateSchema;
 import tech.pegasys.teku.spec.datastructures.state.SyncCommittee;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
+import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
 import tech.pegasys.teku.spec.logic.versions.altair.helpers.BeaconStateAccessorsAltair;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionsAltair;
 
@@ -29,14 +38,20 @@ public class LightClientUtil {
   private final BeaconStateAccessorsAltair beaconStateAccessors;
   private final SyncCommitteeUtil syncCommitteeUtil;
   private final SchemaDefinitionsAltair schemaDefinitionsAltair;
+  private final SpecConfigAltair specConfig;
+  private final MiscHelpers miscHelpers;
 
   public LightClientUtil(
       final BeaconStateAccessorsAltair beaconStateAccessors,
       final SyncCommitteeUtil syncCommitteeUtil,
-      final SchemaDefinitionsAltair schemaDefinitionsAltair) {
+      final SchemaDefinitionsAltair schemaDefinitionsAltair,
+      final SpecConfigAltair specConfig,
+      final MiscHelpers miscHelpers) {
     this.beaconStateAccessors = beaconStateAccessors;
     this.syncCommitteeUtil = syncCommitteeUtil;
     this.schemaDefinitionsAltair = schemaDefinitionsAltair;
+    this.specConfig = specConfig;
+    this.miscHelpers = miscHelpers;
   }
 
   public LightClientBootstrap getLightClientBootstrap(final BeaconState state) {
@@ -59,4 +74,158 @@ public class LightClientUtil {
         .getLightClientBootstrapSchema()
         .create(lightClientHeader, currentSyncCommittee, currentSyncCommitteeProof);
   }
+
+  public UInt64 computeSyncCommitteePeriodAtSlot(final UInt64 slot) {
+    return miscHelpers
+        .computeEpochAtSlot(slot)
+        .dividedBy(specConfig.getEpochsPerSyncCommitteePeriod());
+  }
+
+  /**
+   * Creates the update for a sync aggregate included in a block at {@code signatureSlot}, signing
+   * the block whose post state is {@code attestedState}.
+   *
+   * <p>See
+   * https://github.com/ethereum/consensus-specs/blob/dev/specs/altair/light-client/full-node.md#create_light_client_update
+   *
+   * @param attestedState the post state of the block signed by the sync aggregate
+   * @param finalizedHeader the header of the block finalized by the attested state, if available
+   * @param syncAggregate the sync aggregate
+   * @param signatureSlot the slot of the block that included the sync aggregate
+   * @return the update or empty if the sync aggregate has too few participants
+   */
+  public Optional<LightClientUpdate> createLightClientUpdate(
+      final BeaconState attestedState,
+      final Optional<BeaconBlockHeader> finalizedHeader,
+      final SyncAggregate syncAggregate,
+      final UInt64 signatureSlot) {
+    if (syncAggregate.getSyncCommitteeBits().getBitCount()
+        < specConfig.getMinSyncCommitteeParticipants()) {
+      return Optional.empty();
+    }
+    final BeaconStateAltair state = BeaconStateAltair.required(attestedState);
+    final LightClientUpdateSchema schema = schemaDefinitionsAltair.getLightClientUpdateSchema();
+    final LightClientHeaderSchema headerSchema =
+        schemaDefinitionsAltair.getLightClientHeaderSchema();
+    final BeaconBlockHeader attestedHeader = BeaconBlockHeader.fromState(state);
+
+    final SyncCommittee nextSyncCommittee;
+    final SszBytes32Vector nextSyncCommitteeBranch;
+    if (computeSyncCommitteePeriodAtSlot(attestedHeader.getSlot())
+        .equals(computeSyncCommitteePeriodAtSlot(signatureSlot))) {
+      nextSyncCommittee = state.getNextSyncCommittee();
+      nextSyncCommitteeBranch = state.createNextSyncCommitteeProof();
+    } else {
+      nextSyncCommittee = schema.getNextSyncCommitteeSchema().getDefault();
+      nextSyncCommitteeBranch = schema.getSyncCommitteeBranchSchema().getDefault();
+    }
+
+    final LightClientHeader finalizedLightClientHeader;
+    final SszBytes32Vector finalityBranch;
+    if (finalizedHeader.isPresent()) {
+      finalizedLightClientHeader =
+          finalizedHeader.get().getSlot().isZero()
+              ? headerSchema.getDefault()
+              : headerSchema.create(finalizedHeader.get());
+      finalityBranch = state.createFinalizedRootProof();
+    } else {
+      finalizedLightClientHeader = headerSchema.getDefault();
+      finalityBranch = schema.getFinalityBranchSchema().getDefault();
+    }
+
+    return Optional.of(
+        schema.create(
+            headerSchema.create(attestedHeader),
+            nextSyncCommittee,
+            nextSyncCommitteeBranch,
+            finalizedLightClientHeader,
+            finalityBranch,
+            syncAggregate,
+            SszUInt64.of(signatureSlot)));
+  }
+
+  /**
+   * Returns true if {@code newUpdate} should replace {@code oldUpdate} as the best update for a
+   * sync committee period.
+   *
+   * <p>See
+   * https://github.com/ethereum/consensus-specs/blob/dev/specs/altair/light-client/sync-protocol.md#is_better_update
+   */
+  public boolean isBetterUpdate(
+      final LightClientUpdate newUpdate, final LightClientUpdate oldUpdate) {
+    // Compare supermajority (> 2/3) sync committee participation
+    final int maxActiveParticipants = newUpdate.getSyncAggregate().getSyncCommitteeBits().size();
+    final int newNumActiveParticipants =
+        newUpdate.getSyncAggregate().getSyncCommitteeBits().getBitCount();
+    final int oldNumActiveParticipants =
+        oldUpdate.getSyncAggregate().getSyncCommitteeBits().getBitCount();
+    final boolean newHasSupermajority = newNumActiveParticipants * 3 >= maxActiveParticipants * 2;
+    final boolean oldHasSupermajority = oldNumActiveParticipants * 3 >= maxActiveParticipants * 2;
+    if (newHasSupermajority != oldHasSupermajority) {
+      return newHasSupermajority;
+    }
+    if (!newHasSupermajority && newNumActiveParticipants != oldNumActiveParticipants) {
+      return newNumActiveParticipants > oldNumActiveParticipants;
+    }
+
+    // Compare presence of relevant sync committee
+    final boolean newHasRelevantSyncCommittee = hasRelevantSyncCommittee(newUpdate);
+    final boolean oldHasRelevantSyncCommittee = hasRelevantSyncCommittee(oldUpdate);
+    if (newHasRelevantSyncCommittee != oldHasRelevantSyncCommittee) {
+      return newHasRelevantSyncCommittee;
+    }
+
+    // Compare indication of any finality
+    final boolean newHasFinality = isFinalityUpdate(newUpdate);
+    final boolean oldHasFinality = isFinalityUpdate(oldUpdate);
+    if (newHasFinality != oldHasFinality) {
+      return newHasFinality;
+    }
+
+    // Compare sync committee finality
+    if (newHasFinality) {
+      final boolean newHasSyncCommitteeFinality = hasSyncCommitteeFinality(newUpdate);
+      final boolean oldHasSyncCommitteeFinality = hasSyncCommitteeFinality(oldUpdate);
+      if (newHasSyncCommitteeFinality != oldHasSyncCommitteeFinality) {
+        return newHasSyncCommitteeFinality;
+      }
+    }
+
+    // Tiebreaker 1: Sync committee participation beyond supermajority
+    if (newNumActiveParticipants != oldNumActiveParticipants) {
+      return newNumActiveParticipants > oldNumActiveParticipants;
+    }
+
+    // Tiebreaker 2: Prefer older data (fewer changes to best)
+    final UInt64 newAttestedSlot = newUpdate.getAttestedHeader().getBeacon().getSlot();
+    final UInt64 oldAttestedSlot = oldUpdate.getAttestedHeader().getBeacon().getSlot();
+    if (!newAttestedSlot.equals(oldAttestedSlot)) {
+      return newAttestedSlot.isLessThan(oldAttestedSlot);
+    }
+    return newUpdate.getSignatureSlot().isLessThan(oldUpdate.getSignatureSlot());
+  }
+
+  private boolean hasRelevantSyncCommittee(final LightClientUpdate update) {
+    return isSyncCommitteeUpdate(update)
+        && computeSyncCommitteePeriodAtSlot(update.getAttestedHeader().getBeacon().getSlot())
+            .equals(computeSyncCommitteePeriodAtSlot(update.getSignatureSlot()));
+  }
+
+  private boolean hasSyncCommitteeFinality(final LightClientUpdate update) {
+    return computeSyncCommitteePeriodAtSlot(update.getFinalizedHeader().getBeacon().getSlot())
+        .equals(
+            computeSyncCommitteePeriodAtSlot(update.getAttestedHeader().getBeacon().getSlot()));
+  }
+
+  private static boolean isSyncCommitteeUpdate(final LightClientUpdate update) {
+    return !isEmptyBranch(update.getNextSyncCommitteeBranch());
+  }
+
+  private static boolean isFinalityUpdate(final LightClientUpdate update) {
+    return !isEmptyBranch(update.getFinalityBranch());
+  }
+
+  private static boolean isEmptyBranch(final SszBytes32Vector branch) {
+    return branch.stream().allMatch(node -> node.get().equals(Bytes32.ZERO));
+  }
 }
@@ -22,6 +22,7 @@ import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
 import tech.pegasys.teku.spec.logic.common.operations.OperationSignatureVerifier;
 import tech.pegasys.teku.spec.logic.common.operations.validation.AttestationDataValidator;
 import tech.pegasys.teku.spec.logic.common.operations.validation.OperationValidator;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardsRecorder;
 import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 import tech.pegasys.teku.spec.logic.common.util.BlockProposalUtil;
@@ -89,7 +90,8 @@ public class SpecLogicAltair extends AbstractSpecLogic {
   public static SpecLogicAltair create(
       final SpecConfigAltair config,
       final SchemaDefinitionsAltair schemaDefinitions,
-      final TimeProvider timeProvider) {
+      final TimeProvider timeProvider,
+      final Optional<EpochRewardsRecorder> epochRewardsRecorder) {
     // Helpers
     final Predicates predicates = new Predicates(config);
     final MiscHelpersAltair miscHelpers = new MiscHelpersAltair(config);
@@ -141,12 +143,14 @@ public class SpecLogicAltair extends AbstractSpecLogic {
             beaconStateUtil,
             validatorStatusFactory,
             schemaDefinitions,
-            timeProvider);
+            timeProvider,
+            epochRewardsRecorder);
     final SyncCommitteeUtil syncCommitteeUtil =
         new SyncCommitteeUtil(
             beaconStateAccessors, validatorsUtil, config, miscHelpers, schemaDefinitions);
     final LightClientUtil lightClientUtil =
-        new LightClientUtil(beaconStateAccessors, syncCommitteeUtil, schemaDefinitions);
+        new LightClientUtil(
+            beaconStateAccessors, syncCommitteeUtil, schemaDefinitions, config, miscHelpers);
     final BlockProcessorAltair blockProcessor =
         new BlockProcessorAltair(
             config,
@@ -16,6 +16,8 @@ package tech.pegasys.teku.spec.logic.versions.altair.statetransition.epoch;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
@@ -33,6 +35,9 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.M
 import tech.pegasys.teku.spec.datastructures.state.versions.electra.PendingDeposit;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.AbstractEpochProcessor;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardDeltas;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardDeltas.ComponentDeltas;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardsRecorder;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardsAndPenaltiesCalculator;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ProgressiveTotalBalancesAltair;
@@ -47,6 +52,7 @@ import tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
 
 public class EpochProcessorAltair extends AbstractEpochProcessor {
+  private static final Logger LOG = LogManager.getLogger();
 
   private volatile SszList<SszByte> zeroParticipationFlags = null;
 
@@ -63,7 +69,8 @@ public class EpochProcessorAltair extends AbstractEpochProcessor {
       final BeaconStateUtil beaconStateUtil,
       final ValidatorStatusFactory validatorStatusFactory,
       final SchemaDefinitions schemaDefinitions,
-      final TimeProvider timeProvider) {
+      final TimeProvider timeProvider,
+      final Optional<EpochRewardsRecorder> epochRewardsRecorder) {
     super(
         specConfig,
         miscHelpers,
@@ -73,7 +80,8 @@ public class EpochProcessorAltair extends AbstractEpochProcessor {
         beaconStateUtil,
         validatorStatusFactory,
         schemaDefinitions,
-        timeProvider);
+        timeProvider,
+        epochRewardsRecorder);
     this.specConfigAltair = specConfig;
     this.miscHelpersAltair = miscHelpers;
     this.beaconStateAccessorsAltair = beaconStateAccessors;
@@ -84,17 +92,48 @@ public class EpochProcessorAltair extends AbstractEpochProcessor {
       final BeaconState genericState,
       final ValidatorStatuses validatorStatuses,
       final Function<RewardsAndPenaltiesCalculator, RewardAndPenaltyDeltas> calculatorFunction) {
+    return calculatorFunction.apply(
+        createRewardsAndPenaltiesCalculator(genericState, validatorStatuses));
+  }
 
+  protected RewardsAndPenaltiesCalculatorAltair createRewardsAndPenaltiesCalculator(
+      final BeaconState genericState, final ValidatorStatuses validatorStatuses) {
     final BeaconStateAltair state = BeaconStateAltair.required(genericState);
-    final RewardsAndPenaltiesCalculatorAltair calculator =
-        new RewardsAndPenaltiesCalculatorAltair(
-            specConfigAltair,
-            state,
-            validatorStatuses,
-            miscHelpersAltair,
-            beaconStateAccessorsAltair);
-
-    return calculatorFunction.apply(calculator);
+    return new RewardsAndPenaltiesCalculatorAltair(
+        specConfigAltair, state, validatorStatuses, miscHelpersAltair, beaconStateAccessorsAltair);
+  }
+
+  @Override
+  protected RewardAndPenaltyDeltas calculateRewardAndPenaltyDeltas(
+      final BeaconState state, final ValidatorStatuses validatorStatuses) {
+    final UInt64 previousEpoch = beaconStateAccessors.getPreviousEpoch(state);
+    if (epochRewardsRecorder.isEmpty() || !epochRewardsRecorder.get().isRecording(previousEpoch)) {
+      return super.calculateRewardAndPenaltyDeltas(state, validatorStatuses);
+    }
+    // Recording deltas aggregate exactly like the standard ones while also writing each component
+    // into primitive columns, so they can be applied directly
+    final int validatorCount = validatorStatuses.getValidatorCount();
+    final ComponentDeltas componentDeltas = new ComponentDeltas(validatorCount);
+    final RewardAndPenaltyDeltas deltas =
+        createRewardsAndPenaltiesCalculator(state, validatorStatuses)
+            .getDeltas(RewardAndPenaltyDeltas.recording(validatorCount, componentDeltas));
+    try {
+      epochRewardsRecorder
+          .get()
+          .onEpochRewards(
+              EpochRewardDeltas.create(
+                  previousEpoch,
+                  state.getLatestBlockHeader().hashTreeRoot(),
+                  beaconStateAccessorsAltair.getBaseRewardPerIncrement(state),
+                  specConfigAltair.getEffectiveBalanceIncrement(),
+                  beaconStateAccessors.isInactivityLeak(state),
+                  validatorStatuses.getStatuses(),
+                  validatorStatuses.getTotalBalances(),
+                  componentDeltas));
+    } catch (final RuntimeException e) {
+      LOG.warn("Failed to record epoch reward deltas", e);
+    }
+    return deltas;
   }
 
   /**
@@ -174,28 +213,29 @@ public class EpochProcessorAltair extends AbstractEpochProcessor {
     final SszMutableUInt64List inactivityScores = state.getInactivityScores();
     final List<ValidatorStatus> statuses = validatorStatuses.getStatuses();
     final boolean isInInactivityLeak = beaconStateAccessors.isInactivityLeak(state);
-    for (int i = 0; i < statuses.size(); i++) {
-      final ValidatorStatus validatorStatus = statuses.get(i);
-      if (!validatorStatus.isEligibleValidator()) {
-        continue;
-      }
+    inactivityScores.updateLongs(
+        0,
+        statuses.size(),
+        (i, currentScoreBits) -> {
+          final ValidatorStatus validatorStatus = statuses.get(i);
+          if (!validatorStatus.isEligibleValidator()) {
+            return currentScoreBits;
+          }
 
-      // Increase inactivity score of inactive validators
-      final UInt64 currentScore = inactivityScores.getElement(i);
-      UInt64 newScore;
-      if (validatorStatus.isNotSlashed() && validatorStatus.isPreviousEpochTargetAttester()) {
-        newScore = currentScore.minusMinZero(1);
-      } else {
-        newScore = currentScore.plus(specConfigAltair.getInactivityScoreBias());
-      }
-      // Decrease the score of all validators for forgiveness when not during a leak
-      if (!isInInactivityLeak) {
-        newScore = newScore.minusMinZero(specConfigAltair.getInactivityScoreRecoveryRate());
-      }
-      if (!currentScore.equals(newScore)) {
-        inactivityScores.setElement(i, newScore);
-      }
-    }
+          // Increase inactivity score of inactive validators
+          final UInt64 currentScore = UInt64.fromLongBits(currentScoreBits);
+          UInt64 newScore;
+          if (validatorStatus.isNotSlashed() && validatorStatus.isPreviousEpochTargetAttester()) {
+            newScore = currentScore.minusMinZero(1);
+          } else {
+            newScore = currentScore.plus(specConfigAltair.getInactivityScoreBias());
+          }
+          // Decrease the score of all validators for forgiveness when not during a leak
+          if (!isInInactivityLeak) {
+            newScore = newScore.minusMinZero(specConfigAltair.getInactivityScoreRecoveryRate());
+          }
+          return newScore.longValue();
+        });
   }
 
   @Override
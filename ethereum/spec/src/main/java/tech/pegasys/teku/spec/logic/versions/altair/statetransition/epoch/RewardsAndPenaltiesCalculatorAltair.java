@@ -56,22 +56,23 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
   /** Return attestation reward/penalty deltas for each validator */
   @Override
   public RewardAndPenaltyDeltas getDeltas() throws IllegalArgumentException {
-    final RewardAndPenaltyDeltas deltas =
-        RewardAndPenaltyDeltas.aggregated(validatorStatuses.getValidatorCount());
-
-    for (int flagIndex = 0; flagIndex < PARTICIPATION_FLAG_WEIGHTS.size(); flagIndex++) {
-      processFlagIndexDeltas(deltas, flagIndex);
-    }
-    processInactivityPenaltyDeltas(deltas);
-
-    return deltas;
+    return getDeltas(RewardAndPenaltyDeltas.aggregated(validatorStatuses.getValidatorCount()));
   }
 
   @Override
   public RewardAndPenaltyDeltas getDetailedDeltas() throws IllegalArgumentException {
-    final RewardAndPenaltyDeltas deltas =
-        RewardAndPenaltyDeltas.detailed(validatorStatuses.getValidatorCount());
+    return getDeltas(RewardAndPenaltyDeltas.detailed(validatorStatuses.getValidatorCount()));
+  }
 
+  /**
+   * Calculates the attestation reward/penalty deltas for each validator into the supplied
+   * accumulator
+   *
+   * @param deltas The deltas accumulator, with an entry for every validator
+   * @return the supplied deltas accumulator
+   */
+  public RewardAndPenaltyDeltas getDeltas(final RewardAndPenaltyDeltas deltas)
+      throws IllegalArgumentException {
     for (int flagIndex = 0; flagIndex < PARTICIPATION_FLAG_WEIGHTS.size(); flagIndex++) {
       processFlagIndexDeltas(deltas, flagIndex);
     }
@@ -179,7 +180,9 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
       }
 
       final UInt64 penaltyNumerator =
-          validator.getCurrentEpochEffectiveBalance().times(inactivityScores.get(i).get());
+          validator
+              .getCurrentEpochEffectiveBalance()
+              .times(UInt64.fromLongBits(inactivityScores.getLong(i)));
 
       final UInt64 penalty = penaltyNumerator.dividedBy(penaltyDenominator);
       deltas.getDelta(i).penalize(RewardComponent.INACTIVITY, penalty);
@@ -21,6 +21,7 @@ import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
 import tech.pegasys.teku.spec.logic.common.operations.OperationSignatureVerifier;
 import tech.pegasys.teku.spec.logic.common.operations.validation.AttestationDataValidator;
 import tech.pegasys.teku.spec.logic.common.operations.validation.OperationValidator;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardsRecorder;
 import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 import tech.pegasys.teku.spec.logic.common.util.BlindBlockUtil;
@@ -95,7 +96,8 @@ public class SpecLogicBellatrix extends AbstractSpecLogic {
   public static SpecLogicBellatrix create(
       final SpecConfigBellatrix config,
       final SchemaDefinitionsBellatrix schemaDefinitions,
-      final TimeProvider timeProvider) {
+      final TimeProvider timeProvider,
+      final Optional<EpochRewardsRecorder> epochRewardsRecorder) {
     // Helpers
     final Predicates predicates = new Predicates(config);
     final MiscHelpersBellatrix miscHelpers = new MiscHelpersBellatrix(config);
@@ -145,12 +147,14 @@ public class SpecLogicBellatrix extends AbstractSpecLogic {
             beaconStateUtil,
             validatorStatusFactory,
             schemaDefinitions,
-            timeProvider);
+            timeProvider,
+            epochRewardsRecorder);
     final SyncCommitteeUtil syncCommitteeUtil =
         new SyncCommitteeUtil(
             beaconStateAccessors, validatorsUtil, config, miscHelpers, schemaDefinitions);
     final LightClientUtil lightClientUtil =
-        new LightClientUtil(beaconStateAccessors, syncCommitteeUtil, schemaDefinitions);
+        new LightClientUtil(
+            beaconStateAccessors, syncCommitteeUtil, schemaDefinitions, config, miscHelpers);
     final BlockProcessorBellatrix blockProcessor =
         new BlockProcessorBellatrix(
             config,
@@ -13,12 +13,13 @@
 
 package tech.pegasys.teku.spec.logic.versions.bellatrix.statetransition.epoch;
 
+import java.util.Optional;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.spec.config.SpecConfigBellatrix;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.bellatrix.BeaconStateBellatrix;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
-import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardsRecorder;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatusFactory;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
@@ -26,6 +27,7 @@ import tech.pegasys.teku.spec.logic.common.util.ValidatorsUtil;
 import tech.pegasys.teku.spec.logic.versions.altair.helpers.BeaconStateAccessorsAltair;
 import tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair;
 import tech.pegasys.teku.spec.logic.versions.altair.statetransition.epoch.EpochProcessorAltair;
+import tech.pegasys.teku.spec.logic.versions.altair.statetransition.epoch.RewardsAndPenaltiesCalculatorAltair;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
 
 public class EpochProcessorBellatrix extends EpochProcessorAltair {
@@ -41,7 +43,8 @@ public class EpochProcessorBellatrix extends EpochProcessorAltair {
       final BeaconStateUtil beaconStateUtil,
       final ValidatorStatusFactory validatorStatusFactory,
       final SchemaDefinitions schemaDefinitions,
-      final TimeProvider timeProvider) {
+      final TimeProvider timeProvider,
+      final Optional<EpochRewardsRecorder> epochRewardsRecorder) {
     super(
         specConfig,
         miscHelpers,
@@ -51,23 +54,21 @@ public class EpochProcessorBellatrix extends EpochProcessorAltair {
         beaconStateUtil,
         validatorStatusFactory,
         schemaDefinitions,
-        timeProvider);
+        timeProvider,
+        epochRewardsRecorder);
     specConfigBellatrix = specConfig;
   }
 
   @Override
-  public RewardAndPenaltyDeltas getRewardAndPenaltyDeltas(
+  protected RewardsAndPenaltiesCalculatorAltair createRewardsAndPenaltiesCalculator(
       final BeaconState genericState, final ValidatorStatuses validatorStatuses) {
     final BeaconStateBellatrix state = BeaconStateBellatrix.required(genericState);
-    final RewardsAndPenaltiesCalculatorBellatrix calculator =
-        new RewardsAndPenaltiesCalculatorBellatrix(
-            specConfigBellatrix,
-            state,
-            validatorStatuses,
-            miscHelpersAltair,
-            beaconStateAccessorsAltair);
-
-    return calculator.getDeltas();
+    return new RewardsAndPenaltiesCalculatorBellatrix(
+        specConfigBellatrix,
+        state,
+        validatorStatuses,
+        miscHelpersAltair,
+        beaconStateAccessorsAltair);
   }
 
   @Override
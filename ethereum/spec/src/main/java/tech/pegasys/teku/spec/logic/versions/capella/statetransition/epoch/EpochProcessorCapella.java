@@ -14,6 +14,7 @@
 package tech.pegasys.teku.spec.logic.versions.capella.statetransition.epoch;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.Optional;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszBytes32;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -23,6 +24,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconStat
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.capella.MutableBeaconStateCapella;
 import tech.pegasys.teku.spec.datastructures.state.versions.capella.HistoricalSummary;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardsRecorder;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatusFactory;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 import tech.pegasys.teku.spec.logic.common.util.ValidatorsUtil;
@@ -44,7 +46,8 @@ public class EpochProcessorCapella extends EpochProcessorBellatrix {
       final BeaconStateUtil beaconStateUtil,
       final ValidatorStatusFactory validatorStatusFactory,
       final SchemaDefinitions schemaDefinitions,
-      final TimeProvider timeProvider) {
+      final TimeProvider timeProvider,
+      final Optional<EpochRewardsRecorder> epochRewardsRecorder) {
     super(
         specConfig,
         miscHelpers,
@@ -54,7 +57,8 @@ public class EpochProcessorCapella extends EpochProcessorBellatrix {
         beaconStateUtil,
         validatorStatusFactory,
         schemaDefinitions,
-        timeProvider);
+        timeProvider,
+        epochRewardsRecorder);
     this.schemaDefinitions = schemaDefinitions;
   }
 
@@ -70,7 +74,8 @@ public class EpochProcessorCapella extends EpochProcessorBellatrix {
         processor.beaconStateUtil,
         processor.validatorStatusFactory,
         processor.schemaDefinitions,
-        timeProvider);
+        timeProvider,
+        processor.epochRewardsRecorder);
     this.schemaDefinitions = processor.schemaDefinitions;
   }
 
@@ -13,10 +13,14 @@
 
 package tech.pegasys.teku.spec.logic.versions.electra.util;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
+import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
@@ -66,6 +70,42 @@ public class AttestationUtilElectra extends AttestationUtilDeneb {
     return attestingIndices;
   }
 
+  @Override
+  public List<BLSPublicKey> getAttestingPublicKeys(
+      final BeaconState state, final Attestation attestation) {
+    final UInt64 slot = attestation.getData().getSlot();
+    final List<UInt64> committeeIndices = attestation.getCommitteeIndicesRequired();
+    final List<IntList> committees =
+        committeeIndices.stream()
+            .map(
+                committeeIndex ->
+                    beaconStateAccessors.getBeaconCommittee(state, slot, committeeIndex))
+            .toList();
+    final int totalCommitteeSize = committees.stream().mapToInt(IntList::size).sum();
+    final SszBitlist aggregationBits = attestation.getAggregationBits();
+    checkArgument(
+        aggregationBits.size() == totalCommitteeSize,
+        "Aggregation bitlist size (%s) does not match total committee size (%s)",
+        aggregationBits.size(),
+        totalCommitteeSize);
+
+    final List<BLSPublicKey> publicKeys = new ArrayList<>();
+    int committeeOffset = 0;
+    for (int i = 0; i < committees.size(); i++) {
+      final IntList committee = committees.get(i);
+      addCommitteePublicKeys(
+          state,
+          slot,
+          committeeIndices.get(i),
+          committee,
+          aggregationBits,
+          committeeOffset,
+          publicKeys);
+      committeeOffset += committee.size();
+    }
+    return publicKeys;
+  }
+
   public IntList getCommitteeAttesters(
       final IntList committee, final SszBitlist aggregationBits, final int committeeOffset) {
     return IntList.of(
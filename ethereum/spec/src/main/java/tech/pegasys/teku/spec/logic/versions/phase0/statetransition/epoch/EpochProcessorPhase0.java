@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.spec.logic.versions.phase0.statetransition.epoch;
 
+import java.util.Optional;
 import java.util.function.Function;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.spec.config.SpecConfig;
@@ -53,7 +54,8 @@ public class EpochProcessorPhase0 extends AbstractEpochProcessor {
         beaconStateUtil,
         validatorStatusFactory,
         schemaDefinitions,
-        timeProvider);
+        timeProvider,
+        Optional.empty());
   }
 
   @Override
@@ -13,6 +13,10 @@
 
 package tech.pegasys.teku.spec.schemas;
 
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.spec.datastructures.builder.SignedValidatorRegistrationSchema;
 import tech.pegasys.teku.spec.datastructures.builder.SignedValidatorRegistrationsSchema;
 import tech.pegasys.teku.spec.datastructures.builder.ValidatorRegistrationSchema;
@@ -30,4 +34,18 @@ public class ApiSchemas {
   public static final SignedValidatorRegistrationsSchema SIGNED_VALIDATOR_REGISTRATIONS_SCHEMA =
       new SignedValidatorRegistrationsSchema(
           SIGNED_VALIDATOR_REGISTRATION_SCHEMA, MAX_VALIDATOR_REGISTRATIONS_SIZE);
+
+  // the max size is based on MAX_VALIDATORS_PER_COMMITTEE * MAX_COMMITTEES_PER_SLOT mainnet preset
+  // values, allowing a submission from every validator in a slot
+  public static final long MAX_POOL_SUBMISSIONS_SIZE = 131072L;
+
+  /**
+   * Creates the schema used to SSZ encode a list of objects (e.g. attestations or aggregates)
+   * submitted to the beacon node pools via the validator API.
+   */
+  public static <T extends SszData>
+      SszListSchema<T, ? extends SszList<T>> createPoolSubmissionsSchema(
+          final SszSchema<T> elementSchema) {
+    return SszListSchema.create(elementSchema, MAX_POOL_SUBMISSIONS_SIZE);
+  }
 }
@@ -16,6 +16,7 @@ package tech.pegasys.teku.spec;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -65,7 +66,8 @@ public class ForkScheduleTest {
   @Test
   public void build_validScheduleWithAltairTransition() {
     final SpecVersion phase0 = SpecVersion.createPhase0(TRANSITION_CONFIG, schemaRegistryBuilder);
-    final SpecVersion altair = SpecVersion.createAltair(TRANSITION_CONFIG, schemaRegistryBuilder);
+    final SpecVersion altair =
+        SpecVersion.createAltair(TRANSITION_CONFIG, schemaRegistryBuilder, Optional.empty());
 
     final ForkSchedule forkSchedule =
         ForkSchedule.builder().addNextMilestone(phase0).addNextMilestone(altair).build();
@@ -76,7 +78,8 @@ public class ForkScheduleTest {
   @Test
   public void build_validScheduleWithAltairAtGenesis_phase0AndAltairSupplied() {
     final SpecVersion phase0 = SpecVersion.createPhase0(ALTAIR_CONFIG, schemaRegistryBuilder);
-    final SpecVersion altair = SpecVersion.createAltair(ALTAIR_CONFIG, schemaRegistryBuilder);
+    final SpecVersion altair =
+        SpecVersion.createAltair(ALTAIR_CONFIG, schemaRegistryBuilder, Optional.empty());
 
     final ForkSchedule forkSchedule =
         ForkSchedule.builder().addNextMilestone(phase0).addNextMilestone(altair).build();
@@ -87,7 +90,8 @@ public class ForkScheduleTest {
 
   @Test
   public void build_validScheduleWithAltairAtGenesis_onlyAltairSupplied() {
-    final SpecVersion altair = SpecVersion.createAltair(ALTAIR_CONFIG, schemaRegistryBuilder);
+    final SpecVersion altair =
+        SpecVersion.createAltair(ALTAIR_CONFIG, schemaRegistryBuilder, Optional.empty());
 
     final ForkSchedule forkSchedule = ForkSchedule.builder().addNextMilestone(altair).build();
 
@@ -107,7 +111,8 @@ public class ForkScheduleTest {
 
   @Test
   public void builder_milestonesSuppliedOutOfOrder_altairProcessedAtNonZeroSlot() {
-    final SpecVersion altair = SpecVersion.createAltair(TRANSITION_CONFIG, schemaRegistryBuilder);
+    final SpecVersion altair =
+        SpecVersion.createAltair(TRANSITION_CONFIG, schemaRegistryBuilder, Optional.empty());
     final ForkSchedule.Builder builder = ForkSchedule.builder();
 
     assertThatThrownBy(() -> builder.addNextMilestone(altair))
@@ -117,7 +122,8 @@ public class ForkScheduleTest {
 
   @Test
   public void builder_milestonesSuppliedOutOfOrder_processAltairBeforePhase0() {
-    final SpecVersion altair = SpecVersion.createAltair(ALTAIR_CONFIG, schemaRegistryBuilder);
+    final SpecVersion altair =
+        SpecVersion.createAltair(ALTAIR_CONFIG, schemaRegistryBuilder, Optional.empty());
     final SpecVersion phase0 =
         SpecVersion.createPhase0(ALTAIR_CONFIG, SchemaRegistryBuilder.create());
     final ForkSchedule.Builder builder = ForkSchedule.builder();
@@ -138,7 +144,8 @@ public class ForkScheduleTest {
 
   @Test
   public void getSupportedMilestones_onlyAltairConfigured() {
-    final SpecVersion altair = SpecVersion.createAltair(ALTAIR_CONFIG, schemaRegistryBuilder);
+    final SpecVersion altair =
+        SpecVersion.createAltair(ALTAIR_CONFIG, schemaRegistryBuilder, Optional.empty());
 
     final ForkSchedule forkSchedule = ForkSchedule.builder().addNextMilestone(altair).build();
 
@@ -408,7 +415,9 @@ public class ForkScheduleTest {
     specConfig
         .toVersionAltair()
         .ifPresent(
-            a -> builder.addNextMilestone(SpecVersion.createAltair(a, schemaRegistryBuilder)));
+            a ->
+                builder.addNextMilestone(
+                    SpecVersion.createAltair(a, schemaRegistryBuilder, Optional.empty())));
 
     return builder.build();
   }
@@ -49,14 +49,18 @@ class SpecVersionTest {
       case ALTAIR -> {
         expectedVersion =
             SpecVersion.createAltair(
-                SpecConfigAltair.required(minimalConfig), SchemaRegistryBuilder.create());
+                SpecConfigAltair.required(minimalConfig),
+                SchemaRegistryBuilder.create(),
+                Optional.empty());
         actualVersion =
             SpecVersion.create(SpecMilestone.ALTAIR, minimalConfig, SchemaRegistryBuilder.create());
       }
       case BELLATRIX -> {
         expectedVersion =
             SpecVersion.createBellatrix(
-                SpecConfigBellatrix.required(minimalConfig), SchemaRegistryBuilder.create());
+                SpecConfigBellatrix.required(minimalConfig),
+                SchemaRegistryBuilder.create(),
+                Optional.empty());
         actualVersion =
             SpecVersion.create(
                 SpecMilestone.BELLATRIX, minimalConfig, SchemaRegistryBuilder.create());
@@ -64,7 +68,9 @@ class SpecVersionTest {
       case CAPELLA -> {
         expectedVersion =
             SpecVersion.createCapella(
-                SpecConfigCapella.required(minimalConfig), SchemaRegistryBuilder.create());
+                SpecConfigCapella.required(minimalConfig),
+                SchemaRegistryBuilder.create(),
+                Optional.empty());
         actualVersion =
             SpecVersion.create(
                 SpecMilestone.CAPELLA, minimalConfig, SchemaRegistryBuilder.create());
@@ -72,14 +78,18 @@ class SpecVersionTest {
       case DENEB -> {
         expectedVersion =
             SpecVersion.createDeneb(
-                SpecConfigDeneb.required(minimalConfig), SchemaRegistryBuilder.create());
+                SpecConfigDeneb.required(minimalConfig),
+                SchemaRegistryBuilder.create(),
+                Optional.empty());
         actualVersion =
             SpecVersion.create(SpecMilestone.DENEB, minimalConfig, SchemaRegistryBuilder.create());
       }
       case ELECTRA -> {
         expectedVersion =
             SpecVersion.createElectra(
-                SpecConfigElectra.required(minimalConfig), SchemaRegistryBuilder.create());
+                SpecConfigElectra.required(minimalConfig),
+                SchemaRegistryBuilder.create(),
+                Optional.empty());
         actualVersion =
             SpecVersion.create(
                 SpecMilestone.ELECTRA, minimalConfig, SchemaRegistryBuilder.create());
@@ -0,0 +1,88 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class ValidatorPubKeyTableTest {
+
+  private static final int NUMBER_OF_VALIDATORS = 64;
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final BeaconState state = dataStructureUtil.randomBeaconState(NUMBER_OF_VALIDATORS);
+
+  private final ValidatorPubKeyTable table = new ValidatorPubKeyTable();
+
+  @Test
+  public void shouldReturnSameInstanceForMatchingKey() {
+    final BLSPublicKey tableKey = dataStructureUtil.randomPublicKey();
+    final BLSPublicKey stateKey = BLSPublicKey.fromBytesCompressed(tableKey.toBytesCompressed());
+
+    assertThat(table.getOrAdd(3, tableKey)).isSameAs(tableKey);
+    assertThat(table.getOrAdd(3, stateKey)).isSameAs(tableKey);
+  }
+
+  @Test
+  public void shouldReturnStateKeyWhenTableKeyDiffers() {
+    final BLSPublicKey tableKey = dataStructureUtil.randomPublicKey();
+    final BLSPublicKey otherKey = dataStructureUtil.randomPublicKey();
+    table.getOrAdd(3, tableKey);
+
+    assertThat(table.getOrAdd(3, otherKey)).isSameAs(otherKey);
+    // existing entries are never replaced
+    assertThat(table.getOrAdd(3, tableKey)).isSameAs(tableKey);
+  }
+
+  @Test
+  public void shouldSupportIndicesBeyondFirstChunk() {
+    final BLSPublicKey key = dataStructureUtil.randomPublicKey();
+    final int validatorIndex = 1_000_000;
+
+    assertThat(table.getOrAdd(validatorIndex, key)).isSameAs(key);
+    assertThat(table.getFirstMissingIndex(validatorIndex + 1)).isZero();
+  }
+
+  @Test
+  public void shouldAddValidatorsFromState() {
+    table.addValidators(state);
+
+    assertThat(table.getFirstMissingIndex(NUMBER_OF_VALIDATORS + 1))
+        .isEqualTo(NUMBER_OF_VALIDATORS);
+    for (int i = 0; i < NUMBER_OF_VALIDATORS; i++) {
+      final BLSPublicKey stateKey = state.getValidators().get(i).getPublicKey();
+      assertThat(table.getOrAdd(i, stateKey)).isEqualTo(stateKey);
+    }
+  }
+
+  @Test
+  public void shouldOnlyAddMissingValidators() {
+    final BLSPublicKey existingKey = state.getValidators().get(0).getPublicKey();
+    final BLSPublicKey copyOfExistingKey =
+        BLSPublicKey.fromBytesCompressed(existingKey.toBytesCompressed());
+    table.getOrAdd(0, copyOfExistingKey);
+
+    table.addValidators(state);
+
+    assertThat(table.getOrAdd(0, existingKey)).isSameAs(copyOfExistingKey);
+    assertThat(table.getFirstMissingIndex(NUMBER_OF_VALIDATORS)).isEqualTo(NUMBER_OF_VALIDATORS);
+  }
+}
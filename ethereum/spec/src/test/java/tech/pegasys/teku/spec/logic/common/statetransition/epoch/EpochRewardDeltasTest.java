@@ -0,0 +1,99 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardDeltas.ComponentDeltas;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenalty.RewardComponent;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
+
+class EpochRewardDeltasTest {
+  private final TotalBalances totalBalances = mock(TotalBalances.class);
+  private final ValidatorStatus eligibleValidator = mock(ValidatorStatus.class);
+  private final ValidatorStatus ineligibleValidator = mock(ValidatorStatus.class);
+  private final ComponentDeltas componentDeltas = new ComponentDeltas(3);
+  private final RewardAndPenaltyDeltas deltas =
+      RewardAndPenaltyDeltas.recording(3, componentDeltas);
+
+  @Test
+  void shouldCaptureNetDeltasForEligibleValidators() {
+    final EpochRewardDeltas epochRewardDeltas = createEpochRewardDeltas();
+
+    assertThat(epochRewardDeltas.getValidatorCount()).isEqualTo(3);
+    assertThat(epochRewardDeltas.isEligible(0)).isTrue();
+    assertThat(epochRewardDeltas.isEligible(1)).isFalse();
+    assertThat(epochRewardDeltas.isEligible(2)).isTrue();
+    assertThat(epochRewardDeltas.isEligible(3)).isFalse();
+
+    assertThat(epochRewardDeltas.getHead(0)).isEqualTo(10);
+    assertThat(epochRewardDeltas.getSource(0)).isEqualTo(5);
+    assertThat(epochRewardDeltas.getTarget(0)).isEqualTo(-7);
+    assertThat(epochRewardDeltas.getInactivity(0)).isZero();
+    assertThat(epochRewardDeltas.getHead(2)).isZero();
+    assertThat(epochRewardDeltas.getInactivity(2)).isEqualTo(-5_000_000_000L);
+  }
+
+  @Test
+  void shouldAggregateDeltasWhileRecordingComponents() {
+    createEpochRewardDeltas();
+
+    assertThat(deltas.getDelta(0).getReward()).isEqualTo(UInt64.valueOf(15));
+    assertThat(deltas.getDelta(0).getPenalty()).isEqualTo(UInt64.valueOf(7));
+    assertThat(deltas.getDelta(2).getReward()).isEqualTo(UInt64.ZERO);
+    assertThat(deltas.getDelta(2).getPenalty()).isEqualTo(UInt64.valueOf(5_000_000_000L));
+  }
+
+  @Test
+  void shouldRoundTripThroughSerialization() {
+    final EpochRewardDeltas epochRewardDeltas = createEpochRewardDeltas();
+
+    final EpochRewardDeltas result = EpochRewardDeltas.deserialize(epochRewardDeltas.serialize());
+
+    assertThat(result).isEqualTo(epochRewardDeltas);
+    assertThat(result.getPreviousEpochHeadAttesters()).isEqualTo(UInt64.valueOf(300));
+    assertThat(result.getInactivity(2)).isEqualTo(-5_000_000_000L);
+  }
+
+  private EpochRewardDeltas createEpochRewardDeltas() {
+    when(eligibleValidator.isEligibleValidator()).thenReturn(true);
+    when(totalBalances.getPreviousEpochSourceAttesters()).thenReturn(UInt64.valueOf(100));
+    when(totalBalances.getPreviousEpochTargetAttesters()).thenReturn(UInt64.valueOf(200));
+    when(totalBalances.getPreviousEpochHeadAttesters()).thenReturn(UInt64.valueOf(300));
+    when(totalBalances.getCurrentEpochActiveValidators()).thenReturn(UInt64.valueOf(400));
+
+    deltas.getDelta(0).reward(RewardComponent.HEAD, UInt64.valueOf(10));
+    deltas.getDelta(0).reward(RewardComponent.SOURCE, UInt64.valueOf(5));
+    deltas.getDelta(0).penalize(RewardComponent.TARGET, UInt64.valueOf(7));
+    deltas.getDelta(1).reward(RewardComponent.HEAD, UInt64.valueOf(10));
+    deltas.getDelta(2).penalize(RewardComponent.INACTIVITY, UInt64.valueOf(5_000_000_000L));
+
+    return EpochRewardDeltas.create(
+        UInt64.valueOf(12),
+        Bytes32.fromHexStringLenient("0x01"),
+        UInt64.valueOf(64),
+        UInt64.valueOf(1_000_000_000L),
+        true,
+        List.of(eligibleValidator, ineligibleValidator, eligibleValidator),
+        totalBalances,
+        componentDeltas);
+  }
+}
@@ -22,15 +22,19 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestTemplate;
+import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSTestUtil;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.ssz.Merkleizable;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.SpecVersion;
@@ -38,6 +42,7 @@ import tech.pegasys.teku.spec.TestSpecContext;
 import tech.pegasys.teku.spec.TestSpecInvocationContextProvider.SpecContext;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationSchema;
 import tech.pegasys.teku.spec.datastructures.operations.IndexedAttestation;
 import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
@@ -153,6 +158,59 @@ class AttestationUtilTest {
     verifyNoInteractions(miscHelpers, asyncBLSSignatureVerifier);
   }
 
+  @TestTemplate
+  void getAttestingPublicKeys_shouldSubtractMissingAttestersFromCommitteeAggregate(
+      final SpecContext specContext) {
+    specContext.assumeIsOneOf(SpecMilestone.PHASE0);
+    useDistinctValidatorPubKeys();
+    final int committeeSize = spec.getGenesisSpecConfig().getMaxValidatorsPerCommittee();
+    final int[] attesters = IntStream.range(3, committeeSize).toArray();
+    final Attestation attestation = createAttestation(committeeSize, attesters);
+
+    final List<BLSPublicKey> publicKeys =
+        attestationUtil.getAttestingPublicKeys(dataStructureUtil.randomBeaconState(), attestation);
+
+    assertThat(publicKeys).hasSize(1);
+    assertThat(BLSPublicKey.aggregate(publicKeys))
+        .isEqualTo(BLSPublicKey.aggregate(getPublicKeys(attesters)));
+  }
+
+  @TestTemplate
+  void getAttestingPublicKeys_shouldReturnAttesterKeysWhenFewMembersAttested(
+      final SpecContext specContext) {
+    specContext.assumeIsOneOf(SpecMilestone.PHASE0);
+    useDistinctValidatorPubKeys();
+    final int committeeSize = spec.getGenesisSpecConfig().getMaxValidatorsPerCommittee();
+    final int[] attesters = {0, 5, 7};
+    final Attestation attestation = createAttestation(committeeSize, attesters);
+
+    final List<BLSPublicKey> publicKeys =
+        attestationUtil.getAttestingPublicKeys(dataStructureUtil.randomBeaconState(), attestation);
+
+    assertThat(publicKeys).containsExactlyElementsOf(getPublicKeys(attesters));
+  }
+
+  private void useDistinctValidatorPubKeys() {
+    when(beaconStateAccessors.getValidatorPubKey(any(), any()))
+        .thenAnswer(
+            invocation ->
+                Optional.of(
+                    BLSTestUtil.randomPublicKey(invocation.<UInt64>getArgument(1).intValue())));
+  }
+
+  private List<BLSPublicKey> getPublicKeys(final int[] validatorIndices) {
+    return IntStream.of(validatorIndices).mapToObj(BLSTestUtil::randomPublicKey).toList();
+  }
+
+  private Attestation createAttestation(final int committeeSize, final int[] attesters) {
+    final AttestationSchema<Attestation> attestationSchema =
+        spec.getGenesisSchemaDefinitions().getAttestationSchema();
+    return attestationSchema.create(
+        attestationSchema.getAggregationBitsSchema().ofBits(committeeSize, attesters),
+        dataStructureUtil.randomAttestationData(),
+        dataStructureUtil.randomSignature());
+  }
+
   private SafeFuture<AttestationProcessingResult> executeValidation(
       final ValidatableAttestation validatableAttestation) {
     return attestationUtil.isValidIndexedAttestationAsync(
@@ -15,16 +15,25 @@ package tech.pegasys.teku.spec.logic.common.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfigAltair;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregate;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientHeader;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientHeaderSchema;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
+import tech.pegasys.teku.spec.datastructures.state.SyncCommittee;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
+import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsAltair;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 public class LightClientUtilTest {
@@ -43,4 +52,140 @@ public class LightClientUtilTest {
     assertThat(bootstrap.getCurrentSyncCommittee())
         .isEqualTo(BeaconStateAltair.required(state).getCurrentSyncCommittee());
   }
+
+  @Test
+  public void createLightClientUpdate_shouldReturnEmptyWithoutParticipants() {
+    final BeaconState state = createAttestedState(UInt64.valueOf(10));
+
+    assertThat(
+            lightClientUtil.createLightClientUpdate(
+                state,
+                Optional.empty(),
+                dataStructureUtil.emptySyncAggregate(),
+                UInt64.valueOf(11)))
+        .isEmpty();
+  }
+
+  @Test
+  public void createLightClientUpdate_shouldProveNextSyncCommitteeAndFinalizedRoot() {
+    final BeaconState state = createAttestedState(UInt64.valueOf(10));
+    final BeaconBlockHeader finalizedHeader =
+        dataStructureUtil.randomBeaconBlockHeader(UInt64.valueOf(8), UInt64.ONE);
+    final SyncAggregate syncAggregate = dataStructureUtil.randomSyncAggregate(0, 1, 2);
+
+    final LightClientUpdate update =
+        lightClientUtil
+            .createLightClientUpdate(
+                state, Optional.of(finalizedHeader), syncAggregate, UInt64.valueOf(11))
+            .orElseThrow();
+
+    final Predicates predicates = spec.getGenesisSpec().predicates();
+    final Bytes32 stateRoot = state.hashTreeRoot();
+    final SyncCommittee nextSyncCommittee =
+        BeaconStateAltair.required(state).getNextSyncCommittee();
+    assertThat(update.getAttestedHeader().getBeacon())
+        .isEqualTo(BeaconBlockHeader.fromState(state));
+    assertThat(update.getNextSyncCommittee()).isEqualTo(nextSyncCommittee);
+    assertThat(
+            predicates.isValidMerkleBranch(
+                nextSyncCommittee.hashTreeRoot(),
+                update.getNextSyncCommitteeBranch(),
+                5,
+                23,
+                stateRoot))
+        .isTrue();
+    assertThat(update.getFinalizedHeader().getBeacon()).isEqualTo(finalizedHeader);
+    assertThat(
+            predicates.isValidMerkleBranch(
+                state.getFinalizedCheckpoint().getRoot(),
+                update.getFinalityBranch(),
+                6,
+                41,
+                stateRoot))
+        .isTrue();
+    assertThat(update.getSyncAggregate()).isEqualTo(syncAggregate);
+    assertThat(update.getSignatureSlot()).isEqualTo(UInt64.valueOf(11));
+  }
+
+  @Test
+  public void createLightClientUpdate_shouldOmitNextSyncCommitteeFromDifferentPeriod() {
+    final BeaconState state = createAttestedState(UInt64.valueOf(10));
+    final UInt64 nextPeriodSlot =
+        UInt64.valueOf(
+            (long) spec.getSlotsPerEpoch(UInt64.ZERO)
+                * SpecConfigAltair.required(spec.getGenesisSpecConfig())
+                    .getEpochsPerSyncCommitteePeriod());
+
+    final LightClientUpdate update =
+        lightClientUtil
+            .createLightClientUpdate(
+                state, Optional.empty(), dataStructureUtil.randomSyncAggregate(0), nextPeriodSlot)
+            .orElseThrow();
+
+    assertThat(update.getNextSyncCommittee())
+        .isEqualTo(
+            SchemaDefinitionsAltair.required(spec.getGenesisSchemaDefinitions())
+                .getLightClientUpdateSchema()
+                .getNextSyncCommitteeSchema()
+                .getDefault());
+    assertThat(update.getFinalizedHeader().getBeacon()).isEqualTo(new BeaconBlockHeader());
+  }
+
+  @Test
+  public void isBetterUpdate_shouldPreferSupermajority() {
+    final BeaconState state = createAttestedState(UInt64.valueOf(10));
+    final LightClientUpdate minority =
+        createUpdate(state, dataStructureUtil.randomSyncAggregate(0, 1, 2));
+    final LightClientUpdate supermajority =
+        createUpdate(state, dataStructureUtil.randomSyncAggregate(supermajorityParticipants()));
+
+    assertThat(lightClientUtil.isBetterUpdate(supermajority, minority)).isTrue();
+    assertThat(lightClientUtil.isBetterUpdate(minority, supermajority)).isFalse();
+  }
+
+  @Test
+  public void isBetterUpdate_shouldPreferMoreParticipantsWithoutSupermajority() {
+    final BeaconState state = createAttestedState(UInt64.valueOf(10));
+    final LightClientUpdate fewer = createUpdate(state, dataStructureUtil.randomSyncAggregate(0));
+    final LightClientUpdate more = createUpdate(state, dataStructureUtil.randomSyncAggregate(0, 1));
+
+    assertThat(lightClientUtil.isBetterUpdate(more, fewer)).isTrue();
+    assertThat(lightClientUtil.isBetterUpdate(fewer, more)).isFalse();
+  }
+
+  @Test
+  public void isBetterUpdate_shouldPreferFinalityWithEqualParticipation() {
+    final BeaconState state = createAttestedState(UInt64.valueOf(10));
+    final SyncAggregate syncAggregate = dataStructureUtil.randomSyncAggregate(0, 1);
+    final LightClientUpdate withoutFinality = createUpdate(state, syncAggregate);
+    final LightClientUpdate withFinality =
+        lightClientUtil
+            .createLightClientUpdate(
+                state,
+                Optional.of(
+                    dataStructureUtil.randomBeaconBlockHeader(UInt64.valueOf(8), UInt64.ONE)),
+                syncAggregate,
+                UInt64.valueOf(11))
+            .orElseThrow();
+
+    assertThat(lightClientUtil.isBetterUpdate(withFinality, withoutFinality)).isTrue();
+    assertThat(lightClientUtil.isBetterUpdate(withoutFinality, withFinality)).isFalse();
+  }
+
+  private BeaconState createAttestedState(final UInt64 slot) {
+    return dataStructureUtil.stateBuilderAltair().slot(slot).build();
+  }
+
+  private LightClientUpdate createUpdate(
+      final BeaconState state, final SyncAggregate syncAggregate) {
+    return lightClientUtil
+        .createLightClientUpdate(state, Optional.empty(), syncAggregate, UInt64.valueOf(11))
+        .orElseThrow();
+  }
+
+  private int[] supermajorityParticipants() {
+    final int syncCommitteeSize =
+        SpecConfigAltair.required(spec.getGenesisSpecConfig()).getSyncCommitteeSize();
+    return IntStream.range(0, syncCommitteeSize).toArray();
+  }
 }
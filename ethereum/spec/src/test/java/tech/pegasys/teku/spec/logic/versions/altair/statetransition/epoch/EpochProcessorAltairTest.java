@@ -13,14 +13,19 @@
 
 package tech.pegasys.teku.spec.logic.versions.altair.statetransition.epoch;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochRewardDeltas;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 public class EpochProcessorAltairTest {
@@ -50,6 +55,34 @@ public class EpochProcessorAltairTest {
     }
   }
 
+  @Test
+  public void shouldApplySameDeltasWhenRecordingRewards() throws Exception {
+    // Bellatrix changes the inactivity penalty quotient, which recording must also use
+    final Spec bellatrixSpec = TestSpecFactory.createMinimalBellatrix();
+    final List<EpochRewardDeltas> recordedDeltas = new ArrayList<>();
+    final Spec recordingSpec = bellatrixSpec.withEpochRewardsRecorder(recordedDeltas::add);
+    final BeaconState state = new DataStructureUtil(bellatrixSpec).randomBeaconState();
+
+    final BeaconState actual = processRewardsAndPenalties(recordingSpec, state);
+    assertThat(recordedDeltas).hasSize(1);
+
+    // The original spec is left without a recorder
+    final BeaconState expected = processRewardsAndPenalties(bellatrixSpec, state);
+    assertThat(recordedDeltas).hasSize(1);
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  private BeaconState processRewardsAndPenalties(final Spec spec, final BeaconState state)
+      throws Exception {
+    final ValidatorStatuses validatorStatuses =
+        spec.getGenesisSpec().getValidatorStatusFactory().createValidatorStatuses(state);
+    return state.updated(
+        mutableState ->
+            spec.getGenesisSpec()
+                .getEpochProcessor()
+                .processRewardsAndPenalties(mutableState, validatorStatuses));
+  }
+
   private BeaconStateAltair generateRandomState() {
     return dataStructureUtil.stateBuilderAltair().build();
   }
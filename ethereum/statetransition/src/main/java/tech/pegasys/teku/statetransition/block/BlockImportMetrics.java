@@ -19,6 +19,7 @@ import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.EXE
 import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.GOSSIP_VALIDATION_EVENT_LABEL;
 import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.PRESTATE_RETRIEVED_EVENT_LABEL;
 import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.PROCESSED_EVENT_LABEL;
+import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.SIGNATURES_VERIFIED_LABEL;
 import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.SUCCESS_RESULT_METRIC_LABEL_VALUE;
 import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.TOTAL_PROCESSING_TIME_LABEL;
 import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.TRANSACTION_COMMITTED_EVENT_LABEL;
@@ -83,6 +84,7 @@ public class BlockImportMetrics {
                         GOSSIP_VALIDATION_EVENT_LABEL,
                         PRESTATE_RETRIEVED_EVENT_LABEL,
                         PROCESSED_EVENT_LABEL,
+                        SIGNATURES_VERIFIED_LABEL,
                         TRANSACTION_PREPARED_EVENT_LABEL,
                         TRANSACTION_COMMITTED_EVENT_LABEL,
                         EXECUTION_PAYLOAD_RESULT_RECEIVED_LABEL,
@@ -47,6 +47,8 @@ public class BlockImportPerformance {
 
   public static final String DATA_AVAILABILITY_CHECKED_LABEL = "data_availability_checked";
 
+  public static final String SIGNATURES_VERIFIED_LABEL = "signatures_verified";
+
   public static final String BEGIN_IMPORTING_LABEL = "begin_importing";
 
   private final BlockImportMetrics blockImportMetrics;
@@ -97,6 +99,10 @@ public class BlockImportPerformance {
     performanceTracker.addEvent(TRANSACTION_COMMITTED_EVENT_LABEL);
   }
 
+  public void signaturesVerified() {
+    performanceTracker.addEvent(SIGNATURES_VERIFIED_LABEL);
+  }
+
   public void executionResultReceived() {
     performanceTracker.addEvent(EXECUTION_PAYLOAD_RESULT_RECEIVED_LABEL);
   }
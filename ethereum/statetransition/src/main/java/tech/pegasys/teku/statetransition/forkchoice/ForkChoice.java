@@ -34,6 +34,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.ethereum.performance.trackers.BlockProductionPerformance;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingRunnable;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingSupplier;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -66,6 +67,7 @@ import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult.St
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
 import tech.pegasys.teku.spec.executionlayer.ForkChoiceState;
 import tech.pegasys.teku.spec.executionlayer.PayloadStatus;
+import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.BatchSignatureVerifier;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult.FailureReason;
@@ -98,7 +100,9 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
   private final ForkChoiceNotifier forkChoiceNotifier;
   private final MergeTransitionBlockValidator transitionBlockValidator;
   private final AttestationStateSelector attestationStateSelector;
+  private final Optional<AsyncRunner> signatureVerificationAsyncRunner;
   private final DeferredAttestations deferredAttestations = new DeferredAttestations();
+  private final ForkChoiceVoteAccumulator voteAccumulator;
 
   private final Subscribers<OptimisticHeadSubscriber> optimisticSyncSubscribers =
       Subscribers.create(true);
@@ -124,6 +128,39 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
       final boolean forkChoiceLateBlockReorgEnabled,
       final DebugDataDumper debugDataDumper,
       final MetricsSystem metricsSystem) {
+    this(
+        spec,
+        forkChoiceExecutor,
+        recentChainData,
+        blobSidecarManager,
+        forkChoiceNotifier,
+        forkChoiceStateProvider,
+        tickProcessor,
+        transitionBlockValidator,
+        forkChoiceLateBlockReorgEnabled,
+        debugDataDumper,
+        metricsSystem,
+        Optional.empty());
+  }
+
+  /**
+   * @param signatureVerificationAsyncRunner runner used to verify block signatures while waiting
+   *     for the execution layer and data availability results. If empty, signatures are verified on
+   *     the importing thread straight after the state transition.
+   */
+  public ForkChoice(
+      final Spec spec,
+      final EventThread forkChoiceExecutor,
+      final RecentChainData recentChainData,
+      final BlobSidecarManager blobSidecarManager,
+      final ForkChoiceNotifier forkChoiceNotifier,
+      final ForkChoiceStateProvider forkChoiceStateProvider,
+      final TickProcessor tickProcessor,
+      final MergeTransitionBlockValidator transitionBlockValidator,
+      final boolean forkChoiceLateBlockReorgEnabled,
+      final DebugDataDumper debugDataDumper,
+      final MetricsSystem metricsSystem,
+      final Optional<AsyncRunner> signatureVerificationAsyncRunner) {
     this.spec = spec;
     this.forkChoiceExecutor = forkChoiceExecutor;
     this.blobSidecarManager = blobSidecarManager;
@@ -133,11 +170,18 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
     this.transitionBlockValidator = transitionBlockValidator;
     this.attestationStateSelector =
         new AttestationStateSelector(spec, recentChainData, metricsSystem);
+    this.signatureVerificationAsyncRunner = signatureVerificationAsyncRunner;
     this.tickProcessor = tickProcessor;
     this.forkChoiceLateBlockReorgEnabled = forkChoiceLateBlockReorgEnabled;
     this.lastProcessHeadSlot.set(UInt64.ZERO);
     LOG.debug("forkChoiceLateBlockReorgEnabled is set to {}", forkChoiceLateBlockReorgEnabled);
     this.debugDataDumper = debugDataDumper;
+    this.voteAccumulator =
+        new ForkChoiceVoteAccumulator(
+            forkChoiceExecutor,
+            this::applyVotes,
+            ForkChoiceVoteAccumulator.DEFAULT_MAX_BATCH_SIZE,
+            metricsSystem);
     getProposerHeadSelectedCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.BEACON,
@@ -246,13 +290,8 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
                 }
                 return SafeFuture.completedFuture(validationResult);
               }
-              return onForkChoiceThread(
-                      () -> {
-                        final VoteUpdater transaction = recentChainData.startVoteUpdate();
-                        getForkChoiceStrategy()
-                            .onAttestation(transaction, getIndexedAttestation(attestation));
-                        transaction.commit();
-                      })
+              return voteAccumulator
+                  .addVote(getIndexedAttestation(attestation))
                   .thenApply(__ -> validationResult);
             })
         .exceptionallyCompose(
@@ -267,17 +306,18 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
   }
 
   public void applyIndexedAttestations(final List<ValidatableAttestation> attestations) {
-    onForkChoiceThread(
-            () -> {
-              final VoteUpdater transaction = recentChainData.startVoteUpdate();
-              final ForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
-              attestations.stream()
-                  .map(this::getIndexedAttestation)
-                  .forEach(
-                      attestation -> forkChoiceStrategy.onAttestation(transaction, attestation));
-              transaction.commit();
-            })
-        .ifExceptionGetsHereRaiseABug();
+    attestations.forEach(
+        attestation ->
+            voteAccumulator
+                .addVote(getIndexedAttestation(attestation))
+                .ifExceptionGetsHereRaiseABug());
+  }
+
+  private void applyVotes(final List<IndexedAttestation> attestations) {
+    final VoteUpdater transaction = recentChainData.startVoteUpdate();
+    final ForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
+    attestations.forEach(attestation -> forkChoiceStrategy.onAttestation(transaction, attestation));
+    transaction.commit();
   }
 
   public void onAttesterSlashing(
@@ -439,6 +479,9 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
 
     blobSidecarsAvailabilityChecker.initiateDataAvailabilityCheck();
 
+    // Signatures are collected during the state transition and verified as a batch afterwards,
+    // alongside the execution payload and data availability checks the transition started
+    final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
     final BeaconState postState;
     try {
       postState =
@@ -447,6 +490,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
                   block,
                   blockSlotState.get(),
                   indexedAttestationCache,
+                  signatureVerifier,
                   Optional.of(payloadExecutor));
     } catch (final StateTransitionException e) {
       final BlockImportResult result = BlockImportResult.failedStateTransition(e);
@@ -455,17 +499,18 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
     }
     blockImportPerformance.ifPresent(BlockImportPerformance::postStateCreated);
 
+    final SafeFuture<Boolean> signatureVerificationFuture =
+        verifySignatures(signatureVerifier)
+            .thenPeek(
+                __ -> blockImportPerformance.ifPresent(BlockImportPerformance::signaturesVerified));
+
     final SafeFuture<BlobSidecarsAndValidationResult> blobSidecarsAvailabilityFuture =
         blobSidecarsAvailabilityChecker
             .getAvailabilityCheckResult()
             .thenPeek(
-                result -> {
-                  blockImportPerformance.ifPresent(BlockImportPerformance::dataAvailabilityChecked);
-                  // consensus validation is completed when DA check is completed
-                  if (result.isSuccess()) {
-                    blockBroadcastValidator.onConsensusValidationSucceeded();
-                  }
-                });
+                __ ->
+                    blockImportPerformance.ifPresent(
+                        BlockImportPerformance::dataAvailabilityChecked));
 
     final SafeFuture<PayloadValidationResult> payloadValidationFuture =
         payloadExecutor
@@ -475,28 +520,54 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
                     blockImportPerformance.ifPresent(
                         BlockImportPerformance::executionResultReceived));
 
-    return blockBroadcastValidator
-        .getResult()
-        .thenCompose(
-            broadcastValidationResult -> {
-              if (broadcastValidationResult.isFailure()) {
-                return SafeFuture.completedFuture(BlockImportResult.FAILED_BROADCAST_VALIDATION);
-              }
+    return signatureVerificationFuture.thenCompose(
+        signaturesValid -> {
+          if (!signaturesValid) {
+            final BlockImportResult result =
+                BlockImportResult.failedStateTransition(
+                    new StateTransitionException(
+                        "Batch signature verification failed for block " + block.toLogString()));
+            reportInvalidBlock(block, result);
+            return SafeFuture.completedFuture(result);
+          }
+          // consensus validation is completed when signatures are verified and DA check completes
+          final SafeFuture<BlobSidecarsAndValidationResult> consensusValidatedFuture =
+              blobSidecarsAvailabilityFuture.thenPeek(
+                  result -> {
+                    if (result.isSuccess()) {
+                      blockBroadcastValidator.onConsensusValidationSucceeded();
+                    }
+                  });
+          return blockBroadcastValidator
+              .getResult()
+              .thenCompose(
+                  broadcastValidationResult -> {
+                    if (broadcastValidationResult.isFailure()) {
+                      return SafeFuture.completedFuture(
+                          BlockImportResult.FAILED_BROADCAST_VALIDATION);
+                    }
+
+                    return payloadValidationFuture.thenCombineAsync(
+                        consensusValidatedFuture,
+                        (payloadResult, blobSidecarsAndValidationResult) ->
+                            importBlockAndState(
+                                block,
+                                blockSlotState.get(),
+                                blockImportPerformance,
+                                forkChoiceUtil,
+                                indexedAttestationCache,
+                                postState,
+                                payloadResult,
+                                blobSidecarsAndValidationResult),
+                        forkChoiceExecutor);
+                  });
+        });
+  }
 
-              return payloadValidationFuture.thenCombineAsync(
-                  blobSidecarsAvailabilityFuture,
-                  (payloadResult, blobSidecarsAndValidationResult) ->
-                      importBlockAndState(
-                          block,
-                          blockSlotState.get(),
-                          blockImportPerformance,
-                          forkChoiceUtil,
-                          indexedAttestationCache,
-                          postState,
-                          payloadResult,
-                          blobSidecarsAndValidationResult),
-                  forkChoiceExecutor);
-            });
+  private SafeFuture<Boolean> verifySignatures(final BatchSignatureVerifier signatureVerifier) {
+    return signatureVerificationAsyncRunner
+        .map(asyncRunner -> asyncRunner.runAsync(signatureVerifier::batchVerify))
+        .orElseGet(() -> SafeFuture.of(signatureVerifier::batchVerify));
   }
 
   private BlockImportResult importBlockAndState(
@@ -0,0 +1,152 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.forkchoice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.spec.datastructures.operations.IndexedAttestation;
+
+/**
+ * Collects validated attestations from any thread and applies them to fork choice in batches, so
+ * that a single vote update transaction is used for many attestations rather than one each.
+ *
+ * <p>A drain is scheduled on the fork choice thread when the first vote arrives and every vote
+ * added before it runs is included. Each drain applies at most {@code maxBatchSize} votes and
+ * schedules a further drain for any remainder so other fork choice tasks aren't held up. If a
+ * batch fails, its votes are applied one at a time so only the votes that fail are rejected.
+ */
+class ForkChoiceVoteAccumulator {
+  static final int DEFAULT_MAX_BATCH_SIZE = 2048;
+
+  private final EventThread forkChoiceExecutor;
+  private final Consumer<List<IndexedAttestation>> voteApplier;
+  private final int maxBatchSize;
+  private final Queue<PendingVote> pendingVotes = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+  private final MetricsHistogram batchSizeHistogram;
+  private final OperationTimer batchTimer;
+
+  ForkChoiceVoteAccumulator(
+      final EventThread forkChoiceExecutor,
+      final Consumer<List<IndexedAttestation>> voteApplier,
+      final int maxBatchSize,
+      final MetricsSystem metricsSystem) {
+    this.forkChoiceExecutor = forkChoiceExecutor;
+    this.voteApplier = voteApplier;
+    this.maxBatchSize = maxBatchSize;
+    this.batchSizeHistogram =
+        MetricsHistogram.create(
+            TekuMetricCategory.BEACON,
+            metricsSystem,
+            "fork_choice_vote_batch_size",
+            "Histogram of the number of attestations applied to fork choice in each batch",
+            3,
+            List.of());
+    this.batchTimer =
+        metricsSystem.createTimer(
+            TekuMetricCategory.BEACON,
+            "fork_choice_vote_batch_time",
+            "Time spent on the fork choice thread applying batches of attestations");
+  }
+
+  /** Queues the vote and returns a future which completes once it has been applied. */
+  SafeFuture<Void> addVote(final IndexedAttestation attestation) {
+    final SafeFuture<Void> result = new SafeFuture<>();
+    pendingVotes.add(new PendingVote(attestation, result));
+    scheduleDrain();
+    return result;
+  }
+
+  private void scheduleDrain() {
+    if (!drainScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    forkChoiceExecutor
+        .execute(
+            () -> {
+              drain();
+              return null;
+            })
+        .finish(
+            error -> {
+              drainScheduled.set(false);
+              failPendingVotes(error);
+            });
+  }
+
+  private void drain() {
+    // Clear the flag before taking votes so anything added from here on schedules another drain
+    drainScheduled.set(false);
+    final List<PendingVote> batch = new ArrayList<>();
+    PendingVote vote;
+    while (batch.size() < maxBatchSize && (vote = pendingVotes.poll()) != null) {
+      batch.add(vote);
+    }
+    if (!batch.isEmpty()) {
+      applyBatch(batch);
+    }
+    if (!pendingVotes.isEmpty() && drainScheduled.compareAndSet(false, true)) {
+      // Queue behind any other waiting fork choice tasks rather than running immediately
+      forkChoiceExecutor.executeLater(this::drain);
+    }
+  }
+
+  private void applyBatch(final List<PendingVote> batch) {
+    batchSizeHistogram.recordValue(batch.size());
+    final OperationTimer.TimingContext timingContext = batchTimer.startTimer();
+    try {
+      voteApplier.accept(batch.stream().map(PendingVote::attestation).toList());
+    } catch (final Throwable t) {
+      if (batch.size() == 1) {
+        batch.get(0).result().completeExceptionally(t);
+      } else {
+        // The failed batch wasn't committed so apply each vote separately to only fail bad votes
+        batch.forEach(this::applySingleVote);
+      }
+      return;
+    } finally {
+      timingContext.stopTimer();
+    }
+    batch.forEach(pendingVote -> pendingVote.result().complete(null));
+  }
+
+  private void applySingleVote(final PendingVote pendingVote) {
+    try {
+      voteApplier.accept(List.of(pendingVote.attestation()));
+    } catch (final Throwable t) {
+      pendingVote.result().completeExceptionally(t);
+      return;
+    }
+    pendingVote.result().complete(null);
+  }
+
+  private void failPendingVotes(final Throwable error) {
+    PendingVote vote;
+    while ((vote = pendingVotes.poll()) != null) {
+      vote.result().completeExceptionally(error);
+    }
+  }
+
+  private record PendingVote(IndexedAttestation attestation, SafeFuture<Void> result) {}
+}
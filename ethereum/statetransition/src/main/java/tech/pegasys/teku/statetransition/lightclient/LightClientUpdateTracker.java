@@ -0,0 +1,307 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.lightclient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.BeaconBlockBodyAltair;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
+import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.util.LightClientUtil;
+import tech.pegasys.teku.statetransition.block.ReceivedBlockEventsChannel;
+import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
+import tech.pegasys.teku.storage.api.StorageQueryChannel;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/**
+ * Derives light client data as blocks are imported so that it can be served without loading
+ * states.
+ *
+ * <p>For each imported block on the canonical chain, the update signed by its sync aggregate is
+ * compared with the best known update for the sync committee period of the attested block and
+ * stored if it is better. Blocks imported on forks are ignored. For each new finalized checkpoint,
+ * the bootstrap for the checkpoint block is stored. Only the first finalized bootstrap in each sync
+ * committee period and the latest one are retained.
+ */
+public class LightClientUpdateTracker
+    implements ReceivedBlockEventsChannel, FinalizedCheckpointChannel {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final int CACHED_PERIODS = 2;
+
+  private final Spec spec;
+  private final RecentChainData recentChainData;
+  private final StorageQueryChannel storageQueryChannel;
+  private final StorageUpdateChannel storageUpdateChannel;
+
+  private final NavigableMap<UInt64, LightClientUpdate> bestUpdateByPeriod = new TreeMap<>();
+  private Optional<StoredBootstrap> latestBootstrap = Optional.empty();
+  private SafeFuture<Void> pendingUpdates = SafeFuture.COMPLETE;
+
+  public LightClientUpdateTracker(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final StorageQueryChannel storageQueryChannel,
+      final StorageUpdateChannel storageUpdateChannel) {
+    this.spec = spec;
+    this.recentChainData = recentChainData;
+    this.storageQueryChannel = storageQueryChannel;
+    this.storageUpdateChannel = storageUpdateChannel;
+  }
+
+  /**
+   * Finds the bootstraps already stored for the sync committee period of the finalized checkpoint,
+   * so the latest one is still pruned after a restart. Must be called before subscribing to events.
+   */
+  public void initialize() {
+    if (recentChainData.isPreGenesis()) {
+      return;
+    }
+    enqueue(this::loadLatestBootstrap);
+  }
+
+  @Override
+  public void onBlockValidated(final SignedBeaconBlock block) {}
+
+  @Override
+  public void onBlockImported(final SignedBeaconBlock block, final boolean executionOptimistic) {
+    final Optional<LightClientUtil> maybeLightClientUtil = spec.getLightClientUtil(block.getSlot());
+    final Optional<BeaconBlockBodyAltair> maybeBody =
+        block.getMessage().getBody().toVersionAltair();
+    if (maybeLightClientUtil.isEmpty() || maybeBody.isEmpty() || !isCanonical(block)) {
+      return;
+    }
+    enqueue(
+        () ->
+            recentChainData
+                .retrieveBlockState(block.getParentRoot())
+                .thenCompose(
+                    maybeAttestedState ->
+                        maybeAttestedState
+                            .map(
+                                attestedState ->
+                                    processUpdate(
+                                        maybeLightClientUtil.get(),
+                                        attestedState,
+                                        maybeBody.get(),
+                                        block.getSlot()))
+                            .orElse(SafeFuture.COMPLETE)));
+  }
+
+  private boolean isCanonical(final SignedBeaconBlock block) {
+    // Fork choice runs before the import is published, so a block that is not in effect at its
+    // slot did not become part of the canonical chain and must not be the source of an update
+    return recentChainData
+        .getBlockRootInEffectBySlot(block.getSlot())
+        .map(block.getRoot()::equals)
+        .orElse(false);
+  }
+
+  @Override
+  public void onNewFinalizedCheckpoint(
+      final Checkpoint checkpoint, final boolean fromOptimisticBlock) {
+    final UInt64 checkpointSlot = checkpoint.getEpochStartSlot(spec);
+    final Optional<LightClientUtil> maybeLightClientUtil = spec.getLightClientUtil(checkpointSlot);
+    if (maybeLightClientUtil.isEmpty()) {
+      return;
+    }
+    enqueue(
+        () ->
+            recentChainData
+                .retrieveBlockState(checkpoint.getRoot())
+                .thenCompose(
+                    maybeState ->
+                        maybeState
+                            .map(
+                                state ->
+                                    storeBootstrap(
+                                        maybeLightClientUtil.get(), checkpoint.getRoot(), state))
+                            .orElse(SafeFuture.COMPLETE)));
+  }
+
+  private synchronized void enqueue(final Supplier<SafeFuture<Void>> task) {
+    pendingUpdates =
+        pendingUpdates
+            .thenCompose(__ -> task.get())
+            .exceptionally(
+                error -> {
+                  LOG.warn("Failed to update light client data", error);
+                  return null;
+                });
+  }
+
+  private SafeFuture<Void> processUpdate(
+      final LightClientUtil lightClientUtil,
+      final BeaconState attestedState,
+      final BeaconBlockBodyAltair body,
+      final UInt64 signatureSlot) {
+    return getFinalizedHeader(attestedState)
+        .thenCompose(
+            finalizedHeader -> {
+              final Optional<LightClientUpdate> maybeUpdate =
+                  lightClientUtil.createLightClientUpdate(
+                      attestedState, finalizedHeader, body.getSyncAggregate(), signatureSlot);
+              if (maybeUpdate.isEmpty()) {
+                return SafeFuture.COMPLETE;
+              }
+              final LightClientUpdate update = maybeUpdate.get();
+              final UInt64 period =
+                  lightClientUtil.computeSyncCommitteePeriodAtSlot(attestedState.getSlot());
+              return getBestUpdate(period)
+                  .thenCompose(
+                      maybeBestUpdate -> {
+                        if (maybeBestUpdate.isPresent()
+                            && !lightClientUtil.isBetterUpdate(update, maybeBestUpdate.get())) {
+                          return SafeFuture.COMPLETE;
+                        }
+                        cacheBestUpdate(period, update);
+                        return storageUpdateChannel.onLightClientUpdate(period, update);
+                      });
+            });
+  }
+
+  private SafeFuture<Optional<BeaconBlockHeader>> getFinalizedHeader(
+      final BeaconState attestedState) {
+    final Bytes32 finalizedRoot = attestedState.getFinalizedCheckpoint().getRoot();
+    if (finalizedRoot.isZero()) {
+      // Nothing finalized yet so the finalized header is the default (genesis slot) header
+      return SafeFuture.completedFuture(Optional.of(new BeaconBlockHeader()));
+    }
+    return recentChainData
+        .retrieveSignedBlockByRoot(finalizedRoot)
+        .thenApply(
+            maybeBlock -> maybeBlock.map(block -> BeaconBlockHeader.fromBlock(block.getMessage())));
+  }
+
+  private SafeFuture<Optional<LightClientUpdate>> getBestUpdate(final UInt64 period) {
+    final Optional<LightClientUpdate> cachedUpdate =
+        Optional.ofNullable(bestUpdateByPeriod.get(period));
+    if (cachedUpdate.isPresent()) {
+      return SafeFuture.completedFuture(cachedUpdate);
+    }
+    return storageQueryChannel
+        .getLightClientUpdates(period, period)
+        .thenApply(updates -> updates.stream().findFirst());
+  }
+
+  private void cacheBestUpdate(final UInt64 period, final LightClientUpdate update) {
+    bestUpdateByPeriod.put(period, update);
+    while (bestUpdateByPeriod.size() > CACHED_PERIODS) {
+      bestUpdateByPeriod.pollFirstEntry();
+    }
+  }
+
+  private SafeFuture<Void> storeBootstrap(
+      final LightClientUtil lightClientUtil, final Bytes32 blockRoot, final BeaconState state) {
+    final LightClientBootstrap bootstrap = lightClientUtil.getLightClientBootstrap(state);
+    final UInt64 period = lightClientUtil.computeSyncCommitteePeriodAtSlot(state.getSlot());
+
+    // Keep the first bootstrap of each period so light clients can start from any period, but
+    // replace later ones in the same period as the chain finalizes
+    final Optional<Bytes32> prunedBlockRoot =
+        latestBootstrap
+            .filter(previous -> previous.period().equals(period) && !previous.firstInPeriod())
+            .map(StoredBootstrap::blockRoot);
+    final boolean firstInPeriod =
+        latestBootstrap.map(previous -> !previous.period().equals(period)).orElse(true);
+    latestBootstrap = Optional.of(new StoredBootstrap(blockRoot, period, firstInPeriod));
+    return storageUpdateChannel.onLightClientBootstrap(blockRoot, bootstrap, prunedBlockRoot);
+  }
+
+  /**
+   * Bootstraps are only stored for finalized checkpoints, so the candidates are the checkpoint
+   * roots of each epoch in the period up to the finalized checkpoint. A sync committee period is
+   * never longer than the block roots history of the finalized state, so these are all available
+   * from it.
+   */
+  private SafeFuture<Void> loadLatestBootstrap() {
+    final AnchorPoint finalized = recentChainData.getStore().getLatestFinalized();
+    final Optional<LightClientUtil> maybeLightClientUtil =
+        spec.getLightClientUtil(finalized.getEpochStartSlot());
+    if (maybeLightClientUtil.isEmpty()) {
+      return SafeFuture.COMPLETE;
+    }
+    final LightClientUtil lightClientUtil = maybeLightClientUtil.get();
+    final UInt64 period =
+        lightClientUtil.computeSyncCommitteePeriodAtSlot(finalized.getEpochStartSlot());
+    final BeaconState finalizedState = finalized.getState();
+
+    final List<Bytes32> candidateRoots = new ArrayList<>();
+    candidateRoots.add(finalized.getRoot());
+    UInt64 epoch = finalized.getEpoch();
+    while (epoch.isGreaterThan(UInt64.ZERO)) {
+      epoch = epoch.minus(1);
+      final UInt64 slot = spec.computeStartSlotAtEpoch(epoch);
+      if (!lightClientUtil.computeSyncCommitteePeriodAtSlot(slot).equals(period)
+          || slot.plus(spec.getSlotsPerHistoricalRoot(slot)).isLessThan(finalizedState.getSlot())) {
+        break;
+      }
+      final Bytes32 blockRoot =
+          slot.isLessThan(finalizedState.getSlot())
+              ? spec.getBlockRootAtSlot(finalizedState, slot)
+              : finalized.getRoot();
+      if (!candidateRoots.getFirst().equals(blockRoot)) {
+        candidateRoots.addFirst(blockRoot);
+      }
+    }
+
+    return SafeFuture.collectAll(
+            candidateRoots.stream()
+                .map(
+                    blockRoot ->
+                        storageQueryChannel
+                            .getLightClientBootstrap(blockRoot)
+                            .thenApply(
+                                maybeBootstrap ->
+                                    maybeBootstrap
+                                        .filter(
+                                            bootstrap ->
+                                                lightClientUtil
+                                                    .computeSyncCommitteePeriodAtSlot(
+                                                        bootstrap
+                                                            .getLightClientHeader()
+                                                            .getBeacon()
+                                                            .getSlot())
+                                                    .equals(period))
+                                        .map(__ -> blockRoot))))
+        .thenAccept(
+            maybeStoredRoots -> {
+              final List<Bytes32> storedRoots =
+                  maybeStoredRoots.stream().flatMap(Optional::stream).toList();
+              if (!storedRoots.isEmpty()) {
+                latestBootstrap =
+                    Optional.of(
+                        new StoredBootstrap(
+                            storedRoots.getLast(), period, storedRoots.size() == 1));
+              }
+            });
+  }
+
+  private record StoredBootstrap(Bytes32 blockRoot, UInt64 period, boolean firstInPeriod) {}
+}
@@ -16,9 +16,10 @@ package tech.pegasys.teku.statetransition.validatorcache;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.annotations.VisibleForTesting;
-import it.unimi.dsi.fastutil.objects.Object2BooleanArrayMap;
+import it.unimi.dsi.fastutil.objects.Object2BooleanLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -126,11 +127,27 @@ public class ActiveValidatorCache implements ActiveValidatorChannel {
   @Override
   public SafeFuture<Object2BooleanMap<UInt64>> validatorsLiveAtEpoch(
       final List<UInt64> validators, final UInt64 epoch) {
-    final Object2BooleanMap<UInt64> result = new Object2BooleanArrayMap<>();
+    // an array map does a linear scan on every put, which is quadratic for large requests
+    final Object2BooleanMap<UInt64> result =
+        new Object2BooleanLinkedOpenHashMap<>(validators.size());
     for (UInt64 validator : validators) {
       result.put(validator, isValidatorSeenAtEpoch(validator, epoch));
     }
 
     return SafeFuture.completedFuture(result);
   }
+
+  @Override
+  public SafeFuture<BitSet> getLiveValidatorsAtEpoch(final UInt64 epoch) {
+    final UInt64[][] activeEpochs = validatorActiveEpochs;
+    final int offset = epoch.mod(CACHED_EPOCHS).intValue();
+    final BitSet result = new BitSet(activeEpochs.length);
+    for (int index = 0; index < activeEpochs.length; index++) {
+      if (activeEpochs[index] != null && epoch.equals(activeEpochs[index][offset])) {
+        result.set(index);
+      }
+    }
+
+    return SafeFuture.completedFuture(result);
+  }
 }
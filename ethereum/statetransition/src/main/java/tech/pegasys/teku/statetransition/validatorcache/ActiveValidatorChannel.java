@@ -14,6 +14,7 @@
 package tech.pegasys.teku.statetransition.validatorcache;
 
 import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
+import java.util.BitSet;
 import java.util.List;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.events.ChannelInterface;
@@ -48,4 +49,13 @@ public interface ActiveValidatorChannel extends ChannelInterface {
    */
   SafeFuture<Object2BooleanMap<UInt64>> validatorsLiveAtEpoch(
       List<UInt64> validators, UInt64 epoch);
+
+  /**
+   * Query the validator liveness cache for every validator seen in a recent epoch, without the
+   * caller needing to know which validators it is interested in
+   *
+   * @param epoch an epoch within current >= epoch >= current-2
+   * @return a bitfield indexed by validator index, with the bit set for each validator seen
+   */
+  SafeFuture<BitSet> getLiveValidatorsAtEpoch(UInt64 epoch);
 }
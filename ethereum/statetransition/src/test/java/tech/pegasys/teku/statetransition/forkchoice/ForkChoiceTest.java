@@ -40,6 +40,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.units.bigints.UInt256;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -56,8 +57,10 @@ import tech.pegasys.infrastructure.logging.LogCaptor;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.ethereum.performance.trackers.BlockProductionPerformance;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -332,7 +335,7 @@ class ForkChoiceTest {
     final BlockProcessor blockProcessor = mock(BlockProcessor.class);
     when(spec.getBlockProcessor(blockAndState.getSlot())).thenReturn(blockProcessor);
     final Exception blockException = new StateTransitionException("error!");
-    when(blockProcessor.processAndValidateBlock(any(), any(), any(), any()))
+    when(blockProcessor.processAndValidateBlock(any(), any(), any(), any(), any()))
         .thenThrow(blockException);
 
     importBlockAndAssertFailure(blockAndState, FailureReason.FAILED_STATE_TRANSITION);
@@ -345,6 +348,64 @@ class ForkChoiceTest {
     verify(blockBroadcastValidator, never()).onConsensusValidationSucceeded();
   }
 
+  @Test
+  void onBlock_shouldFailWhenBatchSignatureVerificationFails() throws StateTransitionException {
+    setupWithSpec(TestSpecFactory.createMinimalDeneb());
+    final SignedBlockAndState blockAndState = chainBuilder.generateBlockAtSlot(ONE);
+    storageSystem.chainUpdater().advanceCurrentSlotToAtLeast(blockAndState.getSlot());
+
+    final BlockProcessor blockProcessor = mock(BlockProcessor.class);
+    when(spec.getBlockProcessor(blockAndState.getSlot())).thenReturn(blockProcessor);
+    when(blockProcessor.processAndValidateBlock(any(), any(), any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final BLSSignatureVerifier signatureVerifier = invocation.getArgument(3);
+              signatureVerifier.verify(
+                  dataStructureUtil.randomPublicKey(),
+                  Bytes.of(1, 2, 3),
+                  dataStructureUtil.randomSignature());
+              return blockAndState.getState();
+            });
+
+    importBlockAndAssertFailure(blockAndState, FailureReason.FAILED_STATE_TRANSITION);
+
+    verify(debugDataDumper)
+        .saveInvalidBlock(
+            eq(blockAndState.getBlock()),
+            eq(FailureReason.FAILED_STATE_TRANSITION.toString()),
+            any());
+    verify(blockBroadcastValidator, never()).onConsensusValidationSucceeded();
+  }
+
+  @Test
+  void onBlock_shouldWaitForAsyncSignatureVerificationBeforeImporting() {
+    final StubAsyncRunner signatureVerificationAsyncRunner = new StubAsyncRunner();
+    forkChoice =
+        new ForkChoice(
+            spec,
+            eventThread,
+            recentChainData,
+            BlobSidecarManager.NOOP,
+            forkChoiceNotifier,
+            new ForkChoiceStateProvider(eventThread, recentChainData),
+            new TickProcessor(spec, recentChainData),
+            transitionBlockValidator,
+            DEFAULT_FORK_CHOICE_LATE_BLOCK_REORG_ENABLED,
+            DebugDataDumper.NOOP,
+            metricsSystem,
+            Optional.of(signatureVerificationAsyncRunner));
+    final SignedBlockAndState blockAndState = chainBuilder.generateBlockAtSlot(ONE);
+
+    final SafeFuture<BlockImportResult> importResult = importBlockNoResultCheck(blockAndState);
+    assertThatSafeFuture(importResult).isNotDone();
+    assertThat(recentChainData.containsBlock(blockAndState.getRoot())).isFalse();
+
+    signatureVerificationAsyncRunner.executeQueuedActions();
+
+    assertBlockImportedSuccessfully(importResult, false);
+    assertThat(recentChainData.containsBlock(blockAndState.getRoot())).isTrue();
+  }
+
   @Test
   void onBlock_consensusValidationShouldReturnRegardlessExecutionPayloadValidation() {
     setupWithSpec(TestSpecFactory.createMinimalDeneb());
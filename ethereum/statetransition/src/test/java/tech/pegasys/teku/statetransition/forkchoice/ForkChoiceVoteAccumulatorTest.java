@@ -0,0 +1,149 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.forkchoice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunnerFactory;
+import tech.pegasys.teku.infrastructure.async.eventthread.AsyncRunnerEventThread;
+import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.IndexedAttestation;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class ForkChoiceVoteAccumulatorTest {
+  private static final int MAX_BATCH_SIZE = 2;
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StubAsyncRunnerFactory asyncRunnerFactory = new StubAsyncRunnerFactory();
+  private final EventThread eventThread =
+      new AsyncRunnerEventThread("forkchoice", asyncRunnerFactory);
+  private final List<List<IndexedAttestation>> appliedBatches = new ArrayList<>();
+  private RuntimeException applyError = null;
+  private IndexedAttestation invalidVote = null;
+
+  private final ForkChoiceVoteAccumulator accumulator =
+      new ForkChoiceVoteAccumulator(
+          eventThread, this::applyVotes, MAX_BATCH_SIZE, new StubMetricsSystem());
+
+  private StubAsyncRunner eventThreadRunner;
+
+  @BeforeEach
+  void setUp() {
+    eventThread.start();
+    eventThreadRunner = asyncRunnerFactory.getStubAsyncRunners().get(0);
+  }
+
+  @AfterEach
+  void tearDown() {
+    eventThread.stop();
+  }
+
+  @Test
+  void shouldApplyVotesAddedBeforeDrainInOneBatch() {
+    final IndexedAttestation vote1 = dataStructureUtil.randomIndexedAttestation();
+    final IndexedAttestation vote2 = dataStructureUtil.randomIndexedAttestation();
+
+    final SafeFuture<Void> result1 = accumulator.addVote(vote1);
+    final SafeFuture<Void> result2 = accumulator.addVote(vote2);
+    assertThat(appliedBatches).isEmpty();
+    assertThat(eventThreadRunner.countDelayedActions()).isEqualTo(1);
+
+    eventThreadRunner.executeQueuedActions();
+
+    assertThat(appliedBatches).containsExactly(List.of(vote1, vote2));
+    assertThatSafeFuture(result1).isCompleted();
+    assertThatSafeFuture(result2).isCompleted();
+  }
+
+  @Test
+  void shouldSplitVotesIntoBatchesOfMaxSize() {
+    final IndexedAttestation vote1 = dataStructureUtil.randomIndexedAttestation();
+    final IndexedAttestation vote2 = dataStructureUtil.randomIndexedAttestation();
+    final IndexedAttestation vote3 = dataStructureUtil.randomIndexedAttestation();
+    accumulator.addVote(vote1);
+    accumulator.addVote(vote2);
+    final SafeFuture<Void> result3 = accumulator.addVote(vote3);
+
+    eventThreadRunner.executeQueuedActions();
+
+    assertThat(appliedBatches).containsExactly(List.of(vote1, vote2));
+    assertThatSafeFuture(result3).isNotCompleted();
+
+    eventThreadRunner.executeQueuedActions();
+
+    assertThat(appliedBatches).containsExactly(List.of(vote1, vote2), List.of(vote3));
+    assertThatSafeFuture(result3).isCompleted();
+  }
+
+  @Test
+  void shouldScheduleNewDrainForVotesAddedAfterDrain() {
+    final IndexedAttestation vote1 = dataStructureUtil.randomIndexedAttestation();
+    final IndexedAttestation vote2 = dataStructureUtil.randomIndexedAttestation();
+    accumulator.addVote(vote1);
+    eventThreadRunner.executeQueuedActions();
+
+    final SafeFuture<Void> result2 = accumulator.addVote(vote2);
+    eventThreadRunner.executeQueuedActions();
+
+    assertThat(appliedBatches).containsExactly(List.of(vote1), List.of(vote2));
+    assertThatSafeFuture(result2).isCompleted();
+  }
+
+  @Test
+  void shouldFailVotesInBatchWhenApplyingFails() {
+    applyError = new IllegalStateException("Store not initialized");
+    final SafeFuture<Void> result =
+        accumulator.addVote(dataStructureUtil.randomIndexedAttestation());
+
+    eventThreadRunner.executeQueuedActions();
+
+    assertThatSafeFuture(result).isCompletedExceptionallyWith(applyError);
+  }
+
+  @Test
+  void shouldOnlyFailInvalidVoteWhenBatchFails() {
+    final IndexedAttestation vote1 = dataStructureUtil.randomIndexedAttestation();
+    final IndexedAttestation vote2 = dataStructureUtil.randomIndexedAttestation();
+    invalidVote = vote2;
+    applyError = new IllegalArgumentException("Invalid vote");
+    final SafeFuture<Void> result1 = accumulator.addVote(vote1);
+    final SafeFuture<Void> result2 = accumulator.addVote(vote2);
+
+    eventThreadRunner.executeQueuedActions();
+
+    assertThat(appliedBatches).containsExactly(List.of(vote1));
+    assertThatSafeFuture(result1).isCompleted();
+    assertThatSafeFuture(result2).isCompletedExceptionallyWith(applyError);
+  }
+
+  private void applyVotes(final List<IndexedAttestation> votes) {
+    eventThread.checkOnEventThread();
+    if (applyError != null && (invalidVote == null || votes.contains(invalidVote))) {
+      throw applyError;
+    }
+    appliedBatches.add(votes);
+  }
+}
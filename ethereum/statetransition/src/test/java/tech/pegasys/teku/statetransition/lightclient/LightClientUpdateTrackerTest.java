@@ -0,0 +1,197 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.lightclient;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfigAltair;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregate;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
+import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.util.LightClientUtil;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.StorageQueryChannel;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.client.RecentChainData;
+import tech.pegasys.teku.storage.store.UpdatableStore;
+
+class LightClientUpdateTrackerTest {
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final LightClientUtil lightClientUtil = spec.getLightClientUtilRequired(UInt64.ZERO);
+  private final RecentChainData recentChainData = mock(RecentChainData.class);
+  private final StorageQueryChannel storageQueryChannel = mock(StorageQueryChannel.class);
+  private final StorageUpdateChannel storageUpdateChannel = mock(StorageUpdateChannel.class);
+
+  private final LightClientUpdateTracker tracker =
+      new LightClientUpdateTracker(
+          spec, recentChainData, storageQueryChannel, storageUpdateChannel);
+
+  private final BeaconState attestedState =
+      dataStructureUtil.stateBuilderAltair().slot(UInt64.valueOf(10)).build();
+  private final SignedBeaconBlock block =
+      dataStructureUtil.randomSignedBeaconBlock(UInt64.valueOf(11));
+
+  @BeforeEach
+  void setUp() {
+    when(recentChainData.getBlockRootInEffectBySlot(block.getSlot()))
+        .thenReturn(Optional.of(block.getRoot()));
+    when(recentChainData.retrieveBlockState(block.getParentRoot()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(attestedState)));
+    when(recentChainData.retrieveSignedBlockByRoot(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+    when(storageUpdateChannel.onLightClientUpdate(any(), any())).thenReturn(SafeFuture.COMPLETE);
+    when(storageUpdateChannel.onLightClientBootstrap(any(), any(), any()))
+        .thenReturn(SafeFuture.COMPLETE);
+  }
+
+  @Test
+  void shouldStoreUpdateWhenNoneKnownForPeriod() {
+    when(storageQueryChannel.getLightClientUpdates(UInt64.ZERO, UInt64.ZERO))
+        .thenReturn(SafeFuture.completedFuture(List.of()));
+
+    tracker.onBlockImported(block, false);
+
+    final LightClientUpdate expectedUpdate =
+        lightClientUtil
+            .createLightClientUpdate(
+                attestedState, Optional.empty(), getSyncAggregate(block), block.getSlot())
+            .orElseThrow();
+    verify(storageUpdateChannel).onLightClientUpdate(UInt64.ZERO, expectedUpdate);
+  }
+
+  @Test
+  void shouldNotStoreUpdateWhenStoredUpdateIsBetter() {
+    final int syncCommitteeSize =
+        SpecConfigAltair.required(spec.getGenesisSpecConfig()).getSyncCommitteeSize();
+    final LightClientUpdate storedUpdate =
+        lightClientUtil
+            .createLightClientUpdate(
+                attestedState,
+                Optional.empty(),
+                dataStructureUtil.randomSyncAggregate(
+                    IntStream.range(0, syncCommitteeSize).toArray()),
+                block.getSlot())
+            .orElseThrow();
+    when(storageQueryChannel.getLightClientUpdates(UInt64.ZERO, UInt64.ZERO))
+        .thenReturn(SafeFuture.completedFuture(List.of(storedUpdate)));
+
+    tracker.onBlockImported(block, false);
+
+    verify(storageUpdateChannel, never()).onLightClientUpdate(any(), any());
+  }
+
+  @Test
+  void shouldIgnoreBlocksNotOnCanonicalChain() {
+    when(recentChainData.getBlockRootInEffectBySlot(block.getSlot()))
+        .thenReturn(Optional.of(dataStructureUtil.randomBytes32()));
+
+    tracker.onBlockImported(block, false);
+
+    verify(recentChainData, never()).retrieveBlockState(any());
+    verify(storageUpdateChannel, never()).onLightClientUpdate(any(), any());
+  }
+
+  @Test
+  void shouldKeepFirstBootstrapInPeriodAndReplaceLaterOnes() {
+    final Bytes32 root1 = finalize(UInt64.ONE);
+    final Bytes32 root2 = finalize(UInt64.valueOf(2));
+    final Bytes32 root3 = finalize(UInt64.valueOf(3));
+
+    verify(storageUpdateChannel).onLightClientBootstrap(eq(root1), any(), eq(Optional.empty()));
+    verify(storageUpdateChannel).onLightClientBootstrap(eq(root2), any(), eq(Optional.empty()));
+    verify(storageUpdateChannel).onLightClientBootstrap(eq(root3), any(), eq(Optional.of(root2)));
+  }
+
+  @Test
+  void shouldReplaceLatestStoredBootstrapAfterRestart() {
+    final UInt64 finalizedEpoch = UInt64.valueOf(3);
+    final BeaconState finalizedState =
+        dataStructureUtil
+            .stateBuilderAltair()
+            .slot(spec.computeStartSlotAtEpoch(finalizedEpoch))
+            .build();
+    final AnchorPoint finalized = mock(AnchorPoint.class);
+    when(finalized.getRoot()).thenReturn(dataStructureUtil.randomBytes32());
+    when(finalized.getEpoch()).thenReturn(finalizedEpoch);
+    when(finalized.getEpochStartSlot()).thenReturn(finalizedState.getSlot());
+    when(finalized.getState()).thenReturn(finalizedState);
+    final UpdatableStore store = mock(UpdatableStore.class);
+    when(store.getLatestFinalized()).thenReturn(finalized);
+    when(recentChainData.getStore()).thenReturn(store);
+
+    // Bootstraps were stored for the checkpoints of epochs 1 and 2 before the restart
+    final Bytes32 firstRoot = getCheckpointRoot(finalizedState, UInt64.ONE);
+    final Bytes32 latestRoot = getCheckpointRoot(finalizedState, UInt64.valueOf(2));
+    when(storageQueryChannel.getLightClientBootstrap(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+    when(storageQueryChannel.getLightClientBootstrap(firstRoot))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(createBootstrap(UInt64.ONE))));
+    when(storageQueryChannel.getLightClientBootstrap(latestRoot))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(createBootstrap(UInt64.valueOf(2)))));
+
+    tracker.initialize();
+    final Bytes32 root = finalize(UInt64.valueOf(4));
+
+    verify(storageUpdateChannel)
+        .onLightClientBootstrap(eq(root), any(), eq(Optional.of(latestRoot)));
+  }
+
+  private Bytes32 getCheckpointRoot(final BeaconState state, final UInt64 epoch) {
+    return spec.getBlockRootAtSlot(state, spec.computeStartSlotAtEpoch(epoch));
+  }
+
+  private LightClientBootstrap createBootstrap(final UInt64 epoch) {
+    final UInt64 slot = spec.computeStartSlotAtEpoch(epoch);
+    return lightClientUtil.getLightClientBootstrap(
+        dataStructureUtil
+            .stateBuilderAltair()
+            .slot(slot)
+            .latestBlockHeader(dataStructureUtil.randomBeaconBlockHeader(slot, UInt64.ZERO))
+            .build());
+  }
+
+  private Bytes32 finalize(final UInt64 epoch) {
+    final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+    final BeaconState state =
+        dataStructureUtil.stateBuilderAltair().slot(spec.computeStartSlotAtEpoch(epoch)).build();
+    when(recentChainData.retrieveBlockState(blockRoot))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(state)));
+    tracker.onNewFinalizedCheckpoint(new Checkpoint(epoch, blockRoot), false);
+    return blockRoot;
+  }
+
+  private static SyncAggregate getSyncAggregate(final SignedBeaconBlock block) {
+    return block.getMessage().getBody().getOptionalSyncAggregate().orElseThrow();
+  }
+}
@@ -20,6 +20,7 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 
 import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
@@ -167,4 +168,18 @@ public class ActiveValidatorCacheTest {
                 FIVE, Boolean.FALSE,
                 SIX, Boolean.FALSE));
   }
+
+  @Test
+  void shouldGenerateLiveValidatorsBitfieldAtEpoch()
+      throws ExecutionException, InterruptedException {
+    cache.touch(ONE, ONE);
+    cache.touch(TWO, TWO);
+    cache.touch(THREE, THREE);
+    cache.touch(ONE, THREE);
+    cache.touch(SIX, SIX);
+
+    final SafeFuture<BitSet> future = cache.getLiveValidatorsAtEpoch(THREE);
+    assertThat(future).isCompleted();
+    assertThat(future.get()).isEqualTo(BitSet.valueOf(new long[] {0b1010}));
+  }
 }
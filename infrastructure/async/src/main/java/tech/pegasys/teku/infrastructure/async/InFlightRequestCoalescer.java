@@ -0,0 +1,97 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.async;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+/**
+ * Shares a single in-flight load between concurrent requests for the same key, so identical
+ * requests arriving together only do the work once. The number of distinct loads running at the
+ * same time is bounded and further loads are queued until one completes.
+ *
+ * <p>Results are not cached, once a load completes the next request for the key starts a new load.
+ *
+ * @param <K> the key identifying identical requests, must implement equals and hashCode
+ * @param <V> the type of the loaded value
+ */
+public class InFlightRequestCoalescer<K, V> {
+
+  private final Map<K, SafeFuture<V>> inFlightRequests = new ConcurrentHashMap<>();
+  private final ThrottlingTaskQueue loadQueue;
+  private final Counter startedLoadsCounter;
+  private final Counter coalescedRequestsCounter;
+
+  public static <K, V> InFlightRequestCoalescer<K, V> create(
+      final int maximumConcurrentLoads,
+      final MetricsSystem metricsSystem,
+      final TekuMetricCategory metricCategory,
+      final String metricName) {
+    final LabelledMetric<Counter> requestsCounter =
+        metricsSystem.createLabelledCounter(
+            metricCategory,
+            metricName + "_requests_total",
+            "Number of requests which started a new load or joined an identical in-flight load",
+            "result");
+    return new InFlightRequestCoalescer<>(
+        ThrottlingTaskQueue.create(
+            maximumConcurrentLoads, metricsSystem, metricCategory, metricName + "_queued_loads"),
+        requestsCounter.labels("started"),
+        requestsCounter.labels("coalesced"));
+  }
+
+  private InFlightRequestCoalescer(
+      final ThrottlingTaskQueue loadQueue,
+      final Counter startedLoadsCounter,
+      final Counter coalescedRequestsCounter) {
+    this.loadQueue = loadQueue;
+    this.startedLoadsCounter = startedLoadsCounter;
+    this.coalescedRequestsCounter = coalescedRequestsCounter;
+  }
+
+  /**
+   * Returns the result of the in-flight load for {@code key} if there is one, otherwise starts a
+   * new load with {@code loader}.
+   *
+   * <p>Each caller receives its own future so cancelling it doesn't affect other requests.
+   */
+  public SafeFuture<V> getOrLoad(final K key, final ExceptionThrowingFutureSupplier<V> loader) {
+    final SafeFuture<V> newLoad = new SafeFuture<>();
+    final SafeFuture<V> existingLoad = inFlightRequests.putIfAbsent(key, newLoad);
+    if (existingLoad != null) {
+      coalescedRequestsCounter.inc();
+      return copyOf(existingLoad);
+    }
+    startedLoadsCounter.inc();
+    newLoad.always(() -> inFlightRequests.remove(key, newLoad));
+    loadQueue.queueTask(() -> SafeFuture.of(loader)).propagateTo(newLoad);
+    return copyOf(newLoad);
+  }
+
+  @VisibleForTesting
+  int getInFlightRequestCount() {
+    return inFlightRequests.size();
+  }
+
+  private static <V> SafeFuture<V> copyOf(final SafeFuture<V> future) {
+    final SafeFuture<V> copy = new SafeFuture<>();
+    future.propagateTo(copy);
+    return copy;
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+public class InFlightRequestCoalescerTest {
+
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final AtomicInteger loadCount = new AtomicInteger();
+
+  private final InFlightRequestCoalescer<String, String> coalescer =
+      InFlightRequestCoalescer.create(2, metricsSystem, TekuMetricCategory.BEACON, "test_loads");
+
+  @Test
+  void shouldShareInFlightLoadForSameKey() {
+    final SafeFuture<String> load = new SafeFuture<>();
+
+    final SafeFuture<String> result1 = coalescer.getOrLoad("a", () -> countLoad(load));
+    final SafeFuture<String> result2 = coalescer.getOrLoad("a", () -> countLoad(load));
+
+    assertThat(loadCount).hasValue(1);
+    assertThatSafeFuture(result1).isNotCompleted();
+
+    load.complete("value");
+
+    assertThatSafeFuture(result1).isCompletedWithValue("value");
+    assertThatSafeFuture(result2).isCompletedWithValue("value");
+    assertThat(getRequestCount("started")).isEqualTo(1);
+    assertThat(getRequestCount("coalesced")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldStartNewLoadOnceInFlightLoadCompletes() {
+    coalescer.getOrLoad("a", () -> countLoad(SafeFuture.completedFuture("first")));
+    assertThat(coalescer.getInFlightRequestCount()).isZero();
+
+    final SafeFuture<String> result =
+        coalescer.getOrLoad("a", () -> countLoad(SafeFuture.completedFuture("second")));
+
+    assertThatSafeFuture(result).isCompletedWithValue("second");
+    assertThat(loadCount).hasValue(2);
+    assertThat(getRequestCount("coalesced")).isZero();
+  }
+
+  @Test
+  void shouldNotShareLoadsForDifferentKeys() {
+    coalescer.getOrLoad("a", () -> countLoad(new SafeFuture<>()));
+    coalescer.getOrLoad("b", () -> countLoad(new SafeFuture<>()));
+
+    assertThat(loadCount).hasValue(2);
+    assertThat(coalescer.getInFlightRequestCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldQueueLoadsAboveConcurrencyLimit() {
+    final SafeFuture<String> load1 = new SafeFuture<>();
+    coalescer.getOrLoad("a", () -> countLoad(load1));
+    coalescer.getOrLoad("b", () -> countLoad(new SafeFuture<>()));
+    final SafeFuture<String> result3 =
+        coalescer.getOrLoad("c", () -> countLoad(SafeFuture.completedFuture("c")));
+
+    assertThat(loadCount).hasValue(2);
+    assertThatSafeFuture(result3).isNotCompleted();
+
+    load1.complete("a");
+
+    assertThat(loadCount).hasValue(3);
+    assertThatSafeFuture(result3).isCompletedWithValue("c");
+  }
+
+  @Test
+  void shouldPropagateFailuresToAllRequestsAndRemoveLoad() {
+    final SafeFuture<String> load = new SafeFuture<>();
+    final SafeFuture<String> result1 = coalescer.getOrLoad("a", () -> load);
+    final SafeFuture<String> result2 = coalescer.getOrLoad("a", () -> load);
+
+    final RuntimeException error = new RuntimeException("Boom");
+    load.completeExceptionally(error);
+
+    assertThatSafeFuture(result1).isCompletedExceptionallyWith(error);
+    assertThatSafeFuture(result2).isCompletedExceptionallyWith(error);
+    assertThat(coalescer.getInFlightRequestCount()).isZero();
+  }
+
+  @Test
+  void shouldFailRequestWhenLoaderThrows() {
+    final RuntimeException error = new RuntimeException("Boom");
+    final SafeFuture<String> result =
+        coalescer.getOrLoad(
+            "a",
+            () -> {
+              throw error;
+            });
+
+    assertThatSafeFuture(result).isCompletedExceptionallyWith(error);
+    assertThat(coalescer.getInFlightRequestCount()).isZero();
+  }
+
+  @Test
+  void shouldNotAffectOtherRequestsWhenOneIsCancelled() {
+    final SafeFuture<String> load = new SafeFuture<>();
+    final SafeFuture<String> result1 = coalescer.getOrLoad("a", () -> load);
+    final SafeFuture<String> result2 = coalescer.getOrLoad("a", () -> load);
+
+    result1.cancel(true);
+    load.complete("value");
+
+    assertThatSafeFuture(result2).isCompletedWithValue("value");
+  }
+
+  private SafeFuture<String> countLoad(final SafeFuture<String> result) {
+    loadCount.incrementAndGet();
+    return result;
+  }
+
+  private long getRequestCount(final String result) {
+    return metricsSystem
+        .getCounter(TekuMetricCategory.BEACON, "test_loads_requests_total")
+        .getValue(result);
+  }
+}
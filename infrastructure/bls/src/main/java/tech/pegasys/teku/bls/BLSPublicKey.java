@@ -54,6 +54,25 @@ public final class BLSPublicKey {
             .aggregatePublicKeys(publicKeys.stream().map(BLSPublicKey::getPublicKey).toList()));
   }
 
+  /**
+   * Removes public keys from an aggregate public key, returning the aggregate of the keys which
+   * remain. When most keys of a known aggregate are wanted this is cheaper than aggregating them
+   * again. Returns the public key that corresponds to G1 point at infinity if the aggregate or any
+   * of the removed keys is infinity or not a G1 group member.
+   *
+   * @param aggregate The aggregate public key to remove keys from
+   * @param publicKeys The public keys to remove, each of which must be part of the aggregate
+   * @return PublicKey The public key
+   */
+  public static BLSPublicKey subtract(
+      final BLSPublicKey aggregate, final List<BLSPublicKey> publicKeys) {
+    return new BLSPublicKey(
+        BLS.getBlsImpl()
+            .subtractPublicKeys(
+                aggregate.getPublicKey(),
+                publicKeys.stream().map(BLSPublicKey::getPublicKey).toList()));
+  }
+
   public static BLSPublicKey fromSSZBytes(final Bytes bytes) {
     checkArgument(
         bytes.size() == SSZ_BLS_PUBKEY_SIZE,
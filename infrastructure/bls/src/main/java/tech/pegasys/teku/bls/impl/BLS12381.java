@@ -94,6 +94,17 @@ public interface BLS12381 {
    */
   PublicKey aggregatePublicKeys(List<? extends PublicKey> publicKeys);
 
+  /**
+   * Removes public keys from an aggregate public key, returning the aggregate of the keys which
+   * remain. Returns the public key that corresponds to G1 point at infinity if the aggregate or any
+   * of the removed keys is infinity or not a G1 group member.
+   *
+   * @param aggregate The aggregate public key to remove keys from
+   * @param publicKeys The public keys to remove, each of which must be part of the aggregate
+   * @return PublicKey The public key
+   */
+  PublicKey subtractPublicKeys(PublicKey aggregate, List<? extends PublicKey> publicKeys);
+
   /**
    * Aggregates a list of Signatures, returning the signature that corresponds to G2 point at
    * infinity if list is empty.
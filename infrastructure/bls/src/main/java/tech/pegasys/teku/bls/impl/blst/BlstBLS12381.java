@@ -103,6 +103,14 @@ public class BlstBLS12381 implements BLS12381 {
     return BlstPublicKey.aggregate(publicKeys.stream().map(BlstPublicKey::fromPublicKey).toList());
   }
 
+  @Override
+  public BlstPublicKey subtractPublicKeys(
+      final PublicKey aggregate, final List<? extends PublicKey> publicKeys) {
+    return BlstPublicKey.subtract(
+        BlstPublicKey.fromPublicKey(aggregate),
+        publicKeys.stream().map(BlstPublicKey::fromPublicKey).toList());
+  }
+
   @Override
   public BlstSignature aggregateSignatures(final List<? extends Signature> signatures) {
     return BlstSignature.aggregate(signatures.stream().map(BlstSignature::fromSignature).toList());
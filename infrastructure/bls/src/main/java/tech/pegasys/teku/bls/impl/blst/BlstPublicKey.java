@@ -70,6 +70,23 @@ class BlstPublicKey implements PublicKey {
     return new BlstPublicKey(sum.to_affine());
   }
 
+  public static BlstPublicKey subtract(
+      final BlstPublicKey aggregate, final List<BlstPublicKey> publicKeys) {
+    if (!aggregate.isValid()) {
+      return INFINITE_PUBLIC_KEY;
+    }
+
+    P1 difference = new P1(aggregate.ecPoint);
+    for (BlstPublicKey publicKey : publicKeys) {
+      if (!publicKey.isValid()) {
+        return INFINITE_PUBLIC_KEY;
+      }
+      difference.add(new P1(publicKey.ecPoint).neg());
+    }
+
+    return new BlstPublicKey(difference.to_affine());
+  }
+
   final P1_Affine ecPoint;
   private final Supplier<Boolean> isInfinity = Suppliers.memoize(this::checkForInfinity);
   private final Supplier<Boolean> isInGroup = Suppliers.memoize(this::checkGroupMembership);
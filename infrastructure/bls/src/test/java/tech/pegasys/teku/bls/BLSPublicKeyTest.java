@@ -215,6 +215,47 @@ abstract class BLSPublicKeyTest {
     assertThat(aggrPk).isEqualTo(INFINITY_PUBLIC_KEY);
   }
 
+  @Test
+  void subtractShouldEqualAggregateOfRemainingKeys() {
+    BLSPublicKey pk1 = BLSTestUtil.randomPublicKey(1);
+    BLSPublicKey pk2 = BLSTestUtil.randomPublicKey(2);
+    BLSPublicKey pk3 = BLSTestUtil.randomPublicKey(3);
+    BLSPublicKey pk4 = BLSTestUtil.randomPublicKey(4);
+    BLSPublicKey fullAggregate = BLSPublicKey.aggregate(List.of(pk1, pk2, pk3, pk4));
+
+    BLSPublicKey result = BLSPublicKey.subtract(fullAggregate, List.of(pk2, pk4));
+
+    assertThat(result).isEqualTo(BLSPublicKey.aggregate(List.of(pk1, pk3)));
+  }
+
+  @Test
+  void subtractNothingShouldReturnSameAggregate() {
+    BLSPublicKey fullAggregate =
+        BLSPublicKey.aggregate(
+            List.of(BLSTestUtil.randomPublicKey(1), BLSTestUtil.randomPublicKey(2)));
+
+    assertThat(BLSPublicKey.subtract(fullAggregate, List.of())).isEqualTo(fullAggregate);
+  }
+
+  @Test
+  void subtractFromInfiniteAggregateShouldFail() {
+    BLSPublicKey result =
+        BLSPublicKey.subtract(INFINITY_PUBLIC_KEY, List.of(BLSTestUtil.randomPublicKey(1)));
+
+    assertThat(result).isEqualTo(INFINITY_PUBLIC_KEY);
+  }
+
+  @Test
+  void subtractInfinitePubKeyShouldFail() {
+    BLSPublicKey pk1 = BLSTestUtil.randomPublicKey(1);
+    BLSPublicKey pk2 = BLSTestUtil.randomPublicKey(2);
+    BLSPublicKey fullAggregate = BLSPublicKey.aggregate(List.of(pk1, pk2));
+
+    BLSPublicKey result = BLSPublicKey.subtract(fullAggregate, List.of(INFINITY_PUBLIC_KEY));
+
+    assertThat(result).isEqualTo(INFINITY_PUBLIC_KEY);
+  }
+
   @Test
   public void toAbbreviatedString_shouldShowFirstSevenBytesOfPublicKey() {
     Bytes keyBytes =
@@ -22,7 +22,13 @@ public enum ValidatorDutyMetricsSteps {
   // time taken excluding the queued time, to perform the create component of the duty
   CREATE("create"),
   SIGN("sign"),
-  SEND("send");
+  SEND("send"),
+  // time from requesting the data for the duty until it is available to a signing chunk
+  DATA_FETCH("data_fetch"),
+  // time taken by a signing chunk to check slashing protection and calculate signing roots
+  SIGNING_PREPARATION("signing_preparation"),
+  // time from a signing chunk requesting its signatures until all of them are complete
+  SIGN_CHUNK("sign_chunk");
 
   private final String name;
 
@@ -44,6 +44,7 @@ import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import tech.pegasys.teku.infrastructure.http.HttpErrorResponse;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.FinalizedResponseCache;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.JavalinEndpointAdapter;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
 import tech.pegasys.teku.infrastructure.restapi.openapi.OpenApiDocBuilder;
@@ -65,6 +66,7 @@ public class RestApiBuilder {
   private Optional<Path> maybeKeystorePath = Optional.empty();
   private Optional<Path> maybePasswordPath = Optional.empty();
   private Optional<Path> passwordFilePath = Optional.empty();
+  private Optional<FinalizedResponseCache> responseCache = Optional.empty();
 
   public RestApiBuilder listenAddress(final String listenAddress) {
     this.listenAddress = listenAddress;
@@ -119,6 +121,11 @@ public class RestApiBuilder {
     return this;
   }
 
+  public RestApiBuilder responseCache(final FinalizedResponseCache responseCache) {
+    this.responseCache = Optional.of(responseCache);
+    return this;
+  }
+
   public RestApiBuilder endpoint(final RestApiEndpoint endpoint) {
     this.openApiDocBuilder.endpoint(endpoint);
     this.endpoints.add(endpoint);
@@ -148,7 +155,8 @@ public class RestApiBuilder {
       app.before(new HostAllowlistHandler(hostAllowlist));
     }
 
-    endpoints.forEach(endpoint -> JavalinEndpointAdapter.addEndpoint(app, endpoint));
+    endpoints.forEach(
+        endpoint -> JavalinEndpointAdapter.addEndpoint(app, endpoint, responseCache));
 
     addExceptionHandlers(app);
     Optional<String> restApiDocs = swaggerBuilder.configureDocs(app, openApiDocBuilder);
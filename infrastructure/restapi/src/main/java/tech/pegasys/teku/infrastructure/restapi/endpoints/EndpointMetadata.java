@@ -260,6 +260,11 @@ public class EndpointMetadata {
     return response != null && response.getSupportedContentTypes().isEmpty();
   }
 
+  public boolean hasResponseContent(final int statusCode) {
+    final OpenApiResponse response = responses.get(Integer.toString(statusCode));
+    return response != null && !response.getSupportedContentTypes().isEmpty();
+  }
+
   @SuppressWarnings("unchecked")
   public <T> ResponseMetadata createResponseMetadata(
       final int statusCode, final Optional<String> acceptHeader, final T response) {
@@ -631,6 +636,24 @@ public class EndpointMetadata {
       return this;
     }
 
+    public <T> EndpointMetaDataBuilder requestBodyType(
+        final SerializableTypeDefinition<List<T>> requestBodyType,
+        final OneOfArrayJsonRequestContentTypeDefinition.BodyTypeSelector<T> bodyTypeSelector,
+        final BiFunction<Bytes, Optional<String>, List<T>> milestoneSpecificOctetStreamParser) {
+      // any time we're setting a request body type, it's possible to get unsupported media-type, so
+      // add implicitly
+      response(
+          SC_UNSUPPORTED_MEDIA_TYPE, "Unsupported media-type supplied", HTTP_ERROR_RESPONSE_TYPE);
+      this.requestBodyTypes.put(
+          ContentTypes.JSON,
+          new OneOfArrayJsonRequestContentTypeDefinition<>(requestBodyType, bodyTypeSelector));
+      this.requestBodyTypes.put(
+          ContentTypes.OCTET_STREAM,
+          MilestoneSpecificOctetStreamRequestContentTypeDefinition.parseBytes(
+              milestoneSpecificOctetStreamParser));
+      return this;
+    }
+
     public <T> EndpointMetaDataBuilder requestBodyType(
         final SerializableOneOfTypeDefinition<T> requestBodyType,
         final BodyTypeSelector<T> bodyTypeSelector,
@@ -0,0 +1,136 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.endpoints;
+
+import com.google.common.hash.Hashing;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+/**
+ * Caches the encoded bodies of responses that can never change, such as finalized blocks, so
+ * repeated requests are served without loading or serializing the data again.
+ *
+ * <p>Only responses sent with {@link CacheLength#FINALIZED} are stored. Entries are keyed by the
+ * endpoint path, the canonicalized request parameters and the response content type, and the least
+ * recently used entries are evicted once the total size of cached bodies exceeds the byte budget.
+ */
+public class FinalizedResponseCache {
+  private final long maxBytes;
+  private final LabelledMetric<Counter> requestCounter;
+  private final Map<Key, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long totalBytes = 0;
+
+  public FinalizedResponseCache(final MetricsSystem metricsSystem, final long maxBytes) {
+    this.maxBytes = maxBytes;
+    this.requestCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "rest_api_response_cache_requests_total",
+            "Count of finalized REST API responses served from the response cache (hit) or generated (miss)",
+            "endpoint",
+            "result");
+    metricsSystem.createGauge(
+        TekuMetricCategory.BEACON,
+        "rest_api_response_cache_size_bytes",
+        "Total size of the response bodies held in the REST API response cache",
+        this::getTotalBytes);
+  }
+
+  public static Key createKey(
+      final EndpointMetadata metadata,
+      final Map<String, String> pathParams,
+      final Map<String, List<String>> queryParams,
+      final String contentType) {
+    final StringBuilder params = new StringBuilder();
+    new TreeMap<>(pathParams)
+        .forEach(
+            (name, value) -> params.append(name).append('=').append(canonical(value)).append('/'));
+    params.append('?');
+    new TreeMap<>(queryParams)
+        .forEach(
+            (name, values) ->
+                values.forEach(
+                    value -> params.append(name).append('=').append(canonical(value)).append('&')));
+    return new Key(metadata.getPath(), params.toString(), contentType);
+  }
+
+  private static String canonical(final String value) {
+    return value.trim().toLowerCase(Locale.ROOT);
+  }
+
+  public synchronized Optional<CachedResponse> get(final Key key) {
+    final Optional<CachedResponse> response = Optional.ofNullable(entries.get(key));
+    if (response.isPresent()) {
+      requestCounter.labels(key.path(), "hit").inc();
+    }
+    return response;
+  }
+
+  /** Stores a newly generated response, returning it with its ETag. */
+  public synchronized CachedResponse put(
+      final Key key, final Map<String, String> headers, final byte[] body) {
+    requestCounter.labels(key.path(), "miss").inc();
+    final CachedResponse response =
+        new CachedResponse(
+            key.contentType(),
+            headers,
+            body,
+            "\"" + Hashing.murmur3_128().hashBytes(body) + "\"");
+    if (body.length > maxBytes) {
+      return response;
+    }
+    final CachedResponse previous = entries.put(key, response);
+    if (previous != null) {
+      totalBytes -= previous.body().length;
+    }
+    totalBytes += body.length;
+    final Iterator<CachedResponse> iterator = entries.values().iterator();
+    while (totalBytes > maxBytes && iterator.hasNext()) {
+      totalBytes -= iterator.next().body().length;
+      iterator.remove();
+    }
+    return response;
+  }
+
+  private synchronized long getTotalBytes() {
+    return totalBytes;
+  }
+
+  public record Key(String path, String params, String contentType) {}
+
+  public record CachedResponse(
+      String contentType, Map<String, String> headers, byte[] body, String etag) {
+
+    public boolean matches(final Optional<String> ifNoneMatch) {
+      return ifNoneMatch
+          .map(
+              header ->
+                  header.trim().equals("*")
+                      || Arrays.stream(header.split(","))
+                          .map(String::trim)
+                          .anyMatch(tag -> tag.equals(etag) || tag.equals("W/" + etag)))
+          .orElse(false);
+    }
+  }
+}
@@ -13,27 +13,51 @@
 
 package tech.pegasys.teku.infrastructure.restapi.endpoints;
 
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+
 import io.javalin.Javalin;
 import io.javalin.http.Context;
 import io.javalin.http.Handler;
+import io.javalin.http.HandlerType;
+import java.util.Optional;
 
 public class JavalinEndpointAdapter implements Handler {
 
   private final RestApiEndpoint endpoint;
+  private final Optional<FinalizedResponseCache> responseCache;
 
-  private JavalinEndpointAdapter(final RestApiEndpoint endpoint) {
+  private JavalinEndpointAdapter(
+      final RestApiEndpoint endpoint, final Optional<FinalizedResponseCache> responseCache) {
     this.endpoint = endpoint;
+    this.responseCache = responseCache;
   }
 
   public static void addEndpoint(final Javalin app, final RestApiEndpoint endpoint) {
+    addEndpoint(app, endpoint, Optional.empty());
+  }
+
+  public static void addEndpoint(
+      final Javalin app,
+      final RestApiEndpoint endpoint,
+      final Optional<FinalizedResponseCache> responseCache) {
     final EndpointMetadata metadata = endpoint.getMetadata();
+    final Optional<FinalizedResponseCache> endpointResponseCache =
+        metadata.getMethod() == HandlerType.GET && metadata.hasResponseContent(SC_OK)
+            ? responseCache
+            : Optional.empty();
     app.addHttpHandler(
-        metadata.getMethod(), metadata.getPath(), new JavalinEndpointAdapter(endpoint));
+        metadata.getMethod(),
+        metadata.getPath(),
+        new JavalinEndpointAdapter(endpoint, endpointResponseCache));
   }
 
   @Override
   public void handle(final Context ctx) throws Exception {
-    final RestApiRequest request = new JavalinRestApiRequest(ctx, endpoint.getMetadata());
+    final JavalinRestApiRequest request =
+        new JavalinRestApiRequest(ctx, endpoint.getMetadata(), responseCache);
+    if (request.respondFromCache()) {
+      return;
+    }
     endpoint.handleRequest(request);
   }
 }
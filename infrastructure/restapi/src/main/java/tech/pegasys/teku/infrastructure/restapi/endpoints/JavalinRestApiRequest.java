@@ -15,6 +15,7 @@ package tech.pegasys.teku.infrastructure.restapi.endpoints;
 
 import static com.google.common.base.Preconditions.checkState;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_MODIFIED;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT;
 
@@ -24,9 +25,12 @@ import io.javalin.http.Header;
 import io.javalin.http.sse.SseClient;
 import io.javalin.http.sse.SseHandler;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -36,6 +40,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.http.HttpErrorResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.FinalizedResponseCache.CachedResponse;
 
 public class JavalinRestApiRequest implements RestApiRequest {
   private static final Logger LOG = LogManager.getLogger();
@@ -44,6 +49,8 @@ public class JavalinRestApiRequest implements RestApiRequest {
   private final Map<String, String> pathParamMap;
   private final Map<String, List<String>> queryParamMap;
   private final Map<String, String> headerMap;
+  private final Optional<FinalizedResponseCache> responseCache;
+  private final Map<String, String> endpointHeaders = new LinkedHashMap<>();
 
   @Override
   @SuppressWarnings({"TypeParameterUnusedInFormals"})
@@ -75,8 +82,16 @@ public class JavalinRestApiRequest implements RestApiRequest {
   }
 
   public JavalinRestApiRequest(final Context context, final EndpointMetadata metadata) {
+    this(context, metadata, Optional.empty());
+  }
+
+  public JavalinRestApiRequest(
+      final Context context,
+      final EndpointMetadata metadata,
+      final Optional<FinalizedResponseCache> responseCache) {
     this.context = context;
     this.metadata = metadata;
+    this.responseCache = responseCache;
     // Work around a bug in Javalin where it decides whether to compress on each call to
     // write which could result in a mix of compressed and uncompressed content
     // and means it doesn't evaluate the length of the response correctly.
@@ -86,6 +101,37 @@ public class JavalinRestApiRequest implements RestApiRequest {
     this.headerMap = context.headerMap();
   }
 
+  /**
+   * Sends a previously cached response if the request is for a finalized resource that has already
+   * been served.
+   *
+   * @return true if a response was sent
+   */
+  public boolean respondFromCache() {
+    if (responseCache.isEmpty()) {
+      return false;
+    }
+    final FinalizedResponseCache.Key key =
+        FinalizedResponseCache.createKey(
+            metadata, pathParamMap, queryParamMap, getResponseContentType(SC_OK));
+    final Optional<CachedResponse> maybeResponse = responseCache.get().get(key);
+    if (maybeResponse.isEmpty()) {
+      return false;
+    }
+    final CachedResponse response = maybeResponse.get();
+    context.header(Header.CACHE_CONTROL, CacheLength.FINALIZED.getHttpHeaderValue());
+    context.header(Header.ETAG, response.etag());
+    if (response.matches(Optional.ofNullable(context.header(Header.IF_NONE_MATCH)))) {
+      context.status(SC_NOT_MODIFIED);
+      return true;
+    }
+    context.status(SC_OK);
+    context.contentType(response.contentType());
+    response.headers().forEach(context::header);
+    writeBody(response.body(), getResponseOutputStream());
+    return true;
+  }
+
   @Override
   public void respondOk(final Object response) throws JsonProcessingException {
     respond(SC_OK, response, getResponseOutputStream());
@@ -99,10 +145,17 @@ public class JavalinRestApiRequest implements RestApiRequest {
                 .thenApply(
                     result -> {
                       try {
+                        result
+                            .getCacheLength()
+                            .ifPresent(
+                                cacheLength ->
+                                    context.header(
+                                        Header.CACHE_CONTROL, cacheLength.getHttpHeaderValue()));
                         respond(
                             result.getResponseCode(),
                             result.getResponseBody(),
-                            getResponseOutputStream());
+                            getResponseOutputStream(),
+                            result.getCacheLength());
                       } catch (JsonProcessingException e) {
                         LOG.trace("Failed to generate API response", e);
                         context.status(SC_INTERNAL_SERVER_ERROR);
@@ -116,7 +169,7 @@ public class JavalinRestApiRequest implements RestApiRequest {
   public void respondOk(final Object response, final CacheLength cacheLength)
       throws JsonProcessingException {
     context.header(Header.CACHE_CONTROL, cacheLength.getHttpHeaderValue());
-    respond(SC_OK, response, getResponseOutputStream());
+    respond(SC_OK, Optional.of(response), getResponseOutputStream(), Optional.of(cacheLength));
   }
 
   @Override
@@ -130,30 +183,68 @@ public class JavalinRestApiRequest implements RestApiRequest {
   }
 
   private void respond(
-      final int statusCode, final Optional<Object> response, final OutputStream out)
+      final int statusCode,
+      final Optional<Object> response,
+      final OutputStream out,
+      final Optional<CacheLength> cacheLength)
       throws JsonProcessingException {
     context.status(statusCode);
     if (response.isPresent()) {
-      respondImpl(statusCode, response.get(), out);
+      respondImpl(statusCode, response.get(), out, cacheLength);
     }
   }
 
   private void respond(final int statusCode, final Object response, final OutputStream out)
       throws JsonProcessingException {
     context.status(statusCode);
-    respondImpl(statusCode, response, out);
+    respondImpl(statusCode, response, out, Optional.empty());
   }
 
-  private void respondImpl(final int statusCode, final Object response, final OutputStream out)
+  private void respondImpl(
+      final int statusCode,
+      final Object response,
+      final OutputStream out,
+      final Optional<CacheLength> cacheLength)
       throws JsonProcessingException {
     final ResponseMetadata responseMetadata =
         metadata.createResponseMetadata(
             statusCode, Optional.ofNullable(context.header(HEADER_ACCEPT)), response);
     context.contentType(responseMetadata.getContentType());
     responseMetadata.getAdditionalHeaders().forEach(context::header);
+    if (responseCache.isPresent()
+        && statusCode == SC_OK
+        && cacheLength.equals(Optional.of(CacheLength.FINALIZED))) {
+      final ByteArrayOutputStream body = new ByteArrayOutputStream();
+      metadata.serialize(statusCode, responseMetadata.getContentType(), response, body);
+      final CachedResponse cachedResponse =
+          responseCache
+              .get()
+              .put(
+                  FinalizedResponseCache.createKey(
+                      metadata, pathParamMap, queryParamMap, responseMetadata.getContentType()),
+                  getCachedHeaders(responseMetadata),
+                  body.toByteArray());
+      context.header(Header.ETAG, cachedResponse.etag());
+      writeBody(cachedResponse.body(), out);
+      return;
+    }
     metadata.serialize(statusCode, responseMetadata.getContentType(), response, out);
   }
 
+  private Map<String, String> getCachedHeaders(final ResponseMetadata responseMetadata) {
+    final Map<String, String> headers = new LinkedHashMap<>(endpointHeaders);
+    headers.putAll(responseMetadata.getAdditionalHeaders());
+    return headers;
+  }
+
+  private void writeBody(final byte[] body, final OutputStream out) {
+    try {
+      out.write(body);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Error writing response body", e);
+    }
+  }
+
   /** This is only used when intending to return status code without a response body */
   @Override
   public void respondWithCode(final int statusCode) {
@@ -283,6 +374,7 @@ public class JavalinRestApiRequest implements RestApiRequest {
 
   @Override
   public void header(final String name, final String value) {
+    endpointHeaders.put(name, value);
     context.header(name, value);
   }
 
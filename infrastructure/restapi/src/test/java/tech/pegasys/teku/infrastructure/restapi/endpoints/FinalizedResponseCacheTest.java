@@ -0,0 +1,136 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.endpoints;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.json.types.CoreTypes;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.FinalizedResponseCache.CachedResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.FinalizedResponseCache.Key;
+
+class FinalizedResponseCacheTest {
+  private static final String JSON = "application/json";
+
+  private final EndpointMetadata metadata =
+      EndpointMetadata.get("/foo/{id}")
+          .operationId("getFoo")
+          .summary("foo summary")
+          .description("foo description")
+          .response(200, "A string", CoreTypes.STRING_TYPE)
+          .build();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final FinalizedResponseCache cache = new FinalizedResponseCache(metricsSystem, 10);
+
+  @Test
+  void shouldCanonicalizeParametersInKey() {
+    final Key key1 =
+        FinalizedResponseCache.createKey(
+            metadata,
+            Map.of("id", "0xABCD "),
+            Map.of("b", List.of("1"), "a", List.of("2")),
+            JSON);
+    final Key key2 =
+        FinalizedResponseCache.createKey(
+            metadata,
+            Map.of("id", "0xabcd"),
+            Map.of("a", List.of("2"), "b", List.of("1")),
+            JSON);
+
+    assertThat(key1).isEqualTo(key2);
+  }
+
+  @Test
+  void shouldIncludeContentTypeInKey() {
+    assertThat(FinalizedResponseCache.createKey(metadata, Map.of("id", "1"), Map.of(), JSON))
+        .isNotEqualTo(
+            FinalizedResponseCache.createKey(
+                metadata, Map.of("id", "1"), Map.of(), "application/octet-stream"));
+  }
+
+  @Test
+  void shouldReturnStoredResponseAndCountHitsAndMisses() {
+    final Key key = key("1");
+    assertThat(cache.get(key)).isEmpty();
+
+    final CachedResponse stored = cache.put(key, Map.of("Eth-Consensus-Version", "deneb"), body(4));
+
+    assertThat(cache.get(key)).contains(stored);
+    assertThat(stored.headers()).containsEntry("Eth-Consensus-Version", "deneb");
+    assertThat(getRequestCount("miss")).isEqualTo(1);
+    assertThat(getRequestCount("hit")).isEqualTo(1);
+    assertThat(getSizeBytes()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntriesWhenOverBudget() {
+    cache.put(key("1"), Map.of(), body(4));
+    cache.put(key("2"), Map.of(), body(4));
+    cache.get(key("1"));
+
+    cache.put(key("3"), Map.of(), body(4));
+
+    assertThat(cache.get(key("1"))).isPresent();
+    assertThat(cache.get(key("2"))).isEmpty();
+    assertThat(cache.get(key("3"))).isPresent();
+    assertThat(getSizeBytes()).isEqualTo(8);
+  }
+
+  @Test
+  void shouldNotStoreResponsesLargerThanBudget() {
+    final CachedResponse response = cache.put(key("1"), Map.of(), body(11));
+
+    assertThat(response.body()).hasSize(11);
+    assertThat(cache.get(key("1"))).isEmpty();
+    assertThat(getSizeBytes()).isZero();
+  }
+
+  @Test
+  void shouldMatchIfNoneMatchHeader() {
+    final CachedResponse response = cache.put(key("1"), Map.of(), body(4));
+    final String etag = response.etag();
+
+    assertThat(response.matches(Optional.of(etag))).isTrue();
+    assertThat(response.matches(Optional.of("W/" + etag))).isTrue();
+    assertThat(response.matches(Optional.of("\"other\", " + etag))).isTrue();
+    assertThat(response.matches(Optional.of("*"))).isTrue();
+    assertThat(response.matches(Optional.of("\"other\""))).isFalse();
+    assertThat(response.matches(Optional.empty())).isFalse();
+  }
+
+  private Key key(final String id) {
+    return FinalizedResponseCache.createKey(metadata, Map.of("id", id), Map.of(), JSON);
+  }
+
+  private byte[] body(final int length) {
+    return new byte[length];
+  }
+
+  private long getRequestCount(final String result) {
+    return metricsSystem
+        .getCounter(TekuMetricCategory.BEACON, "rest_api_response_cache_requests_total")
+        .getValue("/foo/{id}", result);
+  }
+
+  private double getSizeBytes() {
+    return metricsSystem
+        .getGauge(TekuMetricCategory.BEACON, "rest_api_response_cache_size_bytes")
+        .getValue();
+  }
+}
@@ -131,6 +131,7 @@ public class StubRestApiRequest implements RestApiRequest {
       LOG.warn("Response body was empty on async response");
     }
     responseObject = response.getResponseBody().orElse(null);
+    cacheLength = response.getCacheLength().orElse(null);
     verifyResponseMatchesMetadata();
   }
 
@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -24,12 +25,14 @@ import java.util.stream.IntStream;
 public class ContainersGenerator {
 
   private final int maxFields = 20;
+  private final int maxFlatFields = 5;
   private final Path templateSrcPath;
   private final Path targetSrcPath;
   private final String typePackagePath = "tech/pegasys/teku/infrastructure/ssz/containers/";
   private final String viewPackagePath = "tech/pegasys/teku/infrastructure/ssz/containers/";
   private final String containerTypeTemplateFile = "ContainerSchemaTemplate.java";
   private final String containerViewTemplateFile = "ContainerTemplate.java";
+  private final String flatContainerViewTemplateFile = "FlatContainerTemplate.java";
 
   public ContainersGenerator(final Path templateSourcePath, final Path destinationSourcePath) {
     templateSrcPath = templateSourcePath;
@@ -148,6 +151,16 @@ public class ContainersGenerator {
         templateSrcPath.resolve(viewPackagePath).resolve(containerViewTemplateFile),
         targetSrcPath.resolve(viewPackagePath).resolve(viewClassName + ".java"),
         vars);
+
+    if (fieldsCount <= maxFlatFields) {
+      final String flatViewClassName = "FlatContainer" + fieldsCount;
+      final Map<String, String> flatVars = new HashMap<>(vars);
+      flatVars.put("ViewClassName", flatViewClassName);
+      generateFromTemplate(
+          templateSrcPath.resolve(viewPackagePath).resolve(flatContainerViewTemplateFile),
+          targetSrcPath.resolve(viewPackagePath).resolve(flatViewClassName + ".java"),
+          flatVars);
+    }
   }
 
   public void generateFromTemplate(
@@ -19,6 +19,21 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 public interface SszMutableUInt64List
     extends SszMutablePrimitiveList<UInt64, SszUInt64>, SszUInt64List {
 
+  /** Sets the element at {@code index} from raw bits without boxing it */
+  void setLong(int index, long value);
+
+  /**
+   * Replaces each element in the range {@code [fromIndex, toIndex)} with the value returned by
+   * {@code updater}. Elements for which the updater returns the current value are left unchanged
+   * and the list is only invalidated once for the whole range.
+   */
+  void updateLongs(int fromIndex, int toIndex, LongElementUpdater updater);
+
   @Override
   SszUInt64List commitChanges();
+
+  @FunctionalInterface
+  interface LongElementUpdater {
+    long update(int index, long currentValue);
+  }
 }
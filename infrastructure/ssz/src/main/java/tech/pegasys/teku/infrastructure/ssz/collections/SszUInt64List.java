@@ -18,6 +18,16 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public interface SszUInt64List extends SszPrimitiveList<UInt64, SszUInt64> {
 
+  /** Returns the raw bits of the element at {@code index} without boxing it */
+  long getLong(int index);
+
+  /**
+   * Copies the raw bits of all elements to the start of {@code dest}
+   *
+   * @throws IndexOutOfBoundsException if {@code dest} is shorter than this list
+   */
+  void copyTo(long[] dest);
+
   @Override
   SszMutableUInt64List createWritableCopy();
 }
@@ -13,24 +13,164 @@
 
 package tech.pegasys.teku.infrastructure.ssz.collections.impl;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import tech.pegasys.teku.infrastructure.ssz.cache.IntCache;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.impl.AbstractSszUInt64Schema;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUpdates;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
+/**
+ * Changes to existing elements are kept as raw longs grouped by the packed chunk they belong to so
+ * that updating large lists (e.g. balances) doesn't box every element. Only appended elements go
+ * through the generic boxed change tracking.
+ */
 public class SszMutableUInt64ListImpl extends SszMutablePrimitiveListImpl<UInt64, SszUInt64>
     implements SszMutableUInt64List {
 
+  private final Int2ObjectMap<ChunkChanges> chunkChanges = new Int2ObjectOpenHashMap<>();
+  private final int elementsPerChunk;
+
   public SszMutableUInt64ListImpl(final SszUInt64ListImpl backingImmutableData) {
     super(backingImmutableData);
+    elementsPerChunk = getSchema().getElementsPerChunk();
+  }
+
+  @Override
+  public long getLong(final int index) {
+    checkIndex(index, false);
+    return getLongImpl(index);
+  }
+
+  private long getLongImpl(final int index) {
+    final ChunkChanges changes = chunkChanges.get(index / elementsPerChunk);
+    final int internalIndex = index % elementsPerChunk;
+    if (changes != null && changes.isUpdated(internalIndex)) {
+      return changes.get(internalIndex);
+    }
+    final SszUInt64ListImpl backingList = getBackingList();
+    if (index < backingList.size()) {
+      return backingList.getLongImpl(index);
+    }
+    // Appended element which is tracked as a boxed change
+    return super.get(index).longValue();
+  }
+
+  @Override
+  public SszUInt64 get(final int index) {
+    checkIndex(index, false);
+    final ChunkChanges changes = chunkChanges.get(index / elementsPerChunk);
+    final int internalIndex = index % elementsPerChunk;
+    if (changes != null && changes.isUpdated(internalIndex)) {
+      return SszUInt64.of(UInt64.fromLongBits(changes.get(internalIndex)));
+    }
+    return super.get(index);
+  }
+
+  @Override
+  public void copyTo(final long[] dest) {
+    final int size = size();
+    if (dest.length < size) {
+      throw new IndexOutOfBoundsException(
+          "Destination length " + dest.length + " is less than list size " + size);
+    }
+    for (int index = 0; index < size; index++) {
+      dest[index] = getLongImpl(index);
+    }
+  }
+
+  @Override
+  public void set(final int index, final SszUInt64 value) {
+    if (index == size()) {
+      super.set(index, value);
+    } else {
+      setLong(index, value.longValue());
+    }
+  }
+
+  @Override
+  public void setLong(final int index, final long value) {
+    if (index == size()) {
+      super.set(index, SszUInt64.of(UInt64.fromLongBits(value)));
+      return;
+    }
+    checkIndex(index, false);
+    recordChange(index, value);
+    invalidate();
+  }
+
+  @Override
+  public void updateLongs(
+      final int fromIndex, final int toIndex, final LongElementUpdater updater) {
+    if (fromIndex < 0 || fromIndex > toIndex || toIndex > size()) {
+      throw new IndexOutOfBoundsException(
+          "Invalid range [" + fromIndex + ", " + toIndex + ") for list with size " + size());
+    }
+    boolean changed = false;
+    for (int index = fromIndex; index < toIndex; index++) {
+      final long currentValue = getLongImpl(index);
+      final long newValue = updater.update(index, currentValue);
+      if (newValue != currentValue) {
+        recordChange(index, newValue);
+        changed = true;
+      }
+    }
+    if (changed) {
+      invalidate();
+    }
+  }
+
+  private void recordChange(final int index, final long value) {
+    chunkChanges
+        .computeIfAbsent(index / elementsPerChunk, __ -> new ChunkChanges(elementsPerChunk))
+        .update(index % elementsPerChunk, value);
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    chunkChanges.clear();
   }
 
   @Override
   public SszUInt64List commitChanges() {
-    return (SszUInt64List) super.commitChanges();
+    final SszUInt64List committed = (SszUInt64List) super.commitChanges();
+    if (chunkChanges.isEmpty()) {
+      return committed;
+    }
+    final TreeNode originalTree = committed.getBackingNode();
+    final TreeNode newTree = originalTree.updated(chunkChangesToNewNodes(originalTree));
+    return new SszUInt64ListImpl(getSchema(), newTree);
+  }
+
+  private TreeUpdates chunkChangesToNewNodes(final TreeNode original) {
+    final int[] chunkIndices = chunkChanges.keySet().toIntArray();
+    Arrays.sort(chunkIndices);
+    final LongList gIndices = new LongArrayList(chunkIndices.length);
+    final List<TreeNode> newNodes = new ArrayList<>(chunkIndices.length);
+    for (int chunkIndex : chunkIndices) {
+      final long gIndex = getSchema().getChildGeneralizedIndex(chunkIndex);
+      final ChunkChanges changes = chunkChanges.get(chunkIndex);
+      gIndices.add(gIndex);
+      newNodes.add(
+          AbstractSszUInt64Schema.updatePackedNode(
+              original.get(gIndex), changes.values, changes.updatedMask));
+    }
+    return new TreeUpdates(gIndices, newNodes);
+  }
+
+  private SszUInt64ListImpl getBackingList() {
+    return (SszUInt64ListImpl) backingImmutableData;
   }
 
   @Override
@@ -49,4 +189,26 @@ public class SszMutableUInt64ListImpl extends SszMutablePrimitiveListImpl<UInt64
     throw new UnsupportedOperationException(
         "Creating a writable copy from writable instance is not supported");
   }
+
+  private static class ChunkChanges {
+    private final long[] values;
+    private int updatedMask;
+
+    private ChunkChanges(final int elementsPerChunk) {
+      this.values = new long[elementsPerChunk];
+    }
+
+    private boolean isUpdated(final int internalIndex) {
+      return (updatedMask & (1 << internalIndex)) != 0;
+    }
+
+    private long get(final int internalIndex) {
+      return values[internalIndex];
+    }
+
+    private void update(final int internalIndex, final long value) {
+      values[internalIndex] = value;
+      updatedMask |= 1 << internalIndex;
+    }
+  }
 }
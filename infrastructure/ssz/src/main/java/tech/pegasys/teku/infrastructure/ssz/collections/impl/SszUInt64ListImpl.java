@@ -19,6 +19,7 @@ import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.impl.AbstractSszUInt64Schema;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
@@ -36,6 +37,33 @@ public class SszUInt64ListImpl extends SszPrimitiveListImpl<UInt64, SszUInt64>
     super(schema, backingNode, cache);
   }
 
+  @Override
+  public long getLong(final int index) {
+    checkIndex(index);
+    return getLongImpl(index);
+  }
+
+  long getLongImpl(final int index) {
+    return AbstractSszUInt64Schema.getLongFromPackedNode(
+        getTreeNode(index), index % elementsPerChunk);
+  }
+
+  @Override
+  public void copyTo(final long[] dest) {
+    final int size = size();
+    if (dest.length < size) {
+      throw new IndexOutOfBoundsException(
+          "Destination length " + dest.length + " is less than list size " + size);
+    }
+    for (int chunkStart = 0; chunkStart < size; chunkStart += elementsPerChunk) {
+      final TreeNode node = getTreeNode(chunkStart);
+      final int chunkEnd = Math.min(chunkStart + elementsPerChunk, size);
+      for (int index = chunkStart; index < chunkEnd; index++) {
+        dest[index] = AbstractSszUInt64Schema.getLongFromPackedNode(node, index - chunkStart);
+      }
+    }
+  }
+
   @Override
   public SszMutableUInt64List createWritableCopy() {
     return new SszMutableUInt64ListImpl(this);
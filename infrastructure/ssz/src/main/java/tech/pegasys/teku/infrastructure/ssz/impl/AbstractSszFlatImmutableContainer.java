@@ -0,0 +1,116 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.impl.AbstractSszContainerSchema;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszByteArrayWriter;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+
+/**
+ * Base class for small fixed size immutable containers which are mostly created from field values
+ * and then hashed or serialized (attestation data, checkpoints, signing data etc).
+ *
+ * <p>When created from field values the backing tree is only built if it is requested. The hash
+ * tree root is calculated directly from the field roots and serialization writes the fields one
+ * after another. Instances created from a backing node behave like any other container.
+ */
+public abstract class AbstractSszFlatImmutableContainer extends AbstractSszImmutableContainer {
+
+  /** The field values when created from values, or {@code null} when created from a tree */
+  private final SszData[] fieldValues;
+
+  private volatile Bytes32 hashTreeRoot;
+
+  protected AbstractSszFlatImmutableContainer(
+      final AbstractSszContainerSchema<? extends AbstractSszFlatImmutableContainer> schema) {
+    super(schema);
+    this.fieldValues = null;
+  }
+
+  protected AbstractSszFlatImmutableContainer(
+      final SszContainerSchema<? extends AbstractSszFlatImmutableContainer> schema,
+      final TreeNode backingNode) {
+    super(schema, backingNode);
+    this.fieldValues = null;
+  }
+
+  protected AbstractSszFlatImmutableContainer(
+      final SszContainerSchema<? extends AbstractSszFlatImmutableContainer> schema,
+      final SszData... memberValues) {
+    super(
+        schema,
+        () -> schema.createTreeFromFieldValues(Arrays.asList(memberValues)),
+        memberValues);
+    checkArgument(schema.isFixedSize(), "Flat container must be fixed size: %s", schema);
+    this.fieldValues = memberValues;
+  }
+
+  @Override
+  public Bytes32 hashTreeRoot() {
+    if (fieldValues == null) {
+      return super.hashTreeRoot();
+    }
+    Bytes32 root = hashTreeRoot;
+    if (root == null) {
+      root = calculateHashTreeRoot(fieldValues, getSchema().treeDepth());
+      hashTreeRoot = root;
+    }
+    return root;
+  }
+
+  private static Bytes32 calculateHashTreeRoot(final SszData[] fieldValues, final int depth) {
+    final Bytes32[] chunks = new Bytes32[1 << depth];
+    for (int i = 0; i < fieldValues.length; i++) {
+      chunks[i] = fieldValues[i].hashTreeRoot();
+    }
+    Arrays.fill(chunks, fieldValues.length, chunks.length, Bytes32.ZERO);
+    for (int width = chunks.length; width > 1; width /= 2) {
+      for (int i = 0; i < width / 2; i++) {
+        chunks[i] = Hash.sha256(chunks[2 * i], chunks[2 * i + 1]);
+      }
+    }
+    return chunks[0];
+  }
+
+  @Override
+  public Bytes sszSerialize() {
+    if (fieldValues == null) {
+      return super.sszSerialize();
+    }
+    final SszByteArrayWriter writer = new SszByteArrayWriter(getSchema().getSszFixedPartSize());
+    sszSerialize(writer);
+    return writer.toBytes();
+  }
+
+  @Override
+  public int sszSerialize(final SszWriter writer) {
+    if (fieldValues == null) {
+      return super.sszSerialize(writer);
+    }
+    int size = 0;
+    for (final SszData fieldValue : fieldValues) {
+      size += fieldValue.sszSerialize(writer);
+    }
+    return size;
+  }
+}
@@ -18,6 +18,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.Supplier;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.SszMutableContainer;
 import tech.pegasys.teku.infrastructure.ssz.cache.ArrayIntCache;
@@ -47,8 +48,25 @@ public abstract class AbstractSszImmutableContainer extends SszContainerImpl {
         schema,
         schema.createTreeFromFieldValues(Arrays.asList(memberValues)),
         createCache(memberValues));
+    checkMemberValues(schema, memberValues);
+  }
+
+  /**
+   * Creates a container from member values without building the backing tree. The tree is created
+   * with {@code lazyBackingNode} the first time it is requested.
+   */
+  protected AbstractSszImmutableContainer(
+      final SszContainerSchema<? extends AbstractSszImmutableContainer> schema,
+      final Supplier<TreeNode> lazyBackingNode,
+      final SszData... memberValues) {
+    super(schema, lazyBackingNode, createCache(memberValues));
+    checkMemberValues(schema, memberValues);
+  }
+
+  private static void checkMemberValues(
+      final SszContainerSchema<?> schema, final SszData... memberValues) {
     checkArgument(
-        memberValues.length == this.getSchema().getMaxLength(),
+        memberValues.length == schema.getMaxLength(),
         "Wrong number of member values: %s",
         memberValues.length);
     for (int i = 0; i < memberValues.length; i++) {
@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.infrastructure.ssz.impl;
 
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import tech.pegasys.teku.infrastructure.ssz.SszContainer;
@@ -40,6 +42,13 @@ public class SszContainerImpl extends AbstractSszComposite<SszData> implements S
     super(type, backingNode, cache);
   }
 
+  public SszContainerImpl(
+      final SszCompositeSchema<?> type,
+      final Supplier<TreeNode> lazyBackingNode,
+      final IntCache<SszData> cache) {
+    super(type, lazyBackingNode, Optional.of(cache));
+  }
+
   @Override
   protected SszData getImpl(final int index) {
     SszCompositeSchema<?> type = this.getSchema();
@@ -36,7 +36,9 @@ import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints.SszSuperNodeHi
 import tech.pegasys.teku.infrastructure.ssz.schema.SszType;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszSerializationCache;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
 import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.SszNodeTemplate;
 import tech.pegasys.teku.infrastructure.ssz.tree.SszSuperNode;
@@ -152,11 +154,20 @@ public abstract class AbstractSszCollectionSchema<
       return 0;
     }
     int nodesCount = getChunks(elementsCount);
+    final Optional<SszSerializationCache> cache = writer.getSerializationCache();
+    if (cache.isPresent() && canUseSerializationCache(cache.get(), nodesCount)) {
+      return sszSerializeFixedVectorCached(vectorNode, writer, nodesCount, cache.get());
+    }
+    return sszSerializeLeaves(vectorNode, writer, 0, nodesCount);
+  }
+
+  private int sszSerializeLeaves(
+      final TreeNode vectorNode, final SszWriter writer, final int fromNode, final int toNode) {
     int[] bytesCnt = new int[1];
     TreeUtil.iterateLeavesData(
         vectorNode,
-        getChildGeneralizedIndex(0),
-        getChildGeneralizedIndex(nodesCount - 1),
+        getChildGeneralizedIndex(fromNode),
+        getChildGeneralizedIndex(toNode - 1),
         leafData -> {
           writer.write(leafData);
           bytesCnt[0] += leafData.size();
@@ -164,6 +175,45 @@ public abstract class AbstractSszCollectionSchema<
     return bytesCnt[0];
   }
 
+  private boolean canUseSerializationCache(
+      final SszSerializationCache cache, final int nodesCount) {
+    final int subtreeDepth = cache.getSubtreeDepth();
+    final boolean subtreeSplitsSuperNode =
+        getHints()
+            .getHint(SszSuperNodeHint.class)
+            .map(hint -> hint.getDepth() > subtreeDepth)
+            .orElse(false);
+    return !subtreeSplitsSuperNode && nodesCount > (1 << subtreeDepth);
+  }
+
+  /**
+   * Serializes the whole subtrees of {@link SszSerializationCache#getSubtreeDepth()} depth via the
+   * cache and the remaining nodes directly. The subtree holding the last node is never cached as
+   * its last element may be only partially filled.
+   */
+  private int sszSerializeFixedVectorCached(
+      final TreeNode vectorNode,
+      final SszWriter writer,
+      final int nodesCount,
+      final SszSerializationCache cache) {
+    final int subtreeDepth = cache.getSubtreeDepth();
+    final int subtreeNodesCount = 1 << subtreeDepth;
+    final int cachedSubtreesCount = (nodesCount - 1) / subtreeNodesCount;
+    int bytesCnt = 0;
+    for (int i = 0; i < cachedSubtreesCount; i++) {
+      final TreeNode subtree =
+          vectorNode.get(
+              GIndexUtil.gIdxChildGIndex(GIndexUtil.SELF_G_INDEX, i, treeDepth() - subtreeDepth));
+      final Bytes subtreeBytes =
+          cache.getOrSerialize(this, subtree, () -> TreeUtil.concatenateLeavesData(subtree));
+      writer.write(subtreeBytes);
+      bytesCnt += subtreeBytes.size();
+    }
+    return bytesCnt
+        + sszSerializeLeaves(
+            vectorNode, writer, cachedSubtreesCount * subtreeNodesCount, nodesCount);
+  }
+
   private int sszSerializeVariableVector(
       final TreeNode vectorNode, final SszWriter writer, final int elementsCount) {
     SszSchema<?> elementType = getElementSchema();
@@ -31,6 +31,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public abstract class AbstractSszUInt64Schema<T extends SszUInt64>
     extends AbstractSszPrimitiveSchema<UInt64, T> {
+  private static final int ELEMENTS_PER_CHUNK = 4;
 
   private final Supplier<DeserializableTypeDefinition<T>> typeDefinition =
       Suppliers.memoize(this::createJsonTypeDefinition);
@@ -81,16 +82,7 @@ public abstract class AbstractSszUInt64Schema<T extends SszUInt64>
     if (updates.size() == 4) {
       final byte[] data = new byte[32];
       for (int i = 0; i < 4; i++) {
-        final long longValue = updates.get(i).getNewValue().longValue();
-        final int off = i * 8;
-        data[off + 0] = (byte) longValue;
-        data[off + 1] = (byte) (longValue >> 8);
-        data[off + 2] = (byte) (longValue >> 16);
-        data[off + 3] = (byte) (longValue >> 24);
-        data[off + 4] = (byte) (longValue >> 32);
-        data[off + 5] = (byte) (longValue >> 40);
-        data[off + 6] = (byte) (longValue >> 48);
-        data[off + 7] = (byte) (longValue >> 56);
+        writeLongLittleEndian(data, i * 8, updates.get(i).getNewValue().longValue());
       }
       return LeafNode.create(Bytes.wrap(data));
     } else {
@@ -98,6 +90,42 @@ public abstract class AbstractSszUInt64Schema<T extends SszUInt64>
     }
   }
 
+  /** Reads the element at {@code internalIndex} of a packed node without boxing it */
+  public static long getLongFromPackedNode(final TreeNode node, final int internalIndex) {
+    return ((LeafDataNode) node).getData().getLong(internalIndex * 8, ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * Replaces the elements of a packed node whose bit is set in {@code updatedMask} with the
+   * corresponding entries of {@code newValues} without boxing them
+   */
+  public static TreeNode updatePackedNode(
+      final TreeNode srcNode, final long[] newValues, final int updatedMask) {
+    final int highestUpdatedIndex = 31 - Integer.numberOfLeadingZeros(updatedMask);
+    final Bytes srcData = ((LeafDataNode) srcNode).getData();
+    final byte[] data = new byte[Math.max(srcData.size(), (highestUpdatedIndex + 1) * 8)];
+    if (Integer.bitCount(updatedMask) < ELEMENTS_PER_CHUNK) {
+      System.arraycopy(srcData.toArrayUnsafe(), 0, data, 0, srcData.size());
+    }
+    for (int i = 0; i <= highestUpdatedIndex; i++) {
+      if ((updatedMask & (1 << i)) != 0) {
+        writeLongLittleEndian(data, i * 8, newValues[i]);
+      }
+    }
+    return LeafNode.create(Bytes.wrap(data));
+  }
+
+  private static void writeLongLittleEndian(final byte[] data, final int off, final long value) {
+    data[off + 0] = (byte) value;
+    data[off + 1] = (byte) (value >> 8);
+    data[off + 2] = (byte) (value >> 16);
+    data[off + 3] = (byte) (value >> 24);
+    data[off + 4] = (byte) (value >> 32);
+    data[off + 5] = (byte) (value >> 40);
+    data[off + 6] = (byte) (value >> 48);
+    data[off + 7] = (byte) (value >> 56);
+  }
+
   @Override
   public TreeNode getDefaultTree() {
     return LeafNode.ZERO_LEAVES[8];
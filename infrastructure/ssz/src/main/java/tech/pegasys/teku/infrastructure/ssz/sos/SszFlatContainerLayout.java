@@ -0,0 +1,165 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.sos;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszType;
+
+/**
+ * The position of each field within the SSZ serialization of a container, computed once from its
+ * schema so serialized containers can be read with {@link SszFlatContainerView} without
+ * deserializing them.
+ */
+public class SszFlatContainerLayout {
+  private final SszContainerSchema<?> schema;
+  private final int fixedPartSize;
+  private final int[] fixedOffsets;
+  private final int[] fixedSizes;
+  private final int[] variableFieldOrdinals;
+  private final int variableFieldCount;
+  private final SszFlatContainerLayout[] childLayouts;
+
+  private SszFlatContainerLayout(final SszContainerSchema<?> schema) {
+    this.schema = schema;
+    final int fieldCount = schema.getFieldsCount();
+    this.fixedOffsets = new int[fieldCount];
+    this.fixedSizes = new int[fieldCount];
+    this.variableFieldOrdinals = new int[fieldCount];
+    this.childLayouts = new SszFlatContainerLayout[fieldCount];
+    int offset = 0;
+    int variableCount = 0;
+    for (int i = 0; i < fieldCount; i++) {
+      final SszSchema<?> fieldSchema = schema.getChildSchema(i);
+      fixedOffsets[i] = offset;
+      if (fieldSchema.isFixedSize()) {
+        fixedSizes[i] = fieldSchema.getSszFixedPartSize();
+        variableFieldOrdinals[i] = -1;
+      } else {
+        fixedSizes[i] = SszType.SSZ_LENGTH_SIZE;
+        variableFieldOrdinals[i] = variableCount++;
+      }
+      offset += fixedSizes[i];
+      if (fieldSchema instanceof SszContainerSchema<?> containerSchema) {
+        childLayouts[i] = new SszFlatContainerLayout(containerSchema);
+      }
+    }
+    this.fixedPartSize = offset;
+    this.variableFieldCount = variableCount;
+  }
+
+  public static SszFlatContainerLayout create(final SszContainerSchema<?> schema) {
+    return new SszFlatContainerLayout(schema);
+  }
+
+  /**
+   * Wraps the SSZ serialization of a container of this layout's type.
+   *
+   * <p>Only the container's own offsets are validated, fields are not checked until read.
+   *
+   * @throws SszDeserializeException if the offsets are inconsistent with the data length
+   */
+  public SszFlatContainerView wrap(final Bytes ssz) throws SszDeserializeException {
+    if (ssz.size() < fixedPartSize) {
+      throw new SszDeserializeException(
+          "Expected at least "
+              + fixedPartSize
+              + " bytes for "
+              + schema.getContainerName()
+              + " but got "
+              + ssz.size());
+    }
+    final int[] variableOffsets = new int[variableFieldCount + 1];
+    int previousOffset = fixedPartSize;
+    for (int i = 0; i < fixedOffsets.length; i++) {
+      final int ordinal = variableFieldOrdinals[i];
+      if (ordinal < 0) {
+        continue;
+      }
+      final int offset = SszType.sszBytesToLength(ssz.slice(fixedOffsets[i], fixedSizes[i]));
+      if ((ordinal == 0 && offset != fixedPartSize)
+          || offset < previousOffset
+          || offset > ssz.size()) {
+        throw new SszDeserializeException(
+            "Invalid offset " + offset + " for field " + i + " of " + schema.getContainerName());
+      }
+      variableOffsets[ordinal] = offset;
+      previousOffset = offset;
+    }
+    if (variableFieldCount == 0 && ssz.size() != fixedPartSize) {
+      throw new SszDeserializeException(
+          "Expected "
+              + fixedPartSize
+              + " bytes for "
+              + schema.getContainerName()
+              + " but got "
+              + ssz.size());
+    }
+    variableOffsets[variableFieldCount] = ssz.size();
+    return new SszFlatContainerView(this, ssz, variableOffsets);
+  }
+
+  public SszContainerSchema<?> getSchema() {
+    return schema;
+  }
+
+  /** Returns the layout of a container field */
+  public SszFlatContainerLayout getChildLayout(final int fieldIndex) {
+    final SszFlatContainerLayout childLayout = childLayouts[fieldIndex];
+    checkArgument(
+        childLayout != null,
+        "Field %s of %s is not a container",
+        fieldIndex,
+        schema.getContainerName());
+    return childLayout;
+  }
+
+  /**
+   * Resolves a path of field names to field indices, descending through container fields.
+   *
+   * @throws IllegalArgumentException if a field does not exist or is not a container
+   */
+  public int[] getFieldIndices(final String... fieldNames) {
+    final int[] indices = new int[fieldNames.length];
+    SszFlatContainerLayout layout = this;
+    for (int i = 0; i < fieldNames.length; i++) {
+      final int fieldIndex = layout.schema.getFieldIndex(fieldNames[i]);
+      checkArgument(
+          fieldIndex >= 0,
+          "No field %s in %s",
+          fieldNames[i],
+          layout.schema.getContainerName());
+      indices[i] = fieldIndex;
+      if (i < fieldNames.length - 1) {
+        layout = layout.getChildLayout(fieldIndex);
+      }
+    }
+    return indices;
+  }
+
+  int getFixedOffset(final int fieldIndex) {
+    return fixedOffsets[fieldIndex];
+  }
+
+  int getFixedSize(final int fieldIndex) {
+    return fixedSizes[fieldIndex];
+  }
+
+  int getVariableFieldOrdinal(final int fieldIndex) {
+    return variableFieldOrdinals[fieldIndex];
+  }
+}
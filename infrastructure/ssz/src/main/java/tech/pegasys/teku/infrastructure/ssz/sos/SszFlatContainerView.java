@@ -0,0 +1,101 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.sos;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.ByteOrder;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * A read-only view of a serialized SSZ container which reads fields directly from the serialized
+ * bytes. This allows a few fields to be inspected without building the backing tree of the whole
+ * container.
+ *
+ * <p>The view does not validate that the data is a valid serialization of the container. Reading a
+ * field only validates as much as is required to locate it.
+ */
+public class SszFlatContainerView {
+  private static final int UINT64_SIZE = 8;
+
+  private final SszFlatContainerLayout layout;
+  private final Bytes ssz;
+  private final int[] variableOffsets;
+
+  SszFlatContainerView(
+      final SszFlatContainerLayout layout, final Bytes ssz, final int[] variableOffsets) {
+    this.layout = layout;
+    this.ssz = ssz;
+    this.variableOffsets = variableOffsets;
+  }
+
+  /** Returns the serialized bytes of a field */
+  public Bytes getFieldBytes(final int fieldIndex) {
+    final int ordinal = layout.getVariableFieldOrdinal(fieldIndex);
+    if (ordinal < 0) {
+      return ssz.slice(layout.getFixedOffset(fieldIndex), layout.getFixedSize(fieldIndex));
+    }
+    final int start = variableOffsets[ordinal];
+    return ssz.slice(start, variableOffsets[ordinal + 1] - start);
+  }
+
+  /**
+   * Returns a view of a container field
+   *
+   * @throws SszDeserializeException if the field's offsets are inconsistent with its length
+   */
+  public SszFlatContainerView getContainerField(final int fieldIndex) {
+    return layout.getChildLayout(fieldIndex).wrap(getFieldBytes(fieldIndex));
+  }
+
+  /** Returns the view of the container at the end of a path of field indices */
+  public SszFlatContainerView getContainerField(final int[] path, final int length) {
+    SszFlatContainerView view = this;
+    for (int i = 0; i < length; i++) {
+      view = view.getContainerField(path[i]);
+    }
+    return view;
+  }
+
+  public UInt64 getUInt64(final int fieldIndex) {
+    checkFixedField(fieldIndex, UINT64_SIZE);
+    return UInt64.fromLongBits(
+        ssz.getLong(layout.getFixedOffset(fieldIndex), ByteOrder.LITTLE_ENDIAN));
+  }
+
+  /** Returns the {@code uint64} field at the end of a path of field indices */
+  public UInt64 getUInt64(final int[] path) {
+    return getContainerField(path, path.length - 1).getUInt64(path[path.length - 1]);
+  }
+
+  public Bytes32 getBytes32(final int fieldIndex) {
+    checkFixedField(fieldIndex, Bytes32.SIZE);
+    return Bytes32.wrap(ssz.slice(layout.getFixedOffset(fieldIndex), Bytes32.SIZE));
+  }
+
+  public Bytes getSsz() {
+    return ssz;
+  }
+
+  private void checkFixedField(final int fieldIndex, final int size) {
+    checkArgument(
+        layout.getVariableFieldOrdinal(fieldIndex) < 0 && layout.getFixedSize(fieldIndex) == size,
+        "Field %s of %s is not a fixed %s byte field",
+        fieldIndex,
+        layout.getSchema().getContainerName(),
+        size);
+  }
+}
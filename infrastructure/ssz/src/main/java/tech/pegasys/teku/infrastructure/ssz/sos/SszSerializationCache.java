@@ -0,0 +1,152 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.sos;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+
+/**
+ * Keeps the SSZ bytes of previously serialized subtrees so that serializing a structure which
+ * shares most of its data with one serialized earlier (e.g. the state of a following epoch) can
+ * copy the bytes of unchanged subtrees instead of walking their leaves again.
+ *
+ * <p>Subtrees of fixed size elements with {@code 2^subtreeDepth} nodes are cached keyed by their
+ * hash tree root, so the cache is only effective for trees which have already been hashed. The
+ * least recently used subtrees are evicted once the total size of the cached bytes exceeds {@code
+ * maxBytes}.
+ *
+ * <p>To use the cache, wrap the target writer with {@link #wrap(SszWriter)}.
+ */
+public class SszSerializationCache {
+  public static final int DEFAULT_SUBTREE_DEPTH = 10;
+
+  private final int subtreeDepth;
+  private final long maxBytes;
+  private final Map<Key, Bytes> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long totalBytes = 0;
+  private long hitCount = 0;
+  private long missCount = 0;
+
+  public SszSerializationCache(final int subtreeDepth, final long maxBytes) {
+    checkArgument(subtreeDepth > 0, "Subtree depth must be positive");
+    this.subtreeDepth = subtreeDepth;
+    this.maxBytes = maxBytes;
+  }
+
+  public SszSerializationCache(final long maxBytes) {
+    this(DEFAULT_SUBTREE_DEPTH, maxBytes);
+  }
+
+  /** The depth of the cached subtrees, i.e. each cached subtree has {@code 2^depth} nodes */
+  public int getSubtreeDepth() {
+    return subtreeDepth;
+  }
+
+  /** Returns a writer which writes to {@code writer} and reuses bytes held by this cache */
+  public SszWriter wrap(final SszWriter writer) {
+    return new CachingSszWriter(writer, this);
+  }
+
+  /**
+   * Returns the serialized bytes of {@code subtree}, calling {@code serializer} and caching the
+   * result if the subtree hasn't been serialized before.
+   */
+  public Bytes getOrSerialize(
+      final SszSchema<?> schema, final TreeNode subtree, final Supplier<Bytes> serializer) {
+    final Key key = new Key(schema, subtree.hashTreeRoot());
+    final Optional<Bytes> cached = get(key);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    final Bytes serialized = Bytes.wrap(serializer.get().toArrayUnsafe());
+    put(key, serialized);
+    return serialized;
+  }
+
+  public synchronized long getTotalBytes() {
+    return totalBytes;
+  }
+
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+    totalBytes = 0;
+  }
+
+  private synchronized Optional<Bytes> get(final Key key) {
+    final Bytes bytes = entries.get(key);
+    if (bytes == null) {
+      missCount++;
+      return Optional.empty();
+    }
+    hitCount++;
+    return Optional.of(bytes);
+  }
+
+  private synchronized void put(final Key key, final Bytes bytes) {
+    if (bytes.size() > maxBytes) {
+      return;
+    }
+    final Bytes previous = entries.put(key, bytes);
+    if (previous != null) {
+      totalBytes -= previous.size();
+    }
+    totalBytes += bytes.size();
+    final Iterator<Bytes> iterator = entries.values().iterator();
+    while (totalBytes > maxBytes && iterator.hasNext()) {
+      totalBytes -= iterator.next().size();
+      iterator.remove();
+    }
+  }
+
+  // The schema is part of the key because subtrees of different types with the same root may
+  // have different serializations, e.g. due to the size of the last leaf of each element
+  private record Key(SszSchema<?> schema, Bytes32 root) {}
+
+  private static class CachingSszWriter implements SszWriter {
+    private final SszWriter delegate;
+    private final SszSerializationCache cache;
+
+    private CachingSszWriter(final SszWriter delegate, final SszSerializationCache cache) {
+      this.delegate = delegate;
+      this.cache = cache;
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+      delegate.write(bytes, offset, length);
+    }
+
+    @Override
+    public Optional<SszSerializationCache> getSerializationCache() {
+      return Optional.of(cache);
+    }
+  }
+}
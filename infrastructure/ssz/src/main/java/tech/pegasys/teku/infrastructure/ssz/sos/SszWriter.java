@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.infrastructure.ssz.sos;
 
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 
 public interface SszWriter {
@@ -26,4 +27,9 @@ public interface SszWriter {
   }
 
   void write(byte[] bytes, int offset, int length);
+
+  /** Returns the cache of previously serialized subtrees which may be reused, if any */
+  default Optional<SszSerializationCache> getSerializationCache() {
+    return Optional.empty();
+  }
 }
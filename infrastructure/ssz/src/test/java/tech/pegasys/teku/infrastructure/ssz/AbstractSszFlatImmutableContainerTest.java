@@ -0,0 +1,74 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.TestFlatContainer;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.TestSubContainer;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszByteArrayWriter;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class AbstractSszFlatImmutableContainerTest implements SszCompositeTestBase {
+
+  private final Random random = new Random(1);
+
+  @Override
+  public Stream<TestFlatContainer> sszData() {
+    final TestFlatContainer fromValues = TestFlatContainer.random(random);
+    return Stream.of(
+        TestFlatContainer.SSZ_SCHEMA.getDefault(),
+        fromValues,
+        TestFlatContainer.SSZ_SCHEMA.createFromBackingNode(fromValues.getBackingNode()));
+  }
+
+  @MethodSource("sszDataArguments")
+  @ParameterizedTest
+  void hashTreeRoot_shouldMatchBackingTree(final TestFlatContainer container) {
+    assertThat(container.hashTreeRoot()).isEqualTo(container.getBackingNode().hashTreeRoot());
+  }
+
+  @MethodSource("sszDataArguments")
+  @ParameterizedTest
+  void sszSerialize_shouldMatchBackingTree(final TestFlatContainer container) {
+    final SszByteArrayWriter writer =
+        new SszByteArrayWriter(TestFlatContainer.SSZ_SCHEMA.getSszFixedPartSize());
+    final int size = container.sszSerialize(writer);
+
+    final byte[] expected =
+        TestFlatContainer.SSZ_SCHEMA.sszSerializeTree(container.getBackingNode()).toArrayUnsafe();
+    assertThat(container.sszSerialize().toArrayUnsafe()).isEqualTo(expected);
+    assertThat(writer.toBytes().toArrayUnsafe()).isEqualTo(expected);
+    assertThat(size).isEqualTo(expected.length);
+  }
+
+  @Test
+  void hashTreeRoot_shouldNotDependOnBackingTreeBeingCreated() {
+    final UInt64 long1 = UInt64.valueOf(42);
+    final TestSubContainer subContainer = new TestSubContainer(UInt64.ONE, Bytes32.ZERO);
+    final TestFlatContainer flat = new TestFlatContainer(long1, Bytes32.ZERO, subContainer);
+    final TestFlatContainer fromTree =
+        TestFlatContainer.SSZ_SCHEMA.createFromBackingNode(
+            new TestFlatContainer(long1, Bytes32.ZERO, subContainer).getBackingNode());
+
+    assertThat(flat.hashTreeRoot()).isEqualTo(fromTree.hashTreeRoot());
+    assertThat(flat).isEqualTo(fromTree);
+  }
+}
@@ -21,6 +21,7 @@ import tech.pegasys.teku.infrastructure.ssz.cache.IntCache;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszByteVector;
 import tech.pegasys.teku.infrastructure.ssz.containers.Container3;
 import tech.pegasys.teku.infrastructure.ssz.containers.ContainerSchema3;
+import tech.pegasys.teku.infrastructure.ssz.impl.AbstractSszFlatImmutableContainer;
 import tech.pegasys.teku.infrastructure.ssz.impl.AbstractSszImmutableContainer;
 import tech.pegasys.teku.infrastructure.ssz.impl.SszContainerImpl;
 import tech.pegasys.teku.infrastructure.ssz.impl.SszMutableContainerImpl;
@@ -310,6 +311,35 @@ public class TestContainers {
     }
   }
 
+  public static class TestFlatContainer extends AbstractSszFlatImmutableContainer {
+
+    public static final SszContainerSchema<TestFlatContainer> SSZ_SCHEMA =
+        SszContainerSchema.create(
+            "TestFlatContainer",
+            List.of(
+                NamedSchema.of("long1", SszPrimitiveSchemas.UINT64_SCHEMA),
+                NamedSchema.of("bytes1", SszPrimitiveSchemas.BYTES32_SCHEMA),
+                NamedSchema.of("subContainer", TestSubContainer.SSZ_SCHEMA)),
+            TestFlatContainer::new);
+
+    public static TestFlatContainer random(final Random random) {
+      return new TestFlatContainer(
+          UInt64.fromLongBits(random.nextLong()),
+          Bytes32.random(random),
+          new TestSubContainer(UInt64.fromLongBits(random.nextLong()), Bytes32.random(random)));
+    }
+
+    private TestFlatContainer(
+        final SszContainerSchema<TestFlatContainer> type, final TreeNode backingNode) {
+      super(type, backingNode);
+    }
+
+    public TestFlatContainer(
+        final UInt64 long1, final Bytes32 bytes1, final TestSubContainer subContainer) {
+      super(SSZ_SCHEMA, SszUInt64.of(long1), SszBytes32.of(bytes1), subContainer);
+    }
+  }
+
   public static class VariableSizeContainer
       extends Container3<VariableSizeContainer, TestSubContainer, SszList<SszUInt64>, SszUInt64> {
 
@@ -0,0 +1,175 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class SszUInt64ListTest {
+  private static final SszUInt64ListSchema<?> SCHEMA = SszUInt64ListSchema.create(100);
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 4, 5, 17})
+  void getLong_shouldMatchBoxedElements(final int size) {
+    final SszUInt64List list = createList(size);
+
+    for (int i = 0; i < size; i++) {
+      assertThat(list.getLong(i)).isEqualTo(list.getElement(i).longValue());
+    }
+    assertThatThrownBy(() -> list.getLong(size)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> list.getLong(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 4, 5, 17})
+  void copyTo_shouldCopyAllElements(final int size) {
+    final SszUInt64List list = createList(size);
+    final long[] dest = new long[size + 1];
+
+    list.copyTo(dest);
+
+    for (int i = 0; i < size; i++) {
+      assertThat(dest[i]).isEqualTo(list.getElement(i).longValue());
+    }
+    assertThat(dest[size]).isZero();
+  }
+
+  @Test
+  void copyTo_shouldRejectShortDestination() {
+    final SszUInt64List list = createList(5);
+
+    assertThatThrownBy(() -> list.copyTo(new long[4]))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void setLong_shouldProduceSameListAsCreatingFromValues() {
+    final SszMutableUInt64List list = createList(17).createWritableCopy();
+    final UInt64[] expectedValues =
+        IntStream.range(0, 17).mapToObj(UInt64::valueOf).toArray(UInt64[]::new);
+
+    for (int i : new int[] {0, 2, 5, 6, 7, 8, 16}) {
+      list.setLong(i, i * 1000L);
+      expectedValues[i] = UInt64.valueOf(i * 1000L);
+    }
+    // Unsigned values above Long.MAX_VALUE must survive the round trip
+    list.setLong(3, UInt64.MAX_VALUE.longValue());
+    expectedValues[3] = UInt64.MAX_VALUE;
+
+    assertThat(list.getLong(3)).isEqualTo(-1L);
+    assertThat(list.getElement(5)).isEqualTo(UInt64.valueOf(5000));
+    final SszUInt64List committed = list.commitChanges();
+    final SszUInt64List expected = SCHEMA.of(expectedValues);
+    assertThat(committed.hashTreeRoot()).isEqualTo(expected.hashTreeRoot());
+    assertThat(committed.sszSerialize()).isEqualTo(expected.sszSerialize());
+    assertThat(committed.getElement(3)).isEqualTo(UInt64.MAX_VALUE);
+    assertThat(committed.getLong(16)).isEqualTo(16_000L);
+  }
+
+  @Test
+  void setLong_shouldAppendWhenIndexIsSize() {
+    final SszMutableUInt64List list = createList(3).createWritableCopy();
+
+    list.setLong(3, 42);
+    list.setLong(3, 43);
+    list.setLong(4, 44);
+
+    assertThat(list.size()).isEqualTo(5);
+    final SszUInt64List committed = list.commitChanges();
+    assertThat(committed.size()).isEqualTo(5);
+    assertThat(committed.getLong(3)).isEqualTo(43);
+    assertThat(committed.getLong(4)).isEqualTo(44);
+    assertThat(committed.hashTreeRoot())
+        .isEqualTo(
+            SCHEMA
+                .of(
+                    UInt64.valueOf(0),
+                    UInt64.valueOf(1),
+                    UInt64.valueOf(2),
+                    UInt64.valueOf(43),
+                    UInt64.valueOf(44))
+                .hashTreeRoot());
+  }
+
+  @Test
+  void setLong_shouldRejectInvalidIndex() {
+    final SszMutableUInt64List list = createList(3).createWritableCopy();
+
+    assertThatThrownBy(() -> list.setLong(4, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> list.setLong(-1, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void updateLongs_shouldOnlyUpdateRangeAndChangedValues() {
+    final SszMutableUInt64List list = createList(10).createWritableCopy();
+
+    list.updateLongs(2, 9, (index, value) -> index % 2 == 0 ? value + 100 : value);
+
+    final SszUInt64List expected =
+        SCHEMA.of(
+            IntStream.range(0, 10)
+                .mapToObj(i -> UInt64.valueOf(i >= 2 && i < 9 && i % 2 == 0 ? i + 100 : i))
+                .toArray(UInt64[]::new));
+    for (int i = 0; i < 10; i++) {
+      assertThat(list.getLong(i)).isEqualTo(expected.getLong(i));
+    }
+    assertThat(list.commitChanges().hashTreeRoot()).isEqualTo(expected.hashTreeRoot());
+  }
+
+  @Test
+  void updateLongs_shouldRejectInvalidRange() {
+    final SszMutableUInt64List list = createList(3).createWritableCopy();
+
+    assertThatThrownBy(() -> list.updateLongs(0, 4, (index, value) -> value))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> list.updateLongs(2, 1, (index, value) -> value))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void set_shouldOverridePreviousPrimitiveChange() {
+    final SszMutableUInt64List list = createList(5).createWritableCopy();
+
+    list.setLong(1, 10);
+    list.set(1, SszUInt64.of(UInt64.valueOf(20)));
+
+    assertThat(list.getLong(1)).isEqualTo(20);
+    assertThat(list.commitChanges().getLong(1)).isEqualTo(20);
+  }
+
+  @Test
+  void clear_shouldDiscardPrimitiveChanges() {
+    final SszMutableUInt64List list = createList(5).createWritableCopy();
+    list.setLong(1, 10);
+
+    list.clear();
+    list.appendElement(UInt64.valueOf(7));
+
+    final SszUInt64List committed = list.commitChanges();
+    assertThat(committed.size()).isEqualTo(1);
+    assertThat(committed.getLong(0)).isEqualTo(7);
+  }
+
+  private SszUInt64List createList(final int size) {
+    return SCHEMA.of(IntStream.range(0, size).mapToObj(UInt64::valueOf).toArray(UInt64[]::new));
+  }
+}
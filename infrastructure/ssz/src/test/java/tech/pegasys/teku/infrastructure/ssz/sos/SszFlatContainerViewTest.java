@@ -0,0 +1,153 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.sos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.SszContainer;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.TestSubContainer;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.VariableSizeContainer;
+import tech.pegasys.teku.infrastructure.ssz.impl.SszContainerImpl;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszBytes32;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
+import tech.pegasys.teku.infrastructure.ssz.schema.impl.AbstractSszContainerSchema.NamedSchema;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class SszFlatContainerViewTest {
+
+  private static final SszContainerSchema<SszContainer> OUTER_SCHEMA =
+      SszContainerSchema.create(
+          "Outer",
+          List.of(
+              NamedSchema.of("long", SszPrimitiveSchemas.UINT64_SCHEMA),
+              NamedSchema.of("inner", VariableSizeContainer.SSZ_SCHEMA),
+              NamedSchema.of("root", SszPrimitiveSchemas.BYTES32_SCHEMA)),
+          SszContainerImpl::new);
+
+  private static final Bytes32 SUB_BYTES = Bytes32.fromHexStringLenient("0x1234");
+  private static final Bytes32 ROOT = Bytes32.fromHexStringLenient("0xabcdef");
+
+  private final SszFlatContainerLayout layout = SszFlatContainerLayout.create(OUTER_SCHEMA);
+  private final SszContainer container = createContainer();
+  private final Bytes ssz = container.sszSerialize();
+
+  @Test
+  void shouldReadFixedFields() {
+    final SszFlatContainerView view = layout.wrap(ssz);
+
+    assertThat(view.getUInt64(0)).isEqualTo(UInt64.valueOf(1));
+    assertThat(view.getBytes32(2)).isEqualTo(ROOT);
+  }
+
+  @Test
+  void shouldReadFieldsOfVariableSizeContainerField() {
+    final SszFlatContainerView inner = layout.wrap(ssz).getContainerField(1);
+
+    assertThat(inner.getSsz()).isEqualTo(container.get(1).sszSerialize());
+    assertThat(inner.getUInt64(2)).isEqualTo(UInt64.valueOf(5));
+    assertThat(inner.getFieldBytes(1))
+        .isEqualTo(((SszContainer) container.get(1)).get(1).sszSerialize());
+
+    final SszFlatContainerView sub = inner.getContainerField(0);
+    assertThat(sub.getUInt64(0)).isEqualTo(UInt64.valueOf(2));
+    assertThat(sub.getBytes32(1)).isEqualTo(SUB_BYTES);
+  }
+
+  @Test
+  void shouldReadFieldByPath() {
+    final int[] path = layout.getFieldIndices("inner", "sub", "long1");
+
+    assertThat(path).containsExactly(1, 0, 0);
+    assertThat(layout.wrap(ssz).getUInt64(path)).isEqualTo(UInt64.valueOf(2));
+  }
+
+  @Test
+  void shouldRejectUnknownFieldInPath() {
+    assertThatThrownBy(() -> layout.getFieldIndices("inner", "unknown"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> layout.getFieldIndices("long", "sub"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectReadingFieldAsWrongType() {
+    final SszFlatContainerView view = layout.wrap(ssz);
+
+    assertThatThrownBy(() -> view.getUInt64(1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> view.getBytes32(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectDataShorterThanFixedPart() {
+    assertThatThrownBy(() -> layout.wrap(ssz.slice(0, 8)))
+        .isInstanceOf(SszDeserializeException.class);
+  }
+
+  @Test
+  void shouldRejectFirstOffsetNotAtEndOfFixedPart() {
+    final Bytes invalid = Bytes.wrap(ssz.slice(0, 8), Bytes.of(0, 0, 0, 0), ssz.slice(12));
+
+    assertThatThrownBy(() -> layout.wrap(invalid)).isInstanceOf(SszDeserializeException.class);
+  }
+
+  @Test
+  void shouldRejectOffsetBeyondEndOfData() {
+    final Bytes innerSsz = layout.wrap(ssz).getFieldBytes(1);
+    // The list offset of the inner container follows its 40 byte sub container
+    final Bytes invalidInner =
+        Bytes.wrap(innerSsz.slice(0, 40), Bytes.of(0xff, 0, 0, 0), innerSsz.slice(44));
+    final Bytes invalid = Bytes.wrap(ssz.slice(0, 44), invalidInner);
+
+    final SszFlatContainerView view = layout.wrap(invalid);
+    assertThatThrownBy(() -> view.getContainerField(1))
+        .isInstanceOf(SszDeserializeException.class);
+  }
+
+  @Test
+  void shouldRejectFixedSizeContainerWithExtraBytes() {
+    final SszFlatContainerLayout subLayout =
+        SszFlatContainerLayout.create(TestSubContainer.SSZ_SCHEMA);
+    final Bytes subSsz = new TestSubContainer(UInt64.ONE, SUB_BYTES).sszSerialize();
+
+    assertThat(subLayout.wrap(subSsz).getUInt64(0)).isEqualTo(UInt64.ONE);
+    assertThatThrownBy(() -> subLayout.wrap(Bytes.wrap(subSsz, Bytes.of(0))))
+        .isInstanceOf(SszDeserializeException.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static SszContainer createContainer() {
+    final SszListSchema<SszUInt64, ?> listSchema =
+        (SszListSchema<SszUInt64, ?>) VariableSizeContainer.SSZ_SCHEMA.getFieldSchema1();
+    final SszList<SszUInt64> list =
+        listSchema.createFromElements(
+            List.of(SszUInt64.of(UInt64.valueOf(3)), SszUInt64.of(UInt64.valueOf(4))));
+    final VariableSizeContainer inner =
+        VariableSizeContainer.SSZ_SCHEMA.createFromFieldValues(
+            List.of(
+                new TestSubContainer(UInt64.valueOf(2), SUB_BYTES),
+                list,
+                SszUInt64.of(UInt64.valueOf(5))));
+    return OUTER_SCHEMA.createFromFieldValues(
+        List.of(SszUInt64.of(UInt64.valueOf(1)), inner, SszBytes32.of(ROOT)));
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.sos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.TestByteVectorContainer;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class SszSerializationCacheTest {
+  // Each cached subtree holds 4 nodes, i.e. 16 uint64 values or 4 containers
+  private static final int SUBTREE_DEPTH = 2;
+
+  private static final SszUInt64ListSchema<SszUInt64List> UINT64_LIST_SCHEMA =
+      SszUInt64ListSchema.create(1024);
+  private static final SszListSchema<TestByteVectorContainer, ?> CONTAINER_LIST_SCHEMA =
+      SszListSchema.create(TestByteVectorContainer.SSZ_SCHEMA, 128);
+
+  private final SszSerializationCache cache =
+      new SszSerializationCache(SUBTREE_DEPTH, Long.MAX_VALUE);
+
+  @Test
+  void shouldSerializePackedListTheSameAsWithoutCache() {
+    final SszUInt64List list = createUInt64List(203);
+
+    assertThat(serializeWithCache(list)).isEqualTo(list.sszSerialize());
+    assertThat(cache.getMissCount()).isEqualTo(12);
+    assertThat(cache.getHitCount()).isZero();
+  }
+
+  @Test
+  void shouldReuseUnchangedSubtrees() {
+    final SszUInt64List list = createUInt64List(203);
+    serializeWithCache(list);
+
+    final SszMutableUInt64List updatedList = list.createWritableCopy();
+    updatedList.setElement(20, UInt64.valueOf(999));
+    updatedList.appendElement(UInt64.valueOf(1000));
+    final SszUInt64List updated = updatedList.commitChanges();
+
+    assertThat(serializeWithCache(updated)).isEqualTo(updated.sszSerialize());
+    assertThat(cache.getMissCount()).isEqualTo(13);
+    assertThat(cache.getHitCount()).isEqualTo(11);
+  }
+
+  @Test
+  void shouldSerializeCompositeListTheSameAsWithoutCache() {
+    final Random random = new Random(1);
+    final SszList<TestByteVectorContainer> list =
+        CONTAINER_LIST_SCHEMA.createFromElements(
+            IntStream.range(0, 37).mapToObj(__ -> TestByteVectorContainer.random(random)).toList());
+
+    assertThat(serializeWithCache(list)).isEqualTo(list.sszSerialize());
+    assertThat(serializeWithCache(list)).isEqualTo(list.sszSerialize());
+    assertThat(cache.getHitCount()).isEqualTo(9);
+  }
+
+  @Test
+  void shouldNotUseCacheForSmallCollections() {
+    final SszUInt64List list = createUInt64List(16);
+
+    assertThat(serializeWithCache(list)).isEqualTo(list.sszSerialize());
+    assertThat(cache.getMissCount()).isZero();
+  }
+
+  @Test
+  void shouldEvictEntriesWhenOverBudget() {
+    final SszSerializationCache smallCache = new SszSerializationCache(SUBTREE_DEPTH, 256);
+    final SszUInt64List list = createUInt64List(203);
+    final SszByteArrayWriter writer = new SszByteArrayWriter(list.sszSerialize().size());
+
+    list.sszSerialize(smallCache.wrap(writer));
+
+    assertThat(writer.toBytes()).isEqualTo(list.sszSerialize());
+    assertThat(smallCache.getTotalBytes()).isEqualTo(256);
+  }
+
+  private Bytes serializeWithCache(final SszData data) {
+    final SszByteArrayWriter writer =
+        new SszByteArrayWriter(data.getSchema().getSszSize(data.getBackingNode()));
+    data.sszSerialize(cache.wrap(writer));
+    return writer.toBytes();
+  }
+
+  private SszUInt64List createUInt64List(final int size) {
+    return UINT64_LIST_SCHEMA.of(LongStream.range(0, size).mapToObj(UInt64::valueOf).toList());
+  }
+}
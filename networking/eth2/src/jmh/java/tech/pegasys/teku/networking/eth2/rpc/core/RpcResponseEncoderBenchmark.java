@@ -0,0 +1,90 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.context.RpcContextCodec;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Compares encoding a large response to bytes and copying it into a network buffer with encoding it
+ * directly into a pooled buffer.
+ *
+ * <p>Run with {@code -prof gc} to measure allocation. The heap allocated per MB served is {@code
+ * gc.alloc.rate.norm} divided by the uncompressed state size, which is printed during setup.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class RpcResponseEncoderBenchmark {
+  private static final int VALIDATOR_COUNT = 100_000;
+
+  private final Spec spec = TestSpecFactory.createMainnetDeneb();
+  private final BeaconState state =
+      new DataStructureUtil(spec).randomBeaconState(VALIDATOR_COUNT);
+  private final RpcResponseEncoder<BeaconState, Bytes> responseEncoder;
+
+  @SuppressWarnings("unchecked")
+  public RpcResponseEncoderBenchmark() {
+    responseEncoder =
+        new RpcResponseEncoder<>(
+            RpcEncoding.createSszSnappyEncoding(spec.getNetworkingConfig().getMaxChunkSize()),
+            RpcContextCodec.noop((SszSchema<BeaconState>) state.getSchema()));
+    System.out.printf(
+        "Uncompressed state size: %.2f MB%n", state.sszSerialize().size() / 1024.0 / 1024.0);
+  }
+
+  @Benchmark
+  public int encodeToBytesAndCopy() {
+    final Bytes response = responseEncoder.encodeSuccessfulResponse(state);
+    final ByteBuf buffer = PooledByteBufAllocator.DEFAULT.buffer();
+    try {
+      buffer.writeBytes(response.toArrayUnsafe());
+      return buffer.readableBytes();
+    } finally {
+      buffer.release();
+    }
+  }
+
+  @Benchmark
+  public int encodeToPooledBuffer() {
+    final ByteBuf buffer =
+        responseEncoder.encodeSuccessfulResponse(state, PooledByteBufAllocator.DEFAULT);
+    try {
+      return buffer.readableBytes();
+    } finally {
+      buffer.release();
+    }
+  }
+}
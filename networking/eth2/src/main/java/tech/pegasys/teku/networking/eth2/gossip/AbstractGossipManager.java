@@ -24,6 +24,7 @@ import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipMessagePreValidator;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopicName;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationMilestoneValidator;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
@@ -61,6 +62,38 @@ public abstract class AbstractGossipManager<T extends SszData> implements Gossip
       final NetworkingSpecConfig networkingConfig,
       final GossipFailureLogger gossipFailureLogger,
       final DebugDataDumper debugDataDumper) {
+    this(
+        recentChainData,
+        topicName,
+        asyncRunner,
+        gossipNetwork,
+        gossipEncoding,
+        forkInfo,
+        processor,
+        gossipType,
+        getSlotForMessage,
+        getEpochForMessage,
+        networkingConfig,
+        gossipFailureLogger,
+        debugDataDumper,
+        GossipMessagePreValidator.NOOP);
+  }
+
+  protected AbstractGossipManager(
+      final RecentChainData recentChainData,
+      final GossipTopicName topicName,
+      final AsyncRunner asyncRunner,
+      final GossipNetwork gossipNetwork,
+      final GossipEncoding gossipEncoding,
+      final ForkInfo forkInfo,
+      final OperationProcessor<T> processor,
+      final SszSchema<T> gossipType,
+      final Function<T, Optional<UInt64>> getSlotForMessage,
+      final Function<T, UInt64> getEpochForMessage,
+      final NetworkingSpecConfig networkingConfig,
+      final GossipFailureLogger gossipFailureLogger,
+      final DebugDataDumper debugDataDumper,
+      final GossipMessagePreValidator preValidator) {
     this.gossipNetwork = gossipNetwork;
     this.topicHandler =
         new Eth2TopicHandler<>(
@@ -69,12 +102,13 @@ public abstract class AbstractGossipManager<T extends SszData> implements Gossip
             processor,
             gossipEncoding,
             forkInfo.getForkDigest(recentChainData.getSpec()),
-            topicName,
+            topicName.toString(),
             new OperationMilestoneValidator<>(
                 recentChainData.getSpec(), forkInfo.getFork(), getEpochForMessage),
             gossipType,
             networkingConfig,
-            debugDataDumper);
+            debugDataDumper,
+            preValidator);
     this.gossipEncoding = gossipEncoding;
     this.gossipFailureLogger = gossipFailureLogger;
     this.getSlotForMessage = getSlotForMessage;
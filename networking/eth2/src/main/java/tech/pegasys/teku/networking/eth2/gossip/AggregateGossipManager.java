@@ -18,10 +18,12 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopicName;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
+import tech.pegasys.teku.networking.eth2.gossip.topics.SlotGossipMessagePreValidator;
 import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
 import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
+import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof.SignedAggregateAndProofSchema;
 import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.statetransition.util.DebugDataDumper;
 import tech.pegasys.teku.storage.client.RecentChainData;
@@ -49,15 +51,29 @@ public class AggregateGossipManager extends AbstractGossipManager<SignedAggregat
                 ValidatableAttestation.aggregateFromNetwork(
                     recentChainData.getSpec(), proofMessage),
                 arrivalTimestamp),
-        spec.atEpoch(forkInfo.getFork().getEpoch())
-            .getSchemaDefinitions()
-            .getSignedAggregateAndProofSchema(),
+        getGossipType(spec, forkInfo),
         message -> Optional.of(message.getMessage().getAggregate().getData().getSlot()),
         message -> spec.computeEpochAtSlot(message.getMessage().getAggregate().getData().getSlot()),
         spec.getNetworkingConfig(),
         GossipFailureLogger.createSuppressing(
             GossipTopicName.BEACON_AGGREGATE_AND_PROOF.toString()),
-        debugDataDumper);
+        debugDataDumper,
+        new SlotGossipMessagePreValidator(
+            spec,
+            forkInfo.getFork(),
+            recentChainData,
+            getGossipType(spec, forkInfo),
+            "message",
+            "aggregate",
+            "data",
+            "slot"));
+  }
+
+  private static SignedAggregateAndProofSchema getGossipType(
+      final Spec spec, final ForkInfo forkInfo) {
+    return spec.atEpoch(forkInfo.getFork().getEpoch())
+        .getSchemaDefinitions()
+        .getSignedAggregateAndProofSchema();
   }
 
   public void onNewAggregate(final ValidatableAttestation validatableAttestation) {
@@ -28,6 +28,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationMilestoneValidator;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
+import tech.pegasys.teku.networking.eth2.gossip.topics.SlotGossipMessagePreValidator;
 import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.Eth2TopicHandler;
 import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
 import tech.pegasys.teku.networking.p2p.gossip.TopicChannel;
@@ -184,7 +185,15 @@ public class BlobSidecarGossipManager implements GossipManager {
             blobSidecar -> spec.computeEpochAtSlot(blobSidecar.getSlot())),
         gossipType,
         spec.getNetworkingConfig(),
-        debugDataDumper);
+        debugDataDumper,
+        new SlotGossipMessagePreValidator(
+            spec,
+            forkInfo.getFork(),
+            recentChainData,
+            gossipType,
+            "signed_block_header",
+            "message",
+            "slot"));
   }
 
   private record TopicSubnetIdAwareOperationProcessor(
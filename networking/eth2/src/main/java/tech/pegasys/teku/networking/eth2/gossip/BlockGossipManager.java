@@ -19,9 +19,13 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopicName;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
+import tech.pegasys.teku.networking.eth2.gossip.topics.SlotGossipMessagePreValidator;
 import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockFields;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlockFields;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlockSchema;
 import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.statetransition.util.DebugDataDumper;
 import tech.pegasys.teku.storage.client.RecentChainData;
@@ -37,22 +41,51 @@ public class BlockGossipManager extends AbstractGossipManager<SignedBeaconBlock>
       final ForkInfo forkInfo,
       final OperationProcessor<SignedBeaconBlock> processor,
       final DebugDataDumper debugDataDumper) {
-    super(
+    this(
         recentChainData,
-        GossipTopicName.BEACON_BLOCK,
+        spec,
         asyncRunner,
         gossipNetwork,
         gossipEncoding,
         forkInfo,
         processor,
+        debugDataDumper,
         spec.atEpoch(forkInfo.getFork().getEpoch())
             .getSchemaDefinitions()
-            .getSignedBeaconBlockSchema(),
+            .getSignedBeaconBlockSchema());
+  }
+
+  private BlockGossipManager(
+      final RecentChainData recentChainData,
+      final Spec spec,
+      final AsyncRunner asyncRunner,
+      final GossipNetwork gossipNetwork,
+      final GossipEncoding gossipEncoding,
+      final ForkInfo forkInfo,
+      final OperationProcessor<SignedBeaconBlock> processor,
+      final DebugDataDumper debugDataDumper,
+      final SignedBeaconBlockSchema gossipType) {
+    super(
+        recentChainData,
+        GossipTopicName.BEACON_BLOCK,
+        asyncRunner,
+        gossipNetwork,
+        gossipEncoding,
+        forkInfo,
+        processor,
+        gossipType,
         block -> Optional.of(block.getSlot()),
         block -> spec.computeEpochAtSlot(block.getSlot()),
         spec.getNetworkingConfig(),
         GossipFailureLogger.createNonSuppressing(GossipTopicName.BEACON_BLOCK.toString()),
-        debugDataDumper);
+        debugDataDumper,
+        new SlotGossipMessagePreValidator(
+            spec,
+            forkInfo.getFork(),
+            recentChainData,
+            gossipType,
+            SignedBeaconBlockFields.MESSAGE.getSszFieldName(),
+            BeaconBlockFields.SLOT.getSszFieldName()));
   }
 
   public SafeFuture<Void> publishBlock(final SignedBeaconBlock message) {
@@ -0,0 +1,39 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
+import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
+
+/**
+ * Checks a gossip message using its serialized form so that messages which would be ignored or
+ * rejected can be dropped without deserializing them.
+ */
+@FunctionalInterface
+public interface GossipMessagePreValidator {
+
+  GossipMessagePreValidator NOOP = serializedMessage -> Optional.empty();
+
+  /**
+   * Returns an IGNORE or REJECT result if the message can be dropped without being deserialized or
+   * empty if the message needs full validation.
+   *
+   * @throws SszDeserializeException if the message is malformed, in which case it is left to full
+   *     deserialization to report the error
+   */
+  Optional<InternalValidationResult> preValidate(Bytes serializedMessage)
+      throws SszDeserializeException;
+}
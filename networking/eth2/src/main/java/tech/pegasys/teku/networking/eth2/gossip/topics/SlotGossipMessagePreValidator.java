@@ -0,0 +1,74 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchema;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszFlatContainerLayout;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.Fork;
+import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/**
+ * Pre-validates messages using only their slot, which is read directly from the serialized message.
+ * Messages from the wrong milestone are rejected and messages from finalized slots are ignored,
+ * matching the result full validation would give.
+ */
+public class SlotGossipMessagePreValidator implements GossipMessagePreValidator {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Spec spec;
+  private final Fork expectedFork;
+  private final RecentChainData recentChainData;
+  private final SszFlatContainerLayout layout;
+  private final int[] slotFieldPath;
+
+  public SlotGossipMessagePreValidator(
+      final Spec spec,
+      final Fork expectedFork,
+      final RecentChainData recentChainData,
+      final SszContainerSchema<?> messageSchema,
+      final String... slotFieldPath) {
+    this.spec = spec;
+    this.expectedFork = expectedFork;
+    this.recentChainData = recentChainData;
+    this.layout = SszFlatContainerLayout.create(messageSchema);
+    this.slotFieldPath = layout.getFieldIndices(slotFieldPath);
+  }
+
+  @Override
+  public Optional<InternalValidationResult> preValidate(final Bytes serializedMessage) {
+    final UInt64 slot = layout.wrap(serializedMessage).getUInt64(slotFieldPath);
+    if (!expectedFork.equals(spec.getForkSchedule().getFork(spec.computeEpochAtSlot(slot)))) {
+      return Optional.of(InternalValidationResult.reject("Incorrect spec milestone"));
+    }
+    if (isSlotFinalized(slot)) {
+      LOG.trace("Message from finalized slot {} will be dropped", slot);
+      return Optional.of(InternalValidationResult.IGNORE);
+    }
+    return Optional.empty();
+  }
+
+  private boolean isSlotFinalized(final UInt64 slot) {
+    return recentChainData
+        .getFinalizedCheckpoint()
+        .map(checkpoint -> slot.isLessThanOrEqualTo(checkpoint.getEpochStartSlot(spec)))
+        .orElse(false);
+  }
+}
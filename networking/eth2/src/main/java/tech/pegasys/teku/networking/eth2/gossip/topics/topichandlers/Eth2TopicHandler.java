@@ -27,10 +27,12 @@ import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.DecodingException;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.Eth2PreparedGossipMessageFactory;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipMessagePreValidator;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipSubValidationUtil;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopicName;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopics;
@@ -56,6 +58,7 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
   private final NetworkingSpecConfig networkingConfig;
   private final DebugDataDumper debugDataDumper;
   private final String topic;
+  private final GossipMessagePreValidator preValidator;
 
   public Eth2TopicHandler(
       final RecentChainData recentChainData,
@@ -68,6 +71,32 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
       final SszSchema<MessageT> messageType,
       final NetworkingSpecConfig networkingConfig,
       final DebugDataDumper debugDataDumper) {
+    this(
+        recentChainData,
+        asyncRunner,
+        processor,
+        gossipEncoding,
+        forkDigest,
+        topicName,
+        forkValidator,
+        messageType,
+        networkingConfig,
+        debugDataDumper,
+        GossipMessagePreValidator.NOOP);
+  }
+
+  public Eth2TopicHandler(
+      final RecentChainData recentChainData,
+      final AsyncRunner asyncRunner,
+      final OperationProcessor<MessageT> processor,
+      final GossipEncoding gossipEncoding,
+      final Bytes4 forkDigest,
+      final String topicName,
+      final OperationMilestoneValidator<MessageT> forkValidator,
+      final SszSchema<MessageT> messageType,
+      final NetworkingSpecConfig networkingConfig,
+      final DebugDataDumper debugDataDumper,
+      final GossipMessagePreValidator preValidator) {
     this.asyncRunner = asyncRunner;
     this.processor = processor;
     this.gossipEncoding = gossipEncoding;
@@ -80,6 +109,7 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
             recentChainData::getMilestoneByForkDigest);
     this.debugDataDumper = debugDataDumper;
     this.topic = GossipTopics.getTopic(forkDigest, topicName, gossipEncoding);
+    this.preValidator = preValidator;
   }
 
   public Eth2TopicHandler(
@@ -108,6 +138,12 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
 
   @Override
   public SafeFuture<ValidationResult> handleMessage(final PreparedGossipMessage message) {
+    final Optional<InternalValidationResult> preValidationResult = preValidate(message);
+    if (preValidationResult.isPresent()) {
+      processMessage(preValidationResult.get(), message);
+      return SafeFuture.completedFuture(
+          GossipSubValidationUtil.fromInternalValidationResult(preValidationResult.get()));
+    }
     return SafeFuture.of(() -> deserialize(message))
         .thenCompose(
             deserialized -> {
@@ -130,6 +166,15 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
         .exceptionally(error -> handleMessageProcessingError(message, error));
   }
 
+  private Optional<InternalValidationResult> preValidate(final PreparedGossipMessage message) {
+    try {
+      return message.getDecodedMessage().getDecodedMessage().flatMap(preValidator::preValidate);
+    } catch (final SszDeserializeException e) {
+      // Malformed messages are reported when full deserialization fails
+      return Optional.empty();
+    }
+  }
+
   private void processMessage(
       final InternalValidationResult internalValidationResult,
       final PreparedGossipMessage message) {
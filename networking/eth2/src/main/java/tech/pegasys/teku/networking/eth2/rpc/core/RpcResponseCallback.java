@@ -37,7 +37,7 @@ class RpcResponseCallback<TResponse extends SszData> implements ResponseCallback
 
   @Override
   public SafeFuture<Void> respond(final TResponse data) {
-    return rpcStream.writeBytes(responseEncoder.encodeSuccessfulResponse(data));
+    return rpcStream.write(allocator -> responseEncoder.encodeSuccessfulResponse(data, allocator));
   }
 
   @Override
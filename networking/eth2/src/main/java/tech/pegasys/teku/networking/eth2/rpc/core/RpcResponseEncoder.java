@@ -15,6 +15,8 @@ package tech.pegasys.teku.networking.eth2.rpc.core;
 
 import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.SUCCESS_RESPONSE_CODE;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
@@ -36,6 +38,25 @@ public final class RpcResponseEncoder<TPayload extends SszData, TContext> {
         Bytes.of(SUCCESS_RESPONSE_CODE), context, encoding.encodePayload(response));
   }
 
+  /**
+   * Encodes a successful response directly into a buffer from {@code allocator}, so large
+   * responses are serialized and compressed without intermediate copies. The caller owns the
+   * returned buffer.
+   */
+  public ByteBuf encodeSuccessfulResponse(
+      final TPayload response, final ByteBufAllocator allocator) {
+    final ByteBuf out = allocator.buffer();
+    try {
+      out.writeByte(SUCCESS_RESPONSE_CODE);
+      out.writeBytes(contextCodec.encodeContext(response).toArrayUnsafe());
+      encoding.encodePayload(response, out);
+      return out;
+    } catch (final RuntimeException e) {
+      out.release();
+      throw e;
+    }
+  }
+
   public Bytes encodeErrorResponse(final RpcException error) {
     return Bytes.concatenate(
         Bytes.of(error.getResponseCode()), encoding.encodePayload(error.getErrorMessage()));
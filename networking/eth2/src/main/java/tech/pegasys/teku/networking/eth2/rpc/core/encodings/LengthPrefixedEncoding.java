@@ -19,6 +19,7 @@ import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.Compressor;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.Compressor.CompressingWriter;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.EmptyMessage;
 
 /**
@@ -76,6 +77,24 @@ public class LengthPrefixedEncoding implements RpcEncoding {
     return encodeMessageWithLength(payload);
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends SszData> void encodePayload(final T message, final ByteBuf out) {
+    if (message instanceof EmptyMessage) {
+      return;
+    }
+    final RpcPayloadEncoder<T> payloadEncoder =
+        payloadEncoders.getEncoder((SszSchema<T>) message.getSchema());
+    final int payloadSize = payloadEncoder.getEncodedSize(message);
+    if (payloadSize == 0) {
+      return;
+    }
+    out.writeBytes(ProtobufEncoder.encodeVarInt(payloadSize).toArrayUnsafe());
+    try (final CompressingWriter writer = compressor.createCompressingWriter(out)) {
+      payloadEncoder.encode(message, writer);
+    }
+  }
+
   @Override
   public <T extends SszData> RpcByteBufDecoder<T> createDecoder(final SszSchema<T> payloadType) {
     if (payloadType.equals(EmptyMessage.SSZ_SCHEMA)) {
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
 
+import io.netty.buffer.ByteBuf;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
@@ -36,6 +37,15 @@ public interface RpcEncoding {
    */
   <T extends SszData> Bytes encodePayload(T payload);
 
+  /**
+   * Encodes a payload with its encoding-dependent header directly into {@code out}
+   *
+   * @param payload The payload to encode
+   * @param out The buffer to write the header and payload to
+   * @param <T> The type of payload
+   */
+  <T extends SszData> void encodePayload(T payload, ByteBuf out);
+
   /**
    * Creates a brand new disposable {@link RpcByteBufDecoder} instance for decoding a payload with
    * it's encoding-dependent header
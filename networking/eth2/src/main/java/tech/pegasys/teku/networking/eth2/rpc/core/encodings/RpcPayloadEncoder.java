@@ -14,11 +14,18 @@
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
 
 import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 
 public interface RpcPayloadEncoder<T> {
   Bytes encode(T message);
 
+  /** Encodes the message to {@code writer} without creating the encoded bytes in full */
+  void encode(T message, SszWriter writer);
+
+  /** Returns the size of the encoded message */
+  int getEncodedSize(T message);
+
   T decode(Bytes message) throws RpcException;
 
   boolean isLengthWithinBounds(long length);
@@ -15,6 +15,7 @@ package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression;
 
 import io.netty.buffer.ByteBuf;
 import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.ByteBufDecoder;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.CompressionException;
 
@@ -27,6 +28,15 @@ public interface Compressor {
    */
   interface Decompressor extends ByteBufDecoder<ByteBuf, CompressionException> {}
 
+  /**
+   * Compresses the data written to it as it is written. Closing the writer flushes any buffered
+   * data and releases its resources.
+   */
+  interface CompressingWriter extends SszWriter, AutoCloseable {
+    @Override
+    void close();
+  }
+
   /**
    * Returns the compressed data
    *
@@ -35,6 +45,15 @@ public interface Compressor {
    */
   Bytes compress(final Bytes data);
 
+  /**
+   * Creates a writer which compresses the data written to it into {@code out}, so the uncompressed
+   * data never needs to be held in full
+   *
+   * @param out The buffer to write the compressed data to
+   * @return The writer, which must be closed once all data is written
+   */
+  CompressingWriter createCompressingWriter(final ByteBuf out);
+
   /**
    * Creates a Decompressor instance which would return only a single decompressed data of size
    * {@code uncompressedPayloadSize}
@@ -63,6 +63,19 @@ public class NoopCompressor implements Compressor {
     return data;
   }
 
+  @Override
+  public CompressingWriter createCompressingWriter(final ByteBuf out) {
+    return new CompressingWriter() {
+      @Override
+      public void write(final byte[] bytes, final int offset, final int length) {
+        out.writeBytes(bytes, offset, length);
+      }
+
+      @Override
+      public void close() {}
+    };
+  }
+
   @Override
   public Decompressor createDecompressor(final int uncompressedPayloadSize) {
     return new NoopDecompressor(uncompressedPayloadSize);
@@ -36,6 +36,9 @@ public class SnappyFrameEncoder {
    */
   private static final int MIN_COMPRESSIBLE_LENGTH = 18;
 
+  /** The maximum amount of uncompressed data encoded in a single chunk. */
+  static final int MAX_CHUNK_LENGTH = Short.MAX_VALUE;
+
   /**
    * All streams should start with the "Stream identifier", containing chunk type 0xff, a length
    * field of 0x6, and 'sNaPpY' in ASCII.
@@ -82,12 +85,12 @@ public class SnappyFrameEncoder {
         }
 
         out.writeInt(0);
-        if (dataLength > Short.MAX_VALUE) {
-          ByteBuf slice = in.readSlice(Short.MAX_VALUE);
+        if (dataLength > MAX_CHUNK_LENGTH) {
+          ByteBuf slice = in.readSlice(MAX_CHUNK_LENGTH);
           calculateAndWriteChecksum(slice, out);
-          snappy.encode(slice, out, Short.MAX_VALUE);
+          snappy.encode(slice, out, MAX_CHUNK_LENGTH);
           setChunkLength(out, lengthIdx);
-          dataLength -= Short.MAX_VALUE;
+          dataLength -= MAX_CHUNK_LENGTH;
         } else {
           ByteBuf slice = in.readSlice(dataLength);
           calculateAndWriteChecksum(slice, out);
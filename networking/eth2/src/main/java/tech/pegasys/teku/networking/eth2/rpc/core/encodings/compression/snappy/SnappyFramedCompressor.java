@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy;
 
+import static com.google.common.base.Preconditions.checkState;
+
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.util.ReferenceCounted;
@@ -123,11 +125,68 @@ public class SnappyFramedCompressor implements Compressor {
     }
   }
 
+  /**
+   * Buffers written data into a single chunk sized buffer and compresses each chunk as it fills, so
+   * only one chunk of uncompressed data is held at a time.
+   */
+  private static class SnappyFramedCompressingWriter implements CompressingWriter {
+    private final SnappyFrameEncoder snappyFrameEncoder = new SnappyFrameEncoder();
+    private final ByteBuf out;
+    private final ByteBuf chunk;
+    private boolean closed = false;
+
+    public SnappyFramedCompressingWriter(final ByteBuf out) {
+      this.out = out;
+      this.chunk =
+          out.alloc()
+              .buffer(SnappyFrameEncoder.MAX_CHUNK_LENGTH, SnappyFrameEncoder.MAX_CHUNK_LENGTH);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+      checkState(!closed, "Writer is closed");
+      int position = offset;
+      int remaining = length;
+      while (remaining > 0) {
+        final int chunkLength = Math.min(remaining, chunk.writableBytes());
+        chunk.writeBytes(bytes, position, chunkLength);
+        position += chunkLength;
+        remaining -= chunkLength;
+        if (!chunk.isWritable()) {
+          compressChunk();
+        }
+      }
+    }
+
+    @Override
+    public void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      try {
+        compressChunk();
+      } finally {
+        chunk.release();
+      }
+    }
+
+    private void compressChunk() {
+      snappyFrameEncoder.encode(chunk, out);
+      chunk.clear();
+    }
+  }
+
   @Override
   public Bytes compress(final Bytes data) {
     return new SnappyFrameEncoder().encode(data);
   }
 
+  @Override
+  public CompressingWriter createCompressingWriter(final ByteBuf out) {
+    return new SnappyFramedCompressingWriter(out);
+  }
+
   @Override
   public Decompressor createDecompressor(final int uncompressedPayloadSize) {
     return new SnappyFramedDecompressor(uncompressedPayloadSize);
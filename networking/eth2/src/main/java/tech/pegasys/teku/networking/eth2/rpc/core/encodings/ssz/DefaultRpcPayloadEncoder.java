@@ -19,6 +19,7 @@ import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.DeserializationFailedException;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcPayloadEncoder;
@@ -36,6 +37,16 @@ public class DefaultRpcPayloadEncoder<T extends SszData> implements RpcPayloadEn
     return message.sszSerialize();
   }
 
+  @Override
+  public void encode(final T message, final SszWriter writer) {
+    message.sszSerialize(writer);
+  }
+
+  @Override
+  public int getEncodedSize(final T message) {
+    return type.getSszSize(message.getBackingNode());
+  }
+
   @Override
   public T decode(final Bytes message) throws RpcException {
     try {
@@ -13,13 +13,17 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.topics;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
 
 import io.libp2p.core.pubsub.ValidationResult;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.RejectedExecutionException;
@@ -30,6 +34,7 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.DecodingException;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
@@ -112,6 +117,92 @@ public class Eth2TopicHandlerTest {
     assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Ignore);
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void handleMessage_preValidationIgnore() {
+    final OperationProcessor<SignedBeaconBlock> processor = mock(OperationProcessor.class);
+    MockEth2TopicHandler topicHandler =
+        new MockEth2TopicHandler(
+            recentChainData,
+            spec,
+            asyncRunner,
+            processor,
+            debugDataDumper,
+            serialized -> Optional.of(InternalValidationResult.IGNORE));
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(blockBytes, Optional.empty()));
+
+    assertThat(asyncRunner.countDelayedActions()).isZero();
+    assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Ignore);
+    verifyNoInteractions(processor);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void handleMessage_preValidationReject() {
+    final OperationProcessor<SignedBeaconBlock> processor = mock(OperationProcessor.class);
+    MockEth2TopicHandler topicHandler =
+        new MockEth2TopicHandler(
+            recentChainData,
+            spec,
+            asyncRunner,
+            processor,
+            debugDataDumper,
+            serialized -> Optional.of(InternalValidationResult.reject("Nope")));
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(blockBytes, Optional.empty()));
+
+    verify(debugDataDumper)
+        .saveGossipRejectedMessage(eq(topicHandler.getTopic()), any(), any(), any());
+    assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Invalid);
+    verifyNoInteractions(processor);
+  }
+
+  @Test
+  public void handleMessage_preValidationPassesMessageToProcessor() {
+    final List<Bytes> preValidatedMessages = new ArrayList<>();
+    MockEth2TopicHandler topicHandler =
+        new MockEth2TopicHandler(
+            recentChainData,
+            spec,
+            asyncRunner,
+            (b, __) -> SafeFuture.completedFuture(InternalValidationResult.ACCEPT),
+            debugDataDumper,
+            serialized -> {
+              preValidatedMessages.add(serialized);
+              return Optional.empty();
+            });
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(blockBytes, Optional.empty()));
+    asyncRunner.executeQueuedActions();
+
+    assertThat(preValidatedMessages).containsExactly(block.sszSerialize());
+    assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Valid);
+  }
+
+  @Test
+  public void handleMessage_preValidationOfMalformedMessageFallsBackToDeserialization() {
+    MockEth2TopicHandler topicHandler =
+        new MockEth2TopicHandler(
+            recentChainData,
+            spec,
+            asyncRunner,
+            (b, __) -> SafeFuture.completedFuture(InternalValidationResult.ACCEPT),
+            debugDataDumper,
+            serialized -> {
+              throw new SszDeserializeException("Malformed");
+            });
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(blockBytes, Optional.empty()));
+    asyncRunner.executeQueuedActions();
+
+    assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Valid);
+  }
+
   @Test
   public void handleMessage_invalidBytes() {
     MockEth2TopicHandler topicHandler =
@@ -326,6 +417,22 @@ public class Eth2TopicHandlerTest {
         final AsyncRunner asyncRunner,
         final OperationProcessor<SignedBeaconBlock> processor,
         final DebugDataDumper debugDataDumper) {
+      this(
+          recentChainData,
+          spec,
+          asyncRunner,
+          processor,
+          debugDataDumper,
+          GossipMessagePreValidator.NOOP);
+    }
+
+    protected MockEth2TopicHandler(
+        final RecentChainData recentChainData,
+        final Spec spec,
+        final AsyncRunner asyncRunner,
+        final OperationProcessor<SignedBeaconBlock> processor,
+        final DebugDataDumper debugDataDumper,
+        final GossipMessagePreValidator preValidator) {
       super(
           recentChainData,
           asyncRunner,
@@ -337,7 +444,8 @@ public class Eth2TopicHandlerTest {
               spec, spec.getForkSchedule().getFork(UInt64.ZERO), message -> UInt64.ZERO),
           spec.getGenesisSchemaDefinitions().getSignedBeaconBlockSchema(),
           spec.getNetworkingConfig(),
-          debugDataDumper);
+          debugDataDumper,
+          preValidator);
       this.forkDigest =
           recentChainData.getForkDigestByMilestone(SpecMilestone.PHASE0).orElseThrow();
       deserializer =
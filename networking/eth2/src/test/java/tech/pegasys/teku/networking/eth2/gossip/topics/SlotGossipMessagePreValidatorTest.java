@@ -0,0 +1,96 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockFields;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlockFields;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+class SlotGossipMessagePreValidatorTest {
+  private final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(2));
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final RecentChainData recentChainData = mock(RecentChainData.class);
+
+  private final SlotGossipMessagePreValidator preValidator =
+      new SlotGossipMessagePreValidator(
+          spec,
+          spec.getForkSchedule().getFork(UInt64.ZERO),
+          recentChainData,
+          spec.getGenesisSchemaDefinitions().getSignedBeaconBlockSchema(),
+          SignedBeaconBlockFields.MESSAGE.getSszFieldName(),
+          BeaconBlockFields.SLOT.getSszFieldName());
+
+  @Test
+  void shouldNotDropMessageFromUnfinalizedSlot() {
+    withFinalizedEpoch(1);
+
+    assertThat(preValidator.preValidate(serializedBlockAtSlot(9))).isEmpty();
+  }
+
+  @Test
+  void shouldIgnoreMessageFromFinalizedSlot() {
+    withFinalizedEpoch(1);
+
+    assertThat(preValidator.preValidate(serializedBlockAtSlot(8)))
+        .contains(InternalValidationResult.IGNORE);
+  }
+
+  @Test
+  void shouldNotDropMessageWhenNoCheckpointIsFinalized() {
+    when(recentChainData.getFinalizedCheckpoint()).thenReturn(Optional.empty());
+
+    assertThat(preValidator.preValidate(serializedBlockAtSlot(0))).isEmpty();
+  }
+
+  @Test
+  void shouldRejectMessageFromWrongMilestone() {
+    withFinalizedEpoch(0);
+
+    assertThat(preValidator.preValidate(serializedBlockAtSlot(16)))
+        .hasValueSatisfying(result -> assertThat(result.isReject()).isTrue());
+  }
+
+  @Test
+  void shouldThrowForMalformedMessage() {
+    withFinalizedEpoch(0);
+
+    assertThatThrownBy(() -> preValidator.preValidate(Bytes.fromHexString("0x1234")))
+        .isInstanceOf(SszDeserializeException.class);
+  }
+
+  private Bytes serializedBlockAtSlot(final long slot) {
+    return dataStructureUtil.randomSignedBeaconBlock(slot).sszSerialize();
+  }
+
+  private void withFinalizedEpoch(final long epoch) {
+    when(recentChainData.getFinalizedCheckpoint())
+        .thenReturn(
+            Optional.of(new Checkpoint(UInt64.valueOf(epoch), dataStructureUtil.randomBytes32())));
+  }
+}
@@ -75,6 +75,7 @@ abstract class AbstractRequestHandlerTest<T extends RpcRequestHandler> {
     lenient().when(rpcStream.closeAbruptly()).thenReturn(SafeFuture.COMPLETE);
     lenient().when(rpcStream.closeWriteStream()).thenReturn(SafeFuture.COMPLETE);
     lenient().when(rpcStream.writeBytes(any())).thenReturn(SafeFuture.COMPLETE);
+    lenient().when(rpcStream.write(any())).thenReturn(SafeFuture.COMPLETE);
     lenient().when(peerLookup.getConnectedPeer(nodeId)).thenReturn(Optional.of(peer));
 
     reqHandler.active(nodeId, rpcStream);
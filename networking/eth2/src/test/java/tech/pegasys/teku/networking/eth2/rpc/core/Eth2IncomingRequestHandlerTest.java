@@ -21,6 +21,8 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +34,7 @@ import tech.pegasys.teku.networking.eth2.rpc.Utils;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethods;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.eth2.rpc.core.methods.Eth2RpcMethod;
+import tech.pegasys.teku.networking.p2p.rpc.RpcStream.ByteBufEncoder;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.BeaconBlocksByRangeRequestMessage;
@@ -80,7 +83,7 @@ public class Eth2IncomingRequestHandlerTest
     requestHandler.readComplete(nodeId, rpcStream);
     asyncRunner.executeQueuedActions();
     // verify non-error response
-    verify(rpcStream).writeBytes(argThat(bytes -> bytes.get(0) == 0));
+    verify(rpcStream).write(argThat(Eth2IncomingRequestHandlerTest::isSuccessResponse));
     verify(rpcStream).closeAbruptly();
   }
 
@@ -115,4 +118,13 @@ public class Eth2IncomingRequestHandlerTest
     return RpcEncoding.createSszSnappyEncoding(
         TestSpecFactory.createDefault().getNetworkingConfig().getMaxChunkSize());
   }
+
+  private static boolean isSuccessResponse(final ByteBufEncoder encoder) {
+    final ByteBuf response = encoder.encode(UnpooledByteBufAllocator.DEFAULT);
+    try {
+      return response.getByte(0) == 0;
+    } finally {
+      response.release();
+    }
+  }
 }
@@ -15,6 +15,8 @@ package tech.pegasys.teku.networking.eth2.rpc.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
@@ -52,4 +54,13 @@ final class RpcResponseEncoderTest {
     final Bytes actual = responseEncoder.encodeSuccessfulResponse(RECORDED_STATUS_MESSAGE_DATA);
     assertThat(actual).isEqualTo(RECORDED_STATUS_RESPONSE_BYTES);
   }
+
+  @Test
+  public void shouldEncodeSuccessfulResponseToBuffer() {
+    final ByteBuf actual =
+        responseEncoder.encodeSuccessfulResponse(
+            RECORDED_STATUS_MESSAGE_DATA, UnpooledByteBufAllocator.DEFAULT);
+    assertThat(Bytes.wrapByteBuf(actual)).isEqualTo(RECORDED_STATUS_RESPONSE_BYTES);
+    actual.release();
+  }
 }
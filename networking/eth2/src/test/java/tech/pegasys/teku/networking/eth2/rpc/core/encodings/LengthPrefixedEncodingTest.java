@@ -39,6 +39,8 @@ import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.BeaconBlocksByRootRequestMessage;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.EmptyMessage;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.StatusMessage;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 class LengthPrefixedEncodingTest {
   private static final Bytes TWO_BYTE_LENGTH_PREFIX = Bytes.fromHexString("0x8002");
@@ -264,6 +266,23 @@ class LengthPrefixedEncodingTest {
     assertThat(result).isEqualTo(Bytes.EMPTY);
   }
 
+  @Test
+  void encodePayload_shouldWriteNothingToBufferForEmptyMessages() {
+    final ByteBuf out = Unpooled.buffer();
+    encoding.encodePayload(EmptyMessage.EMPTY_MESSAGE, out);
+    assertThat(out.readableBytes()).isZero();
+    out.release();
+  }
+
+  @Test
+  void encodePayload_shouldWriteSameBytesToBufferAsEncodingToBytes() {
+    final BeaconState state = new DataStructureUtil(spec).randomBeaconState(100);
+    final ByteBuf out = Unpooled.buffer();
+    encoding.encodePayload(state, out);
+    assertThat(Bytes.wrapByteBuf(out)).isEqualTo(encoding.encodePayload(state));
+    out.release();
+  }
+
   @Test
   void shouldDecodeEmptyMessage() throws Exception {
     final RpcByteBufDecoder<EmptyMessage> decoder = encoding.createDecoder(EmptyMessage.SSZ_SCHEMA);
@@ -17,12 +17,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.util.ReferenceCounted;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.networking.eth2.rpc.Utils;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.Compressor.CompressingWriter;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.Compressor.Decompressor;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.CompressionException;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.PayloadSmallerThanExpectedException;
@@ -73,6 +76,47 @@ public class SnappyCompressorTest {
     }
   }
 
+  @Test
+  public void compressingWriter_roundTrip() throws Exception {
+    final BeaconState state = dataStructureUtil.randomBeaconState(100);
+    final Bytes serializedState = state.sszSerialize();
+    assertThat(serializedState.size()).isGreaterThan(2 * MAX_FRAME_CONTENT_SIZE);
+
+    final ByteBuf compressed = Unpooled.buffer();
+    try (final CompressingWriter writer = compressor.createCompressingWriter(compressed)) {
+      // Write in uneven pieces so chunks are filled across several writes
+      int offset = 0;
+      while (offset < serializedState.size()) {
+        final int length = Math.min(1000, serializedState.size() - offset);
+        writer.write(serializedState.slice(offset, length));
+        offset += length;
+      }
+    }
+
+    final Decompressor decompressor = compressor.createDecompressor(serializedState.size());
+    final Optional<ByteBuf> uncompressed = decompressor.decodeOneMessage(compressed);
+    decompressor.complete();
+    assertThat(uncompressed).isPresent();
+    assertThat(Bytes.wrapByteBuf(uncompressed.get())).isEqualTo(serializedState);
+
+    uncompressed.get().release();
+    compressed.release();
+  }
+
+  @Test
+  public void compressingWriter_shouldMatchCompress() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(100);
+    final Bytes serializedState = state.sszSerialize();
+
+    final ByteBuf compressed = Unpooled.buffer();
+    try (final CompressingWriter writer = compressor.createCompressingWriter(compressed)) {
+      state.sszSerialize(writer);
+    }
+
+    assertThat(Bytes.wrapByteBuf(compressed)).isEqualTo(compressor.compress(serializedState));
+    compressed.release();
+  }
+
   @Test
   public void uncompress_invalidData() {
     final BeaconState state = dataStructureUtil.randomBeaconState(0);
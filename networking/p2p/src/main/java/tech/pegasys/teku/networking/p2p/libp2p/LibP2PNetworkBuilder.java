@@ -48,6 +48,7 @@ import tech.pegasys.teku.networking.p2p.libp2p.gossip.GossipTopicFilter;
 import tech.pegasys.teku.networking.p2p.libp2p.gossip.LibP2PGossipNetwork;
 import tech.pegasys.teku.networking.p2p.libp2p.gossip.LibP2PGossipNetworkBuilder;
 import tech.pegasys.teku.networking.p2p.libp2p.rpc.RpcHandler;
+import tech.pegasys.teku.networking.p2p.libp2p.rpc.RpcWriteBuffers;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
 import tech.pegasys.teku.networking.p2p.network.PeerHandler;
 import tech.pegasys.teku.networking.p2p.network.config.NetworkConfig;
@@ -152,7 +153,9 @@ public class LibP2PNetworkBuilder {
   }
 
   protected List<? extends RpcHandler<?, ?, ?>> createRpcHandlers() {
-    return rpcMethods.stream().map(m -> new RpcHandler<>(asyncRunner, m)).toList();
+    final RpcWriteBuffers writeBuffers =
+        RpcWriteBuffers.create(RpcWriteBuffers.DEFAULT_MAX_BUFFERED_BYTES_PER_PEER, metricsSystem);
+    return rpcMethods.stream().map(m -> new RpcHandler<>(asyncRunner, m, writeBuffers)).toList();
   }
 
   protected LibP2PGossipNetwork createGossipNetwork() {
@@ -21,6 +21,7 @@ import io.netty.channel.ChannelHandlerContext;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.networking.p2p.libp2p.rpc.RpcWriteBuffers.PeerWriteBuffer;
 import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.networking.p2p.rpc.RpcStream;
 import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
@@ -31,12 +32,22 @@ public class LibP2PRpcStream implements RpcStream {
   private final ChannelHandlerContext ctx;
   private final AtomicBoolean writeStreamClosed = new AtomicBoolean(false);
   private final NodeId nodeId;
+  private final PeerWriteBuffer writeBuffer;
+
+  // Encoded writes are chained so they stay in order while waiting for the channel to drain
+  private SafeFuture<Void> lastWrite = SafeFuture.COMPLETE;
+  private SafeFuture<Void> channelWritable = SafeFuture.COMPLETE;
+  private volatile SafeFuture<Void> waitingForBufferSpace = SafeFuture.COMPLETE;
 
   public LibP2PRpcStream(
-      final NodeId nodeId, final P2PChannel p2pChannel, final ChannelHandlerContext ctx) {
+      final NodeId nodeId,
+      final P2PChannel p2pChannel,
+      final ChannelHandlerContext ctx,
+      final PeerWriteBuffer writeBuffer) {
     this.nodeId = nodeId;
     this.p2pChannel = p2pChannel;
     this.ctx = ctx;
+    this.writeBuffer = writeBuffer;
   }
 
   @Override
@@ -50,6 +61,87 @@ public class LibP2PRpcStream implements RpcStream {
     return toSafeFuture(ctx.writeAndFlush(reqByteBuf));
   }
 
+  /**
+   * Encodes the data on the calling thread, into a buffer from the channel's pooled allocator, and
+   * writes it once the channel is writable and the peer has space in its write buffer. Encoding
+   * never runs on the event loop, which only hands the encoded buffer to the channel. Writes
+   * complete in the order they were made, so callers waiting on the returned future are throttled
+   * by how fast the peer reads.
+   */
+  @Override
+  public SafeFuture<Void> write(final ByteBufEncoder encoder) throws StreamClosedException {
+    if (writeStreamClosed.get()) {
+      throw new StreamClosedException();
+    }
+    final ByteBuf buffer;
+    try {
+      buffer = encoder.encode(ctx.alloc());
+    } catch (final RuntimeException e) {
+      return SafeFuture.failedFuture(e);
+    }
+    return queueWrite(buffer);
+  }
+
+  private synchronized SafeFuture<Void> queueWrite(final ByteBuf buffer) {
+    final SafeFuture<Void> write =
+        lastWrite
+            .exceptionally(__ -> null)
+            .thenCompose(__ -> whenWritable())
+            .whenException(__ -> buffer.release())
+            .thenCompose(__ -> writeEncoded(buffer));
+    lastWrite = write;
+    return write;
+  }
+
+  private SafeFuture<Void> whenWritable() {
+    final SafeFuture<Void> bufferSpaceAvailable = writeBuffer.whenSpaceAvailable();
+    waitingForBufferSpace = bufferSpaceAvailable;
+    return bufferSpaceAvailable.thenCompose(__ -> whenChannelWritable());
+  }
+
+  private synchronized SafeFuture<Void> whenChannelWritable() {
+    if (ctx.channel().isWritable()) {
+      return SafeFuture.COMPLETE;
+    }
+    if (channelWritable.isDone()) {
+      channelWritable = new SafeFuture<>();
+    }
+    return channelWritable;
+  }
+
+  private SafeFuture<Void> writeEncoded(final ByteBuf buffer) {
+    if (writeStreamClosed.get()) {
+      buffer.release();
+      return SafeFuture.failedFuture(new StreamClosedException());
+    }
+    final int size = buffer.readableBytes();
+    writeBuffer.onBuffered(size);
+    return toSafeFuture(ctx.writeAndFlush(buffer)).alwaysRun(() -> writeBuffer.onWritten(size));
+  }
+
+  /** Called when the writability of the underlying channel changes. */
+  void onWritabilityChanged() {
+    final SafeFuture<Void> writableFuture;
+    synchronized (this) {
+      if (!ctx.channel().isWritable()) {
+        return;
+      }
+      writableFuture = channelWritable;
+    }
+    writableFuture.complete(null);
+  }
+
+  /** Called when the channel is closed to fail any writes still waiting to be written. */
+  void onChannelClosed() {
+    writeStreamClosed.set(true);
+    writeBuffer.cancel(waitingForBufferSpace);
+    final SafeFuture<Void> writableFuture;
+    synchronized (this) {
+      writableFuture = channelWritable;
+    }
+    writableFuture.completeExceptionally(new StreamClosedException());
+  }
+
   @Override
   public SafeFuture<Void> closeAbruptly() {
     writeStreamClosed.set(true);
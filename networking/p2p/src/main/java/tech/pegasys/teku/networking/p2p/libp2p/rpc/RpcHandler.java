@@ -41,6 +41,7 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture.Interruptor;
 import tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil;
 import tech.pegasys.teku.networking.p2p.libp2p.LibP2PNodeId;
 import tech.pegasys.teku.networking.p2p.libp2p.rpc.RpcHandler.Controller;
+import tech.pegasys.teku.networking.p2p.libp2p.rpc.RpcWriteBuffers.PeerWriteBuffer;
 import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.networking.p2p.peer.PeerDisconnectedException;
 import tech.pegasys.teku.networking.p2p.rpc.RpcMethod;
@@ -61,12 +62,24 @@ public class RpcHandler<
 
   private final RpcMethod<TOutgoingHandler, TRequest, TRespHandler> rpcMethod;
   private final AsyncRunner asyncRunner;
+  private final RpcWriteBuffers writeBuffers;
 
   public RpcHandler(
       final AsyncRunner asyncRunner,
       final RpcMethod<TOutgoingHandler, TRequest, TRespHandler> rpcMethod) {
+    this(
+        asyncRunner,
+        rpcMethod,
+        new RpcWriteBuffers(RpcWriteBuffers.DEFAULT_MAX_BUFFERED_BYTES_PER_PEER));
+  }
+
+  public RpcHandler(
+      final AsyncRunner asyncRunner,
+      final RpcMethod<TOutgoingHandler, TRequest, TRespHandler> rpcMethod,
+      final RpcWriteBuffers writeBuffers) {
     this.asyncRunner = asyncRunner;
     this.rpcMethod = rpcMethod;
+    this.writeBuffers = writeBuffers;
   }
 
   public RpcMethod<TOutgoingHandler, TRequest, TRespHandler> getRpcMethod() {
@@ -144,7 +157,8 @@ public class RpcHandler<
     final Connection connection = ((Stream) channel).getConnection();
     final NodeId nodeId = new LibP2PNodeId(connection.secureSession().getRemoteId());
 
-    final Controller<TOutgoingHandler> controller = new Controller<>(nodeId, channel);
+    final Controller<TOutgoingHandler> controller =
+        new Controller<>(nodeId, channel, writeBuffers);
     if (!channel.isInitiator()) {
       controller.setIncomingRequestHandler(
           rpcMethod.createIncomingRequestHandler(selectedProtocol));
@@ -158,24 +172,37 @@ public class RpcHandler<
       implements RpcStreamController<TOutgoingHandler> {
     private final NodeId nodeId;
     private final P2PChannel p2pChannel;
+    private final RpcWriteBuffers writeBuffers;
     private Optional<TOutgoingHandler> outgoingRequestHandler = Optional.empty();
     private Optional<RpcRequestHandler> rpcRequestHandler = Optional.empty();
-    private RpcStream rpcStream;
+    private LibP2PRpcStream rpcStream;
+    private PeerWriteBuffer writeBuffer;
     private boolean readCompleted = false;
 
     protected final SafeFuture<Controller<TOutgoingHandler>> activeFuture = new SafeFuture<>();
 
-    private Controller(final NodeId nodeId, final P2PChannel p2pChannel) {
+    private Controller(
+        final NodeId nodeId, final P2PChannel p2pChannel, final RpcWriteBuffers writeBuffers) {
       this.nodeId = nodeId;
       this.p2pChannel = p2pChannel;
+      this.writeBuffers = writeBuffers;
     }
 
     @Override
     public void channelActive(final ChannelHandlerContext ctx) {
-      rpcStream = new LibP2PRpcStream(nodeId, p2pChannel, ctx);
+      writeBuffer = writeBuffers.acquire(nodeId);
+      rpcStream = new LibP2PRpcStream(nodeId, p2pChannel, ctx, writeBuffer);
       activeFuture.complete(this);
     }
 
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+      if (rpcStream != null) {
+        rpcStream.onWritabilityChanged();
+      }
+      super.channelWritabilityChanged(ctx);
+    }
+
     @Override
     public RpcStream getRpcStream() {
       return rpcStream;
@@ -235,6 +262,10 @@ public class RpcHandler<
 
     @Override
     public void handlerRemoved(final ChannelHandlerContext ctx) {
+      if (rpcStream != null) {
+        rpcStream.onChannelClosed();
+        writeBuffers.release(nodeId, writeBuffer);
+      }
       onChannelClosed();
     }
 
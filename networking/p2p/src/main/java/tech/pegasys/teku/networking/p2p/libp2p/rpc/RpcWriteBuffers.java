@@ -0,0 +1,162 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.libp2p.rpc;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.networking.p2p.peer.NodeId;
+import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
+
+/**
+ * Tracks the bytes written to each peer's RPC streams which haven't yet been written to the
+ * network. Once a peer has more than the limit buffered, further writes to any of its streams wait
+ * until buffered data drains, so responses are throttled by how fast the peer reads rather than
+ * queued in memory.
+ */
+public class RpcWriteBuffers {
+  public static final long DEFAULT_MAX_BUFFERED_BYTES_PER_PEER = 8 * 1024 * 1024;
+
+  private final long maxBufferedBytesPerPeer;
+  private final Map<NodeId, PeerWriteBuffer> peerBuffers = new HashMap<>();
+
+  public RpcWriteBuffers(final long maxBufferedBytesPerPeer) {
+    this.maxBufferedBytesPerPeer = maxBufferedBytesPerPeer;
+  }
+
+  public static RpcWriteBuffers create(
+      final long maxBufferedBytesPerPeer, final MetricsSystem metricsSystem) {
+    final RpcWriteBuffers writeBuffers = new RpcWriteBuffers(maxBufferedBytesPerPeer);
+    metricsSystem.createGauge(
+        TekuMetricCategory.LIBP2P,
+        "rpc_buffered_bytes",
+        "Total bytes of RPC responses waiting to be written to peers",
+        writeBuffers::getTotalBufferedBytes);
+    metricsSystem.createGauge(
+        TekuMetricCategory.LIBP2P,
+        "rpc_peer_buffered_bytes_max",
+        "Largest number of bytes of RPC responses waiting to be written to a single peer",
+        writeBuffers::getMaxPeerBufferedBytes);
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.LIBP2P,
+        "rpc_peers_write_throttled",
+        "Number of peers whose RPC response writes are waiting for buffered data to drain",
+        writeBuffers::getThrottledPeerCount);
+    return writeBuffers;
+  }
+
+  /** Returns the buffer for the peer and records that a stream is using it. */
+  synchronized PeerWriteBuffer acquire(final NodeId nodeId) {
+    final PeerWriteBuffer buffer =
+        peerBuffers.computeIfAbsent(nodeId, __ -> new PeerWriteBuffer(maxBufferedBytesPerPeer));
+    buffer.streamCount++;
+    return buffer;
+  }
+
+  /** Records that a stream has finished with the peer's buffer. */
+  synchronized void release(final NodeId nodeId, final PeerWriteBuffer buffer) {
+    buffer.streamCount--;
+    if (buffer.streamCount <= 0) {
+      peerBuffers.remove(nodeId, buffer);
+    }
+  }
+
+  private synchronized double getTotalBufferedBytes() {
+    return peerBuffers.values().stream().mapToLong(PeerWriteBuffer::getBufferedBytes).sum();
+  }
+
+  private synchronized double getMaxPeerBufferedBytes() {
+    return peerBuffers.values().stream()
+        .mapToLong(PeerWriteBuffer::getBufferedBytes)
+        .max()
+        .orElse(0);
+  }
+
+  private synchronized int getThrottledPeerCount() {
+    return (int) peerBuffers.values().stream().filter(PeerWriteBuffer::isThrottled).count();
+  }
+
+  @VisibleForTesting
+  synchronized int getPeerCount() {
+    return peerBuffers.size();
+  }
+
+  /**
+   * The buffered bytes of a single peer, shared by all of its streams.
+   *
+   * <p>The limit is checked before an encoded write is passed to the channel, so a peer may exceed
+   * it by the size of the chunks being written concurrently to its streams.
+   */
+  static class PeerWriteBuffer {
+    private final long maxBufferedBytes;
+    private final Queue<SafeFuture<Void>> waitingWrites = new ArrayDeque<>();
+    private long bufferedBytes = 0;
+    private int streamCount = 0;
+
+    PeerWriteBuffer(final long maxBufferedBytes) {
+      this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    /** Returns a future which completes once there is space to write to the peer. */
+    synchronized SafeFuture<Void> whenSpaceAvailable() {
+      if (bufferedBytes < maxBufferedBytes) {
+        return SafeFuture.COMPLETE;
+      }
+      final SafeFuture<Void> waitingWrite = new SafeFuture<>();
+      waitingWrites.add(waitingWrite);
+      return waitingWrite;
+    }
+
+    synchronized void onBuffered(final long bytes) {
+      bufferedBytes += bytes;
+    }
+
+    void onWritten(final long bytes) {
+      final List<SafeFuture<Void>> readyWrites = new ArrayList<>();
+      synchronized (this) {
+        bufferedBytes -= bytes;
+        while (bufferedBytes < maxBufferedBytes && !waitingWrites.isEmpty()) {
+          readyWrites.add(waitingWrites.remove());
+        }
+      }
+      readyWrites.forEach(write -> write.complete(null));
+    }
+
+    /** Fails a waiting write, for example because its stream was closed. */
+    void cancel(final SafeFuture<Void> waitingWrite) {
+      final boolean removed;
+      synchronized (this) {
+        removed = waitingWrites.remove(waitingWrite);
+      }
+      if (removed) {
+        waitingWrite.completeExceptionally(new StreamClosedException());
+      }
+    }
+
+    synchronized long getBufferedBytes() {
+      return bufferedBytes;
+    }
+
+    synchronized boolean isThrottled() {
+      return !waitingWrites.isEmpty();
+    }
+  }
+}
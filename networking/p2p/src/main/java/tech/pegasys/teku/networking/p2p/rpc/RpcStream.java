@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.networking.p2p.rpc;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 
@@ -20,6 +22,13 @@ public interface RpcStream {
 
   SafeFuture<Void> writeBytes(Bytes bytes) throws StreamClosedException;
 
+  /**
+   * Writes the buffer created by {@code encoder}, which allocates it from the stream's allocator so
+   * data can be encoded directly into pooled network buffers. The stream takes ownership of the
+   * returned buffer.
+   */
+  SafeFuture<Void> write(ByteBufEncoder encoder) throws StreamClosedException;
+
   /**
    * Close the stream altogether, allowing no further reads or writes.
    *
@@ -34,4 +43,9 @@ public interface RpcStream {
    * @return A future completing when the write stream is closed.
    */
   SafeFuture<Void> closeWriteStream();
+
+  @FunctionalInterface
+  interface ByteBufEncoder {
+    ByteBuf encode(ByteBufAllocator allocator);
+  }
 }
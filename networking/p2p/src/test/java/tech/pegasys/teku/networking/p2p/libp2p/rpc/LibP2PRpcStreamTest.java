@@ -0,0 +1,163 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.libp2p.rpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import io.libp2p.core.P2PChannel;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultChannelPromise;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.networking.p2p.libp2p.rpc.RpcWriteBuffers.PeerWriteBuffer;
+import tech.pegasys.teku.networking.p2p.mock.MockNodeId;
+import tech.pegasys.teku.networking.p2p.rpc.RpcStream.ByteBufEncoder;
+import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
+
+class LibP2PRpcStreamTest {
+  private static final long MAX_BUFFERED_BYTES = 10;
+
+  private final Channel channel = mock(Channel.class);
+  private final ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+  private final PeerWriteBuffer writeBuffer = new PeerWriteBuffer(MAX_BUFFERED_BYTES);
+  private final List<ByteBuf> writtenBuffers = new ArrayList<>();
+  private final List<ChannelPromise> writePromises = new ArrayList<>();
+
+  private final LibP2PRpcStream stream =
+      new LibP2PRpcStream(new MockNodeId(1), mock(P2PChannel.class), ctx, writeBuffer);
+
+  @BeforeEach
+  void setUp() {
+    when(ctx.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+    when(ctx.channel()).thenReturn(channel);
+    when(channel.isWritable()).thenReturn(true);
+    when(ctx.writeAndFlush(any()))
+        .thenAnswer(
+            invocation -> {
+              writtenBuffers.add(invocation.getArgument(0));
+              final ChannelPromise promise =
+                  new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+              writePromises.add(promise);
+              return promise;
+            });
+  }
+
+  @Test
+  void shouldEncodeOnCallingThreadBeforeChannelIsWritable() throws Exception {
+    when(channel.isWritable()).thenReturn(false);
+    final AtomicReference<Thread> encodingThread = new AtomicReference<>();
+
+    final SafeFuture<Void> result =
+        stream.write(
+            allocator -> {
+              encodingThread.set(Thread.currentThread());
+              return bytes(1);
+            });
+
+    assertThat(encodingThread).hasValue(Thread.currentThread());
+    verify(ctx, never()).writeAndFlush(any());
+
+    when(channel.isWritable()).thenReturn(true);
+    stream.onWritabilityChanged();
+
+    assertThat(writtenBuffers).hasSize(1);
+    writePromises.get(0).setSuccess();
+    assertThatSafeFuture(result).isCompleted();
+  }
+
+  @Test
+  void shouldWriteInOrderOncePreviousWriteCompletes() throws Exception {
+    final SafeFuture<Void> result1 = stream.write(encoder(1));
+    final SafeFuture<Void> result2 = stream.write(encoder(2));
+
+    assertThat(writtenBuffers).hasSize(1);
+    assertThat(writtenBuffers.get(0).getByte(0)).isEqualTo((byte) 1);
+
+    writePromises.get(0).setSuccess();
+    assertThatSafeFuture(result1).isCompleted();
+    assertThat(writtenBuffers).hasSize(2);
+    assertThat(writtenBuffers.get(1).getByte(0)).isEqualTo((byte) 2);
+
+    writePromises.get(1).setSuccess();
+    assertThatSafeFuture(result2).isCompleted();
+  }
+
+  @Test
+  void shouldWaitForPeerBufferSpaceBeforeWriting() throws Exception {
+    writeBuffer.onBuffered(MAX_BUFFERED_BYTES);
+
+    final SafeFuture<Void> result = stream.write(encoder(1));
+    verify(ctx, never()).writeAndFlush(any());
+
+    writeBuffer.onWritten(MAX_BUFFERED_BYTES);
+    assertThat(writtenBuffers).hasSize(1);
+    assertThat(writeBuffer.getBufferedBytes()).isEqualTo(1);
+
+    writePromises.get(0).setSuccess();
+    assertThatSafeFuture(result).isCompleted();
+    assertThat(writeBuffer.getBufferedBytes()).isZero();
+  }
+
+  @Test
+  void shouldReleaseEncodedBufferWhenStreamClosedBeforeWriting() throws Exception {
+    when(channel.isWritable()).thenReturn(false);
+    final ByteBuf buffer = bytes(1);
+
+    final SafeFuture<Void> result = stream.write(allocator -> buffer);
+    stream.onChannelClosed();
+
+    assertThatSafeFuture(result).isCompletedExceptionallyWith(StreamClosedException.class);
+    assertThat(buffer.refCnt()).isZero();
+    verify(ctx, never()).writeAndFlush(any());
+  }
+
+  @Test
+  void shouldFailWriteWhenEncodingFails() throws Exception {
+    final SafeFuture<Void> result =
+        stream.write(
+            allocator -> {
+              throw new IllegalStateException("Boom");
+            });
+
+    assertThatSafeFuture(result).isCompletedExceptionallyWith(IllegalStateException.class);
+
+    final SafeFuture<Void> nextResult = stream.write(encoder(1));
+    writePromises.get(0).setSuccess();
+    assertThatSafeFuture(nextResult).isCompleted();
+  }
+
+  private static ByteBufEncoder encoder(final int value) {
+    return allocator -> bytes(value);
+  }
+
+  private static ByteBuf bytes(final int value) {
+    return Unpooled.buffer(1).writeByte(value);
+  }
+}
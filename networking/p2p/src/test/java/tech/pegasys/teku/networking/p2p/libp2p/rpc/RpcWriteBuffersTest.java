@@ -0,0 +1,96 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.libp2p.rpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.networking.p2p.libp2p.rpc.RpcWriteBuffers.PeerWriteBuffer;
+import tech.pegasys.teku.networking.p2p.mock.MockNodeId;
+import tech.pegasys.teku.networking.p2p.peer.NodeId;
+import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
+
+class RpcWriteBuffersTest {
+  private static final long MAX_BUFFERED_BYTES = 100;
+
+  private final NodeId peer1 = new MockNodeId(1);
+  private final NodeId peer2 = new MockNodeId(2);
+  private final RpcWriteBuffers writeBuffers = new RpcWriteBuffers(MAX_BUFFERED_BYTES);
+
+  @Test
+  void shouldShareBufferBetweenStreamsToSamePeer() {
+    final PeerWriteBuffer stream1 = writeBuffers.acquire(peer1);
+    final PeerWriteBuffer stream2 = writeBuffers.acquire(peer1);
+    final PeerWriteBuffer otherPeer = writeBuffers.acquire(peer2);
+
+    assertThat(stream1).isSameAs(stream2);
+    assertThat(otherPeer).isNotSameAs(stream1);
+    assertThat(writeBuffers.getPeerCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRemovePeerBufferWhenAllStreamsReleased() {
+    final PeerWriteBuffer stream1 = writeBuffers.acquire(peer1);
+    final PeerWriteBuffer stream2 = writeBuffers.acquire(peer1);
+
+    writeBuffers.release(peer1, stream1);
+    assertThat(writeBuffers.getPeerCount()).isEqualTo(1);
+
+    writeBuffers.release(peer1, stream2);
+    assertThat(writeBuffers.getPeerCount()).isZero();
+  }
+
+  @Test
+  void shouldAllowWritesWhileUnderLimit() {
+    final PeerWriteBuffer buffer = writeBuffers.acquire(peer1);
+    buffer.onBuffered(MAX_BUFFERED_BYTES - 1);
+
+    assertThatSafeFuture(buffer.whenSpaceAvailable()).isCompleted();
+    assertThat(buffer.isThrottled()).isFalse();
+  }
+
+  @Test
+  void shouldWaitForBufferedDataToDrainWhenOverLimit() {
+    final PeerWriteBuffer buffer = writeBuffers.acquire(peer1);
+    buffer.onBuffered(60);
+    buffer.onBuffered(60);
+
+    final SafeFuture<Void> write1 = buffer.whenSpaceAvailable();
+    final SafeFuture<Void> write2 = buffer.whenSpaceAvailable();
+    assertThatSafeFuture(write1).isNotCompleted();
+    assertThatSafeFuture(write2).isNotCompleted();
+    assertThat(buffer.isThrottled()).isTrue();
+
+    buffer.onWritten(60);
+
+    assertThatSafeFuture(write1).isCompleted();
+    assertThatSafeFuture(write2).isCompleted();
+    assertThat(buffer.getBufferedBytes()).isEqualTo(60);
+    assertThat(buffer.isThrottled()).isFalse();
+  }
+
+  @Test
+  void shouldFailCancelledWrites() {
+    final PeerWriteBuffer buffer = writeBuffers.acquire(peer1);
+    buffer.onBuffered(MAX_BUFFERED_BYTES);
+
+    final SafeFuture<Void> write = buffer.whenSpaceAvailable();
+    buffer.cancel(write);
+
+    assertThatSafeFuture(write).isCompletedExceptionallyWith(StreamClosedException.class);
+    assertThat(buffer.isThrottled()).isFalse();
+  }
+}
@@ -44,6 +44,7 @@ import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.ExecutionClientDataProvider;
 import tech.pegasys.teku.api.RewardCalculator;
+import tech.pegasys.teku.api.rewards.EpochRewardsStore;
 import tech.pegasys.teku.beacon.sync.DefaultSyncServiceFactory;
 import tech.pegasys.teku.beacon.sync.SyncService;
 import tech.pegasys.teku.beacon.sync.SyncServiceFactory;
@@ -109,6 +110,7 @@ import tech.pegasys.teku.spec.datastructures.operations.SignedBlsToExecutionChan
 import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorPubKeyTable;
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerBlockProductionManager;
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
@@ -145,6 +147,7 @@ import tech.pegasys.teku.statetransition.forkchoice.TerminalPowBlockMonitor;
 import tech.pegasys.teku.statetransition.forkchoice.TickProcessingPerformance;
 import tech.pegasys.teku.statetransition.forkchoice.TickProcessor;
 import tech.pegasys.teku.statetransition.genesis.GenesisHandler;
+import tech.pegasys.teku.statetransition.lightclient.LightClientUpdateTracker;
 import tech.pegasys.teku.statetransition.synccommittee.SignedContributionAndProofValidator;
 import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeContributionPool;
 import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeMessagePool;
@@ -202,6 +205,8 @@ import tech.pegasys.teku.validator.coordinator.GraffitiBuilder;
 import tech.pegasys.teku.validator.coordinator.MilestoneBasedBlockFactory;
 import tech.pegasys.teku.validator.coordinator.ValidatorApiHandler;
 import tech.pegasys.teku.validator.coordinator.ValidatorIndexCacheTracker;
+import tech.pegasys.teku.validator.coordinator.duties.AttesterDutiesGenerator;
+import tech.pegasys.teku.validator.coordinator.duties.AttesterDutyTableCache;
 import tech.pegasys.teku.validator.coordinator.performance.DefaultPerformanceTracker;
 import tech.pegasys.teku.validator.coordinator.performance.NoOpPerformanceTracker;
 import tech.pegasys.teku.validator.coordinator.performance.PerformanceTracker;
@@ -288,6 +293,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
   protected volatile StableSubnetSubscriber stableSubnetSubscriber;
   protected volatile ExecutionLayerBlockProductionManager executionLayerBlockProductionManager;
   protected volatile RewardCalculator rewardCalculator;
+  protected final Optional<EpochRewardsStore> epochRewardsStore;
   protected UInt64 genesisTimeTracker = ZERO;
   protected BlockManager blockManager;
   protected TimerService timerService;
@@ -301,7 +307,11 @@ public class BeaconChainController extends Service implements BeaconChainControl
     final Eth2NetworkConfiguration eth2NetworkConfig = beaconConfig.eth2NetworkConfig();
     final DataDirLayout dataDirLayout = serviceConfig.getDataDirLayout();
     this.beaconConfig = beaconConfig;
-    this.spec = beaconConfig.getSpec();
+    this.epochRewardsStore = createEpochRewardsStore(beaconConfig.getSpec());
+    this.spec =
+        epochRewardsStore
+            .map(store -> beaconConfig.getSpec().withEpochRewardsRecorder(store))
+            .orElseGet(beaconConfig::getSpec);
     this.beaconBlockSchemaSupplier =
         slot -> spec.atSlot(slot).getSchemaDefinitions().getBeaconBlockBodySchema();
     this.beaconDataDirectory = dataDirLayout.getBeaconDataDirectory();
@@ -538,11 +548,13 @@ public class BeaconChainController extends Service implements BeaconChainControl
     initSubnetSubscriber();
     initSlashingEventsSubscriptions();
     initPerformanceTracker();
+    initEpochRewardsStore();
     initDataProvider();
     initValidatorApiHandler();
     initRestAPI();
     initOperationsReOrgManager();
     initValidatorIndexCacheTracker();
+    initLightClientUpdateTracker();
   }
 
   private void initKeyValueStore() {
@@ -664,7 +676,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
               BEACON,
               "performance_tracker_timings",
               "Tracks how much time (in millis) performance tracker takes to perform calculations");
-      performanceTracker =
+      final DefaultPerformanceTracker defaultPerformanceTracker =
           new DefaultPerformanceTracker(
               combinedChainDataClient,
               STATUS_LOG,
@@ -674,6 +686,8 @@ public class BeaconChainController extends Service implements BeaconChainControl
               new SyncCommitteePerformanceTracker(spec, combinedChainDataClient),
               spec,
               performanceTrackerTimings);
+      eventChannels.subscribe(ReceivedBlockEventsChannel.class, defaultPerformanceTracker);
+      performanceTracker = defaultPerformanceTracker;
       eventChannels.subscribe(SlotEventsChannel.class, performanceTracker);
     } else {
       performanceTracker = new NoOpPerformanceTracker();
@@ -756,6 +770,28 @@ public class BeaconChainController extends Service implements BeaconChainControl
         blsToExecutionChangePool::removeAll);
   }
 
+  private Optional<EpochRewardsStore> createEpochRewardsStore(final Spec spec) {
+    final int storedRewardEpochs = beaconConfig.beaconRestApiConfig().getStoredRewardEpochs();
+    if (storedRewardEpochs == 0 || !spec.isMilestoneSupported(SpecMilestone.ALTAIR)) {
+      return Optional.empty();
+    }
+    // The recorder is part of the spec's epoch processors, so the store is created before the
+    // storage it reads from and writes to
+    return Optional.of(
+        new EpochRewardsStore(
+            spec, () -> combinedChainDataClient, () -> keyValueStore, storedRewardEpochs));
+  }
+
+  protected void initEpochRewardsStore() {
+    epochRewardsStore.ifPresent(
+        store -> {
+          LOG.debug("BeaconChainController.initEpochRewardsStore()");
+          eventChannels
+              .subscribe(ChainHeadChannel.class, store)
+              .subscribe(FinalizedCheckpointChannel.class, store);
+        });
+  }
+
   protected void initDataProvider() {
     dataProvider =
         DataProvider.builder()
@@ -763,6 +799,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             .recentChainData(recentChainData)
             .combinedChainDataClient(combinedChainDataClient)
             .rewardCalculator(rewardCalculator)
+            .epochRewardsStore(epochRewardsStore)
             .p2pNetwork(p2pNetwork)
             .syncService(syncService)
             .validatorApiChannel(
@@ -781,6 +818,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             .proposersDataManager(proposersDataManager)
             .forkChoiceNotifier(forkChoiceNotifier)
             .rejectedExecutionSupplier(rejectedExecutionCountSupplier)
+            .metricsSystem(metricsSystem)
             .build();
   }
 
@@ -825,7 +863,8 @@ public class BeaconChainController extends Service implements BeaconChainControl
             new MergeTransitionBlockValidator(spec, recentChainData, executionLayer),
             beaconConfig.eth2NetworkConfig().isForkChoiceLateBlockReorgEnabled(),
             debugDataDumper,
-            metricsSystem);
+            metricsSystem,
+            Optional.of(beaconAsyncRunner));
     forkChoiceTrigger = new ForkChoiceTrigger(forkChoice);
   }
 
@@ -985,6 +1024,8 @@ public class BeaconChainController extends Service implements BeaconChainControl
             dutyMetrics,
             beaconConfig.p2pConfig().isGossipBlobsAfterBlockEnabled());
 
+    final AttesterDutyTableCache attesterDutyTableCache = new AttesterDutyTableCache(spec);
+
     final ValidatorApiHandler validatorApiHandler =
         new ValidatorApiHandler(
             new ChainDataProvider(spec, recentChainData, combinedChainDataClient, rewardCalculator),
@@ -1006,9 +1047,11 @@ public class BeaconChainController extends Service implements BeaconChainControl
             syncCommitteeContributionPool,
             syncCommitteeSubscriptionManager,
             blockProductionPerformanceFactory,
-            blockPublisher);
+            blockPublisher,
+            new AttesterDutiesGenerator(spec, attesterDutyTableCache));
     eventChannels
         .subscribe(SlotEventsChannel.class, activeValidatorTracker)
+        .subscribe(ChainHeadChannel.class, attesterDutyTableCache)
         .subscribe(ExecutionClientEventsChannel.class, executionClientVersionProvider)
         .subscribeMultithreaded(
             ValidatorApiChannel.class,
@@ -1221,6 +1264,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 eventChannels,
                 eventAsyncRunner,
                 timeProvider,
+                metricsSystem,
                 spec));
 
     if (getLivenessTrackingEnabled(beaconConfig)) {
@@ -1351,6 +1395,21 @@ public class BeaconChainController extends Service implements BeaconChainControl
     eventChannels.subscribe(FinalizedCheckpointChannel.class, validatorIndexCacheTracker);
   }
 
+  protected void initLightClientUpdateTracker() {
+    if (!beaconConfig.beaconRestApiConfig().isRestApiLightClientEnabled()
+        || !spec.isMilestoneSupported(SpecMilestone.ALTAIR)) {
+      return;
+    }
+    LOG.debug("BeaconChainController.initLightClientUpdateTracker()");
+    final LightClientUpdateTracker lightClientUpdateTracker =
+        new LightClientUpdateTracker(
+            spec, recentChainData, storageQueryChannel, storageUpdateChannel);
+    lightClientUpdateTracker.initialize();
+    eventChannels
+        .subscribe(ReceivedBlockEventsChannel.class, lightClientUpdateTracker)
+        .subscribe(FinalizedCheckpointChannel.class, lightClientUpdateTracker);
+  }
+
   protected void initForkChoiceStateProvider() {
     LOG.debug("BeaconChainController.initForkChoiceStateProvider()");
     forkChoiceStateProvider = new ForkChoiceStateProvider(forkChoiceExecutor, recentChainData);
@@ -1520,6 +1579,19 @@ public class BeaconChainController extends Service implements BeaconChainControl
     }
     slotProcessor.setCurrentSlot(currentSlot);
     performanceTracker.start(currentSlot);
+    preloadValidatorPubKeys();
+  }
+
+  private void preloadValidatorPubKeys() {
+    final BeaconState finalizedState = recentChainData.getStore().getLatestFinalized().getState();
+    beaconAsyncRunner
+        .runAsync(() -> ValidatorPubKeyTable.getInstance().addValidators(finalizedState))
+        .finish(
+            () ->
+                LOG.debug(
+                    "Preloaded public keys of {} validators",
+                    finalizedState.getValidators().size()),
+            error -> LOG.warn("Failed to preload validator public keys", error));
   }
 
   protected UInt64 getCurrentSlot(final UInt64 genesisTime) {
@@ -46,6 +46,7 @@ import tech.pegasys.teku.storage.server.CombinedStorageChannelSplitter;
 import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.DatabaseVersion;
 import tech.pegasys.teku.storage.server.DepositStorage;
+import tech.pegasys.teku.storage.server.PipelinedStorageUpdater;
 import tech.pegasys.teku.storage.server.RetryingStorageUpdateChannel;
 import tech.pegasys.teku.storage.server.StorageConfiguration;
 import tech.pegasys.teku.storage.server.VersionedDatabaseFactory;
@@ -64,6 +65,7 @@ public class StorageService extends Service implements StorageServiceFacade {
   private volatile Optional<BlockPruner> blockPruner = Optional.empty();
   private volatile Optional<BlobSidecarPruner> blobsPruner = Optional.empty();
   private volatile Optional<StatePruner> statePruner = Optional.empty();
+  private volatile Optional<PipelinedStorageUpdater> pipelinedStorageUpdater = Optional.empty();
   private final boolean depositSnapshotStorageEnabled;
   private final boolean blobSidecarsStorageCountersEnabled;
   private static final Logger LOG = LogManager.getLogger();
@@ -183,13 +185,22 @@ public class StorageService extends Service implements StorageServiceFacade {
                             pruningActiveLabelledGauge,
                             config.isStoreNonCanonicalBlocksEnabled()));
               }
+              if (config.isAsyncFinalizationStorageEnabled()) {
+                pipelinedStorageUpdater =
+                    Optional.of(
+                        new PipelinedStorageUpdater(
+                            database,
+                            serviceConfig.createAsyncRunner("finalized_data_migration", 1),
+                            serviceConfig.getMetricsSystem()));
+              }
               final EventChannels eventChannels = serviceConfig.getEventChannels();
               chainStorage =
                   ChainStorage.create(
                       database,
                       config.getSpec(),
                       config.getDataStorageMode(),
-                      config.getStateRebuildTimeoutSeconds());
+                      config.getStateRebuildTimeoutSeconds(),
+                      pipelinedStorageUpdater);
               final DepositStorage depositStorage =
                   DepositStorage.create(
                       eventChannels.getPublisher(Eth1EventsChannel.class),
@@ -274,6 +285,11 @@ public class StorageService extends Service implements StorageServiceFacade {
     return blockPruner
         .map(BlockPruner::stop)
         .orElseGet(() -> SafeFuture.completedFuture(null))
+        .thenCompose(
+            __ ->
+                pipelinedStorageUpdater
+                    .map(PipelinedStorageUpdater::getPendingMigrations)
+                    .orElseGet(() -> SafeFuture.completedFuture(null)))
         .thenCompose(__ -> SafeFuture.fromRunnable(database::close));
   }
 
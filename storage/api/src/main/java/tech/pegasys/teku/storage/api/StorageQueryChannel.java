@@ -27,6 +27,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
@@ -88,6 +90,14 @@ public interface StorageQueryChannel extends ChannelInterface {
 
   SafeFuture<Optional<DepositTreeSnapshot>> getFinalizedDepositSnapshot();
 
+  /**
+   * @return The stored best light client updates for the sync committee periods from {@code
+   *     startPeriod} to {@code endPeriod} inclusive, skipping periods without an update
+   */
+  SafeFuture<List<LightClientUpdate>> getLightClientUpdates(UInt64 startPeriod, UInt64 endPeriod);
+
+  SafeFuture<Optional<LightClientBootstrap>> getLightClientBootstrap(Bytes32 blockRoot);
+
   /**
    * @return The earliest available finalized blob sidecar's slot
    */
@@ -25,6 +25,8 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 
@@ -43,5 +45,14 @@ public interface StorageUpdateChannel extends ChannelInterface {
 
   SafeFuture<Void> onFinalizedDepositSnapshot(DepositTreeSnapshot depositTreeSnapshot);
 
+  SafeFuture<Void> onLightClientUpdate(UInt64 period, LightClientUpdate update);
+
+  /**
+   * Stores the light client bootstrap for a finalized block root, deleting the bootstrap for {@code
+   * prunedBlockRoot} if present.
+   */
+  SafeFuture<Void> onLightClientBootstrap(
+      Bytes32 blockRoot, LightClientBootstrap bootstrap, Optional<Bytes32> prunedBlockRoot);
+
   void onChainInitialized(AnchorPoint initialAnchor);
 }
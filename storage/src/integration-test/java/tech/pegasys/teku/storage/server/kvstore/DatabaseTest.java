@@ -64,12 +64,15 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.BlockAndCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
 import tech.pegasys.teku.spec.datastructures.execution.SlotAndExecutionPayloadSummary;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -79,6 +82,7 @@ import tech.pegasys.teku.spec.generator.ChainBuilder;
 import tech.pegasys.teku.spec.generator.ChainBuilder.BlockOptions;
 import tech.pegasys.teku.spec.generator.ChainProperties;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.FinalizedChainData;
 import tech.pegasys.teku.storage.api.OnDiskStoreData;
 import tech.pegasys.teku.storage.api.StorageUpdate;
 import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
@@ -86,6 +90,7 @@ import tech.pegasys.teku.storage.archive.fsarchive.FileSystemArchive;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.DatabaseContext;
+import tech.pegasys.teku.storage.server.PipelinedUpdate;
 import tech.pegasys.teku.storage.server.ShuttingDownException;
 import tech.pegasys.teku.storage.server.StateStorageMode;
 import tech.pegasys.teku.storage.server.TestDatabaseContext;
@@ -1232,6 +1237,114 @@ public class DatabaseTest {
     testShouldRecordFinalizedBlocksAndStates(context, StateStorageMode.ARCHIVE, true);
   }
 
+  @TestTemplate
+  public void shouldCompleteInterruptedFinalizedDataMigrationOnRestart_pruneMode(
+      final DatabaseContext context) throws IOException {
+    testShouldCompleteInterruptedFinalizedDataMigrationOnRestart(context, StateStorageMode.PRUNE);
+  }
+
+  @TestTemplate
+  public void shouldCompleteInterruptedFinalizedDataMigrationOnRestart_archiveMode(
+      final DatabaseContext context) throws IOException {
+    testShouldCompleteInterruptedFinalizedDataMigrationOnRestart(context, StateStorageMode.ARCHIVE);
+  }
+
+  @TestTemplate
+  public void shouldServeFinalizedBlocksBySlotWhileFinalizedDataMigrationIsPending(
+      final DatabaseContext context) throws IOException {
+    initialize(context);
+    chainBuilder.generateBlocksUpToSlot(3);
+    chainBuilder.generateBlockAtSlot(5);
+    chainBuilder.generateBlocksUpToSlot(10);
+    addBlocks(chainBuilder.streamBlocksAndStates(1, 10).collect(toList()));
+
+    final SignedBlockAndState finalizedBlock = chainBuilder.getBlockAndStateAtSlot(8);
+    final PipelinedUpdate update =
+        database.updatePipelined(
+            createFinalizedUpdate(
+                finalizedBlock, chainBuilder.streamBlocksAndStates(0, 8).collect(toList())));
+
+    final List<SignedBeaconBlock> finalizedBlocks =
+        chainBuilder
+            .streamBlocksAndStates(1, 8)
+            .map(SignedBlockAndState::getBlock)
+            .collect(toList());
+    final SignedBeaconBlock[] expectedStreamedBlocks =
+        chainBuilder
+            .streamBlocksAndStates(2, 8)
+            .map(SignedBlockAndState::getBlock)
+            .toArray(SignedBeaconBlock[]::new);
+    final Bytes32 blockRoot = chainBuilder.getBlockAtSlot(5).getRoot();
+
+    // Finalized lookups see the new finalized chain before and after the migration
+    assertBlocksFinalized(finalizedBlocks);
+    assertGetLatestFinalizedRootAtSlotReturnsFinalizedBlocks(finalizedBlocks);
+    assertFinalizedBlocksAvailableViaStream(2, 8, expectedStreamedBlocks);
+    assertThat(database.getFinalizedBlockRootBySlot(UInt64.valueOf(5))).contains(blockRoot);
+    assertThat(database.getSlotForFinalizedBlockRoot(blockRoot)).contains(UInt64.valueOf(5));
+
+    update.finalizedDataMigration().orElseThrow().run();
+
+    assertBlocksFinalized(finalizedBlocks);
+    assertGetLatestFinalizedRootAtSlotReturnsFinalizedBlocks(finalizedBlocks);
+    assertFinalizedBlocksAvailableViaStream(2, 8, expectedStreamedBlocks);
+    assertThat(database.getFinalizedBlockRootBySlot(UInt64.valueOf(5))).contains(blockRoot);
+    assertThat(database.getSlotForFinalizedBlockRoot(blockRoot)).contains(UInt64.valueOf(5));
+  }
+
+  @TestTemplate
+  public void shouldCompleteFailedFinalizedDataMigrationBeforeNextFinalizedUpdate(
+      final DatabaseContext context) throws IOException {
+    initialize(context);
+    chainBuilder.generateBlocksUpToSlot(16);
+    addBlocks(chainBuilder.streamBlocksAndStates(1, 15).collect(toList()));
+
+    final SignedBlockAndState firstFinalizedBlock = chainBuilder.getBlockAndStateAtSlot(8);
+    final PipelinedUpdate firstUpdate =
+        database.updatePipelined(
+            createFinalizedUpdate(
+                firstFinalizedBlock, chainBuilder.streamBlocksAndStates(0, 8).collect(toList())));
+
+    // Fail the migration by temporarily removing one of its blocks from hot storage
+    final SignedBlockAndState missingBlock = chainBuilder.getBlockAndStateAtSlot(4);
+    try (final HotUpdater updater = hotUpdater()) {
+      updater.deleteHotBlock(missingBlock.getRoot());
+      updater.commit();
+    }
+    assertThatThrownBy(() -> firstUpdate.finalizedDataMigration().orElseThrow().run())
+        .isInstanceOf(IllegalStateException.class);
+    try (final HotUpdater updater = hotUpdater()) {
+      updater.addHotBlock(
+          new BlockAndCheckpoints(
+              missingBlock.getBlock(), spec.calculateBlockCheckpoints(missingBlock.getState())));
+      updater.addHotState(missingBlock.getRoot(), missingBlock.getState());
+      updater.commit();
+    }
+
+    // The newly finalized block is only held in memory so the update isn't pipelined
+    final SignedBlockAndState secondFinalizedBlock = chainBuilder.getBlockAndStateAtSlot(16);
+    assertThat(
+            database
+                .updatePipelined(
+                    createFinalizedUpdate(
+                        secondFinalizedBlock,
+                        chainBuilder.streamBlocksAndStates(8, 16).collect(toList())))
+                .finalizedDataMigration())
+        .isEmpty();
+
+    assertBlocksFinalized(
+        chainBuilder
+            .streamBlocksAndStates(0, 16)
+            .map(SignedBlockAndState::getBlock)
+            .collect(toList()));
+    assertFinalizedStatesAvailable(
+        chainBuilder
+            .streamBlocksAndStates(0, 16)
+            .collect(toMap(SignedBlockAndState::getRoot, SignedBlockAndState::getState)));
+    assertThat(((KvStoreDatabase) database).dao.getFinalizedDataMigrationBase())
+        .contains(getCheckpointForBlock(secondFinalizedBlock.getBlock()));
+  }
+
   @TestTemplate
   public void slotAndBlock_shouldStoreAndRetrieve(final DatabaseContext context)
       throws IOException {
@@ -2195,6 +2308,40 @@ public class DatabaseTest {
     assertThat(database.getFinalizedDepositSnapshot()).contains(depositTreeSnapshot);
   }
 
+  @TestTemplate
+  public void lightClientUpdates_shouldReturnStoredUpdatesInPeriodRange(
+      final DatabaseContext context) throws IOException {
+    initialize(context);
+    final LightClientUpdate update1 = dataStructureUtil.randomLightClientUpdate(ONE);
+    final LightClientUpdate update3 = dataStructureUtil.randomLightClientUpdate(ONE);
+    final LightClientUpdate update4 = dataStructureUtil.randomLightClientUpdate(ONE);
+
+    database.setLightClientUpdate(ONE, update1);
+    database.setLightClientUpdate(UInt64.valueOf(3), update3);
+    database.setLightClientUpdate(UInt64.valueOf(4), update4);
+
+    assertThat(database.getLightClientUpdates(ONE, UInt64.valueOf(3)))
+        .containsExactly(update1, update3);
+    assertThat(database.getLightClientUpdates(UInt64.valueOf(5), UInt64.valueOf(10))).isEmpty();
+  }
+
+  @TestTemplate
+  public void lightClientBootstraps_shouldPruneReplacedBootstrap(final DatabaseContext context)
+      throws IOException {
+    initialize(context);
+    final Bytes32 blockRoot1 = dataStructureUtil.randomBytes32();
+    final Bytes32 blockRoot2 = dataStructureUtil.randomBytes32();
+    final LightClientBootstrap bootstrap1 = dataStructureUtil.randomLightClientBoostrap(ONE);
+    final LightClientBootstrap bootstrap2 = dataStructureUtil.randomLightClientBoostrap(ONE);
+
+    database.addLightClientBootstrap(blockRoot1, bootstrap1, Optional.empty());
+    assertThat(database.getLightClientBootstrap(blockRoot1)).contains(bootstrap1);
+
+    database.addLightClientBootstrap(blockRoot2, bootstrap2, Optional.of(blockRoot1));
+    assertThat(database.getLightClientBootstrap(blockRoot1)).isEmpty();
+    assertThat(database.getLightClientBootstrap(blockRoot2)).contains(bootstrap2);
+  }
+
   @TestTemplate
   public void pruneFinalizedBlocks_shouldRemoveFinalizedBlocks(final DatabaseContext context)
       throws Exception {
@@ -2438,6 +2585,80 @@ public class DatabaseTest {
     }
   }
 
+  private void testShouldCompleteInterruptedFinalizedDataMigrationOnRestart(
+      final DatabaseContext context, final StateStorageMode storageMode) throws IOException {
+    initialize(context, storageMode);
+    chainBuilder.generateBlocksUpToSlot(10);
+    addBlocks(chainBuilder.streamBlocksAndStates(1, 10).collect(toList()));
+
+    final SignedBlockAndState finalizedBlock = chainBuilder.getBlockAndStateAtSlot(8);
+    final Checkpoint finalizedCheckpoint = getCheckpointForBlock(finalizedBlock.getBlock());
+    final List<SignedBlockAndState> finalizedBlocksAndStates =
+        chainBuilder.streamBlocksAndStates(0, 8).collect(toList());
+
+    // Commit the hot data but shut down before the finalized data is migrated
+    assertThat(
+            database
+                .updatePipelined(createFinalizedUpdate(finalizedBlock, finalizedBlocksAndStates))
+                .finalizedDataMigration())
+        .isPresent();
+    restartStorage();
+
+    assertBlocksFinalized(
+        finalizedBlocksAndStates.stream().map(SignedBlockAndState::getBlock).collect(toList()));
+    assertThat(storageSystem.recentChainData().getStore().getOrderedBlockRoots())
+        .containsExactlyInAnyOrderElementsOf(
+            chainBuilder
+                .streamBlocksAndStates(8, 10)
+                .map(SignedBlockAndState::getRoot)
+                .collect(toList()));
+    if (storageMode.storesFinalizedStates()) {
+      assertFinalizedStatesAvailable(
+          finalizedBlocksAndStates.stream()
+              .collect(toMap(SignedBlockAndState::getRoot, SignedBlockAndState::getState)));
+    }
+    assertThat(((KvStoreDatabase) database).dao.getFinalizedDataMigrationBase())
+        .contains(finalizedCheckpoint);
+  }
+
+  private StorageUpdate createFinalizedUpdate(
+      final SignedBlockAndState finalizedBlock,
+      final List<SignedBlockAndState> finalizedBlocksAndStates) {
+    final Checkpoint finalizedCheckpoint = getCheckpointForBlock(finalizedBlock.getBlock());
+    return new StorageUpdate(
+        Optional.empty(),
+        Optional.of(
+            FinalizedChainData.builder()
+                .latestFinalized(AnchorPoint.create(spec, finalizedCheckpoint, finalizedBlock))
+                .finalizedChildAndParent(
+                    finalizedBlocksAndStates.stream()
+                        .collect(
+                            toMap(
+                                SignedBlockAndState::getRoot, SignedBlockAndState::getParentRoot)))
+                .finalizedStates(
+                    finalizedBlocksAndStates.stream()
+                        .collect(
+                            toMap(SignedBlockAndState::getRoot, SignedBlockAndState::getState)))
+                .build()),
+        Optional.of(finalizedCheckpoint),
+        Optional.of(finalizedCheckpoint),
+        Map.of(
+            finalizedBlock.getRoot(),
+            new BlockAndCheckpoints(
+                finalizedBlock.getBlock(),
+                spec.calculateBlockCheckpoints(finalizedBlock.getState()))),
+        Map.of(),
+        Map.of(),
+        Optional.empty(),
+        finalizedBlocksAndStates.stream()
+            .filter(blockAndState -> !blockAndState.equals(finalizedBlock))
+            .collect(toMap(SignedBlockAndState::getRoot, SignedBlockAndState::getSlot)),
+        Map.of(),
+        false,
+        Optional.empty(),
+        false);
+  }
+
   private void assertFinalizedBlocksAvailableViaStream(
       final int fromSlot, final int toSlot, final SignedBeaconBlock... expectedBlocks) {
     try (final Stream<SignedBeaconBlock> stream =
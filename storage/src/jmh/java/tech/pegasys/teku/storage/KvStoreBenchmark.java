@@ -0,0 +1,120 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage;
+
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAGE;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.appendlog.AppendLogInstanceFactory;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.leveldb.LevelDbInstanceFactory;
+import tech.pegasys.teku.storage.server.rocksdb.RocksDbInstanceFactory;
+
+/** Compares commit and point lookup latency of the key-value store backends. */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KvStoreBenchmark {
+  private static final KvStoreColumn<UInt64, Bytes> COLUMN =
+      KvStoreColumn.create(1, UINT64_SERIALIZER, BYTES_SERIALIZER);
+  private static final int INITIAL_ENTRY_COUNT = 100_000;
+  private static final int VALUE_SIZE = 1024;
+  private static final int ENTRIES_PER_TRANSACTION = 10;
+
+  @Param({"rocksdb", "leveldb", "append-log"})
+  public String backend;
+
+  private final Random random = new Random(1);
+  private final Bytes value = Bytes.random(VALUE_SIZE, random);
+  private Path tempDirectory;
+  private KvStoreAccessor accessor;
+  private long nextKey;
+
+  @Setup
+  public void setup() throws Exception {
+    tempDirectory = Files.createTempDirectory(getClass().getSimpleName());
+    final KvStoreConfiguration configuration =
+        KvStoreConfiguration.v6SingleDefaults().withDatabaseDir(tempDirectory);
+    final NoOpMetricsSystem metricsSystem = new NoOpMetricsSystem();
+    accessor =
+        switch (backend) {
+          case "rocksdb" -> RocksDbInstanceFactory.create(
+              metricsSystem, STORAGE, configuration, List.of(COLUMN), List.of());
+          case "leveldb" -> LevelDbInstanceFactory.create(
+              metricsSystem, STORAGE, configuration, List.of(COLUMN));
+          case "append-log" -> AppendLogInstanceFactory.create(
+              metricsSystem, STORAGE, configuration, List.of(COLUMN));
+          default -> throw new IllegalArgumentException("Unknown backend " + backend);
+        };
+    for (int i = 0; i < INITIAL_ENTRY_COUNT; i += ENTRIES_PER_TRANSACTION) {
+      writeTransaction();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    accessor.close();
+    FileUtils.deleteDirectory(tempDirectory.toFile());
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void commitTransaction() {
+    writeTransaction();
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public Optional<Bytes> randomRead() {
+    return accessor.get(COLUMN, UInt64.valueOf(random.nextInt(INITIAL_ENTRY_COUNT)));
+  }
+
+  private void writeTransaction() {
+    try (final KvStoreTransaction transaction = accessor.startTransaction()) {
+      for (int i = 0; i < ENTRIES_PER_TRANSACTION; i++) {
+        transaction.put(COLUMN, UInt64.valueOf(nextKey++), value);
+      }
+      transaction.commit();
+    }
+  }
+}
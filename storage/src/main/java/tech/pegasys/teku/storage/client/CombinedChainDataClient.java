@@ -41,6 +41,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
 import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyForkChoiceStrategy;
 import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyStore;
 import tech.pegasys.teku.spec.datastructures.genesis.GenesisData;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.metadata.BlockAndMetaData;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
@@ -823,4 +825,14 @@ public class CombinedChainDataClient {
   public SafeFuture<Optional<Checkpoint>> getInitialAnchor() {
     return historicalChainData.getAnchor();
   }
+
+  public SafeFuture<List<LightClientUpdate>> getLightClientUpdates(
+      final UInt64 startPeriod, final UInt64 endPeriod) {
+    return historicalChainData.getLightClientUpdates(startPeriod, endPeriod);
+  }
+
+  public SafeFuture<Optional<LightClientBootstrap>> getLightClientBootstrap(
+      final Bytes32 blockRoot) {
+    return historicalChainData.getLightClientBootstrap(blockRoot);
+  }
 }
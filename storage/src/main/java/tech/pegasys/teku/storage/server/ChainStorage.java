@@ -35,6 +35,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -57,16 +59,19 @@ public class ChainStorage
   private final FinalizedStateCache finalizedStateCache;
 
   private final StateStorageMode dataStorageMode;
+  private final Optional<PipelinedStorageUpdater> pipelinedStorageUpdater;
 
   private Optional<OnDiskStoreData> cachedStoreData = Optional.empty();
 
   private ChainStorage(
       final Database database,
       final FinalizedStateCache finalizedStateCache,
-      final StateStorageMode dataStorageMode) {
+      final StateStorageMode dataStorageMode,
+      final Optional<PipelinedStorageUpdater> pipelinedStorageUpdater) {
     this.database = database;
     this.finalizedStateCache = finalizedStateCache;
     this.dataStorageMode = dataStorageMode;
+    this.pipelinedStorageUpdater = pipelinedStorageUpdater;
   }
 
   public static ChainStorage create(
@@ -74,16 +79,28 @@ public class ChainStorage
       final Spec spec,
       final StateStorageMode dataStorageMode,
       final int stateRebuildTimeoutSeconds) {
+    return create(database, spec, dataStorageMode, stateRebuildTimeoutSeconds, Optional.empty());
+  }
+
+  public static ChainStorage create(
+      final Database database,
+      final Spec spec,
+      final StateStorageMode dataStorageMode,
+      final int stateRebuildTimeoutSeconds,
+      final Optional<PipelinedStorageUpdater> pipelinedStorageUpdater) {
     final int finalizedStateCacheSize = spec.getSlotsPerEpoch(SpecConfig.GENESIS_EPOCH) * 3;
     return new ChainStorage(
         database,
         new FinalizedStateCache(
             spec, database, finalizedStateCacheSize, true, stateRebuildTimeoutSeconds),
-        dataStorageMode);
+        dataStorageMode,
+        pipelinedStorageUpdater);
   }
 
   private synchronized Optional<OnDiskStoreData> getStore() {
     if (cachedStoreData.isEmpty()) {
+      // Loading the store completes any interrupted migration so wait for queued ones to finish
+      pipelinedStorageUpdater.ifPresent(updater -> updater.getPendingMigrations().join());
       // Create store from database
       cachedStoreData = database.createMemoryStore();
     }
@@ -113,7 +130,10 @@ public class ChainStorage
   public SafeFuture<UpdateResult> onStorageUpdate(final StorageUpdate event) {
     return SafeFuture.of(
         () -> {
-          final UpdateResult updateResult = database.update(event);
+          final UpdateResult updateResult =
+              pipelinedStorageUpdater
+                  .map(updater -> updater.update(event))
+                  .orElseGet(() -> database.update(event));
           handleStoreUpdate();
           return updateResult;
         });
@@ -155,6 +175,21 @@ public class ChainStorage
     return SafeFuture.fromRunnable(() -> database.setFinalizedDepositSnapshot(depositTreeSnapshot));
   }
 
+  @Override
+  public SafeFuture<Void> onLightClientUpdate(
+      final UInt64 period, final LightClientUpdate update) {
+    return SafeFuture.fromRunnable(() -> database.setLightClientUpdate(period, update));
+  }
+
+  @Override
+  public SafeFuture<Void> onLightClientBootstrap(
+      final Bytes32 blockRoot,
+      final LightClientBootstrap bootstrap,
+      final Optional<Bytes32> prunedBlockRoot) {
+    return SafeFuture.fromRunnable(
+        () -> database.addLightClientBootstrap(blockRoot, bootstrap, prunedBlockRoot));
+  }
+
   @Override
   public SafeFuture<Optional<UInt64>> getEarliestAvailableBlockSlot() {
     return SafeFuture.of(database::getEarliestAvailableBlockSlot);
@@ -301,6 +336,18 @@ public class ChainStorage
     return SafeFuture.of(database::getFinalizedDepositSnapshot);
   }
 
+  @Override
+  public SafeFuture<List<LightClientUpdate>> getLightClientUpdates(
+      final UInt64 startPeriod, final UInt64 endPeriod) {
+    return SafeFuture.of(() -> database.getLightClientUpdates(startPeriod, endPeriod));
+  }
+
+  @Override
+  public SafeFuture<Optional<LightClientBootstrap>> getLightClientBootstrap(
+      final Bytes32 blockRoot) {
+    return SafeFuture.of(() -> database.getLightClientBootstrap(blockRoot));
+  }
+
   @Override
   public SafeFuture<Optional<UInt64>> getEarliestAvailableBlobSidecarSlot() {
     return SafeFuture.of(database::getEarliestBlobSidecarSlot);
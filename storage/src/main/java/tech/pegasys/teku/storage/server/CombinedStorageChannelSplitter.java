@@ -28,6 +28,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -95,6 +97,20 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
     return updateDelegate.onFinalizedDepositSnapshot(depositTreeSnapshot);
   }
 
+  @Override
+  public SafeFuture<Void> onLightClientUpdate(
+      final UInt64 period, final LightClientUpdate update) {
+    return updateDelegate.onLightClientUpdate(period, update);
+  }
+
+  @Override
+  public SafeFuture<Void> onLightClientBootstrap(
+      final Bytes32 blockRoot,
+      final LightClientBootstrap bootstrap,
+      final Optional<Bytes32> prunedBlockRoot) {
+    return updateDelegate.onLightClientBootstrap(blockRoot, bootstrap, prunedBlockRoot);
+  }
+
   @Override
   public void onChainInitialized(final AnchorPoint initialAnchor) {
     updateDelegate.onChainInitialized(initialAnchor);
@@ -207,6 +223,18 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
     return asyncRunner.runAsync(queryDelegate::getFinalizedDepositSnapshot);
   }
 
+  @Override
+  public SafeFuture<List<LightClientUpdate>> getLightClientUpdates(
+      final UInt64 startPeriod, final UInt64 endPeriod) {
+    return asyncRunner.runAsync(() -> queryDelegate.getLightClientUpdates(startPeriod, endPeriod));
+  }
+
+  @Override
+  public SafeFuture<Optional<LightClientBootstrap>> getLightClientBootstrap(
+      final Bytes32 blockRoot) {
+    return asyncRunner.runAsync(() -> queryDelegate.getLightClientBootstrap(blockRoot));
+  }
+
   @Override
   public SafeFuture<Optional<UInt64>> getEarliestAvailableBlobSidecarSlot() {
     return asyncRunner.runAsync(queryDelegate::getEarliestAvailableBlobSidecarSlot);
@@ -31,6 +31,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -48,6 +50,19 @@ public interface Database extends AutoCloseable {
 
   UpdateResult update(StorageUpdate event);
 
+  /**
+   * Applies an update, committing the hot data before newly finalized data is migrated.
+   *
+   * <p>The returned migration moves newly finalized blocks and states to finalized storage and
+   * prunes them from hot storage. Migrations must be run in the order they are returned but may run
+   * concurrently with subsequent updates. If a migration is interrupted, it is completed the next
+   * time the store is loaded. If a migration fails, later migrations must not be run and are
+   * completed before the next finalized update is applied.
+   */
+  default PipelinedUpdate updatePipelined(final StorageUpdate event) {
+    return PipelinedUpdate.completed(update(event));
+  }
+
   void storeFinalizedBlocks(
       Collection<SignedBeaconBlock> blocks,
       Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecarsBySlot,
@@ -229,6 +244,24 @@ public interface Database extends AutoCloseable {
 
   void setFinalizedDepositSnapshot(DepositTreeSnapshot finalizedDepositSnapshot);
 
+  /**
+   * Returns the stored light client updates for the sync committee periods from {@code
+   * startPeriod} (inclusive) to {@code endPeriod} (inclusive), in period order. Periods without a
+   * stored update are skipped.
+   */
+  List<LightClientUpdate> getLightClientUpdates(UInt64 startPeriod, UInt64 endPeriod);
+
+  void setLightClientUpdate(UInt64 period, LightClientUpdate update);
+
+  Optional<LightClientBootstrap> getLightClientBootstrap(Bytes32 blockRoot);
+
+  /**
+   * Stores the bootstrap for a block, optionally deleting a previously stored bootstrap in the same
+   * transaction.
+   */
+  void addLightClientBootstrap(
+      Bytes32 blockRoot, LightClientBootstrap bootstrap, Optional<Bytes32> prunedBlockRoot);
+
   /**
    * This prune method will delete finalized blocks starting from the oldest (by slot) up to block
    * at {@code lastSlotToPrune} (inclusive). The pruning process will be stopped if {@code
@@ -0,0 +1,108 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.storage.api.StorageUpdate;
+import tech.pegasys.teku.storage.api.UpdateResult;
+
+/**
+ * Applies storage updates so that finalization doesn't hold up the storage thread. The hot data
+ * from each update is committed immediately while migrating newly finalized data to finalized
+ * storage is queued and run in order on a separate runner.
+ *
+ * <p>If a migration fails, later migrations are not run so the finalized chain in storage never has
+ * gaps. The database completes the outstanding migrations before it applies the next finalized
+ * update, or the next time the store is loaded.
+ */
+public class PipelinedStorageUpdater {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Database database;
+  private final AsyncRunner migrationAsyncRunner;
+  private final LabelledMetric<OperationTimer> finalizationStorageTimer;
+  private final AtomicInteger pendingMigrationCount = new AtomicInteger();
+
+  private SafeFuture<Void> pendingMigrations = SafeFuture.COMPLETE;
+
+  public PipelinedStorageUpdater(
+      final Database database,
+      final AsyncRunner migrationAsyncRunner,
+      final MetricsSystem metricsSystem) {
+    this.database = database;
+    this.migrationAsyncRunner = migrationAsyncRunner;
+    this.finalizationStorageTimer =
+        metricsSystem.createLabelledTimer(
+            TekuMetricCategory.STORAGE,
+            "finalization_storage_time",
+            "Time taken to store finalization updates, split into the hot data update that blocks further updates and the background migration of finalized data",
+            "phase");
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.STORAGE,
+        "finalized_data_migrations_pending",
+        "Number of finalized data migrations waiting to be completed",
+        pendingMigrationCount::get);
+  }
+
+  public synchronized UpdateResult update(final StorageUpdate event) {
+    final OperationTimer.TimingContext hotUpdateTimer =
+        finalizationStorageTimer.labels("hot_update").startTimer();
+    final PipelinedUpdate update = database.updatePipelined(event);
+    update
+        .finalizedDataMigration()
+        .ifPresent(
+            migration -> {
+              hotUpdateTimer.stopTimer();
+              queueMigration(migration);
+            });
+    return update.result();
+  }
+
+  /** Returns a future which completes once all queued migrations have finished or failed. */
+  public synchronized SafeFuture<Void> getPendingMigrations() {
+    return pendingMigrations.exceptionally(__ -> null);
+  }
+
+  private void queueMigration(final Runnable migration) {
+    pendingMigrationCount.incrementAndGet();
+    pendingMigrations =
+        pendingMigrations
+            .thenCompose(
+                __ ->
+                    migrationAsyncRunner
+                        .runAsync(
+                            () -> {
+                              final OperationTimer.TimingContext migrationTimer =
+                                  finalizationStorageTimer
+                                      .labels("finalized_migration")
+                                      .startTimer();
+                              migration.run();
+                              migrationTimer.stopTimer();
+                            })
+                        .catchAndRethrow(
+                            error ->
+                                LOG.error(
+                                    "Failed to migrate finalized data. Outstanding migrations will be completed before the next finalized update",
+                                    error)))
+            .whenComplete((__, error) -> pendingMigrationCount.decrementAndGet());
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import java.util.Optional;
+import tech.pegasys.teku.storage.api.UpdateResult;
+
+/**
+ * The result of a storage update where the hot data has been committed but migrating newly
+ * finalized data to finalized storage may still be outstanding.
+ *
+ * @param result the result of the update
+ * @param finalizedDataMigration the outstanding migration, if any
+ */
+public record PipelinedUpdate(UpdateResult result, Optional<Runnable> finalizedDataMigration) {
+
+  public static PipelinedUpdate completed(final UpdateResult result) {
+    return new PipelinedUpdate(result, Optional.empty());
+  }
+}
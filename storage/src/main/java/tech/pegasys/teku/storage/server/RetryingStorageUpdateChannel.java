@@ -32,6 +32,8 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.storage.api.StorageUpdate;
@@ -115,6 +117,20 @@ public class RetryingStorageUpdateChannel implements StorageUpdateChannel {
     return retry(() -> delegate.onFinalizedDepositSnapshot(depositTreeSnapshot));
   }
 
+  @Override
+  public SafeFuture<Void> onLightClientUpdate(
+      final UInt64 period, final LightClientUpdate update) {
+    return retry(() -> delegate.onLightClientUpdate(period, update));
+  }
+
+  @Override
+  public SafeFuture<Void> onLightClientBootstrap(
+      final Bytes32 blockRoot,
+      final LightClientBootstrap bootstrap,
+      final Optional<Bytes32> prunedBlockRoot) {
+    return retry(() -> delegate.onLightClientBootstrap(blockRoot, bootstrap, prunedBlockRoot));
+  }
+
   @Override
   public void onChainInitialized(final AnchorPoint initialAnchor) {
     this.retry(
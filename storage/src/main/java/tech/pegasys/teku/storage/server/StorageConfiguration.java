@@ -34,6 +34,7 @@ import tech.pegasys.teku.spec.Spec;
 public class StorageConfiguration {
   public static final boolean DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED = false;
   public static final int DEFAULT_STATE_REBUILD_TIMEOUT_SECONDS = 120;
+  public static final boolean DEFAULT_ASYNC_FINALIZATION_STORAGE_ENABLED = false;
   public static final long DEFAULT_STORAGE_FREQUENCY = 2048L;
   public static final int DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE = 100_000;
   public static final Duration DEFAULT_BLOCK_PRUNING_INTERVAL = Duration.ofMinutes(15);
@@ -66,6 +67,7 @@ public class StorageConfiguration {
   private final String blobsArchivePath;
   private final long retainedSlots;
   private final int statePruningLimit;
+  private final boolean asyncFinalizationStorageEnabled;
 
   private final int stateRebuildTimeoutSeconds;
 
@@ -85,6 +87,7 @@ public class StorageConfiguration {
       final long retainedSlots,
       final Duration statePruningInterval,
       final int statePruningLimit,
+      final boolean asyncFinalizationStorageEnabled,
       final Spec spec) {
     this.eth1DepositContract = eth1DepositContract;
     this.dataStorageMode = dataStorageMode;
@@ -101,6 +104,7 @@ public class StorageConfiguration {
     this.retainedSlots = retainedSlots;
     this.statePruningInterval = statePruningInterval;
     this.statePruningLimit = statePruningLimit;
+    this.asyncFinalizationStorageEnabled = asyncFinalizationStorageEnabled;
     this.spec = spec;
   }
 
@@ -168,6 +172,10 @@ public class StorageConfiguration {
     return statePruningLimit;
   }
 
+  public boolean isAsyncFinalizationStorageEnabled() {
+    return asyncFinalizationStorageEnabled;
+  }
+
   public Spec getSpec() {
     return spec;
   }
@@ -191,6 +199,7 @@ public class StorageConfiguration {
     private Duration statePruningInterval = DEFAULT_STATE_PRUNING_INTERVAL;
     private long retainedSlots = DEFAULT_STORAGE_RETAINED_SLOTS;
     private int statePruningLimit = DEFAULT_STATE_PRUNING_LIMIT;
+    private boolean asyncFinalizationStorageEnabled = DEFAULT_ASYNC_FINALIZATION_STORAGE_ENABLED;
 
     private Builder() {}
 
@@ -326,6 +335,11 @@ public class StorageConfiguration {
       return this;
     }
 
+    public Builder asyncFinalizationStorageEnabled(final boolean asyncFinalizationStorageEnabled) {
+      this.asyncFinalizationStorageEnabled = asyncFinalizationStorageEnabled;
+      return this;
+    }
+
     public StorageConfiguration build() {
       determineDataStorageMode();
       validateStatePruningConfiguration();
@@ -345,6 +359,7 @@ public class StorageConfiguration {
           retainedSlots,
           statePruningInterval,
           statePruningLimit,
+          asyncFinalizationStorageEnabled,
           spec);
     }
 
@@ -29,6 +29,7 @@ import tech.pegasys.teku.ethereum.execution.types.Eth1Address;
 import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.networks.Eth2Network;
+import tech.pegasys.teku.storage.server.appendlog.AppendLogDatabaseFactory;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
 import tech.pegasys.teku.storage.server.leveldb.LevelDbDatabaseFactory;
@@ -159,6 +160,13 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
             dbVersion.getValue(),
             dbDirectory.getAbsolutePath());
         break;
+      case APPEND_LOG:
+        database = createAppendLogDatabase();
+        LOG.info(
+            "Created append-log Hot and Finalized database ({}) at {}",
+            dbVersion.getValue(),
+            dbDirectory.getAbsolutePath());
+        break;
       default:
         throw new UnsupportedOperationException("Unhandled database version " + dbVersion);
     }
@@ -297,6 +305,22 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     }
   }
 
+  private Database createAppendLogDatabase() {
+    try {
+      final KvStoreConfiguration dbConfiguration = initV6Configuration();
+
+      return AppendLogDatabaseFactory.createAppendLog(
+          metricsSystem,
+          dbConfiguration.withDatabaseDir(dbDirectory.toPath()),
+          stateStorageMode,
+          stateStorageFrequency,
+          storeNonCanonicalBlocks,
+          spec);
+    } catch (final IOException e) {
+      throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
+    }
+  }
+
   private KvStoreConfiguration initV6Configuration() throws IOException {
     final V6DatabaseMetadata metaData =
         V6DatabaseMetadata.init(getMetadataFile(), V6DatabaseMetadata.singleDBDefault());
@@ -0,0 +1,44 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.appendlog;
+
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAGE;
+
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.storage.server.Database;
+import tech.pegasys.teku.storage.server.StateStorageMode;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreDatabase;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
+
+public class AppendLogDatabaseFactory {
+
+  public static Database createAppendLog(
+      final MetricsSystem metricsSystem,
+      final KvStoreConfiguration configuration,
+      final StateStorageMode stateStorageMode,
+      final long stateStorageFrequency,
+      final boolean storeNonCanonicalBlocks,
+      final Spec spec) {
+    final V6SchemaCombinedSnapshot schema = V6SchemaCombinedSnapshot.createV6(spec);
+    final KvStoreAccessor db =
+        AppendLogInstanceFactory.create(
+            metricsSystem, STORAGE, configuration, schema.getAllColumns());
+
+    return KvStoreDatabase.createWithStateSnapshots(
+        db, schema, stateStorageMode, stateStorageFrequency, storeNonCanonicalBlocks, spec);
+  }
+}
@@ -0,0 +1,735 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.appendlog;
+
+import static tech.pegasys.teku.storage.server.appendlog.LogBatch.HEADER_SIZE;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.errorprone.annotations.MustBeClosed;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
+import tech.pegasys.teku.storage.server.DatabaseStorageException;
+import tech.pegasys.teku.storage.server.ShuttingDownException;
+import tech.pegasys.teku.storage.server.appendlog.LogBatch.Operation;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
+
+/**
+ * Implements {@link KvStoreAccessor} as an append-only log on disk with an in-memory index.
+ *
+ * <p>Each committed transaction is appended to the active log segment as a single checksummed
+ * record, after which the index is updated to point at the new values. Every column has its own
+ * index sorted by key bytes, giving the same iteration order as RocksDB and LevelDB, so point
+ * lookups and slot-ordered iteration never touch disk except to read the values themselves.
+ *
+ * <p>Transactions committed concurrently are grouped: whichever thread acquires the commit lock
+ * writes every queued transaction in a single append. Once enough of a sealed segment's values have
+ * been replaced, the values that are still live are copied to the active segment on a background
+ * thread and the segment is deleted. Unlike LSM compaction this never blocks writers for more than
+ * a single record.
+ *
+ * <p>Like the default write options of the other backends, commits are written to the OS but not
+ * synced to disk. Segments are synced when they are sealed and when the database is closed, and on
+ * startup any incomplete record at the end of a segment is discarded.
+ */
+public class AppendLogInstance implements KvStoreAccessor {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final Comparator<Bytes> KEY_COMPARATOR =
+      (a, b) -> Arrays.compareUnsigned(a.toArrayUnsafe(), b.toArrayUnsafe());
+
+  private final Path directory;
+  private final long maxSegmentSize;
+  private final double compactionGarbageRatio;
+  private final ExecutorService compactionExecutor;
+
+  private final Map<Bytes, NavigableMap<Bytes, ValueLocation>> columnIndexes =
+      new ConcurrentHashMap<>();
+  private final Map<Bytes, ValueLocation> variableIndex = new ConcurrentHashMap<>();
+  private final NavigableMap<Long, LogSegment> segments = new ConcurrentSkipListMap<>();
+  private volatile LogSegment activeSegment;
+
+  private final Queue<PendingCommit> pendingCommits = new ConcurrentLinkedQueue<>();
+  private final Object commitLock = new Object();
+  // Held for reading while reading values, and for writing while removing segments
+  private final ReadWriteLock segmentLock = new ReentrantReadWriteLock();
+  private final Set<AppendLogTransaction> openTransactions = new HashSet<>();
+  private final AtomicBoolean compactionScheduled = new AtomicBoolean(false);
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+
+  private final Counter openedTransactionsCounter;
+  private final Counter closedTransactionsCounter;
+  private final Counter groupCommitsCounter;
+  private final Counter compactedSegmentsCounter;
+
+  private AppendLogInstance(
+      final Path directory,
+      final MetricsSystem metricsSystem,
+      final MetricCategory metricCategory,
+      final long maxSegmentSize,
+      final double compactionGarbageRatio,
+      final ExecutorService compactionExecutor) {
+    this.directory = directory;
+    this.maxSegmentSize = maxSegmentSize;
+    this.compactionGarbageRatio = compactionGarbageRatio;
+    this.compactionExecutor = compactionExecutor;
+    openedTransactionsCounter =
+        metricsSystem.createCounter(
+            metricCategory, "opened_transactions_total", "Total number of opened transactions");
+    closedTransactionsCounter =
+        metricsSystem.createCounter(
+            metricCategory, "closed_transactions_total", "Total number of closed transactions");
+    groupCommitsCounter =
+        metricsSystem.createCounter(
+            metricCategory,
+            "append_log_group_commits_total",
+            "Total number of appends to the log, each holding one or more transactions");
+    compactedSegmentsCounter =
+        metricsSystem.createCounter(
+            metricCategory,
+            "append_log_compacted_segments_total",
+            "Total number of log segments removed by compaction");
+  }
+
+  public static AppendLogInstance open(
+      final Path directory,
+      final MetricsSystem metricsSystem,
+      final MetricCategory metricCategory,
+      final Collection<KvStoreColumn<?, ?>> columns,
+      final long maxSegmentSize,
+      final double compactionGarbageRatio,
+      final ExecutorService compactionExecutor)
+      throws IOException {
+    Files.createDirectories(directory);
+    final AppendLogInstance instance =
+        new AppendLogInstance(
+            directory,
+            metricsSystem,
+            metricCategory,
+            maxSegmentSize,
+            compactionGarbageRatio,
+            compactionExecutor);
+    columns.forEach(column -> instance.getColumnIndex(column.getId()));
+    instance.recover();
+    return instance;
+  }
+
+  @Override
+  public <T> Optional<T> get(final KvStoreVariable<T> variable) {
+    return getRaw(variable)
+        .map(value -> variable.getSerializer().deserialize(value.toArrayUnsafe()));
+  }
+
+  @Override
+  public Optional<Bytes> getRaw(final KvStoreVariable<?> variable) {
+    return readValue(() -> variableIndex.get(variable.getId()));
+  }
+
+  @Override
+  public <K, V> Optional<V> get(final KvStoreColumn<K, V> column, final K key) {
+    return getRaw(column, key)
+        .map(value -> column.getValueSerializer().deserialize(value.toArrayUnsafe()));
+  }
+
+  @Override
+  public long size(final KvStoreColumn<?, ?> column) {
+    assertOpen();
+    return getColumnIndex(column.getId()).size();
+  }
+
+  @Override
+  public <K, V> Map<K, V> getAll(final KvStoreColumn<K, V> column) {
+    final Map<K, V> values = new HashMap<>();
+    try (final Stream<ColumnEntry<K, V>> stream = stream(column)) {
+      stream.forEach(entry -> values.put(entry.getKey(), entry.getValue()));
+    }
+    return values;
+  }
+
+  @Override
+  public <K, V> Optional<ColumnEntry<K, V>> getFloorEntry(
+      final KvStoreColumn<K, V> column, final K key) {
+    assertOpen();
+    final NavigableMap<Bytes, ValueLocation> index = getColumnIndex(column.getId());
+    // Keys may be removed between finding and reading them, in which case try the next one
+    Bytes floorKey = index.floorKey(serializeKey(column, key));
+    while (floorKey != null) {
+      final Optional<ColumnEntry<K, V>> entry = readEntry(column, index, floorKey);
+      if (entry.isPresent()) {
+        return entry;
+      }
+      floorKey = index.lowerKey(floorKey);
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public <K, V> Optional<ColumnEntry<K, V>> getFirstEntry(final KvStoreColumn<K, V> column) {
+    assertOpen();
+    final NavigableMap<Bytes, ValueLocation> index = getColumnIndex(column.getId());
+    final Map.Entry<Bytes, ValueLocation> firstEntry = index.firstEntry();
+    Bytes firstKey = firstEntry == null ? null : firstEntry.getKey();
+    while (firstKey != null) {
+      final Optional<ColumnEntry<K, V>> entry = readEntry(column, index, firstKey);
+      if (entry.isPresent()) {
+        return entry;
+      }
+      firstKey = index.higherKey(firstKey);
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public <K, V> Optional<K> getLastKey(final KvStoreColumn<K, V> column) {
+    assertOpen();
+    return Optional.ofNullable(getColumnIndex(column.getId()).lastEntry())
+        .map(entry -> deserializeKey(column, entry.getKey()));
+  }
+
+  @Override
+  @MustBeClosed
+  public <K, V> Stream<ColumnEntry<K, V>> stream(final KvStoreColumn<K, V> column) {
+    assertOpen();
+    return streamEntries(column, getColumnIndex(column.getId()));
+  }
+
+  @Override
+  @MustBeClosed
+  public <K, V> Stream<K> streamKeys(final KvStoreColumn<K, V> column) {
+    assertOpen();
+    return getColumnIndex(column.getId()).keySet().stream()
+        .map(key -> deserializeKey(column, key));
+  }
+
+  @Override
+  @MustBeClosed
+  public Stream<ColumnEntry<Bytes, Bytes>> streamRaw(final KvStoreColumn<?, ?> column) {
+    assertOpen();
+    final NavigableMap<Bytes, ValueLocation> index = getColumnIndex(column.getId());
+    return index.keySet().stream()
+        .flatMap(
+            key ->
+                readValue(() -> index.get(key))
+                    .map(value -> ColumnEntry.create(key, value))
+                    .stream());
+  }
+
+  @Override
+  @MustBeClosed
+  public Stream<Bytes> streamKeysRaw(final KvStoreColumn<?, ?> column) {
+    assertOpen();
+    return getColumnIndex(column.getId()).keySet().stream();
+  }
+
+  @Override
+  public <K, V> Optional<Bytes> getRaw(final KvStoreColumn<K, V> column, final K key) {
+    final NavigableMap<Bytes, ValueLocation> index = getColumnIndex(column.getId());
+    final Bytes keyBytes = serializeKey(column, key);
+    return readValue(() -> index.get(keyBytes));
+  }
+
+  @Override
+  @MustBeClosed
+  public <K extends Comparable<K>, V> Stream<ColumnEntry<K, V>> stream(
+      final KvStoreColumn<K, V> column, final K from, final K to) {
+    assertOpen();
+    return streamEntries(column, subIndex(column, from, to));
+  }
+
+  @Override
+  @MustBeClosed
+  public <K extends Comparable<K>, V> Stream<K> streamKeys(
+      final KvStoreColumn<K, V> column, final K from, final K to) {
+    assertOpen();
+    return subIndex(column, from, to).keySet().stream().map(key -> deserializeKey(column, key));
+  }
+
+  @Override
+  @MustBeClosed
+  public synchronized KvStoreTransaction startTransaction() {
+    assertOpen();
+    openedTransactionsCounter.inc();
+    final AppendLogTransaction transaction = new AppendLogTransaction(this);
+    openTransactions.add(transaction);
+    return transaction;
+  }
+
+  synchronized void onTransactionClosed(final AppendLogTransaction transaction) {
+    if (openTransactions.remove(transaction)) {
+      closedTransactionsCounter.inc();
+    }
+  }
+
+  /**
+   * Appends the batch to the log, along with any batches from other threads waiting to commit, and
+   * updates the index once it has been written.
+   */
+  void commit(final LogBatch batch) {
+    assertOpen();
+    if (batch.isEmpty()) {
+      return;
+    }
+    final PendingCommit commit = new PendingCommit(batch);
+    pendingCommits.add(commit);
+    synchronized (commitLock) {
+      // Another thread may already have written this batch as part of its group
+      if (!commit.isDone()) {
+        writePendingCommits();
+      }
+    }
+    commit.throwIfFailed();
+    scheduleCompactionIfRequired();
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    compactionExecutor.shutdown();
+    if (!compactionExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+      LOG.warn("Append log compaction did not stop in time");
+    }
+    final List<AppendLogTransaction> openTransactionsSnapshot;
+    synchronized (this) {
+      openTransactionsSnapshot = new ArrayList<>(openTransactions);
+    }
+    openTransactionsSnapshot.forEach(AppendLogTransaction::close);
+    synchronized (commitLock) {
+      segmentLock.writeLock().lock();
+      try {
+        activeSegment.sync();
+        for (LogSegment segment : segments.values()) {
+          segment.close();
+        }
+      } finally {
+        segmentLock.writeLock().unlock();
+      }
+    }
+  }
+
+  void assertOpen() {
+    if (closed.get()) {
+      throw new ShuttingDownException();
+    }
+  }
+
+  @VisibleForTesting
+  int getSegmentCount() {
+    return segments.size();
+  }
+
+  @VisibleForTesting
+  long getUnsyncedBytes() {
+    return segments.values().stream().mapToLong(LogSegment::getUnsyncedSize).sum();
+  }
+
+  @VisibleForTesting
+  void compactSegments() {
+    Optional<LogSegment> segmentToCompact = findSegmentToCompact();
+    while (segmentToCompact.isPresent() && !closed.get()) {
+      try {
+        compact(segmentToCompact.get());
+      } catch (final IOException e) {
+        throw DatabaseStorageException.unrecoverable(
+            "Failed to compact segment " + segmentToCompact.get(), e);
+      }
+      segmentToCompact = findSegmentToCompact();
+    }
+  }
+
+  private void recover() throws IOException {
+    final List<Long> segmentIds;
+    try (final Stream<Path> files = Files.list(directory)) {
+      segmentIds = files.map(LogSegment::parseId).flatMap(Optional::stream).sorted().toList();
+    }
+    for (long segmentId : segmentIds) {
+      final LogSegment segment = LogSegment.open(directory, segmentId);
+      segments.put(segmentId, segment);
+      replay(segment);
+    }
+    if (segments.isEmpty()) {
+      segments.put(1L, LogSegment.open(directory, 1L));
+    }
+    activeSegment = segments.lastEntry().getValue();
+    LOG.debug(
+        "Loaded {} log segments from {}, active segment is {}",
+        segments.size(),
+        directory,
+        activeSegment);
+  }
+
+  private void replay(final LogSegment segment) throws IOException {
+    final long size = segment.getSize();
+    long offset = 0;
+    while (offset + HEADER_SIZE <= size) {
+      final Optional<StoredRecord> record = readRecord(segment, offset, size);
+      if (record.isEmpty()) {
+        break;
+      }
+      applyToIndex(segment, offset, record.get().operations());
+      offset += record.get().size();
+    }
+    if (offset < size) {
+      LOG.warn(
+          "Discarding {} bytes of incomplete data at the end of log segment {}",
+          size - offset,
+          segment);
+      segment.truncate(offset);
+    }
+  }
+
+  private Optional<StoredRecord> readRecord(
+      final LogSegment segment, final long offset, final long segmentSize) throws IOException {
+    final ByteBuffer header = ByteBuffer.wrap(segment.read(offset, HEADER_SIZE));
+    final int payloadSize = LogBatch.readPayloadSize(header);
+    if (payloadSize < 0 || offset + HEADER_SIZE + payloadSize > segmentSize) {
+      return Optional.empty();
+    }
+    return LogBatch.decode(header, segment.read(offset + HEADER_SIZE, payloadSize))
+        .map(operations -> new StoredRecord(operations, HEADER_SIZE + payloadSize));
+  }
+
+  // Must be called while holding commitLock
+  private void writePendingCommits() {
+    final List<PendingCommit> group = new ArrayList<>();
+    PendingCommit next;
+    while ((next = pendingCommits.poll()) != null) {
+      group.add(next);
+    }
+    try {
+      write(group.stream().map(PendingCommit::getBatch).toList());
+      group.forEach(PendingCommit::complete);
+    } catch (final Throwable t) {
+      group.forEach(commit -> commit.fail(t));
+    }
+  }
+
+  // Must be called while holding commitLock
+  private void write(final List<LogBatch> batches) throws IOException {
+    assertOpen();
+    final List<ByteBuffer> records = new ArrayList<>(batches.size());
+    final List<List<Operation>> recordOperations = new ArrayList<>(batches.size());
+    long totalSize = 0;
+    for (LogBatch batch : batches) {
+      final List<Operation> operations = new ArrayList<>();
+      final ByteBuffer record = batch.encode(operations);
+      records.add(record);
+      recordOperations.add(operations);
+      totalSize += record.remaining();
+    }
+    if (totalSize > Integer.MAX_VALUE) {
+      throw DatabaseStorageException.unrecoverable("Commit too large: " + totalSize + " bytes");
+    }
+    rollSegmentIfRequired(totalSize);
+
+    final ByteBuffer buffer;
+    if (records.size() == 1) {
+      buffer = records.get(0);
+    } else {
+      buffer = ByteBuffer.allocate((int) totalSize);
+      records.forEach(buffer::put);
+      buffer.flip();
+    }
+    final LogSegment segment = activeSegment;
+    long recordOffset = segment.append(buffer);
+    for (int i = 0; i < records.size(); i++) {
+      applyToIndex(segment, recordOffset, recordOperations.get(i));
+      recordOffset += records.get(i).limit();
+    }
+    groupCommitsCounter.inc();
+  }
+
+  private void rollSegmentIfRequired(final long appendSize) throws IOException {
+    final LogSegment current = activeSegment;
+    if (current.getSize() == 0 || current.getSize() + appendSize <= maxSegmentSize) {
+      return;
+    }
+    current.sync();
+    final LogSegment newSegment = LogSegment.open(directory, current.getId() + 1);
+    segments.put(newSegment.getId(), newSegment);
+    activeSegment = newSegment;
+    LOG.debug("Sealed log segment {}, now writing to {}", current, newSegment);
+  }
+
+  private void applyToIndex(
+      final LogSegment segment, final long recordOffset, final List<Operation> operations) {
+    for (Operation operation : operations) {
+      ValueLocation newLocation = null;
+      if (operation.type().isPut()) {
+        newLocation =
+            new ValueLocation(
+                segment, recordOffset + operation.valueOffset(), operation.value().size());
+        segment.onValueWritten(newLocation.length());
+      } else {
+        segment.onDeleteWritten(
+            operation.id().size()
+                + (operation.type().isColumnOperation() ? operation.key().size() : 0));
+      }
+      final ValueLocation previousLocation;
+      if (operation.type().isColumnOperation()) {
+        final NavigableMap<Bytes, ValueLocation> index = getColumnIndex(operation.id());
+        previousLocation =
+            newLocation == null
+                ? index.remove(operation.key())
+                : index.put(operation.key(), newLocation);
+      } else {
+        previousLocation =
+            newLocation == null
+                ? variableIndex.remove(operation.id())
+                : variableIndex.put(operation.id(), newLocation);
+      }
+      if (previousLocation != null) {
+        previousLocation.segment().onValueReplaced(previousLocation.length());
+      }
+    }
+  }
+
+  private void scheduleCompactionIfRequired() {
+    if (closed.get()
+        || findSegmentToCompact().isEmpty()
+        || !compactionScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    compactionExecutor.execute(
+        () -> {
+          try {
+            compactSegments();
+          } catch (final ShuttingDownException e) {
+            LOG.debug("Stopped append log compaction due to shutdown");
+          } catch (final Throwable t) {
+            LOG.error("Append log compaction failed", t);
+          } finally {
+            compactionScheduled.set(false);
+          }
+        });
+  }
+
+  private Optional<LogSegment> findSegmentToCompact() {
+    final LogSegment active = activeSegment;
+    final long oldestSegmentId = segments.firstKey();
+    return segments.values().stream()
+        .filter(segment -> segment != active)
+        .filter(
+            segment ->
+                segment.getGarbageRatio(segment.getId() == oldestSegmentId)
+                    >= compactionGarbageRatio)
+        .findFirst();
+  }
+
+  /**
+   * Copies the values in the segment that are still live to the active segment, then deletes it.
+   *
+   * <p>Deletes are carried over too unless this is the oldest segment, as an older segment may
+   * still hold a value they removed. Each record is filtered and rewritten while holding the commit
+   * lock so that a concurrent commit can't be overwritten by a stale copy. The copies are synced
+   * before the segment is deleted so they can't be lost with it.
+   */
+  private void compact(final LogSegment segment) throws IOException {
+    final boolean isOldestSegment = segments.firstKey() == segment.getId();
+    final long size = segment.getSize();
+    long offset = 0;
+    while (offset + HEADER_SIZE <= size) {
+      final StoredRecord record =
+          readRecord(segment, offset, size)
+              .orElseThrow(() -> new IOException("Corrupt record in log segment " + segment));
+      final LogBatch liveOperations = new LogBatch();
+      synchronized (commitLock) {
+        for (Operation operation : record.operations()) {
+          final long valueOffset = offset + operation.valueOffset();
+          switch (operation.type()) {
+            case PUT_COLUMN -> {
+              if (isCurrent(
+                  getColumnIndex(operation.id()).get(operation.key()), segment, valueOffset)) {
+                liveOperations.putColumn(operation.id(), operation.key(), operation.value());
+              }
+            }
+            case PUT_VARIABLE -> {
+              if (isCurrent(variableIndex.get(operation.id()), segment, valueOffset)) {
+                liveOperations.putVariable(operation.id(), operation.value());
+              }
+            }
+            case DELETE_COLUMN -> {
+              if (!isOldestSegment
+                  && !getColumnIndex(operation.id()).containsKey(operation.key())) {
+                liveOperations.deleteColumn(operation.id(), operation.key());
+              }
+            }
+            case DELETE_VARIABLE -> {
+              if (!isOldestSegment && !variableIndex.containsKey(operation.id())) {
+                liveOperations.deleteVariable(operation.id());
+              }
+            }
+          }
+        }
+        if (!liveOperations.isEmpty()) {
+          write(List.of(liveOperations));
+        }
+      }
+      offset += record.size();
+    }
+
+    synchronized (commitLock) {
+      activeSegment.sync();
+      segmentLock.writeLock().lock();
+      try {
+        segments.remove(segment.getId());
+        segment.delete();
+      } finally {
+        segmentLock.writeLock().unlock();
+      }
+    }
+    compactedSegmentsCounter.inc();
+    LOG.debug("Compacted log segment {}", segment);
+  }
+
+  private static boolean isCurrent(
+      final ValueLocation location, final LogSegment segment, final long valueOffset) {
+    return location != null && location.segment() == segment && location.offset() == valueOffset;
+  }
+
+  private NavigableMap<Bytes, ValueLocation> getColumnIndex(final Bytes columnId) {
+    return columnIndexes.computeIfAbsent(
+        columnId, __ -> new ConcurrentSkipListMap<>(KEY_COMPARATOR));
+  }
+
+  private <K, V> NavigableMap<Bytes, ValueLocation> subIndex(
+      final KvStoreColumn<K, V> column, final K from, final K to) {
+    final Bytes fromBytes = serializeKey(column, from);
+    final Bytes toBytes = serializeKey(column, to);
+    if (KEY_COMPARATOR.compare(fromBytes, toBytes) > 0) {
+      return new ConcurrentSkipListMap<>(KEY_COMPARATOR);
+    }
+    return getColumnIndex(column.getId()).subMap(fromBytes, true, toBytes, true);
+  }
+
+  private <K, V> Stream<ColumnEntry<K, V>> streamEntries(
+      final KvStoreColumn<K, V> column, final NavigableMap<Bytes, ValueLocation> index) {
+    return index.keySet().stream().flatMap(key -> readEntry(column, index, key).stream());
+  }
+
+  private <K, V> Optional<ColumnEntry<K, V>> readEntry(
+      final KvStoreColumn<K, V> column,
+      final NavigableMap<Bytes, ValueLocation> index,
+      final Bytes key) {
+    return readValue(() -> index.get(key))
+        .map(
+            value ->
+                ColumnEntry.create(
+                    deserializeKey(column, key),
+                    column.getValueSerializer().deserialize(value.toArrayUnsafe())));
+  }
+
+  private Optional<Bytes> readValue(final Supplier<ValueLocation> locationSupplier) {
+    assertOpen();
+    segmentLock.readLock().lock();
+    try {
+      // Look up the location while holding the lock so its segment can't be removed before reading
+      final ValueLocation location = locationSupplier.get();
+      if (location == null) {
+        return Optional.empty();
+      }
+      return Optional.of(
+          Bytes.wrap(location.segment().read(location.offset(), location.length())));
+    } catch (final IOException e) {
+      assertOpen();
+      throw DatabaseStorageException.unrecoverable("Failed to read from append log", e);
+    } finally {
+      segmentLock.readLock().unlock();
+    }
+  }
+
+  private static <K> Bytes serializeKey(final KvStoreColumn<K, ?> column, final K key) {
+    return Bytes.wrap(column.getKeySerializer().serialize(key));
+  }
+
+  private static <K> K deserializeKey(final KvStoreColumn<K, ?> column, final Bytes key) {
+    return column.getKeySerializer().deserialize(key.toArrayUnsafe());
+  }
+
+  private record ValueLocation(LogSegment segment, long offset, int length) {}
+
+  private record StoredRecord(List<Operation> operations, long size) {}
+
+  private static class PendingCommit {
+    private final LogBatch batch;
+    private volatile boolean done = false;
+    private volatile Throwable error;
+
+    private PendingCommit(final LogBatch batch) {
+      this.batch = batch;
+    }
+
+    LogBatch getBatch() {
+      return batch;
+    }
+
+    boolean isDone() {
+      return done;
+    }
+
+    void complete() {
+      done = true;
+    }
+
+    void fail(final Throwable error) {
+      this.error = error;
+      done = true;
+    }
+
+    void throwIfFailed() {
+      if (error == null) {
+        return;
+      }
+      if (error instanceof ShuttingDownException e) {
+        throw e;
+      }
+      if (error instanceof DatabaseStorageException e) {
+        throw e;
+      }
+      throw DatabaseStorageException.unrecoverable("Failed to commit to append log", error);
+    }
+  }
+}
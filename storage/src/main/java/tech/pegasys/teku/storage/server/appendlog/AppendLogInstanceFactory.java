@@ -0,0 +1,63 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.appendlog;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
+import tech.pegasys.teku.storage.server.DatabaseStorageException;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+
+public class AppendLogInstanceFactory {
+  static final long MAX_SEGMENT_SIZE = 256L << 20; // 256MB
+  static final double COMPACTION_GARBAGE_RATIO = 0.5;
+
+  public static KvStoreAccessor create(
+      final MetricsSystem metricsSystem,
+      final MetricCategory metricCategory,
+      final KvStoreConfiguration configuration,
+      final Collection<KvStoreColumn<?, ?>> columns)
+      throws DatabaseStorageException {
+    checkArgument(
+        columns.stream().map(KvStoreColumn::getId).distinct().count() == columns.size(),
+        "Column IDs are not distinct");
+    final ExecutorService compactionExecutor =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("append-log-compaction-%d")
+                .setDaemon(true)
+                .build());
+    try {
+      return AppendLogInstance.open(
+          configuration.getDatabaseDir(),
+          metricsSystem,
+          metricCategory,
+          columns,
+          MAX_SEGMENT_SIZE,
+          COMPACTION_GARBAGE_RATIO,
+          compactionExecutor);
+    } catch (final IOException e) {
+      compactionExecutor.shutdown();
+      throw DatabaseStorageException.unrecoverable("Failed to open database", e);
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.appendlog;
+
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.storage.server.ShuttingDownException;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
+
+public class AppendLogTransaction implements KvStoreTransaction {
+
+  private boolean closed = false;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final AppendLogInstance dbInstance;
+  private final LogBatch batch = new LogBatch();
+
+  AppendLogTransaction(final AppendLogInstance dbInstance) {
+    this.dbInstance = dbInstance;
+  }
+
+  @Override
+  public <T> void put(final KvStoreVariable<T> variable, final T value) {
+    putRaw(variable, Bytes.wrap(variable.getSerializer().serialize(value)));
+  }
+
+  @Override
+  public <T> void putRaw(final KvStoreVariable<T> variable, final Bytes value) {
+    applyUpdate(() -> batch.putVariable(variable.getId(), value));
+  }
+
+  @Override
+  public <K, V> void put(final KvStoreColumn<K, V> column, final K key, final V value) {
+    putRaw(
+        column,
+        Bytes.wrap(column.getKeySerializer().serialize(key)),
+        Bytes.wrap(column.getValueSerializer().serialize(value)));
+  }
+
+  @Override
+  public <K, V> void putRaw(final KvStoreColumn<K, V> column, final Bytes key, final Bytes value) {
+    applyUpdate(() -> batch.putColumn(column.getId(), key, value));
+  }
+
+  @Override
+  public <K, V> void put(final KvStoreColumn<K, V> column, final Map<K, V> data) {
+    data.forEach((key, value) -> put(column, key, value));
+  }
+
+  @Override
+  public <K, V> void delete(final KvStoreColumn<K, V> column, final K key) {
+    applyUpdate(
+        () ->
+            batch.deleteColumn(column.getId(), Bytes.wrap(column.getKeySerializer().serialize(key))));
+  }
+
+  @Override
+  public <T> void delete(final KvStoreVariable<T> variable) {
+    applyUpdate(() -> batch.deleteVariable(variable.getId()));
+  }
+
+  @Override
+  public void commit() {
+    applyUpdate(
+        () -> {
+          try {
+            dbInstance.commit(batch);
+          } finally {
+            close();
+          }
+        });
+  }
+
+  @Override
+  public void rollback() {
+    close();
+  }
+
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      if (closed) {
+        // Already closed
+        return;
+      }
+      closed = true;
+      batch.clear();
+      dbInstance.onTransactionClosed(this);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void applyUpdate(final Runnable operation) {
+    lock.lock();
+    try {
+      assertOpen();
+      operation.run();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void assertOpen() {
+    if (closed) {
+      throw new ShuttingDownException();
+    }
+    dbInstance.assertOpen();
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.appendlog;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * A set of updates that is written to the log as a single record.
+ *
+ * <p>A record is a header holding the payload length and its CRC32 checksum, followed by the
+ * payload. The payload is the sequence of operations, each encoded as a type byte followed by the
+ * length prefixed column or variable id, key (column operations only) and value (puts only). A
+ * record is only applied if its checksum matches, so a transaction is never partially applied after
+ * a crash mid-write.
+ */
+class LogBatch {
+  static final int HEADER_SIZE = Integer.BYTES * 2;
+
+  enum OperationType {
+    PUT_COLUMN(true, true),
+    DELETE_COLUMN(true, false),
+    PUT_VARIABLE(false, true),
+    DELETE_VARIABLE(false, false);
+
+    private final boolean hasKey;
+    private final boolean hasValue;
+
+    OperationType(final boolean hasKey, final boolean hasValue) {
+      this.hasKey = hasKey;
+      this.hasValue = hasValue;
+    }
+
+    boolean isColumnOperation() {
+      return hasKey;
+    }
+
+    boolean isPut() {
+      return hasValue;
+    }
+  }
+
+  /**
+   * A single update. The value offset is relative to the start of the record and is only set for
+   * puts that have been encoded or decoded.
+   */
+  record Operation(OperationType type, Bytes id, Bytes key, Bytes value, int valueOffset) {}
+
+  private final List<Operation> operations = new ArrayList<>();
+
+  void putColumn(final Bytes columnId, final Bytes key, final Bytes value) {
+    operations.add(new Operation(OperationType.PUT_COLUMN, columnId, key, value, -1));
+  }
+
+  void deleteColumn(final Bytes columnId, final Bytes key) {
+    operations.add(new Operation(OperationType.DELETE_COLUMN, columnId, key, Bytes.EMPTY, -1));
+  }
+
+  void putVariable(final Bytes variableId, final Bytes value) {
+    operations.add(new Operation(OperationType.PUT_VARIABLE, variableId, Bytes.EMPTY, value, -1));
+  }
+
+  void deleteVariable(final Bytes variableId) {
+    operations.add(
+        new Operation(OperationType.DELETE_VARIABLE, variableId, Bytes.EMPTY, Bytes.EMPTY, -1));
+  }
+
+  boolean isEmpty() {
+    return operations.isEmpty();
+  }
+
+  void clear() {
+    operations.clear();
+  }
+
+  /**
+   * Encodes the batch as a record.
+   *
+   * @param output receives the operations with their value offsets set
+   * @return the encoded record, ready to be appended to a segment
+   */
+  ByteBuffer encode(final List<Operation> output) {
+    int payloadSize = 0;
+    for (Operation operation : operations) {
+      payloadSize += 1 + Integer.BYTES + operation.id().size();
+      if (operation.type().hasKey) {
+        payloadSize += Integer.BYTES + operation.key().size();
+      }
+      if (operation.type().hasValue) {
+        payloadSize += Integer.BYTES + operation.value().size();
+      }
+    }
+    final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payloadSize);
+    buffer.position(HEADER_SIZE);
+    for (Operation operation : operations) {
+      buffer.put((byte) operation.type().ordinal());
+      putLengthPrefixed(buffer, operation.id());
+      if (operation.type().hasKey) {
+        putLengthPrefixed(buffer, operation.key());
+      }
+      int valueOffset = -1;
+      if (operation.type().hasValue) {
+        buffer.putInt(operation.value().size());
+        valueOffset = buffer.position();
+        buffer.put(operation.value().toArrayUnsafe());
+      }
+      output.add(
+          new Operation(
+              operation.type(), operation.id(), operation.key(), operation.value(), valueOffset));
+    }
+    final CRC32 crc = new CRC32();
+    crc.update(buffer.array(), HEADER_SIZE, payloadSize);
+    buffer.putInt(0, payloadSize);
+    buffer.putInt(Integer.BYTES, (int) crc.getValue());
+    buffer.flip();
+    return buffer;
+  }
+
+  /** Returns the payload length from a record header. */
+  static int readPayloadSize(final ByteBuffer header) {
+    return header.getInt(0);
+  }
+
+  /**
+   * Decodes the payload of a record.
+   *
+   * @param header the record header
+   * @param payload the record payload
+   * @return the operations in the record, or empty if the checksum doesn't match or the payload is
+   *     malformed
+   */
+  static Optional<List<Operation>> decode(final ByteBuffer header, final byte[] payload) {
+    final CRC32 crc = new CRC32();
+    crc.update(payload);
+    if ((int) crc.getValue() != header.getInt(Integer.BYTES)) {
+      return Optional.empty();
+    }
+    final OperationType[] types = OperationType.values();
+    final ByteBuffer buffer = ByteBuffer.wrap(payload);
+    final List<Operation> operations = new ArrayList<>();
+    try {
+      while (buffer.hasRemaining()) {
+        final int typeIndex = buffer.get();
+        if (typeIndex < 0 || typeIndex >= types.length) {
+          return Optional.empty();
+        }
+        final OperationType type = types[typeIndex];
+        final Bytes id = getLengthPrefixed(buffer);
+        final Bytes key = type.hasKey ? getLengthPrefixed(buffer) : Bytes.EMPTY;
+        Bytes value = Bytes.EMPTY;
+        int valueOffset = -1;
+        if (type.hasValue) {
+          final int length = getLength(buffer);
+          valueOffset = HEADER_SIZE + buffer.position();
+          value = Bytes.wrap(payload, buffer.position(), length);
+          buffer.position(buffer.position() + length);
+        }
+        operations.add(new Operation(type, id, key, value, valueOffset));
+      }
+    } catch (final BufferUnderflowException | IllegalArgumentException e) {
+      return Optional.empty();
+    }
+    return Optional.of(operations);
+  }
+
+  private static void putLengthPrefixed(final ByteBuffer buffer, final Bytes data) {
+    buffer.putInt(data.size());
+    buffer.put(data.toArrayUnsafe());
+  }
+
+  private static Bytes getLengthPrefixed(final ByteBuffer buffer) {
+    final int length = getLength(buffer);
+    final byte[] data = new byte[length];
+    buffer.get(data);
+    return Bytes.wrap(data);
+  }
+
+  private static int getLength(final ByteBuffer buffer) {
+    final int length = buffer.getInt();
+    if (length < 0 || length > buffer.remaining()) {
+      throw new IllegalArgumentException("Invalid length " + length);
+    }
+    return length;
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.appendlog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A single file of the append-only log. Only the most recent segment is appended to, all others
+ * are immutable until they are removed by compaction.
+ */
+class LogSegment implements AutoCloseable {
+  private static final Pattern FILE_NAME_PATTERN = Pattern.compile("segment-(\\d{10})\\.log");
+
+  private final long id;
+  private final Path path;
+  private final FileChannel channel;
+  private long size;
+  private volatile long syncedSize;
+  private final AtomicLong writtenValueBytes = new AtomicLong();
+  private final AtomicLong liveValueBytes = new AtomicLong();
+  private final AtomicLong deleteBytes = new AtomicLong();
+
+  private LogSegment(final long id, final Path path, final FileChannel channel, final long size) {
+    this.id = id;
+    this.path = path;
+    this.channel = channel;
+    this.size = size;
+    this.syncedSize = size;
+  }
+
+  static LogSegment open(final Path directory, final long id) throws IOException {
+    final Path path = directory.resolve(String.format("segment-%010d.log", id));
+    final FileChannel channel =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    return new LogSegment(id, path, channel, channel.size());
+  }
+
+  static Optional<Long> parseId(final Path path) {
+    final Matcher matcher = FILE_NAME_PATTERN.matcher(path.getFileName().toString());
+    return matcher.matches() ? Optional.of(Long.parseLong(matcher.group(1))) : Optional.empty();
+  }
+
+  long getId() {
+    return id;
+  }
+
+  synchronized long getSize() {
+    return size;
+  }
+
+  /** Appends the buffer to the end of the segment and returns the offset it was written at. */
+  synchronized long append(final ByteBuffer buffer) throws IOException {
+    final long offset = size;
+    long position = offset;
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+    size = position;
+    return offset;
+  }
+
+  byte[] read(final long offset, final int length) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(length);
+    long position = offset;
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new IOException("Unexpected end of segment " + path);
+      }
+      position += read;
+    }
+    return buffer.array();
+  }
+
+  /** Discards any data after the given offset, used to drop a partially written tail. */
+  synchronized void truncate(final long newSize) throws IOException {
+    channel.truncate(newSize);
+    size = newSize;
+  }
+
+  void sync() throws IOException {
+    final long sizeToSync = getSize();
+    channel.force(false);
+    syncedSize = sizeToSync;
+  }
+
+  /** Returns the number of bytes appended to the segment that may not be synced to disk yet. */
+  long getUnsyncedSize() {
+    return getSize() - syncedSize;
+  }
+
+  void onValueWritten(final int length) {
+    writtenValueBytes.addAndGet(length);
+    liveValueBytes.addAndGet(length);
+  }
+
+  void onValueReplaced(final int length) {
+    liveValueBytes.addAndGet(-length);
+  }
+
+  void onDeleteWritten(final int length) {
+    deleteBytes.addAndGet(length);
+  }
+
+  /**
+   * Returns the fraction of the values and deletes written to this segment that compaction would
+   * discard. Values are discarded once replaced, but deletes are only discarded from the oldest
+   * segment as an older segment may otherwise still hold a value they removed.
+   */
+  double getGarbageRatio(final boolean isOldestSegment) {
+    final long deletes = deleteBytes.get();
+    final long written = writtenValueBytes.get() + deletes;
+    if (written == 0) {
+      return 0;
+    }
+    final long live = liveValueBytes.get() + (isOldestSegment ? 0 : deletes);
+    return 1 - ((double) live / written);
+  }
+
+  long getLiveValueBytes() {
+    return liveValueBytes.get();
+  }
+
+  void delete() throws IOException {
+    close();
+    Files.deleteIfExists(path);
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  @Override
+  public String toString() {
+    return path.toString();
+  }
+}
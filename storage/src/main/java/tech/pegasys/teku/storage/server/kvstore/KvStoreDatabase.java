@@ -29,8 +29,12 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -45,6 +49,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -61,6 +66,8 @@ import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
 import tech.pegasys.teku.spec.datastructures.execution.SlotAndExecutionPayloadSummary;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.hashtree.HashTree;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -73,6 +80,7 @@ import tech.pegasys.teku.storage.api.WeakSubjectivityState;
 import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
 import tech.pegasys.teku.storage.archive.DataArchiveWriter;
 import tech.pegasys.teku.storage.server.Database;
+import tech.pegasys.teku.storage.server.PipelinedUpdate;
 import tech.pegasys.teku.storage.server.StateStorageMode;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.CombinedKvStoreDao;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao;
@@ -101,6 +109,17 @@ public class KvStoreDatabase implements Database {
   protected final boolean storeNonCanonicalBlocks;
   @VisibleForTesting final KvStoreCombinedDao dao;
   private final StateStorageMode stateStorageMode;
+  private final AtomicInteger pendingFinalizedDataMigrations = new AtomicInteger();
+  private final AtomicBoolean finalizedDataMigrationFailed = new AtomicBoolean();
+  private SafeFuture<Void> lastFinalizedDataMigration = SafeFuture.COMPLETE;
+
+  /**
+   * Roots of finalized blocks, keyed by slot, that are waiting to be migrated to finalized storage.
+   * Finalized lookups by slot check these first so the new finalized chain is visible as soon as
+   * the finalized checkpoint moves.
+   */
+  private final NavigableMap<UInt64, Bytes32> pendingFinalizedBlockRoots =
+      new ConcurrentSkipListMap<>();
 
   KvStoreDatabase(
       final KvStoreCombinedDao dao,
@@ -191,7 +210,11 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public Optional<UInt64> getSlotForFinalizedBlockRoot(final Bytes32 blockRoot) {
-    return dao.getSlotForFinalizedBlockRoot(blockRoot);
+    return pendingFinalizedBlockRoots.entrySet().stream()
+        .filter(entry -> entry.getValue().equals(blockRoot))
+        .map(Map.Entry::getKey)
+        .findFirst()
+        .or(() -> dao.getSlotForFinalizedBlockRoot(blockRoot));
   }
 
   @Override
@@ -201,7 +224,9 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public Optional<SignedBeaconBlock> getFinalizedBlockAtSlot(final UInt64 slot) {
-    return dao.getFinalizedBlockAtSlot(slot);
+    return Optional.ofNullable(pendingFinalizedBlockRoots.get(slot))
+        .flatMap(this::getPendingFinalizedBlock)
+        .or(() -> dao.getFinalizedBlockAtSlot(slot));
   }
 
   @Override
@@ -223,12 +248,15 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public Optional<Bytes32> getFinalizedBlockRootBySlot(final UInt64 slot) {
-    return dao.getFinalizedBlockAtSlot(slot).map(SignedBeaconBlock::getRoot);
+    return Optional.ofNullable(pendingFinalizedBlockRoots.get(slot))
+        .or(() -> dao.getFinalizedBlockAtSlot(slot).map(SignedBeaconBlock::getRoot));
   }
 
   @Override
   public Optional<SignedBeaconBlock> getLatestFinalizedBlockAtSlot(final UInt64 slot) {
-    return dao.getLatestFinalizedBlockAtSlot(slot);
+    return Optional.ofNullable(pendingFinalizedBlockRoots.floorEntry(slot))
+        .flatMap(entry -> getPendingFinalizedBlock(entry.getValue()))
+        .or(() -> dao.getLatestFinalizedBlockAtSlot(slot));
   }
 
   @Override
@@ -259,7 +287,27 @@ public class KvStoreDatabase implements Database {
   @MustBeClosed
   public Stream<SignedBeaconBlock> streamFinalizedBlocks(
       final UInt64 startSlot, final UInt64 endSlot) {
-    return dao.streamFinalizedBlocks(startSlot, endSlot);
+    final Optional<UInt64> firstPendingSlot =
+        Optional.ofNullable(pendingFinalizedBlockRoots.ceilingKey(startSlot))
+            .filter(slot -> slot.isLessThanOrEqualTo(endSlot));
+    if (firstPendingSlot.isEmpty()) {
+      return dao.streamFinalizedBlocks(startSlot, endSlot);
+    }
+    // Pending blocks may already be partially migrated so only read finalized storage below them
+    final List<Bytes32> pendingRoots =
+        List.copyOf(pendingFinalizedBlockRoots.subMap(startSlot, true, endSlot, true).values());
+    final Stream<SignedBeaconBlock> storedBlocks =
+        firstPendingSlot.get().isGreaterThan(startSlot)
+            ? dao.streamFinalizedBlocks(startSlot, firstPendingSlot.get().minus(1))
+            : Stream.empty();
+    return Stream.concat(
+        storedBlocks,
+        pendingRoots.stream().flatMap(root -> getPendingFinalizedBlock(root).stream()));
+  }
+
+  private Optional<SignedBeaconBlock> getPendingFinalizedBlock(final Bytes32 root) {
+    // The block moves to finalized storage if the migration completes while it is being read
+    return dao.getHotBlock(root).or(() -> dao.getFinalizedBlock(root));
   }
 
   protected Map<Bytes32, StoredBlockMetadata> buildHotBlockMetadata() {
@@ -646,6 +694,33 @@ public class KvStoreDatabase implements Database {
     return doUpdate(event);
   }
 
+  @Override
+  public PipelinedUpdate updatePipelined(final StorageUpdate event) {
+    if (event.isEmpty()) {
+      return PipelinedUpdate.completed(UpdateResult.EMPTY);
+    }
+    if (event.getFinalizedCheckpoint().isEmpty()) {
+      return PipelinedUpdate.completed(doUpdate(event));
+    }
+    if (!finalizedDataMigrationFailed.get()
+        && !event.getFinalizedChildToParentMap().isEmpty()
+        && areBlocksInHotStorage(event.getFinalizedChildToParentMap().keySet())) {
+      return doPipelinedUpdate(event);
+    }
+    // Blocks that were finalized as soon as they were imported are only held in memory so have to
+    // be migrated before the update is acknowledged. Earlier migrations must finish first so the
+    // finalized chain in storage never has gaps.
+    lastFinalizedDataMigration.exceptionally(__ -> null).join();
+    if (finalizedDataMigrationFailed.get()) {
+      // Migrations queued after a failed one are never run, so complete them all from hot storage
+      // and stop pipelining updates
+      completeInterruptedFinalizedDataMigration();
+      pendingFinalizedDataMigrations.set(0);
+      pendingFinalizedBlockRoots.clear();
+    }
+    return PipelinedUpdate.completed(doUpdate(event));
+  }
+
   public void ingestDatabase(
       final KvStoreDatabase kvStoreDatabase, final int batchSize, final Consumer<String> logger) {
     dao.ingest(kvStoreDatabase.dao, batchSize, logger);
@@ -730,6 +805,7 @@ public class KvStoreDatabase implements Database {
       return Optional.empty();
     }
     final UInt64 genesisTime = maybeGenesisTime.get();
+    completeInterruptedFinalizedDataMigration();
     final Optional<Checkpoint> maybeAnchor = dao.getAnchor();
     final Checkpoint justifiedCheckpoint = dao.getJustifiedCheckpoint().orElseThrow();
     final Checkpoint finalizedCheckpoint = dao.getFinalizedCheckpoint().orElseThrow();
@@ -1076,6 +1152,40 @@ public class KvStoreDatabase implements Database {
     }
   }
 
+  @Override
+  public List<LightClientUpdate> getLightClientUpdates(
+      final UInt64 startPeriod, final UInt64 endPeriod) {
+    try (final Stream<LightClientUpdate> updates =
+        dao.streamLightClientUpdates(startPeriod, endPeriod)) {
+      return updates.toList();
+    }
+  }
+
+  @Override
+  public void setLightClientUpdate(final UInt64 period, final LightClientUpdate update) {
+    try (final HotUpdater updater = hotUpdater()) {
+      updater.setLightClientUpdate(period, update);
+      updater.commit();
+    }
+  }
+
+  @Override
+  public Optional<LightClientBootstrap> getLightClientBootstrap(final Bytes32 blockRoot) {
+    return dao.getLightClientBootstrap(blockRoot);
+  }
+
+  @Override
+  public void addLightClientBootstrap(
+      final Bytes32 blockRoot,
+      final LightClientBootstrap bootstrap,
+      final Optional<Bytes32> prunedBlockRoot) {
+    try (final HotUpdater updater = hotUpdater()) {
+      prunedBlockRoot.ifPresent(updater::deleteLightClientBootstrap);
+      updater.addLightClientBootstrap(blockRoot, bootstrap);
+      updater.commit();
+    }
+  }
+
   @Override
   public void close() throws Exception {
     dao.close();
@@ -1104,6 +1214,86 @@ public class KvStoreDatabase implements Database {
     }
     long finalizedDataUpdatedTime = System.currentTimeMillis();
 
+    final long latestFinalizedStateUpdateTime = updateHotData(update, Optional.empty());
+
+    logUpdateTimings(
+        "KvStoreDatabase::doUpdate",
+        startTime,
+        finalizedDataUpdatedTime,
+        latestFinalizedStateUpdateTime);
+    LOG.trace("Update complete");
+    return new UpdateResult(finalizedOptimisticExecutionPayload);
+  }
+
+  private PipelinedUpdate doPipelinedUpdate(final StorageUpdate update) {
+    final long startTime = System.currentTimeMillis();
+    // Capture the previously finalized block before the hot update moves the finalized checkpoint
+    final Checkpoint migrationBase = dao.getFinalizedCheckpoint().orElseThrow();
+    final BeaconBlockSummary baseBlock = getLatestFinalizedBlockOrSummary();
+    final Optional<SlotAndExecutionPayloadSummary> finalizedOptimisticExecutionPayload =
+        updateFinalizedOptimisticTransitionBlock(
+            update.isFinalizedOptimisticTransitionBlockRootSet(),
+            update.getOptimisticTransitionBlockRoot());
+
+    if (update.isBlobSidecarsEnabled()) {
+      updateBlobSidecarData(
+          update.getEarliestBlobSidecarSlot(),
+          update.getBlobSidecars().values().stream().flatMap(Collection::stream));
+    }
+    final long finalizedDataUpdatedTime = System.currentTimeMillis();
+
+    final Map<UInt64, Bytes32> migratingBlockRoots = getFinalizedBlockRootsBySlot(update);
+    pendingFinalizedBlockRoots.putAll(migratingBlockRoots);
+    final long latestFinalizedStateUpdateTime = updateHotData(update, Optional.of(migrationBase));
+    pendingFinalizedDataMigrations.incrementAndGet();
+    final SafeFuture<Void> migrationComplete = new SafeFuture<>();
+    lastFinalizedDataMigration = lastFinalizedDataMigration.thenCompose(__ -> migrationComplete);
+
+    logUpdateTimings(
+        "KvStoreDatabase::doPipelinedUpdate",
+        startTime,
+        finalizedDataUpdatedTime,
+        latestFinalizedStateUpdateTime);
+
+    final FinalizedDataMigration migration =
+        new FinalizedDataMigration(
+            baseBlock.getRoot(),
+            baseBlock.getSlot(),
+            update.getFinalizedCheckpoint().orElseThrow(),
+            update.getFinalizedChildToParentMap(),
+            update.getFinalizedBlocks(),
+            update.getFinalizedStates(),
+            update.getDeletedHotBlocks(),
+            update.isBlobSidecarsEnabled());
+    return new PipelinedUpdate(
+        new UpdateResult(finalizedOptimisticExecutionPayload),
+        Optional.of(
+            () -> {
+              try {
+                migrateFinalizedData(migration);
+              } catch (final Throwable t) {
+                finalizedDataMigrationFailed.set(true);
+                migrationComplete.completeExceptionally(t);
+                throw t;
+              }
+              // Only mark the migration as complete if it succeeded so the migration base isn't
+              // moved past it and the migration is retried later
+              pendingFinalizedDataMigrations.decrementAndGet();
+              migratingBlockRoots.forEach(pendingFinalizedBlockRoots::remove);
+              migrationComplete.complete(null);
+            }));
+  }
+
+  /**
+   * Commits the hot data from an update.
+   *
+   * @param migrationBase if present, pruning of newly finalized data from hot storage is left to
+   *     the finalized data migration and the migration base is recorded so an interrupted migration
+   *     can be completed on restart. Otherwise the finalized data has already been stored and the
+   *     migration base moves to the new finalized checkpoint.
+   * @return the time taken to store the latest finalized state in milliseconds
+   */
+  private long updateHotData(final StorageUpdate update, final Optional<Checkpoint> migrationBase) {
     LOG.trace("Applying hot updates");
     final long latestFinalizedStateUpdateStartTime;
     final long latestFinalizedStateUpdateEndTime;
@@ -1115,11 +1305,21 @@ public class KvStoreDatabase implements Database {
           .ifPresent(
               checkpoint -> {
                 updater.setFinalizedCheckpoint(checkpoint);
-                final int slotsPerEpoch = spec.slotsPerEpoch(checkpoint.getEpoch());
-                final UInt64 finalizedSlot = checkpoint.getEpochStartSlot(spec).plus(slotsPerEpoch);
-                updater.pruneHotStateRoots(dao.getStateRootsBeforeSlot(finalizedSlot));
-                updater.deleteHotState(checkpoint.getRoot());
+                if (migrationBase.isEmpty()) {
+                  pruneFinalizedHotData(updater, checkpoint);
+                }
               });
+      // While earlier migrations are outstanding the migration base must stay where it is
+      if (pendingFinalizedDataMigrations.get() == 0) {
+        migrationBase
+            .or(update::getFinalizedCheckpoint)
+            .ifPresent(updater::setFinalizedDataMigrationBase);
+      }
+      if (migrationBase.isPresent() && stateStorageMode.storesFinalizedStates()) {
+        // Finalized states are only held in memory so keep them in hot storage until they are
+        // migrated, otherwise they would be lost if the migration is interrupted
+        updater.addHotStates(update.getFinalizedStates());
+      }
 
       update.getJustifiedCheckpoint().ifPresent(updater::setJustifiedCheckpoint);
       update.getBestJustifiedCheckpoint().ifPresent(updater::setBestJustifiedCheckpoint);
@@ -1127,7 +1327,10 @@ public class KvStoreDatabase implements Database {
       update.getLatestFinalizedState().ifPresent(updater::setLatestFinalizedState);
       latestFinalizedStateUpdateEndTime = System.currentTimeMillis();
 
-      updateHotBlocks(updater, update.getHotBlocks(), update.getDeletedHotBlocks().keySet());
+      updateHotBlocks(
+          updater,
+          update.getHotBlocks(),
+          migrationBase.isEmpty() ? update.getDeletedHotBlocks().keySet() : Set.of());
       updater.addHotStates(update.getHotStates());
 
       if (update.getStateRoots().size() > 0) {
@@ -1139,20 +1342,170 @@ public class KvStoreDatabase implements Database {
       LOG.trace("Committing hot db changes");
       updater.commit();
     }
+    return latestFinalizedStateUpdateEndTime - latestFinalizedStateUpdateStartTime;
+  }
+
+  private void pruneFinalizedHotData(final HotUpdater updater, final Checkpoint checkpoint) {
+    final int slotsPerEpoch = spec.slotsPerEpoch(checkpoint.getEpoch());
+    final UInt64 finalizedSlot = checkpoint.getEpochStartSlot(spec).plus(slotsPerEpoch);
+    updater.pruneHotStateRoots(dao.getStateRootsBeforeSlot(finalizedSlot));
+    updater.deleteHotState(checkpoint.getRoot());
+  }
 
-    long endTime = System.currentTimeMillis();
+  private void logUpdateTimings(
+      final String operation,
+      final long startTime,
+      final long finalizedDataUpdatedTime,
+      final long latestFinalizedStateUpdateTime) {
+    final long endTime = System.currentTimeMillis();
     DB_LOGGER.onDbOpAlertThreshold(
-        "KvStoreDatabase::doUpdate",
+        operation,
         () ->
             String.format(
                 "Finalized data updated time: %d ms - Hot data updated time: %d ms of which latest finalized state updated time: %d ms",
                 finalizedDataUpdatedTime - startTime,
                 endTime - finalizedDataUpdatedTime,
-                latestFinalizedStateUpdateEndTime - latestFinalizedStateUpdateStartTime),
+                latestFinalizedStateUpdateTime),
         startTime,
         endTime);
-    LOG.trace("Update complete");
-    return new UpdateResult(finalizedOptimisticExecutionPayload);
+  }
+
+  private Map<UInt64, Bytes32> getFinalizedBlockRootsBySlot(final StorageUpdate update) {
+    final Map<UInt64, Bytes32> rootsBySlot = new HashMap<>();
+    update
+        .getFinalizedChildToParentMap()
+        .keySet()
+        .forEach(
+            root ->
+                Optional.ofNullable(update.getDeletedHotBlocks().get(root))
+                    .or(
+                        () ->
+                            Optional.ofNullable(update.getFinalizedBlocks().get(root))
+                                .map(SignedBeaconBlock::getSlot))
+                    .or(
+                        () ->
+                            dao.getHotBlockAsSsz(root)
+                                .map(BeaconBlockInvariants::extractSignedBlockContainerSlot))
+                    .ifPresent(slot -> rootsBySlot.put(slot, root)));
+    return rootsBySlot;
+  }
+
+  private boolean areBlocksInHotStorage(final Set<Bytes32> blockRoots) {
+    final Optional<Bytes32> anchorRoot = dao.getAnchor().map(Checkpoint::getRoot);
+    return blockRoots.stream()
+        .allMatch(
+            root ->
+                anchorRoot.filter(root::equals).isPresent()
+                    || dao.getHotBlockAsSsz(root).isPresent());
+  }
+
+  /**
+   * Moves newly finalized blocks (and states in archive mode) to finalized storage in bounded
+   * transactions, then prunes them from hot storage. Blocks are written in chain order so each
+   * committed transaction is a progress checkpoint: a migration that is interrupted part way
+   * through is resumed from the hot blocks that remain.
+   */
+  private void migrateFinalizedData(final FinalizedDataMigration migration) {
+    final long startTime = System.currentTimeMillis();
+    final List<Bytes32> finalizedRoots =
+        getFinalizedRootsInChainOrder(migration.baseRoot(), migration.finalizedChildToParentMap());
+    if (stateStorageMode.storesFinalizedStates()) {
+      updateFinalizedDataArchiveMode(
+          migration.baseSlot(),
+          finalizedRoots,
+          migration.finalizedBlocks(),
+          migration.finalizedStates());
+    } else {
+      updateFinalizedDataPruneMode(finalizedRoots, migration.finalizedBlocks());
+    }
+    storeNonCanonicalBlocks(
+        migration.deletedHotBlocks().keySet(), migration.finalizedChildToParentMap());
+    if (migration.blobSidecarsEnabled()) {
+      removeNonCanonicalBlobSidecars(
+          migration.deletedHotBlocks(), migration.finalizedChildToParentMap());
+    }
+    final long finalizedDataUpdatedTime = System.currentTimeMillis();
+
+    try (final HotUpdater updater = hotUpdater()) {
+      migration.deletedHotBlocks().keySet().forEach(updater::deleteHotBlock);
+      pruneFinalizedHotData(updater, migration.finalizedCheckpoint());
+      updater.setFinalizedDataMigrationBase(migration.finalizedCheckpoint());
+      updater.commit();
+    }
+
+    final long endTime = System.currentTimeMillis();
+    DB_LOGGER.onDbOpAlertThreshold(
+        "KvStoreDatabase::migrateFinalizedData",
+        () ->
+            String.format(
+                "Finalized data migrated time: %d ms - Hot data pruned time: %d ms",
+                finalizedDataUpdatedTime - startTime, endTime - finalizedDataUpdatedTime),
+        startTime,
+        endTime);
+  }
+
+  /**
+   * Completes a finalized data migration that was interrupted by a shutdown. The finalized chain is
+   * recovered by walking back from the finalized checkpoint through the blocks that are still in
+   * hot storage.
+   */
+  private void completeInterruptedFinalizedDataMigration() {
+    final Optional<Checkpoint> maybeMigrationBase = dao.getFinalizedDataMigrationBase();
+    final Optional<Checkpoint> maybeFinalizedCheckpoint = dao.getFinalizedCheckpoint();
+    if (maybeMigrationBase.isEmpty()
+        || maybeFinalizedCheckpoint.isEmpty()
+        || maybeMigrationBase.equals(maybeFinalizedCheckpoint)) {
+      return;
+    }
+    final Checkpoint migrationBase = maybeMigrationBase.get();
+    final Checkpoint finalizedCheckpoint = maybeFinalizedCheckpoint.get();
+    LOG.info(
+        "Completing interrupted migration of finalized data from epoch {} to epoch {}",
+        migrationBase.getEpoch(),
+        finalizedCheckpoint.getEpoch());
+
+    final Map<Bytes32, Bytes32> finalizedChildToParentMap = new HashMap<>();
+    Bytes32 baseRoot = finalizedCheckpoint.getRoot();
+    Optional<SignedBeaconBlock> block = dao.getHotBlock(baseRoot);
+    final UInt64 finalizedSlot =
+        block
+            .map(SignedBeaconBlock::getSlot)
+            .orElseGet(() -> finalizedCheckpoint.getEpochStartSlot(spec));
+    while (block.isPresent() && !baseRoot.equals(migrationBase.getRoot())) {
+      finalizedChildToParentMap.put(baseRoot, block.get().getParentRoot());
+      baseRoot = block.get().getParentRoot();
+      block = dao.getHotBlock(baseRoot);
+    }
+    final Optional<SignedBeaconBlock> baseBlock = getSignedBlock(baseRoot);
+    // The chain is ordered from the base block so it needs a parent entry as well
+    finalizedChildToParentMap.put(
+        baseRoot, baseBlock.map(SignedBeaconBlock::getParentRoot).orElse(Bytes32.ZERO));
+    final UInt64 baseSlot =
+        baseBlock
+            .map(SignedBeaconBlock::getSlot)
+            .orElseGet(() -> migrationBase.getEpochStartSlot(spec));
+
+    final Map<Bytes32, UInt64> deletedHotBlocks = new HashMap<>();
+    buildHotBlockMetadata()
+        .forEach(
+            (root, metadata) -> {
+              if (metadata.getBlockSlot().isLessThanOrEqualTo(finalizedSlot)
+                  && !root.equals(finalizedCheckpoint.getRoot())) {
+                deletedHotBlocks.put(root, metadata.getBlockSlot());
+              }
+            });
+
+    migrateFinalizedData(
+        new FinalizedDataMigration(
+            baseRoot,
+            baseSlot,
+            finalizedCheckpoint,
+            finalizedChildToParentMap,
+            // Other finalized blocks and states are read back from hot storage
+            baseBlock.map(value -> Map.of(value.getRoot(), value)).orElse(Map.of()),
+            Map.of(),
+            deletedHotBlocks,
+            true));
   }
 
   private void updateBlobSidecarData(
@@ -1192,9 +1545,16 @@ public class KvStoreDatabase implements Database {
         updateFinalizedOptimisticTransitionBlock(
             isFinalizedOptimisticBlockRootSet, finalizedOptimisticTransitionBlockRoot);
     if (stateStorageMode.storesFinalizedStates()) {
-      updateFinalizedDataArchiveMode(finalizedChildToParentMap, finalizedBlocks, finalizedStates);
+      // Get previously finalized block to build on top of
+      final BeaconBlockSummary baseBlock = getLatestFinalizedBlockOrSummary();
+      updateFinalizedDataArchiveMode(
+          baseBlock.getSlot(),
+          getFinalizedRootsInChainOrder(baseBlock.getRoot(), finalizedChildToParentMap),
+          finalizedBlocks,
+          finalizedStates);
     } else {
-      updateFinalizedDataPruneMode(finalizedChildToParentMap, finalizedBlocks);
+      updateFinalizedDataPruneMode(
+          new ArrayList<>(finalizedChildToParentMap.keySet()), finalizedBlocks);
     }
 
     storeNonCanonicalBlocks(deletedHotBlocksRootsWithSlot.keySet(), finalizedChildToParentMap);
@@ -1266,26 +1626,27 @@ public class KvStoreDatabase implements Database {
     }
   }
 
+  private List<Bytes32> getFinalizedRootsInChainOrder(
+      final Bytes32 baseRoot, final Map<Bytes32, Bytes32> finalizedChildToParentMap) {
+    return HashTree.builder()
+        .rootHash(baseRoot)
+        .childAndParentRoots(finalizedChildToParentMap)
+        .build()
+        .preOrderStream()
+        .toList();
+  }
+
   private void updateFinalizedDataArchiveMode(
-      final Map<Bytes32, Bytes32> finalizedChildToParentMap,
+      final UInt64 baseSlot,
+      final List<Bytes32> finalizedRoots,
       final Map<Bytes32, SignedBeaconBlock> finalizedBlocks,
       final Map<Bytes32, BeaconState> finalizedStates) {
 
     final Optional<Checkpoint> initialCheckpoint = dao.getAnchor();
     final Optional<Bytes32> initialBlockRoot = initialCheckpoint.map(Checkpoint::getRoot);
-    // Get previously finalized block to build on top of
-    final BeaconBlockSummary baseBlock = getLatestFinalizedBlockOrSummary();
-
-    final List<Bytes32> finalizedRoots =
-        HashTree.builder()
-            .rootHash(baseBlock.getRoot())
-            .childAndParentRoots(finalizedChildToParentMap)
-            .build()
-            .preOrderStream()
-            .toList();
 
     int i = 0;
-    UInt64 lastSlot = baseBlock.getSlot();
+    UInt64 lastSlot = baseSlot;
     while (i < finalizedRoots.size()) {
       final int start = i;
       try (final FinalizedUpdater updater = finalizedUpdater()) {
@@ -1320,11 +1681,9 @@ public class KvStoreDatabase implements Database {
   }
 
   private void updateFinalizedDataPruneMode(
-      final Map<Bytes32, Bytes32> finalizedChildToParentMap,
-      final Map<Bytes32, SignedBeaconBlock> finalizedBlocks) {
+      final List<Bytes32> finalizedRoots, final Map<Bytes32, SignedBeaconBlock> finalizedBlocks) {
     final Optional<Bytes32> initialBlockRoot = dao.getAnchor().map(Checkpoint::getRoot);
 
-    final List<Bytes32> finalizedRoots = new ArrayList<>(finalizedChildToParentMap.keySet());
     int i = 0;
     while (i < finalizedRoots.size()) {
       try (final FinalizedUpdater updater = finalizedUpdater()) {
@@ -1391,4 +1750,14 @@ public class KvStoreDatabase implements Database {
       updater.addFinalizedStateRoot(state.hashTreeRoot(), state.getSlot());
     }
   }
+
+  private record FinalizedDataMigration(
+      Bytes32 baseRoot,
+      UInt64 baseSlot,
+      Checkpoint finalizedCheckpoint,
+      Map<Bytes32, Bytes32> finalizedChildToParentMap,
+      Map<Bytes32, SignedBeaconBlock> finalizedBlocks,
+      Map<Bytes32, BeaconState> finalizedStates,
+      Map<Bytes32, UInt64> deletedHotBlocks,
+      boolean blobSidecarsEnabled) {}
 }
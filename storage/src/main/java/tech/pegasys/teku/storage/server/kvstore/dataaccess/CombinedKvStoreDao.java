@@ -38,6 +38,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
@@ -110,6 +112,19 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return db.get(schema.getColumnHotStatesByRoot(), root);
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<LightClientUpdate> streamLightClientUpdates(
+      final UInt64 startPeriod, final UInt64 endPeriod) {
+    return db.stream(schema.getColumnLightClientUpdatesByPeriod(), startPeriod, endPeriod)
+        .map(ColumnEntry::getValue);
+  }
+
+  @Override
+  public Optional<LightClientBootstrap> getLightClientBootstrap(final Bytes32 blockRoot) {
+    return db.get(schema.getColumnLightClientBootstrapsByBlockRoot(), blockRoot);
+  }
+
   @Override
   @MustBeClosed
   public Stream<SignedBeaconBlock> streamHotBlocks() {
@@ -132,6 +147,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return db.get(schema.getVariableWeakSubjectivityCheckpoint());
   }
 
+  @Override
+  public Optional<Checkpoint> getFinalizedDataMigrationBase() {
+    return db.get(schema.getVariableFinalizedDataMigrationBase());
+  }
+
   @Override
   public List<Bytes32> getStateRootsBeforeSlot(final UInt64 slot) {
     try (Stream<ColumnEntry<Bytes32, SlotAndBlockRoot>> stream =
@@ -571,6 +591,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
       transaction.delete(schema.getVariableWeakSubjectivityCheckpoint());
     }
 
+    @Override
+    public void setFinalizedDataMigrationBase(final Checkpoint checkpoint) {
+      transaction.put(schema.getVariableFinalizedDataMigrationBase(), checkpoint);
+    }
+
     @Override
     public void setLatestFinalizedState(final BeaconState state) {
       transaction.put(schema.getVariableLatestFinalizedState(), state);
@@ -594,6 +619,22 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
       transaction.put(schema.getColumnHotStatesByRoot(), blockRoot, state);
     }
 
+    @Override
+    public void setLightClientUpdate(final UInt64 period, final LightClientUpdate update) {
+      transaction.put(schema.getColumnLightClientUpdatesByPeriod(), period, update);
+    }
+
+    @Override
+    public void addLightClientBootstrap(
+        final Bytes32 blockRoot, final LightClientBootstrap bootstrap) {
+      transaction.put(schema.getColumnLightClientBootstrapsByBlockRoot(), blockRoot, bootstrap);
+    }
+
+    @Override
+    public void deleteLightClientBootstrap(final Bytes32 blockRoot) {
+      transaction.delete(schema.getColumnLightClientBootstrapsByBlockRoot(), blockRoot);
+    }
+
     @Override
     public void addHotStateRoots(
         final Map<Bytes32, SlotAndBlockRoot> stateRootToSlotAndBlockRootMap) {
@@ -32,6 +32,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
@@ -99,10 +101,17 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
   Optional<Checkpoint> getWeakSubjectivityCheckpoint();
 
+  Optional<Checkpoint> getFinalizedDataMigrationBase();
+
   Optional<BlockCheckpoints> getHotBlockCheckpointEpochs(Bytes32 root);
 
   Optional<BeaconState> getHotState(Bytes32 root);
 
+  @MustBeClosed
+  Stream<LightClientUpdate> streamLightClientUpdates(UInt64 startPeriod, UInt64 endPeriod);
+
+  Optional<LightClientBootstrap> getLightClientBootstrap(Bytes32 blockRoot);
+
   List<Bytes32> getStateRootsBeforeSlot(UInt64 slot);
 
   Optional<SlotAndBlockRoot> getSlotAndBlockRootFromStateRoot(Bytes32 stateRoot);
@@ -190,6 +199,8 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
     void clearWeakSubjectivityCheckpoint();
 
+    void setFinalizedDataMigrationBase(Checkpoint checkpoint);
+
     void setLatestFinalizedState(BeaconState state);
 
     void addHotState(Bytes32 blockRoot, BeaconState state);
@@ -206,6 +217,12 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
     void deleteHotState(Bytes32 blockRoot);
 
+    void setLightClientUpdate(UInt64 period, LightClientUpdate update);
+
+    void addLightClientBootstrap(Bytes32 blockRoot, LightClientBootstrap bootstrap);
+
+    void deleteLightClientBootstrap(Bytes32 blockRoot);
+
     void setFinalizedDepositSnapshot(DepositTreeSnapshot finalizedDepositSnapshot);
 
     void commit();
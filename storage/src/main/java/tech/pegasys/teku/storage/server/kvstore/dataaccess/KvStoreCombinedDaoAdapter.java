@@ -34,6 +34,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
@@ -88,6 +90,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return hotDao.getWeakSubjectivityCheckpoint();
   }
 
+  @Override
+  public Optional<Checkpoint> getFinalizedDataMigrationBase() {
+    return hotDao.getFinalizedDataMigrationBase();
+  }
+
   @Override
   public Optional<SignedBeaconBlock> getHotBlock(final Bytes32 root) {
     return hotDao.getHotBlock(root);
@@ -108,6 +115,18 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return hotDao.getHotState(root);
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<LightClientUpdate> streamLightClientUpdates(
+      final UInt64 startPeriod, final UInt64 endPeriod) {
+    return hotDao.streamLightClientUpdates(startPeriod, endPeriod);
+  }
+
+  @Override
+  public Optional<LightClientBootstrap> getLightClientBootstrap(final Bytes32 blockRoot) {
+    return hotDao.getLightClientBootstrap(blockRoot);
+  }
+
   @Override
   public List<Bytes32> getStateRootsBeforeSlot(final UInt64 slot) {
     return hotDao.getStateRootsBeforeSlot(slot);
@@ -440,6 +459,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
       hotUpdater.clearWeakSubjectivityCheckpoint();
     }
 
+    @Override
+    public void setFinalizedDataMigrationBase(final Checkpoint checkpoint) {
+      hotUpdater.setFinalizedDataMigrationBase(checkpoint);
+    }
+
     @Override
     public void setLatestFinalizedState(final BeaconState state) {
       hotUpdater.setLatestFinalizedState(state);
@@ -481,6 +505,22 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
       hotUpdater.addHotState(blockRoot, state);
     }
 
+    @Override
+    public void setLightClientUpdate(final UInt64 period, final LightClientUpdate update) {
+      hotUpdater.setLightClientUpdate(period, update);
+    }
+
+    @Override
+    public void addLightClientBootstrap(
+        final Bytes32 blockRoot, final LightClientBootstrap bootstrap) {
+      hotUpdater.addLightClientBootstrap(blockRoot, bootstrap);
+    }
+
+    @Override
+    public void deleteLightClientBootstrap(final Bytes32 blockRoot) {
+      hotUpdater.deleteLightClientBootstrap(blockRoot);
+    }
+
     @Override
     public void addHotStates(final Map<Bytes32, BeaconState> states) {
       hotUpdater.addHotStates(states);
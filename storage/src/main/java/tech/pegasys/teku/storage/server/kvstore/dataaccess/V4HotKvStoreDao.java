@@ -31,6 +31,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
@@ -87,6 +89,17 @@ public class V4HotKvStoreDao {
     return db.get(schema.getColumnHotStatesByRoot(), root);
   }
 
+  @MustBeClosed
+  public Stream<LightClientUpdate> streamLightClientUpdates(
+      final UInt64 startPeriod, final UInt64 endPeriod) {
+    return db.stream(schema.getColumnLightClientUpdatesByPeriod(), startPeriod, endPeriod)
+        .map(ColumnEntry::getValue);
+  }
+
+  public Optional<LightClientBootstrap> getLightClientBootstrap(final Bytes32 blockRoot) {
+    return db.get(schema.getColumnLightClientBootstrapsByBlockRoot(), blockRoot);
+  }
+
   @MustBeClosed
   public Stream<SignedBeaconBlock> streamHotBlocks() {
     return db.stream(schema.getColumnHotBlocksByRoot()).map(ColumnEntry::getValue);
@@ -105,6 +118,10 @@ public class V4HotKvStoreDao {
     return db.get(schema.getVariableWeakSubjectivityCheckpoint());
   }
 
+  public Optional<Checkpoint> getFinalizedDataMigrationBase() {
+    return db.get(schema.getVariableFinalizedDataMigrationBase());
+  }
+
   public List<Bytes32> getStateRootsBeforeSlot(final UInt64 slot) {
     try (Stream<ColumnEntry<Bytes32, SlotAndBlockRoot>> stream =
         db.stream(schema.getColumnStateRootToSlotAndBlockRoot())) {
@@ -232,6 +249,11 @@ public class V4HotKvStoreDao {
       transaction.delete(schema.getVariableWeakSubjectivityCheckpoint());
     }
 
+    @Override
+    public void setFinalizedDataMigrationBase(final Checkpoint checkpoint) {
+      transaction.put(schema.getVariableFinalizedDataMigrationBase(), checkpoint);
+    }
+
     @Override
     public void setLatestFinalizedState(final BeaconState state) {
       transaction.put(schema.getVariableLatestFinalizedState(), state);
@@ -255,6 +277,22 @@ public class V4HotKvStoreDao {
       transaction.put(schema.getColumnHotStatesByRoot(), blockRoot, state);
     }
 
+    @Override
+    public void setLightClientUpdate(final UInt64 period, final LightClientUpdate update) {
+      transaction.put(schema.getColumnLightClientUpdatesByPeriod(), period, update);
+    }
+
+    @Override
+    public void addLightClientBootstrap(
+        final Bytes32 blockRoot, final LightClientBootstrap bootstrap) {
+      transaction.put(schema.getColumnLightClientBootstrapsByBlockRoot(), blockRoot, bootstrap);
+    }
+
+    @Override
+    public void deleteLightClientBootstrap(final Bytes32 blockRoot) {
+      transaction.delete(schema.getColumnLightClientBootstrapsByBlockRoot(), blockRoot);
+    }
+
     @Override
     public void addHotStateRoots(
         final Map<Bytes32, SlotAndBlockRoot> stateRootToSlotAndBlockRootMap) {
@@ -26,6 +26,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
@@ -47,6 +49,10 @@ public interface SchemaCombined extends Schema {
 
   KvStoreColumn<Bytes32, BeaconState> getColumnHotStatesByRoot();
 
+  KvStoreColumn<UInt64, LightClientUpdate> getColumnLightClientUpdatesByPeriod();
+
+  KvStoreColumn<Bytes32, LightClientBootstrap> getColumnLightClientBootstrapsByBlockRoot();
+
   KvStoreColumn<Bytes32, UInt64> getColumnSlotsByFinalizedRoot();
 
   KvStoreColumn<UInt64, SignedBeaconBlock> getColumnFinalizedBlocksBySlot();
@@ -87,6 +93,12 @@ public interface SchemaCombined extends Schema {
 
   KvStoreVariable<DepositTreeSnapshot> getVariableFinalizedDepositSnapshot();
 
+  /**
+   * The finalized checkpoint that finalized data has been fully migrated up to. Only differs from
+   * the finalized checkpoint while finalized data is being migrated in the background.
+   */
+  KvStoreVariable<Checkpoint> getVariableFinalizedDataMigrationBase();
+
   Map<String, KvStoreColumn<?, ?>> getColumnMap();
 
   Map<String, KvStoreVariable<?>> getVariableMap();
@@ -26,6 +26,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
@@ -65,6 +67,14 @@ public class SchemaHotAdapter implements Schema {
     return delegate.getColumnHotStatesByRoot();
   }
 
+  public KvStoreColumn<UInt64, LightClientUpdate> getColumnLightClientUpdatesByPeriod() {
+    return delegate.getColumnLightClientUpdatesByPeriod();
+  }
+
+  public KvStoreColumn<Bytes32, LightClientBootstrap> getColumnLightClientBootstrapsByBlockRoot() {
+    return delegate.getColumnLightClientBootstrapsByBlockRoot();
+  }
+
   public KvStoreColumn<SlotAndBlockRootAndBlobIndex, Bytes>
       getColumnBlobSidecarBySlotRootBlobIndex() {
     return delegate.getColumnBlobSidecarBySlotRootBlobIndex();
@@ -102,6 +112,10 @@ public class SchemaHotAdapter implements Schema {
     return delegate.getVariableAnchorCheckpoint();
   }
 
+  public KvStoreVariable<Checkpoint> getVariableFinalizedDataMigrationBase() {
+    return delegate.getVariableFinalizedDataMigrationBase();
+  }
+
   public KvStoreVariable<DepositTreeSnapshot> getVariableFinalizedDepositSnapshot() {
     return delegate.getVariableFinalizedDepositSnapshot();
   }
@@ -123,7 +137,11 @@ public class SchemaHotAdapter implements Schema {
         "HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT",
         getColumnHotBlockCheckpointEpochsByRoot(),
         "BLOB_SIDECAR_BY_SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX",
-        getColumnBlobSidecarBySlotRootBlobIndex());
+        getColumnBlobSidecarBySlotRootBlobIndex(),
+        "LIGHT_CLIENT_UPDATES_BY_PERIOD",
+        getColumnLightClientUpdatesByPeriod(),
+        "LIGHT_CLIENT_BOOTSTRAPS_BY_BLOCK_ROOT",
+        getColumnLightClientBootstrapsByBlockRoot());
   }
 
   public Map<String, KvStoreVariable<?>> getVariableMap() {
@@ -145,7 +163,9 @@ public class SchemaHotAdapter implements Schema {
         "ANCHOR_CHECKPOINT",
         getVariableAnchorCheckpoint(),
         "FINALIZED_DEPOSIT_SNAPSHOT",
-        getVariableFinalizedDepositSnapshot());
+        getVariableFinalizedDepositSnapshot(),
+        "FINALIZED_DATA_MIGRATION_BASE",
+        getVariableFinalizedDataMigrationBase());
   }
 
   @Override
@@ -35,6 +35,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer;
@@ -61,6 +63,8 @@ public abstract class V6SchemaCombined implements SchemaCombined {
   private static final KvStoreColumn<Bytes32, BlockCheckpoints>
       HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT =
           KvStoreColumn.create(7, BYTES32_SERIALIZER, CHECKPOINT_EPOCHS_SERIALIZER);
+  private final KvStoreColumn<UInt64, LightClientUpdate> lightClientUpdatesByPeriod;
+  private final KvStoreColumn<Bytes32, LightClientBootstrap> lightClientBootstrapsByBlockRoot;
 
   // Variables
   private static final KvStoreVariable<UInt64> GENESIS_TIME =
@@ -81,6 +85,8 @@ public abstract class V6SchemaCombined implements SchemaCombined {
       KvStoreVariable.create(9, CHECKPOINT_SERIALIZER);
   private static final KvStoreVariable<DepositTreeSnapshot> FINALIZED_DEPOSIT_SNAPSHOT =
       KvStoreVariable.create(10, DEPOSIT_SNAPSHOT_SERIALIZER);
+  private static final KvStoreVariable<Checkpoint> FINALIZED_DATA_MIGRATION_BASE =
+      KvStoreVariable.create(11, CHECKPOINT_SERIALIZER);
 
   private final KvStoreVariable<UInt64> optimisticTransitionBlockSlot;
   private final KvStoreVariable<UInt64> earliestBlobSidecarSlot;
@@ -98,6 +104,12 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     latestFinalizedState = KvStoreVariable.create(5, stateSerializer);
 
     votes = KvStoreColumn.create(3, UINT64_SERIALIZER, VOTE_TRACKER_SERIALIZER);
+    lightClientUpdatesByPeriod =
+        KvStoreColumn.create(
+            8, UINT64_SERIALIZER, KvStoreSerializer.createLightClientUpdateSerializer(spec));
+    lightClientBootstrapsByBlockRoot =
+        KvStoreColumn.create(
+            9, BYTES32_SERIALIZER, KvStoreSerializer.createLightClientBootstrapSerializer(spec));
 
     optimisticTransitionBlockSlot = KvStoreVariable.create(finalizedOffset + 1, UINT64_SERIALIZER);
     earliestBlobSidecarSlot = KvStoreVariable.create(finalizedOffset + 2, UINT64_SERIALIZER);
@@ -139,6 +151,16 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     return hotStatesByRoot;
   }
 
+  @Override
+  public KvStoreColumn<UInt64, LightClientUpdate> getColumnLightClientUpdatesByPeriod() {
+    return lightClientUpdatesByPeriod;
+  }
+
+  @Override
+  public KvStoreColumn<Bytes32, LightClientBootstrap> getColumnLightClientBootstrapsByBlockRoot() {
+    return lightClientBootstrapsByBlockRoot;
+  }
+
   @Override
   public KvStoreVariable<UInt64> getVariableGenesisTime() {
     return GENESIS_TIME;
@@ -189,6 +211,11 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     return FINALIZED_DEPOSIT_SNAPSHOT;
   }
 
+  @Override
+  public KvStoreVariable<Checkpoint> getVariableFinalizedDataMigrationBase() {
+    return FINALIZED_DATA_MIGRATION_BASE;
+  }
+
   @Override
   public KvStoreVariable<UInt64> getVariableEarliestBlobSidecarSlot() {
     return earliestBlobSidecarSlot;
@@ -209,6 +236,8 @@ public abstract class V6SchemaCombined implements SchemaCombined {
         .put("STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT", getColumnStateRootToSlotAndBlockRoot())
         .put("HOT_STATES_BY_ROOT", getColumnHotStatesByRoot())
         .put("HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT", getColumnHotBlockCheckpointEpochsByRoot())
+        .put("LIGHT_CLIENT_UPDATES_BY_PERIOD", getColumnLightClientUpdatesByPeriod())
+        .put("LIGHT_CLIENT_BOOTSTRAPS_BY_BLOCK_ROOT", getColumnLightClientBootstrapsByBlockRoot())
         .put("SLOTS_BY_FINALIZED_ROOT", getColumnSlotsByFinalizedRoot())
         .put("FINALIZED_BLOCKS_BY_SLOT", getColumnFinalizedBlocksBySlot())
         .put("SLOTS_BY_FINALIZED_STATE_ROOT", getColumnSlotsByFinalizedStateRoot())
@@ -233,6 +262,7 @@ public abstract class V6SchemaCombined implements SchemaCombined {
         .put("ANCHOR_CHECKPOINT", getVariableAnchorCheckpoint())
         .put("OPTIMISTIC_TRANSITION_BLOCK_SLOT", getOptimisticTransitionBlockSlot())
         .put("FINALIZED_DEPOSIT_SNAPSHOT", getVariableFinalizedDepositSnapshot())
+        .put("FINALIZED_DATA_MIGRATION_BASE", getVariableFinalizedDataMigrationBase())
         .put("EARLIEST_BLOB_SIDECAR_SLOT", getVariableEarliestBlobSidecarSlot())
         .put("EARLIEST_BLOCK_SLOT_AVAILABLE", getVariableEarliestBlockSlot())
         .build();
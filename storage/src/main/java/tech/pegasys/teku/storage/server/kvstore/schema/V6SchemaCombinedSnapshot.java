@@ -151,6 +151,8 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
         .put("STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT", getColumnStateRootToSlotAndBlockRoot())
         .put("HOT_STATES_BY_ROOT", getColumnHotStatesByRoot())
         .put("HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT", getColumnHotBlockCheckpointEpochsByRoot())
+        .put("LIGHT_CLIENT_UPDATES_BY_PERIOD", getColumnLightClientUpdatesByPeriod())
+        .put("LIGHT_CLIENT_BOOTSTRAPS_BY_BLOCK_ROOT", getColumnLightClientBootstrapsByBlockRoot())
         .put("SLOTS_BY_FINALIZED_ROOT", getColumnSlotsByFinalizedRoot())
         .put("FINALIZED_BLOCKS_BY_SLOT", getColumnFinalizedBlocksBySlot())
         .put("FINALIZED_STATES_BY_SLOT", getColumnFinalizedStatesBySlot())
@@ -26,6 +26,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
@@ -65,6 +67,15 @@ public interface KvStoreSerializer<T> {
     return new SignedBeaconBlockSerializer(spec);
   }
 
+  static KvStoreSerializer<LightClientUpdate> createLightClientUpdateSerializer(final Spec spec) {
+    return new LightClientUpdateSerializer(spec);
+  }
+
+  static KvStoreSerializer<LightClientBootstrap> createLightClientBootstrapSerializer(
+      final Spec spec) {
+    return new LightClientBootstrapSerializer(spec);
+  }
+
   T deserialize(final byte[] data);
 
   byte[] serialize(final T value);
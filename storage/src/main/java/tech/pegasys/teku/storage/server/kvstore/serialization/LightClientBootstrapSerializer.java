@@ -0,0 +1,55 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import java.util.Objects;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+
+class LightClientBootstrapSerializer implements KvStoreSerializer<LightClientBootstrap> {
+
+  private final Spec spec;
+
+  LightClientBootstrapSerializer(final Spec spec) {
+    this.spec = spec;
+  }
+
+  @Override
+  public LightClientBootstrap deserialize(final byte[] data) {
+    return spec.deserializeLightClientBootstrap(Bytes.wrap(data));
+  }
+
+  @Override
+  public byte[] serialize(final LightClientBootstrap value) {
+    return value.sszSerialize().toArrayUnsafe();
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final LightClientBootstrapSerializer that = (LightClientBootstrapSerializer) o;
+    return Objects.equals(spec, that.spec);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(spec);
+  }
+}
@@ -34,6 +34,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -225,6 +227,26 @@ public class NoOpDatabase implements Database {
   @Override
   public void setFinalizedDepositSnapshot(final DepositTreeSnapshot finalizedDepositSnapshot) {}
 
+  @Override
+  public List<LightClientUpdate> getLightClientUpdates(
+      final UInt64 startPeriod, final UInt64 endPeriod) {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public void setLightClientUpdate(final UInt64 period, final LightClientUpdate update) {}
+
+  @Override
+  public Optional<LightClientBootstrap> getLightClientBootstrap(final Bytes32 blockRoot) {
+    return Optional.empty();
+  }
+
+  @Override
+  public void addLightClientBootstrap(
+      final Bytes32 blockRoot,
+      final LightClientBootstrap bootstrap,
+      final Optional<Bytes32> prunedBlockRoot) {}
+
   @Override
   public UInt64 pruneFinalizedBlocks(
       final UInt64 lastSlotToPrune, final int pruneLimit, final UInt64 checkpointInitialSlot) {
@@ -0,0 +1,113 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.storage.api.StorageUpdate;
+import tech.pegasys.teku.storage.api.UpdateResult;
+
+class PipelinedStorageUpdaterTest {
+  private final Database database = mock(Database.class);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final List<Integer> migrationsRun = new ArrayList<>();
+
+  private final PipelinedStorageUpdater updater =
+      new PipelinedStorageUpdater(database, asyncRunner, metricsSystem);
+
+  @Test
+  void shouldReturnResultBeforeMigrationRuns() {
+    final StorageUpdate event = mock(StorageUpdate.class);
+    final UpdateResult result = new UpdateResult(Optional.empty());
+    when(database.updatePipelined(event))
+        .thenReturn(new PipelinedUpdate(result, Optional.of(() -> migrationsRun.add(1))));
+
+    assertThat(updater.update(event)).isSameAs(result);
+    assertThat(migrationsRun).isEmpty();
+    assertThat(getPendingMigrationCount()).isEqualTo(1);
+    assertThatSafeFuture(updater.getPendingMigrations()).isNotCompleted();
+
+    asyncRunner.executeUntilDone();
+
+    assertThat(migrationsRun).containsExactly(1);
+    assertThat(getPendingMigrationCount()).isZero();
+    assertThatSafeFuture(updater.getPendingMigrations()).isCompleted();
+  }
+
+  @Test
+  void shouldNotQueueAnythingWhenUpdateHasNoMigration() {
+    final StorageUpdate event = mock(StorageUpdate.class);
+    when(database.updatePipelined(event))
+        .thenReturn(PipelinedUpdate.completed(UpdateResult.EMPTY));
+
+    assertThat(updater.update(event)).isSameAs(UpdateResult.EMPTY);
+
+    assertThat(asyncRunner.countDelayedActions()).isZero();
+    assertThatSafeFuture(updater.getPendingMigrations()).isCompleted();
+  }
+
+  @Test
+  void shouldRunMigrationsInOrder() {
+    queueMigration(() -> migrationsRun.add(1));
+    queueMigration(() -> migrationsRun.add(2));
+    queueMigration(() -> migrationsRun.add(3));
+    assertThat(getPendingMigrationCount()).isEqualTo(3);
+
+    asyncRunner.executeUntilDone();
+
+    assertThat(migrationsRun).containsExactly(1, 2, 3);
+    assertThat(getPendingMigrationCount()).isZero();
+  }
+
+  @Test
+  void shouldNotRunLaterMigrationsWhenMigrationFails() {
+    queueMigration(() -> migrationsRun.add(1));
+    queueMigration(
+        () -> {
+          throw new IllegalStateException("Migration failed");
+        });
+    queueMigration(() -> migrationsRun.add(3));
+
+    asyncRunner.executeUntilDone();
+
+    assertThat(migrationsRun).containsExactly(1);
+    assertThat(getPendingMigrationCount()).isZero();
+    // Failures are logged by the updater, so waiting for pending migrations still completes
+    assertThatSafeFuture(updater.getPendingMigrations()).isCompleted();
+  }
+
+  private void queueMigration(final Runnable migration) {
+    final StorageUpdate event = mock(StorageUpdate.class);
+    when(database.updatePipelined(event))
+        .thenReturn(new PipelinedUpdate(UpdateResult.EMPTY, Optional.of(migration)));
+    updater.update(event);
+  }
+
+  private double getPendingMigrationCount() {
+    return metricsSystem
+        .getGauge(TekuMetricCategory.STORAGE, "finalized_data_migrations_pending")
+        .getValue();
+  }
+}
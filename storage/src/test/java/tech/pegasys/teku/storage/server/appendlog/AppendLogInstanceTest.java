@@ -0,0 +1,330 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.appendlog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.ShuttingDownException;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
+
+class AppendLogInstanceTest {
+  private static final KvStoreColumn<UInt64, Bytes> COLUMN =
+      KvStoreColumn.create(1, UINT64_SERIALIZER, BYTES_SERIALIZER);
+  private static final KvStoreColumn<UInt64, Bytes> OTHER_COLUMN =
+      KvStoreColumn.create(2, UINT64_SERIALIZER, BYTES_SERIALIZER);
+  private static final KvStoreVariable<UInt64> VARIABLE =
+      KvStoreVariable.create(1, UINT64_SERIALIZER);
+
+  // Compaction is triggered explicitly so tests are deterministic
+  private final ExecutorService compactionExecutor = mock(ExecutorService.class);
+
+  @TempDir Path tempDir;
+
+  private AppendLogInstance instance;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (instance != null) {
+      instance.close();
+    }
+  }
+
+  @Test
+  void shouldPutGetAndDeleteValues() {
+    instance = open(1024 * 1024);
+    try (final KvStoreTransaction transaction = instance.startTransaction()) {
+      transaction.put(COLUMN, UInt64.ONE, Bytes.of(1));
+      transaction.put(OTHER_COLUMN, UInt64.ONE, Bytes.of(2));
+      transaction.put(VARIABLE, UInt64.valueOf(10));
+      transaction.commit();
+    }
+
+    assertThat(instance.get(COLUMN, UInt64.ONE)).contains(Bytes.of(1));
+    assertThat(instance.get(OTHER_COLUMN, UInt64.ONE)).contains(Bytes.of(2));
+    assertThat(instance.get(VARIABLE)).contains(UInt64.valueOf(10));
+
+    try (final KvStoreTransaction transaction = instance.startTransaction()) {
+      transaction.delete(COLUMN, UInt64.ONE);
+      transaction.delete(VARIABLE);
+      transaction.commit();
+    }
+
+    assertThat(instance.get(COLUMN, UInt64.ONE)).isEmpty();
+    assertThat(instance.get(OTHER_COLUMN, UInt64.ONE)).contains(Bytes.of(2));
+    assertThat(instance.get(VARIABLE)).isEmpty();
+  }
+
+  @Test
+  void shouldNotApplyRolledBackTransaction() {
+    instance = open(1024 * 1024);
+    try (final KvStoreTransaction transaction = instance.startTransaction()) {
+      transaction.put(COLUMN, UInt64.ONE, Bytes.of(1));
+      transaction.rollback();
+    }
+
+    assertThat(instance.get(COLUMN, UInt64.ONE)).isEmpty();
+  }
+
+  @Test
+  void shouldStreamEntriesInKeyOrder() {
+    instance = open(1024 * 1024);
+    putAll(List.of(5, 1, 3, 2, 4));
+
+    assertThat(instance.streamKeys(COLUMN))
+        .containsExactly(
+            UInt64.valueOf(1), UInt64.valueOf(2), UInt64.valueOf(3), UInt64.valueOf(4),
+            UInt64.valueOf(5));
+    try (final Stream<ColumnEntry<UInt64, Bytes>> entries =
+        instance.stream(COLUMN, UInt64.valueOf(2), UInt64.valueOf(4))) {
+      assertThat(entries)
+          .containsExactly(
+              ColumnEntry.create(UInt64.valueOf(2), Bytes.of(2)),
+              ColumnEntry.create(UInt64.valueOf(3), Bytes.of(3)),
+              ColumnEntry.create(UInt64.valueOf(4), Bytes.of(4)));
+    }
+    assertThat(instance.getFirstEntry(COLUMN))
+        .contains(ColumnEntry.create(UInt64.valueOf(1), Bytes.of(1)));
+    assertThat(instance.getLastKey(COLUMN)).contains(UInt64.valueOf(5));
+    assertThat(instance.size(COLUMN)).isEqualTo(5);
+  }
+
+  @Test
+  void getFloorEntry_shouldReturnGreatestKeyLessThanOrEqualTo() {
+    instance = open(1024 * 1024);
+    putAll(List.of(2, 4, 6));
+
+    assertThat(instance.getFloorEntry(COLUMN, UInt64.valueOf(5)))
+        .contains(ColumnEntry.create(UInt64.valueOf(4), Bytes.of(4)));
+    assertThat(instance.getFloorEntry(COLUMN, UInt64.valueOf(6)))
+        .contains(ColumnEntry.create(UInt64.valueOf(6), Bytes.of(6)));
+    assertThat(instance.getFloorEntry(COLUMN, UInt64.ONE)).isEmpty();
+  }
+
+  @Test
+  void shouldRecoverValuesAfterReopening() throws Exception {
+    instance = open(128);
+    putAll(List.of(1, 2, 3, 4, 5, 6, 7, 8));
+    try (final KvStoreTransaction transaction = instance.startTransaction()) {
+      transaction.delete(COLUMN, UInt64.valueOf(3));
+      transaction.put(COLUMN, UInt64.valueOf(4), Bytes.of(40));
+      transaction.put(VARIABLE, UInt64.valueOf(99));
+      transaction.commit();
+    }
+    assertThat(instance.getSegmentCount()).isGreaterThan(1);
+    instance.close();
+
+    instance = open(128);
+
+    assertThat(instance.get(COLUMN, UInt64.valueOf(3))).isEmpty();
+    assertThat(instance.get(COLUMN, UInt64.valueOf(4))).contains(Bytes.of(40));
+    assertThat(instance.get(COLUMN, UInt64.valueOf(8))).contains(Bytes.of(8));
+    assertThat(instance.get(VARIABLE)).contains(UInt64.valueOf(99));
+    assertThat(instance.size(COLUMN)).isEqualTo(7);
+  }
+
+  @Test
+  void shouldDiscardIncompleteRecordAtEndOfLog() throws Exception {
+    instance = open(1024 * 1024);
+    putAll(List.of(1, 2));
+    instance.close();
+
+    final Path segmentFile = singleSegmentFile();
+    final long validSize = Files.size(segmentFile);
+    try (final FileChannel channel =
+        FileChannel.open(segmentFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+      channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 100, 1, 2, 3}));
+    }
+
+    instance = open(1024 * 1024);
+
+    assertThat(Files.size(segmentFile)).isEqualTo(validSize);
+    assertThat(instance.get(COLUMN, UInt64.valueOf(1))).contains(Bytes.of(1));
+    assertThat(instance.get(COLUMN, UInt64.valueOf(2))).contains(Bytes.of(2));
+
+    putAll(List.of(3));
+    assertThat(instance.get(COLUMN, UInt64.valueOf(3))).contains(Bytes.of(3));
+  }
+
+  @Test
+  void shouldDiscardRecordWithInvalidChecksum() throws Exception {
+    instance = open(1024 * 1024);
+    putAll(List.of(1));
+    final long firstRecordEnd = Files.size(singleSegmentFile());
+    putAll(List.of(2));
+    instance.close();
+
+    final Path segmentFile = singleSegmentFile();
+    try (final FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.WRITE)) {
+      channel.write(
+          ByteBuffer.wrap(new byte[] {(byte) 0xff}), Files.size(segmentFile) - 1);
+    }
+
+    instance = open(1024 * 1024);
+
+    assertThat(instance.get(COLUMN, UInt64.valueOf(1))).contains(Bytes.of(1));
+    assertThat(instance.get(COLUMN, UInt64.valueOf(2))).isEmpty();
+    assertThat(Files.size(segmentFile)).isEqualTo(firstRecordEnd);
+  }
+
+  @Test
+  void compactSegments_shouldRemoveSegmentsWhilePreservingLiveValuesAndDeletes() throws Exception {
+    instance = open(128);
+    putAll(List.of(1, 2, 3, 4, 5, 6, 7, 8));
+    // Overwrite most values so the older segments are mostly garbage
+    try (final KvStoreTransaction transaction = instance.startTransaction()) {
+      for (int i = 2; i <= 8; i++) {
+        transaction.put(COLUMN, UInt64.valueOf(i), Bytes.of(i * 10));
+      }
+      transaction.delete(COLUMN, UInt64.ONE);
+      transaction.commit();
+    }
+    final int segmentCountBeforeCompaction = instance.getSegmentCount();
+
+    instance.compactSegments();
+
+    assertThat(instance.getSegmentCount()).isLessThan(segmentCountBeforeCompaction);
+    assertThat(instance.get(COLUMN, UInt64.ONE)).isEmpty();
+    for (int i = 2; i <= 8; i++) {
+      assertThat(instance.get(COLUMN, UInt64.valueOf(i))).contains(Bytes.of(i * 10));
+    }
+
+    // Deletes must survive compaction and reopening
+    instance.close();
+    instance = open(128);
+    assertThat(instance.get(COLUMN, UInt64.ONE)).isEmpty();
+    for (int i = 2; i <= 8; i++) {
+      assertThat(instance.get(COLUMN, UInt64.valueOf(i))).contains(Bytes.of(i * 10));
+    }
+  }
+
+  @Test
+  void compactSegments_shouldSyncCopiedValuesBeforeDeletingSegment() throws Exception {
+    instance = open(128);
+    putAll(List.of(1, 2, 3, 4, 5, 6, 7, 8));
+    // Leave key 1 live in the oldest segment so compaction has to copy it
+    try (final KvStoreTransaction transaction = instance.startTransaction()) {
+      for (int i = 2; i <= 8; i++) {
+        transaction.put(COLUMN, UInt64.valueOf(i), Bytes.of(i * 10));
+      }
+      transaction.commit();
+    }
+    final int segmentCountBeforeCompaction = instance.getSegmentCount();
+
+    instance.compactSegments();
+
+    assertThat(instance.getSegmentCount()).isLessThan(segmentCountBeforeCompaction);
+    assertThat(instance.getUnsyncedBytes()).isZero();
+    assertThat(instance.get(COLUMN, UInt64.ONE)).contains(Bytes.of(1));
+  }
+
+  @Test
+  void compactSegments_shouldDropDeletesOnceNoOlderSegmentRemains() throws Exception {
+    instance = open(128);
+    putAll(List.of(1, 2, 3, 4, 5, 6, 7, 8));
+    try (final KvStoreTransaction transaction = instance.startTransaction()) {
+      for (int i = 1; i <= 8; i++) {
+        transaction.delete(COLUMN, UInt64.valueOf(i));
+      }
+      transaction.commit();
+    }
+    final int segmentCountWithDeletes = instance.getSegmentCount();
+    putAll(List.of(9, 10, 11, 12, 13, 14, 15, 16));
+    final int segmentCountBeforeCompaction = instance.getSegmentCount();
+
+    instance.compactSegments();
+
+    // The segment holding only deletes is removed once it is the oldest, without copying them
+    assertThat(instance.getSegmentCount())
+        .isEqualTo(segmentCountBeforeCompaction - segmentCountWithDeletes);
+    for (int i = 1; i <= 8; i++) {
+      assertThat(instance.get(COLUMN, UInt64.valueOf(i))).isEmpty();
+    }
+
+    instance.close();
+    instance = open(128);
+    for (int i = 1; i <= 8; i++) {
+      assertThat(instance.get(COLUMN, UInt64.valueOf(i))).isEmpty();
+    }
+    for (int i = 9; i <= 16; i++) {
+      assertThat(instance.get(COLUMN, UInt64.valueOf(i))).contains(Bytes.of(i));
+    }
+  }
+
+  @Test
+  void shouldRejectTransactionsAfterClose() throws Exception {
+    instance = open(1024 * 1024);
+    try (final KvStoreTransaction transaction = instance.startTransaction()) {
+      instance.close();
+
+      assertThatThrownBy(() -> transaction.put(COLUMN, UInt64.ONE, Bytes.of(1)))
+          .isInstanceOf(ShuttingDownException.class);
+    }
+  }
+
+  private void putAll(final List<Integer> keys) {
+    for (int key : keys) {
+      try (final KvStoreTransaction transaction = instance.startTransaction()) {
+        transaction.put(COLUMN, UInt64.valueOf(key), Bytes.of(key));
+        transaction.commit();
+      }
+    }
+  }
+
+  private Path singleSegmentFile() throws IOException {
+    try (final Stream<Path> files = Files.list(tempDir)) {
+      final List<Path> segmentFiles =
+          files.filter(file -> LogSegment.parseId(file).isPresent()).toList();
+      assertThat(segmentFiles).hasSize(1);
+      return segmentFiles.get(0);
+    }
+  }
+
+  private AppendLogInstance open(final long maxSegmentSize) {
+    try {
+      return AppendLogInstance.open(
+          tempDir,
+          new NoOpMetricsSystem(),
+          TekuMetricCategory.STORAGE,
+          List.of(COLUMN, OTHER_COLUMN),
+          maxSegmentSize,
+          0.5,
+          compactionExecutor);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -25,6 +25,8 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 
@@ -66,6 +68,20 @@ public class StubStorageUpdateChannelWithDelays implements StorageUpdateChannel
     return asyncRunner.runAsync(() -> SafeFuture.COMPLETE);
   }
 
+  @Override
+  public SafeFuture<Void> onLightClientUpdate(
+      final UInt64 period, final LightClientUpdate update) {
+    return asyncRunner.runAsync(() -> SafeFuture.COMPLETE);
+  }
+
+  @Override
+  public SafeFuture<Void> onLightClientBootstrap(
+      final Bytes32 blockRoot,
+      final LightClientBootstrap bootstrap,
+      final Optional<Bytes32> prunedBlockRoot) {
+    return asyncRunner.runAsync(() -> SafeFuture.COMPLETE);
+  }
+
   @Override
   public void onChainInitialized(final AnchorPoint initialAnchor) {}
 }
@@ -24,6 +24,7 @@ import tech.pegasys.teku.spec.generator.ChainBuilder;
 import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.DatabaseVersion;
 import tech.pegasys.teku.storage.server.StateStorageMode;
+import tech.pegasys.teku.storage.server.appendlog.AppendLogDatabaseFactory;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
 import tech.pegasys.teku.storage.server.leveldb.LevelDbDatabaseFactory;
@@ -89,6 +90,9 @@ public class FileBackedStorageSystemBuilder {
       case V4:
         database = createV4Database();
         break;
+      case APPEND_LOG:
+        database = createAppendLogDatabase();
+        break;
       default:
         throw new UnsupportedOperationException("Unsupported database version: " + version);
     }
@@ -209,6 +213,17 @@ public class FileBackedStorageSystemBuilder {
         spec);
   }
 
+  private Database createAppendLogDatabase() {
+    KvStoreConfiguration configDefault = KvStoreConfiguration.v6SingleDefaults();
+    return AppendLogDatabaseFactory.createAppendLog(
+        new StubMetricsSystem(),
+        configDefault.withDatabaseDir(hotDir),
+        storageMode,
+        stateStorageFrequency,
+        storeNonCanonicalBlocks,
+        spec);
+  }
+
   private Database createV5Database() {
     return RocksDbDatabaseFactory.createV4(
         new StubMetricsSystem(),
@@ -80,6 +80,7 @@ public class InMemoryStorageSystemBuilder {
         database = createLevelDbTreeDatabase();
         break;
       case LEVELDB2: // Leveldb only varies by db type which doesn't apply to in-memory
+      case APPEND_LOG: // Append log only varies by db type which doesn't apply to in-memory
       case V6:
         database = createV6Database();
         break;
@@ -38,6 +38,8 @@ public class SupportedDatabaseVersionArgumentsProvider implements ArgumentsProvi
       supportedVersions.add(DatabaseVersion.LEVELDB2);
       supportedVersions.add(DatabaseVersion.LEVELDB_TREE);
     }
+    // Implemented in Java so supported on every platform
+    supportedVersions.add(DatabaseVersion.APPEND_LOG);
 
     assertThat(supportedVersions)
         .withFailMessage(
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.cli.options;
 
 import static tech.pegasys.teku.service.serviceutils.layout.DataConfig.DEFAULT_DEBUG_DATA_DUMPING_ENABLED;
+import static tech.pegasys.teku.storage.server.StorageConfiguration.DEFAULT_ASYNC_FINALIZATION_STORAGE_ENABLED;
 import static tech.pegasys.teku.storage.server.StorageConfiguration.DEFAULT_STATE_REBUILD_TIMEOUT_SECONDS;
 
 import java.nio.file.Path;
@@ -190,6 +191,17 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
       arity = "1")
   private int stateRebuildTimeoutSeconds = DEFAULT_STATE_REBUILD_TIMEOUT_SECONDS;
 
+  @Option(
+      names = {"--Xdata-storage-async-finalization-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Commit hot data first and migrate newly finalized data to finalized storage in the background",
+      fallbackValue = "true",
+      hidden = true,
+      arity = "0..1")
+  private boolean asyncFinalizationStorageEnabled = DEFAULT_ASYNC_FINALIZATION_STORAGE_ENABLED;
+
   @Option(
       names = {"--Xdebug-data-dumping-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -226,7 +238,8 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
                 .blobsArchivePath(blobsArchivePath)
                 .retainedSlots(dataStorageRetainedSlots)
                 .statePruningInterval(Duration.ofSeconds(statePruningIntervalSeconds))
-                .statePruningLimit(statePruningLimit));
+                .statePruningLimit(statePruningLimit)
+                .asyncFinalizationStorageEnabled(asyncFinalizationStorageEnabled));
     builder.sync(
         b ->
             b.fetchAllHistoricBlocks(dataStorageMode.storesAllBlocks())
@@ -130,6 +130,34 @@ public class BeaconRestApiOptions {
       hidden = true)
   private Integer validatorThreads;
 
+  @Option(
+      names = {"--Xrest-api-stored-reward-epochs"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Record attestation reward deltas during epoch processing and keep them for this many finalized epochs so the rewards api doesn't need to regenerate states. 0 disables recording.",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true)
+  private int storedRewardEpochs = BeaconRestApiConfig.DEFAULT_STORED_REWARD_EPOCHS;
+
+  @Option(
+      names = {"--Xrest-api-response-cache-max-mb"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum size in megabytes of the cache holding encoded responses for finalized blocks and states. 0 disables the cache.",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true)
+  private int responseCacheMaxMb = BeaconRestApiConfig.DEFAULT_RESPONSE_CACHE_MAX_MB;
+
+  @Option(
+      names = {"--Xrest-api-state-serialization-cache-max-mb"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum size in megabytes of previously serialized state data reused when returning states as SSZ. 0 disables the cache.",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true)
+  private int stateSerializationCacheMaxMb =
+      BeaconRestApiConfig.DEFAULT_STATE_SERIALIZATION_CACHE_MAX_MB;
+
   public void configure(final TekuConfiguration.Builder builder) {
     // Set defaults
     if (restApiEnabled == null && restApiPort == null) {
@@ -154,6 +182,9 @@ public class BeaconRestApiOptions {
                 .maxUrlLength(maxUrlLength)
                 .beaconLivenessTrackingEnabled(beaconLivenessTrackingEnabled)
                 .maxPendingEvents(maxPendingEvents)
+                .storedRewardEpochs(storedRewardEpochs)
+                .responseCacheMaxMb(responseCacheMaxMb)
+                .stateSerializationCacheMaxMb(stateSerializationCacheMaxMb)
                 .validatorThreads(Optional.ofNullable(validatorThreads)));
   }
 }
@@ -63,6 +63,18 @@ public class ValidatorClientOptions {
   private boolean validatorClientSszBlocksEnabled =
       ValidatorConfig.DEFAULT_VALIDATOR_CLIENT_SSZ_BLOCKS_ENABLED;
 
+  @Option(
+      names = {"--Xbeacon-node-ssz-validator-api-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Use SSZ encoding for attestation data requests, v2 attestation and aggregate submissions and validator registrations, falling back to JSON when not supported by the beacon node. All other validator API requests, including sync committee messages, contributions and subnet subscriptions, always use JSON",
+      hidden = true,
+      showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean validatorClientSszValidatorApiEnabled =
+      ValidatorConfig.DEFAULT_VALIDATOR_CLIENT_SSZ_VALIDATOR_API_ENABLED;
+
   @CommandLine.Option(
       names = {"--Xuse-post-validators-endpoint-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -105,6 +117,7 @@ public class ValidatorClientOptions {
             config
                 .beaconNodeApiEndpoints(getBeaconNodeApiEndpoints())
                 .validatorClientUseSszBlocksEnabled(validatorClientSszBlocksEnabled)
+                .validatorClientUseSszValidatorApiEnabled(validatorClientSszValidatorApiEnabled)
                 .validatorClientUsePostValidatorsEndpointEnabled(
                     validatorClientUsePostValidatorsEndpointEnabled)
                 .failoversSendSubnetSubscriptionsEnabled(failoversSendSubnetSubscriptionsEnabled)
@@ -104,6 +104,18 @@ public class ValidatorKeysOptions {
   private int validatorExternalSignerConcurrentRequestLimit =
       ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
 
+  @CommandLine.Option(
+      names = {"--Xvalidators-external-signer-batching-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Group attestation, aggregation and sync committee signing requests into bulk requests to the external signer. Falls back to individual requests if the signer doesn't support bulk signing.",
+      hidden = true,
+      showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean validatorExternalSignerBatchingEnabled =
+      ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BATCHING_ENABLED;
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.validator(
         config ->
@@ -113,6 +125,7 @@ public class ValidatorKeysOptions {
                 .validatorExternalSignerUrl(parseValidatorExternalSignerUrl())
                 .validatorExternalSignerConcurrentRequestLimit(
                     validatorExternalSignerConcurrentRequestLimit)
+                .validatorExternalSignerBatchingEnabled(validatorExternalSignerBatchingEnabled)
                 .validatorExternalSignerTimeout(Duration.ofMillis(validatorExternalSignerTimeout))
                 .validatorExternalSignerKeystore(convertToPath(validatorExternalSignerKeystore))
                 .validatorExternalSignerKeystorePasswordFile(
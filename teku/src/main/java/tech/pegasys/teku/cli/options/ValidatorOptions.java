@@ -90,6 +90,29 @@ public class ValidatorOptions {
   private boolean validatorKeystoreLockingEnabled =
       ValidatorConfig.DEFAULT_VALIDATOR_KEYSTORE_LOCKING_ENABLED;
 
+  @Option(
+      names = {"--Xvalidators-key-cache-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Cache decrypted validator keys in a file sealed with a key stored in the data directory so later starts skip keystore decryption. Anyone able to read the validator data directory, including its backups, can recover the cached keys",
+      hidden = true,
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean validatorKeyCacheEnabled = ValidatorConfig.DEFAULT_VALIDATOR_KEY_CACHE_ENABLED;
+
+  @Option(
+      names = {"--Xvalidators-status-snapshot-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Store the index and status of validators in the data directory so they are available immediately on restart",
+      hidden = true,
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean validatorStatusSnapshotEnabled =
+      ValidatorConfig.DEFAULT_VALIDATOR_STATUS_SNAPSHOT_ENABLED;
+
   @Option(
       names = {"--validators-external-signer-slashing-protection-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -173,6 +196,8 @@ public class ValidatorOptions {
         config -> {
           config
               .validatorKeystoreLockingEnabled(validatorKeystoreLockingEnabled)
+              .validatorKeyCacheEnabled(validatorKeyCacheEnabled)
+              .validatorStatusSnapshotEnabled(validatorStatusSnapshotEnabled)
               .validatorPerformanceTrackingMode(validatorPerformanceTrackingMode)
               .validatorExternalSignerSlashingProtectionEnabled(
                   validatorExternalSignerSlashingProtectionEnabled)
@@ -62,6 +62,22 @@ public class ValidatorOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(config.getValidatorExternalSignerConcurrentRequestLimit()).isEqualTo(123);
   }
 
+  @Test
+  public void shouldDisableValidatorExternalSignerBatchingByDefault() {
+    final ValidatorConfig config =
+        getTekuConfigurationFromArguments().validatorClient().getValidatorConfig();
+    assertThat(config.isValidatorExternalSignerBatchingEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldEnableValidatorExternalSignerBatching() {
+    final ValidatorConfig config =
+        getTekuConfigurationFromArguments("--Xvalidators-external-signer-batching-enabled")
+            .validatorClient()
+            .getValidatorConfig();
+    assertThat(config.isValidatorExternalSignerBatchingEnabled()).isTrue();
+  }
+
   @Test
   public void graffiti_shouldBeEmptyByDefault() {
     final ValidatorConfig config =
@@ -21,6 +21,7 @@ import java.util.Optional;
 import java.util.Set;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
+import tech.pegasys.teku.api.migrated.ValidatorLivenessBitfield;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -187,6 +188,12 @@ public interface ValidatorApiChannel extends ChannelInterface {
           return SafeFuture.completedFuture(Optional.empty());
         }
 
+        @Override
+        public SafeFuture<Optional<ValidatorLivenessBitfield>> getValidatorsLivenessBitfield(
+            final UInt64 epoch) {
+          return SafeFuture.completedFuture(Optional.empty());
+        }
+
         @Override
         public SafeFuture<Optional<List<BeaconCommitteeSelectionProof>>>
             getBeaconCommitteeSelectionProof(final List<BeaconCommitteeSelectionProof> requests) {
@@ -273,6 +280,15 @@ public interface ValidatorApiChannel extends ChannelInterface {
   SafeFuture<Optional<List<ValidatorLivenessAtEpoch>>> getValidatorsLiveness(
       List<UInt64> validatorIndices, UInt64 epoch);
 
+  /**
+   * Teku specific: the liveness of every validator at the epoch as a bitfield, so the request does
+   * not grow with the number of validators being checked.
+   *
+   * @return empty if the beacon node does not support it, in which case {@link
+   *     #getValidatorsLiveness(List, UInt64)} should be used instead
+   */
+  SafeFuture<Optional<ValidatorLivenessBitfield>> getValidatorsLivenessBitfield(UInt64 epoch);
+
   SafeFuture<Optional<List<BeaconCommitteeSelectionProof>>> getBeaconCommitteeSelectionProof(
       List<BeaconCommitteeSelectionProof> requests);
 
@@ -49,6 +49,7 @@ public class ValidatorConfig {
   public static final boolean DEFAULT_FAILOVERS_PUBLISH_SIGNED_DUTIES_ENABLED = true;
   public static final boolean DEFAULT_EXIT_WHEN_NO_VALIDATOR_KEYS_ENABLED = false;
   public static final boolean DEFAULT_VALIDATOR_CLIENT_SSZ_BLOCKS_ENABLED = true;
+  public static final boolean DEFAULT_VALIDATOR_CLIENT_SSZ_VALIDATOR_API_ENABLED = false;
   public static final boolean DEFAULT_VALIDATOR_CLIENT_USE_POST_VALIDATORS_ENDPOINT_ENABLED = true;
   public static final boolean DEFAULT_DOPPELGANGER_DETECTION_ENABLED = false;
   public static final boolean DEFAULT_SHUTDOWN_WHEN_VALIDATOR_SLASHED_ENABLED = false;
@@ -58,7 +59,10 @@ public class ValidatorConfig {
   public static final int DEFAULT_EXECUTOR_MAX_QUEUE_SIZE_ALL_SUBNETS = 60_000;
   public static final Duration DEFAULT_VALIDATOR_EXTERNAL_SIGNER_TIMEOUT = Duration.ofSeconds(5);
   public static final int DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT = 32;
+  public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BATCHING_ENABLED = false;
   public static final boolean DEFAULT_VALIDATOR_KEYSTORE_LOCKING_ENABLED = true;
+  public static final boolean DEFAULT_VALIDATOR_KEY_CACHE_ENABLED = false;
+  public static final boolean DEFAULT_VALIDATOR_STATUS_SNAPSHOT_ENABLED = false;
   public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_SLASHING_PROTECTION_ENABLED = true;
   public static final boolean DEFAULT_GENERATE_EARLY_ATTESTATIONS = true;
   public static final Optional<Bytes32> DEFAULT_GRAFFITI = Optional.empty();
@@ -86,8 +90,11 @@ public class ValidatorConfig {
   private final ClientGraffitiAppendFormat clientGraffitiAppendFormat;
   private final ValidatorPerformanceTrackingMode validatorPerformanceTrackingMode;
   private final boolean validatorKeystoreLockingEnabled;
+  private final boolean validatorKeyCacheEnabled;
+  private final boolean validatorStatusSnapshotEnabled;
   private final Optional<List<URI>> beaconNodeApiEndpoints;
   private final int validatorExternalSignerConcurrentRequestLimit;
+  private final boolean validatorExternalSignerBatchingEnabled;
   private final boolean generateEarlyAttestations;
   private final Optional<Eth1Address> proposerDefaultFeeRecipient;
   private final Optional<String> proposerConfigSource;
@@ -95,6 +102,7 @@ public class ValidatorConfig {
   private final boolean blindedBeaconBlocksEnabled;
   private final boolean builderRegistrationDefaultEnabled;
   private final boolean validatorClientUseSszBlocksEnabled;
+  private final boolean validatorClientUseSszValidatorApiEnabled;
   private final boolean validatorClientUsePostValidatorsEndpointEnabled;
   private final boolean doppelgangerDetectionEnabled;
   private final boolean failoversSendSubnetSubscriptionsEnabled;
@@ -129,8 +137,11 @@ public class ValidatorConfig {
       final ClientGraffitiAppendFormat clientGraffitiAppendFormat,
       final ValidatorPerformanceTrackingMode validatorPerformanceTrackingMode,
       final boolean validatorKeystoreLockingEnabled,
+      final boolean validatorKeyCacheEnabled,
+      final boolean validatorStatusSnapshotEnabled,
       final boolean validatorExternalSignerSlashingProtectionEnabled,
       final int validatorExternalSignerConcurrentRequestLimit,
+      final boolean validatorExternalSignerBatchingEnabled,
       final boolean generateEarlyAttestations,
       final Optional<Eth1Address> proposerDefaultFeeRecipient,
       final Optional<String> proposerConfigSource,
@@ -138,6 +149,7 @@ public class ValidatorConfig {
       final boolean builderRegistrationDefaultEnabled,
       final boolean blindedBeaconBlocksEnabled,
       final boolean validatorClientUseSszBlocksEnabled,
+      final boolean validatorClientUseSszValidatorApiEnabled,
       final boolean validatorClientUsePostValidatorsEndpointEnabled,
       final boolean doppelgangerDetectionEnabled,
       final boolean failoversSendSubnetSubscriptionsEnabled,
@@ -167,12 +179,15 @@ public class ValidatorConfig {
     this.graffitiProvider = graffitiProvider;
     this.clientGraffitiAppendFormat = clientGraffitiAppendFormat;
     this.validatorKeystoreLockingEnabled = validatorKeystoreLockingEnabled;
+    this.validatorKeyCacheEnabled = validatorKeyCacheEnabled;
+    this.validatorStatusSnapshotEnabled = validatorStatusSnapshotEnabled;
     this.beaconNodeApiEndpoints = beaconNodeApiEndpoints;
     this.validatorPerformanceTrackingMode = validatorPerformanceTrackingMode;
     this.validatorExternalSignerSlashingProtectionEnabled =
         validatorExternalSignerSlashingProtectionEnabled;
     this.validatorExternalSignerConcurrentRequestLimit =
         validatorExternalSignerConcurrentRequestLimit;
+    this.validatorExternalSignerBatchingEnabled = validatorExternalSignerBatchingEnabled;
     this.generateEarlyAttestations = generateEarlyAttestations;
     this.proposerDefaultFeeRecipient = proposerDefaultFeeRecipient;
     this.proposerConfigSource = proposerConfigSource;
@@ -180,6 +195,7 @@ public class ValidatorConfig {
     this.blindedBeaconBlocksEnabled = blindedBeaconBlocksEnabled;
     this.builderRegistrationDefaultEnabled = builderRegistrationDefaultEnabled;
     this.validatorClientUseSszBlocksEnabled = validatorClientUseSszBlocksEnabled;
+    this.validatorClientUseSszValidatorApiEnabled = validatorClientUseSszValidatorApiEnabled;
     this.validatorClientUsePostValidatorsEndpointEnabled =
         validatorClientUsePostValidatorsEndpointEnabled;
     this.doppelgangerDetectionEnabled = doppelgangerDetectionEnabled;
@@ -215,6 +231,14 @@ public class ValidatorConfig {
     return validatorKeystoreLockingEnabled;
   }
 
+  public boolean isValidatorKeyCacheEnabled() {
+    return validatorKeyCacheEnabled;
+  }
+
+  public boolean isValidatorStatusSnapshotEnabled() {
+    return validatorStatusSnapshotEnabled;
+  }
+
   public List<String> getValidatorExternalSignerPublicKeySources() {
     return validatorExternalSignerPublicKeySources;
   }
@@ -239,6 +263,10 @@ public class ValidatorConfig {
     return validatorExternalSignerConcurrentRequestLimit;
   }
 
+  public boolean isValidatorExternalSignerBatchingEnabled() {
+    return validatorExternalSignerBatchingEnabled;
+  }
+
   public Pair<Path, Path> getValidatorExternalSignerKeystorePasswordFilePair() {
     return Pair.of(validatorExternalSignerKeystore, validatorExternalSignerKeystorePasswordFile);
   }
@@ -310,6 +338,10 @@ public class ValidatorConfig {
     return validatorClientUseSszBlocksEnabled;
   }
 
+  public boolean isValidatorClientUseSszValidatorApiEnabled() {
+    return validatorClientUseSszValidatorApiEnabled;
+  }
+
   public boolean isValidatorClientUsePostValidatorsEndpointEnabled() {
     return validatorClientUsePostValidatorsEndpointEnabled;
   }
@@ -378,6 +410,8 @@ public class ValidatorConfig {
     private Optional<String> validatorExternalSignerUserInfo = Optional.empty();
     private int validatorExternalSignerConcurrentRequestLimit =
         DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
+    private boolean validatorExternalSignerBatchingEnabled =
+        DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BATCHING_ENABLED;
     private Duration validatorExternalSignerTimeout = DEFAULT_VALIDATOR_EXTERNAL_SIGNER_TIMEOUT;
     private Path validatorExternalSignerKeystore;
     private Path validatorExternalSignerKeystorePasswordFile;
@@ -390,6 +424,8 @@ public class ValidatorConfig {
     private ValidatorPerformanceTrackingMode validatorPerformanceTrackingMode =
         ValidatorPerformanceTrackingMode.DEFAULT_MODE;
     private boolean validatorKeystoreLockingEnabled = DEFAULT_VALIDATOR_KEYSTORE_LOCKING_ENABLED;
+    private boolean validatorKeyCacheEnabled = DEFAULT_VALIDATOR_KEY_CACHE_ENABLED;
+    private boolean validatorStatusSnapshotEnabled = DEFAULT_VALIDATOR_STATUS_SNAPSHOT_ENABLED;
     private Optional<List<URI>> beaconNodeApiEndpoints = Optional.empty();
     private boolean validatorExternalSignerSlashingProtectionEnabled =
         DEFAULT_VALIDATOR_EXTERNAL_SIGNER_SLASHING_PROTECTION_ENABLED;
@@ -402,6 +438,8 @@ public class ValidatorConfig {
         DEFAULT_BUILDER_REGISTRATION_DEFAULT_ENABLED;
     private boolean blindedBlocksEnabled = DEFAULT_VALIDATOR_BLINDED_BLOCKS_ENABLED;
     private boolean validatorClientSszBlocksEnabled = DEFAULT_VALIDATOR_CLIENT_SSZ_BLOCKS_ENABLED;
+    private boolean validatorClientSszValidatorApiEnabled =
+        DEFAULT_VALIDATOR_CLIENT_SSZ_VALIDATOR_API_ENABLED;
     private boolean validatorClientUsePostValidatorsEndpointEnabled =
         DEFAULT_VALIDATOR_CLIENT_USE_POST_VALIDATORS_ENDPOINT_ENABLED;
     private boolean doppelgangerDetectionEnabled = DEFAULT_DOPPELGANGER_DETECTION_ENABLED;
@@ -478,6 +516,12 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder validatorExternalSignerBatchingEnabled(
+        final boolean validatorExternalSignerBatchingEnabled) {
+      this.validatorExternalSignerBatchingEnabled = validatorExternalSignerBatchingEnabled;
+      return this;
+    }
+
     public Builder validatorExternalSignerKeystore(final Path validatorExternalSignerKeystore) {
       this.validatorExternalSignerKeystore = validatorExternalSignerKeystore;
       return this;
@@ -529,6 +573,16 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder validatorKeyCacheEnabled(final boolean validatorKeyCacheEnabled) {
+      this.validatorKeyCacheEnabled = validatorKeyCacheEnabled;
+      return this;
+    }
+
+    public Builder validatorStatusSnapshotEnabled(final boolean validatorStatusSnapshotEnabled) {
+      this.validatorStatusSnapshotEnabled = validatorStatusSnapshotEnabled;
+      return this;
+    }
+
     public Builder generateEarlyAttestations(final boolean generateEarlyAttestations) {
       this.generateEarlyAttestations = generateEarlyAttestations;
       return this;
@@ -576,6 +630,12 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder validatorClientUseSszValidatorApiEnabled(
+        final boolean validatorClientUseSszValidatorApiEnabled) {
+      this.validatorClientSszValidatorApiEnabled = validatorClientUseSszValidatorApiEnabled;
+      return this;
+    }
+
     public Builder validatorClientUsePostValidatorsEndpointEnabled(
         final boolean validatorClientUsePostValidatorsEndpointEnabled) {
       this.validatorClientUsePostValidatorsEndpointEnabled =
@@ -703,8 +763,11 @@ public class ValidatorConfig {
           clientGraffitiAppendFormat,
           validatorPerformanceTrackingMode,
           validatorKeystoreLockingEnabled,
+          validatorKeyCacheEnabled,
+          validatorStatusSnapshotEnabled,
           validatorExternalSignerSlashingProtectionEnabled,
           validatorExternalSignerConcurrentRequestLimit,
+          validatorExternalSignerBatchingEnabled,
           generateEarlyAttestations,
           proposerDefaultFeeRecipient,
           proposerConfigSource,
@@ -712,6 +775,7 @@ public class ValidatorConfig {
           validatorsRegistrationDefaultEnabled,
           blindedBlocksEnabled,
           validatorClientSszBlocksEnabled,
+          validatorClientSszValidatorApiEnabled,
           validatorClientUsePostValidatorsEndpointEnabled,
           doppelgangerDetectionEnabled,
           failoversSendSubnetSubscriptionsEnabled,
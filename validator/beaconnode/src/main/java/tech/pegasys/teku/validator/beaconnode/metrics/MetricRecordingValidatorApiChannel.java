@@ -29,6 +29,7 @@ import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
+import tech.pegasys.teku.api.migrated.ValidatorLivenessBitfield;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -263,6 +264,14 @@ public class MetricRecordingValidatorApiChannel implements ValidatorApiChannel {
         BeaconNodeRequestLabels.GET_VALIDATORS_LIVENESS);
   }
 
+  @Override
+  public SafeFuture<Optional<ValidatorLivenessBitfield>> getValidatorsLivenessBitfield(
+      final UInt64 epoch) {
+    return countOptionalDataRequest(
+        delegate.getValidatorsLivenessBitfield(epoch),
+        BeaconNodeRequestLabels.GET_VALIDATORS_LIVENESS_BITFIELD);
+  }
+
   @Override
   public SafeFuture<Optional<List<BeaconCommitteeSelectionProof>>> getBeaconCommitteeSelectionProof(
       final List<BeaconCommitteeSelectionProof> requests) {
@@ -0,0 +1,261 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.validator.client.signer.ExternalSigner.slashableAttestationMessage;
+import static tech.pegasys.teku.validator.client.signer.ExternalSignerTestUtil.validateMetrics;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.junit.jupiter.MockServerExtension;
+import org.mockserver.verify.VerificationTimes;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.async.DelayedExecutorAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueueWithPriority;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.validator.api.signer.SignType;
+
+@ExtendWith(MockServerExtension.class)
+public class ExternalSignerBatchingIntegrationTest {
+  private static final Duration TIMEOUT = Duration.ofMillis(500);
+  private static final int CONCURRENT_REQUEST_LIMIT = 8;
+  private static final BLSKeyPair KEYPAIR_1 = BLSTestUtil.randomKeyPair(1);
+  private static final BLSKeyPair KEYPAIR_2 = BLSTestUtil.randomKeyPair(2);
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final ForkInfo forkInfo = dataStructureUtil.randomForkInfo();
+  private final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final ThrottlingTaskQueueWithPriority queue =
+      ThrottlingTaskQueueWithPriority.create(
+          CONCURRENT_REQUEST_LIMIT,
+          metricsSystem,
+          TekuMetricCategory.VALIDATOR,
+          "externalSignerTest");
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+
+  private ClientAndServer client;
+  private ExternalSignerBatcher batcher;
+  private ExternalSigner externalSigner1;
+  private ExternalSigner externalSigner2;
+
+  @BeforeEach
+  void setup(final ClientAndServer client) throws MalformedURLException {
+    this.client = client;
+    final URL signingServiceUrl = new URL("http://127.0.0.1:" + client.getLocalPort());
+    batcher =
+        new ExternalSignerBatcher(
+            httpClient,
+            TIMEOUT,
+            DelayedExecutorAsyncRunner.create(),
+            queue,
+            metricsSystem,
+            ExternalSignerBatcher.DEFAULT_MAX_BATCH_SIZE,
+            Duration.ofMillis(50));
+    externalSigner1 = createSigner(signingServiceUrl, KEYPAIR_1);
+    externalSigner2 = createSigner(signingServiceUrl, KEYPAIR_2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    client.reset();
+  }
+
+  @Test
+  void shouldSendSigningRequestsInSingleBulkRequest() {
+    final BLSSignature signature1 = dataStructureUtil.randomSignature();
+    final BLSSignature signature2 = dataStructureUtil.randomSignature();
+    client
+        .when(request().withPath(ExternalSignerBatcher.BULK_SIGN_ENDPOINT))
+        .respond(
+            response()
+                .withHeader("Content-Type", "application/json")
+                .withBody(
+                    "[{\"status\":200,\"signature\":\""
+                        + signature1
+                        + "\"},{\"status\":200,\"signature\":\""
+                        + signature2
+                        + "\"}]"));
+
+    final SafeFuture<BLSSignature> result1 =
+        externalSigner1.signAttestationData(attestationData, forkInfo);
+    final SafeFuture<BLSSignature> result2 =
+        externalSigner2.signAttestationData(attestationData, forkInfo);
+
+    assertThat(result1.join()).isEqualTo(signature1);
+    assertThat(result2.join()).isEqualTo(signature2);
+    client.verify(
+        request().withMethod("POST").withPath(ExternalSignerBatcher.BULK_SIGN_ENDPOINT),
+        VerificationTimes.exactly(1));
+    validateMetrics(metricsSystem, 2, 0, 0);
+  }
+
+  @Test
+  void shouldFailRequestWhichSignerRefusesToSign() {
+    final BLSSignature signature1 = dataStructureUtil.randomSignature();
+    client
+        .when(request().withPath(ExternalSignerBatcher.BULK_SIGN_ENDPOINT))
+        .respond(
+            response()
+                .withBody(
+                    "[{\"status\":200,\"signature\":\"" + signature1 + "\"},{\"status\":412}]"));
+
+    final SafeFuture<BLSSignature> result1 =
+        externalSigner1.signAttestationData(attestationData, forkInfo);
+    final SafeFuture<BLSSignature> result2 =
+        externalSigner2.signAttestationData(attestationData, forkInfo);
+
+    assertThat(result1.join()).isEqualTo(signature1);
+    assertThatThrownBy(result2::join)
+        .hasCauseInstanceOf(ExternalSignerException.class)
+        .hasMessageEndingWith(slashableAttestationMessage(attestationData).get());
+    validateMetrics(metricsSystem, 1, 1, 0);
+  }
+
+  @Test
+  void shouldFallBackToSingleRequestsWhenBulkRequestsAreNotSupported() {
+    final BLSSignature signature = dataStructureUtil.randomSignature();
+    client
+        .when(request().withPath(ExternalSignerBatcher.BULK_SIGN_ENDPOINT))
+        .respond(response().withStatusCode(SC_NOT_FOUND));
+    client
+        .when(
+            request()
+                .withPath(ExternalSigner.EXTERNAL_SIGNER_ENDPOINT + "/" + KEYPAIR_1.getPublicKey()))
+        .respond(response().withBody(signature.toString()));
+
+    assertThat(externalSigner1.signAttestationData(attestationData, forkInfo).join())
+        .isEqualTo(signature);
+    assertThat(externalSigner1.signAttestationData(attestationData, forkInfo).join())
+        .isEqualTo(signature);
+
+    // Only the first request tries the bulk endpoint
+    client.verify(
+        request().withMethod("POST").withPath(ExternalSignerBatcher.BULK_SIGN_ENDPOINT),
+        VerificationTimes.exactly(1));
+    client.verify(
+        request()
+            .withMethod("POST")
+            .withPath(ExternalSigner.EXTERNAL_SIGNER_ENDPOINT + "/" + KEYPAIR_1.getPublicKey()),
+        VerificationTimes.exactly(2));
+    validateMetrics(metricsSystem, 2, 0, 0);
+  }
+
+  @Test
+  void shouldBatchMoreRequestsThanConcurrentRequestLimit() throws MalformedURLException {
+    final URL signingServiceUrl = new URL("http://127.0.0.1:" + client.getLocalPort());
+    final int requestCount = CONCURRENT_REQUEST_LIMIT * 3;
+    final BLSSignature signature = dataStructureUtil.randomSignature();
+    final String result = "{\"status\":200,\"signature\":\"" + signature + "\"}";
+    client
+        .when(request().withPath(ExternalSignerBatcher.BULK_SIGN_ENDPOINT))
+        .respond(
+            response()
+                .withHeader("Content-Type", "application/json")
+                .withBody("[" + String.join(",", Collections.nCopies(requestCount, result)) + "]"));
+
+    final List<SafeFuture<BLSSignature>> results =
+        IntStream.range(0, requestCount)
+            .mapToObj(
+                i ->
+                    createSigner(signingServiceUrl, BLSTestUtil.randomKeyPair(10 + i))
+                        .signAggregationSlot(UInt64.valueOf(7), forkInfo))
+            .toList();
+
+    assertThat(SafeFuture.collectAll(results.stream()).join())
+        .hasSize(requestCount)
+        .containsOnly(signature);
+    client.verify(
+        request().withMethod("POST").withPath(ExternalSignerBatcher.BULK_SIGN_ENDPOINT),
+        VerificationTimes.exactly(1));
+    validateMetrics(metricsSystem, requestCount, 0, 0);
+  }
+
+  @Test
+  void shouldFallBackToSingleRequestsForMoreRequestsThanConcurrentRequestLimit()
+      throws MalformedURLException {
+    final URL signingServiceUrl = new URL("http://127.0.0.1:" + client.getLocalPort());
+    final int requestCount = CONCURRENT_REQUEST_LIMIT * 3;
+    final BLSSignature signature = dataStructureUtil.randomSignature();
+    client
+        .when(request().withPath(ExternalSignerBatcher.BULK_SIGN_ENDPOINT))
+        .respond(response().withStatusCode(SC_NOT_FOUND));
+    client
+        .when(request().withPath(ExternalSigner.EXTERNAL_SIGNER_ENDPOINT + "/0x.*"))
+        .respond(response().withBody(signature.toString()));
+
+    final List<SafeFuture<BLSSignature>> results =
+        IntStream.range(0, requestCount)
+            .mapToObj(
+                i ->
+                    createSigner(signingServiceUrl, BLSTestUtil.randomKeyPair(10 + i))
+                        .signAttestationData(attestationData, forkInfo))
+            .toList();
+
+    assertThat(SafeFuture.collectAll(results.stream()).join())
+        .hasSize(requestCount)
+        .containsOnly(signature);
+    client.verify(
+        request().withMethod("POST").withPath(ExternalSigner.EXTERNAL_SIGNER_ENDPOINT + "/0x.*"),
+        VerificationTimes.exactly(requestCount));
+    validateMetrics(metricsSystem, requestCount, 0, 0);
+  }
+
+  @Test
+  void shouldNotBatchBlockSigning() throws MalformedURLException {
+    final URL signingServiceUrl = new URL("http://127.0.0.1:" + client.getLocalPort());
+    assertThat(batcher.isBatched(signingServiceUrl, SignType.BLOCK_V2)).isFalse();
+    assertThat(batcher.isBatched(signingServiceUrl, SignType.RANDAO_REVEAL)).isFalse();
+    assertThat(batcher.isBatched(signingServiceUrl, SignType.ATTESTATION)).isTrue();
+  }
+
+  private ExternalSigner createSigner(final URL signingServiceUrl, final BLSKeyPair keyPair) {
+    return new ExternalSigner(
+        spec,
+        httpClient,
+        signingServiceUrl,
+        keyPair.getPublicKey(),
+        TIMEOUT,
+        queue,
+        metricsSystem,
+        Optional.of(batcher));
+  }
+}
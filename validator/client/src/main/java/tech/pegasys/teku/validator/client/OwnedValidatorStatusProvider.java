@@ -17,6 +17,7 @@ import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -59,6 +60,7 @@ public class OwnedValidatorStatusProvider implements ValidatorStatusProvider {
   private final AtomicReference<UInt64> lastRunEpoch = new AtomicReference<>();
   private final AtomicReference<UInt64> currentEpoch = new AtomicReference<>();
   private final Spec spec;
+  private final Optional<ValidatorStatusSnapshotStore> snapshotStore;
 
   private final Subscribers<ValidatorStatusSubscriber> validatorStatusSubscribers =
       Subscribers.create(true);
@@ -69,10 +71,21 @@ public class OwnedValidatorStatusProvider implements ValidatorStatusProvider {
       final ValidatorApiChannel validatorApiChannel,
       final Spec spec,
       final AsyncRunner asyncRunner) {
+    this(metricsSystem, validators, validatorApiChannel, spec, asyncRunner, Optional.empty());
+  }
+
+  public OwnedValidatorStatusProvider(
+      final MetricsSystem metricsSystem,
+      final OwnedValidators validators,
+      final ValidatorApiChannel validatorApiChannel,
+      final Spec spec,
+      final AsyncRunner asyncRunner,
+      final Optional<ValidatorStatusSnapshotStore> snapshotStore) {
     this.validators = validators;
     this.validatorApiChannel = validatorApiChannel;
     this.asyncRunner = asyncRunner;
     this.spec = spec;
+    this.snapshotStore = snapshotStore;
     this.localValidatorCounts =
         SettableLabelledGauge.create(
             metricsSystem,
@@ -151,6 +164,11 @@ public class OwnedValidatorStatusProvider implements ValidatorStatusProvider {
 
     // All validators are set to `unknown` until explicitly updated otherwise
     localValidatorCounts.set(validators.getValidatorCount(), "unknown");
+    final Optional<UInt64> snapshotEpoch =
+        snapshotStore.flatMap(ValidatorStatusSnapshotStore::getSnapshotEpoch);
+    if (snapshotEpoch.isPresent()) {
+      return initValidatorStatusesFromSnapshot(snapshotStore.get(), snapshotEpoch.get());
+    }
     return validatorApiChannel
         .getValidatorStatuses(validators.getPublicKeys())
         .thenCompose(
@@ -165,6 +183,54 @@ public class OwnedValidatorStatusProvider implements ValidatorStatusProvider {
         .exceptionallyCompose((__) -> retryInitialValidatorStatusCheck());
   }
 
+  /**
+   * Starts from the statuses in the snapshot so only validators added since it was taken need to
+   * be requested before startup completes. If the snapshot is from an earlier epoch, any of the
+   * stored statuses may have changed so all statuses are then refreshed in the background.
+   */
+  private SafeFuture<Void> initValidatorStatusesFromSnapshot(
+      final ValidatorStatusSnapshotStore store, final UInt64 snapshotEpoch) {
+    final Map<BLSPublicKey, ValidatorStatus> storedStatuses = store.getValidatorStatuses();
+    final Map<BLSPublicKey, ValidatorStatus> snapshotStatuses = new HashMap<>();
+    final Set<BLSPublicKey> newKeys = new HashSet<>();
+    validators
+        .getPublicKeys()
+        .forEach(
+            key -> {
+              final ValidatorStatus status = storedStatuses.get(key);
+              if (status != null) {
+                snapshotStatuses.put(key, status);
+              } else {
+                newKeys.add(key);
+              }
+            });
+    LOG.debug(
+        "Loaded {} validator statuses from snapshot at epoch {}, requesting {} new validators",
+        snapshotStatuses.size(),
+        snapshotEpoch,
+        newKeys.size());
+    final SafeFuture<Optional<Map<BLSPublicKey, ValidatorStatus>>> newValidatorStatuses =
+        newKeys.isEmpty()
+            ? SafeFuture.completedFuture(Optional.of(Map.of()))
+            : validatorApiChannel.getValidatorStatuses(newKeys);
+    return newValidatorStatuses
+        .thenCompose(
+            maybeNewValidatorStatuses -> {
+              if (maybeNewValidatorStatuses.isEmpty()) {
+                return retryInitialValidatorStatusCheck();
+              }
+              snapshotStatuses.putAll(maybeNewValidatorStatuses.get());
+              onUpdatedValidatorStatuses(snapshotStatuses, false, false);
+              lastRunEpoch.set(snapshotEpoch);
+              startupComplete.set(true);
+              if (needToUpdateAllStatuses()) {
+                updateValidatorStatuses(false);
+              }
+              return SafeFuture.COMPLETE;
+            })
+        .exceptionallyCompose((__) -> retryInitialValidatorStatusCheck());
+  }
+
   private SafeFuture<Void> retryInitialValidatorStatusCheck() {
     return asyncRunner.runAfterDelay(
         this::initValidatorStatuses, INITIAL_STATUS_CHECK_RETRY_PERIOD);
@@ -234,6 +300,8 @@ public class OwnedValidatorStatusProvider implements ValidatorStatusProvider {
         s -> s.onValidatorStatuses(newValidatorStatuses, possibleMissingEvents));
     if (updateLastRunEpoch) {
       lastRunEpoch.set(currentEpoch.get());
+      snapshotStore.ifPresent(
+          store -> store.saveValidatorStatuses(currentEpoch.get(), newValidatorStatuses));
     }
     updateValidatorCountMetrics(newValidatorStatuses);
   }
@@ -38,6 +38,7 @@ import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException
 import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.infrastructure.io.SystemSignalListener;
 import tech.pegasys.teku.infrastructure.logging.ValidatorLogger;
+import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.restapi.RestApi;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
@@ -167,13 +168,21 @@ public class ValidatorClientService extends Service {
 
     final ValidatorLoader validatorLoader =
         createValidatorLoader(services, config, asyncRunner, updatableGraffitiProvider);
+    final Optional<ValidatorStatusSnapshotStore> statusSnapshotStore =
+        validatorConfig.isValidatorStatusSnapshotEnabled()
+            ? Optional.of(
+                ValidatorStatusSnapshotStore.load(
+                    services.getDataDirLayout().getValidatorDataDirectory(),
+                    services.getMetricsSystem()))
+            : Optional.empty();
     final ValidatorStatusProvider validatorStatusProvider =
         new OwnedValidatorStatusProvider(
             services.getMetricsSystem(),
             validatorLoader.getOwnedValidators(),
             validatorApiChannel,
             config.getSpec(),
-            asyncRunner);
+            asyncRunner,
+            statusSnapshotStore);
     final Optional<ProposerConfigManager> proposerConfigManager;
     Optional<BeaconProposerPreparer> beaconProposerPreparer = Optional.empty();
     Optional<ValidatorRegistrator> validatorRegistrator = Optional.empty();
@@ -236,9 +245,13 @@ public class ValidatorClientService extends Service {
             doppelgangerDetectionAction,
             maybeValidatorSlashedAction);
 
-    asyncRunner
-        .runAsync(
-            () -> validatorClientService.initializeValidators(validatorApiChannel, asyncRunner))
+    checkStatusSnapshotNetwork(statusSnapshotStore, genesisDataProvider)
+        .thenCompose(
+            __ ->
+                asyncRunner.runAsync(
+                    () ->
+                        validatorClientService.initializeValidators(
+                            validatorApiChannel, asyncRunner, statusSnapshotStore)))
         .thenCompose(
             __ -> {
               checkNoKeysLoaded(validatorConfig, validatorLoader);
@@ -439,12 +452,31 @@ public class ValidatorClientService extends Service {
         updatableGraffitiProvider);
   }
 
+  /**
+   * The snapshot is only used once it is known to be from the beacon node's network, so a data
+   * directory moved between networks can't supply wrong indices.
+   */
+  private static SafeFuture<Void> checkStatusSnapshotNetwork(
+      final Optional<ValidatorStatusSnapshotStore> statusSnapshotStore,
+      final GenesisDataProvider genesisDataProvider) {
+    return statusSnapshotStore
+        .map(
+            store ->
+                genesisDataProvider
+                    .getGenesisValidatorsRoot()
+                    .thenAccept(store::setGenesisValidatorsRoot))
+        .orElse(SafeFuture.COMPLETE);
+  }
+
   private void initializeValidators(
-      final ValidatorApiChannel validatorApiChannel, final AsyncRunner asyncRunner) {
+      final ValidatorApiChannel validatorApiChannel,
+      final AsyncRunner asyncRunner,
+      final Optional<ValidatorStatusSnapshotStore> statusSnapshotStore) {
     validatorLoader.loadValidators();
     final OwnedValidators validators = validatorLoader.getOwnedValidators();
     this.validatorIndexProvider =
-        new ValidatorIndexProvider(validators, validatorApiChannel, asyncRunner);
+        new ValidatorIndexProvider(
+            validators, validatorApiChannel, asyncRunner, statusSnapshotStore);
   }
 
   private void scheduleValidatorsDuties(
@@ -459,7 +491,8 @@ public class ValidatorClientService extends Service {
         new BlockDutyFactory(
             forkProvider, validatorApiChannel, blockContainerSigner, spec, validatorDutyMetrics);
     final AttestationDutyFactory attestationDutyFactory =
-        new AttestationDutyFactory(spec, forkProvider, validatorApiChannel, validatorDutyMetrics);
+        new AttestationDutyFactory(
+            spec, forkProvider, validatorApiChannel, validatorDutyMetrics, asyncRunner);
     final BeaconCommitteeSubscriptions beaconCommitteeSubscriptions =
         new BeaconCommitteeSubscriptions(validatorApiChannel);
     final boolean dvtSelectionsEndpointEnabled =
@@ -573,6 +606,7 @@ public class ValidatorClientService extends Service {
               maybeValidatorRestApi.ifPresent(
                   restApi -> restApi.start().ifExceptionGetsHereRaiseABug());
               SystemSignalListener.registerReloadConfigListener(validatorLoader::loadValidators);
+              recordValidatorIndicesStartupTime();
               validatorIndexProvider.lookupValidators();
               return maybeDoppelgangerDetector
                   .map(
@@ -608,6 +642,20 @@ public class ValidatorClientService extends Service {
             });
   }
 
+  private void recordValidatorIndicesStartupTime() {
+    final long startTimeNanos = System.nanoTime();
+    final SettableGauge startupTimeGauge =
+        SettableGauge.create(
+            metricsSystem,
+            TekuMetricCategory.VALIDATOR,
+            "validator_indices_startup_time_seconds",
+            "Time taken after starting until the indices of validators were available to load duties");
+    validatorIndexProvider
+        .getValidatorIndices()
+        .thenRun(() -> startupTimeGauge.set((System.nanoTime() - startTimeNanos) / 1_000_000_000d))
+        .ifExceptionGetsHereRaiseABug();
+  }
+
   @Override
   protected SafeFuture<?> doStop() {
     return SafeFuture.allOf(
@@ -20,8 +20,11 @@ import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntCollection;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -42,23 +45,43 @@ public class ValidatorIndexProvider {
   private final OwnedValidators ownedValidators;
   private final ValidatorApiChannel validatorApiChannel;
   private final AsyncRunner asyncRunner;
+  private final Optional<ValidatorStatusSnapshotStore> snapshotStore;
   private final Map<BLSPublicKey, Integer> validatorIndicesByPublicKey = new ConcurrentHashMap<>();
 
   private final AtomicBoolean requestInProgress = new AtomicBoolean(false);
+  private final AtomicBoolean snapshotRefreshScheduled = new AtomicBoolean(false);
   private final SafeFuture<Void> firstSuccessfulRequest = new SafeFuture<>();
 
   public ValidatorIndexProvider(
       final OwnedValidators ownedValidators,
       final ValidatorApiChannel validatorApiChannel,
       final AsyncRunner asyncRunner) {
+    this(ownedValidators, validatorApiChannel, asyncRunner, Optional.empty());
+  }
+
+  public ValidatorIndexProvider(
+      final OwnedValidators ownedValidators,
+      final ValidatorApiChannel validatorApiChannel,
+      final AsyncRunner asyncRunner,
+      final Optional<ValidatorStatusSnapshotStore> snapshotStore) {
     this.ownedValidators = ownedValidators;
     this.validatorApiChannel = validatorApiChannel;
     this.asyncRunner = asyncRunner;
+    this.snapshotStore = snapshotStore;
+    snapshotStore.ifPresent(
+        store -> validatorIndicesByPublicKey.putAll(store.getValidatorIndices()));
   }
 
   public void lookupValidators() {
     final Collection<BLSPublicKey> unknownValidators = getUnknownValidators();
+    if (snapshotStore.isPresent() && snapshotRefreshScheduled.compareAndSet(false, true)) {
+      asyncRunner.runAsync(this::refreshSnapshotIndices).ifExceptionGetsHereRaiseABug();
+    }
     if (unknownValidators.isEmpty()) {
+      if (!ownedValidators.hasNoValidators()) {
+        // All indices are already known from the snapshot so there is nothing to wait for
+        firstSuccessfulRequest.complete(null);
+      }
       return;
     }
 
@@ -72,6 +95,7 @@ public class ValidatorIndexProvider {
             knownValidators -> {
               logNewValidatorIndices(knownValidators);
               validatorIndicesByPublicKey.putAll(knownValidators);
+              snapshotStore.ifPresent(store -> store.updateValidatorIndices(knownValidators));
               firstSuccessfulRequest.complete(null);
             })
         .orTimeout(30, TimeUnit.SECONDS)
@@ -85,6 +109,61 @@ public class ValidatorIndexProvider {
             });
   }
 
+  /**
+   * Indices loaded from the snapshot are used straight away, then checked against the beacon node
+   * in the background so a stale or corrupted snapshot can't keep wrong indices in use.
+   */
+  private void refreshSnapshotIndices() {
+    final Map<BLSPublicKey, Integer> snapshotIndices =
+        snapshotStore.map(ValidatorStatusSnapshotStore::getValidatorIndices).orElse(Map.of());
+    final Set<BLSPublicKey> snapshotKeys =
+        Sets.intersection(snapshotIndices.keySet(), ownedValidators.getPublicKeys())
+            .immutableCopy();
+    if (snapshotKeys.isEmpty()) {
+      return;
+    }
+    validatorApiChannel
+        .getValidatorIndices(snapshotKeys)
+        .thenAccept(
+            beaconNodeIndices -> {
+              final Map<BLSPublicKey, Integer> correctedIndices = new HashMap<>();
+              final Set<BLSPublicKey> unknownKeys = new HashSet<>();
+              snapshotKeys.forEach(
+                  key -> {
+                    final Integer index = beaconNodeIndices.get(key);
+                    if (index == null) {
+                      unknownKeys.add(key);
+                    } else if (!index.equals(snapshotIndices.get(key))) {
+                      correctedIndices.put(key, index);
+                    }
+                  });
+              if (correctedIndices.isEmpty() && unknownKeys.isEmpty()) {
+                return;
+              }
+              LOG.warn(
+                  "Validator status snapshot had wrong indices for {} validators and indices "
+                      + "unknown to the beacon node for {} validators. Using indices from the "
+                      + "beacon node.",
+                  correctedIndices.size(),
+                  unknownKeys.size());
+              validatorIndicesByPublicKey.putAll(correctedIndices);
+              validatorIndicesByPublicKey.keySet().removeAll(unknownKeys);
+              snapshotStore.ifPresent(
+                  store -> {
+                    store.updateValidatorIndices(correctedIndices);
+                    store.removeValidatorIndices(unknownKeys);
+                  });
+            })
+        .orTimeout(30, TimeUnit.SECONDS)
+        .finish(
+            error -> {
+              LOG.warn("Failed to check validator indices from snapshot. Retrying.", error);
+              asyncRunner
+                  .runAfterDelay(this::refreshSnapshotIndices, RETRY_DELAY)
+                  .ifExceptionGetsHereRaiseABug();
+            });
+  }
+
   private Collection<BLSPublicKey> getUnknownValidators() {
     return Sets.difference(ownedValidators.getPublicKeys(), validatorIndicesByPublicKey.keySet());
   }
@@ -0,0 +1,225 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Stores the index and status of owned validators in the validator data directory so they are
+ * available as soon as the validator client restarts, instead of waiting for the beacon node to
+ * look up every key.
+ *
+ * <p>Only validators which have been activated are stored. Activation is only scheduled once the
+ * deposit that assigned the validator index is finalized, so those indices can't change. Pending
+ * validators and keys added since the snapshot are always looked up again. Statuses are stored with
+ * the epoch they were retrieved at so callers can tell whether they may have changed since.
+ *
+ * <p>The snapshot also records the genesis validators root of the network it was taken on. Once
+ * the beacon node's genesis validators root is known, a snapshot from any other network is
+ * discarded, and nothing is written until then.
+ */
+public class ValidatorStatusSnapshotStore {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final String SNAPSHOT_FILE_NAME = "validator-status-snapshot.dat";
+
+  private static final byte FORMAT_VERSION = 2;
+  private static final int HEADER_SIZE = 1 + Bytes32.SIZE + Long.BYTES;
+  private static final int ENTRY_SIZE = Bytes48.SIZE + Integer.BYTES + 1;
+  private static final ValidatorStatus[] STATUSES = ValidatorStatus.values();
+
+  private final SyncDataAccessor dataAccessor;
+  private final Path snapshotFile;
+  private final Map<BLSPublicKey, Integer> validatorIndices = new ConcurrentHashMap<>();
+  private final SettableGauge loadedValidatorsGauge;
+  private volatile Map<BLSPublicKey, ValidatorStatus> validatorStatuses = Map.of();
+  private volatile Optional<UInt64> snapshotEpoch = Optional.empty();
+  private Optional<Bytes32> snapshotGenesisValidatorsRoot = Optional.empty();
+  private Optional<Bytes32> genesisValidatorsRoot = Optional.empty();
+
+  private ValidatorStatusSnapshotStore(
+      final Path directory,
+      final SyncDataAccessor dataAccessor,
+      final MetricsSystem metricsSystem) {
+    this.dataAccessor = dataAccessor;
+    this.snapshotFile = directory.resolve(SNAPSHOT_FILE_NAME);
+    this.loadedValidatorsGauge =
+        SettableGauge.create(
+            metricsSystem,
+            TekuMetricCategory.VALIDATOR,
+            "validator_status_snapshot_loaded_validators",
+            "Number of validators whose index and status were loaded from the snapshot at startup");
+  }
+
+  public static ValidatorStatusSnapshotStore load(
+      final Path directory, final MetricsSystem metricsSystem) {
+    final ValidatorStatusSnapshotStore store =
+        new ValidatorStatusSnapshotStore(
+            directory, SyncDataAccessor.create(directory), metricsSystem);
+    store.readSnapshot();
+    return store;
+  }
+
+  /** Returns the epoch the stored statuses were retrieved at, if there are any. */
+  public Optional<UInt64> getSnapshotEpoch() {
+    return snapshotEpoch;
+  }
+
+  public Map<BLSPublicKey, Integer> getValidatorIndices() {
+    return Collections.unmodifiableMap(validatorIndices);
+  }
+
+  public Map<BLSPublicKey, ValidatorStatus> getValidatorStatuses() {
+    return validatorStatuses;
+  }
+
+  public void updateValidatorIndices(final Map<BLSPublicKey, Integer> newValidatorIndices) {
+    validatorIndices.putAll(newValidatorIndices);
+  }
+
+  public void removeValidatorIndices(final Collection<BLSPublicKey> publicKeys) {
+    validatorIndices.keySet().removeAll(publicKeys);
+  }
+
+  /**
+   * Sets the genesis validators root of the network the beacon node is on, discarding the loaded
+   * snapshot if it was taken on a different network.
+   */
+  public synchronized void setGenesisValidatorsRoot(final Bytes32 genesisValidatorsRoot) {
+    this.genesisValidatorsRoot = Optional.of(genesisValidatorsRoot);
+    if (snapshotGenesisValidatorsRoot.isPresent()
+        && !snapshotGenesisValidatorsRoot.get().equals(genesisValidatorsRoot)) {
+      LOG.warn(
+          "Discarding validator status snapshot {} as it was taken on a different network",
+          snapshotFile);
+      clear();
+    }
+  }
+
+  /**
+   * Records the statuses of all owned validators retrieved at the given epoch and writes the
+   * snapshot. Validators that are no longer owned are dropped from the snapshot.
+   */
+  public synchronized void saveValidatorStatuses(
+      final UInt64 epoch, final Map<BLSPublicKey, ValidatorStatus> newValidatorStatuses) {
+    validatorStatuses = Collections.unmodifiableMap(new HashMap<>(newValidatorStatuses));
+    snapshotEpoch = Optional.of(epoch);
+    if (genesisValidatorsRoot.isEmpty()) {
+      LOG.debug("Not saving validator status snapshot until the genesis validators root is known");
+      return;
+    }
+    snapshotGenesisValidatorsRoot = genesisValidatorsRoot;
+    final List<Bytes> entries = new ArrayList<>(newValidatorStatuses.size() + 1);
+    entries.add(
+        Bytes.concatenate(
+            Bytes.of(FORMAT_VERSION),
+            genesisValidatorsRoot.get(),
+            Bytes.ofUnsignedLong(epoch.longValue())));
+    newValidatorStatuses.forEach(
+        (publicKey, status) -> {
+          final Integer index = validatorIndices.get(publicKey);
+          if (index != null && isIndexFinal(status)) {
+            entries.add(
+                Bytes.concatenate(
+                    publicKey.toBytesCompressed(),
+                    Bytes.ofUnsignedInt(index),
+                    Bytes.of(status.ordinal())));
+          }
+        });
+    try {
+      dataAccessor.syncedWrite(snapshotFile, Bytes.concatenate(entries.toArray(Bytes[]::new)));
+      LOG.debug(
+          "Saved {} validators to status snapshot {} at epoch {}",
+          entries.size() - 1,
+          snapshotFile,
+          epoch);
+    } catch (final IOException e) {
+      LOG.warn("Failed to save validator status snapshot " + snapshotFile, e);
+    }
+  }
+
+  private static boolean isIndexFinal(final ValidatorStatus status) {
+    return status != ValidatorStatus.pending_initialized
+        && status != ValidatorStatus.pending_queued;
+  }
+
+  private synchronized void readSnapshot() {
+    try {
+      final Optional<Bytes> maybeSnapshot = dataAccessor.read(snapshotFile);
+      if (maybeSnapshot.isEmpty()) {
+        return;
+      }
+      final Bytes snapshot = maybeSnapshot.get();
+      if (snapshot.size() < HEADER_SIZE
+          || snapshot.get(0) != FORMAT_VERSION
+          || (snapshot.size() - HEADER_SIZE) % ENTRY_SIZE != 0) {
+        LOG.warn("Ignoring validator status snapshot {} as it is not valid", snapshotFile);
+        return;
+      }
+      final Map<BLSPublicKey, ValidatorStatus> loadedStatuses = new HashMap<>();
+      for (int offset = HEADER_SIZE; offset < snapshot.size(); offset += ENTRY_SIZE) {
+        final BLSPublicKey publicKey =
+            BLSPublicKey.fromBytesCompressed(Bytes48.wrap(snapshot.slice(offset, Bytes48.SIZE)));
+        final int index = snapshot.slice(offset + Bytes48.SIZE, Integer.BYTES).toInt();
+        final ValidatorStatus status =
+            STATUSES[snapshot.get(offset + Bytes48.SIZE + Integer.BYTES)];
+        validatorIndices.put(publicKey, index);
+        loadedStatuses.put(publicKey, status);
+      }
+      validatorStatuses = Collections.unmodifiableMap(loadedStatuses);
+      snapshotGenesisValidatorsRoot = Optional.of(Bytes32.wrap(snapshot.slice(1, Bytes32.SIZE)));
+      snapshotEpoch =
+          Optional.of(UInt64.fromLongBits(snapshot.slice(1 + Bytes32.SIZE, Long.BYTES).toLong()));
+      loadedValidatorsGauge.set(loadedStatuses.size());
+      LOG.debug(
+          "Loaded {} validators from status snapshot {} taken at epoch {}",
+          loadedStatuses.size(),
+          snapshotFile,
+          snapshotEpoch.get());
+    } catch (final IOException | RuntimeException e) {
+      // the snapshot can always be rebuilt from the beacon node so just start again without it
+      LOG.warn("Ignoring unreadable validator status snapshot " + snapshotFile, e);
+      clear();
+    }
+  }
+
+  private void clear() {
+    validatorIndices.clear();
+    validatorStatuses = Map.of();
+    snapshotEpoch = Optional.empty();
+    snapshotGenesisValidatorsRoot = Optional.empty();
+    loadedValidatorsGauge.set(0);
+  }
+}
@@ -17,19 +17,24 @@ import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
+import tech.pegasys.teku.api.migrated.ValidatorLivenessBitfield;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.Cancellable;
@@ -54,6 +59,8 @@ public class DoppelgangerDetector {
   private final Spec spec;
   private final TimeProvider timeProvider;
   private final GenesisDataProvider genesisDataProvider;
+  // cleared once the beacon node reports it doesn't serve the Teku specific bitfield endpoint
+  private final AtomicBoolean livenessBitfieldSupported = new AtomicBoolean(true);
 
   public DoppelgangerDetector(
       final AsyncRunner asyncRunner,
@@ -117,6 +124,11 @@ public class DoppelgangerDetector {
     private final Set<BLSPublicKey> pubKeys;
     private Optional<UInt64> epochAtStart = Optional.empty();
     private final Map<UInt64, BLSPublicKey> detectedDoppelgangers = new HashMap<>();
+    // validator indices never change once assigned, so they only need to be requested once
+    private final Map<BLSPublicKey, UInt64> knownValidatorIndices = new HashMap<>();
+    private final Map<UInt64, BLSPublicKey> knownPubKeysByIndex = new HashMap<>();
+    // last liveness bitfield received per epoch, so later polls only look at the bits set since
+    private final NavigableMap<UInt64, BitSet> livenessBitfieldsByEpoch = new TreeMap<>();
     private final AtomicBoolean firstCheck = new AtomicBoolean(true);
 
     public DoppelgangerDetectionTask(final UInt64 startTime, final Set<BLSPublicKey> pubKeys) {
@@ -217,17 +229,11 @@ public class DoppelgangerDetector {
       statusLog.doppelgangerCheck(
           epoch.longValue(), mapToAbbreviatedKeys(inactivePubKeys).collect(Collectors.toSet()));
 
-      return validatorApiChannel
-          .getValidatorIndices(inactivePubKeys)
+      return resolveValidatorIndices(inactivePubKeys)
           .thenCompose(
-              validatorIndicesByPubKeys ->
+              __ ->
                   checkValidatorsLivenessAtEpoch(
-                      epoch,
-                      inactivePubKeys,
-                      validatorIndicesByPubKeys.entrySet().stream()
-                          .collect(
-                              Collectors.toMap(
-                                  Map.Entry::getKey, e -> UInt64.valueOf(e.getValue())))))
+                      epoch, inactivePubKeys, getKnownValidatorIndices(inactivePubKeys)))
           .orTimeout(checkDelay)
           .exceptionally(
               throwable -> {
@@ -240,6 +246,36 @@ public class DoppelgangerDetector {
           .toVoid();
     }
 
+    private SafeFuture<Void> resolveValidatorIndices(final Set<BLSPublicKey> pubKeys) {
+      final Set<BLSPublicKey> pubKeysWithoutIndices =
+          pubKeys.stream()
+              .filter(pubKey -> !knownValidatorIndices.containsKey(pubKey))
+              .collect(Collectors.toSet());
+      if (pubKeysWithoutIndices.isEmpty()) {
+        return SafeFuture.COMPLETE;
+      }
+      return validatorApiChannel
+          .getValidatorIndices(pubKeysWithoutIndices)
+          .thenAccept(
+              validatorIndicesByPubKeys -> {
+                validatorIndicesByPubKeys.forEach(
+                    (pubKey, index) -> {
+                      knownValidatorIndices.put(pubKey, UInt64.valueOf(index));
+                      knownPubKeysByIndex.put(UInt64.valueOf(index), pubKey);
+                    });
+                if (!validatorIndicesByPubKeys.isEmpty()) {
+                  // bits already seen for the newly resolved indices have never been checked
+                  livenessBitfieldsByEpoch.clear();
+                }
+              });
+    }
+
+    private Map<BLSPublicKey, UInt64> getKnownValidatorIndices(final Set<BLSPublicKey> pubKeys) {
+      return pubKeys.stream()
+          .filter(knownValidatorIndices::containsKey)
+          .collect(Collectors.toMap(Function.identity(), knownValidatorIndices::get));
+    }
+
     private void captureEpochAtStart(final UInt64 epoch) {
       if (epochAtStart.isEmpty()) {
         epochAtStart = Optional.of(epoch);
@@ -268,8 +304,7 @@ public class DoppelgangerDetector {
 
       logMissingIndices(pubKeys, validatorIndicesByPubKey);
 
-      return validatorApiChannel
-          .getValidatorsLiveness(new ArrayList<>(validatorIndicesByPubKey.values()), epoch)
+      return getValidatorsLiveness(epoch, validatorIndicesByPubKey)
           .thenAccept(
               validatorLivenessAtEpoches ->
                   checkValidatorDoppelgangers(validatorLivenessAtEpoches, validatorIndicesByPubKey))
@@ -285,6 +320,63 @@ public class DoppelgangerDetector {
           .thenApply(doppelgangerDetected -> null);
     }
 
+    private SafeFuture<Optional<List<ValidatorLivenessAtEpoch>>> getValidatorsLiveness(
+        final UInt64 epoch, final Map<BLSPublicKey, UInt64> validatorIndicesByPubKey) {
+      if (!livenessBitfieldSupported.get()) {
+        return validatorApiChannel.getValidatorsLiveness(
+            new ArrayList<>(validatorIndicesByPubKey.values()), epoch);
+      }
+      return validatorApiChannel
+          .getValidatorsLivenessBitfield(epoch)
+          .thenCompose(
+              maybeLivenessBitfield -> {
+                if (maybeLivenessBitfield.isEmpty()) {
+                  LOG.debug(
+                      "Beacon node does not provide validator liveness bitfields, using the standard liveness endpoint");
+                  livenessBitfieldSupported.set(false);
+                  return validatorApiChannel.getValidatorsLiveness(
+                      new ArrayList<>(validatorIndicesByPubKey.values()), epoch);
+                }
+                return SafeFuture.completedFuture(
+                    Optional.of(
+                        getNewlyLiveValidators(
+                            maybeLivenessBitfield.get(), validatorIndicesByPubKey)));
+              });
+    }
+
+    private List<ValidatorLivenessAtEpoch> getNewlyLiveValidators(
+        final ValidatorLivenessBitfield livenessBitfield,
+        final Map<BLSPublicKey, UInt64> validatorIndicesByPubKey) {
+      final UInt64 epoch = livenessBitfield.epoch();
+      final BitSet newlyLiveValidators = (BitSet) livenessBitfield.liveValidators().clone();
+      final BitSet previousLiveValidators =
+          livenessBitfieldsByEpoch.put(epoch, livenessBitfield.liveValidators());
+      livenessBitfieldsByEpoch.headMap(epoch.minusMinZero(1)).clear();
+      if (previousLiveValidators != null) {
+        newlyLiveValidators.andNot(previousLiveValidators);
+      }
+
+      // walk whichever is smaller: the bits set since the last poll or the keys being checked
+      final Stream<UInt64> liveIndices;
+      if (newlyLiveValidators.cardinality() < validatorIndicesByPubKey.size()) {
+        liveIndices =
+            newlyLiveValidators.stream()
+                .mapToObj(UInt64::valueOf)
+                .filter(index -> isCheckedValidator(index, validatorIndicesByPubKey));
+      } else {
+        liveIndices =
+            validatorIndicesByPubKey.values().stream()
+                .filter(index -> newlyLiveValidators.get(index.intValue()));
+      }
+      return liveIndices.map(index -> new ValidatorLivenessAtEpoch(index, true)).toList();
+    }
+
+    private boolean isCheckedValidator(
+        final UInt64 validatorIndex, final Map<BLSPublicKey, UInt64> validatorIndicesByPubKey) {
+      final BLSPublicKey pubKey = knownPubKeysByIndex.get(validatorIndex);
+      return pubKey != null && validatorIndicesByPubKey.containsKey(pubKey);
+    }
+
     private void logMissingIndices(
         final Set<BLSPublicKey> pubKeys, final Map<BLSPublicKey, UInt64> validatorIndicesByPubKey) {
       Set<BLSPublicKey> publicKeysWithoutIndices =
@@ -336,26 +428,20 @@ public class DoppelgangerDetector {
 
     private List<Pair<BLSPublicKey, ValidatorLivenessAtEpoch>> filterLiveValidators(
         final Optional<List<ValidatorLivenessAtEpoch>> validatorLivenessAtEpoches,
-        final Map<BLSPublicKey, UInt64> validatorPubKeysByIndices) {
+        final Map<BLSPublicKey, UInt64> validatorIndicesByPubKey) {
       return validatorLivenessAtEpoches
           .map(
               validatorLiveness ->
                   validatorLiveness.stream()
+                      .filter(ValidatorLivenessAtEpoch::isLive)
                       .filter(
                           validatorLivenessAtEpoch ->
-                              validatorPubKeysByIndices.containsValue(
-                                      validatorLivenessAtEpoch.index())
-                                  && validatorLivenessAtEpoch.isLive())
+                              isCheckedValidator(
+                                  validatorLivenessAtEpoch.index(), validatorIndicesByPubKey))
                       .map(
                           validatorLivenessAtEpoch ->
                               Pair.of(
-                                  validatorPubKeysByIndices.entrySet().stream()
-                                      .filter(
-                                          e ->
-                                              e.getValue().equals(validatorLivenessAtEpoch.index()))
-                                      .findFirst()
-                                      .get()
-                                      .getKey(),
+                                  knownPubKeysByIndex.get(validatorLivenessAtEpoch.index()),
                                   validatorLivenessAtEpoch))
                       .toList())
           .orElse(new ArrayList<>());
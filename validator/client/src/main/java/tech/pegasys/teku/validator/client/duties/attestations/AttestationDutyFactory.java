@@ -15,6 +15,7 @@ package tech.pegasys.teku.validator.client.duties.attestations;
 
 import static tech.pegasys.teku.infrastructure.logging.ValidatorLogger.VALIDATOR_LOGGER;
 
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
@@ -31,16 +32,19 @@ public class AttestationDutyFactory
   private final ValidatorApiChannel validatorApiChannel;
 
   private final ValidatorDutyMetrics validatorDutyMetrics;
+  private final AsyncRunner asyncRunner;
 
   public AttestationDutyFactory(
       final Spec spec,
       final ForkProvider forkProvider,
       final ValidatorApiChannel validatorApiChannel,
-      final ValidatorDutyMetrics validatorDutyMetrics) {
+      final ValidatorDutyMetrics validatorDutyMetrics,
+      final AsyncRunner asyncRunner) {
     this.spec = spec;
     this.forkProvider = forkProvider;
     this.validatorApiChannel = validatorApiChannel;
     this.validatorDutyMetrics = validatorDutyMetrics;
+    this.asyncRunner = asyncRunner;
   }
 
   @Override
@@ -52,7 +56,8 @@ public class AttestationDutyFactory
         forkProvider,
         validatorApiChannel,
         new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSignedAttestations),
-        validatorDutyMetrics);
+        validatorDutyMetrics,
+        asyncRunner);
   }
 
   @Override
@@ -15,16 +15,22 @@ package tech.pegasys.teku.validator.client.duties.attestations;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps.CREATE_TOTAL;
+import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps.DATA_FETCH;
+import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps.SIGNING_PREPARATION;
+import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps.SIGN_CHUNK;
 
+import com.google.common.collect.Lists;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.Validator.DutyType;
 import tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps;
@@ -32,6 +38,7 @@ import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationSchema;
@@ -46,6 +53,7 @@ import tech.pegasys.teku.validator.client.duties.ValidatorDutyMetrics;
 
 public class AttestationProductionDuty implements Duty {
   private static final Logger LOG = LogManager.getLogger();
+  private static final int MIN_SIGNING_CHUNK_SIZE = 16;
   private final Int2ObjectMap<ScheduledCommittee> validatorsByCommitteeIndex =
       new Int2ObjectOpenHashMap<>();
   private final Spec spec;
@@ -54,6 +62,7 @@ public class AttestationProductionDuty implements Duty {
   private final ValidatorApiChannel validatorApiChannel;
   private final SendingStrategy<Attestation> sendingStrategy;
   private final ValidatorDutyMetrics validatorDutyMetrics;
+  private final AsyncRunner asyncRunner;
 
   public AttestationProductionDuty(
       final Spec spec,
@@ -61,13 +70,15 @@ public class AttestationProductionDuty implements Duty {
       final ForkProvider forkProvider,
       final ValidatorApiChannel validatorApiChannel,
       final SendingStrategy<Attestation> sendingStrategy,
-      final ValidatorDutyMetrics validatorDutyMetrics) {
+      final ValidatorDutyMetrics validatorDutyMetrics,
+      final AsyncRunner asyncRunner) {
     this.spec = spec;
     this.slot = slot;
     this.forkProvider = forkProvider;
     this.validatorApiChannel = validatorApiChannel;
     this.sendingStrategy = sendingStrategy;
     this.validatorDutyMetrics = validatorDutyMetrics;
+    this.asyncRunner = asyncRunner;
   }
 
   @Override
@@ -117,6 +128,25 @@ public class AttestationProductionDuty implements Duty {
       final UInt64 slot,
       final ForkInfo forkInfo,
       final Int2ObjectMap<ScheduledCommittee> validatorsByCommitteeIndex) {
+    if (spec.atSlot(slot).getMilestone().isGreaterThanOrEqualTo(SpecMilestone.ELECTRA)) {
+      // From Electra the attestation data doesn't depend on the committee index, so a single
+      // request is shared by all committees. It is still recorded once per committee so
+      // CREATE_TOTAL keeps the same meaning as before Electra.
+      final SafeFuture<Optional<AttestationData>> attestationDataFuture =
+          validatorApiChannel.createAttestationData(slot, 0);
+      validatorsByCommitteeIndex
+          .values()
+          .forEach(
+              committee ->
+                  validatorDutyMetrics
+                      .record(() -> attestationDataFuture, this, CREATE_TOTAL)
+                      .propagateTo(committee.getAttestationDataFuture()));
+      final List<ValidatorWithAttestationDutyInfo> validators =
+          validatorsByCommitteeIndex.values().stream()
+              .flatMap(committee -> committee.getValidators().stream())
+              .toList();
+      return signAttestations(slot, forkInfo, validators, attestationDataFuture).stream();
+    }
     return validatorsByCommitteeIndex.int2ObjectEntrySet().stream()
         .flatMap(
             entry ->
@@ -130,29 +160,92 @@ public class AttestationProductionDuty implements Duty {
       final int committeeIndex,
       final ScheduledCommittee committee) {
     final SafeFuture<Optional<AttestationData>> unsignedAttestationFuture =
-        validatorDutyMetrics.record(
-            () -> validatorApiChannel.createAttestationData(slot, committeeIndex),
-            this,
-            CREATE_TOTAL);
+        createAttestationData(slot, committeeIndex);
     unsignedAttestationFuture.propagateTo(committee.getAttestationDataFuture());
+    return signAttestations(slot, forkInfo, committee.getValidators(), unsignedAttestationFuture);
+  }
+
+  private SafeFuture<Optional<AttestationData>> createAttestationData(
+      final UInt64 slot, final int committeeIndex) {
+    return validatorDutyMetrics.record(
+        () -> validatorApiChannel.createAttestationData(slot, committeeIndex), this, CREATE_TOTAL);
+  }
+
+  /**
+   * Signs the attestations in chunks which each continue on a separate async runner thread once
+   * the attestation data is available, so the slashing protection checks and signing root
+   * calculations run in parallel rather than one validator at a time.
+   */
+  private List<SafeFuture<ProductionResult<Attestation>>> signAttestations(
+      final UInt64 slot,
+      final ForkInfo forkInfo,
+      final List<ValidatorWithAttestationDutyInfo> validators,
+      final SafeFuture<Optional<AttestationData>> attestationDataFuture) {
+    final int chunkSize =
+        Math.max(
+            MIN_SIGNING_CHUNK_SIZE,
+            Math.ceilDiv(validators.size(), Runtime.getRuntime().availableProcessors()));
+    return Lists.partition(validators, chunkSize).stream()
+        .flatMap(chunk -> signChunk(slot, forkInfo, chunk, attestationDataFuture).stream())
+        .toList();
+  }
 
-    return committee.getValidators().stream()
-        .map(
-            validator ->
-                signAttestationForValidatorInCommittee(
-                    slot, forkInfo, committeeIndex, validator, unsignedAttestationFuture))
+  /**
+   * Records the data fetch, the slashing protection checks and signing root calculations, and the
+   * signing of a chunk as separate steps. Slashing protection and signing roots are handled
+   * synchronously by the signer on the chunk's thread while the signatures complete later.
+   */
+  private List<SafeFuture<ProductionResult<Attestation>>> signChunk(
+      final UInt64 slot,
+      final ForkInfo forkInfo,
+      final List<ValidatorWithAttestationDutyInfo> chunk,
+      final SafeFuture<Optional<AttestationData>> attestationDataFuture) {
+    final SafeFuture<List<SafeFuture<ProductionResult<Attestation>>>> chunkResultsFuture =
+        validatorDutyMetrics
+            .record(
+                () ->
+                    attestationDataFuture.thenCompose(
+                        attestationData -> asyncRunner.runAsync(() -> attestationData)),
+                this,
+                DATA_FETCH)
+            .thenCompose(
+                maybeUnsignedAttestation ->
+                    validatorDutyMetrics.record(
+                        () ->
+                            SafeFuture.completedFuture(
+                                chunk.stream()
+                                    .map(
+                                        validator ->
+                                            signAttestationForValidatorInCommittee(
+                                                slot,
+                                                forkInfo,
+                                                validator,
+                                                maybeUnsignedAttestation))
+                                    .toList()),
+                        this,
+                        SIGNING_PREPARATION))
+            .thenPeek(
+                results ->
+                    validatorDutyMetrics
+                        .record(() -> SafeFuture.allOf(results.stream()), this, SIGN_CHUNK)
+                        .ifExceptionGetsHereRaiseABug());
+    return IntStream.range(0, chunk.size())
+        .mapToObj(
+            i ->
+                chunkResultsFuture
+                    .thenCompose(results -> results.get(i))
+                    .exceptionally(
+                        error -> ProductionResult.failure(chunk.get(i).publicKey(), error)))
         .toList();
   }
 
   private SafeFuture<ProductionResult<Attestation>> signAttestationForValidatorInCommittee(
       final UInt64 slot,
       final ForkInfo forkInfo,
-      final int committeeIndex,
       final ValidatorWithAttestationDutyInfo validator,
-      final SafeFuture<Optional<AttestationData>> attestationDataFuture) {
-    return attestationDataFuture
-        .thenCompose(
-            maybeUnsignedAttestation ->
+      final Optional<AttestationData> maybeUnsignedAttestation) {
+    return SafeFuture.of(
+            () ->
                 maybeUnsignedAttestation
                     .map(
                         attestationData -> {
@@ -172,7 +265,7 @@ public class AttestationProductionDuty implements Duty {
                                         "Unable to produce attestation for slot "
                                             + slot
                                             + " with committee "
-                                            + committeeIndex
+                                            + validator.committeeIndex()
                                             + " because chain data was unavailable")))))
         .exceptionally(error -> ProductionResult.failure(validator.publicKey(), error));
   }
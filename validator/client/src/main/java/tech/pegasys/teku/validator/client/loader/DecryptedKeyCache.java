@@ -0,0 +1,260 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.loader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.keystore.model.KeyStoreData;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+/**
+ * Caches decrypted validator keys so that restarts don't have to decrypt every keystore again.
+ *
+ * <p>The cache is a single file sealed with AES-GCM using a randomly generated key stored alongside
+ * it. Each entry records a fingerprint of the keystore checksum and password it was decrypted
+ * with, so a cached key is only used while the keystore and its password are unchanged. Only keys
+ * loaded by this process are written back, which drops keys that have since been removed.
+ *
+ * <p>The host key only protects the cache from other users on the same machine. It is stored in
+ * the same directory as the cache, so anyone who can read that directory, including any backup or
+ * copy of the validator data directory, can decrypt every cached secret key.
+ */
+public class DecryptedKeyCache {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final String CACHE_FILE_NAME = "decrypted-key-cache.dat";
+  static final String HOST_KEY_FILE_NAME = "decrypted-key-cache.key";
+
+  private static final Bytes ASSOCIATED_DATA = Bytes.wrap("teku-key-cache-v1".getBytes(UTF_8));
+  private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+  private static final int HOST_KEY_SIZE = 32;
+  private static final int NONCE_SIZE = 12;
+  private static final int TAG_SIZE_BITS = 128;
+  private static final int ENTRY_SIZE = Bytes48.SIZE + Bytes32.SIZE + Bytes32.SIZE;
+  private static final FileAttribute<Set<PosixFilePermission>> OWNER_ONLY =
+      PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"));
+
+  private final SecureRandom secureRandom = new SecureRandom();
+  private final Path cacheFile;
+  private final Path hostKeyFile;
+  private final Map<BLSPublicKey, CachedKey> entries = new ConcurrentHashMap<>();
+  private final Set<BLSPublicKey> usedKeys = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean changed = new AtomicBoolean(false);
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  private DecryptedKeyCache(final Path directory, final MetricsSystem metricsSystem) {
+    this.cacheFile = directory.resolve(CACHE_FILE_NAME);
+    this.hostKeyFile = directory.resolve(HOST_KEY_FILE_NAME);
+    this.hitCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.VALIDATOR,
+            "decrypted_key_cache_hits_total",
+            "Number of validator keys loaded from the decrypted key cache");
+    this.missCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.VALIDATOR,
+            "decrypted_key_cache_misses_total",
+            "Number of validator keys that had to be decrypted from their keystore");
+  }
+
+  /**
+   * The cache files can only be protected from other users on file systems with POSIX
+   * permissions, so the cache must not be used elsewhere.
+   */
+  public static boolean isSupported() {
+    return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+  }
+
+  public static DecryptedKeyCache load(final Path directory, final MetricsSystem metricsSystem) {
+    final DecryptedKeyCache cache = new DecryptedKeyCache(directory, metricsSystem);
+    cache.readEntries();
+    return cache;
+  }
+
+  public static Bytes32 fingerprint(final KeyStoreData keyStoreData, final String password) {
+    return Hash.sha256(
+        keyStoreData.getPubkey(),
+        keyStoreData.getCrypto().getChecksum().getMessage(),
+        Bytes.wrap(password.getBytes(UTF_8)));
+  }
+
+  public Optional<Bytes32> get(final BLSPublicKey publicKey, final Bytes32 fingerprint) {
+    final CachedKey cachedKey = entries.get(publicKey);
+    if (cachedKey == null || !cachedKey.fingerprint().equals(fingerprint)) {
+      missCounter.inc();
+      return Optional.empty();
+    }
+    hitCounter.inc();
+    usedKeys.add(publicKey);
+    return Optional.of(cachedKey.secretKey());
+  }
+
+  public void put(
+      final BLSPublicKey publicKey, final Bytes32 fingerprint, final Bytes32 secretKey) {
+    entries.put(publicKey, new CachedKey(fingerprint, secretKey));
+    usedKeys.add(publicKey);
+    changed.set(true);
+  }
+
+  /** Drops the key so it is no longer written to the cache file by the next {@link #save()}. */
+  public void remove(final BLSPublicKey publicKey) {
+    usedKeys.remove(publicKey);
+    if (entries.remove(publicKey) != null) {
+      changed.set(true);
+    }
+  }
+
+  /** Writes the keys used by this process to the cache file if anything has changed. */
+  public synchronized void save() {
+    if (!changed.getAndSet(false) && usedKeys.size() == entries.size()) {
+      return;
+    }
+    entries.keySet().retainAll(usedKeys);
+    try {
+      final Bytes payload =
+          Bytes.concatenate(
+              entries.entrySet().stream()
+                  .map(
+                      entry ->
+                          Bytes.concatenate(
+                              entry.getKey().toBytesCompressed(),
+                              entry.getValue().fingerprint(),
+                              entry.getValue().secretKey()))
+                  .toArray(Bytes[]::new));
+      final Bytes nonce = Bytes.random(NONCE_SIZE, secureRandom);
+      final Bytes sealed = Bytes.wrap(nonce, applyCipher(Cipher.ENCRYPT_MODE, nonce, payload));
+      writeOwnerOnly(cacheFile, sealed);
+      LOG.debug("Saved {} keys to decrypted key cache {}", entries.size(), cacheFile);
+    } catch (final IOException | GeneralSecurityException e) {
+      LOG.warn("Failed to save decrypted key cache " + cacheFile, e);
+    }
+  }
+
+  @VisibleForTesting
+  int size() {
+    return entries.size();
+  }
+
+  private void readEntries() {
+    try {
+      final Optional<Bytes> maybeSealed = readFile(cacheFile);
+      if (maybeSealed.isEmpty() || maybeSealed.get().size() <= NONCE_SIZE) {
+        return;
+      }
+      final Bytes sealed = maybeSealed.get();
+      final Bytes nonce = sealed.slice(0, NONCE_SIZE);
+      final Bytes payload = applyCipher(Cipher.DECRYPT_MODE, nonce, sealed.slice(NONCE_SIZE));
+      if (payload.size() % ENTRY_SIZE != 0) {
+        LOG.warn("Ignoring decrypted key cache {} as it has an invalid size", cacheFile);
+        return;
+      }
+      for (int offset = 0; offset < payload.size(); offset += ENTRY_SIZE) {
+        final BLSPublicKey publicKey =
+            BLSPublicKey.fromBytesCompressed(Bytes48.wrap(payload.slice(offset, Bytes48.SIZE)));
+        entries.put(
+            publicKey,
+            new CachedKey(
+                Bytes32.wrap(payload.slice(offset + Bytes48.SIZE, Bytes32.SIZE)),
+                Bytes32.wrap(payload.slice(offset + Bytes48.SIZE + Bytes32.SIZE, Bytes32.SIZE))));
+      }
+      LOG.debug("Loaded {} keys from decrypted key cache {}", entries.size(), cacheFile);
+    } catch (final IOException | GeneralSecurityException | IllegalArgumentException e) {
+      // the cache can always be rebuilt from the keystores so just start again without it
+      LOG.warn("Ignoring unreadable decrypted key cache " + cacheFile, e);
+      entries.clear();
+    }
+  }
+
+  private Bytes applyCipher(final int mode, final Bytes nonce, final Bytes input)
+      throws IOException, GeneralSecurityException {
+    final Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+    cipher.init(
+        mode,
+        new SecretKeySpec(loadOrCreateHostKey().toArrayUnsafe(), "AES"),
+        new GCMParameterSpec(TAG_SIZE_BITS, nonce.toArrayUnsafe()));
+    cipher.updateAAD(ASSOCIATED_DATA.toArrayUnsafe());
+    return Bytes.wrap(cipher.doFinal(input.toArrayUnsafe()));
+  }
+
+  private Bytes loadOrCreateHostKey() throws IOException {
+    final Optional<Bytes> maybeHostKey = readFile(hostKeyFile);
+    if (maybeHostKey.isPresent() && maybeHostKey.get().size() == HOST_KEY_SIZE) {
+      return maybeHostKey.get();
+    }
+    final Bytes hostKey = Bytes32.random(secureRandom);
+    writeOwnerOnly(hostKeyFile, hostKey);
+    return hostKey;
+  }
+
+  private static Optional<Bytes> readFile(final Path file) throws IOException {
+    if (!Files.exists(file)) {
+      return Optional.empty();
+    }
+    return Optional.of(Bytes.wrap(Files.readAllBytes(file)));
+  }
+
+  /**
+   * Writes the file via a temporary file that is created with owner only permissions, so the
+   * secrets are never readable by other users, even while being written.
+   */
+  private static void writeOwnerOnly(final Path file, final Bytes data) throws IOException {
+    Files.createDirectories(file.getParent());
+    final Path tempFile =
+        Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp", OWNER_ONLY);
+    try {
+      Files.write(
+          tempFile,
+          data.toArrayUnsafe(),
+          StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING,
+          StandardOpenOption.SYNC);
+      Files.move(
+          tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  private record CachedKey(Bytes32 fingerprint, Bytes32 secretKey) {}
+}
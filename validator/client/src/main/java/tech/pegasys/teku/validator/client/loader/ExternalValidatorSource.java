@@ -45,6 +45,7 @@ import tech.pegasys.teku.validator.client.restapi.ValidatorTypes;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeleteKeyResult;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.ExternalValidator;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.PostKeyResult;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerBatcher;
 import tech.pegasys.teku.validator.client.signer.ExternalSignerStatusLogger;
 import tech.pegasys.teku.validator.client.signer.ExternalSignerUpcheck;
 
@@ -55,6 +56,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
   private final Supplier<HttpClient> externalSignerHttpClientFactory;
   private final PublicKeyLoader publicKeyLoader;
   private final ThrottlingTaskQueueWithPriority externalSignerTaskQueue;
+  private final Optional<ExternalSignerBatcher> externalSignerBatcher;
   private final MetricsSystem metricsSystem;
   private final Map<BLSPublicKey, URL> externalValidatorSourceMap = new ConcurrentHashMap<>();
 
@@ -64,6 +66,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
       final Supplier<HttpClient> externalSignerHttpClientFactory,
       final PublicKeyLoader publicKeyLoader,
       final ThrottlingTaskQueueWithPriority externalSignerTaskQueue,
+      final Optional<ExternalSignerBatcher> externalSignerBatcher,
       final MetricsSystem metricsSystem,
       final boolean readOnly,
       final Optional<DataDirLayout> maybeDataDirLayout) {
@@ -73,6 +76,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
     this.externalSignerHttpClientFactory = externalSignerHttpClientFactory;
     this.publicKeyLoader = publicKeyLoader;
     this.externalSignerTaskQueue = externalSignerTaskQueue;
+    this.externalSignerBatcher = externalSignerBatcher;
     this.metricsSystem = metricsSystem;
   }
 
@@ -85,6 +89,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
       final AsyncRunner asyncRunner,
       final boolean readOnly,
       final ThrottlingTaskQueueWithPriority externalSignerTaskQueue,
+      final Optional<ExternalSignerBatcher> externalSignerBatcher,
       final Optional<DataDirLayout> maybeDataDirLayout) {
     setupExternalSignerStatusLogging(config, externalSignerHttpClientFactory, asyncRunner);
     return new ExternalValidatorSource(
@@ -93,6 +98,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
         externalSignerHttpClientFactory,
         publicKeyLoader,
         externalSignerTaskQueue,
+        externalSignerBatcher,
         metricsSystem,
         readOnly,
         maybeDataDirLayout);
@@ -122,6 +128,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
                     key,
                     config.getValidatorExternalSignerTimeout(),
                     externalSignerTaskQueue,
+                    externalSignerBatcher,
                     metricsSystem,
                     readOnly))
         .toList();
@@ -155,6 +162,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
           externalValidator.getPublicKey(),
           config.getValidatorExternalSignerTimeout(),
           externalSignerTaskQueue,
+          externalSignerBatcher,
           metricsSystem,
           readOnly);
 
@@ -235,6 +243,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
               publicKey,
               config.getValidatorExternalSignerTimeout(),
               externalSignerTaskQueue,
+              externalSignerBatcher,
               metricsSystem,
               readOnly);
 
@@ -57,6 +57,7 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
   private final KeystoreLocker keystoreLocker;
   private final AsyncRunner asyncRunner;
   private final KeyStoreFilesLocator keyStoreFilesLocator;
+  private final Optional<DecryptedKeyCache> decryptedKeyCache;
   private final Map<BLSPublicKey, ActiveLocalValidatorSource> localValidatorSourceMap =
       new ConcurrentHashMap<>();
 
@@ -68,12 +69,33 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
       final AsyncRunner asyncRunner,
       final boolean readOnly,
       final Optional<DataDirLayout> maybeDataDirLayout) {
+    this(
+        spec,
+        validatorKeystoreLockingEnabled,
+        keystoreLocker,
+        keyStoreFilesLocator,
+        asyncRunner,
+        readOnly,
+        maybeDataDirLayout,
+        Optional.empty());
+  }
+
+  public LocalValidatorSource(
+      final Spec spec,
+      final boolean validatorKeystoreLockingEnabled,
+      final KeystoreLocker keystoreLocker,
+      final KeyStoreFilesLocator keyStoreFilesLocator,
+      final AsyncRunner asyncRunner,
+      final boolean readOnly,
+      final Optional<DataDirLayout> maybeDataDirLayout,
+      final Optional<DecryptedKeyCache> decryptedKeyCache) {
     super(readOnly, maybeDataDirLayout);
     this.spec = spec;
     this.validatorKeystoreLockingEnabled = validatorKeystoreLockingEnabled;
     this.keystoreLocker = keystoreLocker;
     this.asyncRunner = asyncRunner;
     this.keyStoreFilesLocator = keyStoreFilesLocator;
+    this.decryptedKeyCache = decryptedKeyCache;
   }
 
   @Override
@@ -96,6 +118,11 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
     final DeleteKeyResult result = source.delete();
     if (result.getStatus() == DeletionStatus.DELETED) {
       keystoreLocker.unlockKeystore(getKeystorePath(publicKey));
+      decryptedKeyCache.ifPresent(
+          cache -> {
+            cache.remove(publicKey);
+            cache.save();
+          });
     }
     return result;
   }
@@ -247,7 +274,18 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
         if (validatorKeystoreLockingEnabled) {
           keystoreLocker.lockKeystore(keystoreFile);
         }
-        return Bytes32.wrap(KeyStore.decrypt(password, keyStoreData));
+        if (decryptedKeyCache.isEmpty()) {
+          return Bytes32.wrap(KeyStore.decrypt(password, keyStoreData));
+        }
+        final DecryptedKeyCache cache = decryptedKeyCache.get();
+        final Bytes32 fingerprint = DecryptedKeyCache.fingerprint(keyStoreData, password);
+        final Optional<Bytes32> cachedKey = cache.get(publicKey, fingerprint);
+        if (cachedKey.isPresent()) {
+          return cachedKey.get();
+        }
+        final Bytes32 privateKey = Bytes32.wrap(KeyStore.decrypt(password, keyStoreData));
+        cache.put(publicKey, fingerprint, privateKey);
+        return privateKey;
       } catch (final KeyStoreValidationException e) {
         keystoreLocker.unlockKeystore(keystoreFile);
         throw new InvalidConfigurationException(
@@ -87,6 +87,7 @@ public class MockStartValidatorSource implements ValidatorSource {
         keyPair.getPublicKey(),
         config.getValidatorExternalSignerTimeout(),
         externalSignerTaskQueue,
+        Optional.empty(),
         metricsSystem,
         true);
   }
@@ -31,6 +31,8 @@ import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.keystore.model.KeyStoreData;
 import tech.pegasys.teku.data.SlashingProtectionImporter;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.signatures.DeletableSigner;
@@ -58,6 +60,8 @@ public class ValidatorLoader {
   private final Function<BLSPublicKey, Optional<Bytes32>> updatableGraffitiProvider;
   private final Optional<DataDirLayout> maybeDataDirLayout;
   private final SlashingProtectionLogger slashingProtectionLogger;
+  private final Optional<DecryptedKeyCache> decryptedKeyCache;
+  private final Optional<SettableGauge> loadTimeGauge;
 
   private ValidatorLoader(
       final List<ValidatorSource> validatorSources,
@@ -66,7 +70,9 @@ public class ValidatorLoader {
       final GraffitiProvider defaultGraffitiProvider,
       final Function<BLSPublicKey, Optional<Bytes32>> updatableGraffitiProvider,
       final Optional<DataDirLayout> maybeDataDirLayout,
-      final SlashingProtectionLogger slashingProtectionLogger) {
+      final SlashingProtectionLogger slashingProtectionLogger,
+      final Optional<DecryptedKeyCache> decryptedKeyCache,
+      final Optional<SettableGauge> loadTimeGauge) {
     this.validatorSources = validatorSources;
     this.mutableLocalValidatorSource = mutableLocalValidatorSource;
     this.mutableExternalValidatorSource = mutableExternalValidatorSource;
@@ -74,10 +80,13 @@ public class ValidatorLoader {
     this.updatableGraffitiProvider = updatableGraffitiProvider;
     this.maybeDataDirLayout = maybeDataDirLayout;
     this.slashingProtectionLogger = slashingProtectionLogger;
+    this.decryptedKeyCache = decryptedKeyCache;
+    this.loadTimeGauge = loadTimeGauge;
   }
 
   // synchronized to ensure that only one load is active at a time
   public synchronized void loadValidators() {
+    final long startTime = System.nanoTime();
     final Map<BLSPublicKey, ValidatorProvider> validatorProviders = new HashMap<>();
     validatorSources.forEach(source -> addValidatorsFromSource(validatorProviders, source));
     MultithreadedValidatorLoader.loadValidators(
@@ -86,6 +95,9 @@ public class ValidatorLoader {
         defaultGraffitiProvider,
         updatableGraffitiProvider,
         maybeDataDirLayout);
+    // keys are only cached once all of them have loaded successfully
+    decryptedKeyCache.ifPresent(DecryptedKeyCache::save);
+    loadTimeGauge.ifPresent(gauge -> gauge.set((System.nanoTime() - startTime) / 1_000_000_000d));
     slashingProtectionLogger.protectionSummary(ownedValidators.getValidators());
   }
 
@@ -262,7 +274,14 @@ public class ValidatorLoader {
         config.getGraffitiProvider(),
         updatableGraffitiProvider,
         maybeMutableDir,
-        slashingProtectionLogger);
+        slashingProtectionLogger,
+        validatorSources.getDecryptedKeyCache(),
+        Optional.of(
+            SettableGauge.create(
+                metricsSystem,
+                TekuMetricCategory.VALIDATOR,
+                "validator_keys_load_time_seconds",
+                "Time taken to load validator keys the last time they were loaded")));
   }
 
   @VisibleForTesting
@@ -280,7 +299,9 @@ public class ValidatorLoader {
         graffitiProvider,
         (publicKey) -> Optional.empty(),
         maybeDataDirLayout,
-        slashingProtectionLogger);
+        slashingProtectionLogger,
+        Optional.empty(),
+        Optional.empty());
   }
 
   private void addValidatorsFromSource(
@@ -33,6 +33,7 @@ import tech.pegasys.teku.validator.api.InteropConfig;
 import tech.pegasys.teku.validator.api.KeyStoreFilesLocator;
 import tech.pegasys.teku.validator.api.ValidatorConfig;
 import tech.pegasys.teku.validator.client.ValidatorClientService;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerBatcher;
 
 /**
  * ValidatorSourceFactory creates the validator sources that control loading, and sometimes removal,
@@ -77,6 +78,8 @@ public class ValidatorSourceFactory {
   private Optional<ValidatorSource> mutableLocalValidatorSource = Optional.empty();
   private Optional<ValidatorSource> mutableExternalValidatorSource = Optional.empty();
   private ThrottlingTaskQueueWithPriority externalSignerTaskQueue;
+  private Optional<ExternalSignerBatcher> externalSignerBatcher;
+  private Optional<DecryptedKeyCache> decryptedKeyCache;
 
   public ValidatorSourceFactory(
       final Spec spec,
@@ -120,6 +123,10 @@ public class ValidatorSourceFactory {
     return mutableExternalValidatorSource;
   }
 
+  public Optional<DecryptedKeyCache> getDecryptedKeyCache() {
+    return initializeDecryptedKeyCache();
+  }
+
   private Optional<ValidatorSource> addMutableLocalValidatorSource() {
     if (maybeDataDir.isEmpty()) {
       return Optional.empty();
@@ -146,7 +153,8 @@ public class ValidatorSourceFactory {
             keyStoreFilesLocator,
             asyncRunner,
             false,
-            maybeDataDir);
+            maybeDataDir,
+            initializeDecryptedKeyCache());
     mutableLocalValidatorSource = Optional.of(slashingProtected(localValidatorSource));
     return mutableLocalValidatorSource;
   }
@@ -182,6 +190,7 @@ public class ValidatorSourceFactory {
             asyncRunner,
             false,
             initializeExternalSignerTaskQueue(),
+            initializeExternalSignerBatcher(),
             maybeDataDir);
     mutableExternalValidatorSource = Optional.of(slashingProtected(externalValidatorSource));
     return mutableExternalValidatorSource;
@@ -206,7 +215,8 @@ public class ValidatorSourceFactory {
                 keyStoreFilesLocator,
                 asyncRunner,
                 true,
-                maybeDataDir)));
+                maybeDataDir,
+                initializeDecryptedKeyCache())));
   }
 
   private Optional<ValidatorSource> addExternalValidatorSource() {
@@ -224,6 +234,7 @@ public class ValidatorSourceFactory {
             asyncRunner,
             true,
             initializeExternalSignerTaskQueue(),
+            initializeExternalSignerBatcher(),
             maybeDataDir);
     return Optional.of(
         config.isValidatorExternalSignerSlashingProtectionEnabled()
@@ -247,4 +258,43 @@ public class ValidatorSourceFactory {
 
     return externalSignerTaskQueue;
   }
+
+  private Optional<DecryptedKeyCache> initializeDecryptedKeyCache() {
+    if (decryptedKeyCache == null) {
+      if (!config.isValidatorKeyCacheEnabled()) {
+        decryptedKeyCache = Optional.empty();
+      } else if (!DecryptedKeyCache.isSupported()) {
+        LOG.warn(
+            "Not using the decrypted validator key cache as the file system does not support POSIX permissions to protect it");
+        decryptedKeyCache = Optional.empty();
+      } else {
+        decryptedKeyCache =
+            maybeDataDir.map(
+                dataDirLayout ->
+                    DecryptedKeyCache.load(
+                        dataDirLayout.getValidatorDataDirectory(), metricsSystem));
+      }
+    }
+
+    return decryptedKeyCache;
+  }
+
+  private Optional<ExternalSignerBatcher> initializeExternalSignerBatcher() {
+    if (externalSignerBatcher == null) {
+      externalSignerBatcher =
+          config.isValidatorExternalSignerBatchingEnabled()
+              ? Optional.of(
+                  new ExternalSignerBatcher(
+                      externalSignerHttpClientFactory.get(),
+                      config.getValidatorExternalSignerTimeout(),
+                      asyncRunner,
+                      initializeExternalSignerTaskQueue(),
+                      metricsSystem,
+                      ExternalSignerBatcher.DEFAULT_MAX_BATCH_SIZE,
+                      ExternalSignerBatcher.DEFAULT_BATCH_WINDOW))
+              : Optional.empty();
+    }
+
+    return externalSignerBatcher;
+  }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static tech.pegasys.teku.ethereum.json.types.EthereumTypes.SIGNATURE_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.RAW_INTEGER_TYPE;
+
+import java.util.Optional;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
+
+/**
+ * The result of one signing request in a bulk signing response.
+ *
+ * @param status the HTTP status code the signer would have returned for the single request
+ * @param signature the signature, present when the request succeeded
+ */
+public record BulkSigningResponseItem(int status, Optional<BLSSignature> signature) {
+
+  static DeserializableTypeDefinition<BulkSigningResponseItem> getJsonTypeDefinition() {
+    return DeserializableTypeDefinition.object(
+            BulkSigningResponseItem.class, BulkSigningResponseItemBuilder.class)
+        .initializer(BulkSigningResponseItemBuilder::new)
+        .finisher(BulkSigningResponseItemBuilder::build)
+        .withField(
+            "status",
+            RAW_INTEGER_TYPE,
+            BulkSigningResponseItem::status,
+            BulkSigningResponseItemBuilder::status)
+        .withOptionalField(
+            "signature",
+            SIGNATURE_TYPE,
+            BulkSigningResponseItem::signature,
+            BulkSigningResponseItemBuilder::signature)
+        .build();
+  }
+
+  static class BulkSigningResponseItemBuilder {
+    private int status;
+    private Optional<BLSSignature> signature = Optional.empty();
+
+    BulkSigningResponseItemBuilder status(final int status) {
+      this.status = status;
+      return this;
+    }
+
+    BulkSigningResponseItemBuilder signature(final Optional<BLSSignature> signature) {
+      this.signature = signature;
+      return this;
+    }
+
+    BulkSigningResponseItem build() {
+      return new BulkSigningResponseItem(status, signature);
+    }
+  }
+}
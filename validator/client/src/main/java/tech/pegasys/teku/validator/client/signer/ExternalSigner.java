@@ -15,6 +15,7 @@ package tech.pegasys.teku.validator.client.signer;
 
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_PRECONDITION_FAILED;
+import static tech.pegasys.teku.validator.client.signer.ExternalSignerBatcher.BULK_SIGN_ENDPOINT;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.annotations.VisibleForTesting;
@@ -76,6 +77,7 @@ public class ExternalSigner implements Signer {
   private final ThrottlingTaskQueueWithPriority taskQueue;
   private final SigningRootUtil signingRootUtil;
   private final SchemaDefinitionCache schemaDefinitionCache;
+  private final Optional<ExternalSignerBatcher> batcher;
 
   private final Counter successCounter;
   private final Counter failedCounter;
@@ -89,6 +91,26 @@ public class ExternalSigner implements Signer {
       final Duration timeout,
       final ThrottlingTaskQueueWithPriority taskQueue,
       final MetricsSystem metricsSystem) {
+    this(
+        spec,
+        httpClient,
+        signingServiceUrl,
+        blsPublicKey,
+        timeout,
+        taskQueue,
+        metricsSystem,
+        Optional.empty());
+  }
+
+  public ExternalSigner(
+      final Spec spec,
+      final HttpClient httpClient,
+      final URL signingServiceUrl,
+      final BLSPublicKey blsPublicKey,
+      final Duration timeout,
+      final ThrottlingTaskQueueWithPriority taskQueue,
+      final MetricsSystem metricsSystem,
+      final Optional<ExternalSignerBatcher> batcher) {
     this.spec = spec;
     this.httpClient = httpClient;
     this.signingServiceUrl = signingServiceUrl;
@@ -107,6 +129,7 @@ public class ExternalSigner implements Signer {
     failedCounter = labelledCounter.labels("failed");
     timeoutCounter = labelledCounter.labels("timeout");
     this.schemaDefinitionCache = new SchemaDefinitionCache(spec);
+    this.batcher = batcher;
   }
 
   @Override
@@ -158,7 +181,7 @@ public class ExternalSigner implements Signer {
 
   @Override
   public SafeFuture<BLSSignature> signAggregationSlot(final UInt64 slot, final ForkInfo forkInfo) {
-    return taskQueue.queueTask(
+    final Supplier<SafeFuture<BLSSignature>> request =
         () ->
             sign(
                 signingRootUtil.signingRootForSignAggregationSlot(slot, forkInfo),
@@ -168,8 +191,12 @@ public class ExternalSigner implements Signer {
                     new AggregationSlotWrapper(slot),
                     FORK_INFO,
                     forkInfo),
-                slashableGenericMessage("aggregation slot")),
-        true);
+                slashableGenericMessage("aggregation slot"));
+    // The batcher throttles each bulk request instead of the individual requests in it
+    if (isBatched(SignType.AGGREGATION_SLOT)) {
+      return request.get();
+    }
+    return taskQueue.queueTask(request, true);
   }
 
   @Override
@@ -279,29 +306,61 @@ public class ExternalSigner implements Signer {
       final SignType type,
       final Map<String, Object> metadata,
       final Supplier<String> slashableMessage) {
-    final String publicKey = blsPublicKey.toBytesCompressed().toString();
     return SafeFuture.of(
             () -> {
               final String requestBody = createSigningRequestBody(signingRoot, type, metadata);
-              final URI uri =
-                  signingServiceUrl.toURI().resolve(EXTERNAL_SIGNER_ENDPOINT + "/" + publicKey);
-              final HttpRequest request =
-                  HttpRequest.newBuilder()
-                      .uri(uri)
-                      .timeout(timeout)
-                      .header("Content-Type", "application/json")
-                      .POST(BodyPublishers.ofString(requestBody))
-                      .build();
-              return httpClient
-                  .sendAsync(request, BodyHandlers.ofString())
-                  .handleAsync(
-                      (response, error) ->
-                          this.getBlsSignatureResponder(
-                              uri, type, response, error, slashableMessage));
+              if (isBatched(type)) {
+                return batcher
+                    .get()
+                    .sign(signingServiceUrl, blsPublicKey, type, requestBody)
+                    .thenCompose(
+                        maybeResult ->
+                            maybeResult
+                                .map(
+                                    result ->
+                                        SafeFuture.completedFuture(
+                                            getBlsSignatureFromBulkResult(
+                                                type, result, slashableMessage)))
+                                // The bulk request was throttled, so its fallback must be too
+                                .orElseGet(
+                                    () ->
+                                        taskQueue.queueTask(
+                                            () ->
+                                                sendSigningRequest(
+                                                    type, requestBody, slashableMessage),
+                                            true)));
+              }
+              return sendSigningRequest(type, requestBody, slashableMessage);
             })
         .whenComplete(this::recordMetrics);
   }
 
+  private boolean isBatched(final SignType type) {
+    return batcher.isPresent() && batcher.get().isBatched(signingServiceUrl, type);
+  }
+
+  private SafeFuture<BLSSignature> sendSigningRequest(
+      final SignType type, final String requestBody, final Supplier<String> slashableMessage) {
+    final String publicKey = blsPublicKey.toBytesCompressed().toString();
+    return SafeFuture.of(
+        () -> {
+          final URI uri =
+              signingServiceUrl.toURI().resolve(EXTERNAL_SIGNER_ENDPOINT + "/" + publicKey);
+          final HttpRequest request =
+              HttpRequest.newBuilder()
+                  .uri(uri)
+                  .timeout(timeout)
+                  .header("Content-Type", "application/json")
+                  .POST(BodyPublishers.ofString(requestBody))
+                  .build();
+          return httpClient
+              .sendAsync(request, BodyHandlers.ofString())
+              .handleAsync(
+                  (response, error) ->
+                      this.getBlsSignatureResponder(uri, type, response, error, slashableMessage));
+        });
+  }
+
   private String createSigningRequestBody(
       final Bytes signingRoot, final SignType type, final Map<String, Object> metadata) {
     try {
@@ -364,6 +423,24 @@ public class ExternalSigner implements Signer {
     }
   }
 
+  private BLSSignature getBlsSignatureFromBulkResult(
+      final SignType type,
+      final BulkSigningResponseItem result,
+      final Supplier<String> slashableMessage) {
+    if (result.status() == SC_PRECONDITION_FAILED) {
+      throw new ExternalSignerException(slashableMessage.get());
+    }
+    final URI uri = URI.create(signingServiceUrl.toString()).resolve(BULK_SIGN_ENDPOINT);
+    if (result.status() != SC_OK) {
+      throw new ExternalSignerException(
+          uri, type, "Invalid response status code: " + result.status());
+    }
+    return result
+        .signature()
+        .orElseThrow(
+            () -> new ExternalSignerException(uri, type, "Returned an invalid signature: missing"));
+  }
+
   @VisibleForTesting
   static Supplier<String> slashableBlockMessage(final UInt64 slot) {
     return () ->
@@ -0,0 +1,278 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_METHOD_NOT_ALLOWED;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_IMPLEMENTED;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition.listOf;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueueWithPriority;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.validator.api.signer.SignType;
+
+/**
+ * Groups signing requests of the same type to the same external signer into bulk requests.
+ *
+ * <p>Requests are collected for a short window, or until a batch is full, and then sent as a JSON
+ * array of <code>{"pubkey": ..., "request": ...}</code> objects to {@link #BULK_SIGN_ENDPOINT}. The
+ * signer responds with an array of {@link BulkSigningResponseItem} in the same order. If the signer
+ * doesn't support bulk requests, requests to it are no longer batched and callers are told to send
+ * individual requests instead.
+ *
+ * <p>Batched requests aren't individually limited by the external signer task queue, which would
+ * otherwise cap the batch size at the concurrent request limit. Instead each bulk request is sent
+ * through the queue.
+ */
+public class ExternalSignerBatcher {
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final String BULK_SIGN_ENDPOINT = ExternalSigner.EXTERNAL_SIGNER_ENDPOINT + "/bulk";
+  public static final int DEFAULT_MAX_BATCH_SIZE = 512;
+  public static final Duration DEFAULT_BATCH_WINDOW = Duration.ofMillis(10);
+
+  // Duties which every validator performs at the same time in a slot
+  private static final Set<SignType> BATCHED_SIGN_TYPES =
+      EnumSet.of(
+          SignType.ATTESTATION,
+          SignType.AGGREGATION_SLOT,
+          SignType.AGGREGATE_AND_PROOF,
+          SignType.SYNC_COMMITTEE_MESSAGE,
+          SignType.SYNC_COMMITTEE_SELECTION_PROOF,
+          SignType.SYNC_COMMITTEE_CONTRIBUTION_AND_PROOF);
+  private static final Set<Integer> BULK_UNSUPPORTED_STATUS_CODES =
+      Set.of(SC_NOT_FOUND, SC_METHOD_NOT_ALLOWED, SC_NOT_IMPLEMENTED);
+
+  private final HttpClient httpClient;
+  private final Duration timeout;
+  private final AsyncRunner asyncRunner;
+  private final ThrottlingTaskQueueWithPriority taskQueue;
+  private final int maxBatchSize;
+  private final Duration batchWindow;
+  private final MetricsHistogram batchSizeHistogram;
+  private final OperationTimer batchRequestTimer;
+  private final Set<String> bulkUnsupportedSigners = ConcurrentHashMap.newKeySet();
+
+  private Map<BatchKey, List<PendingRequest>> pendingBatches = new HashMap<>();
+  private boolean flushScheduled = false;
+
+  public ExternalSignerBatcher(
+      final HttpClient httpClient,
+      final Duration timeout,
+      final AsyncRunner asyncRunner,
+      final ThrottlingTaskQueueWithPriority taskQueue,
+      final MetricsSystem metricsSystem,
+      final int maxBatchSize,
+      final Duration batchWindow) {
+    this.httpClient = httpClient;
+    this.timeout = timeout;
+    this.asyncRunner = asyncRunner;
+    this.taskQueue = taskQueue;
+    this.maxBatchSize = maxBatchSize;
+    this.batchWindow = batchWindow;
+    this.batchSizeHistogram =
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR,
+            metricsSystem,
+            "external_signer_batch_size",
+            "Number of signing requests in each bulk request to the external signer",
+            3,
+            List.of());
+    this.batchRequestTimer =
+        metricsSystem.createTimer(
+            TekuMetricCategory.VALIDATOR,
+            "external_signer_batch_request_time",
+            "Time taken for the external signer to respond to bulk signing requests");
+  }
+
+  public boolean isBatched(final URL signingServiceUrl, final SignType type) {
+    return BATCHED_SIGN_TYPES.contains(type)
+        && !bulkUnsupportedSigners.contains(signingServiceUrl.toString());
+  }
+
+  /**
+   * Adds a signing request to the next batch for the signer.
+   *
+   * @return the signer's response to the request, or empty if the signer doesn't support bulk
+   *     requests and an individual request should be sent instead
+   */
+  public SafeFuture<Optional<BulkSigningResponseItem>> sign(
+      final URL signingServiceUrl,
+      final BLSPublicKey publicKey,
+      final SignType type,
+      final String requestBody) {
+    final BatchKey key = new BatchKey(signingServiceUrl.toString(), type);
+    final PendingRequest request = new PendingRequest(publicKey, requestBody, new SafeFuture<>());
+    final Optional<List<PendingRequest>> fullBatch;
+    synchronized (this) {
+      final List<PendingRequest> batch =
+          pendingBatches.computeIfAbsent(key, __ -> new ArrayList<>());
+      batch.add(request);
+      if (batch.size() >= maxBatchSize) {
+        fullBatch = Optional.of(pendingBatches.remove(key));
+      } else {
+        fullBatch = Optional.empty();
+        scheduleFlush();
+      }
+    }
+    fullBatch.ifPresent(batch -> sendBatch(key, batch));
+    return request.result();
+  }
+
+  private synchronized void scheduleFlush() {
+    if (flushScheduled) {
+      return;
+    }
+    flushScheduled = true;
+    asyncRunner.runAfterDelay(this::flush, batchWindow).ifExceptionGetsHereRaiseABug();
+  }
+
+  private void flush() {
+    final Map<BatchKey, List<PendingRequest>> batches;
+    synchronized (this) {
+      flushScheduled = false;
+      batches = pendingBatches;
+      pendingBatches = new HashMap<>();
+    }
+    batches.forEach(this::sendBatch);
+  }
+
+  private void sendBatch(final BatchKey key, final List<PendingRequest> batch) {
+    final URI uri = URI.create(key.signingServiceUrl()).resolve(BULK_SIGN_ENDPOINT);
+    batchSizeHistogram.recordValue(batch.size());
+    taskQueue
+        .queueTask(() -> sendBulkRequest(key, uri, batch), true)
+        .finish(
+            maybeResults -> completeRequests(batch, maybeResults),
+            error -> {
+              final Throwable reportedError =
+                  error instanceof ExternalSignerException
+                      ? error
+                      : new ExternalSignerException(uri, key.type(), error.getMessage(), error);
+              batch.forEach(request -> request.result().completeExceptionally(reportedError));
+            });
+  }
+
+  private SafeFuture<Optional<List<BulkSigningResponseItem>>> sendBulkRequest(
+      final BatchKey key, final URI uri, final List<PendingRequest> batch) {
+    final OperationTimer.TimingContext timingContext = batchRequestTimer.startTimer();
+    return SafeFuture.of(
+            () -> {
+              final HttpRequest request =
+                  HttpRequest.newBuilder()
+                      .uri(uri)
+                      .timeout(timeout)
+                      .header("Content-Type", "application/json")
+                      .POST(BodyPublishers.ofString(createBulkRequestBody(batch)))
+                      .build();
+              return httpClient.sendAsync(request, BodyHandlers.ofString());
+            })
+        .thenApply(response -> parseResponse(key, uri, batch.size(), response))
+        .alwaysRun(timingContext::stopTimer);
+  }
+
+  private String createBulkRequestBody(final List<PendingRequest> batch)
+      throws JsonProcessingException {
+    return JsonUtil.serialize(
+        gen -> {
+          gen.writeStartArray();
+          for (final PendingRequest request : batch) {
+            gen.writeStartObject();
+            gen.writeStringField("pubkey", request.publicKey().toString());
+            gen.writeFieldName("request");
+            gen.writeRawValue(request.requestBody());
+            gen.writeEndObject();
+          }
+          gen.writeEndArray();
+        });
+  }
+
+  private Optional<List<BulkSigningResponseItem>> parseResponse(
+      final BatchKey key,
+      final URI uri,
+      final int batchSize,
+      final HttpResponse<String> response) {
+    if (BULK_UNSUPPORTED_STATUS_CODES.contains(response.statusCode())) {
+      if (bulkUnsupportedSigners.add(key.signingServiceUrl())) {
+        LOG.info(
+            "External signer does not support bulk signing requests (status code {}). Sending individual requests instead",
+            response.statusCode());
+      }
+      return Optional.empty();
+    }
+    if (response.statusCode() != SC_OK) {
+      throw new ExternalSignerException(
+          uri, key.type(), "Invalid response status code: " + response.statusCode());
+    }
+    final List<BulkSigningResponseItem> results;
+    try {
+      results =
+          JsonUtil.parse(
+              response.body(), listOf(BulkSigningResponseItem.getJsonTypeDefinition()));
+    } catch (final JsonProcessingException e) {
+      throw new ExternalSignerException(
+          uri, key.type(), "Returned an invalid response: " + e.getMessage(), e);
+    }
+    if (results.size() != batchSize) {
+      throw new ExternalSignerException(
+          uri,
+          key.type(),
+          "Returned " + results.size() + " results for " + batchSize + " signing requests");
+    }
+    return Optional.of(results);
+  }
+
+  private void completeRequests(
+      final List<PendingRequest> batch,
+      final Optional<List<BulkSigningResponseItem>> maybeResults) {
+    for (int i = 0; i < batch.size(); i++) {
+      final int index = i;
+      batch.get(i).result().complete(maybeResults.map(results -> results.get(index)));
+    }
+  }
+
+  private record BatchKey(String signingServiceUrl, SignType type) {}
+
+  private record PendingRequest(
+      BLSPublicKey publicKey,
+      String requestBody,
+      SafeFuture<Optional<BulkSigningResponseItem>> result) {}
+}
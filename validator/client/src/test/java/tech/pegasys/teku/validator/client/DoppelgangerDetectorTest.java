@@ -16,6 +16,7 @@ package tech.pegasys.teku.validator.client;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -23,6 +24,7 @@ import static org.mockito.Mockito.when;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -30,6 +32,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.Level;
 import org.junit.jupiter.api.AfterEach;
@@ -37,6 +40,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.infrastructure.logging.LogCaptor;
 import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
+import tech.pegasys.teku.api.migrated.ValidatorLivenessBitfield;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
@@ -73,6 +77,9 @@ public class DoppelgangerDetectorTest {
   public void setup() {
     logCaptor = LogCaptor.forClass(DoppelgangerDetector.class);
     when(genesisDataProvider.getGenesisTime()).thenReturn(SafeFuture.completedFuture(UInt64.ZERO));
+    // beacon nodes other than Teku don't provide the bitfield endpoint
+    when(validatorApiChannel.getValidatorsLivenessBitfield(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
 
     when(validatorApiChannel.getValidatorIndices(Set.of(pubKey1)))
         .thenReturn(SafeFuture.completedFuture(Map.ofEntries(Map.entry(pubKey1, 1))));
@@ -163,6 +170,36 @@ public class DoppelgangerDetectorTest {
     assertThat(doppelgangerDetectorFuture).isCompletedWithValue(doppelgangers);
   }
 
+  @Test
+  public void shouldOnlyRequestIndicesForKeysWithoutKnownIndex() {
+    Set<BLSPublicKey> pubKeys = Set.of(pubKey1, pubKey2, pubKey3);
+    when(validatorApiChannel.getValidatorIndices(pubKeys))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Map.ofEntries(Map.entry(pubKey1, 1), Map.entry(pubKey2, 2))));
+    when(validatorApiChannel.getValidatorIndices(Set.of(pubKey3)))
+        .thenReturn(SafeFuture.completedFuture(new HashMap<>()));
+    when(validatorApiChannel.getValidatorsLiveness(any(), any()))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    List.of(
+                        new ValidatorLivenessAtEpoch(UInt64.valueOf(1), false),
+                        new ValidatorLivenessAtEpoch(UInt64.valueOf(2), false),
+                        new ValidatorLivenessAtEpoch(UInt64.valueOf(3), false)))));
+    doppelgangerDetector.performDoppelgangerDetection(pubKeys);
+    asyncRunner.executeQueuedActions();
+    timeProvider.advanceTimeBySeconds(2);
+    asyncRunner.executeQueuedActions();
+    timeProvider.advanceTimeBySeconds(2);
+    asyncRunner.executeQueuedActions();
+
+    verify(validatorApiChannel).getValidatorIndices(pubKeys);
+    // only the key without an index is looked up again on the following checks
+    verify(validatorApiChannel, times(2)).getValidatorIndices(Set.of(pubKey3));
+    verify(validatorApiChannel, times(3)).getValidatorsLiveness(any(), any());
+  }
+
   @Test
   public void shouldNotDetectDoppelgangerSeparately() {
     when(validatorApiChannel.getValidatorsLiveness(any(), any()))
@@ -504,6 +541,72 @@ public class DoppelgangerDetectorTest {
     assertThat(doppelgangerDetectorFuture).isCompletedWithValue(doppelgangers);
   }
 
+  @Test
+  public void shouldDetectDoppelgangersFromLivenessBitfield() {
+    when(validatorApiChannel.getValidatorsLivenessBitfield(any()))
+        .thenAnswer(invocation -> livenessBitfield(invocation.getArgument(0), 1, 3, 5));
+    Set<BLSPublicKey> pubKeys = Set.of(pubKey1, pubKey2, pubKey3);
+    SafeFuture<Map<UInt64, BLSPublicKey>> doppelgangerDetectorFuture =
+        doppelgangerDetector.performDoppelgangerDetection(pubKeys);
+    asyncRunner.executeQueuedActions();
+    timeProvider.advanceTimeBySeconds(2);
+    asyncRunner.executeQueuedActions();
+    timeProvider.advanceTimeBySeconds(200);
+    asyncRunner.executeQueuedActions();
+
+    logCaptor.assertFatalLog(doppelgangerDetectedLog);
+    Map<UInt64, BLSPublicKey> doppelgangers =
+        Map.ofEntries(Map.entry(UInt64.valueOf(1), pubKey1), Map.entry(UInt64.valueOf(3), pubKey3));
+    assertThat(doppelgangerDetectorFuture).isCompletedWithValue(doppelgangers);
+    verify(validatorApiChannel, never()).getValidatorsLiveness(any(), any());
+  }
+
+  @Test
+  public void shouldCheckAlreadySeenBitsForValidatorsWhoseIndexIsResolvedLater() {
+    Set<BLSPublicKey> pubKeys = Set.of(pubKey1, pubKey2, pubKey3);
+    when(validatorApiChannel.getValidatorIndices(pubKeys))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Map.ofEntries(Map.entry(pubKey1, 1), Map.entry(pubKey2, 2))));
+    when(validatorApiChannel.getValidatorsLivenessBitfield(any()))
+        .thenAnswer(invocation -> livenessBitfield(invocation.getArgument(0), 3));
+    SafeFuture<Map<UInt64, BLSPublicKey>> doppelgangerDetectorFuture =
+        doppelgangerDetector.performDoppelgangerDetection(pubKeys);
+    asyncRunner.executeQueuedActions();
+    verify(statusLog, never()).validatorsDoppelgangersDetected(any());
+
+    // the index of pubKey3 is only known now, after its bit was already received
+    timeProvider.advanceTimeBySeconds(2);
+    asyncRunner.executeQueuedActions();
+    logCaptor.assertFatalLog(doppelgangerDetectedLog);
+
+    timeProvider.advanceTimeBySeconds(200);
+    asyncRunner.executeQueuedActions();
+    assertThat(doppelgangerDetectorFuture)
+        .isCompletedWithValue(Map.of(UInt64.valueOf(3), pubKey3));
+  }
+
+  @Test
+  public void shouldFallBackToStandardLivenessEndpointOnce() {
+    when(validatorApiChannel.getValidatorsLiveness(any(), any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(new ArrayList<>())));
+    doppelgangerDetector.performDoppelgangerDetection(Set.of(pubKey1, pubKey2, pubKey3));
+    asyncRunner.executeQueuedActions();
+    timeProvider.advanceTimeBySeconds(2);
+    asyncRunner.executeQueuedActions();
+
+    verify(validatorApiChannel).getValidatorsLivenessBitfield(any());
+    verify(validatorApiChannel, times(2)).getValidatorsLiveness(any(), any());
+  }
+
+  private SafeFuture<Optional<ValidatorLivenessBitfield>> livenessBitfield(
+      final UInt64 epoch, final int... liveIndices) {
+    final BitSet liveValidators = new BitSet();
+    IntStream.of(liveIndices).forEach(liveValidators::set);
+    return SafeFuture.completedFuture(
+        Optional.of(new ValidatorLivenessBitfield(epoch, liveValidators)));
+  }
+
   private Stream<String> toAbbreviatedKeys(final Set<BLSPublicKey> pubKeys) {
     return pubKeys.stream().map(BLSPublicKey::toAbbreviatedString);
   }
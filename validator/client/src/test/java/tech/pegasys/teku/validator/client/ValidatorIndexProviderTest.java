@@ -18,6 +18,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.spec.generator.signatures.NoOpLocalSigner.NO_OP_SIGNER;
@@ -173,6 +174,68 @@ class ValidatorIndexProviderTest {
     assertThat(provider.getPublicKey(400)).isEmpty();
   }
 
+  @Test
+  void shouldUseIndicesFromSnapshotWithoutLookup() {
+    final BLSPublicKey key2 = dataStructureUtil.randomPublicKey();
+    final OwnedValidators validators = ownedValidatorsWithKeys(key1, key2);
+    final ValidatorStatusSnapshotStore snapshotStore = mock(ValidatorStatusSnapshotStore.class);
+    when(snapshotStore.getValidatorIndices()).thenReturn(Map.of(key1, 1, key2, 20));
+    final ValidatorIndexProvider provider =
+        new ValidatorIndexProvider(
+            validators, validatorApiChannel, asyncRunner, Optional.of(snapshotStore));
+
+    provider.lookupValidators();
+
+    assertThat(provider.getValidatorIndicesByPublicKey())
+        .isCompletedWithValue(Map.of(key1, 1, key2, 20));
+    verifyNoInteractions(validatorApiChannel);
+  }
+
+  @Test
+  void shouldOnlyLookupKeysMissingFromSnapshot() {
+    final BLSPublicKey key2 = dataStructureUtil.randomPublicKey();
+    final OwnedValidators validators = ownedValidatorsWithKeys(key1, key2);
+    final ValidatorStatusSnapshotStore snapshotStore = mock(ValidatorStatusSnapshotStore.class);
+    when(snapshotStore.getValidatorIndices()).thenReturn(Map.of(key1, 1));
+    final ValidatorIndexProvider provider =
+        new ValidatorIndexProvider(
+            validators, validatorApiChannel, asyncRunner, Optional.of(snapshotStore));
+
+    final SafeFuture<Map<BLSPublicKey, Integer>> result = new SafeFuture<>();
+    when(validatorApiChannel.getValidatorIndices(Set.of(key2))).thenReturn(result);
+    provider.lookupValidators();
+    assertThat(provider.getValidatorIndices()).isNotCompleted();
+
+    result.complete(Map.of(key2, 20));
+    assertThat(provider.getValidatorIndicesByPublicKey())
+        .isCompletedWithValue(Map.of(key1, 1, key2, 20));
+    verify(snapshotStore).updateValidatorIndices(Map.of(key2, 20));
+  }
+
+  @Test
+  void shouldCorrectSnapshotIndicesFromBeaconNodeInBackground() {
+    final BLSPublicKey key2 = dataStructureUtil.randomPublicKey();
+    final BLSPublicKey key3 = dataStructureUtil.randomPublicKey();
+    final OwnedValidators validators = ownedValidatorsWithKeys(key1, key2, key3);
+    final ValidatorStatusSnapshotStore snapshotStore = mock(ValidatorStatusSnapshotStore.class);
+    when(snapshotStore.getValidatorIndices()).thenReturn(Map.of(key1, 1, key2, 20, key3, 300));
+    final ValidatorIndexProvider provider =
+        new ValidatorIndexProvider(
+            validators, validatorApiChannel, asyncRunner, Optional.of(snapshotStore));
+    when(validatorApiChannel.getValidatorIndices(Set.of(key1, key2, key3)))
+        .thenReturn(SafeFuture.completedFuture(Map.of(key1, 1, key2, 21)));
+
+    provider.lookupValidators();
+    assertThat(provider.getValidatorIndicesByPublicKey())
+        .isCompletedWithValue(Map.of(key1, 1, key2, 20, key3, 300));
+
+    asyncRunner.executeQueuedActions();
+    assertThat(provider.getValidatorIndicesByPublicKey())
+        .isCompletedWithValue(Map.of(key1, 1, key2, 21));
+    verify(snapshotStore).updateValidatorIndices(Map.of(key2, 21));
+    verify(snapshotStore).removeValidatorIndices(Set.of(key3));
+  }
+
   private OwnedValidators ownedValidatorsWithKeys(final BLSPublicKey... keys) {
     final Map<BLSPublicKey, Validator> validators = new HashMap<>();
     for (BLSPublicKey key : keys) {
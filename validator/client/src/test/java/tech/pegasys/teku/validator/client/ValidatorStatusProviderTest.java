@@ -23,6 +23,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.spec.generator.signatures.NoOpLocalSigner.NO_OP_SIGNER;
@@ -247,6 +248,72 @@ public class ValidatorStatusProviderTest {
     assertThat(result2.keySet()).contains(validatorKey, validatorKey2);
   }
 
+  @Test
+  void shouldUseStatusesFromSnapshotTakenInCurrentEpoch() {
+    final ValidatorStatusSnapshotStore snapshotStore = mock(ValidatorStatusSnapshotStore.class);
+    when(snapshotStore.getSnapshotEpoch()).thenReturn(Optional.of(UInt64.ZERO));
+    when(snapshotStore.getValidatorStatuses())
+        .thenReturn(Map.of(validatorKey, ValidatorStatus.active_ongoing));
+    final ValidatorStatusProvider snapshotProvider = createProviderWithSnapshot(snapshotStore);
+
+    assertThat(snapshotProvider.start()).isCompleted();
+
+    verify(validatorStatusSubscriber)
+        .onValidatorStatuses(Map.of(validatorKey, ValidatorStatus.active_ongoing), false);
+    verifyNoInteractions(validatorApiChannel);
+  }
+
+  @Test
+  void shouldRefreshStatusesFromSnapshotTakenInEarlierEpoch() {
+    final ValidatorStatusSnapshotStore snapshotStore = mock(ValidatorStatusSnapshotStore.class);
+    when(snapshotStore.getSnapshotEpoch()).thenReturn(Optional.of(UInt64.ZERO));
+    when(snapshotStore.getValidatorStatuses())
+        .thenReturn(Map.of(validatorKey, ValidatorStatus.active_ongoing));
+    when(validatorApiChannel.getValidatorStatuses(validatorKeys))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(Map.of(validatorKey, ValidatorStatus.active_exiting))));
+    final ValidatorStatusProvider snapshotProvider = createProviderWithSnapshot(snapshotStore);
+    snapshotProvider.onSlot(spec.computeStartSlotAtEpoch(UInt64.ONE));
+
+    assertThat(snapshotProvider.start()).isCompleted();
+
+    verify(validatorStatusSubscriber)
+        .onValidatorStatuses(Map.of(validatorKey, ValidatorStatus.active_ongoing), false);
+    verify(validatorStatusSubscriber)
+        .onValidatorStatuses(Map.of(validatorKey, ValidatorStatus.active_exiting), false);
+    verify(snapshotStore)
+        .saveValidatorStatuses(UInt64.ONE, Map.of(validatorKey, ValidatorStatus.active_exiting));
+  }
+
+  @Test
+  void shouldOnlyRequestStatusesForValidatorsMissingFromSnapshot() {
+    final BLSPublicKey validatorKey2 = BLSTestUtil.randomPublicKey(1);
+    ownedValidators.addValidator(new Validator(validatorKey2, NO_OP_SIGNER, Optional::empty));
+    final ValidatorStatusSnapshotStore snapshotStore = mock(ValidatorStatusSnapshotStore.class);
+    when(snapshotStore.getSnapshotEpoch()).thenReturn(Optional.of(UInt64.ZERO));
+    when(snapshotStore.getValidatorStatuses())
+        .thenReturn(Map.of(validatorKey, ValidatorStatus.active_ongoing));
+    when(validatorApiChannel.getValidatorStatuses(Set.of(validatorKey2)))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(Map.of(validatorKey2, ValidatorStatus.pending_queued))));
+    final ValidatorStatusProvider snapshotProvider = createProviderWithSnapshot(snapshotStore);
+
+    assertThat(snapshotProvider.start()).isCompleted();
+
+    verify(validatorApiChannel).getValidatorStatuses(Set.of(validatorKey2));
+    verifyNoMoreInteractions(validatorApiChannel);
+    verify(validatorStatusSubscriber)
+        .onValidatorStatuses(
+            Map.of(
+                validatorKey,
+                ValidatorStatus.active_ongoing,
+                validatorKey2,
+                ValidatorStatus.pending_queued),
+            false);
+  }
+
   @Test
   void shouldPropagatePossibleMissingEvents() {
     when(validatorApiChannel.getValidatorStatuses(validatorKeys))
@@ -263,4 +330,19 @@ public class ValidatorStatusProviderTest {
     verifyNoMoreInteractions(validatorApiChannel);
     verify(validatorStatusSubscriber).onValidatorStatuses(anyMap(), eq(true));
   }
+
+  private ValidatorStatusProvider createProviderWithSnapshot(
+      final ValidatorStatusSnapshotStore snapshotStore) {
+    final ValidatorStatusProvider snapshotProvider =
+        new OwnedValidatorStatusProvider(
+            new StubMetricsSystem(),
+            ownedValidators,
+            validatorApiChannel,
+            spec,
+            asyncRunner,
+            Optional.of(snapshotStore));
+    snapshotProvider.subscribeValidatorStatusesUpdates(validatorStatusSubscriber);
+    snapshotProvider.onSlot(UInt64.ZERO);
+    return snapshotProvider;
+  }
 }
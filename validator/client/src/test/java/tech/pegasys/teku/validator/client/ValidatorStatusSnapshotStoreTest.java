@@ -0,0 +1,148 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.validator.client.ValidatorStatusSnapshotStore.SNAPSHOT_FILE_NAME;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class ValidatorStatusSnapshotStoreTest {
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  private final BLSPublicKey key1 = dataStructureUtil.randomPublicKey();
+  private final BLSPublicKey key2 = dataStructureUtil.randomPublicKey();
+  private final BLSPublicKey key3 = dataStructureUtil.randomPublicKey();
+  private final Bytes32 genesisValidatorsRoot = dataStructureUtil.randomBytes32();
+
+  @Test
+  void shouldLoadSavedIndicesAndStatuses(@TempDir final Path tempDir) {
+    final ValidatorStatusSnapshotStore store = load(tempDir);
+    assertThat(store.getSnapshotEpoch()).isEmpty();
+    store.updateValidatorIndices(Map.of(key1, 1, key2, 20));
+    store.saveValidatorStatuses(
+        UInt64.valueOf(12),
+        Map.of(key1, ValidatorStatus.active_ongoing, key2, ValidatorStatus.exited_slashed));
+
+    final ValidatorStatusSnapshotStore reloadedStore = load(tempDir);
+    assertThat(reloadedStore.getSnapshotEpoch()).contains(UInt64.valueOf(12));
+    assertThat(reloadedStore.getValidatorIndices()).isEqualTo(Map.of(key1, 1, key2, 20));
+    assertThat(reloadedStore.getValidatorStatuses())
+        .isEqualTo(
+            Map.of(key1, ValidatorStatus.active_ongoing, key2, ValidatorStatus.exited_slashed));
+  }
+
+  @Test
+  void shouldNotSavePendingValidatorsOrValidatorsWithoutIndex(@TempDir final Path tempDir) {
+    final ValidatorStatusSnapshotStore store = load(tempDir);
+    store.updateValidatorIndices(Map.of(key1, 1, key2, 20));
+    store.saveValidatorStatuses(
+        UInt64.ONE,
+        Map.of(
+            key1,
+            ValidatorStatus.active_ongoing,
+            key2,
+            ValidatorStatus.pending_queued,
+            key3,
+            ValidatorStatus.active_ongoing));
+
+    final ValidatorStatusSnapshotStore reloadedStore = load(tempDir);
+    assertThat(reloadedStore.getValidatorIndices()).isEqualTo(Map.of(key1, 1));
+    assertThat(reloadedStore.getValidatorStatuses())
+        .isEqualTo(Map.of(key1, ValidatorStatus.active_ongoing));
+  }
+
+  @Test
+  void shouldDropValidatorsNoLongerOwned(@TempDir final Path tempDir) {
+    final ValidatorStatusSnapshotStore store = load(tempDir);
+    store.updateValidatorIndices(Map.of(key1, 1, key2, 20));
+    store.saveValidatorStatuses(
+        UInt64.ONE,
+        Map.of(key1, ValidatorStatus.active_ongoing, key2, ValidatorStatus.active_ongoing));
+    store.saveValidatorStatuses(UInt64.valueOf(2), Map.of(key2, ValidatorStatus.active_exiting));
+
+    final ValidatorStatusSnapshotStore reloadedStore = load(tempDir);
+    assertThat(reloadedStore.getSnapshotEpoch()).contains(UInt64.valueOf(2));
+    assertThat(reloadedStore.getValidatorStatuses())
+        .isEqualTo(Map.of(key2, ValidatorStatus.active_exiting));
+  }
+
+  @Test
+  void shouldDiscardSnapshotFromDifferentNetwork(@TempDir final Path tempDir) {
+    final ValidatorStatusSnapshotStore store = load(tempDir);
+    store.updateValidatorIndices(Map.of(key1, 1));
+    store.saveValidatorStatuses(UInt64.ONE, Map.of(key1, ValidatorStatus.active_ongoing));
+
+    final ValidatorStatusSnapshotStore reloadedStore =
+        ValidatorStatusSnapshotStore.load(tempDir, new StubMetricsSystem());
+    reloadedStore.setGenesisValidatorsRoot(dataStructureUtil.randomBytes32());
+
+    assertThat(reloadedStore.getSnapshotEpoch()).isEmpty();
+    assertThat(reloadedStore.getValidatorIndices()).isEmpty();
+    assertThat(reloadedStore.getValidatorStatuses()).isEmpty();
+  }
+
+  @Test
+  void shouldNotSaveSnapshotUntilGenesisValidatorsRootIsKnown(@TempDir final Path tempDir) {
+    final ValidatorStatusSnapshotStore store =
+        ValidatorStatusSnapshotStore.load(tempDir, new StubMetricsSystem());
+    store.updateValidatorIndices(Map.of(key1, 1));
+    store.saveValidatorStatuses(UInt64.ONE, Map.of(key1, ValidatorStatus.active_ongoing));
+
+    assertThat(tempDir.resolve(SNAPSHOT_FILE_NAME)).doesNotExist();
+  }
+
+  @Test
+  void shouldNotSaveRemovedValidatorIndices(@TempDir final Path tempDir) {
+    final ValidatorStatusSnapshotStore store = load(tempDir);
+    store.updateValidatorIndices(Map.of(key1, 1, key2, 20));
+    store.removeValidatorIndices(List.of(key2));
+    store.saveValidatorStatuses(
+        UInt64.ONE,
+        Map.of(key1, ValidatorStatus.active_ongoing, key2, ValidatorStatus.active_ongoing));
+
+    assertThat(load(tempDir).getValidatorIndices()).isEqualTo(Map.of(key1, 1));
+  }
+
+  @Test
+  void shouldIgnoreInvalidSnapshot(@TempDir final Path tempDir) throws Exception {
+    Files.write(tempDir.resolve(SNAPSHOT_FILE_NAME), new byte[] {1, 2, 3});
+
+    final ValidatorStatusSnapshotStore store = load(tempDir);
+    assertThat(store.getSnapshotEpoch()).isEmpty();
+    assertThat(store.getValidatorIndices()).isEmpty();
+    assertThat(store.getValidatorStatuses()).isEmpty();
+  }
+
+  private ValidatorStatusSnapshotStore load(final Path directory) {
+    final ValidatorStatusSnapshotStore store =
+        ValidatorStatusSnapshotStore.load(directory, new StubMetricsSystem());
+    store.setGenesisValidatorsRoot(genesisValidatorsRoot);
+    return store;
+  }
+}
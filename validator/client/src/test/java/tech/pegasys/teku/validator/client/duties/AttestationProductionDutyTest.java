@@ -20,6 +20,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -29,8 +30,12 @@ import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.SafeFuture.completedFuture;
 import static tech.pegasys.teku.infrastructure.async.SafeFuture.failedFuture;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
+import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
 import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps.CREATE_TOTAL;
+import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps.DATA_FETCH;
 import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps.SIGN;
+import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps.SIGNING_PREPARATION;
+import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps.SIGN_CHUNK;
 import static tech.pegasys.teku.spec.SpecMilestone.ELECTRA;
 import static tech.pegasys.teku.spec.SpecMilestone.PHASE0;
 
@@ -43,7 +48,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestTemplate;
 import org.mockito.ArgumentCaptor;
 import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.logging.ValidatorLogger;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
@@ -72,6 +79,7 @@ class AttestationProductionDutyTest {
   private static final String TYPE = "attestation";
   private static final UInt64 SLOT = UInt64.valueOf(1488);
 
+  private SpecContext specContext;
   private Spec spec;
   private DataStructureUtil dataStructureUtil;
   private ForkInfo fork;
@@ -85,18 +93,12 @@ class AttestationProductionDutyTest {
 
   @BeforeEach
   public void setUp(final SpecContext specContext) {
+    this.specContext = specContext;
     spec = specContext.getSpec();
     dataStructureUtil = specContext.getDataStructureUtil();
     fork = dataStructureUtil.randomForkInfo();
 
-    duty =
-        new AttestationProductionDuty(
-            spec,
-            SLOT,
-            forkProvider,
-            validatorApiChannel,
-            new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSignedAttestations),
-            validatorDutyMetrics);
+    duty = createDuty(SYNC_RUNNER);
 
     when(forkProvider.getForkInfo(any())).thenReturn(completedFuture(fork));
     when(validatorApiChannel.sendSignedAttestations(any()))
@@ -131,10 +133,14 @@ class AttestationProductionDutyTest {
 
     verify(validatorDutyMetrics)
         .record(any(), any(AttestationProductionDuty.class), eq(CREATE_TOTAL));
+    verify(validatorDutyMetrics, never())
+        .record(any(), any(AttestationProductionDuty.class), eq(SIGN));
   }
 
   @TestTemplate
   public void shouldPublishProducedAttestationsWhenSomeUnsignedAttestationsCanNotBeCreated() {
+    // Attestation data is requested for each committee prior to Electra
+    specContext.assumeIsNotOneOf(ELECTRA);
     final Validator validator1 = createValidator();
     final Validator validator2 = createValidator();
     final int validator1CommitteeIndex = 0;
@@ -188,6 +194,8 @@ class AttestationProductionDutyTest {
 
   @TestTemplate
   public void shouldPublishProducedAttestationsWhenSomeUnsignedAttestationsFail() {
+    // Attestation data is requested for each committee prior to Electra
+    specContext.assumeIsNotOneOf(ELECTRA);
     final Validator validator1 = createValidator();
     final Validator validator2 = createValidator();
     final int validator1CommitteeIndex = 0;
@@ -314,6 +322,31 @@ class AttestationProductionDutyTest {
     verify(validatorDutyMetrics).record(any(), any(AttestationProductionDuty.class), eq(SIGN));
   }
 
+  @TestTemplate
+  public void shouldRecordSigningStepsOncePerChunk() {
+    final int committeeIndex = 3;
+    final int committeeSize = 22;
+    final Validator validator1 = createValidator();
+    final Validator validator2 = createValidator();
+
+    final AttestationData attestationData = expectCreateAttestationData(committeeIndex);
+    expectSignAttestation(validator1, committeeIndex, 6, committeeSize, attestationData);
+    expectSignAttestation(validator2, committeeIndex, 7, committeeSize, attestationData);
+
+    duty.addValidator(validator1, committeeIndex, 6, 10, committeeSize);
+    duty.addValidator(validator2, committeeIndex, 7, 11, committeeSize);
+    performAndReportDuty();
+
+    verify(validatorDutyMetrics)
+        .record(any(), any(AttestationProductionDuty.class), eq(DATA_FETCH));
+    verify(validatorDutyMetrics)
+        .record(any(), any(AttestationProductionDuty.class), eq(SIGNING_PREPARATION));
+    verify(validatorDutyMetrics)
+        .record(any(), any(AttestationProductionDuty.class), eq(SIGN_CHUNK));
+    verify(validatorDutyMetrics, times(2))
+        .record(any(), any(AttestationProductionDuty.class), eq(SIGN));
+  }
+
   @TestTemplate
   void shouldReportFailureWhenAttestationIsInvalid() {
     final int committeeIndex = 3;
@@ -424,6 +457,8 @@ class AttestationProductionDutyTest {
   @SuppressWarnings("unchecked")
   @TestTemplate
   public void shouldCreateAttestationForMultipleValidatorsInDifferentCommittees() {
+    // Attestation data is requested for each committee prior to Electra
+    specContext.assumeIsNotOneOf(ELECTRA);
     final int committeeIndex1 = 3;
     final int committeeIndex2 = 1;
     final int committeeSize1 = 15;
@@ -499,6 +534,77 @@ class AttestationProductionDutyTest {
         .record(any(), any(AttestationProductionDuty.class), eq(SIGN));
   }
 
+  @SuppressWarnings("unchecked")
+  @TestTemplate
+  public void shouldCreateAttestationDataOnceForAllCommitteesFromElectra() {
+    specContext.assumeElectraActive();
+    final int committeeIndex1 = 3;
+    final int committeeIndex2 = 1;
+    final int committeeSize1 = 15;
+    final int committeeSize2 = 20;
+    final Validator validator1 = createValidator();
+    final Validator validator2 = createValidator();
+
+    final AttestationData attestationData = expectCreateAttestationData(0);
+    final Attestation expectedAttestation1 =
+        expectSignAttestation(validator1, committeeIndex1, 6, committeeSize1, attestationData);
+    final Attestation expectedAttestation2 =
+        expectSignAttestation(validator2, committeeIndex2, 2, committeeSize2, attestationData);
+
+    final SafeFuture<Optional<AttestationData>> attestationResult1 =
+        duty.addValidator(validator1, committeeIndex1, 6, 10, committeeSize1);
+    final SafeFuture<Optional<AttestationData>> attestationResult2 =
+        duty.addValidator(validator2, committeeIndex2, 2, 11, committeeSize2);
+
+    performAndReportDuty();
+    assertThat(attestationResult1).isCompletedWithValue(Optional.of(attestationData));
+    assertThat(attestationResult2).isCompletedWithValue(Optional.of(attestationData));
+
+    final ArgumentCaptor<List<Attestation>> argumentCaptor = ArgumentCaptor.forClass(List.class);
+    verify(validatorApiChannel).sendSignedAttestations(argumentCaptor.capture());
+    assertThat(argumentCaptor.getValue())
+        .containsExactlyInAnyOrder(expectedAttestation1, expectedAttestation2);
+
+    verify(validatorApiChannel).createAttestationData(SLOT, 0);
+    verify(validatorApiChannel, times(1)).createAttestationData(any(), anyInt());
+    verify(validatorLogger)
+        .dutyCompleted(
+            TYPE, SLOT, 2, Set.of(attestationData.getBeaconBlockRoot()), Optional.empty());
+    verifyNoMoreInteractions(validatorLogger);
+
+    // Recorded once per committee even though the data is only requested once
+    verify(validatorDutyMetrics, times(2))
+        .record(any(), any(AttestationProductionDuty.class), eq(CREATE_TOTAL));
+    verify(validatorDutyMetrics, times(2))
+        .record(any(), any(AttestationProductionDuty.class), eq(SIGN));
+  }
+
+  @TestTemplate
+  public void shouldSignAttestationsOnAsyncRunner() {
+    final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+    duty = createDuty(asyncRunner);
+    final int committeeIndex = 3;
+    final int committeePosition = 6;
+    final int committeeSize = 22;
+    final Validator validator = createValidator();
+
+    final AttestationData attestationData = expectCreateAttestationData(committeeIndex);
+    final Attestation expectedAttestation =
+        expectSignAttestation(
+            validator, committeeIndex, committeePosition, committeeSize, attestationData);
+
+    duty.addValidator(validator, committeeIndex, committeePosition, 10, committeeSize);
+    final SafeFuture<DutyResult> result = duty.performDuty();
+
+    assertThat(result).isNotCompleted();
+    verifyNoInteractions(validator.getSigner());
+
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result).isCompleted();
+    verify(validatorApiChannel).sendSignedAttestations(List.of(expectedAttestation));
+  }
+
   private Validator createValidator() {
     final Signer signer = mock(Signer.class);
     return new Validator(
@@ -521,7 +627,9 @@ class AttestationProductionDutyTest {
 
   private AttestationData expectCreateAttestationData(final int committeeIndex) {
     final AttestationData attestationData = dataStructureUtil.randomAttestationData(SLOT);
-    when(validatorApiChannel.createAttestationData(SLOT, committeeIndex))
+    // From Electra attestation data is requested once for all committees
+    final int requestedCommitteeIndex = isElectra() ? 0 : committeeIndex;
+    when(validatorApiChannel.createAttestationData(SLOT, requestedCommitteeIndex))
         .thenReturn(completedFuture(Optional.of(attestationData)));
     return attestationData;
   }
@@ -539,7 +647,7 @@ class AttestationProductionDutyTest {
 
     final Supplier<SszBitvector> committeeBits;
 
-    if (spec.atSlot(attestationData.getSlot()).getMilestone().isGreaterThanOrEqualTo(ELECTRA)) {
+    if (isElectra()) {
       committeeBits =
           () -> attestationSchema.getCommitteeBitsSchema().orElseThrow().ofBits(committeeIndex);
     } else {
@@ -550,6 +658,21 @@ class AttestationProductionDutyTest {
         expectedAggregationBits, attestationData, signature, committeeBits);
   }
 
+  private boolean isElectra() {
+    return spec.atSlot(SLOT).getMilestone().isGreaterThanOrEqualTo(ELECTRA);
+  }
+
+  private AttestationProductionDuty createDuty(final AsyncRunner asyncRunner) {
+    return new AttestationProductionDuty(
+        spec,
+        SLOT,
+        forkProvider,
+        validatorApiChannel,
+        new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSignedAttestations),
+        validatorDutyMetrics,
+        asyncRunner);
+  }
+
   private void performAndReportDuty() {
     final SafeFuture<DutyResult> result = duty.performDuty();
     assertThat(result).isCompleted();
@@ -0,0 +1,149 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.loader;
+
+import static java.nio.file.attribute.PosixFilePermission.OWNER_READ;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static tech.pegasys.teku.validator.client.loader.DecryptedKeyCache.CACHE_FILE_NAME;
+import static tech.pegasys.teku.validator.client.loader.DecryptedKeyCache.HOST_KEY_FILE_NAME;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class DecryptedKeyCacheTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+
+  private final BLSPublicKey publicKey1 = dataStructureUtil.randomPublicKey();
+  private final BLSPublicKey publicKey2 = dataStructureUtil.randomPublicKey();
+  private final Bytes32 fingerprint1 = dataStructureUtil.randomBytes32();
+  private final Bytes32 fingerprint2 = dataStructureUtil.randomBytes32();
+  private final Bytes32 secretKey1 = dataStructureUtil.randomBytes32();
+  private final Bytes32 secretKey2 = dataStructureUtil.randomBytes32();
+
+  @Test
+  void shouldLoadSavedKeys(@TempDir final Path tempDir) {
+    final DecryptedKeyCache cache = DecryptedKeyCache.load(tempDir, metricsSystem);
+    assertThat(cache.get(publicKey1, fingerprint1)).isEmpty();
+    cache.put(publicKey1, fingerprint1, secretKey1);
+    cache.put(publicKey2, fingerprint2, secretKey2);
+    cache.save();
+
+    final DecryptedKeyCache reloadedCache = DecryptedKeyCache.load(tempDir, metricsSystem);
+    assertThat(reloadedCache.get(publicKey1, fingerprint1)).contains(secretKey1);
+    assertThat(reloadedCache.get(publicKey2, fingerprint2)).contains(secretKey2);
+    assertThat(getCounterValue("decrypted_key_cache_hits_total")).isEqualTo(2);
+    assertThat(getCounterValue("decrypted_key_cache_misses_total")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotReturnKeyWhenFingerprintDoesNotMatch(@TempDir final Path tempDir) {
+    final DecryptedKeyCache cache = DecryptedKeyCache.load(tempDir, metricsSystem);
+    cache.put(publicKey1, fingerprint1, secretKey1);
+
+    assertThat(cache.get(publicKey1, fingerprint2)).isEmpty();
+  }
+
+  @Test
+  void shouldNotStoreSecretKeysInPlainText(@TempDir final Path tempDir) throws Exception {
+    final DecryptedKeyCache cache = DecryptedKeyCache.load(tempDir, metricsSystem);
+    cache.put(publicKey1, fingerprint1, secretKey1);
+    cache.save();
+
+    final Bytes contents = Bytes.wrap(Files.readAllBytes(tempDir.resolve(CACHE_FILE_NAME)));
+    for (int i = 0; i <= contents.size() - Bytes32.SIZE; i++) {
+      assertThat(contents.slice(i, Bytes32.SIZE)).isNotEqualTo(secretKey1);
+    }
+  }
+
+  @Test
+  void shouldOnlyCreateFilesReadableByOwner(@TempDir final Path tempDir) throws Exception {
+    assumeTrue(DecryptedKeyCache.isSupported());
+    final DecryptedKeyCache cache = DecryptedKeyCache.load(tempDir, metricsSystem);
+    cache.put(publicKey1, fingerprint1, secretKey1);
+    cache.save();
+
+    assertThat(Files.getPosixFilePermissions(tempDir.resolve(CACHE_FILE_NAME)))
+        .containsExactlyInAnyOrder(OWNER_READ, OWNER_WRITE);
+    assertThat(Files.getPosixFilePermissions(tempDir.resolve(HOST_KEY_FILE_NAME)))
+        .containsExactlyInAnyOrder(OWNER_READ, OWNER_WRITE);
+    try (Stream<Path> files = Files.list(tempDir)) {
+      assertThat(files.map(file -> file.getFileName().toString()))
+          .containsExactlyInAnyOrder(CACHE_FILE_NAME, HOST_KEY_FILE_NAME);
+    }
+  }
+
+  @Test
+  void shouldIgnoreCacheWhenHostKeyChanges(@TempDir final Path tempDir) throws Exception {
+    final DecryptedKeyCache cache = DecryptedKeyCache.load(tempDir, metricsSystem);
+    cache.put(publicKey1, fingerprint1, secretKey1);
+    cache.save();
+
+    Files.delete(tempDir.resolve(HOST_KEY_FILE_NAME));
+
+    final DecryptedKeyCache reloadedCache = DecryptedKeyCache.load(tempDir, metricsSystem);
+    assertThat(reloadedCache.size()).isZero();
+    assertThat(reloadedCache.get(publicKey1, fingerprint1)).isEmpty();
+  }
+
+  @Test
+  void shouldOnlySaveKeysUsedSinceLoading(@TempDir final Path tempDir) {
+    final DecryptedKeyCache cache = DecryptedKeyCache.load(tempDir, metricsSystem);
+    cache.put(publicKey1, fingerprint1, secretKey1);
+    cache.put(publicKey2, fingerprint2, secretKey2);
+    cache.save();
+
+    final DecryptedKeyCache reloadedCache = DecryptedKeyCache.load(tempDir, metricsSystem);
+    assertThat(reloadedCache.get(publicKey1, fingerprint1)).contains(secretKey1);
+    reloadedCache.save();
+
+    final DecryptedKeyCache prunedCache = DecryptedKeyCache.load(tempDir, metricsSystem);
+    assertThat(prunedCache.size()).isEqualTo(1);
+    assertThat(prunedCache.get(publicKey1, fingerprint1)).contains(secretKey1);
+  }
+
+  @Test
+  void shouldNotSaveRemovedKeys(@TempDir final Path tempDir) {
+    final DecryptedKeyCache cache = DecryptedKeyCache.load(tempDir, metricsSystem);
+    cache.put(publicKey1, fingerprint1, secretKey1);
+    cache.put(publicKey2, fingerprint2, secretKey2);
+    cache.save();
+
+    cache.remove(publicKey2);
+    cache.save();
+
+    final DecryptedKeyCache reloadedCache = DecryptedKeyCache.load(tempDir, metricsSystem);
+    assertThat(reloadedCache.size()).isEqualTo(1);
+    assertThat(reloadedCache.get(publicKey1, fingerprint1)).contains(secretKey1);
+    assertThat(reloadedCache.get(publicKey2, fingerprint2)).isEmpty();
+  }
+
+  private long getCounterValue(final String name) {
+    return metricsSystem.getCounter(TekuMetricCategory.VALIDATOR, name).getValue();
+  }
+}
@@ -300,6 +300,7 @@ public class ExternalValidatorSourceTest {
         asyncRunner,
         readOnly,
         externalSignerTaskQueue,
+        Optional.empty(),
         Optional.of(new SimpleDataDirLayout(tempDir)));
   }
 
@@ -55,6 +55,7 @@ import java.util.Optional;
 import java.util.Set;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Assertions;
@@ -80,6 +81,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.builder.SignedValidatorRegistration;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
 import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SignedContributionAndProof;
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeContribution;
@@ -113,10 +115,10 @@ class OkHttpValidatorTypeDefClientTest extends AbstractTypeDefRequestTestBase {
     super.beforeEach(specContext);
     typeDefClient =
         new OkHttpValidatorTypeDefClient(
-            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), false, false);
+            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), false, false, false);
     okHttpValidatorTypeDefClientWithPreferredSsz =
         new OkHttpValidatorTypeDefClient(
-            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), true, false);
+            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), true, true, false);
     sszRegisterValidatorsRequest =
         new RegisterValidatorsRequest(mockWebServer.url("/"), okHttpClient, true);
   }
@@ -839,6 +841,28 @@ class OkHttpValidatorTypeDefClientTest extends AbstractTypeDefRequestTestBase {
         .isEqualTo(String.valueOf(committeeIndex));
   }
 
+  @TestTemplate
+  public void createAttestationData_readsSszResponseIfSszEncodingPreferred() throws Exception {
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+    try (final Buffer responseBody = new Buffer()) {
+      responseBody.write(attestationData.sszSerialize().toArrayUnsafe());
+      mockWebServer.enqueue(
+          new MockResponse()
+              .setResponseCode(SC_OK)
+              .setHeader("Content-Type", OCTET_STREAM_CONTENT_TYPE)
+              .setBody(responseBody));
+
+      final Optional<AttestationData> result =
+          okHttpValidatorTypeDefClientWithPreferredSsz.createAttestationData(
+              attestationData.getSlot(), 0);
+
+      assertThat(result).contains(attestationData);
+    }
+
+    final RecordedRequest request = mockWebServer.takeRequest();
+    assertThat(request.getHeader("Accept")).contains(OCTET_STREAM_CONTENT_TYPE);
+  }
+
   @TestTemplate
   public void createUnsignedBlock_makesExpectedRequest() throws Exception {
     mockWebServer.enqueue(new MockResponse().setResponseCode(SC_NO_CONTENT));
@@ -975,6 +999,82 @@ class OkHttpValidatorTypeDefClientTest extends AbstractTypeDefRequestTestBase {
         .isEqualTo(specMilestone.name().toLowerCase(Locale.ROOT));
   }
 
+  @TestTemplate
+  public void sendSignedAttestation_makesSszRequestIfSszEncodingPreferred() throws Exception {
+    assumeThat(specMilestone).isGreaterThanOrEqualTo(ELECTRA);
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+
+    final List<Attestation> attestations =
+        List.of(dataStructureUtil.randomAttestation(), dataStructureUtil.randomAttestation());
+
+    okHttpValidatorTypeDefClientWithPreferredSsz.sendSignedAttestations(attestations);
+    final RecordedRequest request = mockWebServer.takeRequest();
+
+    assertThat(request.getPath())
+        .contains(ValidatorApiMethod.SEND_SIGNED_ATTESTATION_V2.getPath(emptyMap()));
+    assertThat(request.getHeader("Content-Type")).isEqualTo(OCTET_STREAM_CONTENT_TYPE);
+    assertThat(request.getHeader(HEADER_CONSENSUS_VERSION))
+        .isEqualTo(specMilestone.name().toLowerCase(Locale.ROOT));
+
+    final List<Attestation> deserializedAttestations =
+        ApiSchemas.createPoolSubmissionsSchema(
+                spec.getGenesisSchemaDefinitions().getAttestationSchema())
+            .sszDeserialize(Bytes.of(request.getBody().readByteArray()))
+            .asList();
+    assertThat(deserializedAttestations).isEqualTo(attestations);
+  }
+
+  @TestTemplate
+  public void sendSignedAttestation_fallbacksToJsonIfSszNotSupported() throws Exception {
+    assumeThat(specMilestone).isGreaterThanOrEqualTo(ELECTRA);
+    mockWebServer.enqueue(new MockResponse().setResponseCode(415));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+
+    final List<Attestation> attestations =
+        List.of(dataStructureUtil.randomAttestation(), dataStructureUtil.randomAttestation());
+
+    okHttpValidatorTypeDefClientWithPreferredSsz.sendSignedAttestations(attestations);
+
+    assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    assertThat(mockWebServer.takeRequest().getHeader("Content-Type"))
+        .isEqualTo(OCTET_STREAM_CONTENT_TYPE);
+    assertThat(mockWebServer.takeRequest().getHeader("Content-Type"))
+        .isEqualTo(JSON_CONTENT_TYPE);
+
+    // subsequent requests default immediately to json
+    okHttpValidatorTypeDefClientWithPreferredSsz.sendSignedAttestations(attestations);
+
+    assertThat(mockWebServer.getRequestCount()).isEqualTo(3);
+    assertThat(mockWebServer.takeRequest().getHeader("Content-Type"))
+        .isEqualTo(JSON_CONTENT_TYPE);
+  }
+
+  @TestTemplate
+  public void sendAggregate_makesSszRequestIfSszEncodingPreferred() throws Exception {
+    assumeThat(specMilestone).isGreaterThanOrEqualTo(ELECTRA);
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+
+    final List<SignedAggregateAndProof> aggregateAndProofs =
+        List.of(
+            dataStructureUtil.randomSignedAggregateAndProof(),
+            dataStructureUtil.randomSignedAggregateAndProof());
+
+    okHttpValidatorTypeDefClientWithPreferredSsz.sendAggregateAndProofs(aggregateAndProofs);
+    final RecordedRequest request = mockWebServer.takeRequest();
+
+    assertThat(request.getPath())
+        .contains(ValidatorApiMethod.SEND_SIGNED_AGGREGATE_AND_PROOFS_V2.getPath(emptyMap()));
+    assertThat(request.getHeader("Content-Type")).isEqualTo(OCTET_STREAM_CONTENT_TYPE);
+
+    final List<SignedAggregateAndProof> deserializedAggregateAndProofs =
+        ApiSchemas.createPoolSubmissionsSchema(
+                spec.getGenesisSchemaDefinitions().getSignedAggregateAndProofSchema())
+            .sszDeserialize(Bytes.of(request.getBody().readByteArray()))
+            .asList();
+    assertThat(deserializedAggregateAndProofs).isEqualTo(aggregateAndProofs);
+  }
+
   @TestTemplate
   public void createAggregate_whenBadParameters_throwsIllegalArgumentException() {
     final Bytes32 attestationHashTreeRoot = Bytes32.random();
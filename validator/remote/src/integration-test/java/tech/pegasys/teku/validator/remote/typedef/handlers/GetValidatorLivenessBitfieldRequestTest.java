@@ -0,0 +1,88 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package tech.pegasys.teku.validator.remote.typedef.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_METHOD_NOT_ALLOWED;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Optional;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestTemplate;
+import tech.pegasys.teku.api.exceptions.RemoteServiceNotAvailableException;
+import tech.pegasys.teku.api.migrated.ValidatorLivenessBitfield;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.TestSpecContext;
+import tech.pegasys.teku.spec.networks.Eth2Network;
+import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
+import tech.pegasys.teku.validator.remote.typedef.AbstractTypeDefRequestTestBase;
+
+@TestSpecContext(milestone = SpecMilestone.PHASE0, network = Eth2Network.MINIMAL)
+public class GetValidatorLivenessBitfieldRequestTest extends AbstractTypeDefRequestTestBase {
+
+  private GetValidatorLivenessBitfieldRequest request;
+
+  @BeforeEach
+  void setupRequest() {
+    request = new GetValidatorLivenessBitfieldRequest(mockWebServer.url("/"), okHttpClient);
+  }
+
+  @TestTemplate
+  public void getValidatorLivenessBitfield_readsResponse() throws Exception {
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setBody("{\"data\":{\"epoch\":\"1\",\"live_validators\":\"0x0a02\"}}"));
+    final Optional<ValidatorLivenessBitfield> result = request.submit(UInt64.ONE);
+
+    final RecordedRequest request = mockWebServer.takeRequest();
+    assertThat(request.getMethod()).isEqualTo("GET");
+    assertThat(request.getPath())
+        .contains(ValidatorApiMethod.GET_VALIDATOR_LIVENESS_BITFIELD.getPath(Map.of("epoch", "1")));
+
+    final BitSet expectedLiveValidators = new BitSet();
+    expectedLiveValidators.set(1);
+    expectedLiveValidators.set(3);
+    expectedLiveValidators.set(9);
+    assertThat(result).contains(new ValidatorLivenessBitfield(UInt64.ONE, expectedLiveValidators));
+  }
+
+  @TestTemplate
+  void handle404AsUnsupported() {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_NOT_FOUND));
+    assertThat(request.submit(UInt64.ONE)).isEmpty();
+  }
+
+  @TestTemplate
+  void handle405AsUnsupported() {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_METHOD_NOT_ALLOWED));
+    assertThat(request.submit(UInt64.ONE)).isEmpty();
+  }
+
+  @TestTemplate
+  void handle500() {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_INTERNAL_SERVER_ERROR));
+    assertThatThrownBy(() -> request.submit(UInt64.ONE))
+        .isInstanceOf(RemoteServiceNotAvailableException.class);
+  }
+}
@@ -30,6 +30,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
+import tech.pegasys.teku.api.migrated.ValidatorLivenessBitfield;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -319,6 +320,14 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
         BeaconNodeRequestLabels.GET_VALIDATORS_LIVENESS);
   }
 
+  @Override
+  public SafeFuture<Optional<ValidatorLivenessBitfield>> getValidatorsLivenessBitfield(
+      final UInt64 epoch) {
+    return tryRequestUntilSuccess(
+        apiChannel -> apiChannel.getValidatorsLivenessBitfield(epoch),
+        BeaconNodeRequestLabels.GET_VALIDATORS_LIVENESS_BITFIELD);
+  }
+
   @Override
   public SafeFuture<Optional<List<BeaconCommitteeSelectionProof>>> getBeaconCommitteeSelectionProof(
       final List<BeaconCommitteeSelectionProof> requests) {
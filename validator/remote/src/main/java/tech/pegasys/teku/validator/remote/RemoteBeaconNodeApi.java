@@ -85,6 +85,7 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
             okHttpClient,
             spec,
             validatorConfig.isValidatorClientUseSszBlocksEnabled(),
+            validatorConfig.isValidatorClientUseSszValidatorApiEnabled(),
             validatorConfig.isValidatorClientUsePostValidatorsEndpointEnabled(),
             asyncRunner,
             validatorConfig.isAttestationsV2ApisEnabled());
@@ -97,6 +98,7 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
                         okHttpClient,
                         spec,
                         validatorConfig.isValidatorClientUseSszBlocksEnabled(),
+                        validatorConfig.isValidatorClientUseSszValidatorApiEnabled(),
                         validatorConfig.isValidatorClientUsePostValidatorsEndpointEnabled(),
                         asyncRunner,
                         validatorConfig.isAttestationsV2ApisEnabled()))
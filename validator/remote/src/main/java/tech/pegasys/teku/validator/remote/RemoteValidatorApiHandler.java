@@ -34,6 +34,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
+import tech.pegasys.teku.api.migrated.ValidatorLivenessBitfield;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -320,6 +321,12 @@ public class RemoteValidatorApiHandler implements RemoteValidatorApiChannel {
     return sendRequest(() -> typeDefClient.sendValidatorsLiveness(epoch, validatorIndices));
   }
 
+  @Override
+  public SafeFuture<Optional<ValidatorLivenessBitfield>> getValidatorsLivenessBitfield(
+      final UInt64 epoch) {
+    return sendRequest(() -> typeDefClient.getValidatorsLivenessBitfield(epoch));
+  }
+
   @Override
   public SafeFuture<Optional<List<BeaconCommitteeSelectionProof>>> getBeaconCommitteeSelectionProof(
       final List<BeaconCommitteeSelectionProof> requests) {
@@ -365,12 +372,18 @@ public class RemoteValidatorApiHandler implements RemoteValidatorApiChannel {
       final OkHttpClient httpClient,
       final Spec spec,
       final boolean preferSszBlockEncoding,
+      final boolean preferSszValidatorApiEncoding,
       final boolean usePostValidatorsEndpoint,
       final AsyncRunner asyncRunner,
       final boolean attestationsV2ApisEnabled) {
     final OkHttpValidatorTypeDefClient typeDefClient =
         new OkHttpValidatorTypeDefClient(
-            httpClient, endpoint, spec, preferSszBlockEncoding, attestationsV2ApisEnabled);
+            httpClient,
+            endpoint,
+            spec,
+            preferSszBlockEncoding,
+            preferSszValidatorApiEncoding,
+            attestationsV2ApisEnabled);
     return new RemoteValidatorApiHandler(
         endpoint, typeDefClient, asyncRunner, usePostValidatorsEndpoint);
   }
@@ -49,6 +49,7 @@ public enum ValidatorApiMethod {
   GET_CONFIG_SPEC("/eth/v1/config/spec"),
   EVENTS("eth/v1/events"),
   SEND_VALIDATOR_LIVENESS("/eth/v1/validator/liveness/:epoch"),
+  GET_VALIDATOR_LIVENESS_BITFIELD("/teku/v1/validator/liveness/:epoch"),
   BEACON_COMMITTEE_SELECTIONS("/eth/v1/validator/beacon_committee_selections"),
   SYNC_COMMITTEE_SELECTIONS("/eth/v1/validator/sync_committee_selections");
 
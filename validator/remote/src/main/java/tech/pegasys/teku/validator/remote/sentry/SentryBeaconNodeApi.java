@@ -181,6 +181,7 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
         httpClient,
         spec,
         validatorConfig.isValidatorClientUseSszBlocksEnabled(),
+        validatorConfig.isValidatorClientUseSszValidatorApiEnabled(),
         validatorConfig.isValidatorClientUsePostValidatorsEndpointEnabled(),
         asyncRunner,
         validatorConfig.isAttestationsV2ApisEnabled());
@@ -201,6 +202,7 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
                         httpClient,
                         spec,
                         validatorConfig.isValidatorClientUseSszBlocksEnabled(),
+                        validatorConfig.isValidatorClientUseSszValidatorApiEnabled(),
                         validatorConfig.isValidatorClientUsePostValidatorsEndpointEnabled(),
                         asyncRunner,
                         validatorConfig.isAttestationsV2ApisEnabled()))
@@ -21,6 +21,7 @@ import java.util.Optional;
 import java.util.Set;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
+import tech.pegasys.teku.api.migrated.ValidatorLivenessBitfield;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -228,6 +229,12 @@ public class SentryValidatorApiChannel implements ValidatorApiChannel {
     return dutiesProviderChannel.getValidatorsLiveness(validatorIndices, epoch);
   }
 
+  @Override
+  public SafeFuture<Optional<ValidatorLivenessBitfield>> getValidatorsLivenessBitfield(
+      final UInt64 epoch) {
+    return dutiesProviderChannel.getValidatorsLivenessBitfield(epoch);
+  }
+
   @Override
   public SafeFuture<Optional<List<BeaconCommitteeSelectionProof>>> getBeaconCommitteeSelectionProof(
       final List<BeaconCommitteeSelectionProof> requests) {
@@ -24,6 +24,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
+import tech.pegasys.teku.api.migrated.ValidatorLivenessBitfield;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.ethereum.json.types.beacon.StateValidatorData;
 import tech.pegasys.teku.ethereum.json.types.node.PeerCount;
@@ -62,6 +63,7 @@ import tech.pegasys.teku.validator.remote.typedef.handlers.GetPeerCountRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.GetProposerDutiesRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.GetStateValidatorsRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.GetSyncingStatusRequest;
+import tech.pegasys.teku.validator.remote.typedef.handlers.GetValidatorLivenessBitfieldRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.PostAttesterDutiesRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.PostSyncDutiesRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.PrepareBeaconProposersRequest;
@@ -87,17 +89,44 @@ public class OkHttpValidatorTypeDefClient extends OkHttpValidatorMinimalTypeDefC
   private final SchemaDefinitionCache schemaDefinitionCache;
   private final boolean attestationsV2ApisEnabled;
 
+  // requests which may negotiate SSZ are kept so a fallback to JSON is remembered across calls.
+  // Sync committee messages, contributions and subnet subscriptions are always sent as JSON since
+  // the beacon node only accepts SSZ bodies on the attestation and aggregate pool endpoints.
+  private final RegisterValidatorsRequest registerValidatorsRequest;
+  private final CreateAttestationDataRequest createAttestationDataRequest;
+  private final SendAggregateAndProofsRequest sendAggregateAndProofsRequest;
+  private final SendSignedAttestationsRequest sendSignedAttestationsRequest;
+
   public OkHttpValidatorTypeDefClient(
       final OkHttpClient okHttpClient,
       final HttpUrl baseEndpoint,
       final Spec spec,
       final boolean preferSszBlockEncoding,
+      final boolean preferSszValidatorApiEncoding,
       final boolean attestationsV2ApisEnabled) {
     super(baseEndpoint, okHttpClient);
     this.spec = spec;
     schemaDefinitionCache = new SchemaDefinitionCache(spec);
     this.preferSszBlockEncoding = preferSszBlockEncoding;
     this.attestationsV2ApisEnabled = attestationsV2ApisEnabled;
+    this.registerValidatorsRequest =
+        new RegisterValidatorsRequest(baseEndpoint, okHttpClient, preferSszValidatorApiEncoding);
+    this.createAttestationDataRequest =
+        new CreateAttestationDataRequest(baseEndpoint, okHttpClient, preferSszValidatorApiEncoding);
+    this.sendAggregateAndProofsRequest =
+        new SendAggregateAndProofsRequest(
+            baseEndpoint,
+            okHttpClient,
+            attestationsV2ApisEnabled,
+            spec,
+            preferSszValidatorApiEncoding);
+    this.sendSignedAttestationsRequest =
+        new SendSignedAttestationsRequest(
+            baseEndpoint,
+            okHttpClient,
+            attestationsV2ApisEnabled,
+            spec,
+            preferSszValidatorApiEncoding);
   }
 
   public SyncingStatus getSyncingStatus() {
@@ -164,16 +193,11 @@ public class OkHttpValidatorTypeDefClient extends OkHttpValidatorMinimalTypeDefC
 
   public void registerValidators(
       final SszList<SignedValidatorRegistration> validatorRegistrations) {
-    final RegisterValidatorsRequest registerValidatorsRequest =
-        new RegisterValidatorsRequest(getBaseEndpoint(), getOkHttpClient(), false);
     registerValidatorsRequest.submit(validatorRegistrations);
   }
 
   public Optional<AttestationData> createAttestationData(
       final UInt64 slot, final int committeeIndex) {
-
-    final CreateAttestationDataRequest createAttestationDataRequest =
-        new CreateAttestationDataRequest(getBaseEndpoint(), getOkHttpClient());
     return createAttestationDataRequest.submit(slot, committeeIndex);
   }
 
@@ -266,6 +290,12 @@ public class OkHttpValidatorTypeDefClient extends OkHttpValidatorMinimalTypeDefC
     return sendValidatorLivenessRequest.submit(epoch, validatorIndices);
   }
 
+  public Optional<ValidatorLivenessBitfield> getValidatorsLivenessBitfield(final UInt64 epoch) {
+    final GetValidatorLivenessBitfieldRequest getValidatorLivenessBitfieldRequest =
+        new GetValidatorLivenessBitfieldRequest(getBaseEndpoint(), getOkHttpClient());
+    return getValidatorLivenessBitfieldRequest.submit(epoch);
+  }
+
   public List<SubmitDataError> sendSyncCommitteeMessages(
       final List<SyncCommitteeMessage> syncCommitteeMessages) {
     final SendSyncCommitteeMessagesRequest sendSyncCommitteeMessagesRequest =
@@ -275,16 +305,10 @@ public class OkHttpValidatorTypeDefClient extends OkHttpValidatorMinimalTypeDefC
 
   public List<SubmitDataError> sendAggregateAndProofs(
       final List<SignedAggregateAndProof> aggregateAndProofs) {
-    final SendAggregateAndProofsRequest sendAggregateAndProofsRequest =
-        new SendAggregateAndProofsRequest(
-            getBaseEndpoint(), getOkHttpClient(), attestationsV2ApisEnabled, spec);
     return sendAggregateAndProofsRequest.submit(aggregateAndProofs);
   }
 
   public List<SubmitDataError> sendSignedAttestations(final List<Attestation> attestations) {
-    final SendSignedAttestationsRequest sendSignedAttestationsRequest =
-        new SendSignedAttestationsRequest(
-            getBaseEndpoint(), getOkHttpClient(), attestationsV2ApisEnabled, spec);
     return sendSignedAttestationsRequest.submit(attestations);
   }
 }
@@ -13,15 +13,23 @@
 
 package tech.pegasys.teku.validator.remote.typedef.handlers;
 
+import static java.util.Collections.emptyMap;
 import static tech.pegasys.teku.ethereum.json.types.SharedApiTypes.withDataWrapper;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.COMMITTEE_INDEX;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.SLOT;
 
+import com.google.common.net.MediaType;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
 import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
@@ -29,17 +37,51 @@ import tech.pegasys.teku.validator.remote.typedef.ResponseHandler;
 
 public class CreateAttestationDataRequest extends AbstractTypeDefRequest {
 
+  private final ResponseHandler<AttestationData> jsonResponseHandler =
+      new ResponseHandler<>(withDataWrapper(AttestationData.SSZ_SCHEMA));
+  private final ResponseHandler<AttestationData> sszResponseHandler =
+      new ResponseHandler<>(withDataWrapper(AttestationData.SSZ_SCHEMA))
+          .withHandler(SC_OK, this::handleAttestationDataResult);
+
+  private final boolean preferSszEncoding;
+
   public CreateAttestationDataRequest(final HttpUrl baseEndpoint, final OkHttpClient okHttpClient) {
+    this(baseEndpoint, okHttpClient, false);
+  }
+
+  public CreateAttestationDataRequest(
+      final HttpUrl baseEndpoint,
+      final OkHttpClient okHttpClient,
+      final boolean preferSszEncoding) {
     super(baseEndpoint, okHttpClient);
+    this.preferSszEncoding = preferSszEncoding;
   }
 
   public Optional<AttestationData> submit(final UInt64 slot, final int committeeIndex) {
     final Map<String, String> queryParams = new HashMap<>();
     queryParams.put(SLOT, slot.toString());
     queryParams.put(COMMITTEE_INDEX, Integer.toString(committeeIndex));
+    if (!preferSszEncoding) {
+      return get(ValidatorApiMethod.GET_ATTESTATION_DATA, queryParams, jsonResponseHandler);
+    }
+    // application/octet-stream is preferred, but will accept application/json
     return get(
         ValidatorApiMethod.GET_ATTESTATION_DATA,
+        emptyMap(),
         queryParams,
-        new ResponseHandler<>(withDataWrapper(AttestationData.SSZ_SCHEMA)));
+        emptyMap(),
+        Map.of(HEADER_ACCEPT, "application/octet-stream;q=0.9, application/json;q=0.4"),
+        sszResponseHandler);
+  }
+
+  private Optional<AttestationData> handleAttestationDataResult(
+      final Request request, final Response response) throws IOException {
+    final String responseContentType = response.header("Content-Type");
+    if (responseContentType != null
+        && MediaType.parse(responseContentType).is(MediaType.OCTET_STREAM)) {
+      return Optional.of(
+          AttestationData.SSZ_SCHEMA.sszDeserialize(Bytes.of(response.body().bytes())));
+    }
+    return jsonResponseHandler.handleResponse(request, response);
   }
 }
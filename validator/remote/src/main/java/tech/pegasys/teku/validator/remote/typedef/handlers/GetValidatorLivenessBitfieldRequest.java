@@ -0,0 +1,54 @@
+/*
+ * Copyright Consensys Software Inc., 2024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package tech.pegasys.teku.validator.remote.typedef.handlers;
+
+import static tech.pegasys.teku.ethereum.json.types.SharedApiTypes.withDataWrapper;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_METHOD_NOT_ALLOWED;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_IMPLEMENTED;
+import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_VALIDATOR_LIVENESS_BITFIELD;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import tech.pegasys.teku.api.migrated.ValidatorLivenessBitfield;
+import tech.pegasys.teku.infrastructure.http.RestApiConstants;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.validator.remote.typedef.ResponseHandler;
+
+public class GetValidatorLivenessBitfieldRequest extends AbstractTypeDefRequest {
+
+  public GetValidatorLivenessBitfieldRequest(
+      final HttpUrl baseEndpoint, final OkHttpClient okHttpClient) {
+    super(baseEndpoint, okHttpClient);
+  }
+
+  public Optional<ValidatorLivenessBitfield> submit(final UInt64 epoch) {
+    // the endpoint is Teku specific, other beacon nodes report it as unknown
+    return get(
+        GET_VALIDATOR_LIVENESS_BITFIELD,
+        Map.of(RestApiConstants.EPOCH, epoch.toString()),
+        Collections.emptyMap(),
+        new ResponseHandler<>(
+                withDataWrapper(
+                    "GetValidatorLivenessBitfieldResponse",
+                    ValidatorLivenessBitfield.getJsonTypeDefinition()))
+            .withHandler(
+                (request, response) -> Optional.empty(),
+                SC_METHOD_NOT_ALLOWED,
+                SC_NOT_IMPLEMENTED));
+  }
+}
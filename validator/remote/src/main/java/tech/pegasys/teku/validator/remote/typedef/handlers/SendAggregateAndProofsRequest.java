@@ -13,37 +13,75 @@
 
 package tech.pegasys.teku.validator.remote.typedef.handlers;
 
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORTED_MEDIA_TYPE;
 import static tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition.listOf;
 import static tech.pegasys.teku.validator.remote.typedef.FailureListResponse.getFailureListResponseResponseHandler;
 
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
 import tech.pegasys.teku.infrastructure.http.RestApiConstants;
 import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
+import tech.pegasys.teku.spec.schemas.ApiSchemas;
 import tech.pegasys.teku.validator.api.SubmitDataError;
 import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
 import tech.pegasys.teku.validator.remote.typedef.FailureListResponse;
+import tech.pegasys.teku.validator.remote.typedef.ResponseHandler;
 
 public class SendAggregateAndProofsRequest extends AbstractTypeDefRequest {
 
+  private final ResponseHandler<FailureListResponse> sszResponseHandler =
+      getFailureListResponseResponseHandler()
+          .withHandler(SC_UNSUPPORTED_MEDIA_TYPE, this::handleUnsupportedSszRequest);
+
   private final boolean attestationsV2ApisEnabled;
   private final Spec spec;
+  private final AtomicBoolean preferSszEncoding;
+  private final Map<
+          SpecMilestone,
+          SszListSchema<SignedAggregateAndProof, ? extends SszList<SignedAggregateAndProof>>>
+      aggregateAndProofListSchemas = new EnumMap<>(SpecMilestone.class);
 
   public SendAggregateAndProofsRequest(
       final HttpUrl baseEndpoint,
       final OkHttpClient okHttpClient,
       final boolean attestationsV2ApisEnabled,
       final Spec spec) {
+    this(baseEndpoint, okHttpClient, attestationsV2ApisEnabled, spec, false);
+  }
+
+  public SendAggregateAndProofsRequest(
+      final HttpUrl baseEndpoint,
+      final OkHttpClient okHttpClient,
+      final boolean attestationsV2ApisEnabled,
+      final Spec spec,
+      final boolean preferSszEncoding) {
     super(baseEndpoint, okHttpClient);
     this.attestationsV2ApisEnabled = attestationsV2ApisEnabled;
     this.spec = spec;
+    this.preferSszEncoding = new AtomicBoolean(preferSszEncoding);
+    spec.getEnabledMilestones()
+        .forEach(
+            forkAndSpecMilestone ->
+                aggregateAndProofListSchemas.put(
+                    forkAndSpecMilestone.getSpecMilestone(),
+                    ApiSchemas.createPoolSubmissionsSchema(
+                        spec.forMilestone(forkAndSpecMilestone.getSpecMilestone())
+                            .getSchemaDefinitions()
+                            .getSignedAggregateAndProofSchema())));
   }
 
   public List<SubmitDataError> submit(final List<SignedAggregateAndProof> aggregateAndProofs) {
@@ -75,13 +113,28 @@ public class SendAggregateAndProofsRequest extends AbstractTypeDefRequest {
 
   private List<SubmitDataError> submitPostElectra(
       final List<SignedAggregateAndProof> aggregateAndProofs, final SpecMilestone specMilestone) {
+    final Map<String, String> headers =
+        Map.of(
+            RestApiConstants.HEADER_CONSENSUS_VERSION,
+            specMilestone.name().toLowerCase(Locale.ROOT));
+    if (preferSszEncoding.get()) {
+      final Optional<FailureListResponse> response =
+          postOctetStream(
+              ValidatorApiMethod.SEND_SIGNED_AGGREGATE_AND_PROOFS_V2,
+              Collections.emptyMap(),
+              headers,
+              serializeAggregateAndProofs(aggregateAndProofs, specMilestone),
+              sszResponseHandler);
+      // only fall back to JSON if the beacon node doesn't support SSZ
+      if (preferSszEncoding.get()) {
+        return response.map(FailureListResponse::failures).orElse(Collections.emptyList());
+      }
+    }
     return postJson(
             ValidatorApiMethod.SEND_SIGNED_AGGREGATE_AND_PROOFS_V2,
             Collections.emptyMap(),
             Collections.emptyMap(),
-            Map.of(
-                RestApiConstants.HEADER_CONSENSUS_VERSION,
-                specMilestone.name().toLowerCase(Locale.ROOT)),
+            headers,
             aggregateAndProofs,
             listOf(getTypeDefinition(aggregateAndProofs)),
             getFailureListResponseResponseHandler())
@@ -89,6 +142,21 @@ public class SendAggregateAndProofsRequest extends AbstractTypeDefRequest {
         .orElse(Collections.emptyList());
   }
 
+  private byte[] serializeAggregateAndProofs(
+      final List<SignedAggregateAndProof> aggregateAndProofs, final SpecMilestone specMilestone) {
+    return aggregateAndProofListSchemas
+        .get(specMilestone)
+        .createFromElements(aggregateAndProofs)
+        .sszSerialize()
+        .toArrayUnsafe();
+  }
+
+  private Optional<FailureListResponse> handleUnsupportedSszRequest(
+      final Request request, final Response response) {
+    preferSszEncoding.set(false);
+    return Optional.empty();
+  }
+
   private static DeserializableTypeDefinition<SignedAggregateAndProof> getTypeDefinition(
       final List<SignedAggregateAndProof> aggregateAndProofs) {
     return aggregateAndProofs.getFirst().getSchema().getJsonTypeDefinition();
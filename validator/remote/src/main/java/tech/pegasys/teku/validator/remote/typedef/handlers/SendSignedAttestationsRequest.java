@@ -14,38 +14,74 @@
 package tech.pegasys.teku.validator.remote.typedef.handlers;
 
 import static java.util.Collections.emptyMap;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORTED_MEDIA_TYPE;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_CONSENSUS_VERSION;
 import static tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition.listOf;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_SIGNED_ATTESTATION_V2;
 import static tech.pegasys.teku.validator.remote.typedef.FailureListResponse.getFailureListResponseResponseHandler;
 
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
 import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.schemas.ApiSchemas;
 import tech.pegasys.teku.validator.api.SubmitDataError;
 import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
 import tech.pegasys.teku.validator.remote.typedef.FailureListResponse;
+import tech.pegasys.teku.validator.remote.typedef.ResponseHandler;
 
 public class SendSignedAttestationsRequest extends AbstractTypeDefRequest {
 
+  private final ResponseHandler<FailureListResponse> sszResponseHandler =
+      getFailureListResponseResponseHandler()
+          .withHandler(SC_UNSUPPORTED_MEDIA_TYPE, this::handleUnsupportedSszRequest);
+
   private final boolean attestationsV2ApisEnabled;
   private final Spec spec;
+  private final AtomicBoolean preferSszEncoding;
+  private final Map<SpecMilestone, SszListSchema<Attestation, ? extends SszList<Attestation>>>
+      attestationListSchemas = new EnumMap<>(SpecMilestone.class);
 
   public SendSignedAttestationsRequest(
       final HttpUrl baseEndpoint,
       final OkHttpClient okHttpClient,
       final boolean attestationsV2ApisEnabled,
       final Spec spec) {
+    this(baseEndpoint, okHttpClient, attestationsV2ApisEnabled, spec, false);
+  }
+
+  public SendSignedAttestationsRequest(
+      final HttpUrl baseEndpoint,
+      final OkHttpClient okHttpClient,
+      final boolean attestationsV2ApisEnabled,
+      final Spec spec,
+      final boolean preferSszEncoding) {
     super(baseEndpoint, okHttpClient);
     this.attestationsV2ApisEnabled = attestationsV2ApisEnabled;
     this.spec = spec;
+    this.preferSszEncoding = new AtomicBoolean(preferSszEncoding);
+    spec.getEnabledMilestones()
+        .forEach(
+            forkAndSpecMilestone ->
+                attestationListSchemas.put(
+                    forkAndSpecMilestone.getSpecMilestone(),
+                    ApiSchemas.createPoolSubmissionsSchema(
+                        spec.forMilestone(forkAndSpecMilestone.getSpecMilestone())
+                            .getSchemaDefinitions()
+                            .getAttestationSchema())));
   }
 
   public List<SubmitDataError> submit(final List<Attestation> attestations) {
@@ -75,11 +111,26 @@ public class SendSignedAttestationsRequest extends AbstractTypeDefRequest {
 
   private List<SubmitDataError> submitPostElectra(
       final List<Attestation> attestations, final SpecMilestone specMilestone) {
+    final Map<String, String> headers =
+        Map.of(HEADER_CONSENSUS_VERSION, specMilestone.name().toLowerCase(Locale.ROOT));
+    if (preferSszEncoding.get()) {
+      final Optional<FailureListResponse> response =
+          postOctetStream(
+              SEND_SIGNED_ATTESTATION_V2,
+              emptyMap(),
+              headers,
+              serializeAttestations(attestations, specMilestone),
+              sszResponseHandler);
+      // only fall back to JSON if the beacon node doesn't support SSZ
+      if (preferSszEncoding.get()) {
+        return response.map(FailureListResponse::failures).orElse(Collections.emptyList());
+      }
+    }
     return postJson(
             SEND_SIGNED_ATTESTATION_V2,
             emptyMap(),
             emptyMap(),
-            Map.of(HEADER_CONSENSUS_VERSION, specMilestone.name().toLowerCase(Locale.ROOT)),
+            headers,
             attestations,
             listOf(getJsonTypeDefinition(attestations)),
             getFailureListResponseResponseHandler())
@@ -87,6 +138,21 @@ public class SendSignedAttestationsRequest extends AbstractTypeDefRequest {
         .orElse(Collections.emptyList());
   }
 
+  private byte[] serializeAttestations(
+      final List<Attestation> attestations, final SpecMilestone specMilestone) {
+    return attestationListSchemas
+        .get(specMilestone)
+        .createFromElements(attestations)
+        .sszSerialize()
+        .toArrayUnsafe();
+  }
+
+  private Optional<FailureListResponse> handleUnsupportedSszRequest(
+      final Request request, final Response response) {
+    preferSszEncoding.set(false);
+    return Optional.empty();
+  }
+
   @SuppressWarnings("unchecked")
   private DeserializableTypeDefinition<Attestation> getJsonTypeDefinition(
       final List<Attestation> attestations) {